@@ -18,7 +18,7 @@
 package org.gradoop.common.model.api.entities;
 
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.properties.Properties;
 
 /**
@@ -87,7 +87,7 @@ public interface EPGMVertexFactory<V extends EPGMVertex>
    * @param graphIds graphIds, that contain the vertex
    * @return vertex data
    */
-  V createVertex(String label, GradoopIdList graphIds);
+  V createVertex(String label, GradoopIdSet graphIds);
 
   /**
    * Initializes a vertex based on the given parameters.
@@ -97,7 +97,7 @@ public interface EPGMVertexFactory<V extends EPGMVertex>
    * @param graphIds graphIds, that contain the vertex
    * @return vertex data
    */
-  V initVertex(GradoopId id, String label, GradoopIdList graphIds);
+  V initVertex(GradoopId id, String label, GradoopIdSet graphIds);
 
   /**
    * Creates a new vertex based on the given parameters.
@@ -107,7 +107,7 @@ public interface EPGMVertexFactory<V extends EPGMVertex>
    * @param graphIds     graphIds, that contain the vertex
    * @return vertex data
    */
-  V createVertex(String label, Properties properties, GradoopIdList graphIds);
+  V createVertex(String label, Properties properties, GradoopIdSet graphIds);
 
   /**
    * Initializes a vertex based on the given parameters.
@@ -119,5 +119,5 @@ public interface EPGMVertexFactory<V extends EPGMVertex>
    * @return vertex data
    */
   V initVertex(GradoopId id, String label, Properties properties,
-    GradoopIdList graphIds);
+    GradoopIdSet graphIds);
 }
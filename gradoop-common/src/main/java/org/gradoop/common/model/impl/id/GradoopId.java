@@ -383,7 +383,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return a negative integer, zero, or a positive integer as this object is less than, equal to,
    *         or greater than the specified object.
    */
-  private static int compare(byte[] first, byte[] second, int firstPos, int secondPos, int length) {
+  static int compare(byte[] first, byte[] second, int firstPos, int secondPos, int length) {
     for (int i = 0; i < length; i++) {
       if (first[firstPos + i] != second[secondPos + i]) {
         return ((first[firstPos + i] & 0xff) < (second[secondPos + i] & 0xff)) ? -1 : 1;
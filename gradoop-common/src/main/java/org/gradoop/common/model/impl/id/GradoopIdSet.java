@@ -0,0 +1,553 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.Value;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents a set of {@link GradoopId} instances.
+ *
+ * The ids are stored in a single byte array which is sorted by
+ * {@link GradoopId#compareTo(GradoopId)} and contains no duplicates. This allows
+ * membership tests via binary search and merge-based set operations without
+ * deserializing the contained ids. The serialized representation is the same
+ * as for {@link GradoopIdList}.
+ *
+ * @see GradoopId
+ */
+public class GradoopIdSet implements Iterable<GradoopId>, Value {
+  /**
+   * Contains the sorted, duplicate-free serialized representation of gradoop ids.
+   */
+  private byte[] bytes;
+
+  /**
+   * Required default constructor for instantiation by serialization logic.
+   */
+  public GradoopIdSet() {}
+
+  /**
+   * Initializes the set with the given byte array.
+   *
+   * Note: the byte array must already be sorted and free of duplicates.
+   *
+   * @param bytes bytes representing multiple gradoop ids
+   */
+  private GradoopIdSet(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Creates a new instance from multiple GradoopIDs.
+   *
+   * @param ids array of gradoop ids
+   * @return gradoop id set
+   */
+  public static GradoopIdSet fromExisting(GradoopId... ids) {
+    return fromExisting(Arrays.asList(ids));
+  }
+
+  /**
+   * Creates a new instance from multiple GradoopIDs.
+   *
+   * @param ids given ids
+   * @return gradoop id set
+   */
+  public static GradoopIdSet fromExisting(Collection<GradoopId> ids) {
+    GradoopId[] sorted = ids.toArray(new GradoopId[ids.size()]);
+    Arrays.sort(sorted);
+
+    byte[] bytes = new byte[sorted.length * GradoopId.ID_SIZE];
+    int offset = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i].compareTo(sorted[i - 1]) != 0) {
+        System.arraycopy(sorted[i].toByteArray(), 0, bytes, offset, GradoopId.ID_SIZE);
+        offset += GradoopId.ID_SIZE;
+      }
+    }
+
+    return new GradoopIdSet(offset == bytes.length ? bytes : Arrays.copyOf(bytes, offset));
+  }
+
+  /**
+   * Creates a new instance from multiple GradoopIDs represented as byte array.
+   *
+   * The ids may be given in any order and may contain duplicates, e.g. if they
+   * have been written by a {@link GradoopIdList}.
+   *
+   * @param bytes byte array representing multiple gradoop ids
+   * @return gradoop id set
+   */
+  public static GradoopIdSet fromByteArray(byte[] bytes) {
+    if (isSorted(bytes)) {
+      return new GradoopIdSet(bytes);
+    }
+    GradoopId[] ids = new GradoopId[bytes.length / GradoopId.ID_SIZE];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = GradoopId.fromByteArray(
+        Arrays.copyOfRange(bytes, i * GradoopId.ID_SIZE, (i + 1) * GradoopId.ID_SIZE));
+    }
+    return fromExisting(ids);
+  }
+
+  /**
+   * Adds the given gradoop id to the set.
+   *
+   * @param id the id to add
+   */
+  public void add(GradoopId id) {
+    if (isEmpty()) {
+      bytes = Arrays.copyOf(id.toByteArray(), GradoopId.ID_SIZE);
+      return;
+    }
+    int index = indexOf(bytes, id.toByteArray(), 0);
+    if (index >= 0) {
+      return;
+    }
+    int offset = (-index - 1) * GradoopId.ID_SIZE;
+    byte[] extended = new byte[bytes.length + GradoopId.ID_SIZE];
+    System.arraycopy(bytes, 0, extended, 0, offset);
+    System.arraycopy(id.toByteArray(), 0, extended, offset, GradoopId.ID_SIZE);
+    System.arraycopy(bytes, offset, extended, offset + GradoopId.ID_SIZE, bytes.length - offset);
+    this.bytes = extended;
+  }
+
+  /**
+   * Adds the given gradoop ids to the set.
+   *
+   * @param ids the ids to add
+   */
+  public void addAll(GradoopIdSet ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    if (isEmpty()) {
+      bytes = Arrays.copyOf(ids.bytes, ids.bytes.length);
+    } else {
+      bytes = union(bytes, ids.bytes);
+    }
+  }
+
+  /**
+   * Adds the given gradoop ids to the set.
+   *
+   * @param ids the ids to add
+   */
+  public void addAll(Collection<GradoopId> ids) {
+    addAll(fromExisting(ids));
+  }
+
+  /**
+   * Checks if the given id is contained in the set.
+   *
+   * @param identifier the id to look for
+   * @return true, iff the given id is in the set
+   */
+  public boolean contains(GradoopId identifier) {
+    return !isEmpty() && indexOf(bytes, identifier.toByteArray(), 0) >= 0;
+  }
+
+  /**
+   * Checks if the specified ids are contained in the set.
+   *
+   * @param ids the ids to look for
+   * @return true, iff all specified ids are contained in the set
+   */
+  public boolean containsAll(GradoopIdSet ids) {
+    if (ids.isEmpty()) {
+      return true;
+    }
+    if (ids.size() > size()) {
+      return false;
+    }
+    if (preferBinarySearch(ids.size(), size())) {
+      for (int j = 0; j < ids.bytes.length; j += GradoopId.ID_SIZE) {
+        if (indexOf(bytes, ids.bytes, j) < 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+    int i = 0;
+    int j = 0;
+    while (i < bytes.length && j < ids.bytes.length) {
+      int comparison = GradoopId.compare(bytes, ids.bytes, i, j, GradoopId.ID_SIZE);
+      if (comparison == 0) {
+        i += GradoopId.ID_SIZE;
+        j += GradoopId.ID_SIZE;
+      } else if (comparison < 0) {
+        i += GradoopId.ID_SIZE;
+      } else {
+        return false;
+      }
+    }
+    return j == ids.bytes.length;
+  }
+
+  /**
+   * Checks if the specified ids are contained in the set.
+   *
+   * @param ids the ids to look for
+   * @return true, iff all specified ids are contained in the set
+   */
+  public boolean containsAll(Collection<GradoopId> ids) {
+    for (GradoopId id : ids) {
+      if (!this.contains(id)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if any of the specified ids is contained in the set.
+   *
+   * @param ids the ids to look for
+   * @return true, iff any of the specified ids is contained in the set
+   */
+  public boolean containsAny(GradoopIdSet ids) {
+    if (isEmpty() || ids.isEmpty()) {
+      return false;
+    }
+    if (preferBinarySearch(ids.size(), size())) {
+      for (int j = 0; j < ids.bytes.length; j += GradoopId.ID_SIZE) {
+        if (indexOf(bytes, ids.bytes, j) >= 0) {
+          return true;
+        }
+      }
+      return false;
+    }
+    if (preferBinarySearch(size(), ids.size())) {
+      return ids.containsAny(this);
+    }
+    int i = 0;
+    int j = 0;
+    while (i < bytes.length && j < ids.bytes.length) {
+      int comparison = GradoopId.compare(bytes, ids.bytes, i, j, GradoopId.ID_SIZE);
+      if (comparison == 0) {
+        return true;
+      } else if (comparison < 0) {
+        i += GradoopId.ID_SIZE;
+      } else {
+        j += GradoopId.ID_SIZE;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if any of the specified ids is contained in the set.
+   *
+   * @param ids the ids to look for
+   * @return true, iff any of the specified ids is contained in the set
+   */
+  public boolean containsAny(Collection<GradoopId> ids) {
+    for (GradoopId id : ids) {
+      if (this.contains(id)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns a new set containing all ids that are contained in this and the
+   * given set.
+   *
+   * @param ids other set
+   * @return intersection of both sets
+   */
+  public GradoopIdSet intersect(GradoopIdSet ids) {
+    if (isEmpty() || ids.isEmpty()) {
+      return new GradoopIdSet();
+    }
+    byte[] result = new byte[Math.min(bytes.length, ids.bytes.length)];
+    int i = 0;
+    int j = 0;
+    int offset = 0;
+    while (i < bytes.length && j < ids.bytes.length) {
+      int comparison = GradoopId.compare(bytes, ids.bytes, i, j, GradoopId.ID_SIZE);
+      if (comparison == 0) {
+        System.arraycopy(bytes, i, result, offset, GradoopId.ID_SIZE);
+        offset += GradoopId.ID_SIZE;
+        i += GradoopId.ID_SIZE;
+        j += GradoopId.ID_SIZE;
+      } else if (comparison < 0) {
+        i += GradoopId.ID_SIZE;
+      } else {
+        j += GradoopId.ID_SIZE;
+      }
+    }
+    return new GradoopIdSet(offset == result.length ? result : Arrays.copyOf(result, offset));
+  }
+
+  /**
+   * Returns a new set containing all ids that are contained in this or the
+   * given set.
+   *
+   * @param ids other set
+   * @return union of both sets
+   */
+  public GradoopIdSet union(GradoopIdSet ids) {
+    GradoopIdSet result = new GradoopIdSet(
+      isEmpty() ? null : Arrays.copyOf(bytes, bytes.length));
+    result.addAll(ids);
+    return result;
+  }
+
+  /**
+   * Checks if the set is empty.
+   *
+   * @return true, iff the set contains no elements
+   */
+  public boolean isEmpty() {
+    return bytes == null || bytes.length == 0;
+  }
+
+  /**
+   * Returns an iterator over the ids in ascending order.
+   *
+   * @return id iterator
+   */
+  @Override
+  public Iterator<GradoopId> iterator() {
+    return new GradoopIdSetIterator(this.bytes);
+  }
+
+  /**
+   * Clears the set.
+   */
+  public void clear() {
+    bytes = null;
+  }
+
+  /**
+   * Returns the number of contained gradoop ids
+   *
+   * @return number of elements in the set
+   */
+  public int size() {
+    return bytes != null ? bytes.length / GradoopId.ID_SIZE : 0;
+  }
+
+  /**
+   * Returns the byte representation of that set.
+   *
+   * @return byte array representation
+   */
+  public byte[] toByteArray() {
+    return bytes != null ? bytes : new byte[0];
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    if (bytes == null) {
+      out.writeInt(0);
+    } else {
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    int n = in.readInt();
+    bytes = new byte[n];
+    in.readFully(bytes);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GradoopIdSet)) {
+      return false;
+    }
+    return Arrays.equals(toByteArray(), ((GradoopIdSet) o).toByteArray());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(toByteArray());
+  }
+
+  @Override
+  public String toString() {
+    if (isEmpty()) {
+      return "[]";
+    }
+
+    Iterator<GradoopId> it = iterator();
+    StringBuilder sb = new StringBuilder();
+    sb.append('[');
+
+    for (;;) {
+      GradoopId id = it.next();
+      sb.append(id);
+      if (!it.hasNext()) {
+        return sb.append(']').toString();
+      }
+      sb.append(',').append(' ');
+    }
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // private little helpers
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Binary search for the id stored at the given position in {@code key}.
+   *
+   * @param data sorted byte representation of multiple gradoop ids
+   * @param key byte array containing the id to look for
+   * @param keyPos start index of the id in the key array
+   * @return index of the id if contained, otherwise (-(insertion point) - 1)
+   */
+  private static int indexOf(byte[] data, byte[] key, int keyPos) {
+    int low = 0;
+    int high = data.length / GradoopId.ID_SIZE - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = GradoopId.compare(data, key, mid * GradoopId.ID_SIZE, keyPos,
+        GradoopId.ID_SIZE);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else if (comparison > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Merges two sorted, duplicate-free id arrays.
+   *
+   * @param first first byte representation of multiple gradoop ids
+   * @param second second byte representation of multiple gradoop ids
+   * @return sorted, duplicate-free union of both arrays
+   */
+  private static byte[] union(byte[] first, byte[] second) {
+    byte[] result = new byte[first.length + second.length];
+    int i = 0;
+    int j = 0;
+    int offset = 0;
+    while (i < first.length && j < second.length) {
+      int comparison = GradoopId.compare(first, second, i, j, GradoopId.ID_SIZE);
+      if (comparison <= 0) {
+        System.arraycopy(first, i, result, offset, GradoopId.ID_SIZE);
+        i += GradoopId.ID_SIZE;
+        if (comparison == 0) {
+          j += GradoopId.ID_SIZE;
+        }
+      } else {
+        System.arraycopy(second, j, result, offset, GradoopId.ID_SIZE);
+        j += GradoopId.ID_SIZE;
+      }
+      offset += GradoopId.ID_SIZE;
+    }
+    System.arraycopy(first, i, result, offset, first.length - i);
+    offset += first.length - i;
+    System.arraycopy(second, j, result, offset, second.length - j);
+    offset += second.length - j;
+    return offset == result.length ? result : Arrays.copyOf(result, offset);
+  }
+
+  /**
+   * Checks if the given byte representation is strictly ascending.
+   *
+   * @param bytes byte representation of multiple gradoop ids
+   * @return true, iff the ids are sorted and duplicate-free
+   */
+  private static boolean isSorted(byte[] bytes) {
+    for (int i = GradoopId.ID_SIZE; i < bytes.length; i += GradoopId.ID_SIZE) {
+      if (GradoopId.compare(bytes, bytes, i - GradoopId.ID_SIZE, i, GradoopId.ID_SIZE) >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Decides if looking up each id of a small set in a large set via binary
+   * search is cheaper than a linear merge of both sets.
+   *
+   * @param smallSize number of ids to look up
+   * @param largeSize number of ids to search in
+   * @return true, iff binary search is expected to be cheaper
+   */
+  private static boolean preferBinarySearch(int smallSize, int largeSize) {
+    return (long) smallSize * (32 - Integer.numberOfLeadingZeros(largeSize)) <
+      smallSize + largeSize;
+  }
+
+  /**
+   * Iterates through the byte array and returns {@link GradoopId} instances.
+   */
+  private static class GradoopIdSetIterator implements Iterator<GradoopId> {
+    /**
+     * current index
+     */
+    private int i;
+    /**
+     * gradoop ids
+     */
+    private final byte[] bytes;
+    /**
+     * number of gradoop ids
+     */
+    private final int size;
+
+    /**
+     * Creates a new iterator.
+     *
+     * @param bytes byte representation of a {@link GradoopIdSet}
+     */
+    GradoopIdSetIterator(byte[] bytes) {
+      this.i = 0;
+      this.bytes = bytes;
+      this.size = this.bytes != null ? bytes.length / GradoopId.ID_SIZE : 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return i < size;
+    }
+
+    @Override
+    public GradoopId next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int from = GradoopId.ID_SIZE * i;
+      int to = from + GradoopId.ID_SIZE;
+      i++;
+      return GradoopId.fromByteArray(Arrays.copyOfRange(bytes, from, to));
+    }
+  }
+}
@@ -17,14 +17,17 @@
 
 package org.gradoop.common.model.impl.pojo;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.typeutils.EdgeTypeInfoFactory;
 import org.gradoop.common.model.impl.properties.Properties;
 
 /**
  * POJO Implementation of an EPGM edge.
  */
+@TypeInfo(EdgeTypeInfoFactory.class)
 public class Edge extends GraphElement implements EPGMEdge {
 
   /**
@@ -55,7 +58,7 @@ public class Edge extends GraphElement implements EPGMEdge {
    */
   public Edge(final GradoopId id, final String label, final GradoopId sourceId,
     final GradoopId targetId, final Properties properties,
-    GradoopIdList graphIds) {
+    GradoopIdSet graphIds) {
     super(id, label, properties, graphIds);
     this.sourceId = sourceId;
     this.targetId = targetId;
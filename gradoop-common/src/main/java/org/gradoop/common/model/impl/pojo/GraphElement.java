@@ -19,7 +19,7 @@ package org.gradoop.common.model.impl.pojo;
 
 import org.gradoop.common.model.api.entities.EPGMGraphElement;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.properties.Properties;
 
 /**
@@ -33,7 +33,7 @@ public abstract class GraphElement
   /**
    * Set of graph identifiers that element is contained in
    */
-  private GradoopIdList graphIds;
+  private GradoopIdSet graphIds;
 
   /**
    * Default constructor.
@@ -49,7 +49,7 @@ public abstract class GraphElement
    * @param graphIds     graphIds that element is contained in
    */
   protected GraphElement(GradoopId id, String label,
-    Properties properties, GradoopIdList graphIds) {
+    Properties properties, GradoopIdSet graphIds) {
     super(id, label, properties);
     this.graphIds = graphIds;
   }
@@ -58,7 +58,7 @@ public abstract class GraphElement
    * {@inheritDoc}
    */
   @Override
-  public GradoopIdList getGraphIds() {
+  public GradoopIdSet getGraphIds() {
     return graphIds;
   }
 
@@ -68,7 +68,7 @@ public abstract class GraphElement
   @Override
   public void addGraphId(GradoopId graphId) {
     if (graphIds == null) {
-      graphIds = new GradoopIdList();
+      graphIds = new GradoopIdSet();
     }
     graphIds.add(graphId);
   }
@@ -77,7 +77,7 @@ public abstract class GraphElement
    * {@inheritDoc}
    */
   @Override
-  public void setGraphIds(GradoopIdList graphIds) {
+  public void setGraphIds(GradoopIdSet graphIds) {
     this.graphIds = graphIds;
   }
 
@@ -17,14 +17,17 @@
 
 package org.gradoop.common.model.impl.pojo;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.typeutils.VertexTypeInfoFactory;
 import org.gradoop.common.model.impl.properties.Properties;
 
 /**
  * POJO Implementation of an EPGM vertex.
  */
+@TypeInfo(VertexTypeInfoFactory.class)
 public class Vertex extends GraphElement implements EPGMVertex {
 
   /**
@@ -42,7 +45,7 @@ public class Vertex extends GraphElement implements EPGMVertex {
    * @param graphs     graphs that vertex is contained in
    */
   public Vertex(final GradoopId id, final String label,
-    final Properties properties, final GradoopIdList graphs) {
+    final Properties properties, final GradoopIdSet graphs) {
     super(id, label, properties, graphs);
   }
 
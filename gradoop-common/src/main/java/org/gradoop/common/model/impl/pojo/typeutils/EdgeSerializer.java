@@ -0,0 +1,109 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link Edge}.
+ *
+ * Layout: {@code [id][source id][target id][label][flags][graph ids][properties]}
+ */
+public class EdgeSerializer extends ElementSerializer<Edge> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Creates a serializer writing plain property keys.
+   */
+  public EdgeSerializer() {
+    this(null);
+  }
+
+  /**
+   * Creates a serializer encoding property keys with the given dictionary.
+   *
+   * @param dictionary property key dictionary or {@code null}
+   */
+  public EdgeSerializer(PropertyKeyDictionary dictionary) {
+    super(dictionary);
+  }
+
+  @Override
+  protected int getIdCount() {
+    return 3;
+  }
+
+  @Override
+  protected void writeIds(Edge record, DataOutputView target) throws IOException {
+    record.getId().write(target);
+    record.getSourceId().write(target);
+    record.getTargetId().write(target);
+  }
+
+  @Override
+  protected void readIds(Edge record, DataInputView source) throws IOException {
+    GradoopId id = new GradoopId();
+    id.read(source);
+    GradoopId sourceId = new GradoopId();
+    sourceId.read(source);
+    GradoopId targetId = new GradoopId();
+    targetId.read(source);
+
+    record.setId(id);
+    record.setSourceId(sourceId);
+    record.setTargetId(targetId);
+  }
+
+  @Override
+  protected void copyIds(Edge from, Edge to) {
+    to.setId(from.getId().copy());
+    to.setSourceId(from.getSourceId().copy());
+    to.setTargetId(from.getTargetId().copy());
+  }
+
+  @Override
+  protected GradoopIdSet getGraphIds(Edge record) {
+    return record.getGraphIds();
+  }
+
+  @Override
+  protected void setGraphIds(Edge record, GradoopIdSet graphIds) {
+    record.setGraphIds(graphIds);
+  }
+
+  @Override
+  public EdgeSerializer withDictionary(PropertyKeyDictionary propertyKeyDictionary) {
+    return new EdgeSerializer(propertyKeyDictionary);
+  }
+
+  @Override
+  public Edge createInstance() {
+    return new Edge();
+  }
+}
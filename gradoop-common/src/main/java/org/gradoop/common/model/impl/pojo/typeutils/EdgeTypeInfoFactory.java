@@ -0,0 +1,37 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeinfo.TypeInfoFactory;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Creates the type information for {@link Edge}.
+ */
+public class EdgeTypeInfoFactory extends TypeInfoFactory<Edge> {
+
+  @Override
+  public TypeInformation<Edge> createTypeInfo(Type t,
+    Map<String, TypeInformation<?>> genericParameters) {
+    return new ElementTypeInfo<>(Edge.class, new EdgeSerializer());
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.java.typeutils.runtime.ValueComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Element;
+
+import java.io.IOException;
+
+/**
+ * Compares EPGM elements by one of their identifiers.
+ *
+ * As identifiers are stored at fixed offsets by {@link ElementSerializer},
+ * serialized records are compared by reading the identifier bytes only.
+ * Identifiers are also used as normalized keys.
+ *
+ * @param <T> element type
+ */
+public class ElementIdComparator<T extends Element> extends TypeComparator<T> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Identifier to compare on.
+   */
+  private final IdField field;
+
+  /**
+   * True, if the order is ascending.
+   */
+  private final boolean ascending;
+
+  /**
+   * Comparator for the extracted keys.
+   */
+  private final TypeComparator<?>[] flatComparators;
+
+  /**
+   * Identifier of the reference element.
+   */
+  private transient GradoopId reference;
+
+  /**
+   * Reusable identifier to read the first serialized record.
+   */
+  private transient GradoopId firstId;
+
+  /**
+   * Reusable identifier to read the second serialized record.
+   */
+  private transient GradoopId secondId;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param field     identifier to compare on
+   * @param ascending true, if the order is ascending
+   */
+  public ElementIdComparator(IdField field, boolean ascending) {
+    this.field = field;
+    this.ascending = ascending;
+    this.flatComparators = new TypeComparator<?>[] {
+      new ValueComparator<>(ascending, GradoopId.class)
+    };
+  }
+
+  @Override
+  public int hash(T record) {
+    return field.get(record).hashCode();
+  }
+
+  @Override
+  public void setReference(T toCompare) {
+    reference = field.get(toCompare);
+  }
+
+  @Override
+  public boolean equalToReference(T candidate) {
+    return reference.equals(field.get(candidate));
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<T> referencedComparator) {
+    GradoopId otherReference = ((ElementIdComparator<T>) referencedComparator).reference;
+    int comparison = otherReference.compareTo(reference);
+    return ascending ? comparison : -comparison;
+  }
+
+  @Override
+  public int compare(T first, T second) {
+    int comparison = field.get(first).compareTo(field.get(second));
+    return ascending ? comparison : -comparison;
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    if (firstId == null) {
+      firstId = new GradoopId();
+      secondId = new GradoopId();
+    }
+    int offset = field.getPosition() * GradoopId.ID_SIZE;
+    if (offset > 0) {
+      firstSource.skipBytesToRead(offset);
+      secondSource.skipBytesToRead(offset);
+    }
+    firstId.read(firstSource);
+    secondId.read(secondSource);
+
+    int comparison = firstId.compareTo(secondId);
+    return ascending ? comparison : -comparison;
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return keyBytes < GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public void putNormalizedKey(T record, MemorySegment target, int offset, int numBytes) {
+    GradoopId id = field.get(record);
+    if (numBytes >= GradoopId.ID_SIZE) {
+      id.copyNormalizedKey(target, offset, GradoopId.ID_SIZE);
+      for (int i = GradoopId.ID_SIZE; i < numBytes; i++) {
+        target.put(offset + i, (byte) 0);
+      }
+    } else {
+      id.copyNormalizedKey(target, offset, numBytes);
+    }
+  }
+
+  @Override
+  public void writeWithKeyNormalization(T record, DataOutputView target) throws IOException {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public T readWithKeyDenormalization(T reuse, DataInputView source) throws IOException {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending;
+  }
+
+  @Override
+  public TypeComparator<T> duplicate() {
+    return new ElementIdComparator<>(field, ascending);
+  }
+
+  @Override
+  public int extractKeys(Object record, Object[] target, int index) {
+    @SuppressWarnings("unchecked")
+    T element = (T) record;
+    target[index] = field.get(element);
+    return 1;
+  }
+
+  @Override
+  public TypeComparator[] getFlatComparators() {
+    return flatComparators;
+  }
+
+  /**
+   * Identifiers which can be used as keys.
+   */
+  public enum IdField {
+    /**
+     * Element identifier
+     */
+    ID("id", 0),
+    /**
+     * Source identifier of an edge
+     */
+    SOURCE_ID("sourceId", 1),
+    /**
+     * Target identifier of an edge
+     */
+    TARGET_ID("targetId", 2);
+
+    /**
+     * Name of the POJO field.
+     */
+    private final String fieldName;
+
+    /**
+     * Position of the identifier in serialized records.
+     */
+    private final int position;
+
+    /**
+     * Constructor.
+     *
+     * @param fieldName name of the POJO field
+     * @param position  position of the identifier in serialized records
+     */
+    IdField(String fieldName, int position) {
+      this.fieldName = fieldName;
+      this.position = position;
+    }
+
+    /**
+     * Returns the position of the identifier in serialized records.
+     *
+     * @return number of identifiers stored before this one
+     */
+    public int getPosition() {
+      return position;
+    }
+
+    /**
+     * Returns the identifier of the given element.
+     *
+     * @param element EPGM element
+     * @return identifier
+     */
+    public GradoopId get(Element element) {
+      switch (this) {
+      case SOURCE_ID:
+        return ((Edge) element).getSourceId();
+      case TARGET_ID:
+        return ((Edge) element).getTargetId();
+      default:
+        return element.getId();
+      }
+    }
+
+    /**
+     * Returns the identifier stored in the given POJO field.
+     *
+     * @param fieldName POJO field name
+     * @return identifier or {@code null} if the field is not an identifier
+     */
+    public static IdField fromFieldName(String fieldName) {
+      for (IdField field : values()) {
+        if (field.fieldName.equals(fieldName)) {
+          return field;
+        }
+      }
+      return null;
+    }
+  }
+}
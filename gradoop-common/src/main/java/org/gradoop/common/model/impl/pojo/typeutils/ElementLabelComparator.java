@@ -0,0 +1,176 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.base.StringComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.StringValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Element;
+
+import java.io.IOException;
+
+/**
+ * Compares EPGM elements by their label.
+ *
+ * {@link ElementSerializer} writes the label directly behind the leading
+ * identifiers, so serialized records are compared by skipping the
+ * identifiers and reading the labels only. Labels are also used as
+ * (prefix) normalized keys. Labels must not be {@code null}.
+ *
+ * @param <T> element type
+ */
+public class ElementLabelComparator<T extends Element> extends TypeComparator<T> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Number of identifiers stored before the label in serialized records.
+   */
+  private final int idCount;
+
+  /**
+   * True, if the order is ascending.
+   */
+  private final boolean ascending;
+
+  /**
+   * Comparator for the extracted labels.
+   */
+  private final StringComparator labelComparator;
+
+  /**
+   * Comparator for the extracted keys.
+   */
+  private final TypeComparator<?>[] flatComparators;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param idCount   number of identifiers stored before the label
+   * @param ascending true, if the order is ascending
+   */
+  public ElementLabelComparator(int idCount, boolean ascending) {
+    this.idCount = idCount;
+    this.ascending = ascending;
+    this.labelComparator = new StringComparator(ascending);
+    this.flatComparators = new TypeComparator<?>[] { labelComparator };
+  }
+
+  @Override
+  public int hash(T record) {
+    return labelComparator.hash(record.getLabel());
+  }
+
+  @Override
+  public void setReference(T toCompare) {
+    labelComparator.setReference(toCompare.getLabel());
+  }
+
+  @Override
+  public boolean equalToReference(T candidate) {
+    return labelComparator.equalToReference(candidate.getLabel());
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<T> referencedComparator) {
+    return labelComparator.compareToReference(
+      ((ElementLabelComparator<T>) referencedComparator).labelComparator);
+  }
+
+  @Override
+  public int compare(T first, T second) {
+    return labelComparator.compare(first.getLabel(), second.getLabel());
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    int offset = idCount * GradoopId.ID_SIZE;
+    firstSource.skipBytesToRead(offset);
+    secondSource.skipBytesToRead(offset);
+
+    int comparison = StringValue.readString(firstSource)
+      .compareTo(StringValue.readString(secondSource));
+    return ascending ? comparison : -comparison;
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return labelComparator.supportsNormalizedKey();
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return labelComparator.getNormalizeKeyLen();
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return labelComparator.isNormalizedKeyPrefixOnly(keyBytes);
+  }
+
+  @Override
+  public void putNormalizedKey(T record, MemorySegment target, int offset, int numBytes) {
+    labelComparator.putNormalizedKey(record.getLabel(), target, offset, numBytes);
+  }
+
+  @Override
+  public void writeWithKeyNormalization(T record, DataOutputView target) throws IOException {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public T readWithKeyDenormalization(T reuse, DataInputView source) throws IOException {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return labelComparator.invertNormalizedKey();
+  }
+
+  @Override
+  public TypeComparator<T> duplicate() {
+    return new ElementLabelComparator<>(idCount, ascending);
+  }
+
+  @Override
+  public int extractKeys(Object record, Object[] target, int index) {
+    @SuppressWarnings("unchecked")
+    T element = (T) record;
+    target[index] = element.getLabel();
+    return 1;
+  }
+
+  @Override
+  public TypeComparator[] getFlatComparators() {
+    return flatComparators;
+  }
+}
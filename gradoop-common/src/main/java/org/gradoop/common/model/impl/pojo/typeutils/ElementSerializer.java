@@ -0,0 +1,404 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.StringValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Base serializer for EPGM elements.
+ *
+ * In contrast to Flink's generic POJO serializer, fields are written in a
+ * fixed order without any class tags or per-field null flags:
+ *
+ * <pre>
+ * [id (12 bytes)][further ids (12 bytes each)][label][flags][graph ids][properties]
+ * </pre>
+ *
+ * Identifiers are stored at fixed offsets, which allows comparisons on the
+ * serialized representation (see {@link ElementIdComparator}). Properties are
+ * prefixed with their length in bytes, so records can be copied without
+ * deserializing their properties. Identifiers must not be {@code null}.
+ *
+ * If the serializer has a {@link PropertyKeyDictionary}, property keys are
+ * written as dictionary ids (see {@link Properties}). The dictionary is part
+ * of the serializer and therefore shipped with the job.
+ *
+ * @param <T> element type
+ */
+public abstract class ElementSerializer<T extends Element> extends TypeSerializer<T> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Flag indicating that graph ids are present.
+   */
+  private static final byte HAS_GRAPH_IDS = 0x01;
+
+  /**
+   * Flag indicating that properties are present.
+   */
+  private static final byte HAS_PROPERTIES = 0x02;
+
+  /**
+   * Dictionary used to encode property keys, may be {@code null}.
+   */
+  private final PropertyKeyDictionary dictionary;
+
+  /**
+   * Reusable buffer to determine the serialized size of properties.
+   */
+  private transient PropertiesBuffer buffer;
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param dictionary dictionary used to encode property keys or {@code null}
+   *                   to write plain string keys
+   */
+  protected ElementSerializer(PropertyKeyDictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  /**
+   * Returns the dictionary used to encode property keys.
+   *
+   * @return property key dictionary or {@code null} if there is none
+   */
+  public PropertyKeyDictionary getDictionary() {
+    return dictionary;
+  }
+
+  /**
+   * Creates a new serializer of the same type using the given dictionary.
+   *
+   * @param propertyKeyDictionary dictionary used to encode property keys or
+   *                              {@code null} to write plain string keys
+   * @return serializer
+   */
+  public abstract ElementSerializer<T> withDictionary(
+    PropertyKeyDictionary propertyKeyDictionary);
+
+  /**
+   * Returns the number of identifiers stored at the beginning of each record.
+   *
+   * @return number of leading identifiers
+   */
+  protected abstract int getIdCount();
+
+  /**
+   * Writes the leading identifiers of the given element.
+   *
+   * @param record element
+   * @param target output
+   * @throws IOException on failure
+   */
+  protected abstract void writeIds(T record, DataOutputView target) throws IOException;
+
+  /**
+   * Reads the leading identifiers into the given element.
+   *
+   * @param record element
+   * @param source input
+   * @throws IOException on failure
+   */
+  protected abstract void readIds(T record, DataInputView source) throws IOException;
+
+  /**
+   * Copies the identifiers from one element to another one.
+   *
+   * @param from source element
+   * @param to   target element
+   */
+  protected abstract void copyIds(T from, T to);
+
+  /**
+   * Returns the graph ids of the given element.
+   *
+   * @param record element
+   * @return graph ids or {@code null} if the element has none
+   */
+  protected GradoopIdSet getGraphIds(T record) {
+    return null;
+  }
+
+  /**
+   * Sets the graph ids of the given element.
+   *
+   * @param record   element
+   * @param graphIds graph ids
+   */
+  protected void setGraphIds(T record, GradoopIdSet graphIds) {
+  }
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public ElementSerializer<T> duplicate() {
+    return withDictionary(dictionary);
+  }
+
+  @Override
+  public T copy(T from) {
+    T copy = createInstance();
+    copyIds(from, copy);
+    copy.setLabel(from.getLabel());
+    setGraphIds(copy, copyGraphIds(getGraphIds(from)));
+    copy.setProperties(copyProperties(from.getProperties()));
+    return copy;
+  }
+
+  @Override
+  public T copy(T from, T reuse) {
+    copyIds(from, reuse);
+    reuse.setLabel(from.getLabel());
+    setGraphIds(reuse, copyGraphIds(getGraphIds(from)));
+    reuse.setProperties(copyProperties(from.getProperties()));
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(T record, DataOutputView target) throws IOException {
+    GradoopIdSet graphIds = getGraphIds(record);
+    Properties properties = record.getProperties();
+
+    writeIds(record, target);
+    StringValue.writeString(record.getLabel(), target);
+
+    byte flags = 0;
+    if (graphIds != null) {
+      flags |= HAS_GRAPH_IDS;
+    }
+    if (properties != null) {
+      flags |= HAS_PROPERTIES;
+    }
+    target.writeByte(flags);
+
+    if (graphIds != null) {
+      graphIds.write(target);
+    }
+    if (properties != null) {
+      if (buffer == null) {
+        buffer = new PropertiesBuffer();
+      }
+      buffer.reset();
+      properties.write(buffer.getOutput(), dictionary);
+      writeVarInt(target, buffer.size());
+      target.write(buffer.getBuffer(), 0, buffer.size());
+    }
+  }
+
+  @Override
+  public T deserialize(DataInputView source) throws IOException {
+    return deserialize(createInstance(), source);
+  }
+
+  @Override
+  public T deserialize(T reuse, DataInputView source) throws IOException {
+    readIds(reuse, source);
+    reuse.setLabel(StringValue.readString(source));
+
+    byte flags = source.readByte();
+
+    GradoopIdSet graphIds = null;
+    if ((flags & HAS_GRAPH_IDS) != 0) {
+      graphIds = new GradoopIdSet();
+      graphIds.read(source);
+    }
+    setGraphIds(reuse, graphIds);
+
+    Properties properties = null;
+    if ((flags & HAS_PROPERTIES) != 0) {
+      // the length prefix is only needed to copy records
+      readVarInt(source);
+      properties = reuse.getProperties() != null ? reuse.getProperties() : new Properties();
+      properties.readFields(source, dictionary);
+    }
+    reuse.setProperties(properties);
+
+    return reuse;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    target.write(source, getIdCount() * GradoopId.ID_SIZE);
+    StringValue.copyString(source, target);
+
+    byte flags = source.readByte();
+    target.writeByte(flags);
+
+    if ((flags & HAS_GRAPH_IDS) != 0) {
+      int length = source.readInt();
+      target.writeInt(length);
+      target.write(source, length);
+    }
+    if ((flags & HAS_PROPERTIES) != 0) {
+      int length = readVarInt(source);
+      writeVarInt(target, length);
+      target.write(source, length);
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj != null && obj.getClass() == getClass() &&
+      ((ElementSerializer<?>) obj).canEqual(this) &&
+      Objects.equals(dictionary, ((ElementSerializer<?>) obj).dictionary);
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj != null && obj.getClass() == getClass();
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * getClass().hashCode() + Objects.hashCode(dictionary);
+  }
+
+  /**
+   * Creates a deep copy of the given graph ids.
+   *
+   * @param graphIds graph ids
+   * @return copy or {@code null} if the input is {@code null}
+   */
+  private static GradoopIdSet copyGraphIds(GradoopIdSet graphIds) {
+    if (graphIds == null) {
+      return null;
+    }
+    GradoopIdSet copy = new GradoopIdSet();
+    copy.addAll(graphIds);
+    return copy;
+  }
+
+  /**
+   * Creates a deep copy of the given properties without serializing them.
+   *
+   * @param properties properties
+   * @return copy or {@code null} if the input is {@code null}
+   */
+  private static Properties copyProperties(Properties properties) {
+    if (properties == null) {
+      return null;
+    }
+    Properties copy = Properties.createWithCapacity(properties.size());
+    for (Property property : properties) {
+      byte[] rawBytes = property.getValue().getRawBytes();
+      copy.set(property.getKey(),
+        PropertyValue.fromRawBytes(Arrays.copyOf(rawBytes, rawBytes.length)));
+    }
+    return copy;
+  }
+
+  /**
+   * Writes a non-negative int using a variable length encoding.
+   *
+   * @param target output
+   * @param value non-negative value
+   * @throws IOException on failure
+   */
+  private static void writeVarInt(DataOutputView target, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      target.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    target.writeByte(value);
+  }
+
+  /**
+   * Reads a non-negative int written by {@link #writeVarInt(DataOutputView, int)}.
+   *
+   * @param source input
+   * @return value
+   * @throws IOException on failure
+   */
+  private static int readVarInt(DataInputView source) throws IOException {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = source.readByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+  /**
+   * Growing byte buffer which exposes its internal array.
+   */
+  private static class PropertiesBuffer extends ByteArrayOutputStream {
+
+    /**
+     * Data output writing into this buffer.
+     */
+    private final DataOutputStream output;
+
+    /**
+     * Creates a new buffer.
+     */
+    PropertiesBuffer() {
+      super(128);
+      this.output = new DataOutputStream(this);
+    }
+
+    /**
+     * Returns a data output writing into this buffer.
+     *
+     * @return data output
+     */
+    DataOutputStream getOutput() {
+      return output;
+    }
+
+    /**
+     * Returns the internal array, valid up to {@link #size()}.
+     *
+     * @return internal buffer
+     */
+    byte[] getBuffer() {
+      return buf;
+    }
+  }
+}
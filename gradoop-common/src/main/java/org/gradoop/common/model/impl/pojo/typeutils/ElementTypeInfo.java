@@ -0,0 +1,127 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.PojoField;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.pojo.Element;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Type information for EPGM elements.
+ *
+ * The type is still described as a POJO, i.e. field expressions like
+ * {@code "id"} and semantic annotations keep working. However, records are
+ * serialized by a dedicated {@link ElementSerializer} and keys on a single
+ * identifier field or on the label are compared by an
+ * {@link ElementIdComparator} or an {@link ElementLabelComparator}. Property
+ * keys are encoded with the dictionary registered in the execution config of
+ * the job (see {@link PropertyKeyDictionarySerializer}).
+ *
+ * The generic POJO serializer can be enabled for comparison by setting the
+ * system property {@value #POJO_SERIALIZER_SYSTEM_PROPERTY} to {@code true}.
+ *
+ * @param <T> element type
+ */
+public class ElementTypeInfo<T extends Element> extends PojoTypeInfo<T> {
+
+  /**
+   * System property to fall back to Flink's POJO serializer.
+   */
+  public static final String POJO_SERIALIZER_SYSTEM_PROPERTY = "gradoop.serializer.pojo";
+
+  /**
+   * Name of the label field.
+   */
+  private static final String LABEL_FIELD = "label";
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Prototype of the element serializer.
+   */
+  private final ElementSerializer<T> serializer;
+
+  /**
+   * Creates new type information.
+   *
+   * @param typeClass  element class
+   * @param serializer serializer for the element class
+   */
+  public ElementTypeInfo(Class<T> typeClass, ElementSerializer<T> serializer) {
+    super(typeClass, getPojoFields(typeClass));
+    this.serializer = serializer;
+  }
+
+  @Override
+  public TypeSerializer<T> createSerializer(ExecutionConfig config) {
+    if (Boolean.getBoolean(POJO_SERIALIZER_SYSTEM_PROPERTY)) {
+      return super.createSerializer(config);
+    }
+    return serializer.withDictionary(PropertyKeyDictionarySerializer.getDictionary(config));
+  }
+
+  @Override
+  public TypeComparator<T> createComparator(int[] logicalKeyFields, boolean[] orders,
+    int logicalFieldOffset, ExecutionConfig config) {
+    if (logicalKeyFields.length == 1 && !Boolean.getBoolean(POJO_SERIALIZER_SYSTEM_PROPERTY)) {
+      int position = logicalKeyFields[0] - logicalFieldOffset;
+      if (position >= 0 && position < getArity()) {
+        String fieldName = getFieldNames()[position];
+        ElementIdComparator.IdField field = ElementIdComparator.IdField.fromFieldName(fieldName);
+        if (field != null) {
+          return new ElementIdComparator<>(field, orders[0]);
+        }
+        if (LABEL_FIELD.equals(fieldName)) {
+          return new ElementLabelComparator<>(serializer.getIdCount(), orders[0]);
+        }
+      }
+    }
+    return super.createComparator(logicalKeyFields, orders, logicalFieldOffset, config);
+  }
+
+  /**
+   * Collects all serializable fields of the given class and its super classes.
+   *
+   * @param typeClass element class
+   * @return POJO fields
+   */
+  public static List<PojoField> getPojoFields(Class<?> typeClass) {
+    List<PojoField> fields = new ArrayList<>();
+    for (Class<?> clazz = typeClass; clazz != Object.class; clazz = clazz.getSuperclass()) {
+      for (Field field : clazz.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+          fields.add(new PojoField(field, TypeExtractor.getForClass(field.getType())));
+        }
+      }
+    }
+    return fields;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link GraphHead}.
+ *
+ * Layout: {@code [id][label][flags][properties]}
+ */
+public class GraphHeadSerializer extends ElementSerializer<GraphHead> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Creates a serializer writing plain property keys.
+   */
+  public GraphHeadSerializer() {
+    this(null);
+  }
+
+  /**
+   * Creates a serializer encoding property keys with the given dictionary.
+   *
+   * @param dictionary property key dictionary or {@code null}
+   */
+  public GraphHeadSerializer(PropertyKeyDictionary dictionary) {
+    super(dictionary);
+  }
+
+  @Override
+  protected int getIdCount() {
+    return 1;
+  }
+
+  @Override
+  protected void writeIds(GraphHead record, DataOutputView target) throws IOException {
+    record.getId().write(target);
+  }
+
+  @Override
+  protected void readIds(GraphHead record, DataInputView source) throws IOException {
+    GradoopId id = new GradoopId();
+    id.read(source);
+    record.setId(id);
+  }
+
+  @Override
+  protected void copyIds(GraphHead from, GraphHead to) {
+    to.setId(from.getId().copy());
+  }
+
+  @Override
+  public GraphHeadSerializer withDictionary(PropertyKeyDictionary propertyKeyDictionary) {
+    return new GraphHeadSerializer(propertyKeyDictionary);
+  }
+
+  @Override
+  public GraphHead createInstance() {
+    return new GraphHead();
+  }
+}
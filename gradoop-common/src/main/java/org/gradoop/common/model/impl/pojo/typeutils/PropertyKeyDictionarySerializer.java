@@ -0,0 +1,121 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kryo serializer for {@link PropertyKeyDictionary} which also carries the
+ * dictionary of a job.
+ *
+ * An instance registered in the {@link ExecutionConfig} of a job is shipped
+ * with the job without touching its global job parameters.
+ * {@link ElementTypeInfo#createSerializer(ExecutionConfig)} looks it up and
+ * creates element serializers which encode property keys using the
+ * dictionary. Jobs of different execution environments therefore never
+ * share a dictionary, even if they run in the same JVM.
+ */
+public class PropertyKeyDictionarySerializer extends Serializer<PropertyKeyDictionary>
+  implements Serializable {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Dictionary of the job.
+   */
+  private final PropertyKeyDictionary dictionary;
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param dictionary dictionary of the job
+   */
+  public PropertyKeyDictionarySerializer(PropertyKeyDictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  /**
+   * Returns the dictionary of the job.
+   *
+   * @return property key dictionary
+   */
+  public PropertyKeyDictionary getDictionary() {
+    return dictionary;
+  }
+
+  /**
+   * Registers the given dictionary in the execution config. A previously
+   * registered dictionary is replaced.
+   *
+   * @param config      execution config of the job
+   * @param dictionary  property key dictionary
+   */
+  public static void register(ExecutionConfig config, PropertyKeyDictionary dictionary) {
+    if (dictionary == null) {
+      throw new IllegalArgumentException("Dictionary must not be null");
+    }
+    config.registerTypeWithKryoSerializer(PropertyKeyDictionary.class,
+      new PropertyKeyDictionarySerializer(dictionary));
+  }
+
+  /**
+   * Returns the dictionary registered in the execution config.
+   *
+   * @param config execution config of the job
+   * @return property key dictionary or {@code null} if there is none
+   */
+  public static PropertyKeyDictionary getDictionary(ExecutionConfig config) {
+    ExecutionConfig.SerializableSerializer<?> registered =
+      config.getRegisteredTypesWithKryoSerializers().get(PropertyKeyDictionary.class);
+    if (registered == null ||
+      !(registered.getSerializer() instanceof PropertyKeyDictionarySerializer)) {
+      return null;
+    }
+    return ((PropertyKeyDictionarySerializer) registered.getSerializer()).getDictionary();
+  }
+
+  @Override
+  public void write(Kryo kryo, Output output, PropertyKeyDictionary object) {
+    output.writeInt(object.size(), true);
+    for (String key : object.getKeys()) {
+      output.writeString(key);
+    }
+  }
+
+  @Override
+  public PropertyKeyDictionary read(Kryo kryo, Input input,
+    Class<PropertyKeyDictionary> type) {
+    int size = input.readInt(true);
+    List<String> keys = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      keys.add(input.readString());
+    }
+    return PropertyKeyDictionary.create(keys);
+  }
+}
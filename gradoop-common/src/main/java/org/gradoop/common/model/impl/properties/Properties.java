@@ -266,26 +266,108 @@ public class Properties implements Iterable<Property>, Writable, Serializable {
       .collect(Collectors.toList()).iterator();
   }
 
+  /**
+   * Writes the properties to the given output using plain string keys.
+   *
+   * @param dataOutput output
+   * @throws IOException on failure
+   */
   @Override
   public void write(DataOutput dataOutput) throws IOException {
-    dataOutput.writeInt(properties.size());
+    write(dataOutput, null);
+  }
 
-    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
-      dataOutput.writeUTF(entry.getKey());
-      entry.getValue().write(dataOutput);
+  /**
+   * Writes the properties to the given output.
+   *
+   * If a {@link PropertyKeyDictionary} is given, keys contained in the
+   * dictionary are written as variable length encoded ids. This is signaled
+   * by a negative property count, followed by the fingerprint of the
+   * dictionary.
+   *
+   * @param dataOutput output
+   * @param dictionary dictionary or {@code null} to write plain string keys
+   * @throws IOException on failure
+   */
+  public void write(DataOutput dataOutput, PropertyKeyDictionary dictionary)
+    throws IOException {
+    if (dictionary == null) {
+      dataOutput.writeInt(properties.size());
+
+      for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
+        dataOutput.writeUTF(entry.getKey());
+        entry.getValue().write(dataOutput);
+      }
+    } else {
+      dataOutput.writeInt(-properties.size() - 1);
+      dataOutput.writeInt(dictionary.getFingerprint());
+
+      for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
+        int keyId = dictionary.getId(entry.getKey());
+        // 0 is reserved for keys which are not in the dictionary
+        writeVarInt(dataOutput, keyId + 1);
+        if (keyId == -1) {
+          dataOutput.writeUTF(entry.getKey());
+        }
+        entry.getValue().write(dataOutput);
+      }
     }
   }
 
+  /**
+   * Reads properties written with plain string keys from the given input.
+   *
+   * @param dataInput input
+   * @throws IOException on failure or if the properties are dictionary encoded
+   */
   @Override
   public void readFields(DataInput dataInput) throws IOException {
+    readFields(dataInput, null);
+  }
+
+  /**
+   * Reads the properties from the given input.
+   *
+   * Dictionary encoded keys are resolved using the given
+   * {@link PropertyKeyDictionary}, which returns shared key instances.
+   *
+   * @param dataInput  input
+   * @param dictionary dictionary used for writing or {@code null} if the
+   *                   properties were written with plain string keys
+   * @throws IOException on failure or if the dictionary is missing or differs
+   *                     from the one used for writing
+   */
+  public void readFields(DataInput dataInput, PropertyKeyDictionary dictionary)
+    throws IOException {
     int propertyCount = dataInput.readInt();
+    boolean encoded = propertyCount < 0;
+
+    if (encoded) {
+      propertyCount = -propertyCount - 1;
+      int fingerprint = dataInput.readInt();
+      if (dictionary == null) {
+        throw new IOException("Properties are dictionary encoded, " +
+          "but no PropertyKeyDictionary is given.");
+      }
+      if (dictionary.getFingerprint() != fingerprint) {
+        throw new IOException(String.format("Properties are encoded with " +
+          "PropertyKeyDictionary %08x, but %08x is given.",
+          fingerprint, dictionary.getFingerprint()));
+      }
+    }
+
     this.properties = new HashMap<>(propertyCount);
 
     String key;
     PropertyValue value;
 
     for (int i = 0; i < propertyCount; i++) {
-      key = dataInput.readUTF();
+      if (!encoded) {
+        key = dataInput.readUTF();
+      } else {
+        int keyId = readVarInt(dataInput) - 1;
+        key = keyId == -1 ? dataInput.readUTF() : dictionary.getKey(keyId);
+      }
       value = new PropertyValue();
       value.readFields(dataInput);
       properties.put(key, value);
@@ -298,4 +380,38 @@ public class Properties implements Iterable<Property>, Writable, Serializable {
       .map(e -> Property.create(e.getKey(), e.getValue()).toString())
       .collect(Collectors.joining(","));
   }
+
+  /**
+   * Writes a non-negative int using 7 bits per byte.
+   *
+   * @param dataOutput output
+   * @param value non-negative value
+   * @throws IOException on failure
+   */
+  private static void writeVarInt(DataOutput dataOutput, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      dataOutput.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    dataOutput.writeByte(value);
+  }
+
+  /**
+   * Reads a non-negative int written by {@link #writeVarInt(DataOutput, int)}.
+   *
+   * @param dataInput input
+   * @return value
+   * @throws IOException on failure
+   */
+  private static int readVarInt(DataInput dataInput) throws IOException {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = dataInput.readByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
 }
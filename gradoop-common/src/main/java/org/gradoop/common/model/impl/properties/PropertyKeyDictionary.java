@@ -0,0 +1,196 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.properties;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Bidirectional mapping between property keys and small integer ids.
+ *
+ * If a dictionary is passed to
+ * {@link Properties#write(java.io.DataOutput, PropertyKeyDictionary)}, the
+ * id of each known property key is written instead of its UTF
+ * representation. Keys not contained in the dictionary are still written as
+ * strings. On read, ids are resolved to the key instances stored in the
+ * dictionary, i.e. no strings are decoded or allocated for known keys.
+ *
+ * In a Flink job, the dictionary is used by the element serializers of the
+ * job (see {@code GradoopFlinkConfig#setPropertyKeyDictionary}). Ids are
+ * assigned in lexicographical key order, so the same set of keys always
+ * results in the same dictionary.
+ *
+ * Encoded properties carry the {@link #getFingerprint() fingerprint} of the
+ * dictionary they were written with. Reading fails if it does not match the
+ * given dictionary, i.e. keys are never resolved by a different one.
+ */
+public class PropertyKeyDictionary implements Serializable {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Keys ordered by their id.
+   */
+  private final String[] keys;
+
+  /**
+   * Key to id mapping.
+   */
+  private final Map<String, Integer> ids;
+
+  /**
+   * Checksum over all keys, identifies the dictionary in encoded data.
+   */
+  private final int fingerprint;
+
+  /**
+   * Creates a new dictionary.
+   *
+   * @param keys distinct keys ordered by their id
+   */
+  private PropertyKeyDictionary(String[] keys) {
+    this.keys = keys;
+    this.ids = new HashMap<>(keys.length * 2);
+    for (int i = 0; i < keys.length; i++) {
+      ids.put(keys[i], i);
+    }
+    this.fingerprint = computeFingerprint(keys);
+  }
+
+  /**
+   * Creates a new dictionary from the given property keys.
+   *
+   * @param keys property keys
+   * @return dictionary
+   */
+  public static PropertyKeyDictionary create(String... keys) {
+    return create(Arrays.asList(keys));
+  }
+
+  /**
+   * Creates a new dictionary from the given property keys. Duplicates are
+   * removed and ids are assigned in lexicographical order of the keys.
+   *
+   * @param keys property keys
+   * @return dictionary
+   */
+  public static PropertyKeyDictionary create(Collection<String> keys) {
+    TreeSet<String> sortedKeys = new TreeSet<>(keys);
+    return new PropertyKeyDictionary(sortedKeys.toArray(new String[sortedKeys.size()]));
+  }
+
+  /**
+   * Returns the id of the given key.
+   *
+   * @param key property key
+   * @return key id or -1 if the key is not contained in the dictionary
+   */
+  public int getId(String key) {
+    Integer id = ids.get(key);
+    return id != null ? id : -1;
+  }
+
+  /**
+   * Returns the key for the given id.
+   *
+   * @param id key id
+   * @return property key
+   */
+  public String getKey(int id) {
+    if (id < 0 || id >= keys.length) {
+      throw new IllegalArgumentException("Unknown property key id: " + id);
+    }
+    return keys[id];
+  }
+
+  /**
+   * Returns all keys ordered by their id.
+   *
+   * @return property keys
+   */
+  public List<String> getKeys() {
+    return Collections.unmodifiableList(Arrays.asList(keys));
+  }
+
+  /**
+   * Returns the number of keys in the dictionary.
+   *
+   * @return number of keys
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  /**
+   * Returns a checksum over all keys and their ids. Dictionaries containing
+   * the same keys have the same fingerprint.
+   *
+   * @return dictionary fingerprint
+   */
+  public int getFingerprint() {
+    return fingerprint;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(keys, ((PropertyKeyDictionary) o).keys);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(keys);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(keys);
+  }
+
+  /**
+   * Computes a CRC32 checksum over the given keys in id order.
+   *
+   * @param keys distinct keys ordered by their id
+   * @return checksum
+   */
+  private static int computeFingerprint(String[] keys) {
+    CRC32 checksum = new CRC32();
+    for (String key : keys) {
+      checksum.update(key.getBytes(StandardCharsets.UTF_8));
+      // separator, so that e.g. [ab, c] and [a, bc] differ
+      checksum.update(0);
+    }
+    return (int) checksum.getValue();
+  }
+}
@@ -128,6 +128,11 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
     */
   private byte[] rawBytes;
 
+  /**
+   * Cached hash code of the raw bytes, 0 if not yet computed.
+   */
+  private transient int hash;
+
   /**
    * Default constructor.
    */
@@ -502,6 +507,7 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
   public void setObject(Object value) {
     if (value == null) {
       rawBytes = new byte[] {TYPE_NULL};
+      hash = 0;
     } else if (value instanceof Boolean) {
       setBoolean((Boolean) value);
     } else if (value instanceof Integer) {
@@ -538,9 +544,13 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
    * @param booleanValue value
    */
   public void setBoolean(boolean booleanValue) {
-    rawBytes = new byte[OFFSET + Bytes.SIZEOF_BOOLEAN];
-    rawBytes[0] = TYPE_BOOLEAN;
+    // values of the same type are updated in place
+    if (rawBytes == null || rawBytes[0] != TYPE_BOOLEAN) {
+      rawBytes = new byte[OFFSET + Bytes.SIZEOF_BOOLEAN];
+      rawBytes[0] = TYPE_BOOLEAN;
+    }
     Bytes.putByte(rawBytes, OFFSET, (byte) (booleanValue ? -1 : 0));
+    hash = 0;
   }
   /**
    * Sets the wrapped value as {@code int} value.
@@ -548,9 +558,13 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
    * @param intValue intValue
    */
   public void setInt(int intValue) {
-    rawBytes = new byte[OFFSET + Bytes.SIZEOF_INT];
-    rawBytes[0] = TYPE_INTEGER;
+    // values of the same type are updated in place
+    if (rawBytes == null || rawBytes[0] != TYPE_INTEGER) {
+      rawBytes = new byte[OFFSET + Bytes.SIZEOF_INT];
+      rawBytes[0] = TYPE_INTEGER;
+    }
     Bytes.putInt(rawBytes, OFFSET, intValue);
+    hash = 0;
   }
   /**
    * Sets the wrapped value as {@code long} value.
@@ -558,9 +572,13 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
    * @param longValue value
    */
   public void setLong(long longValue) {
-    rawBytes = new byte[OFFSET + Bytes.SIZEOF_LONG];
-    rawBytes[0] = TYPE_LONG;
+    // values of the same type are updated in place
+    if (rawBytes == null || rawBytes[0] != TYPE_LONG) {
+      rawBytes = new byte[OFFSET + Bytes.SIZEOF_LONG];
+      rawBytes[0] = TYPE_LONG;
+    }
     Bytes.putLong(rawBytes, OFFSET, longValue);
+    hash = 0;
   }
   /**
    * Sets the wrapped value as {@code float} value.
@@ -568,9 +586,13 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
    * @param floatValue value
    */
   public void setFloat(float floatValue) {
-    rawBytes = new byte[OFFSET + Bytes.SIZEOF_FLOAT];
-    rawBytes[0] = TYPE_FLOAT;
+    // values of the same type are updated in place
+    if (rawBytes == null || rawBytes[0] != TYPE_FLOAT) {
+      rawBytes = new byte[OFFSET + Bytes.SIZEOF_FLOAT];
+      rawBytes[0] = TYPE_FLOAT;
+    }
     Bytes.putFloat(rawBytes, OFFSET, floatValue);
+    hash = 0;
   }
   /**
    * Sets the wrapped value as {@code double} value.
@@ -578,9 +600,13 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
    * @param doubleValue value
    */
   public void setDouble(double doubleValue) {
-    rawBytes = new byte[OFFSET + Bytes.SIZEOF_DOUBLE];
-    rawBytes[0] = TYPE_DOUBLE;
+    // values of the same type are updated in place
+    if (rawBytes == null || rawBytes[0] != TYPE_DOUBLE) {
+      rawBytes = new byte[OFFSET + Bytes.SIZEOF_DOUBLE];
+      rawBytes[0] = TYPE_DOUBLE;
+    }
     Bytes.putDouble(rawBytes, OFFSET, doubleValue);
+    hash = 0;
   }
   /**
    * Sets the wrapped value as {@code String} value.
@@ -590,6 +616,7 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
   public void setString(String stringValue) {
     byte[] valueBytes = Bytes.toBytes(stringValue);
     rawBytes = new byte[OFFSET + valueBytes.length];
+    hash = 0;
     rawBytes[0] = TYPE_STRING;
     Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
   }
@@ -601,6 +628,7 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
   public void setBigDecimal(BigDecimal bigDecimalValue) {
     byte[] valueBytes = Bytes.toBytes(bigDecimalValue);
     rawBytes = new byte[OFFSET + valueBytes.length];
+    hash = 0;
     rawBytes[0] = TYPE_BIG_DECIMAL;
     Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
   }
@@ -612,6 +640,7 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
   public void setGradoopId(GradoopId gradoopIdValue) {
     byte[] valueBytes = gradoopIdValue.toByteArray();
     rawBytes = new byte[OFFSET + GradoopId.ID_SIZE];
+    hash = 0;
     rawBytes[0] = TYPE_GRADOOP_ID;
     Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
   }
@@ -641,6 +670,7 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
     }
 
     this.rawBytes = byteStream.toByteArray();
+    hash = 0;
   }
 
   /**
@@ -665,6 +695,7 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
     }
 
     this.rawBytes = byteStream.toByteArray();
+    hash = 0;
   }
   /**
    * Sets the wrapped value as {@code LocalDate} value.
@@ -674,6 +705,7 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
   public void setDate(LocalDate date) {
     byte[] valueBytes = DateTimeSerializer.serializeDate(date);
     rawBytes = new byte[OFFSET + DateTimeSerializer.SIZEOF_DATE];
+    hash = 0;
     rawBytes[0] = TYPE_DATE;
     Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
   }
@@ -685,6 +717,7 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
   public void setTime(LocalTime time) {
     byte[] valueBytes = DateTimeSerializer.serializeTime(time);
     rawBytes = new byte[OFFSET + DateTimeSerializer.SIZEOF_TIME];
+    hash = 0;
     rawBytes[0] = TYPE_TIME;
     Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
   }
@@ -696,6 +729,7 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
   public void setDateTime(LocalDateTime dateTime) {
     byte[] valueBytes = DateTimeSerializer.serializeDateTime(dateTime);
     rawBytes = new byte[OFFSET + DateTimeSerializer.SIZEOF_DATETIME];
+    hash = 0;
     rawBytes[0] = TYPE_DATETIME;
     Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
   }
@@ -740,42 +774,84 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
       return false;
     }
     PropertyValue that = (PropertyValue) o;
+    if (hash != 0 && that.hash != 0 && hash != that.hash) {
+      return false;
+    }
     return Arrays.equals(rawBytes, that.rawBytes);
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(rawBytes);
+    int result = hash;
+    if (result == 0) {
+      result = Arrays.hashCode(rawBytes);
+      hash = result;
+    }
+    return result;
   }
 
+  /**
+   * Compares two property values of the same type.
+   *
+   * Values are read directly from the internal representation, i.e. no
+   * objects are created except for {@code BigDecimal} values. Strings are
+   * compared by their UTF-8 bytes, which corresponds to the lexicographical
+   * order of their code points.
+   *
+   * @param o the property value to be compared
+   * @return -1, 0 or 1 as this value is less than, equal to, or greater than
+   *         the specified value
+   * @throws IllegalArgumentException if both values have different types
+   * @throws UnsupportedOperationException for map and list values
+   */
   @Override
   public int compareTo(PropertyValue o) {
+    byte type = rawBytes[0];
+    byte otherType = o.rawBytes[0];
+
+    if (type == TYPE_MAP || otherType == TYPE_MAP ||
+      type == TYPE_LIST || otherType == TYPE_LIST) {
+      throw new UnsupportedOperationException(String.format(
+        "Method compareTo() is not supported for %s, %s", this.getClass(), o.getClass()));
+    }
+    if (type != otherType) {
+      throw new IllegalArgumentException(String.format(
+        "Incompatible types: %s, %s", this.getClass(), o.getClass()));
+    }
+
     int result;
 
-    if (this.isNull() && o.isNull()) {
+    switch (type) {
+    case TYPE_NULL:
       result = 0;
-    } else if (this.isBoolean() && o.isBoolean()) {
+      break;
+    case TYPE_BOOLEAN:
       result = Boolean.compare(this.getBoolean(), o.getBoolean());
-    } else if (this.isInt() && o.isInt()) {
+      break;
+    case TYPE_INTEGER:
       result = Integer.compare(this.getInt(), o.getInt());
-    } else if (this.isLong() && o.isLong()) {
+      break;
+    case TYPE_LONG:
       result = Long.compare(this.getLong(), o.getLong());
-    } else if (this.isFloat() && o.isFloat()) {
+      break;
+    case TYPE_FLOAT:
       result = Float.compare(this.getFloat(), o.getFloat());
-    } else if (this.isDouble() && o.isDouble()) {
+      break;
+    case TYPE_DOUBLE:
       result = Double.compare(this.getDouble(), o.getDouble());
-    } else if (this.isString() && o.isString()) {
-      result = this.getString().compareTo(o.getString());
-    } else if (this.isBigDecimal() && o.isBigDecimal()) {
+      break;
+    case TYPE_STRING:
+    case TYPE_GRADOOP_ID:
+      result = Integer.signum(Bytes.compareTo(
+        rawBytes, OFFSET, rawBytes.length - OFFSET,
+        o.rawBytes, OFFSET, o.rawBytes.length - OFFSET));
+      break;
+    case TYPE_BIG_DECIMAL:
       result = this.getBigDecimal().compareTo(o.getBigDecimal());
-    } else if (this.isGradoopId() && o.isGradoopId()) {
-      result = this.getGradoopId().compareTo(o.getGradoopId());
-    } else if (this.isMap() || o.isMap() || this.isList() || o.isList()) {
-      throw new UnsupportedOperationException(String.format(
-        "Method compareTo() is not supported for %s, %s", this.getClass(), o.getClass()));
-    } else {
-      throw new IllegalArgumentException(String.format(
-        "Incompatible types: %s, %s", this.getClass(), o.getClass()));
+      break;
+    default:
+      // date, time and date time are stored as sequences of int fields
+      result = compareIntFields(rawBytes, o.rawBytes);
     }
 
     return result;
@@ -853,6 +929,7 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
     }
     // init new array
     rawBytes = new byte[OFFSET + length];
+    hash = 0;
     // read type info
     rawBytes[0] = type;
     // read data
@@ -861,6 +938,23 @@ public class PropertyValue implements WritableComparable<PropertyValue>, Seriali
     }
   }
 
+  /**
+   * Compares two values which are stored as a sequence of int fields, most
+   * significant field first.
+   *
+   * @param first first internal representation
+   * @param second second internal representation
+   * @return -1, 0 or 1 as the first value is less than, equal to, or greater
+   *         than the second one
+   */
+  private static int compareIntFields(byte[] first, byte[] second) {
+    int result = 0;
+    for (int i = OFFSET; result == 0 && i < first.length; i += Bytes.SIZEOF_INT) {
+      result = Integer.compare(Bytes.toInt(first, i), Bytes.toInt(second, i));
+    }
+    return result;
+  }
+
   @Override
   public String toString() {
     return getObject() != null ?
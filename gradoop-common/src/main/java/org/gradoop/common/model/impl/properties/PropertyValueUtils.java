@@ -294,7 +294,7 @@ public class PropertyValueUtils {
      * @return smaller value
      */
     public static PropertyValue min(PropertyValue a, PropertyValue b) {
-      return isLessOrEqualThan(a, b) ? a : b;
+      return compare(a, b) <= 0 ? a : b;
     }
 
     /**
@@ -306,20 +306,21 @@ public class PropertyValueUtils {
      * @return bigger value
      */
     public static PropertyValue max(PropertyValue a, PropertyValue b) {
-      return isLessOrEqualThan(a, b) ? b : a;
+      return compare(a, b) <= 0 ? b : a;
     }
 
     /**
-     * Compares two numerical property values and returns true,
-     * if the first one is smaller.
+     * Compares two numerical property values. Values of different types are
+     * compared in their smallest common domain. Apart from {@code BigDecimal}
+     * values, no objects are created.
      *
      * @param aValue first value
      * @param bValue second value
      *
-     * @return a < b
+     * @return a negative integer, zero, or a positive integer as the first
+     *         value is less than, equal to, or greater than the second one
      */
-    private static boolean isLessOrEqualThan(
-      PropertyValue aValue, PropertyValue bValue) {
+    public static int compare(PropertyValue aValue, PropertyValue bValue) {
 
       int aType = checkNumericalAndGetType(aValue);
       int bType = checkNumericalAndGetType(bValue);
@@ -328,10 +329,10 @@ public class PropertyValueUtils {
 
       int returnType = sameType ? aType : maxType(aType, bType);
 
-      boolean aIsLessOrEqual;
+      int result;
 
       if (returnType == INT) {
-        aIsLessOrEqual = aValue.getInt() <= bValue.getInt();
+        result = Integer.compare(aValue.getInt(), bValue.getInt());
 
       } else if (returnType == FLOAT) {
 
@@ -346,7 +347,7 @@ public class PropertyValueUtils {
           b = bType == FLOAT ? bValue.getFloat() : bValue.getInt();
         }
 
-        aIsLessOrEqual = a <= b;
+        result = Float.compare(a, b);
 
       } else if (returnType == LONG) {
 
@@ -361,7 +362,7 @@ public class PropertyValueUtils {
           b = bType == LONG ? bValue.getLong() : bValue.getInt();
         }
 
-        aIsLessOrEqual = a <= b;
+        result = Long.compare(a, b);
 
       } else if (returnType == DOUBLE) {
 
@@ -376,7 +377,7 @@ public class PropertyValueUtils {
           b = bType == DOUBLE ? bValue.getDouble() : doubleValue(bValue, bType);
         }
 
-        aIsLessOrEqual = a <= b;
+        result = Double.compare(a, b);
 
       } else {
 
@@ -393,10 +394,10 @@ public class PropertyValueUtils {
             bigDecimalValue(bValue, bType);
         }
 
-        aIsLessOrEqual = a.compareTo(b) <= 0;
+        result = a.compareTo(b);
       }
 
-      return aIsLessOrEqual;
+      return result;
     }
 
     /**
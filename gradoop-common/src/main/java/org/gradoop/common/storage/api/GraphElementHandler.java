@@ -20,7 +20,7 @@ package org.gradoop.common.storage.api;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.gradoop.common.model.api.entities.EPGMGraphElement;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 import java.io.IOException;
 
@@ -45,5 +45,5 @@ public interface GraphElementHandler extends ElementHandler {
    * @param res HBase row
    * @return graphs identifiers
    */
-  GradoopIdList readGraphIds(final Result res) throws IOException;
+  GradoopIdSet readGraphIds(final Result res) throws IOException;
 }
@@ -34,6 +34,8 @@ import org.gradoop.common.model.impl.pojo.VertexFactory;
 import org.gradoop.common.storage.api.EdgeHandler;
 import org.gradoop.common.storage.api.VertexHandler;
 
+import java.util.Arrays;
+
 import static com.google.common.base.Preconditions.checkArgument;
 
 /**
@@ -61,6 +63,11 @@ public class GradoopHBaseConfig
    */
   private final String edgeTableName;
 
+  /**
+   * Secondary index or {@code null} if elements are not indexed.
+   */
+  private final HBaseIndex index;
+
   /**
    * Creates a new Configuration.
    *
@@ -78,6 +85,29 @@ public class GradoopHBaseConfig
     String graphTableName,
     String vertexTableName,
     String edgeTableName) {
+    this(graphHeadHandler, vertexHandler, edgeHandler,
+      graphTableName, vertexTableName, edgeTableName, null);
+  }
+
+  /**
+   * Creates a new Configuration.
+   *
+   * @param graphHeadHandler            graph head handler
+   * @param vertexHandler               vertex handler
+   * @param edgeHandler                 edge handler
+   * @param graphTableName              graph table name
+   * @param vertexTableName             vertex table name
+   * @param edgeTableName               edge table name
+   * @param index                       secondary index or {@code null}
+   */
+  private GradoopHBaseConfig(
+    GraphHeadHandler<G> graphHeadHandler,
+    VertexHandler<V, E> vertexHandler,
+    EdgeHandler<E, V> edgeHandler,
+    String graphTableName,
+    String vertexTableName,
+    String edgeTableName,
+    HBaseIndex index) {
     super(graphHeadHandler,
       vertexHandler,
       edgeHandler,
@@ -94,6 +124,7 @@ public class GradoopHBaseConfig
     this.graphTableName = graphTableName;
     this.vertexTableName = vertexTableName;
     this.edgeTableName = edgeTableName;
+    this.index = index;
   }
 
   /**
@@ -123,12 +154,26 @@ public class GradoopHBaseConfig
    * @return Default Gradoop HBase configuration.
    */
   public static GradoopHBaseConfig<GraphHead, Vertex, Edge> getDefaultConfig() {
+    return getDefaultConfig(new IdRowKeyStrategy());
+  }
+
+  /**
+   * Creates a default Configuration using POJO handlers for vertices, edges
+   * and graph heads, default table names and the given row key strategy. The
+   * element tables are pre-split according to the strategy when they are
+   * created.
+   *
+   * @param rowKeyStrategy maps element ids to row keys
+   * @return Default Gradoop HBase configuration.
+   */
+  public static GradoopHBaseConfig<GraphHead, Vertex, Edge> getDefaultConfig(
+    RowKeyStrategy rowKeyStrategy) {
     GraphHeadHandler<GraphHead> graphHeadHandler =
-      new HBaseGraphHeadHandler<>(new GraphHeadFactory());
+      new HBaseGraphHeadHandler<>(new GraphHeadFactory(), rowKeyStrategy);
     VertexHandler<Vertex, Edge> vertexHandler =
-      new HBaseVertexHandler<>(new VertexFactory());
+      new HBaseVertexHandler<>(new VertexFactory(), rowKeyStrategy);
     EdgeHandler<Edge, Vertex> edgeHandler =
-      new HBaseEdgeHandler<>(new EdgeFactory());
+      new HBaseEdgeHandler<>(new EdgeFactory(), rowKeyStrategy);
 
     return new GradoopHBaseConfig<>(
       graphHeadHandler,
@@ -156,8 +201,47 @@ public class GradoopHBaseConfig
   <G extends EPGMGraphHead, V extends EPGMVertex, E extends EPGMEdge>
   GradoopHBaseConfig<G, V, E> createConfig(GradoopConfig<G, V, E> gradoopConfig,
     String vertexTableName, String edgeTableName, String graphTableName) {
-    return new GradoopHBaseConfig<>(gradoopConfig, graphTableName,
-      vertexTableName, edgeTableName);
+    GradoopHBaseConfig<G, V, E> config = new GradoopHBaseConfig<>(gradoopConfig,
+      graphTableName, vertexTableName, edgeTableName);
+    // keep the secondary index of an HBase configuration
+    if (gradoopConfig instanceof GradoopHBaseConfig &&
+      ((GradoopHBaseConfig) gradoopConfig).getIndex() != null) {
+      config = config.withIndex(((GradoopHBaseConfig) gradoopConfig).getIndex());
+    }
+    return config;
+  }
+
+  /**
+   * Creates a copy of this configuration which maintains a secondary index
+   * on element labels and the values of the given property keys.
+   *
+   * @param indexTableName  index table name
+   * @param propertyKeys    indexed property keys
+   * @return Gradoop HBase configuration
+   */
+  public GradoopHBaseConfig<G, V, E> withIndex(String indexTableName,
+    String... propertyKeys) {
+    return withIndex(new HBaseIndex(indexTableName, Arrays.asList(propertyKeys)));
+  }
+
+  /**
+   * Creates a copy of this configuration using the given secondary index.
+   *
+   * @param index secondary index or {@code null} to disable indexing
+   * @return Gradoop HBase configuration
+   */
+  public GradoopHBaseConfig<G, V, E> withIndex(HBaseIndex index) {
+    return new GradoopHBaseConfig<>(getGraphHeadHandler(), getVertexHandler(),
+      getEdgeHandler(), graphTableName, vertexTableName, edgeTableName, index);
+  }
+
+  /**
+   * Returns the secondary index.
+   *
+   * @return index or {@code null} if elements are not indexed
+   */
+  public HBaseIndex getIndex() {
+    return index;
   }
 
   public String getVertexTableName() {
@@ -0,0 +1,334 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.storage.impl.hbase;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.HConnection;
+import org.apache.hadoop.hbase.client.HTableInterface;
+import org.apache.hadoop.hbase.client.Mutation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes mutations to a single HBase table in batches.
+ *
+ * Mutations are collected in a bounded client side buffer. A full buffer is
+ * handed over to a background thread which sends it to HBase via
+ * {@link HTableInterface#batch(List, Object[])}, while the caller continues
+ * to fill the next buffer. At most
+ * {@link HBaseWriterConfig#getMaxInFlightBatches()} batches are in flight at
+ * the same time; if all of them are busy, {@link #mutate(Mutation)} blocks
+ * until one of them has completed (back-pressure). Mutations of the same row
+ * are only guaranteed to be applied in order if a single batch is in flight.
+ *
+ * Mutations which failed are retried up to
+ * {@link HBaseWriterConfig#getMaxRetries()} times with exponential backoff.
+ * A batch that still fails is reported by throwing an {@link IOException}
+ * from the next call to {@link #mutate(Mutation)}, {@link #flush()} or
+ * {@link #close()}.
+ *
+ * The writer uses, but does not own, the given connection.
+ */
+public class HBaseBufferedWriter implements Closeable {
+
+  /**
+   * Connection used to obtain table instances.
+   */
+  private final HConnection connection;
+
+  /**
+   * Table to write to.
+   */
+  private final TableName tableName;
+
+  /**
+   * Buffer, batch and retry settings.
+   */
+  private final HBaseWriterConfig config;
+
+  /**
+   * Per-batch counters.
+   */
+  private final HBaseWriterMetrics metrics;
+
+  /**
+   * Executes batch requests.
+   */
+  private final ExecutorService executor;
+
+  /**
+   * Limits the number of in-flight batches.
+   */
+  private final Semaphore inFlight;
+
+  /**
+   * First error of a background flush which has not yet been reported.
+   */
+  private final AtomicReference<IOException> failure;
+
+  /**
+   * Mutations of the current batch.
+   */
+  private List<Mutation> buffer;
+
+  /**
+   * Estimated size of the current batch in bytes.
+   */
+  private long bufferSize;
+
+  /**
+   * True, if the writer has been closed.
+   */
+  private boolean closed;
+
+  /**
+   * Creates a new writer.
+   *
+   * @param connection  HBase connection
+   * @param tableName   table to write to
+   * @param config      writer settings
+   */
+  public HBaseBufferedWriter(HConnection connection, TableName tableName,
+    HBaseWriterConfig config) {
+    this.connection = Preconditions.checkNotNull(connection);
+    this.tableName = Preconditions.checkNotNull(tableName);
+    this.config = Preconditions.checkNotNull(config);
+    this.metrics = new HBaseWriterMetrics();
+    this.inFlight = new Semaphore(config.getMaxInFlightBatches());
+    this.failure = new AtomicReference<>();
+    this.buffer = new ArrayList<>(config.getBatchSize());
+    this.executor = Executors.newFixedThreadPool(config.getMaxInFlightBatches(),
+      new ThreadFactoryBuilder()
+        .setDaemon(true)
+        .setNameFormat("gradoop-writer-" + tableName.getNameAsString() + "-%d")
+        .build());
+  }
+
+  public TableName getTableName() {
+    return tableName;
+  }
+
+  public HBaseWriterMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Adds the given mutation to the current batch. The batch is sent to HBase
+   * once it reached the configured number of mutations or size.
+   *
+   * @param mutation mutation to write
+   * @throws IOException if the writer is closed, a previous batch failed or
+   *                     the caller was interrupted while waiting
+   */
+  public synchronized void mutate(Mutation mutation) throws IOException {
+    checkOpen();
+    checkFailure();
+    buffer.add(mutation);
+    bufferSize += mutation.heapSize();
+    if (buffer.size() >= config.getBatchSize() ||
+      bufferSize >= config.getWriteBufferSize()) {
+      submitBuffer();
+    }
+  }
+
+  /**
+   * Sends the current batch and waits until all in-flight batches have been
+   * written.
+   *
+   * @throws IOException if a batch could not be written
+   */
+  public synchronized void flush() throws IOException {
+    checkOpen();
+    try {
+      submitBuffer();
+    } finally {
+      // wait for all batches, so that their failures are reported below
+      awaitInFlight();
+    }
+    checkFailure();
+  }
+
+  /**
+   * Flushes all pending mutations and releases the background threads.
+   *
+   * @throws IOException if a batch could not be written, including batches
+   *                     which failed asynchronously before
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    try {
+      flush();
+    } finally {
+      closed = true;
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Hands the current batch over to a background thread. Blocks if the
+   * maximum number of batches is already in flight.
+   *
+   * @throws IOException if interrupted while waiting
+   */
+  private void submitBuffer() throws IOException {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    final List<Mutation> batch = buffer;
+    final long batchBytes = bufferSize;
+    buffer = new ArrayList<>(config.getBatchSize());
+    bufferSize = 0L;
+
+    acquire(1);
+    try {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            writeBatch(batch, batchBytes);
+          } finally {
+            inFlight.release();
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      inFlight.release();
+      throw new IOException("Writer for " + tableName + " has been shut down", e);
+    }
+  }
+
+  /**
+   * Blocks until no batch is in flight.
+   *
+   * @throws IOException if interrupted while waiting
+   */
+  private void awaitInFlight() throws IOException {
+    acquire(config.getMaxInFlightBatches());
+    inFlight.release(config.getMaxInFlightBatches());
+  }
+
+  /**
+   * Acquires the given number of in-flight permits.
+   *
+   * @param permits number of permits
+   * @throws IOException if interrupted while waiting
+   */
+  private void acquire(int permits) throws IOException {
+    try {
+      inFlight.acquire(permits);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while writing to " + tableName);
+    }
+  }
+
+  /**
+   * Writes a batch to HBase, retries failed mutations and records the
+   * outcome. Called from a background thread.
+   *
+   * @param batch       mutations
+   * @param batchBytes  estimated size of the mutations
+   */
+  private void writeBatch(List<Mutation> batch, long batchBytes) {
+    long start = System.nanoTime();
+    int retries = 0;
+    IOException error = null;
+
+    try (HTableInterface table = connection.getTable(tableName)) {
+      List<Mutation> pending = batch;
+      while (!pending.isEmpty()) {
+        Object[] results = new Object[pending.size()];
+        try {
+          table.batch(pending, results);
+          pending = new ArrayList<>(0);
+        } catch (IOException e) {
+          if (retries == config.getMaxRetries()) {
+            throw e;
+          }
+          pending = getFailed(pending, results);
+          Thread.sleep(config.getRetryBackoff() << retries);
+          retries++;
+        }
+      }
+    } catch (IOException e) {
+      error = e;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      error = new InterruptedIOException("Interrupted while writing to " + tableName);
+    }
+
+    metrics.record(batch.size(), batchBytes, retries, System.nanoTime() - start, error != null);
+    if (error != null) {
+      failure.compareAndSet(null, error);
+    }
+  }
+
+  /**
+   * Returns all mutations which have not been acknowledged by HBase.
+   *
+   * @param mutations mutations of the last request
+   * @param results   results of the last request
+   * @return mutations to retry
+   */
+  private static List<Mutation> getFailed(List<Mutation> mutations, Object[] results) {
+    List<Mutation> failed = new ArrayList<>();
+    for (int i = 0; i < results.length; i++) {
+      if (results[i] == null || results[i] instanceof Throwable) {
+        failed.add(mutations.get(i));
+      }
+    }
+    return failed;
+  }
+
+  /**
+   * Throws if the writer has been closed.
+   *
+   * @throws IOException if closed
+   */
+  private void checkOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Writer for " + tableName + " is closed");
+    }
+  }
+
+  /**
+   * Reports the first unreported failure of a background flush.
+   *
+   * @throws IOException failure of a previous batch
+   */
+  private void checkFailure() throws IOException {
+    IOException error = failure.getAndSet(null);
+    if (error != null) {
+      throw new IOException("Failed to write batch to " + tableName, error);
+    }
+  }
+}
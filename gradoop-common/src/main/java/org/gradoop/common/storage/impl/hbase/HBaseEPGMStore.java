@@ -18,17 +18,23 @@
 package org.gradoop.common.storage.impl.hbase;
 
 import com.google.common.base.Preconditions;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.HConnection;
+import org.apache.hadoop.hbase.client.HConnectionManager;
 import org.apache.hadoop.hbase.client.HTable;
+import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.storage.api.EPGMStore;
 import org.gradoop.common.storage.api.EdgeHandler;
+import org.gradoop.common.storage.api.ElementHandler;
 import org.gradoop.common.storage.api.GraphHeadHandler;
 import org.gradoop.common.storage.api.PersistentEdge;
 import org.gradoop.common.storage.api.PersistentGraphHead;
@@ -38,12 +44,28 @@ import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.storage.api.VertexHandler;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Default HBase graph store that handles reading and writing vertices and
  * graphs from and to HBase.
  *
+ * Writes are sent to HBase in batches by one {@link HBaseBufferedWriter} per
+ * table. With auto flush enabled (default), each write call returns after the
+ * element has been written. With auto flush disabled, elements are buffered
+ * and sent asynchronously; {@link #flush()} waits until all of them have been
+ * written.
+ *
+ * If the configuration declares an {@link HBaseIndex}, each write also adds
+ * the index entries of the element, which can be used to look up elements by
+ * label or by the value of an indexed property.
+ *
  * @param <G> EPGM graph head type
  * @param <V> EPGM vertex type
  * @param <E> EPGM edge type
@@ -51,10 +73,6 @@ import java.util.Iterator;
 public class HBaseEPGMStore
   <G extends EPGMGraphHead, V extends EPGMVertex, E extends EPGMEdge>
   implements EPGMStore<G, V, E> {
-  /**
-   * Default value for clearing buffer on fail.
-   */
-  private static final boolean DEFAULT_CLEAR_BUFFER_ON_FAIL = true;
   /**
    * Default value for enabling auto flush in HBase.
    */
@@ -77,6 +95,40 @@ public class HBaseEPGMStore
    * HBase table for storing edge data.
    */
   private final HTable edgeTable;
+  /**
+   * HBase table for storing the secondary index, {@code null} if there is no
+   * index.
+   */
+  private final HTable indexTable;
+
+  /**
+   * Buffer, batch and retry settings of the table writers.
+   */
+  private HBaseWriterConfig writerConfig = HBaseWriterConfig.getDefaultConfig();
+  /**
+   * Connection shared by all table writers, created on first write.
+   */
+  private HConnection writeConnection;
+  /**
+   * Writer for graph data, created on first write.
+   */
+  private HBaseBufferedWriter graphHeadWriter;
+  /**
+   * Writer for vertex data, created on first write.
+   */
+  private HBaseBufferedWriter vertexWriter;
+  /**
+   * Writer for edge data, created on first write.
+   */
+  private HBaseBufferedWriter edgeWriter;
+  /**
+   * Writer for index entries, created on first write.
+   */
+  private HBaseBufferedWriter indexWriter;
+  /**
+   * True, if each write is flushed immediately.
+   */
+  private boolean autoFlush = DEFAULT_ENABLE_AUTO_FLUSH;
 
   /**
    * Creates a HBaseEPGMStore based on the given parameters. All parameters
@@ -91,17 +143,31 @@ public class HBaseEPGMStore
     final HTable vertexTable,
     final HTable edgeTable,
     final GradoopHBaseConfig<G, V, E> config) {
+    this(graphHeadTable, vertexTable, edgeTable, null, config);
+  }
+
+  /**
+   * Creates a HBaseEPGMStore based on the given parameters. The index table
+   * must be given if and only if the configuration declares an index.
+   *
+   * @param graphHeadTable  HBase table to store graph data
+   * @param vertexTable     HBase table to store vertex data
+   * @param edgeTable       HBase table to store edge data
+   * @param indexTable      HBase table to store the index or {@code null}
+   * @param config          Gradoop Configuration
+   */
+  HBaseEPGMStore(final HTable graphHeadTable,
+    final HTable vertexTable,
+    final HTable edgeTable,
+    final HTable indexTable,
+    final GradoopHBaseConfig<G, V, E> config) {
     this.graphHeadTable = Preconditions.checkNotNull(graphHeadTable);
     this.vertexTable = Preconditions.checkNotNull(vertexTable);
     this.edgeTable = Preconditions.checkNotNull(edgeTable);
     this.config = Preconditions.checkNotNull(config);
-
-    this.graphHeadTable
-      .setAutoFlush(DEFAULT_ENABLE_AUTO_FLUSH, DEFAULT_CLEAR_BUFFER_ON_FAIL);
-    this.vertexTable
-      .setAutoFlush(DEFAULT_ENABLE_AUTO_FLUSH, DEFAULT_CLEAR_BUFFER_ON_FAIL);
-    this.edgeTable
-      .setAutoFlush(DEFAULT_ENABLE_AUTO_FLUSH, DEFAULT_CLEAR_BUFFER_ON_FAIL);
+    Preconditions.checkArgument((indexTable == null) == (config.getIndex() == null),
+      "Index table must be given if the configuration declares an index");
+    this.indexTable = indexTable;
   }
 
   /**
@@ -112,6 +178,47 @@ public class HBaseEPGMStore
     return config;
   }
 
+  /**
+   * Returns the HBase configuration the tables of the store were opened with.
+   *
+   * @return HBase configuration
+   */
+  public Configuration getHBaseConfiguration() {
+    return vertexTable.getConfiguration();
+  }
+
+  public HBaseWriterConfig getWriterConfig() {
+    return writerConfig;
+  }
+
+  /**
+   * Sets the buffer, batch and retry settings used for writing. Pending
+   * writes are flushed before the new settings take effect.
+   *
+   * @param writerConfig writer settings
+   */
+  public void setWriterConfig(HBaseWriterConfig writerConfig) {
+    Preconditions.checkNotNull(writerConfig);
+    closeWriters();
+    this.writerConfig = writerConfig;
+  }
+
+  /**
+   * Returns the per-batch write metrics of each table written so far.
+   *
+   * @return table name to writer metrics
+   */
+  public Map<String, HBaseWriterMetrics> getWriterMetrics() {
+    Map<String, HBaseWriterMetrics> metrics = new LinkedHashMap<>();
+    for (HBaseBufferedWriter writer : new HBaseBufferedWriter[] {
+      graphHeadWriter, vertexWriter, edgeWriter, indexWriter}) {
+      if (writer != null) {
+        metrics.put(writer.getTableName().getNameAsString(), writer.getMetrics());
+      }
+    }
+    return metrics;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -148,7 +255,11 @@ public class HBaseEPGMStore
       // write graph to Put
       put = graphHeadHandler.writeGraphHead(put, graphHead);
       // write to table
-      graphHeadTable.put(put);
+      if (graphHeadWriter == null) {
+        graphHeadWriter = createWriter(graphHeadTable);
+      }
+      write(graphHeadWriter, put);
+      writeIndex(HBaseIndex.ElementType.GRAPH_HEAD, graphHead);
     } catch (IOException e) {
       e.printStackTrace();
     }
@@ -166,7 +277,11 @@ public class HBaseEPGMStore
       // write vertex data to Put
       put = vertexHandler.writeVertex(put, vertexData);
       // write to table
-      vertexTable.put(put);
+      if (vertexWriter == null) {
+        vertexWriter = createWriter(vertexTable);
+      }
+      write(vertexWriter, put);
+      writeIndex(HBaseIndex.ElementType.VERTEX, vertexData);
     } catch (IOException e) {
       e.printStackTrace();
     }
@@ -184,7 +299,11 @@ public class HBaseEPGMStore
       Put put = new Put(edgeHandler.getRowKey(edgeData.getId()));
       // write edge data to Put
       put = edgeHandler.writeEdge(put, edgeData);
-      edgeTable.put(put);
+      if (edgeWriter == null) {
+        edgeWriter = createWriter(edgeTable);
+      }
+      write(edgeWriter, put);
+      writeIndex(HBaseIndex.ElementType.EDGE, edgeData);
     } catch (IOException e) {
       e.printStackTrace();
     }
@@ -198,7 +317,7 @@ public class HBaseEPGMStore
     G graphData = null;
     try {
       GraphHeadHandler<G> graphHeadHandler = config.getGraphHeadHandler();
-      Result res = graphHeadTable.get(new Get(graphId.toByteArray()));
+      Result res = graphHeadTable.get(new Get(graphHeadHandler.getRowKey(graphId)));
       if (!res.isEmpty()) {
         graphData = graphHeadHandler.readGraphHead(res);
       }
@@ -303,41 +422,342 @@ public class HBaseEPGMStore
     return new EdgeIterator(edgeTable.getScanner(scan));
   }
 
+  /**
+   * Checks if the store maintains a secondary index.
+   *
+   * @return true, if elements can be looked up by label and indexed properties
+   */
+  public boolean isIndexed() {
+    return indexTable != null;
+  }
+
+  /**
+   * Looks up the ids of all elements of the given type which may pass the
+   * given filter. The filter must restrict the labels. For each label, the
+   * entries of the first indexed property predicate are scanned, or the label
+   * entries if no predicate refers to an indexed property. The result may
+   * contain ids of elements which do not pass the filter.
+   *
+   * @param type    element type
+   * @param filter  element filter with at least one label
+   * @return element ids
+   * @throws IOException
+   */
+  public List<GradoopId> lookupIds(HBaseIndex.ElementType type, HBaseElementFilter filter)
+    throws IOException {
+    Preconditions.checkArgument(!filter.getLabels().isEmpty(),
+      "Index lookups require a label predicate");
+    HBaseIndex index = getIndex();
+    List<GradoopId> ids = new ArrayList<>();
+    for (String label : filter.getLabels()) {
+      ids.addAll(lookupIds(
+        HBaseIndex.createPrefixScan(index.getLookupPrefix(type, label, filter))));
+    }
+    return ids;
+  }
+
+  /**
+   * Reads all graph heads with the given label using the index.
+   *
+   * @param label graph head label
+   * @return graph heads
+   * @throws IOException
+   */
+  public List<G> getGraphHeadsByLabel(String label) throws IOException {
+    HBaseElementFilter filter = HBaseElementFilter.create().withLabels(label);
+    return readIndexed(graphHeadTable, config.getGraphHeadHandler(),
+      lookupIds(HBaseIndex.ElementType.GRAPH_HEAD, filter),
+      config.getGraphHeadHandler()::readGraphHead, filter);
+  }
+
+  /**
+   * Reads all graph heads with the given label and property value using the
+   * index. If the property is not indexed, all graph heads with the given
+   * label are read and filtered.
+   *
+   * @param label graph head label
+   * @param key   property key
+   * @param value property value
+   * @return graph heads
+   * @throws IOException
+   */
+  public List<G> getGraphHeadsByProperty(String label, String key, Object value)
+    throws IOException {
+    HBaseElementFilter filter = HBaseElementFilter.create()
+      .withLabels(label).withProperty(key, value);
+    return readIndexed(graphHeadTable, config.getGraphHeadHandler(),
+      lookupIds(HBaseIndex.ElementType.GRAPH_HEAD, filter),
+      config.getGraphHeadHandler()::readGraphHead, filter);
+  }
+
+  /**
+   * Reads all vertices with the given label using the index.
+   *
+   * @param label vertex label
+   * @return vertices
+   * @throws IOException
+   */
+  public List<V> getVerticesByLabel(String label) throws IOException {
+    HBaseElementFilter filter = HBaseElementFilter.create().withLabels(label);
+    return readIndexed(vertexTable, config.getVertexHandler(),
+      lookupIds(HBaseIndex.ElementType.VERTEX, filter),
+      config.getVertexHandler()::readVertex, filter);
+  }
+
+  /**
+   * Reads all vertices with the given label and property value using the
+   * index. If the property is not indexed, all vertices with the given label
+   * are read and filtered.
+   *
+   * @param label vertex label
+   * @param key   property key
+   * @param value property value
+   * @return vertices
+   * @throws IOException
+   */
+  public List<V> getVerticesByProperty(String label, String key, Object value)
+    throws IOException {
+    HBaseElementFilter filter = HBaseElementFilter.create()
+      .withLabels(label).withProperty(key, value);
+    return readIndexed(vertexTable, config.getVertexHandler(),
+      lookupIds(HBaseIndex.ElementType.VERTEX, filter),
+      config.getVertexHandler()::readVertex, filter);
+  }
+
+  /**
+   * Reads all edges with the given label using the index.
+   *
+   * @param label edge label
+   * @return edges
+   * @throws IOException
+   */
+  public List<E> getEdgesByLabel(String label) throws IOException {
+    HBaseElementFilter filter = HBaseElementFilter.create().withLabels(label);
+    return readIndexed(edgeTable, config.getEdgeHandler(),
+      lookupIds(HBaseIndex.ElementType.EDGE, filter),
+      config.getEdgeHandler()::readEdge, filter);
+  }
+
+  /**
+   * Reads all edges with the given label and property value using the index.
+   * If the property is not indexed, all edges with the given label are read
+   * and filtered.
+   *
+   * @param label edge label
+   * @param key   property key
+   * @param value property value
+   * @return edges
+   * @throws IOException
+   */
+  public List<E> getEdgesByProperty(String label, String key, Object value)
+    throws IOException {
+    HBaseElementFilter filter = HBaseElementFilter.create()
+      .withLabels(label).withProperty(key, value);
+    return readIndexed(edgeTable, config.getEdgeHandler(),
+      lookupIds(HBaseIndex.ElementType.EDGE, filter),
+      config.getEdgeHandler()::readEdge, filter);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void setAutoFlush(boolean autoFlush) {
-    vertexTable.setAutoFlush(autoFlush, true);
-    edgeTable.setAutoFlush(autoFlush, true);
-    graphHeadTable.setAutoFlush(autoFlush, true);
+    if (autoFlush && !this.autoFlush) {
+      flush();
+    }
+    this.autoFlush = autoFlush;
   }
 
   /**
    * {@inheritDoc}
+   *
+   * @throws UncheckedIOException if buffered mutations could not be written
    */
   @Override
   public void flush() {
-    try {
-      vertexTable.flushCommits();
-      edgeTable.flushCommits();
-      graphHeadTable.flushCommits();
-    } catch (IOException e) {
-      e.printStackTrace();
-    }
+    flushWriters(false);
   }
 
   /**
    * {@inheritDoc}
+   *
+   * @throws UncheckedIOException if buffered mutations could not be written
    */
   @Override
   public void close() {
     try {
-      vertexTable.close();
-      edgeTable.close();
-      graphHeadTable.close();
-    } catch (IOException e) {
-      e.printStackTrace();
+      closeWriters();
+    } finally {
+      try {
+        if (writeConnection != null) {
+          writeConnection.close();
+          writeConnection = null;
+        }
+        vertexTable.close();
+        edgeTable.close();
+        graphHeadTable.close();
+        if (indexTable != null) {
+          indexTable.close();
+        }
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    }
+  }
+
+  /**
+   * Returns the index declared in the configuration.
+   *
+   * @return secondary index
+   */
+  private HBaseIndex getIndex() {
+    if (indexTable == null) {
+      throw new UnsupportedOperationException("The store does not maintain an index");
+    }
+    return config.getIndex();
+  }
+
+  /**
+   * Writes the index entries of the given element if the store is indexed.
+   *
+   * @param type    element type
+   * @param element EPGM element
+   * @throws IOException
+   */
+  private void writeIndex(HBaseIndex.ElementType type, EPGMElement element) throws IOException {
+    if (indexTable == null) {
+      return;
+    }
+    if (indexWriter == null) {
+      indexWriter = createWriter(indexTable);
+    }
+    for (Put entry : config.getIndex().createEntries(type, element)) {
+      write(indexWriter, entry);
+    }
+  }
+
+  /**
+   * Collects the element ids of all index entries returned by the scan.
+   *
+   * @param scan index scan
+   * @return element ids
+   * @throws IOException
+   */
+  private List<GradoopId> lookupIds(Scan scan) throws IOException {
+    List<GradoopId> ids = new ArrayList<>();
+    try (ResultScanner scanner = indexTable.getScanner(scan)) {
+      for (Result result : scanner) {
+        ids.add(config.getIndex().getElementId(result.getRow()));
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * Reads the elements with the given ids and drops those which do not
+   * satisfy the lookup predicate anymore.
+   *
+   * @param table   element table
+   * @param handler creates the row keys of the table
+   * @param ids     element ids
+   * @param reader  decodes a row
+   * @param filter  lookup predicate
+   * @param <T>     element type
+   * @return elements
+   * @throws IOException
+   */
+  private <T extends EPGMElement> List<T> readIndexed(HTable table, ElementHandler handler,
+    List<GradoopId> ids, Function<Result, T> reader, HBaseElementFilter filter)
+    throws IOException {
+    List<Get> gets = new ArrayList<>(ids.size());
+    for (GradoopId id : ids) {
+      gets.add(new Get(handler.getRowKey(id)));
+    }
+    List<T> elements = new ArrayList<>(ids.size());
+    for (Result result : table.get(gets)) {
+      if (result != null && !result.isEmpty()) {
+        T element = reader.apply(result);
+        if (filter.test(element)) {
+          elements.add(element);
+        }
+      }
+    }
+    return elements;
+  }
+
+  /**
+   * Creates a writer for the given table.
+   *
+   * @param table HBase table
+   * @return buffered writer
+   * @throws IOException if no connection could be established
+   */
+  private HBaseBufferedWriter createWriter(HTable table) throws IOException {
+    if (writeConnection == null) {
+      writeConnection = HConnectionManager.createConnection(table.getConfiguration());
+    }
+    return new HBaseBufferedWriter(writeConnection, table.getName(), writerConfig);
+  }
+
+  /**
+   * Adds the mutation to the writer and flushes it if auto flush is enabled.
+   *
+   * @param writer    table writer
+   * @param mutation  mutation to write
+   * @throws IOException if the mutation could not be written
+   */
+  private void write(HBaseBufferedWriter writer, Mutation mutation) throws IOException {
+    writer.mutate(mutation);
+    if (autoFlush) {
+      writer.flush();
+    }
+  }
+
+  /**
+   * Flushes and closes all table writers.
+   *
+   * @throws UncheckedIOException if buffered mutations could not be written
+   */
+  private void closeWriters() {
+    flushWriters(true);
+  }
+
+  /**
+   * Flushes or closes all table writers. All writers are processed, even if
+   * one of them fails.
+   *
+   * @param close true, if the writers shall be closed
+   * @throws UncheckedIOException if buffered mutations could not be written
+   */
+  private void flushWriters(boolean close) {
+    IOException failure = null;
+    for (HBaseBufferedWriter writer : new HBaseBufferedWriter[] {
+      vertexWriter, edgeWriter, graphHeadWriter, indexWriter}) {
+      if (writer != null) {
+        try {
+          if (close) {
+            writer.close();
+          } else {
+            writer.flush();
+          }
+        } catch (IOException e) {
+          if (failure == null) {
+            failure = e;
+          } else {
+            failure.addSuppressed(e);
+          }
+        }
+      }
+    }
+    if (close) {
+      vertexWriter = null;
+      edgeWriter = null;
+      graphHeadWriter = null;
+      indexWriter = null;
+    }
+    if (failure != null) {
+      throw new UncheckedIOException("Failed to write buffered mutations", failure);
     }
   }
 
@@ -65,11 +65,17 @@ public class HBaseEPGMStoreFactory {
     final Configuration config,
     final GradoopHBaseConfig<G, V, E> gradoopHBaseConfig,
     final String prefix) {
-    return createOrOpenEPGMStore(config,
+    GradoopHBaseConfig<G, V, E> prefixedConfig =
       GradoopHBaseConfig.createConfig(gradoopHBaseConfig,
         prefix + GConstants.DEFAULT_TABLE_GRAPHS,
         prefix + GConstants.DEFAULT_TABLE_VERTICES,
-        prefix + GConstants.DEFAULT_TABLE_EDGES));
+        prefix + GConstants.DEFAULT_TABLE_EDGES);
+    HBaseIndex index = gradoopHBaseConfig.getIndex();
+    if (index != null) {
+      prefixedConfig = prefixedConfig.withIndex(
+        index.withTableName(prefix + index.getTableName()));
+    }
+    return createOrOpenEPGMStore(config, prefixedConfig);
   }
 
   /**
@@ -124,6 +130,9 @@ public class HBaseEPGMStoreFactory {
         gradoopHBaseConfig.getVertexTableName(),
         gradoopHBaseConfig.getEdgeTableName(),
         gradoopHBaseConfig.getGraphTableName());
+      if (gradoopHBaseConfig.getIndex() != null) {
+        createIndexTableIfNotExists(config, gradoopHBaseConfig.getIndex());
+      }
 
       HTable graphDataTable = new HTable(config,
         gradoopHBaseConfig.getGraphTableName());
@@ -132,8 +141,11 @@ public class HBaseEPGMStoreFactory {
       HTable edgeDataTable = new HTable(config,
         gradoopHBaseConfig.getEdgeTableName());
 
+      HTable indexTable = gradoopHBaseConfig.getIndex() == null ? null :
+        new HTable(config, gradoopHBaseConfig.getIndex().getTableName());
+
       return new HBaseEPGMStore<>(
-        graphDataTable, vertexDataTable, edgeDataTable, gradoopHBaseConfig);
+        graphDataTable, vertexDataTable, edgeDataTable, indexTable, gradoopHBaseConfig);
     } catch (IOException e) {
       e.printStackTrace();
       return null;
@@ -169,6 +181,32 @@ public class HBaseEPGMStoreFactory {
     }
   }
 
+  /**
+   * Deletes the tables of the graph store described by the given
+   * configuration, including its index table.
+   *
+   * @param config              Hadoop configuration
+   * @param gradoopHBaseConfig  Gradoop HBase configuration
+   */
+  public static void deleteEPGMStore(final Configuration config,
+    final GradoopHBaseConfig<?, ?, ?> gradoopHBaseConfig) {
+    deleteEPGMStore(config, gradoopHBaseConfig.getVertexTableName(),
+      gradoopHBaseConfig.getEdgeTableName(), gradoopHBaseConfig.getGraphTableName());
+    if (gradoopHBaseConfig.getIndex() != null) {
+      try {
+        HBaseAdmin admin = new HBaseAdmin(config);
+        HTableDescriptor indexTableDescriptor = new HTableDescriptor(
+          TableName.valueOf(gradoopHBaseConfig.getIndex().getTableName()));
+        if (admin.tableExists(indexTableDescriptor.getName())) {
+          deleteTable(admin, indexTableDescriptor);
+        }
+        admin.close();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    }
+  }
+
   /**
    * Creates the tables used by the graph store.
    *
@@ -216,6 +254,22 @@ public class HBaseEPGMStoreFactory {
     admin.close();
   }
 
+  /**
+   * Creates the index table if it does not exist.
+   *
+   * @param config  Hadoop configuration
+   * @param index   secondary index
+   * @throws IOException
+   */
+  private static void createIndexTableIfNotExists(final Configuration config,
+    final HBaseIndex index) throws IOException {
+    HBaseAdmin admin = new HBaseAdmin(config);
+    if (!admin.tableExists(index.getTableName())) {
+      index.createTable(admin);
+    }
+    admin.close();
+  }
+
   /**
    * Deletes the tables given tables.
    *
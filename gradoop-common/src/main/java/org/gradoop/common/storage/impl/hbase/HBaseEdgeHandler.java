@@ -79,6 +79,17 @@ public class HBaseEdgeHandler<E extends EPGMEdge, V extends EPGMVertex>
    * @param edgeFactory edge data factory
    */
   public HBaseEdgeHandler(EPGMEdgeFactory<E> edgeFactory) {
+    this(edgeFactory, new IdRowKeyStrategy());
+  }
+
+  /**
+   * Creates an edge handler which uses the given row key strategy.
+   *
+   * @param edgeFactory    edge data factory
+   * @param rowKeyStrategy maps edge ids to row keys
+   */
+  public HBaseEdgeHandler(EPGMEdgeFactory<E> edgeFactory, RowKeyStrategy rowKeyStrategy) {
+    super(rowKeyStrategy);
     this.edgeFactory = edgeFactory;
   }
 
@@ -90,7 +101,7 @@ public class HBaseEdgeHandler<E extends EPGMEdge, V extends EPGMVertex>
     throws IOException {
     tableDescriptor.addFamily(new HColumnDescriptor(GConstants.CF_META));
     tableDescriptor.addFamily(new HColumnDescriptor(GConstants.CF_PROPERTIES));
-    admin.createTable(tableDescriptor);
+    createPreSplitTable(admin, tableDescriptor);
   }
 
   /**
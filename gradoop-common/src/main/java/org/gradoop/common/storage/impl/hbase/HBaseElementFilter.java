@@ -0,0 +1,353 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.storage.impl.hbase;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.BinaryComparator;
+import org.apache.hadoop.hbase.filter.ByteArrayComparable;
+import org.apache.hadoop.hbase.filter.CompareFilter;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.RegexStringComparator;
+import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Writables;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.api.entities.EPGMGraphElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.util.GConstants;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Predicates and projections which are evaluated by the region servers while
+ * scanning an element table.
+ *
+ * All predicates are combined by conjunction:
+ *
+ * <ul>
+ *   <li>{@link #withLabels(String...)}: the element has one of the labels</li>
+ *   <li>{@link #withProperty(String, Object)}: the element has the property
+ *   with the given value</li>
+ *   <li>{@link #inGraphs(GradoopId...)}: the element is contained in one of the
+ *   graphs (vertices and edges only)</li>
+ * </ul>
+ *
+ * {@link #projectProperties(String...)} restricts the property columns which
+ * are transferred to the client. Independent of that, only the meta data and
+ * property column families are read, e.g. the edge identifiers stored with a
+ * vertex are skipped.
+ *
+ * Since server side filters only see serialized values, the predicates are
+ * evaluated again on the client via {@link #test(EPGMElement)}.
+ */
+public class HBaseElementFilter implements Serializable {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Graph ids are matched as ISO-8859-1 strings which map each byte to one char.
+   */
+  private static final Charset ID_CHARSET = Charset.forName("ISO-8859-1");
+
+  /**
+   * Column qualifier of the graph ids.
+   */
+  private static final byte[] COL_GRAPHS_BYTES = Bytes.toBytes(GConstants.COL_GRAPHS);
+
+  /**
+   * Allowed labels, empty if all labels are allowed.
+   */
+  private final Set<String> labels;
+
+  /**
+   * Required property values.
+   */
+  private final Map<String, PropertyValue> properties;
+
+  /**
+   * Graphs of which the element must be contained in at least one, empty if
+   * graph membership is not restricted.
+   */
+  private final GradoopIdSet graphIds;
+
+  /**
+   * Property keys to read, {@code null} if all properties are read.
+   */
+  private Set<String> projectedKeys;
+
+  /**
+   * Creates a filter without any predicates.
+   */
+  private HBaseElementFilter() {
+    this.labels = Sets.newHashSet();
+    this.properties = new HashMap<>();
+    this.graphIds = new GradoopIdSet();
+  }
+
+  /**
+   * Creates a filter which accepts all elements and reads all properties.
+   *
+   * @return element filter
+   */
+  public static HBaseElementFilter create() {
+    return new HBaseElementFilter();
+  }
+
+  /**
+   * Restricts the elements to those with one of the given labels.
+   *
+   * @param allowedLabels allowed labels
+   * @return this
+   */
+  public HBaseElementFilter withLabels(String... allowedLabels) {
+    Collections.addAll(labels, allowedLabels);
+    return this;
+  }
+
+  /**
+   * Restricts the elements to those having the given property value.
+   *
+   * @param key   property key
+   * @param value property value (will be wrapped into {@link PropertyValue})
+   * @return this
+   */
+  public HBaseElementFilter withProperty(String key, Object value) {
+    properties.put(key, PropertyValue.create(value));
+    return this;
+  }
+
+  /**
+   * Restricts the elements to those contained in at least one of the given
+   * graphs.
+   *
+   * @param graphs graph ids
+   * @return this
+   */
+  public HBaseElementFilter inGraphs(GradoopId... graphs) {
+    for (GradoopId graphId : graphs) {
+      graphIds.add(graphId);
+    }
+    return this;
+  }
+
+  /**
+   * Only reads the given properties of each element.
+   *
+   * @param keys property keys
+   * @return this
+   */
+  public HBaseElementFilter projectProperties(String... keys) {
+    if (projectedKeys == null) {
+      projectedKeys = Sets.newHashSet();
+    }
+    Collections.addAll(projectedKeys, keys);
+    return this;
+  }
+
+  /**
+   * Checks if the filter contains any predicate.
+   *
+   * @return true, if all elements pass the filter
+   */
+  public boolean acceptsAll() {
+    return labels.isEmpty() && properties.isEmpty() && graphIds.isEmpty();
+  }
+
+  /**
+   * Returns the allowed labels.
+   *
+   * @return allowed labels, empty if all labels are allowed
+   */
+  public Set<String> getLabels() {
+    return Collections.unmodifiableSet(labels);
+  }
+
+  /**
+   * Returns the required property values.
+   *
+   * @return property key to required value
+   */
+  public Map<String, PropertyValue> getProperties() {
+    return Collections.unmodifiableMap(properties);
+  }
+
+  /**
+   * Restricts the columns of the given scan and adds server side filters for
+   * all predicates.
+   *
+   * @param scan table scan
+   * @return scan
+   */
+  public Scan configure(Scan scan) {
+    scan.addFamily(HBaseElementHandler.CF_META_BYTES);
+    if (projectedKeys == null) {
+      scan.addFamily(HBaseElementHandler.CF_PROPERTIES_BYTES);
+    } else {
+      // filtered columns must be read to be evaluated by the region server
+      for (String key : Sets.union(projectedKeys, properties.keySet())) {
+        scan.addColumn(HBaseElementHandler.CF_PROPERTIES_BYTES, Bytes.toBytes(key));
+      }
+    }
+
+    List<Filter> filters = Lists.newArrayList();
+
+    if (!labels.isEmpty()) {
+      List<Filter> labelFilters = Lists.newArrayList();
+      for (String label : labels) {
+        labelFilters.add(createColumnValueFilter(HBaseElementHandler.CF_META_BYTES,
+          HBaseElementHandler.COL_LABEL_BYTES, new BinaryComparator(Bytes.toBytes(label))));
+      }
+      filters.add(labelFilters.size() == 1 ? labelFilters.get(0) :
+        new FilterList(FilterList.Operator.MUST_PASS_ONE, labelFilters));
+    }
+
+    for (Map.Entry<String, PropertyValue> property : properties.entrySet()) {
+      filters.add(createColumnValueFilter(HBaseElementHandler.CF_PROPERTIES_BYTES,
+        Bytes.toBytes(property.getKey()),
+        new BinaryComparator(getBytes(property.getValue()))));
+    }
+
+    if (!graphIds.isEmpty()) {
+      filters.add(createColumnValueFilter(HBaseElementHandler.CF_META_BYTES, COL_GRAPHS_BYTES,
+        createGraphIdComparator()));
+    }
+
+    if (filters.size() == 1) {
+      scan.setFilter(filters.get(0));
+    } else if (filters.size() > 1) {
+      scan.setFilter(new FilterList(FilterList.Operator.MUST_PASS_ALL, filters));
+    }
+    return scan;
+  }
+
+  /**
+   * Evaluates all predicates on the given element.
+   *
+   * @param element EPGM element
+   * @return true, if the element satisfies all predicates
+   */
+  public boolean test(EPGMElement element) {
+    if (!labels.isEmpty() && !labels.contains(element.getLabel())) {
+      return false;
+    }
+    for (Map.Entry<String, PropertyValue> property : properties.entrySet()) {
+      if (!property.getValue().equals(element.getPropertyValue(property.getKey()))) {
+        return false;
+      }
+    }
+    return graphIds.isEmpty() || !(element instanceof EPGMGraphElement) ||
+      ((EPGMGraphElement) element).getGraphIds().containsAny(graphIds);
+  }
+
+  /**
+   * Removes all properties which were only read to evaluate a predicate.
+   *
+   * @param element EPGM element
+   */
+  public void project(EPGMElement element) {
+    Properties elementProperties = element.getProperties();
+    if (projectedKeys == null || elementProperties == null) {
+      return;
+    }
+    for (String key : Lists.newArrayList(elementProperties.getKeys())) {
+      if (!projectedKeys.contains(key)) {
+        elementProperties.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Creates a filter which drops rows whose column does not match the given
+   * comparator or which do not have the column.
+   *
+   * @param family      column family
+   * @param qualifier   column qualifier
+   * @param comparator  value comparator
+   * @return column value filter
+   */
+  private static SingleColumnValueFilter createColumnValueFilter(byte[] family,
+    byte[] qualifier, ByteArrayComparable comparator) {
+    SingleColumnValueFilter filter = new SingleColumnValueFilter(
+      family, qualifier, CompareFilter.CompareOp.EQUAL, comparator);
+    filter.setFilterIfMissing(true);
+    return filter;
+  }
+
+  /**
+   * Serializes a property value as written by {@link HBaseElementHandler}.
+   *
+   * @param value property value
+   * @return serialized value
+   */
+  private static byte[] getBytes(PropertyValue value) {
+    try {
+      return Writables.getBytes(value);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot serialize property value " + value, e);
+    }
+  }
+
+  /**
+   * Creates a comparator matching serialized {@link GradoopIdSet}s which
+   * contain at least one of the filtered graph ids. Matches are aligned to
+   * the id size, so that they cannot span two ids.
+   *
+   * @return graph id comparator
+   */
+  private RegexStringComparator createGraphIdComparator() {
+    StringBuilder regex = new StringBuilder()
+      .append("^(?:.{").append(GradoopId.ID_SIZE).append("})*(?:");
+    boolean first = true;
+    for (GradoopId graphId : graphIds) {
+      if (!first) {
+        regex.append('|');
+      }
+      regex.append(Pattern.quote(new String(graphId.toByteArray(), ID_CHARSET)));
+      first = false;
+    }
+    regex.append(')');
+
+    RegexStringComparator comparator =
+      new RegexStringComparator(regex.toString(), Pattern.DOTALL);
+    comparator.setCharset(ID_CHARSET);
+    return comparator;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("HBaseElementFilter{labels=%s, properties=%s, graphIds=%s, " +
+      "projectedKeys=%s}", labels, properties, graphIds, projectedKeys);
+  }
+}
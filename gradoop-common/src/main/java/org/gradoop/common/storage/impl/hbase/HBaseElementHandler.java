@@ -17,7 +17,10 @@
 
 package org.gradoop.common.storage.impl.hbase;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.client.HBaseAdmin;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.util.Bytes;
@@ -54,12 +57,30 @@ public abstract class HBaseElementHandler implements ElementHandler {
    */
   static final byte[] CF_PROPERTIES_BYTES = Bytes.toBytes(GConstants.CF_PROPERTIES);
 
+  /**
+   * Maps element ids to row keys.
+   */
+  private final RowKeyStrategy rowKeyStrategy;
+
+  /**
+   * Creates a handler which uses the given row key strategy.
+   *
+   * @param rowKeyStrategy maps element ids to row keys
+   */
+  protected HBaseElementHandler(RowKeyStrategy rowKeyStrategy) {
+    this.rowKeyStrategy = Preconditions.checkNotNull(rowKeyStrategy);
+  }
+
+  public RowKeyStrategy getRowKeyStrategy() {
+    return rowKeyStrategy;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public byte[] getRowKey(final GradoopId elementId) throws IOException {
-    return elementId.toByteArray();
+    return rowKeyStrategy.getRowKey(elementId);
   }
 
   /**
@@ -70,7 +91,7 @@ public abstract class HBaseElementHandler implements ElementHandler {
     if (rowKey == null) {
       throw new IllegalArgumentException("rowKey must not be null");
     }
-    return GradoopId.fromByteArray(rowKey);
+    return rowKeyStrategy.getId(rowKey);
   }
 
   /**
@@ -174,6 +195,24 @@ public abstract class HBaseElementHandler implements ElementHandler {
    * @throws IOException
    */
   protected GradoopId readId(Result res) throws IOException {
-    return GradoopId.fromByteArray(res.getRow());
+    return getId(res.getRow());
+  }
+
+  /**
+   * Creates the given table and pre-splits it according to the row key
+   * strategy.
+   *
+   * @param admin           HBase admin
+   * @param tableDescriptor table description including the column families
+   * @throws IOException
+   */
+  protected void createPreSplitTable(final HBaseAdmin admin,
+    final HTableDescriptor tableDescriptor) throws IOException {
+    byte[][] splitKeys = rowKeyStrategy.getSplitKeys();
+    if (splitKeys == null) {
+      admin.createTable(tableDescriptor);
+    } else {
+      admin.createTable(tableDescriptor, splitKeys);
+    }
   }
 }
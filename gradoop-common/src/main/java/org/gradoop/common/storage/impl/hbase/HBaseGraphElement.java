@@ -19,7 +19,7 @@ package org.gradoop.common.storage.impl.hbase;
 
 import org.gradoop.common.model.api.entities.EPGMGraphElement;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * Wraps an EPGM graph element data entity.
@@ -42,7 +42,7 @@ public abstract class HBaseGraphElement<T extends EPGMGraphElement>
    * {@inheritDoc}
    */
   @Override
-  public GradoopIdList getGraphIds() {
+  public GradoopIdSet getGraphIds() {
     return getEpgmElement().getGraphIds();
   }
 
@@ -58,7 +58,7 @@ public abstract class HBaseGraphElement<T extends EPGMGraphElement>
    * {@inheritDoc}
    */
   @Override
-  public void setGraphIds(GradoopIdList graphIds) {
+  public void setGraphIds(GradoopIdSet graphIds) {
     getEpgmElement().setGraphIds(graphIds);
   }
 
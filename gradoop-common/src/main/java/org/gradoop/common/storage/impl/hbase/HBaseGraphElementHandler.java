@@ -21,7 +21,7 @@ import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.api.entities.EPGMGraphElement;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.storage.api.GraphElementHandler;
 import org.gradoop.common.util.GConstants;
 
@@ -39,6 +39,15 @@ public abstract class HBaseGraphElementHandler extends
   private static final byte[] COL_GRAPHS_BYTES =
     Bytes.toBytes(GConstants.COL_GRAPHS);
 
+  /**
+   * Creates a handler which uses the given row key strategy.
+   *
+   * @param rowKeyStrategy maps element ids to row keys
+   */
+  protected HBaseGraphElementHandler(RowKeyStrategy rowKeyStrategy) {
+    super(rowKeyStrategy);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -57,15 +66,15 @@ public abstract class HBaseGraphElementHandler extends
    * {@inheritDoc}
    */
   @Override
-  public GradoopIdList readGraphIds(Result res) throws IOException {
+  public GradoopIdSet readGraphIds(Result res) throws IOException {
     byte[] graphBytes = res.getValue(CF_META_BYTES, COL_GRAPHS_BYTES);
 
-    GradoopIdList graphIds;
+    GradoopIdSet graphIds;
 
     if (graphBytes != null) {
-      graphIds = GradoopIdList.fromByteArray(graphBytes);
+      graphIds = GradoopIdSet.fromByteArray(graphBytes);
     } else {
-      graphIds = new GradoopIdList();
+      graphIds = new GradoopIdSet();
     }
 
     return graphIds;
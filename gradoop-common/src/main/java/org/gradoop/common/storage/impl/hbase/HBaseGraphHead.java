@@ -19,7 +19,7 @@ package org.gradoop.common.storage.impl.hbase;
 
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.storage.api.PersistentGraphHead;
 
 /**
@@ -33,12 +33,12 @@ public class HBaseGraphHead<G extends EPGMGraphHead> extends HBaseElement<G>
   /**
    * EPGMVertex identifiers contained in that logical graph.
    */
-  private GradoopIdList vertexIds;
+  private GradoopIdSet vertexIds;
 
   /**
    * EPGMEdge identifiers contained in that logical graph.
    */
-  private GradoopIdList edgeIds;
+  private GradoopIdSet edgeIds;
 
   /**
    * Creates  persistent graph data.
@@ -47,8 +47,8 @@ public class HBaseGraphHead<G extends EPGMGraphHead> extends HBaseElement<G>
    * @param vertexIds  vertexIds contained in that graph
    * @param edgeIds     edgeIds contained in that graph
    */
-  HBaseGraphHead(G graphHead, GradoopIdList vertexIds,
-    GradoopIdList edgeIds) {
+  HBaseGraphHead(G graphHead, GradoopIdSet vertexIds,
+    GradoopIdSet edgeIds) {
     super(graphHead);
     this.vertexIds = vertexIds;
     this.edgeIds = edgeIds;
@@ -58,7 +58,7 @@ public class HBaseGraphHead<G extends EPGMGraphHead> extends HBaseElement<G>
    * {@inheritDoc}
    */
   @Override
-  public GradoopIdList getVertexIds() {
+  public GradoopIdSet getVertexIds() {
     return vertexIds;
   }
 
@@ -66,7 +66,7 @@ public class HBaseGraphHead<G extends EPGMGraphHead> extends HBaseElement<G>
    * {@inheritDoc}
    */
   @Override
-  public void setVertexIds(GradoopIdList vertices) {
+  public void setVertexIds(GradoopIdSet vertices) {
     this.vertexIds = vertices;
   }
 
@@ -78,7 +78,7 @@ public class HBaseGraphHead<G extends EPGMGraphHead> extends HBaseElement<G>
     if (vertexIds != null) {
       vertexIds.add(vertexID);
     } else {
-      vertexIds = GradoopIdList.fromExisting(vertexID);
+      vertexIds = GradoopIdSet.fromExisting(vertexID);
     }
   }
 
@@ -94,7 +94,7 @@ public class HBaseGraphHead<G extends EPGMGraphHead> extends HBaseElement<G>
    * {@inheritDoc}
    */
   @Override
-  public GradoopIdList getEdgeIds() {
+  public GradoopIdSet getEdgeIds() {
     return edgeIds;
   }
 
@@ -102,7 +102,7 @@ public class HBaseGraphHead<G extends EPGMGraphHead> extends HBaseElement<G>
    * {@inheritDoc}
    */
   @Override
-  public void setEdgeIds(GradoopIdList edgeIds) {
+  public void setEdgeIds(GradoopIdSet edgeIds) {
     this.edgeIds = edgeIds;
   }
 
@@ -114,7 +114,7 @@ public class HBaseGraphHead<G extends EPGMGraphHead> extends HBaseElement<G>
     if (edgeIds != null) {
       edgeIds.add(edgeID);
     } else {
-      edgeIds = GradoopIdList.fromExisting(edgeID);
+      edgeIds = GradoopIdSet.fromExisting(edgeID);
     }
   }
 
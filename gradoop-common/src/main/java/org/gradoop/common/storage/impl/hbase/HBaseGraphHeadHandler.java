@@ -78,6 +78,18 @@ public class HBaseGraphHeadHandler<G extends EPGMGraphHead>
    * @param graphHeadFactory used to create runtime graph data objects
    */
   public HBaseGraphHeadHandler(EPGMGraphHeadFactory<G> graphHeadFactory) {
+    this(graphHeadFactory, new IdRowKeyStrategy());
+  }
+
+  /**
+   * Creates a graph head handler which uses the given row key strategy.
+   *
+   * @param graphHeadFactory used to create runtime graph data objects
+   * @param rowKeyStrategy   maps graph head ids to row keys
+   */
+  public HBaseGraphHeadHandler(EPGMGraphHeadFactory<G> graphHeadFactory,
+    RowKeyStrategy rowKeyStrategy) {
+    super(rowKeyStrategy);
     this.graphHeadFactory = graphHeadFactory;
   }
 
@@ -91,7 +103,7 @@ public class HBaseGraphHeadHandler<G extends EPGMGraphHead>
     tableDescriptor.addFamily(new HColumnDescriptor(GConstants.CF_PROPERTIES));
     tableDescriptor.addFamily(new HColumnDescriptor(GConstants.CF_VERTICES));
     tableDescriptor.addFamily(new HColumnDescriptor(GConstants.CF_EDGES));
-    admin.createTable(tableDescriptor);
+    createPreSplitTable(admin, tableDescriptor);
   }
 
   /**
@@ -0,0 +1,389 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.storage.impl.hbase;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedSet;
+import org.apache.commons.lang.StringUtils;
+import org.apache.hadoop.hbase.HColumnDescriptor;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.HBaseAdmin;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.KeyOnlyFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Writables;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.util.GConstants;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Secondary index of an {@link HBaseEPGMStore}.
+ *
+ * The index is a single table whose row keys map labels and values of
+ * declared property keys to element ids:
+ *
+ * <pre>
+ * label entry:    [type][0][label length][label][element id]
+ * property entry: [type][1][label length][label][key length][key]
+ *                 [value length][value][element id]
+ * </pre>
+ *
+ * All entries of one label or one (label, key, value) triple are therefore
+ * stored in a contiguous key range which is read by a single range scan.
+ * Lengths are 4 byte integers, values are serialized like in the element
+ * tables.
+ *
+ * Entries are only added, i.e. they may be outdated if an element was
+ * overwritten with a different label or property value. Elements read via
+ * the index have to be checked against the lookup predicate.
+ */
+public class HBaseIndex implements Serializable {
+
+  /**
+   * Type of the indexed elements.
+   */
+  public enum ElementType {
+    /**
+     * Graph heads
+     */
+    GRAPH_HEAD((byte) 'g'),
+    /**
+     * Vertices
+     */
+    VERTEX((byte) 'v'),
+    /**
+     * Edges
+     */
+    EDGE((byte) 'e');
+
+    /**
+     * Key prefix of the type
+     */
+    private final byte prefix;
+
+    /**
+     * Constructor
+     *
+     * @param prefix key prefix
+     */
+    ElementType(byte prefix) {
+      this.prefix = prefix;
+    }
+  }
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Marks label entries.
+   */
+  private static final byte KIND_LABEL = 0;
+
+  /**
+   * Marks property entries.
+   */
+  private static final byte KIND_PROPERTY = 1;
+
+  /**
+   * Column family of the index table.
+   */
+  private static final byte[] CF_INDEX_BYTES = Bytes.toBytes(GConstants.CF_INDEX);
+
+  /**
+   * Index table name.
+   */
+  private final String tableName;
+
+  /**
+   * Property keys whose values are indexed.
+   */
+  private final Set<String> propertyKeys;
+
+  /**
+   * Creates a new index definition.
+   *
+   * @param tableName     index table name
+   * @param propertyKeys  property keys whose values are indexed in addition
+   *                      to the labels
+   */
+  public HBaseIndex(String tableName, Collection<String> propertyKeys) {
+    Preconditions.checkArgument(!StringUtils.isEmpty(tableName),
+      "Index table name was null or empty");
+    this.tableName = tableName;
+    this.propertyKeys = ImmutableSortedSet.copyOf(propertyKeys);
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public Set<String> getPropertyKeys() {
+    return propertyKeys;
+  }
+
+  /**
+   * Checks if the values of the given property key are indexed.
+   *
+   * @param key property key
+   * @return true, if indexed
+   */
+  public boolean isIndexed(String key) {
+    return propertyKeys.contains(key);
+  }
+
+  /**
+   * Checks if the index is selective for the given filter, i.e. if the filter
+   * restricts the labels and compares at least one indexed property to a
+   * value. Label entries alone usually match a large part of a table, which
+   * is read faster by a filtered scan.
+   *
+   * @param filter element filter
+   * @return true, if the index narrows down the elements by a property value
+   */
+  public boolean isSelective(HBaseElementFilter filter) {
+    if (filter.getLabels().isEmpty()) {
+      return false;
+    }
+    for (String key : filter.getProperties().keySet()) {
+      if (isIndexed(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the key prefix of all entries matching the given label and the
+   * first indexed property predicate of the filter. If the filter does not
+   * compare an indexed property, the prefix of the label entries is returned.
+   *
+   * @param type    element type
+   * @param label   element label
+   * @param filter  element filter
+   * @return key prefix of the matching entries
+   * @throws IOException
+   */
+  public byte[] getLookupPrefix(ElementType type, String label, HBaseElementFilter filter)
+    throws IOException {
+    for (Map.Entry<String, PropertyValue> property : filter.getProperties().entrySet()) {
+      if (isIndexed(property.getKey())) {
+        return getPropertyPrefix(type, label, property.getKey(), property.getValue());
+      }
+    }
+    return getLabelPrefix(type, label);
+  }
+
+  /**
+   * Creates the index table.
+   *
+   * @param admin HBase admin
+   * @throws IOException
+   */
+  public void createTable(final HBaseAdmin admin) throws IOException {
+    HTableDescriptor tableDescriptor = new HTableDescriptor(TableName.valueOf(tableName));
+    tableDescriptor.addFamily(new HColumnDescriptor(GConstants.CF_INDEX));
+    admin.createTable(tableDescriptor);
+  }
+
+  /**
+   * Creates the index entries of the given element.
+   *
+   * @param type    element type
+   * @param element EPGM element
+   * @return index entries
+   * @throws IOException
+   */
+  public List<Put> createEntries(ElementType type, EPGMElement element) throws IOException {
+    List<Put> entries = new ArrayList<>();
+    byte[] id = element.getId().toByteArray();
+    String label = getLabel(element);
+
+    entries.add(createEntry(Bytes.add(getLabelPrefix(type, label), id)));
+
+    if (element.getProperties() != null) {
+      for (String key : propertyKeys) {
+        PropertyValue value = element.getPropertyValue(key);
+        if (value != null) {
+          entries.add(createEntry(Bytes.add(getPropertyPrefix(type, label, key, value), id)));
+        }
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Creates a scan over all entries of elements with the given label.
+   *
+   * @param type  element type
+   * @param label element label
+   * @return index scan
+   */
+  public Scan createLabelScan(ElementType type, String label) {
+    return createPrefixScan(getLabelPrefix(type, label));
+  }
+
+  /**
+   * Creates a scan over all entries of elements with the given label and
+   * property value.
+   *
+   * @param type  element type
+   * @param label element label
+   * @param key   indexed property key
+   * @param value property value
+   * @return index scan
+   * @throws IOException
+   */
+  public Scan createPropertyScan(ElementType type, String label, String key,
+    PropertyValue value) throws IOException {
+    Preconditions.checkArgument(isIndexed(key), "Property key is not indexed: " + key);
+    return createPrefixScan(getPropertyPrefix(type, label, key, value));
+  }
+
+  /**
+   * Returns the element id of an index entry.
+   *
+   * @param rowKey row key of the index entry
+   * @return element id
+   */
+  public GradoopId getElementId(byte[] rowKey) {
+    return GradoopId.fromByteArray(
+      Arrays.copyOfRange(rowKey, rowKey.length - GradoopId.ID_SIZE, rowKey.length));
+  }
+
+  /**
+   * Creates a copy of this index using a different table.
+   *
+   * @param indexTableName index table name
+   * @return index definition
+   */
+  public HBaseIndex withTableName(String indexTableName) {
+    return new HBaseIndex(indexTableName, propertyKeys);
+  }
+
+  /**
+   * Creates an index entry.
+   *
+   * @param rowKey row key
+   * @return index entry
+   */
+  private static Put createEntry(byte[] rowKey) {
+    return new Put(rowKey)
+      .add(CF_INDEX_BYTES, HConstants.EMPTY_BYTE_ARRAY, HConstants.EMPTY_BYTE_ARRAY);
+  }
+
+  /**
+   * Creates a scan over all rows starting with the given prefix.
+   *
+   * @param prefix row key prefix
+   * @return key only scan
+   */
+  public static Scan createPrefixScan(byte[] prefix) {
+    Scan scan = new Scan(prefix, getStopRow(prefix));
+    scan.setCaching(GConstants.HBASE_DEFAULT_SCAN_CACHE_SIZE);
+    scan.setFilter(new KeyOnlyFilter());
+    return scan;
+  }
+
+  /**
+   * Returns the first row key which does not start with the given prefix.
+   *
+   * @param prefix row key prefix
+   * @return exclusive stop row
+   */
+  private static byte[] getStopRow(byte[] prefix) {
+    byte[] stopRow = Arrays.copyOf(prefix, prefix.length);
+    for (int i = stopRow.length - 1; i >= 0; i--) {
+      if (stopRow[i] != (byte) 0xFF) {
+        stopRow[i]++;
+        return Arrays.copyOf(stopRow, i + 1);
+      }
+    }
+    return HConstants.EMPTY_END_ROW;
+  }
+
+  /**
+   * Returns the label of an element, elements without label are indexed
+   * using an empty label.
+   *
+   * @param element EPGM element
+   * @return label
+   */
+  private static String getLabel(EPGMElement element) {
+    return element.getLabel() == null ? "" : element.getLabel();
+  }
+
+  /**
+   * Returns the key prefix of all label entries of the given type and label.
+   *
+   * @param type  element type
+   * @param label element label
+   * @return key prefix
+   */
+  private static byte[] getLabelPrefix(ElementType type, String label) {
+    return Bytes.add(new byte[] {type.prefix, KIND_LABEL}, lengthPrefixed(Bytes.toBytes(label)));
+  }
+
+  /**
+   * Returns the key prefix of all property entries of the given type, label
+   * and property value.
+   *
+   * @param type  element type
+   * @param label element label
+   * @param key   property key
+   * @param value property value
+   * @return key prefix
+   * @throws IOException
+   */
+  private static byte[] getPropertyPrefix(ElementType type, String label, String key,
+    PropertyValue value) throws IOException {
+    return Bytes.add(
+      Bytes.add(new byte[] {type.prefix, KIND_PROPERTY}, lengthPrefixed(Bytes.toBytes(label))),
+      lengthPrefixed(Bytes.toBytes(key)),
+      lengthPrefixed(Writables.getBytes(value)));
+  }
+
+  /**
+   * Prepends the length to the given bytes.
+   *
+   * @param bytes bytes
+   * @return length and bytes
+   */
+  private static byte[] lengthPrefixed(byte[] bytes) {
+    return Bytes.add(Bytes.toBytes(bytes.length), bytes);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("HBaseIndex{tableName=%s, propertyKeys=%s}", tableName, propertyKeys);
+  }
+}
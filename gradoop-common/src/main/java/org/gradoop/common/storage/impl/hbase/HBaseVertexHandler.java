@@ -79,6 +79,17 @@ public class HBaseVertexHandler<V extends EPGMVertex, E extends EPGMEdge>
    * @param vertexFactory used to create runtime vertex data objects
    */
   public HBaseVertexHandler(EPGMVertexFactory<V> vertexFactory) {
+    this(vertexFactory, new IdRowKeyStrategy());
+  }
+
+  /**
+   * Creates a vertex handler which uses the given row key strategy.
+   *
+   * @param vertexFactory  used to create runtime vertex data objects
+   * @param rowKeyStrategy maps vertex ids to row keys
+   */
+  public HBaseVertexHandler(EPGMVertexFactory<V> vertexFactory, RowKeyStrategy rowKeyStrategy) {
+    super(rowKeyStrategy);
     this.vertexFactory = vertexFactory;
   }
 
@@ -92,7 +103,7 @@ public class HBaseVertexHandler<V extends EPGMVertex, E extends EPGMEdge>
     tableDescriptor.addFamily(new HColumnDescriptor(GConstants.CF_PROPERTIES));
     tableDescriptor.addFamily(new HColumnDescriptor(GConstants.CF_OUT_EDGES));
     tableDescriptor.addFamily(new HColumnDescriptor(GConstants.CF_IN_EDGES));
-    admin.createTable(tableDescriptor);
+    createPreSplitTable(admin, tableDescriptor);
   }
 
   /**
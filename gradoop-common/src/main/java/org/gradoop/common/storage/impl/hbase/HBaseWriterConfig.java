@@ -0,0 +1,194 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.storage.impl.hbase;
+
+import com.google.common.base.Preconditions;
+
+import java.io.Serializable;
+
+/**
+ * Settings of a {@link HBaseBufferedWriter}.
+ *
+ * Mutations are collected in a client side buffer which is handed over to a
+ * background flush as soon as it contains {@link #getBatchSize()} mutations or
+ * {@link #getWriteBufferSize()} bytes. At most {@link #getMaxInFlightBatches()}
+ * batches per table are sent concurrently; further writes block until one of
+ * them has completed. By default, only one batch is in flight, which keeps
+ * the mutations of each row in order.
+ */
+public class HBaseWriterConfig implements Serializable {
+
+  /**
+   * Default client side buffer size in bytes (2 MB).
+   */
+  public static final long DEFAULT_WRITE_BUFFER_SIZE = 2 * 1024 * 1024;
+
+  /**
+   * Default maximum number of mutations per batch.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  /**
+   * Default maximum number of concurrently flushed batches per table.
+   */
+  public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
+
+  /**
+   * Default number of retries of failed mutations.
+   */
+  public static final int DEFAULT_MAX_RETRIES = 3;
+
+  /**
+   * Default time to wait before the first retry in milliseconds.
+   */
+  public static final long DEFAULT_RETRY_BACKOFF = 100L;
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Maximum size of the client side buffer in bytes.
+   */
+  private long writeBufferSize = DEFAULT_WRITE_BUFFER_SIZE;
+
+  /**
+   * Maximum number of mutations per batch.
+   */
+  private int batchSize = DEFAULT_BATCH_SIZE;
+
+  /**
+   * Maximum number of concurrently flushed batches.
+   */
+  private int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
+
+  /**
+   * Number of retries of failed mutations.
+   */
+  private int maxRetries = DEFAULT_MAX_RETRIES;
+
+  /**
+   * Time to wait before the first retry in milliseconds. Doubled on each
+   * further retry.
+   */
+  private long retryBackoff = DEFAULT_RETRY_BACKOFF;
+
+  /**
+   * Returns a configuration with default settings.
+   *
+   * @return default configuration
+   */
+  public static HBaseWriterConfig getDefaultConfig() {
+    return new HBaseWriterConfig();
+  }
+
+  public long getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  /**
+   * Sets the maximum size of the client side buffer.
+   *
+   * @param writeBufferSize buffer size in bytes
+   * @return this
+   */
+  public HBaseWriterConfig setWriteBufferSize(long writeBufferSize) {
+    Preconditions.checkArgument(writeBufferSize > 0, "write buffer size must be positive");
+    this.writeBufferSize = writeBufferSize;
+    return this;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Sets the maximum number of mutations per batch.
+   *
+   * @param batchSize number of mutations
+   * @return this
+   */
+  public HBaseWriterConfig setBatchSize(int batchSize) {
+    Preconditions.checkArgument(batchSize > 0, "batch size must be positive");
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public int getMaxInFlightBatches() {
+    return maxInFlightBatches;
+  }
+
+  /**
+   * Sets the maximum number of concurrently flushed batches per table.
+   *
+   * Concurrent batches may be applied in any order, i.e. a mutation may be
+   * overwritten by an earlier mutation of the same row. Values greater than
+   * one should therefore only be used if each row is written at most once
+   * between two flushes.
+   *
+   * @param maxInFlightBatches number of batches
+   * @return this
+   */
+  public HBaseWriterConfig setMaxInFlightBatches(int maxInFlightBatches) {
+    Preconditions.checkArgument(maxInFlightBatches > 0,
+      "number of in-flight batches must be positive");
+    this.maxInFlightBatches = maxInFlightBatches;
+    return this;
+  }
+
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /**
+   * Sets the number of retries of failed mutations.
+   *
+   * @param maxRetries number of retries
+   * @return this
+   */
+  public HBaseWriterConfig setMaxRetries(int maxRetries) {
+    Preconditions.checkArgument(maxRetries >= 0, "number of retries must not be negative");
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  public long getRetryBackoff() {
+    return retryBackoff;
+  }
+
+  /**
+   * Sets the time to wait before the first retry.
+   *
+   * @param retryBackoff backoff in milliseconds
+   * @return this
+   */
+  public HBaseWriterConfig setRetryBackoff(long retryBackoff) {
+    Preconditions.checkArgument(retryBackoff >= 0, "retry backoff must not be negative");
+    this.retryBackoff = retryBackoff;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "HBaseWriterConfig{writeBufferSize=%d, batchSize=%d, maxInFlightBatches=%d, " +
+        "maxRetries=%d, retryBackoff=%d}",
+      writeBufferSize, batchSize, maxInFlightBatches, maxRetries, retryBackoff);
+  }
+}
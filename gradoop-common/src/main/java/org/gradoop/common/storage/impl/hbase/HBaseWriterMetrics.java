@@ -0,0 +1,141 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.storage.impl.hbase;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters collected by a {@link HBaseBufferedWriter}. Each flushed batch
+ * contributes its number of mutations, its size, the number of retries and
+ * the time it took until HBase acknowledged all of its mutations.
+ *
+ * All counters may be read while the writer is running.
+ */
+public class HBaseWriterMetrics {
+
+  /**
+   * Number of flushed batches.
+   */
+  private final AtomicLong batches = new AtomicLong();
+
+  /**
+   * Number of batches which could not be written.
+   */
+  private final AtomicLong failedBatches = new AtomicLong();
+
+  /**
+   * Number of written mutations.
+   */
+  private final AtomicLong mutations = new AtomicLong();
+
+  /**
+   * Estimated heap size of all written mutations in bytes.
+   */
+  private final AtomicLong bytes = new AtomicLong();
+
+  /**
+   * Number of retried batch requests.
+   */
+  private final AtomicLong retries = new AtomicLong();
+
+  /**
+   * Sum of all batch latencies in nanoseconds.
+   */
+  private final AtomicLong totalLatency = new AtomicLong();
+
+  /**
+   * Maximum batch latency in nanoseconds.
+   */
+  private final AtomicLong maxLatency = new AtomicLong();
+
+  /**
+   * Records a flushed batch.
+   *
+   * @param batchMutations  number of mutations in the batch
+   * @param batchBytes      size of the batch in bytes
+   * @param batchRetries    number of retries needed to write the batch
+   * @param latencyNanos    time until the batch was written
+   * @param failed          true, if the batch could not be written
+   */
+  void record(int batchMutations, long batchBytes, int batchRetries, long latencyNanos,
+    boolean failed) {
+    batches.incrementAndGet();
+    if (failed) {
+      failedBatches.incrementAndGet();
+    } else {
+      mutations.addAndGet(batchMutations);
+      bytes.addAndGet(batchBytes);
+    }
+    retries.addAndGet(batchRetries);
+    totalLatency.addAndGet(latencyNanos);
+    long max = maxLatency.get();
+    while (latencyNanos > max && !maxLatency.compareAndSet(max, latencyNanos)) {
+      max = maxLatency.get();
+    }
+  }
+
+  public long getBatches() {
+    return batches.get();
+  }
+
+  public long getFailedBatches() {
+    return failedBatches.get();
+  }
+
+  public long getMutations() {
+    return mutations.get();
+  }
+
+  public long getBytes() {
+    return bytes.get();
+  }
+
+  public long getRetries() {
+    return retries.get();
+  }
+
+  /**
+   * Returns the average time it took to write a batch.
+   *
+   * @return average batch latency in milliseconds
+   */
+  public double getAverageLatencyMillis() {
+    long count = batches.get();
+    return count == 0 ? 0d :
+      (double) totalLatency.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * Returns the longest time it took to write a batch.
+   *
+   * @return maximum batch latency in milliseconds
+   */
+  public double getMaxLatencyMillis() {
+    return (double) maxLatency.get() / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "batches=%d (failed=%d), mutations=%d, bytes=%d, retries=%d, " +
+        "latency avg=%.2fms max=%.2fms",
+      getBatches(), getFailedBatches(), getMutations(), getBytes(), getRetries(),
+      getAverageLatencyMillis(), getMaxLatencyMillis());
+  }
+}
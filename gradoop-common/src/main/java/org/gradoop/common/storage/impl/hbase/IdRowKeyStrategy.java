@@ -0,0 +1,63 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.storage.impl.hbase;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Uses the element id as row key. Tables start with a single region.
+ *
+ * Since ids start with a timestamp, elements created at the same time are
+ * stored in the same region, which becomes a hotspot during bulk writes.
+ */
+public class IdRowKeyStrategy implements RowKeyStrategy {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[] getRowKey(GradoopId id) {
+    return id.toByteArray();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public GradoopId getId(byte[] rowKey) {
+    return GradoopId.fromByteArray(rowKey);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[][] getSplitKeys() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return "IdRowKeyStrategy";
+  }
+}
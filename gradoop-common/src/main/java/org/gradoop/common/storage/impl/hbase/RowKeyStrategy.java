@@ -0,0 +1,52 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.storage.impl.hbase;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.Serializable;
+
+/**
+ * Maps element ids to the row keys of the element tables and defines how
+ * these tables are split into regions when they are created.
+ */
+public interface RowKeyStrategy extends Serializable {
+
+  /**
+   * Creates the row key of the element with the given id.
+   *
+   * @param id element id
+   * @return row key
+   */
+  byte[] getRowKey(GradoopId id);
+
+  /**
+   * Extracts the element id from the given row key.
+   *
+   * @param rowKey row key created by {@link #getRowKey(GradoopId)}
+   * @return element id
+   */
+  GradoopId getId(byte[] rowKey);
+
+  /**
+   * Returns the keys at which a new table is split into regions.
+   *
+   * @return split keys or {@code null} if the table starts with one region
+   */
+  byte[][] getSplitKeys();
+}
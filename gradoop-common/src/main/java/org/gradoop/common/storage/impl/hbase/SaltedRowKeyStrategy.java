@@ -0,0 +1,118 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.storage.impl.hbase;
+
+import com.google.common.base.Preconditions;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.Arrays;
+
+/**
+ * Prefixes the element id with a one byte salt which is derived from a hash
+ * of the id:
+ *
+ * <pre>
+ * row key: [hash(id) mod buckets][id]
+ * </pre>
+ *
+ * New tables are pre-split into one region per bucket, so that consecutive
+ * ids are written to different regions. Since each bucket is a region, table
+ * scans are still split into one input split per bucket.
+ */
+public class SaltedRowKeyStrategy implements RowKeyStrategy {
+
+  /**
+   * Maximum number of buckets, i.e. distinct values of the salt byte.
+   */
+  public static final int MAX_BUCKETS = 256;
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Number of salt buckets.
+   */
+  private final int buckets;
+
+  /**
+   * Creates a new salted row key strategy.
+   *
+   * @param buckets number of salt buckets (1 to {@value #MAX_BUCKETS})
+   */
+  public SaltedRowKeyStrategy(int buckets) {
+    Preconditions.checkArgument(buckets > 0 && buckets <= MAX_BUCKETS,
+      "Number of buckets must be between 1 and " + MAX_BUCKETS);
+    this.buckets = buckets;
+  }
+
+  public int getBuckets() {
+    return buckets;
+  }
+
+  /**
+   * Returns the bucket of the given id.
+   *
+   * @param id element id
+   * @return bucket
+   */
+  public int getBucket(GradoopId id) {
+    return (Bytes.hashCode(id.toByteArray()) & Integer.MAX_VALUE) % buckets;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[] getRowKey(GradoopId id) {
+    byte[] rowKey = new byte[GradoopId.ID_SIZE + 1];
+    rowKey[0] = (byte) getBucket(id);
+    System.arraycopy(id.toByteArray(), 0, rowKey, 1, GradoopId.ID_SIZE);
+    return rowKey;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public GradoopId getId(byte[] rowKey) {
+    return GradoopId.fromByteArray(Arrays.copyOfRange(rowKey, 1, rowKey.length));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[][] getSplitKeys() {
+    if (buckets == 1) {
+      return null;
+    }
+    byte[][] splitKeys = new byte[buckets - 1][];
+    for (int bucket = 1; bucket < buckets; bucket++) {
+      splitKeys[bucket - 1] = new byte[] {(byte) bucket};
+    }
+    return splitKeys;
+  }
+
+  @Override
+  public String toString() {
+    return "SaltedRowKeyStrategy{buckets=" + buckets + "}";
+  }
+}
@@ -34,6 +34,11 @@ public final class GConstants {
    */
   public static final String DEFAULT_TABLE_EDGES = "edges";
 
+  /**
+   * Default HBase table name for the secondary index.
+   */
+  public static final String DEFAULT_TABLE_INDEX = "index";
+
   /**
    * Default label for unlabeled vertices.
    */
@@ -84,6 +89,11 @@ public final class GConstants {
    * Column family name for incoming edges.
    */
   public static final String CF_IN_EDGES = "ie";
+
+  /**
+   * Column family name for index entries.
+   */
+  public static final String CF_INDEX = "i";
   /**
    * Column identifier for source vertex identifier.
    */
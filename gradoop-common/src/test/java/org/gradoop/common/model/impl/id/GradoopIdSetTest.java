@@ -0,0 +1,374 @@
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class GradoopIdSetTest {
+
+  @Test
+  public void testAdd() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    GradoopIdSet ids = new GradoopIdSet();
+
+    assertThat(ids.size(), is(0));
+
+    ids.add(id1);
+    assertThat(ids.size(), is(1));
+    assertTrue(ids.contains(id1));
+    // must not change
+    ids.add(id1);
+    assertThat(ids.size(), is(1));
+    assertTrue(ids.contains(id1));
+    // must change
+    ids.add(id2);
+    assertThat(ids.size(), is(2));
+    assertTrue(ids.contains(id1));
+    assertTrue(ids.contains(id2));
+  }
+
+  @Test
+  public void testAddKeepsOrder() throws Exception {
+    List<GradoopId> ids = createIds(100);
+    List<GradoopId> shuffled = new ArrayList<>(ids);
+    Collections.shuffle(shuffled);
+
+    GradoopIdSet set = new GradoopIdSet();
+    for (GradoopId id : shuffled) {
+      set.add(id);
+    }
+
+    Collections.sort(ids);
+    assertThat(set.size(), is(100));
+    assertEquals(ids, toList(set));
+  }
+
+  @Test
+  public void testContains() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    GradoopIdSet ids = new GradoopIdSet();
+    ids.add(id1);
+
+    assertThat(ids.size(), is(1));
+    assertTrue(ids.contains(id1));
+    assertFalse(ids.contains(id2));
+  }
+
+  @Test
+  public void testAddAllCollection() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    GradoopIdSet ids = new GradoopIdSet();
+    ids.addAll(Arrays.asList(id1, id2));
+
+    assertThat(ids.size(), is(2));
+    assertTrue(ids.contains(id1));
+    assertTrue(ids.contains(id2));
+    assertFalse(ids.contains(id3));
+
+    ids.addAll(Arrays.asList(id1, id2, id3));
+    assertThat(ids.size(), is(3));
+  }
+
+  @Test
+  public void testAddAllGradoopIdSet() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopIdSet set1 = new GradoopIdSet();
+    set1.add(id1);
+    set1.add(id2);
+
+    GradoopIdSet set2 = new GradoopIdSet();
+    set2.addAll(set1);
+
+    assertThat(set2.size(), is(2));
+    assertTrue(set2.contains(id1));
+    assertTrue(set2.contains(id2));
+
+    set2.addAll(set1);
+    assertThat(set2.size(), is(2));
+  }
+
+  @Test
+  public void testContainsAllCollection() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    GradoopIdSet ids = new GradoopIdSet();
+    ids.addAll(Arrays.asList(id1, id2));
+
+    assertTrue(ids.containsAll(Arrays.asList(id1)));
+    assertTrue(ids.containsAll(Arrays.asList(id2)));
+    assertTrue(ids.containsAll(Arrays.asList(id1, id2)));
+    assertFalse(ids.containsAll(Arrays.asList(id3)));
+    assertFalse(ids.containsAll(Arrays.asList(id1, id3)));
+  }
+
+  @Test
+  public void testContainsAllGradoopIdSet() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    GradoopIdSet ids = new GradoopIdSet();
+    ids.addAll(Arrays.asList(id1, id2));
+
+    assertTrue(ids.containsAll(GradoopIdSet.fromExisting(id1)));
+    assertTrue(ids.containsAll(GradoopIdSet.fromExisting(id2)));
+    assertTrue(ids.containsAll(GradoopIdSet.fromExisting(id1, id2)));
+    assertTrue(ids.containsAll(new GradoopIdSet()));
+    assertFalse(ids.containsAll(GradoopIdSet.fromExisting(id3)));
+    assertFalse(ids.containsAll(GradoopIdSet.fromExisting(id1, id3)));
+    assertFalse(ids.containsAll(GradoopIdSet.fromExisting(id1, id2, id3)));
+  }
+
+  @Test
+  public void testContainsAllLargeGradoopIdSet() throws Exception {
+    List<GradoopId> ids = createIds(1000);
+    GradoopIdSet large = GradoopIdSet.fromExisting(ids);
+    GradoopIdSet half = GradoopIdSet.fromExisting(ids.subList(0, 500));
+
+    assertTrue(large.containsAll(half));
+    assertFalse(half.containsAll(large));
+
+    half.add(GradoopId.get());
+    assertFalse(large.containsAll(half));
+  }
+
+  @Test
+  public void testContainsAny() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    GradoopIdSet ids = new GradoopIdSet();
+    ids.addAll(Arrays.asList(id1, id2));
+
+    assertTrue(ids.containsAny(Arrays.asList(id1)));
+    assertTrue(ids.containsAny(Arrays.asList(id2)));
+    assertTrue(ids.containsAny(Arrays.asList(id1, id2)));
+    assertFalse(ids.containsAny(Arrays.asList(id3)));
+    assertTrue(ids.containsAny(Arrays.asList(id1, id3)));
+  }
+
+  @Test
+  public void testContainsAny1() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    GradoopIdSet ids = new GradoopIdSet();
+    ids.addAll(Arrays.asList(id1, id2));
+
+    assertTrue(ids.containsAny(GradoopIdSet.fromExisting(id1)));
+    assertTrue(ids.containsAny(GradoopIdSet.fromExisting(id2)));
+    assertTrue(ids.containsAny(GradoopIdSet.fromExisting(id1, id2)));
+    assertFalse(ids.containsAny(GradoopIdSet.fromExisting(id3)));
+    assertFalse(ids.containsAny(new GradoopIdSet()));
+    assertTrue(ids.containsAny(GradoopIdSet.fromExisting(id1, id3)));
+  }
+
+  @Test
+  public void testContainsAnyLargeGradoopIdSet() throws Exception {
+    List<GradoopId> ids = createIds(1000);
+    GradoopIdSet first = GradoopIdSet.fromExisting(ids.subList(0, 500));
+    GradoopIdSet second = GradoopIdSet.fromExisting(ids.subList(500, 1000));
+
+    assertFalse(first.containsAny(second));
+    assertFalse(second.containsAny(first));
+
+    second.add(ids.get(250));
+    assertTrue(first.containsAny(second));
+    assertTrue(second.containsAny(first));
+    assertTrue(first.containsAny(GradoopIdSet.fromExisting(ids.get(250))));
+    assertTrue(GradoopIdSet.fromExisting(ids.get(250)).containsAny(first));
+  }
+
+  @Test
+  public void testIntersect() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    GradoopIdSet set1 = GradoopIdSet.fromExisting(id1, id2);
+    GradoopIdSet set2 = GradoopIdSet.fromExisting(id2, id3);
+
+    assertEquals(GradoopIdSet.fromExisting(id2), set1.intersect(set2));
+    assertEquals(GradoopIdSet.fromExisting(id2), set2.intersect(set1));
+    assertTrue(set1.intersect(new GradoopIdSet()).isEmpty());
+    assertTrue(set1.intersect(GradoopIdSet.fromExisting(id3)).isEmpty());
+  }
+
+  @Test
+  public void testUnion() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    GradoopIdSet set1 = GradoopIdSet.fromExisting(id1, id2);
+    GradoopIdSet set2 = GradoopIdSet.fromExisting(id2, id3);
+
+    assertEquals(GradoopIdSet.fromExisting(id1, id2, id3), set1.union(set2));
+    assertEquals(set1, set1.union(new GradoopIdSet()));
+    assertEquals(set1, new GradoopIdSet().union(set1));
+    // inputs must not change
+    assertThat(set1.size(), is(2));
+    assertThat(set2.size(), is(2));
+  }
+
+  @Test
+  public void testIsEmpty() throws Exception {
+    GradoopIdSet set1 = GradoopIdSet.fromExisting(GradoopId.get());
+    GradoopIdSet set2 = new GradoopIdSet();
+
+    assertFalse(set1.isEmpty());
+    assertTrue(set2.isEmpty());
+  }
+
+  @Test
+  public void testWriteAndReadFields() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    GradoopIdSet idsWrite = GradoopIdSet.fromExisting(id1, id2);
+
+    // write to byte[]
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DataOutputView dataOutputView = new DataOutputViewStreamWrapper(out);
+    idsWrite.write(dataOutputView);
+
+    // read from byte[]
+    GradoopIdSet idsRead = new GradoopIdSet();
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    DataInputView dataInputView = new DataInputViewStreamWrapper(in);
+    idsRead.read(dataInputView);
+
+    assertThat(idsRead.size(), is(2));
+    assertTrue(idsRead.contains(id1));
+    assertTrue(idsRead.contains(id2));
+    assertEquals(idsWrite, idsRead);
+  }
+
+  @Test
+  public void testFromByteArray() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    // unsorted with duplicates, e.g. written by a GradoopIdList
+    byte[] bytes = GradoopIdList.fromExisting(id2, id1, id2).toByteArray();
+
+    GradoopIdSet ids = GradoopIdSet.fromByteArray(bytes);
+
+    assertThat(ids.size(), is(2));
+    assertEquals(GradoopIdSet.fromExisting(id1, id2), ids);
+  }
+
+  @Test
+  public void testIterator() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    GradoopIdSet ids = GradoopIdSet.fromExisting(id1, id2);
+
+    Iterator<GradoopId> idsIterator = ids.iterator();
+
+    assertTrue(idsIterator.hasNext());
+    assertNotNull(idsIterator.next());
+    assertTrue(idsIterator.hasNext());
+    assertNotNull(idsIterator.next());
+    assertFalse(idsIterator.hasNext());
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void testIteratorException() throws Exception {
+    GradoopIdSet ids = new GradoopIdSet();
+
+    Iterator<GradoopId> idsIterator = ids.iterator();
+
+    assertFalse(idsIterator.hasNext());
+    idsIterator.next();
+  }
+
+  @Test
+  public void testClear() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    GradoopIdSet ids = new GradoopIdSet();
+    ids.add(id1);
+    ids.add(id2);
+
+    assertThat(ids.size(), is(2));
+
+    ids.clear();
+
+    assertThat(ids.size(), is(0));
+  }
+
+  @Test
+  public void testFromExisting() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+    GradoopIdSet ids = GradoopIdSet.fromExisting(id1, id2, id3, id1);
+    assertThat(ids.size(), is(3));
+  }
+
+  @Test
+  public void testEquals(){
+    int idCount = 100;
+    List<GradoopId> ids = createIds(idCount);
+
+    GradoopIdSet set1 = GradoopIdSet.fromExisting(ids.toArray(new GradoopId[idCount]));
+    GradoopIdSet set2 = GradoopIdSet.fromExisting(ids.toArray(new GradoopId[idCount]));
+
+    Collections.shuffle(ids);
+
+    GradoopIdSet set3 = GradoopIdSet.fromExisting(ids.toArray(new GradoopId[idCount]));
+
+    assertTrue("equals failed for same object", set1.equals(set1));
+    assertTrue("equals failed for same ids in same order", set1.equals(set2));
+    assertTrue("equals failed for same ids in different order", set1.equals(set3));
+
+    assertTrue("hashCode failed for same object", set1.hashCode() == set1.hashCode());
+    assertTrue("hashCode failed for same ids in same order", set1.hashCode() == set2.hashCode());
+    assertTrue("hashCode failed for same ids in different order", set1.hashCode() == set3.hashCode());
+  }
+
+  private static List<GradoopId> createIds(int count) {
+    List<GradoopId> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(GradoopId.get());
+    }
+    return ids;
+  }
+
+  private static List<GradoopId> toList(GradoopIdSet set) {
+    List<GradoopId> ids = new ArrayList<>(set.size());
+    for (GradoopId id : set) {
+      ids.add(id);
+    }
+    return ids;
+  }
+}
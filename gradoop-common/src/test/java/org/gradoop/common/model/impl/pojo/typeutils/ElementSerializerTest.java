@@ -0,0 +1,214 @@
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.gradoop.common.GradoopTestUtils.*;
+import static org.junit.Assert.*;
+
+public class ElementSerializerTest {
+
+  @Test
+  public void testVertexRoundTrip() throws IOException {
+    Vertex vertex = new Vertex(GradoopId.get(), "A", createProperties(),
+      GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get()));
+
+    Vertex result = deserialize(new VertexSerializer(), serialize(new VertexSerializer(), vertex));
+
+    assertEquals(vertex.getId(), result.getId());
+    assertEquals(vertex.getLabel(), result.getLabel());
+    assertEquals(vertex.getGraphIds(), result.getGraphIds());
+    assertEquals(vertex.getProperties(), result.getProperties());
+  }
+
+  @Test
+  public void testEdgeRoundTrip() throws IOException {
+    Edge edge = new Edge(GradoopId.get(), "a", GradoopId.get(), GradoopId.get(),
+      createProperties(), GradoopIdSet.fromExisting(GradoopId.get()));
+
+    Edge result = deserialize(new EdgeSerializer(), serialize(new EdgeSerializer(), edge));
+
+    assertEquals(edge.getId(), result.getId());
+    assertEquals(edge.getSourceId(), result.getSourceId());
+    assertEquals(edge.getTargetId(), result.getTargetId());
+    assertEquals(edge.getLabel(), result.getLabel());
+    assertEquals(edge.getGraphIds(), result.getGraphIds());
+    assertEquals(edge.getProperties(), result.getProperties());
+  }
+
+  @Test
+  public void testGraphHeadRoundTrip() throws IOException {
+    GraphHead graphHead = new GraphHead(GradoopId.get(), "G", createProperties());
+
+    GraphHead result = deserialize(new GraphHeadSerializer(),
+      serialize(new GraphHeadSerializer(), graphHead));
+
+    assertEquals(graphHead.getId(), result.getId());
+    assertEquals(graphHead.getLabel(), result.getLabel());
+    assertEquals(graphHead.getProperties(), result.getProperties());
+  }
+
+  @Test
+  public void testRoundTripWithDictionary() throws IOException {
+    VertexSerializer serializer =
+      new VertexSerializer(PropertyKeyDictionary.create(KEY_0, KEY_2));
+    Vertex vertex = new Vertex(GradoopId.get(), "A", createProperties(), null);
+
+    byte[] encoded = serialize(serializer, vertex);
+    Vertex result = deserialize(serializer.duplicate(), encoded);
+
+    assertEquals(vertex.getProperties(), result.getProperties());
+    assertTrue(encoded.length < serialize(new VertexSerializer(), vertex).length);
+  }
+
+  @Test
+  public void testCreateSerializerWithRegisteredDictionary() {
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.create(KEY_0, KEY_1);
+    ExecutionConfig config = new ExecutionConfig();
+    PropertyKeyDictionarySerializer.register(config, dictionary);
+    ElementTypeInfo<Vertex> typeInfo =
+      new ElementTypeInfo<>(Vertex.class, new VertexSerializer());
+
+    ElementSerializer<Vertex> serializer =
+      (ElementSerializer<Vertex>) typeInfo.createSerializer(config);
+    ElementSerializer<Vertex> plainSerializer =
+      (ElementSerializer<Vertex>) typeInfo.createSerializer(new ExecutionConfig());
+
+    assertEquals(dictionary, serializer.getDictionary());
+    assertNull(plainSerializer.getDictionary());
+    assertNotEquals(serializer, plainSerializer);
+  }
+
+  @Test
+  public void testRoundTripWithNullFields() throws IOException {
+    Vertex vertex = new Vertex(GradoopId.get(), null, null, null);
+
+    Vertex result = deserialize(new VertexSerializer(), serialize(new VertexSerializer(), vertex));
+
+    assertEquals(vertex.getId(), result.getId());
+    assertNull(result.getLabel());
+    assertNull(result.getGraphIds());
+    assertNull(result.getProperties());
+  }
+
+  @Test
+  public void testBinaryCopy() throws IOException {
+    EdgeSerializer serializer = new EdgeSerializer();
+    Edge edge = new Edge(GradoopId.get(), "a", GradoopId.get(), GradoopId.get(),
+      createProperties(), GradoopIdSet.fromExisting(GradoopId.get()));
+    byte[] serialized = serialize(serializer, edge);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    serializer.copy(
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(serialized)),
+      new DataOutputViewStreamWrapper(outputStream));
+
+    assertArrayEquals(serialized, outputStream.toByteArray());
+  }
+
+  @Test
+  public void testDeepCopy() {
+    Vertex vertex = new Vertex(GradoopId.get(), "A", createProperties(),
+      GradoopIdSet.fromExisting(GradoopId.get()));
+
+    Vertex copy = new VertexSerializer().copy(vertex);
+    copy.setProperty(KEY_0, "changed");
+    copy.getGraphIds().add(GradoopId.get());
+
+    assertEquals(vertex.getId(), copy.getId());
+    assertEquals(vertex.getLabel(), copy.getLabel());
+    assertEquals(BOOL_VAL_1, vertex.getPropertyValue(KEY_0).getBoolean());
+    assertEquals(1, vertex.getGraphCount());
+  }
+
+  @Test
+  public void testCompareSerialized() throws IOException {
+    EdgeSerializer serializer = new EdgeSerializer();
+    GradoopId smaller = GradoopId.get();
+    GradoopId greater = GradoopId.get();
+
+    Edge first = new Edge(GradoopId.get(), "a", GradoopId.get(), greater, null, null);
+    Edge second = new Edge(GradoopId.get(), "a", GradoopId.get(), smaller, null, null);
+
+    for (boolean ascending : new boolean[] {true, false}) {
+      ElementIdComparator<Edge> comparator =
+        new ElementIdComparator<>(ElementIdComparator.IdField.TARGET_ID, ascending);
+
+      int expected = comparator.compare(first, second);
+      assertEquals(ascending ? 1 : -1, expected);
+      assertEquals(expected, comparator.compareSerialized(
+        new DataInputViewStreamWrapper(
+          new ByteArrayInputStream(serialize(serializer, first))),
+        new DataInputViewStreamWrapper(
+          new ByteArrayInputStream(serialize(serializer, second)))));
+    }
+  }
+
+  @Test
+  public void testCompareSerializedLabel() throws IOException {
+    EdgeSerializer serializer = new EdgeSerializer();
+
+    Edge first = new Edge(GradoopId.get(), "b", GradoopId.get(), GradoopId.get(), null, null);
+    Edge second = new Edge(GradoopId.get(), "a", GradoopId.get(), GradoopId.get(), null, null);
+
+    for (boolean ascending : new boolean[] {true, false}) {
+      ElementLabelComparator<Edge> comparator = new ElementLabelComparator<>(3, ascending);
+
+      int expected = comparator.compare(first, second);
+      assertEquals(ascending ? 1 : -1, Integer.signum(expected));
+      assertEquals(Integer.signum(expected), Integer.signum(comparator.compareSerialized(
+        new DataInputViewStreamWrapper(
+          new ByteArrayInputStream(serialize(serializer, first))),
+        new DataInputViewStreamWrapper(
+          new ByteArrayInputStream(serialize(serializer, second))))));
+    }
+  }
+
+  @Test
+  public void testCreateLabelComparator() {
+    ElementTypeInfo<Vertex> typeInfo =
+      new ElementTypeInfo<>(Vertex.class, new VertexSerializer());
+
+    TypeComparator<Vertex> comparator = typeInfo.createComparator(
+      new int[] {typeInfo.getFieldIndex("label")}, new boolean[] {true}, 0,
+      new ExecutionConfig());
+
+    assertTrue(comparator instanceof ElementLabelComparator);
+  }
+
+  private static Properties createProperties() {
+    Properties properties = Properties.create();
+    properties.set(KEY_0, BOOL_VAL_1);
+    properties.set(KEY_1, INT_VAL_2);
+    properties.set(KEY_2, STRING_VAL_6);
+    return properties;
+  }
+
+  private static <T> byte[] serialize(TypeSerializer<T> serializer, T record)
+    throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    serializer.serialize(record, new DataOutputViewStreamWrapper(outputStream));
+    return outputStream.toByteArray();
+  }
+
+  private static <T> T deserialize(TypeSerializer<T> serializer, byte[] bytes)
+    throws IOException {
+    return serializer.deserialize(
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(bytes)));
+  }
+}
@@ -3,6 +3,11 @@ package org.gradoop.common.model.impl.properties;
 import com.google.common.collect.Lists;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -197,4 +202,62 @@ public class PropertiesTest {
 
     assertEquals(propertiesIn, propertiesOut);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testWriteAndReadFieldsWithDictionary() throws Exception {
+    Properties propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    // KEY_0 is not in the dictionary and must be written as string
+    propertiesIn.set(KEY_0, "unknown");
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.create(KEY_1, KEY_2, KEY_3);
+
+    Properties propertiesOut = new Properties();
+    propertiesOut.readFields(
+      toInput(serialize(propertiesIn, dictionary)), dictionary);
+
+    assertEquals(propertiesIn, propertiesOut);
+  }
+
+  @Test
+  public void testWriteWithDictionaryIsSmaller() throws Exception {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+
+    int plainSize = serialize(properties, null).length;
+    int encodedSize = serialize(properties,
+      PropertyKeyDictionary.create(SUPPORTED_PROPERTIES.keySet())).length;
+
+    assertTrue(encodedSize < plainSize);
+  }
+
+  @Test(expected = IOException.class)
+  public void testReadEncodedWithoutDictionary() throws Exception {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+
+    byte[] bytes = serialize(properties,
+      PropertyKeyDictionary.create(SUPPORTED_PROPERTIES.keySet()));
+
+    new Properties().readFields(toInput(bytes));
+  }
+
+  @Test(expected = IOException.class)
+  public void testReadEncodedWithDifferentDictionary() throws Exception {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+
+    byte[] bytes = serialize(properties,
+      PropertyKeyDictionary.create(SUPPORTED_PROPERTIES.keySet()));
+
+    // ids of the first dictionary must not be resolved by another one
+    new Properties().readFields(toInput(bytes),
+      PropertyKeyDictionary.create(KEY_0, KEY_1, KEY_2));
+  }
+
+  private static byte[] serialize(Properties properties, PropertyKeyDictionary dictionary)
+    throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    properties.write(new DataOutputStream(outputStream), dictionary);
+    return outputStream.toByteArray();
+  }
+
+  private static DataInputStream toInput(byte[] bytes) {
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+}
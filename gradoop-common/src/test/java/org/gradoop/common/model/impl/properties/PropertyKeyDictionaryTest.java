@@ -0,0 +1,58 @@
+package org.gradoop.common.model.impl.properties;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class PropertyKeyDictionaryTest {
+
+  @Test
+  public void testCreate() throws Exception {
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.create("b", "a", "c", "a");
+
+    assertThat(dictionary.size(), is(3));
+    assertEquals(Arrays.asList("a", "b", "c"), dictionary.getKeys());
+  }
+
+  @Test
+  public void testGetIdAndKey() throws Exception {
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.create("a", "b");
+
+    assertThat(dictionary.getId("a"), is(0));
+    assertThat(dictionary.getId("b"), is(1));
+    assertThat(dictionary.getId("c"), is(-1));
+    assertThat(dictionary.getKey(0), is("a"));
+    assertThat(dictionary.getKey(1), is("b"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetUnknownKey() throws Exception {
+    PropertyKeyDictionary.create("a").getKey(1);
+  }
+
+  @Test
+  public void testEqualsAndHashCode() throws Exception {
+    PropertyKeyDictionary dictionary1 = PropertyKeyDictionary.create("a", "b");
+    PropertyKeyDictionary dictionary2 = PropertyKeyDictionary.create("b", "a");
+    PropertyKeyDictionary dictionary3 = PropertyKeyDictionary.create("a", "c");
+
+    assertEquals(dictionary1, dictionary2);
+    assertEquals(dictionary1.hashCode(), dictionary2.hashCode());
+    assertNotEquals(dictionary1, dictionary3);
+  }
+
+  @Test
+  public void testGetFingerprint() throws Exception {
+    PropertyKeyDictionary dictionary1 = PropertyKeyDictionary.create("a", "b");
+    PropertyKeyDictionary dictionary2 = PropertyKeyDictionary.create("b", "a");
+    PropertyKeyDictionary dictionary3 = PropertyKeyDictionary.create("a", "c");
+    PropertyKeyDictionary dictionary4 = PropertyKeyDictionary.create("ab");
+
+    assertEquals(dictionary1.getFingerprint(), dictionary2.getFingerprint());
+    assertNotEquals(dictionary1.getFingerprint(), dictionary3.getFingerprint());
+    assertNotEquals(dictionary1.getFingerprint(), dictionary4.getFingerprint());
+  }
+}
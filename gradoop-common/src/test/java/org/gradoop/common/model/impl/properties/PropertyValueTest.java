@@ -742,6 +742,46 @@ public class PropertyValueTest {
       create(GradoopId.fromString("583ff8ffbd7d222690a90999")),
       create(GradoopId.fromString("583ff8ffbd7d222690a9099a"))
     );
+
+    validateCompareTo(create("a"), create("a"), create("c"));
+    validateCompareTo(create("ab"), create("ab"), create("abc"));
+
+    validateCompareTo(create(LocalDate.of(-10, 5, 1)),
+      create(LocalDate.of(-10, 5, 1)),
+      create(LocalDate.of(2017, 1, 31)));
+    validateCompareTo(create(LocalTime.of(9, 30)),
+      create(LocalTime.of(9, 30)),
+      create(LocalTime.of(10, 0)));
+    validateCompareTo(create(LocalDateTime.of(2017, 1, 1, 23, 59)),
+      create(LocalDateTime.of(2017, 1, 1, 23, 59)),
+      create(LocalDateTime.of(2017, 1, 2, 0, 0)));
+  }
+
+  @Test
+  public void testCompareToIsNormalized() {
+    assertEquals(-1, create("a").compareTo(create("z")));
+    assertEquals(1, create("z").compareTo(create("a")));
+    assertEquals(-1, create(1.0).compareTo(create(100.0)));
+  }
+
+  @Test
+  public void testSetSameTypeInPlace() {
+    PropertyValue p = create(10L);
+    byte[] rawBytes = p.getRawBytes();
+    int hashCode = p.hashCode();
+
+    p.setLong(12L);
+
+    assertSame(rawBytes, p.getRawBytes());
+    assertEquals(12L, p.getLong());
+    assertEquals(create(12L), p);
+    assertEquals(create(12L).hashCode(), p.hashCode());
+    assertNotEquals(hashCode, p.hashCode());
+
+    p.setInt(10);
+    assertTrue(p.isInt());
+    assertEquals(10, p.getInt());
+    assertEquals(create(10).hashCode(), p.hashCode());
   }
 
   @Test(expected = IllegalArgumentException.class)
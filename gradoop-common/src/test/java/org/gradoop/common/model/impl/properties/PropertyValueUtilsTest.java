@@ -0,0 +1,51 @@
+package org.gradoop.common.model.impl.properties;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.gradoop.common.model.impl.properties.PropertyValue.create;
+import static org.junit.Assert.*;
+
+public class PropertyValueUtilsTest {
+
+  @Test
+  public void testNumericCompare() {
+    assertTrue(PropertyValueUtils.Numeric.compare(create(1), create(2)) < 0);
+    assertTrue(PropertyValueUtils.Numeric.compare(create(2L), create(1)) > 0);
+    assertTrue(PropertyValueUtils.Numeric.compare(create(1), create(1.0)) == 0);
+    assertTrue(PropertyValueUtils.Numeric.compare(create(1.5F), create(2L)) < 0);
+    assertTrue(PropertyValueUtils.Numeric.compare(
+      create(new BigDecimal("2.5")), create(2)) > 0);
+  }
+
+  @Test
+  public void testNumericMinMax() {
+    PropertyValue small = create(1);
+    PropertyValue large = create(3L);
+
+    assertSame(small, PropertyValueUtils.Numeric.min(small, large));
+    assertSame(large, PropertyValueUtils.Numeric.max(small, large));
+  }
+
+  @Test
+  public void testNumericAddInPlace() {
+    PropertyValue sum = create(0L);
+    byte[] rawBytes = sum.getRawBytes();
+
+    for (int i = 1; i <= 10; i++) {
+      sum = PropertyValueUtils.Numeric.add(sum, create((long) i));
+    }
+
+    assertEquals(55L, sum.getLong());
+    assertSame(rawBytes, sum.getRawBytes());
+  }
+
+  @Test
+  public void testNumericAddWithDifferentTypes() {
+    PropertyValue sum = PropertyValueUtils.Numeric.add(create(1), create(2L));
+
+    assertTrue(sum.isLong());
+    assertEquals(3L, sum.getLong());
+  }
+}
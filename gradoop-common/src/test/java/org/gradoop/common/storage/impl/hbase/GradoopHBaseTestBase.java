@@ -78,11 +78,22 @@ public class GradoopHBaseTestBase {
    * @return empty HBase graph store
    */
   public static HBaseEPGMStore<GraphHead, Vertex, Edge> createEmptyEPGMStore() {
+    return createEmptyEPGMStore(GradoopHBaseConfig.getDefaultConfig());
+  }
+
+  /**
+   * Initializes and returns an empty graph store using the given
+   * configuration.
+   *
+   * @param gradoopConfig store configuration
+   * @return empty HBase graph store
+   */
+  public static HBaseEPGMStore<GraphHead, Vertex, Edge> createEmptyEPGMStore(
+    GradoopHBaseConfig<GraphHead, Vertex, Edge> gradoopConfig) {
     Configuration config = utility.getConfiguration();
 
-    HBaseEPGMStoreFactory.deleteEPGMStore(config);
-    return HBaseEPGMStoreFactory.createOrOpenEPGMStore(config,
-      GradoopHBaseConfig.getDefaultConfig());
+    HBaseEPGMStoreFactory.deleteEPGMStore(config, gradoopConfig);
+    return HBaseEPGMStoreFactory.createOrOpenEPGMStore(config, gradoopConfig);
   }
 
   /**
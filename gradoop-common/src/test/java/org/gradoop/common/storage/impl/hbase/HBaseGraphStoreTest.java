@@ -19,12 +19,13 @@ package org.gradoop.common.storage.impl.hbase;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import org.apache.hadoop.hbase.client.HTable;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.api.entities.EPGMVertexFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -169,6 +170,125 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     graphStore.close();
   }
 
+  /**
+   * Writes vertices in small asynchronous batches and checks the data and the
+   * collected writer metrics.
+   *
+   * @throws IOException
+   */
+  @Test
+  public void bufferedWriteTest() throws IOException {
+    HBaseEPGMStore<GraphHead, Vertex, Edge> graphStore = createEmptyEPGMStore();
+    graphStore.setWriterConfig(HBaseWriterConfig.getDefaultConfig()
+      .setBatchSize(2)
+      .setMaxInFlightBatches(2));
+    graphStore.setAutoFlush(false);
+
+    List<PersistentVertex<Edge>> vertices =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentVertices());
+    for (PersistentVertex<Edge> v : vertices) {
+      graphStore.writeVertex(v);
+    }
+    graphStore.flush();
+
+    validateEPGMElementCollections(
+      vertices,
+      Lists.newArrayList(graphStore.getVertexSpace())
+    );
+
+    HBaseWriterMetrics metrics =
+      graphStore.getWriterMetrics().get(graphStore.getVertexTableName());
+    assertEquals(vertices.size(), metrics.getMutations());
+    assertEquals((vertices.size() + 1) / 2, metrics.getBatches());
+    assertEquals(0L, metrics.getFailedBatches());
+    assertTrue(metrics.getBytes() > 0L);
+
+    graphStore.close();
+  }
+
+  /**
+   * Writes vertices to an indexed store and looks them up by label and by the
+   * value of an indexed and a non-indexed property.
+   *
+   * @throws IOException
+   */
+  @Test
+  public void indexLookupTest() throws IOException {
+    HBaseEPGMStore<GraphHead, Vertex, Edge> graphStore = createEmptyEPGMStore(
+      GradoopHBaseConfig.getDefaultConfig().withIndex("index", "city"));
+
+    List<PersistentVertex<Edge>> vertices =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentVertices());
+    List<PersistentVertex<Edge>> persons = Lists.newArrayList();
+    List<PersistentVertex<Edge>> personsInLeipzig = Lists.newArrayList();
+    List<PersistentVertex<Edge>> personsAged30 = Lists.newArrayList();
+    for (PersistentVertex<Edge> v : vertices) {
+      graphStore.writeVertex(v);
+      if (v.getLabel().equals("Person")) {
+        persons.add(v);
+        if (v.getPropertyValue("city").getString().equals("Leipzig")) {
+          personsInLeipzig.add(v);
+        }
+        if (v.getPropertyValue("age").getInt() == 30) {
+          personsAged30.add(v);
+        }
+      }
+    }
+    graphStore.flush();
+
+    assertTrue(graphStore.isIndexed());
+    validateEPGMElementCollections(persons, graphStore.getVerticesByLabel("Person"));
+    validateEPGMElementCollections(personsInLeipzig,
+      graphStore.getVerticesByProperty("Person", "city", "Leipzig"));
+    validateEPGMElementCollections(personsAged30,
+      graphStore.getVerticesByProperty("Person", "age", 30));
+    assertTrue(graphStore.getVerticesByLabel("Unknown").isEmpty());
+
+    graphStore.close();
+  }
+
+  /**
+   * Writes the social network to a store with salted row keys, checks that
+   * the tables have been pre-split and reads the data again.
+   *
+   * @throws IOException
+   */
+  @Test
+  public void saltedRowKeyTest() throws IOException {
+    HBaseEPGMStore<GraphHead, Vertex, Edge> graphStore = createEmptyEPGMStore(
+      GradoopHBaseConfig.getDefaultConfig(new SaltedRowKeyStrategy(4)));
+
+    List<PersistentVertex<Edge>> vertices =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentVertices());
+    List<PersistentEdge<Vertex>> edges =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentEdges());
+    for (PersistentVertex<Edge> v : vertices) {
+      graphStore.writeVertex(v);
+    }
+    for (PersistentEdge<Vertex> e : edges) {
+      graphStore.writeEdge(e);
+    }
+    graphStore.flush();
+
+    for (String tableName : new String[] {
+      graphStore.getVertexTableName(), graphStore.getEdgeTableName(),
+      graphStore.getGraphHeadName()}) {
+      try (HTable table = new HTable(utility.getConfiguration(), tableName)) {
+        assertEquals(4, table.getStartKeys().length);
+      }
+    }
+
+    validateEPGMElementCollections(vertices, Lists.newArrayList(graphStore.getVertexSpace()));
+    validateEPGMGraphElementCollections(vertices,
+      Lists.newArrayList(graphStore.getVertexSpace()));
+    validateEPGMElementCollections(edges, Lists.newArrayList(graphStore.getEdgeSpace()));
+    for (PersistentVertex<Edge> v : vertices) {
+      validateEPGMElements(v, graphStore.readVertex(v.getId()));
+    }
+
+    graphStore.close();
+  }
+
   /**
    * Tries to add an unsupported property type {@link List} as property value.
    */
@@ -190,7 +310,7 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
 
     final Set<Edge> outEdges = Sets.newHashSetWithExpectedSize(0);
     final Set<Edge> inEdges = Sets.newHashSetWithExpectedSize(0);
-    final GradoopIdList graphs = new GradoopIdList();
+    final GradoopIdSet graphs = new GradoopIdSet();
     PersistentVertex<Edge> v = persistentVertexFactory.createVertex(
         vertexFactory.initVertex(vertexID, label, props, graphs),
         outEdges, inEdges);
@@ -216,7 +336,7 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
 
     final Set<Edge> outEdges = Sets.newHashSetWithExpectedSize(0);
     final Set<Edge> inEdges = Sets.newHashSetWithExpectedSize(0);
-    final GradoopIdList graphs = new GradoopIdList();
+    final GradoopIdSet graphs = new GradoopIdSet();
 
     // write to store
     graphStore.writeVertex(persistentVertexFactory.createVertex(
@@ -280,8 +400,8 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     HBaseEPGMStore<GraphHead, Vertex, Edge> graphStore, GraphHead graphHead,
     Vertex vertex, Edge edge) {
     graphStore.writeGraphHead(new HBaseGraphHeadFactory<>().createGraphHead(
-      graphHead, GradoopIdList.fromExisting(vertex.getId()),
-      GradoopIdList.fromExisting(edge.getId())
+      graphHead, GradoopIdSet.fromExisting(vertex.getId()),
+      GradoopIdSet.fromExisting(edge.getId())
       )
     );
   }
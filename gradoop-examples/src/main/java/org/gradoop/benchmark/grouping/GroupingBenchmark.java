@@ -168,7 +168,7 @@ public class GroupingBenchmark extends AbstractRunner
     OPTIONS.addOption(OPTION_OUTPUT_PATH, "output-path", true,
       "Path to write output files to");
     OPTIONS.addOption(OPTION_GROUPING_STRATEGY, "strategy", true,
-      "Grouping strategy (GR, GC)");
+      "Grouping strategy (GR, GC, SR, HC)");
     OPTIONS.addOption(OPTION_USE_VERTEX_LABELS, "use-vertex-labels", false,
       "Group on vertex labels");
     OPTIONS.addOption(OPTION_USE_EDGE_LABELS, "use-edge-labels", false,
@@ -300,6 +300,10 @@ public class GroupingBenchmark extends AbstractRunner
       String value = cmd.getOptionValue(OPTION_GROUPING_STRATEGY);
       if (value.toUpperCase().equals("GC")) {
         STRATEGY = GroupingStrategy.GROUP_COMBINE;
+      } else if (value.toUpperCase().equals("SR")) {
+        STRATEGY = GroupingStrategy.SKEW_RESISTANT;
+      } else if (value.toUpperCase().equals("HC")) {
+        STRATEGY = GroupingStrategy.HASH_COMBINE;
       }
     }
 
@@ -450,13 +454,13 @@ public class GroupingBenchmark extends AbstractRunner
    */
   private static void writeCSV() throws IOException {
 
-    String head = String.format("%s|%s|%s|%s|%s|%s|%s|%s|%s|%s|%s%n",
-      "Parallelism", "dataset", "vertexKeys", "edgeKeys", "USE_VERTEX_LABELS",
+    String head = String.format("%s|%s|%s|%s|%s|%s|%s|%s|%s|%s|%s|%s%n",
+      "Parallelism", "dataset", "Strategy", "vertexKeys", "edgeKeys", "USE_VERTEX_LABELS",
       "USE_EDGE_LABELS", "Vertex Aggregators", "Vertex-Aggregator-Keys",
       "EPGMEdge-Aggregators", "EPGMEdge-Aggregator-Keys", "Runtime(s)");
 
-    String tail = String.format("%s|%s|%s|%s|%s|%s|%s|%s|%s|%s|%s%n",
-      getExecutionEnvironment().getParallelism(), INPUT_PATH,
+    String tail = String.format("%s|%s|%s|%s|%s|%s|%s|%s|%s|%s|%s|%s%n",
+      getExecutionEnvironment().getParallelism(), INPUT_PATH, STRATEGY,
       VERTEX_GROUPING_KEYS, EDGE_GROUPING_KEYS, USE_VERTEX_LABELS,
       USE_EDGE_LABELS, VERTEX_AGGREGATORS, VERTEX_AGGREGATOR_KEYS,
       EDGE_AGGREGATORS, EDGE_AGGREGATOR_KEYS,
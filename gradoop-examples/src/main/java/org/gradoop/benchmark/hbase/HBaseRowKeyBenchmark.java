@@ -0,0 +1,195 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.benchmark.hbase;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.io.FileUtils;
+import org.apache.flink.api.common.ProgramDescription;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.storage.impl.hbase.GradoopHBaseConfig;
+import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
+import org.gradoop.common.storage.impl.hbase.HBaseEPGMStoreFactory;
+import org.gradoop.common.storage.impl.hbase.IdRowKeyStrategy;
+import org.gradoop.common.storage.impl.hbase.RowKeyStrategy;
+import org.gradoop.common.storage.impl.hbase.SaltedRowKeyStrategy;
+import org.gradoop.common.util.GConstants;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.io.impl.hbase.HBaseDataSink;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Writes a graph to HBase using plain id row keys and using salted row keys
+ * on pre-split tables and reports the write throughput of both variants.
+ *
+ * The benchmark uses the HBase cluster found in the configuration on the
+ * classpath, e.g. a local or pseudo-distributed cluster.
+ */
+public class HBaseRowKeyBenchmark extends AbstractRunner implements ProgramDescription {
+
+  /**
+   * Option to declare path to input graph
+   */
+  private static final String OPTION_INPUT_PATH = "i";
+  /**
+   * Option to declare the number of salt buckets
+   */
+  private static final String OPTION_BUCKETS = "b";
+  /**
+   * Path to CSV log file
+   */
+  private static final String OPTION_CSV_PATH = "csv";
+  /**
+   * Used input path
+   */
+  private static String INPUT_PATH;
+  /**
+   * Used number of salt buckets
+   */
+  private static int BUCKETS;
+  /**
+   * Used csv path
+   */
+  private static String CSV_PATH;
+
+  static {
+    OPTIONS.addOption(OPTION_INPUT_PATH, "input", true, "Path to source files.");
+    OPTIONS.addOption(OPTION_BUCKETS, "buckets", true,
+      "Number of salt buckets / initial regions (default: 16).");
+    OPTIONS.addOption(OPTION_CSV_PATH, "csv", true, "Path to csv result file");
+  }
+
+  /**
+   * Main program to run the benchmark. Arguments are the available options.
+   *
+   * @param args program arguments
+   * @throws Exception
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLine cmd = parseArguments(args, HBaseRowKeyBenchmark.class.getName());
+    if (cmd == null) {
+      return;
+    }
+    if (!cmd.hasOption(OPTION_INPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph input directory.");
+    }
+    if (!cmd.hasOption(OPTION_CSV_PATH)) {
+      throw new IllegalArgumentException("Path to CSV-File need to be set");
+    }
+    INPUT_PATH = cmd.getOptionValue(OPTION_INPUT_PATH);
+    BUCKETS = Integer.parseInt(cmd.getOptionValue(OPTION_BUCKETS, "16"));
+    CSV_PATH = cmd.getOptionValue(OPTION_CSV_PATH);
+
+    LogicalGraph graph = readLogicalGraph(INPUT_PATH);
+    long elementCount = graph.getVertices().count() + graph.getEdges().count();
+
+    long idRuntime = run("id_", new IdRowKeyStrategy());
+    long saltedRuntime = run("salted_", new SaltedRowKeyStrategy(BUCKETS));
+
+    writeCSV(elementCount, idRuntime, saltedRuntime);
+  }
+
+  /**
+   * Writes the input graph into empty tables with the given prefix.
+   *
+   * @param tablePrefix     prefix of the HBase tables
+   * @param rowKeyStrategy  row key strategy of the tables
+   * @return runtime in milliseconds
+   * @throws Exception
+   */
+  private static long run(String tablePrefix, RowKeyStrategy rowKeyStrategy) throws Exception {
+    Configuration hbaseConfig = HBaseConfiguration.create();
+
+    HBaseEPGMStoreFactory.deleteEPGMStore(hbaseConfig,
+      tablePrefix + GConstants.DEFAULT_TABLE_VERTICES,
+      tablePrefix + GConstants.DEFAULT_TABLE_EDGES,
+      tablePrefix + GConstants.DEFAULT_TABLE_GRAPHS);
+    HBaseEPGMStore<GraphHead, Vertex, Edge> store = HBaseEPGMStoreFactory
+      .createOrOpenEPGMStore(hbaseConfig,
+        GradoopHBaseConfig.getDefaultConfig(rowKeyStrategy), tablePrefix);
+
+    LogicalGraph graph = readLogicalGraph(INPUT_PATH);
+    graph.writeTo(new HBaseDataSink(store,
+      GradoopFlinkConfig.createConfig(getExecutionEnvironment())));
+
+    long start = System.currentTimeMillis();
+    getExecutionEnvironment().execute();
+    long runtime = System.currentTimeMillis() - start;
+
+    store.close();
+    return runtime;
+  }
+
+  /**
+   * Method to create and add lines to a csv-file
+   *
+   * @param elementCount  number of written vertices and edges
+   * @param idRuntime     runtime using id row keys
+   * @param saltedRuntime runtime using salted row keys
+   * @throws IOException
+   */
+  private static void writeCSV(long elementCount, long idRuntime, long saltedRuntime)
+    throws IOException {
+
+    String head = String.format("%s|%s|%s|%s|%s|%s|%s%n",
+      "Parallelism", "dataset", "Buckets", "Id-Runtime(ms)", "Id-Throughput(elements/s)",
+      "Salted-Runtime(ms)", "Salted-Throughput(elements/s)");
+
+    String tail = String.format("%s|%s|%s|%s|%s|%s|%s%n",
+      getExecutionEnvironment().getParallelism(), INPUT_PATH, BUCKETS,
+      idRuntime, throughput(elementCount, idRuntime),
+      saltedRuntime, throughput(elementCount, saltedRuntime));
+
+    File f = new File(CSV_PATH);
+    if (f.exists() && !f.isDirectory()) {
+      FileUtils.writeStringToFile(f, tail, true);
+    } else {
+      PrintWriter writer = new PrintWriter(CSV_PATH, "UTF-8");
+      writer.print(head);
+      writer.print(tail);
+      writer.close();
+    }
+  }
+
+  /**
+   * Computes the number of written elements per second.
+   *
+   * @param elementCount  number of written elements
+   * @param runtime       runtime in milliseconds
+   * @return elements per second
+   */
+  private static long throughput(long elementCount, long runtime) {
+    return runtime == 0 ? 0 : elementCount * 1000 / runtime;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getDescription() {
+    return HBaseRowKeyBenchmark.class.getName();
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.benchmark.hbase;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.io.FileUtils;
+import org.apache.flink.api.common.ProgramDescription;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.storage.impl.hbase.GradoopHBaseConfig;
+import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
+import org.gradoop.common.storage.impl.hbase.HBaseEPGMStoreFactory;
+import org.gradoop.common.util.GConstants;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.io.impl.hbase.HBaseDataSink;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Writes a graph to HBase using mutations and using HFile bulk loading and
+ * reports the end-to-end time of both variants, i.e. the time from
+ * submitting the job until the data is visible in the tables.
+ */
+public class HBaseWriteBenchmark extends AbstractRunner implements ProgramDescription {
+
+  /**
+   * Option to declare path to input graph
+   */
+  private static final String OPTION_INPUT_PATH = "i";
+  /**
+   * Option to declare the HFile staging directory
+   */
+  private static final String OPTION_STAGING_PATH = "s";
+  /**
+   * Path to CSV log file
+   */
+  private static final String OPTION_CSV_PATH = "csv";
+  /**
+   * Used input path
+   */
+  private static String INPUT_PATH;
+  /**
+   * Used staging path
+   */
+  private static String STAGING_PATH;
+  /**
+   * Used csv path
+   */
+  private static String CSV_PATH;
+
+  static {
+    OPTIONS.addOption(OPTION_INPUT_PATH, "input", true, "Path to source files.");
+    OPTIONS.addOption(OPTION_STAGING_PATH, "staging", true,
+      "Directory for HFiles (must not exist).");
+    OPTIONS.addOption(OPTION_CSV_PATH, "csv", true, "Path to csv result file");
+  }
+
+  /**
+   * Main program to run the benchmark. Arguments are the available options.
+   *
+   * @param args program arguments
+   * @throws Exception
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLine cmd = parseArguments(args, HBaseWriteBenchmark.class.getName());
+    if (cmd == null) {
+      return;
+    }
+    if (!cmd.hasOption(OPTION_INPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph input directory.");
+    }
+    if (!cmd.hasOption(OPTION_STAGING_PATH)) {
+      throw new IllegalArgumentException("Define a staging directory for HFiles.");
+    }
+    if (!cmd.hasOption(OPTION_CSV_PATH)) {
+      throw new IllegalArgumentException("Path to CSV-File need to be set");
+    }
+    INPUT_PATH = cmd.getOptionValue(OPTION_INPUT_PATH);
+    STAGING_PATH = cmd.getOptionValue(OPTION_STAGING_PATH);
+    CSV_PATH = cmd.getOptionValue(OPTION_CSV_PATH);
+
+    long mutationRuntime = run("mutation_", null);
+    long bulkLoadRuntime = run("bulkload_", STAGING_PATH);
+
+    writeCSV(mutationRuntime, bulkLoadRuntime);
+  }
+
+  /**
+   * Writes the input graph into empty tables with the given prefix.
+   *
+   * @param tablePrefix   prefix of the HBase tables
+   * @param bulkLoadPath  HFile staging directory or {@code null} to write
+   *                      mutations
+   * @return end-to-end runtime in milliseconds
+   * @throws Exception
+   */
+  private static long run(String tablePrefix, String bulkLoadPath) throws Exception {
+    Configuration hbaseConfig = HBaseConfiguration.create();
+
+    HBaseEPGMStoreFactory.deleteEPGMStore(hbaseConfig,
+      tablePrefix + GConstants.DEFAULT_TABLE_VERTICES,
+      tablePrefix + GConstants.DEFAULT_TABLE_EDGES,
+      tablePrefix + GConstants.DEFAULT_TABLE_GRAPHS);
+    HBaseEPGMStore<GraphHead, Vertex, Edge> store = HBaseEPGMStoreFactory
+      .createOrOpenEPGMStore(hbaseConfig, GradoopHBaseConfig.getDefaultConfig(), tablePrefix);
+
+    LogicalGraph graph = readLogicalGraph(INPUT_PATH);
+    graph.writeTo(new HBaseDataSink(store,
+      GradoopFlinkConfig.createConfig(getExecutionEnvironment()), bulkLoadPath));
+
+    long start = System.currentTimeMillis();
+    getExecutionEnvironment().execute();
+    long runtime = System.currentTimeMillis() - start;
+
+    store.close();
+    return runtime;
+  }
+
+  /**
+   * Method to create and add lines to a csv-file
+   *
+   * @param mutationRuntime end-to-end runtime using mutations
+   * @param bulkLoadRuntime end-to-end runtime using bulk loading
+   * @throws IOException
+   */
+  private static void writeCSV(long mutationRuntime, long bulkLoadRuntime) throws IOException {
+
+    String head = String.format("%s|%s|%s|%s%n",
+      "Parallelism", "dataset", "Mutation-Runtime(ms)", "BulkLoad-Runtime(ms)");
+
+    String tail = String.format("%s|%s|%s|%s%n",
+      getExecutionEnvironment().getParallelism(), INPUT_PATH,
+      mutationRuntime, bulkLoadRuntime);
+
+    File f = new File(CSV_PATH);
+    if (f.exists() && !f.isDirectory()) {
+      FileUtils.writeStringToFile(f, tail, true);
+    } else {
+      PrintWriter writer = new PrintWriter(CSV_PATH, "UTF-8");
+      writer.print(head);
+      writer.print(tail);
+      writer.close();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getDescription() {
+    return HBaseWriteBenchmark.class.getName();
+  }
+}
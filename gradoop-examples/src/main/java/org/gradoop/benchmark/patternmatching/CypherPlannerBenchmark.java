@@ -0,0 +1,257 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.benchmark.patternmatching;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.io.FileUtils;
+import org.apache.flink.api.common.ProgramDescription;
+import org.apache.hadoop.conf.Configuration;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.Step;
+import org.gradoop.flink.model.impl.operators.matching.common.query.TraversalCode;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsHDFSReader;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.AbstractPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlanningStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamic.DynamicProgrammingPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plans a Cypher query using the greedy and the dynamic programming planner and reports the
+ * planning time and the estimated result cardinality of both plans. Optionally, both plans are
+ * executed and their runtime is reported as well.
+ *
+ * The query is either a Cypher query or one of the predefined queries q0 to q9 in
+ * {@link Queries}.
+ */
+public class CypherPlannerBenchmark extends AbstractRunner implements ProgramDescription {
+  /**
+   * Option to declare path to input graph
+   */
+  private static final String OPTION_INPUT_PATH = "i";
+  /**
+   * Option to declare path to graph statistics
+   */
+  private static final String OPTION_STATISTICS_PATH = "s";
+  /**
+   * Option to declare the query
+   */
+  private static final String OPTION_QUERY = "q";
+  /**
+   * Option to declare the time budget of the dynamic programming planner
+   */
+  private static final String OPTION_TIME_BUDGET = "b";
+  /**
+   * Option to execute the computed plans
+   */
+  private static final String OPTION_EXECUTE = "x";
+  /**
+   * Path to CSV log file
+   */
+  private static final String OPTION_CSV_PATH = "csv";
+  /**
+   * Used input path
+   */
+  private static String INPUT_PATH;
+  /**
+   * Used query
+   */
+  private static String QUERY;
+  /**
+   * Used csv path
+   */
+  private static String CSV_PATH;
+
+  static {
+    OPTIONS.addOption(OPTION_INPUT_PATH, "input", true, "Graph directory");
+    OPTIONS.addOption(OPTION_STATISTICS_PATH, "statistics", true, "Graph statistics directory");
+    OPTIONS.addOption(OPTION_QUERY, "query", true, "Cypher query or fixed query (q0 - q9)");
+    OPTIONS.addOption(OPTION_TIME_BUDGET, "budget", true,
+      "Time budget of the dynamic programming planner in ms (default: 1000)");
+    OPTIONS.addOption(OPTION_EXECUTE, "execute", false, "Execute both query plans");
+    OPTIONS.addOption(OPTION_CSV_PATH, "csv", true, "Path to csv result file");
+  }
+
+  /**
+   * Main program to run the benchmark. Arguments are the available options.
+   *
+   * @param args program arguments
+   * @throws Exception
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLine cmd = parseArguments(args, CypherPlannerBenchmark.class.getName());
+    if (cmd == null) {
+      return;
+    }
+    if (!cmd.hasOption(OPTION_INPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph input directory.");
+    }
+    if (!cmd.hasOption(OPTION_STATISTICS_PATH)) {
+      throw new IllegalArgumentException("Define a graph statistics directory.");
+    }
+    if (!cmd.hasOption(OPTION_QUERY)) {
+      throw new IllegalArgumentException("Define a query.");
+    }
+    if (!cmd.hasOption(OPTION_CSV_PATH)) {
+      throw new IllegalArgumentException("Path to CSV-File need to be set");
+    }
+    INPUT_PATH = cmd.getOptionValue(OPTION_INPUT_PATH);
+    QUERY = cmd.getOptionValue(OPTION_QUERY);
+    CSV_PATH = cmd.getOptionValue(OPTION_CSV_PATH);
+    long timeBudget = Long.parseLong(cmd.getOptionValue(OPTION_TIME_BUDGET,
+      String.valueOf(DynamicProgrammingPlanner.DEFAULT_TIME_BUDGET)));
+    boolean execute = cmd.hasOption(OPTION_EXECUTE);
+
+    String statisticsPath = cmd.getOptionValue(OPTION_STATISTICS_PATH);
+    GraphStatistics statistics = statisticsPath.startsWith("hdfs://") ?
+      GraphStatisticsHDFSReader.read(statisticsPath, new Configuration()) :
+      GraphStatisticsLocalFSReader.read(statisticsPath);
+
+    String cypherQuery = QUERY.toLowerCase().matches("q\\d") ?
+      toCypher(getQuery(QUERY.toLowerCase()).getTraversalCode()) : QUERY;
+
+    LogicalGraph graph = readLogicalGraph(INPUT_PATH);
+
+    List<String> columns = new ArrayList<>();
+    for (PlanningStrategy strategy : PlanningStrategy.values()) {
+      QueryHandler queryHandler = new QueryHandler(cypherQuery);
+      AbstractPlanner planner = strategy == PlanningStrategy.GREEDY ?
+        new GreedyPlanner(graph, queryHandler, statistics,
+          MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM) :
+        new DynamicProgrammingPlanner(graph, queryHandler, statistics,
+          MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM,
+          DynamicProgrammingPlanner.DEFAULT_MAX_QUERY_SIZE, timeBudget);
+
+      long start = System.nanoTime();
+      PlanTableEntry entry = planner.plan();
+      long planningTime = (System.nanoTime() - start) / 1000;
+
+      columns.add(String.valueOf(planningTime));
+      columns.add(String.valueOf(entry.getEstimatedCardinality()));
+
+      if (execute) {
+        start = System.currentTimeMillis();
+        long count = entry.getQueryPlan().execute().count();
+        columns.add(String.valueOf(System.currentTimeMillis() - start));
+        columns.add(String.valueOf(count));
+      } else {
+        columns.add("-");
+        columns.add("-");
+      }
+    }
+
+    writeCSV(columns);
+  }
+
+  /**
+   * Converts the given traversal code into a Cypher query. Vertices and edges are named by
+   * their id in the traversal code, e.g. v0 and e0.
+   *
+   * @param traversalCode traversal code
+   * @return Cypher query
+   */
+  private static String toCypher(TraversalCode traversalCode) {
+    List<String> patterns = new ArrayList<>();
+    for (Step step : traversalCode.getSteps()) {
+      long source = step.isOutgoing() ? step.getFrom() : step.getTo();
+      long target = step.isOutgoing() ? step.getTo() : step.getFrom();
+      patterns.add(String.format("(v%d)-[e%d]->(v%d)", source, step.getVia(), target));
+    }
+    return "MATCH " + String.join(",", patterns);
+  }
+
+  /**
+   * Returns the predefined query based on the input string
+   *
+   * @param queryString query identifier (q0, q1, ..., q9)
+   * @return query
+   */
+  private static Queries.Query getQuery(String queryString) {
+    switch (queryString) {
+    case "q0":
+      return Queries.q0();
+    case "q1":
+      return Queries.q1();
+    case "q2":
+      return Queries.q2();
+    case "q3":
+      return Queries.q3();
+    case "q4":
+      return Queries.q4();
+    case "q5":
+      return Queries.q5();
+    case "q6":
+      return Queries.q6();
+    case "q7":
+      return Queries.q7();
+    case "q8":
+      return Queries.q8();
+    case "q9":
+      return Queries.q9();
+    default:
+      throw new IllegalArgumentException("unsupported query: " + queryString);
+    }
+  }
+
+  /**
+   * Method to create and add lines to a csv-file
+   *
+   * @param columns planning time, estimated cardinality, runtime and result count of the
+   *                greedy and the dynamic programming plan
+   * @throws IOException
+   */
+  private static void writeCSV(List<String> columns) throws IOException {
+
+    String head = String.format("%s|%s|%s|%s|%s|%s|%s|%s|%s|%s|%s%n",
+      "Parallelism", "dataset", "query",
+      "Greedy-Planning(us)", "Greedy-Estimation", "Greedy-Runtime(ms)", "Greedy-Count",
+      "DP-Planning(us)", "DP-Estimation", "DP-Runtime(ms)", "DP-Count");
+
+    String tail = String.format("%s|%s|%s|%s%n",
+      getExecutionEnvironment().getParallelism(), INPUT_PATH, QUERY, String.join("|", columns));
+
+    File f = new File(CSV_PATH);
+    if (f.exists() && !f.isDirectory()) {
+      FileUtils.writeStringToFile(f, tail, true);
+    } else {
+      PrintWriter writer = new PrintWriter(CSV_PATH, "UTF-8");
+      writer.print(head);
+      writer.print(tail);
+      writer.close();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getDescription() {
+    return CypherPlannerBenchmark.class.getName();
+  }
+}
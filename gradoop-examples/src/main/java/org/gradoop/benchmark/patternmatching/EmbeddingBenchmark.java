@@ -0,0 +1,262 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.benchmark.patternmatching;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.io.FileUtils;
+import org.apache.flink.api.common.ProgramDescription;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractJoinColumns;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Micro benchmark for the {@link Embedding} operations used by the Cypher operators: reading
+ * ids and properties, merging two embeddings, projecting properties and extracting join keys.
+ *
+ * Each operation is executed for all embeddings of a randomly generated set in several rounds.
+ * The first rounds are used to warm up the JVM and are not measured. To compare two embedding
+ * implementations, the benchmark is run on both revisions with the same options.
+ */
+public class EmbeddingBenchmark extends AbstractRunner implements ProgramDescription {
+
+  /**
+   * Option to declare the number of embeddings
+   */
+  private static final String OPTION_COUNT = "n";
+  /**
+   * Option to declare the number of id entries per embedding
+   */
+  private static final String OPTION_WIDTH = "w";
+  /**
+   * Option to declare the number of measured rounds
+   */
+  private static final String OPTION_ROUNDS = "r";
+  /**
+   * Path to CSV log file
+   */
+  private static final String OPTION_CSV_PATH = "csv";
+  /**
+   * Number of warm up rounds
+   */
+  private static final int WARMUP_ROUNDS = 5;
+  /**
+   * Used number of embeddings
+   */
+  private static int COUNT;
+  /**
+   * Used number of id entries per embedding
+   */
+  private static int WIDTH;
+  /**
+   * Used number of measured rounds
+   */
+  private static int ROUNDS;
+  /**
+   * Used csv path
+   */
+  private static String CSV_PATH;
+  /**
+   * Prevents the JIT from removing the benchmarked code
+   */
+  private static long BLACKHOLE;
+
+  static {
+    OPTIONS.addOption(OPTION_COUNT, "count", true, "Number of embeddings (default: 100000).");
+    OPTIONS.addOption(OPTION_WIDTH, "width", true, "Id entries per embedding (default: 6).");
+    OPTIONS.addOption(OPTION_ROUNDS, "rounds", true, "Measured rounds (default: 10).");
+    OPTIONS.addOption(OPTION_CSV_PATH, "csv", true, "Path to csv result file");
+  }
+
+  /**
+   * Operation on a single embedding
+   */
+  private interface Operation {
+    /**
+     * Executes the operation.
+     *
+     * @param embedding input embedding
+     * @param index index of the embedding in the input
+     * @return value derived from the result
+     * @throws Exception if the operation fails
+     */
+    long apply(Embedding embedding, int index) throws Exception;
+  }
+
+  /**
+   * Main program to run the benchmark. Arguments are the available options.
+   *
+   * @param args program arguments
+   * @throws Exception
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLine cmd = parseArguments(args, EmbeddingBenchmark.class.getName());
+    if (cmd == null) {
+      return;
+    }
+    if (!cmd.hasOption(OPTION_CSV_PATH)) {
+      throw new IllegalArgumentException("Path to CSV-File need to be set");
+    }
+    COUNT = Integer.parseInt(cmd.getOptionValue(OPTION_COUNT, "100000"));
+    WIDTH = Integer.parseInt(cmd.getOptionValue(OPTION_WIDTH, "6"));
+    ROUNDS = Integer.parseInt(cmd.getOptionValue(OPTION_ROUNDS, "10"));
+    CSV_PATH = cmd.getOptionValue(OPTION_CSV_PATH);
+
+    List<Embedding> left = createEmbeddings();
+    List<Embedding> right = createEmbeddings();
+
+    List<Integer> columns = new ArrayList<>();
+    for (int i = 0; i < WIDTH; i += 2) {
+      columns.add(i);
+    }
+    List<Integer> empty = Collections.emptyList();
+    MergeEmbeddings merge = new MergeEmbeddings(WIDTH, Collections.singletonList(0),
+      empty, empty, empty, empty);
+    ExtractJoinColumns joinKey = new ExtractJoinColumns(columns);
+    List<Integer> projection = Collections.singletonList(1);
+    CountingCollector collector = new CountingCollector();
+
+    double getId = measure(left, (e, i) -> e.getId(i % WIDTH).hashCode());
+    double getProperty = measure(left, (e, i) -> e.getProperty(i % 2).getByteSize());
+    double merged = measure(left, (e, i) -> {
+      merge.join(e, right.get(i), collector);
+      return collector.count;
+    });
+    double project = measure(left, (e, i) -> e.project(projection).size());
+    double key = measure(left, (e, i) -> joinKey.getKey(e).hashCode());
+    double expand = measure(left, (e, i) -> {
+      GradoopId id = right.get(i).getId(0);
+      Embedding copy = e.copy();
+      copy.add(id, id, id);
+      copy.add(id);
+      return copy.size();
+    });
+
+    writeCSV(getId, getProperty, merged, project, key, expand);
+  }
+
+  /**
+   * Creates embeddings with {@link #WIDTH} ids and two properties each.
+   *
+   * @return embeddings
+   */
+  private static List<Embedding> createEmbeddings() {
+    List<Embedding> embeddings = new ArrayList<>(COUNT);
+    for (int i = 0; i < COUNT; i++) {
+      Embedding embedding = new Embedding();
+      for (int j = 0; j < WIDTH; j++) {
+        embedding.add(GradoopId.get());
+      }
+      embedding.addPropertyValues(PropertyValue.create("Person" + i), PropertyValue.create(i));
+      embeddings.add(embedding);
+    }
+    return embeddings;
+  }
+
+  /**
+   * Applies the operation to all embeddings and returns the average time per call.
+   *
+   * @param embeddings input embeddings
+   * @param operation benchmarked operation
+   * @return average runtime per call in nanoseconds
+   * @throws Exception if the operation fails
+   */
+  private static double measure(List<Embedding> embeddings, Operation operation)
+    throws Exception {
+    long runtime = 0L;
+    for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+      long start = System.nanoTime();
+      for (int i = 0; i < embeddings.size(); i++) {
+        BLACKHOLE += operation.apply(embeddings.get(i), i);
+      }
+      if (round >= WARMUP_ROUNDS) {
+        runtime += System.nanoTime() - start;
+      }
+    }
+    return (double) runtime / ((long) ROUNDS * embeddings.size());
+  }
+
+  /**
+   * Method to create and add lines to a csv-file
+   *
+   * @param getId runtime of getId in ns
+   * @param getProperty runtime of getProperty in ns
+   * @param merge runtime of a merge in ns
+   * @param project runtime of project in ns
+   * @param key runtime of the join key extraction in ns
+   * @param expand runtime of the expansion by a path and a vertex in ns
+   * @throws IOException
+   */
+  private static void writeCSV(double getId, double getProperty, double merge, double project,
+    double key, double expand) throws IOException {
+
+    String head = String.format("%s|%s|%s|%s|%s|%s|%s|%s|%s%n",
+      "Embeddings", "Width", "Rounds", "getId(ns)", "getProperty(ns)", "merge(ns)",
+      "project(ns)", "joinKey(ns)", "expand(ns)");
+
+    String tail = String.format("%s|%s|%s|%.1f|%.1f|%.1f|%.1f|%.1f|%.1f%n",
+      COUNT, WIDTH, ROUNDS, getId, getProperty, merge, project, key, expand);
+
+    File f = new File(CSV_PATH);
+    if (f.exists() && !f.isDirectory()) {
+      FileUtils.writeStringToFile(f, tail, true);
+    } else {
+      PrintWriter writer = new PrintWriter(CSV_PATH, "UTF-8");
+      writer.print(head);
+      writer.print(tail);
+      writer.close();
+    }
+  }
+
+  /**
+   * Collector that counts the collected embeddings.
+   */
+  private static class CountingCollector implements Collector<Embedding> {
+    /**
+     * Number of collected embeddings
+     */
+    private long count;
+
+    @Override
+    public void collect(Embedding record) {
+      count += record.size();
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getDescription() {
+    return EmbeddingBenchmark.class.getName();
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.benchmark.serialization;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.io.FileUtils;
+import org.apache.flink.api.common.ProgramDescription;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.typeutils.EdgeSerializer;
+import org.gradoop.common.model.impl.pojo.typeutils.ElementTypeInfo;
+import org.gradoop.common.model.impl.pojo.typeutils.VertexSerializer;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.bool.True;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the EPGM element serializers with Flink's generic POJO serializer.
+ *
+ * For both serializers, the program determines the average number of bytes
+ * per serialized vertex and edge and the runtimes of a label-based
+ * {@link Grouping} and a {@link LogicalGraph#subgraph} call.
+ */
+public class SerializationBenchmark extends AbstractRunner implements ProgramDescription {
+
+  /**
+   * Option to declare path to input graph
+   */
+  private static final String OPTION_INPUT_PATH = "i";
+  /**
+   * Path to CSV log file
+   */
+  private static final String OPTION_CSV_PATH = "csv";
+  /**
+   * Used input path
+   */
+  private static String INPUT_PATH;
+  /**
+   * Used csv path
+   */
+  private static String CSV_PATH;
+
+  static {
+    OPTIONS.addOption(OPTION_INPUT_PATH, "input", true, "Path to source files.");
+    OPTIONS.addOption(OPTION_CSV_PATH, "csv", true, "Path to csv result file");
+  }
+
+  /**
+   * Main program to run the benchmark. Arguments are the available options.
+   *
+   * @param args program arguments
+   * @throws Exception
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLine cmd = parseArguments(args, SerializationBenchmark.class.getName());
+    if (cmd == null) {
+      return;
+    }
+    if (!cmd.hasOption(OPTION_INPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph input directory.");
+    }
+    if (!cmd.hasOption(OPTION_CSV_PATH)) {
+      throw new IllegalArgumentException("Path to CSV-File need to be set");
+    }
+    INPUT_PATH = cmd.getOptionValue(OPTION_INPUT_PATH);
+    CSV_PATH = cmd.getOptionValue(OPTION_CSV_PATH);
+
+    run(true);
+    run(false);
+  }
+
+  /**
+   * Runs all measurements for one serializer.
+   *
+   * @param pojo true, to use Flink's POJO serializer
+   * @throws Exception
+   */
+  private static void run(boolean pojo) throws Exception {
+    System.setProperty(ElementTypeInfo.POJO_SERIALIZER_SYSTEM_PROPERTY, String.valueOf(pojo));
+
+    LogicalGraph graph = readLogicalGraph(INPUT_PATH);
+
+    // serialized sizes
+    TypeSerializer<Vertex> vertexSerializer = pojo ?
+      new PojoTypeInfo<>(Vertex.class, ElementTypeInfo.getPojoFields(Vertex.class))
+        .createSerializer(getExecutionEnvironment().getConfig()) :
+      new VertexSerializer();
+    TypeSerializer<Edge> edgeSerializer = pojo ?
+      new PojoTypeInfo<>(Edge.class, ElementTypeInfo.getPojoFields(Edge.class))
+        .createSerializer(getExecutionEnvironment().getConfig()) :
+      new EdgeSerializer();
+
+    Tuple3<Long, Long, Long> sizes = graph.getVertices()
+      .map(new SerializedSize<>(vertexSerializer))
+      .union(graph.getEdges().map(new SerializedSize<>(edgeSerializer)))
+      .groupBy(0)
+      .sum(1).andSum(2)
+      .collect()
+      .get(0);
+
+    // grouping
+    LogicalGraph summarizedGraph = graph.callForGraph(new Grouping.GroupingBuilder()
+      .useVertexLabel(true)
+      .useEdgeLabel(true)
+      .addVertexAggregator(new CountAggregator())
+      .addEdgeAggregator(new CountAggregator())
+      .build());
+    long groupingRuntime = execute(summarizedGraph);
+
+    // subgraph
+    LogicalGraph subgraph = graph.subgraph(new True<Vertex>(), new True<Edge>());
+    long subgraphRuntime = execute(subgraph);
+
+    writeCSV(pojo ? "pojo" : "element", sizes, groupingRuntime, subgraphRuntime);
+  }
+
+  /**
+   * Executes the program computing the given graph.
+   *
+   * @param graph result graph
+   * @return net runtime in milliseconds
+   * @throws Exception
+   */
+  private static long execute(LogicalGraph graph) throws Exception {
+    graph.getVertices().output(new DiscardingOutputFormat<Vertex>());
+    graph.getEdges().output(new DiscardingOutputFormat<Edge>());
+    return getExecutionEnvironment().execute().getNetRuntime(TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Method to create and add lines to a csv-file
+   *
+   * @param serializer      serializer name
+   * @param sizes           (0, element count, total bytes of serialized elements)
+   * @param groupingRuntime runtime of the grouping program
+   * @param subgraphRuntime runtime of the subgraph program
+   * @throws IOException
+   */
+  private static void writeCSV(String serializer, Tuple3<Long, Long, Long> sizes,
+    long groupingRuntime, long subgraphRuntime) throws IOException {
+
+    String head = String.format("%s|%s|%s|%s|%s|%s%n",
+      "Parallelism", "dataset", "serializer", "Bytes/Element",
+      "Grouping-Runtime(ms)", "Subgraph-Runtime(ms)");
+
+    String tail = String.format("%s|%s|%s|%.2f|%s|%s%n",
+      getExecutionEnvironment().getParallelism(), INPUT_PATH, serializer,
+      (double) sizes.f2 / sizes.f1, groupingRuntime, subgraphRuntime);
+
+    File f = new File(CSV_PATH);
+    if (f.exists() && !f.isDirectory()) {
+      FileUtils.writeStringToFile(f, tail, true);
+    } else {
+      PrintWriter writer = new PrintWriter(CSV_PATH, "UTF-8");
+      writer.print(head);
+      writer.print(tail);
+      writer.close();
+    }
+  }
+
+  /**
+   * Computes the serialized size of elements.
+   *
+   * element -> (0, 1, serialized size)
+   *
+   * @param <T> element type
+   */
+  private static class SerializedSize<T extends Element>
+    implements MapFunction<T, Tuple3<Long, Long, Long>> {
+
+    /**
+     * Serializer to measure
+     */
+    private final TypeSerializer<T> serializer;
+
+    /**
+     * Reduce object instantiations
+     */
+    private final Tuple3<Long, Long, Long> reuseTuple;
+
+    /**
+     * Buffer for serialized elements
+     */
+    private transient ByteArrayOutputStream buffer;
+
+    /**
+     * Output view writing into the buffer
+     */
+    private transient DataOutputViewStreamWrapper output;
+
+    /**
+     * Constructor
+     *
+     * @param serializer serializer to measure
+     */
+    SerializedSize(TypeSerializer<T> serializer) {
+      this.serializer = serializer;
+      this.reuseTuple = new Tuple3<>(0L, 1L, 0L);
+    }
+
+    @Override
+    public Tuple3<Long, Long, Long> map(T element) throws Exception {
+      if (buffer == null) {
+        buffer = new ByteArrayOutputStream();
+        output = new DataOutputViewStreamWrapper(buffer);
+      }
+      buffer.reset();
+      serializer.serialize(element, output);
+      reuseTuple.f2 = (long) buffer.size();
+      return reuseTuple;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getDescription() {
+    return SerializationBenchmark.class.getName();
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.utils.statistics;
+
+import org.apache.flink.api.common.ProgramDescription;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.model.impl.operators.statistics.ApproximateGraphStatistics;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.GraphStatisticsSketch;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.GraphStatisticsSketchWriter;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.KllSketch;
+
+/**
+ * Approximates all statistics for a given logical graph in a single job using
+ * {@link ApproximateGraphStatistics}.
+ */
+public class ApproximateStatisticsRunner extends AbstractRunner implements ProgramDescription {
+
+  /**
+   * args[0] - path to input directory
+   * args[1] - input format (json, csv)
+   * args[2] - path to output directory
+   * args[3] - ignored (mode selector of {@link StatisticsRunner})
+   * args[4] - relative standard error of distinct counts (optional)
+   * args[5] - relative error of vertex degrees w.r.t. the number of edges (optional)
+   *
+   * @param args arguments
+   * @throws Exception if something goes wrong
+   */
+  public static void main(String[] args) throws Exception {
+    double distinctError = args.length > 4 ?
+      Double.parseDouble(args[4]) : GraphStatisticsSketch.DEFAULT_DISTINCT_ERROR;
+    double frequencyError = args.length > 5 ?
+      Double.parseDouble(args[5]) : GraphStatisticsSketch.DEFAULT_FREQUENCY_ERROR;
+
+    GraphStatisticsSketch sketch = new ApproximateGraphStatistics(distinctError, frequencyError,
+      GraphStatisticsSketch.DEFAULT_FREQUENCY_CONFIDENCE, KllSketch.DEFAULT_K)
+      .execute(readLogicalGraph(args[0], args[1]))
+      .collect()
+      .get(0);
+
+    GraphStatisticsSketchWriter.write(sketch, args[2]);
+  }
+
+  @Override
+  public String getDescription() {
+    return ApproximateStatisticsRunner.class.getName();
+  }
+}
@@ -22,18 +22,32 @@ import org.gradoop.examples.AbstractRunner;
 
 /**
  * Computes all statistics for a given logical graph.
+ *
+ * By default, each statistic is computed exactly by a separate job. In fast mode, all statistics
+ * are approximated in a single job using {@link ApproximateStatisticsRunner}.
  */
 public class StatisticsRunner extends AbstractRunner implements ProgramDescription {
+  /**
+   * Mode selector for approximated statistics
+   */
+  public static final String FAST_MODE = "fast";
 
   /**
    * args[0] - path to input directory
    * args[1] - input format (json, csv)
    * args[2] - path to output directory
+   * args[3] - "fast" to approximate the statistics in a single job (optional)
+   * args[4] - relative standard error of distinct counts in fast mode (optional)
+   * args[5] - relative error of vertex degrees in fast mode (optional)
    *
    * @param args arguments
    * @throws Exception if something goes wrong
    */
   public static void main(String[] args) throws Exception {
+    if (args.length > 3 && FAST_MODE.equals(args[3])) {
+      ApproximateStatisticsRunner.main(args);
+      return;
+    }
     VertexCountRunner.main(args);
     EdgeCountRunner.main(args);
     VertexLabelDistributionRunner.main(args);
@@ -51,6 +65,8 @@ public class StatisticsRunner extends AbstractRunner implements ProgramDescripti
     DistinctVertexPropertiesByLabelRunner.main(args);
     DistinctEdgePropertiesRunner.main(args);
     DistinctVertexPropertiesRunner.main(args);
+    EdgePropertyHistogramsByLabelRunner.main(args);
+    VertexPropertyHistogramsByLabelRunner.main(args);
   }
 
   @Override
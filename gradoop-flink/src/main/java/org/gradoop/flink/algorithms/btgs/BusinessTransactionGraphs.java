@@ -46,7 +46,7 @@ import org.gradoop.flink.model.impl.functions.utils.LeftSide;
 import org.gradoop.flink.model.impl.functions.tuple.SwitchPair;
 import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * Part of the BIIIG approach.
@@ -102,7 +102,7 @@ public class BusinessTransactionGraphs implements
       .runScatterGatherIteration(new BtgMessenger(), new BtgUpdater() , 100);
 
 
-    DataSet<Tuple2<GradoopId, GradoopIdList>> btgVerticesMap = gellyTransGraph
+    DataSet<Tuple2<GradoopId, GradoopIdSet>> btgVerticesMap = gellyTransGraph
       .getVerticesAsTuple2()
       .map(new SwitchPair<>())
       .groupBy(0)
@@ -137,7 +137,7 @@ public class BusinessTransactionGraphs implements
       .with(new LeftSide<>())
       .distinct();
 
-    DataSet<Tuple2<GradoopId, GradoopIdList>> vertexBtgsMap = vertexBtgMap
+    DataSet<Tuple2<GradoopId, GradoopIdSet>> vertexBtgsMap = vertexBtgMap
       .groupBy(0)
       //.combineGroup(new CollectGradoopIds())
       .reduceGroup(new CollectGradoopIds());
@@ -22,7 +22,7 @@ import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * (a,b),(a,c) => (a,{b,c})
@@ -30,17 +30,17 @@ import org.gradoop.common.model.impl.id.GradoopIdList;
  */
 public class CollectGradoopIds implements
   GroupCombineFunction
-    <Tuple2<GradoopId, GradoopIdList>, Tuple2<GradoopId, GradoopIdList>>,
+    <Tuple2<GradoopId, GradoopIdSet>, Tuple2<GradoopId, GradoopIdSet>>,
   GroupReduceFunction
-    <Tuple2<GradoopId, GradoopId>, Tuple2<GradoopId, GradoopIdList>> {
+    <Tuple2<GradoopId, GradoopId>, Tuple2<GradoopId, GradoopIdSet>> {
 
   @Override
   public void reduce(Iterable<Tuple2<GradoopId, GradoopId>> mappings,
-    Collector<Tuple2<GradoopId, GradoopIdList>> collector) throws Exception {
+    Collector<Tuple2<GradoopId, GradoopIdSet>> collector) throws Exception {
 
     Boolean first = true;
     GradoopId vertexId = null;
-    GradoopIdList btgIds = new GradoopIdList();
+    GradoopIdSet btgIds = new GradoopIdSet();
 
     for (Tuple2<GradoopId, GradoopId> pair : mappings) {
       if (first) {
@@ -53,14 +53,14 @@ public class CollectGradoopIds implements
   }
 
   @Override
-  public void combine(Iterable<Tuple2<GradoopId, GradoopIdList>> mappings,
-    Collector<Tuple2<GradoopId, GradoopIdList>> collector) throws Exception {
+  public void combine(Iterable<Tuple2<GradoopId, GradoopIdSet>> mappings,
+    Collector<Tuple2<GradoopId, GradoopIdSet>> collector) throws Exception {
 
     Boolean first = true;
     GradoopId vertexId = null;
-    GradoopIdList btgIds = null;
+    GradoopIdSet btgIds = null;
 
-    for (Tuple2<GradoopId, GradoopIdList> pair : mappings) {
+    for (Tuple2<GradoopId, GradoopIdSet> pair : mappings) {
       if (first) {
         vertexId = pair.f0;
         btgIds = pair.f1;
@@ -21,7 +21,7 @@ import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.api.entities.EPGMGraphElement;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * Associates an edge with an business transaction graph.
@@ -32,7 +32,7 @@ public class SetBtgId<E extends EPGMGraphElement>
 
   @Override
   public E join(E element, Tuple2<GradoopId, GradoopId> mapping) {
-    element.setGraphIds(GradoopIdList.fromExisting(mapping.f1));
+    element.setGraphIds(GradoopIdSet.fromExisting(mapping.f1));
     return element;
   }
 }
@@ -22,7 +22,7 @@ import com.google.common.collect.Maps;
 import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.EdgeFactory;
 import org.gradoop.common.model.impl.pojo.GraphHead;
@@ -86,7 +86,7 @@ public class Brokerage
     vertexMap = Maps.newHashMap();
     edgeMap = Maps.newHashMap();
     graphHead = graphHeadFactory.createGraphHead();
-    graphIds = new GradoopIdList();
+    graphIds = new GradoopIdSet();
     graphIds.add(graphHead.getId());
     graphTransaction = new GraphTransaction();
 
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar;
+
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * Base class for columnar data sources and sinks.
+ */
+abstract class ColumnarBase {
+  /**
+   * Default file name for storing graph heads
+   */
+  static final String DEFAULT_GRAPHS_FILE = "/graphs";
+  /**
+   * Default file name for storing vertices
+   */
+  static final String DEFAULT_VERTEX_FILE = "/vertices";
+  /**
+   * Default file name for storing edges
+   */
+  static final String DEFAULT_EDGE_FILE = "/edges";
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+  /**
+   * Path of the graph heads
+   */
+  private final String graphHeadPath;
+  /**
+   * Path of the vertices
+   */
+  private final String vertexPath;
+  /**
+   * Path of the edges
+   */
+  private final String edgePath;
+
+  /**
+   * Creates a new data source/sink. Paths can be local (file://) or HDFS
+   * (hdfs://).
+   *
+   * @param path    directory containing the graph
+   * @param config  Gradoop Flink configuration
+   */
+  ColumnarBase(String path, GradoopFlinkConfig config) {
+    if (config == null) {
+      throw new IllegalArgumentException("config must not be null");
+    }
+    if (path == null) {
+      throw new IllegalArgumentException("path must not be null");
+    }
+    this.graphHeadPath = path + DEFAULT_GRAPHS_FILE;
+    this.vertexPath = path + DEFAULT_VERTEX_FILE;
+    this.edgePath = path + DEFAULT_EDGE_FILE;
+    this.config = config;
+  }
+
+  public GradoopFlinkConfig getConfig() {
+    return config;
+  }
+
+  public String getGraphHeadPath() {
+    return graphHeadPath;
+  }
+
+  public String getVertexPath() {
+    return vertexPath;
+  }
+
+  public String getEdgePath() {
+    return edgePath;
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.columnar.blocks.ColumnBlockFormat;
+import org.gradoop.flink.io.impl.columnar.outputformats.ColumnarOutputFormat;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.GraphTransactions;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+
+/**
+ * Writes an EPGM representation into three files of the compressed columnar
+ * format documented at {@link ColumnBlockFormat}.
+ *
+ * Elements are stored in blocks of elements with the same label. Within a
+ * block, each system attribute and each property key is stored as a
+ * separately compressed column.
+ */
+public class ColumnarDataSink extends ColumnarBase implements DataSink {
+
+  /**
+   * Maximum number of elements per block.
+   */
+  private final int blockSize;
+
+  /**
+   * Creates a new data sink. The graph is written into the specified
+   * directory. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param outputPath  directory to write the graph to
+   * @param config      Gradoop Flink configuration
+   */
+  public ColumnarDataSink(String outputPath, GradoopFlinkConfig config) {
+    this(outputPath, ColumnBlockFormat.DEFAULT_BLOCK_SIZE, config);
+  }
+
+  /**
+   * Creates a new data sink. The graph is written into the specified
+   * directory. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param outputPath  directory to write the graph to
+   * @param blockSize   maximum number of elements per block
+   * @param config      Gradoop Flink configuration
+   */
+  public ColumnarDataSink(String outputPath, int blockSize, GradoopFlinkConfig config) {
+    super(outputPath, config);
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(GraphTransactions graphTransactions) throws IOException {
+    write(graphTransactions, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overWrite) throws IOException {
+    write(GraphCollection.fromGraph(logicalGraph), overWrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overWrite) throws IOException {
+    graphCollection.getGraphHeads()
+      .output(createOutputFormat(getGraphHeadPath(), overWrite));
+    graphCollection.getVertices()
+      .output(createOutputFormat(getVertexPath(), overWrite));
+    graphCollection.getEdges()
+      .output(createOutputFormat(getEdgePath(), overWrite));
+  }
+
+  @Override
+  public void write(GraphTransactions graphTransactions, boolean overWrite) throws IOException {
+    write(GraphCollection.fromTransactions(graphTransactions), overWrite);
+  }
+
+  /**
+   * Creates an output format for the given path.
+   *
+   * @param path      output path
+   * @param overWrite true, if existing files should be overwritten
+   * @param <T>       EPGM element type
+   * @return output format
+   */
+  private <T extends EPGMElement> ColumnarOutputFormat<T> createOutputFormat(String path,
+    boolean overWrite) {
+    ColumnarOutputFormat<T> format = new ColumnarOutputFormat<>(new Path(path), blockSize);
+    format.setWriteMode(overWrite ?
+      FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE);
+    return format;
+  }
+}
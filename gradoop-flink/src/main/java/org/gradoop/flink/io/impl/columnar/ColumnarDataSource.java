@@ -0,0 +1,163 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.columnar.blocks.ColumnBlockFormat;
+import org.gradoop.flink.io.impl.columnar.inputformats.EdgeColumnarInputFormat;
+import org.gradoop.flink.io.impl.columnar.inputformats.GraphHeadColumnarInputFormat;
+import org.gradoop.flink.io.impl.columnar.inputformats.VertexColumnarInputFormat;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.GraphTransactions;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+import org.gradoop.flink.model.impl.functions.epgm.TargetId;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * Creates an EPGM instance from files written by {@link ColumnarDataSink}.
+ * The format is documented at {@link ColumnBlockFormat}.
+ *
+ * Label predicates and property projections can be pushed into the input
+ * formats via {@link ColumnarFilter}s: blocks of other labels and columns of
+ * other properties are skipped without decompressing them. If vertices are
+ * filtered by label, only edges between the remaining vertices are returned.
+ */
+public class ColumnarDataSource extends ColumnarBase implements DataSource {
+
+  /**
+   * Filter applied when reading graph heads.
+   */
+  private ColumnarFilter graphHeadFilter = ColumnarFilter.create();
+
+  /**
+   * Filter applied when reading vertices.
+   */
+  private ColumnarFilter vertexFilter = ColumnarFilter.create();
+
+  /**
+   * Filter applied when reading edges.
+   */
+  private ColumnarFilter edgeFilter = ColumnarFilter.create();
+
+  /**
+   * Creates a new data source. Paths can be local (file://) or HDFS
+   * (hdfs://).
+   *
+   * @param inputPath directory containing the graph
+   * @param config    Gradoop Flink configuration
+   */
+  public ColumnarDataSource(String inputPath, GradoopFlinkConfig config) {
+    super(inputPath, config);
+  }
+
+  /**
+   * Only reads graph heads passing the given filter.
+   *
+   * @param filter graph head label predicate and property projection
+   * @return this
+   */
+  public ColumnarDataSource withGraphHeadFilter(ColumnarFilter filter) {
+    this.graphHeadFilter = filter;
+    return this;
+  }
+
+  /**
+   * Only reads vertices passing the given filter.
+   *
+   * @param filter vertex label predicate and property projection
+   * @return this
+   */
+  public ColumnarDataSource withVertexFilter(ColumnarFilter filter) {
+    this.vertexFilter = filter;
+    return this;
+  }
+
+  /**
+   * Only reads edges passing the given filter.
+   *
+   * @param filter edge label predicate and property projection
+   * @return this
+   */
+  public ColumnarDataSource withEdgeFilter(ColumnarFilter filter) {
+    this.edgeFilter = filter;
+    return this;
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    GradoopFlinkConfig config = getConfig();
+
+    DataSet<GraphHead> graphHeads = createInput(new GraphHeadColumnarInputFormat(
+      new Path(getGraphHeadPath()), config.getGraphHeadFactory(), graphHeadFilter),
+      config.getGraphHeadFactory().getType());
+    DataSet<Vertex> vertices = createInput(new VertexColumnarInputFormat(
+      new Path(getVertexPath()), config.getVertexFactory(), vertexFilter),
+      config.getVertexFactory().getType());
+    DataSet<Edge> edges = createInput(new EdgeColumnarInputFormat(
+      new Path(getEdgePath()), config.getEdgeFactory(), edgeFilter),
+      config.getEdgeFactory().getType());
+
+    if (!vertexFilter.acceptsAllLabels()) {
+      // remove edges whose source or target vertex has been filtered
+      edges = edges
+        .join(vertices)
+        .where(new SourceId<>()).equalTo(new Id<>())
+        .with(new LeftSide<>())
+        .join(vertices)
+        .where(new TargetId<>()).equalTo(new Id<>())
+        .with(new LeftSide<>());
+    }
+
+    return GraphCollection.fromDataSets(graphHeads, vertices, edges, config);
+  }
+
+  @Override
+  public GraphTransactions getGraphTransactions() {
+    return getGraphCollection().toTransactions();
+  }
+
+  /**
+   * Creates a data set from the given input format.
+   *
+   * @param format  columnar input format
+   * @param type    element type
+   * @param <T>     element type
+   * @return data set
+   */
+  private <T> DataSet<T> createInput(FileInputFormat<T> format, Class<T> type) {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    return env.createInput(format, TypeExtractor.createTypeInfo(type));
+  }
+}
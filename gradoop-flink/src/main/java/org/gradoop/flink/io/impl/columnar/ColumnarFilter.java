@@ -0,0 +1,123 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Label predicate and property projection which are pushed into the
+ * columnar input formats.
+ *
+ * Blocks of elements with other labels are skipped without decompressing
+ * any column. Property columns which are not projected are skipped as well.
+ */
+public class ColumnarFilter implements Serializable {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Allowed labels, empty if all labels are allowed.
+   */
+  private final Set<String> labels;
+
+  /**
+   * Property keys to read, {@code null} if all properties are read.
+   */
+  private Set<String> projectedKeys;
+
+  /**
+   * Creates a filter without any predicates.
+   */
+  private ColumnarFilter() {
+    this.labels = new HashSet<>();
+  }
+
+  /**
+   * Creates a filter which accepts all elements and reads all properties.
+   *
+   * @return filter
+   */
+  public static ColumnarFilter create() {
+    return new ColumnarFilter();
+  }
+
+  /**
+   * Only accepts elements with one of the given labels.
+   *
+   * @param allowedLabels allowed labels
+   * @return this
+   */
+  public ColumnarFilter withLabels(String... allowedLabels) {
+    Collections.addAll(labels, allowedLabels);
+    return this;
+  }
+
+  /**
+   * Only reads the given properties. Other properties are dropped.
+   *
+   * @param keys property keys to read
+   * @return this
+   */
+  public ColumnarFilter projectProperties(String... keys) {
+    if (projectedKeys == null) {
+      projectedKeys = new HashSet<>();
+    }
+    Collections.addAll(projectedKeys, keys);
+    return this;
+  }
+
+  /**
+   * Checks if the filter restricts the labels.
+   *
+   * @return true, if elements of all labels are accepted
+   */
+  public boolean acceptsAllLabels() {
+    return labels.isEmpty();
+  }
+
+  /**
+   * Checks if elements with the given label are read.
+   *
+   * @param label element label
+   * @return true, if the label is accepted
+   */
+  public boolean acceptsLabel(String label) {
+    return labels.isEmpty() || labels.contains(label);
+  }
+
+  /**
+   * Checks if the given property is read.
+   *
+   * @param key property key
+   * @return true, if the property is projected
+   */
+  public boolean readsProperty(String key) {
+    return projectedKeys == null || projectedKeys.contains(key);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ColumnarFilter{labels=%s, projectedKeys=%s}", labels, projectedKeys);
+  }
+}
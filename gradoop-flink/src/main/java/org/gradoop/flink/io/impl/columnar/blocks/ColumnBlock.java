@@ -0,0 +1,141 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar.blocks;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+
+/**
+ * Decoded block of the columnar format. All arrays are indexed by row.
+ */
+public class ColumnBlock {
+
+  /**
+   * Label of all elements in the block.
+   */
+  private final String label;
+
+  /**
+   * Element ids.
+   */
+  private final GradoopId[] ids;
+
+  /**
+   * Graph ids, {@code null} for graph heads.
+   */
+  private final GradoopIdSet[] graphIds;
+
+  /**
+   * Source ids, {@code null} for graph heads and vertices.
+   */
+  private final GradoopId[] sourceIds;
+
+  /**
+   * Target ids, {@code null} for graph heads and vertices.
+   */
+  private final GradoopId[] targetIds;
+
+  /**
+   * Projected properties.
+   */
+  private final Properties[] properties;
+
+  /**
+   * Creates a new block.
+   *
+   * @param label       label of all elements
+   * @param ids         element ids
+   * @param graphIds    graph ids or {@code null}
+   * @param sourceIds   source ids or {@code null}
+   * @param targetIds   target ids or {@code null}
+   * @param properties  projected properties
+   */
+  ColumnBlock(String label, GradoopId[] ids, GradoopIdSet[] graphIds, GradoopId[] sourceIds,
+    GradoopId[] targetIds, Properties[] properties) {
+    this.label = label;
+    this.ids = ids;
+    this.graphIds = graphIds;
+    this.sourceIds = sourceIds;
+    this.targetIds = targetIds;
+    this.properties = properties;
+  }
+
+  /**
+   * Returns the number of elements in the block.
+   *
+   * @return number of elements
+   */
+  public int size() {
+    return ids.length;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  /**
+   * Returns the id of the given row.
+   *
+   * @param row row index
+   * @return element id
+   */
+  public GradoopId getId(int row) {
+    return ids[row];
+  }
+
+  /**
+   * Returns the graph ids of the given row.
+   *
+   * @param row row index
+   * @return graph ids, empty if the block has no graph id column
+   */
+  public GradoopIdSet getGraphIds(int row) {
+    return graphIds != null ? graphIds[row] : new GradoopIdSet();
+  }
+
+  /**
+   * Returns the source id of the given row.
+   *
+   * @param row row index
+   * @return source id, {@code null} if the block has no source id column
+   */
+  public GradoopId getSourceId(int row) {
+    return sourceIds != null ? sourceIds[row] : null;
+  }
+
+  /**
+   * Returns the target id of the given row.
+   *
+   * @param row row index
+   * @return target id, {@code null} if the block has no target id column
+   */
+  public GradoopId getTargetId(int row) {
+    return targetIds != null ? targetIds[row] : null;
+  }
+
+  /**
+   * Returns the projected properties of the given row.
+   *
+   * @param row row index
+   * @return properties
+   */
+  public Properties getProperties(int row) {
+    return properties[row];
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar.blocks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Constants and compression helpers of the columnar EPGM format.
+ *
+ * A file is a sequence of blocks. Each block contains up to a fixed number of
+ * elements with the same label, stored column by column:
+ *
+ * <pre>
+ * block:  [sync marker][block length]
+ *         [label][row count][column count][column]*
+ * column: [kind][property key (property columns only)]
+ *         [codec][raw length][stored length][data]
+ * </pre>
+ *
+ * The sync marker allows input splits to start at arbitrary byte offsets:
+ * a split reads all blocks whose marker starts within the split. Each column
+ * is compressed on its own, so that columns which are not read can be
+ * skipped without decompressing them.
+ */
+public final class ColumnBlockFormat {
+
+  /**
+   * Marks the start of a block.
+   */
+  public static final byte[] SYNC_MARKER = {
+    (byte) 0x9e, (byte) 0x47, (byte) 0x52, (byte) 0x44, (byte) 0x4f, (byte) 0x4f, (byte) 0x50,
+    (byte) 0xc0, (byte) 0x4c, (byte) 0x55, (byte) 0x4d, (byte) 0x4e, (byte) 0xb1, (byte) 0x0c,
+    (byte) 0x6b, (byte) 0x5a
+  };
+
+  /**
+   * Default maximum number of elements per block.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+  /**
+   * Column containing the element ids.
+   */
+  public static final byte COLUMN_ID = 0;
+
+  /**
+   * Column containing the graph ids of vertices and edges.
+   */
+  public static final byte COLUMN_GRAPHS = 1;
+
+  /**
+   * Column containing the source ids of edges.
+   */
+  public static final byte COLUMN_SOURCE = 2;
+
+  /**
+   * Column containing the target ids of edges.
+   */
+  public static final byte COLUMN_TARGET = 3;
+
+  /**
+   * Column containing the values of one property key.
+   */
+  public static final byte COLUMN_PROPERTY = 4;
+
+  /**
+   * Column data is stored as is.
+   */
+  public static final byte CODEC_NONE = 0;
+
+  /**
+   * Column data is deflate compressed.
+   */
+  public static final byte CODEC_DEFLATE = 1;
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private ColumnBlockFormat() {
+  }
+
+  /**
+   * Compresses the given column data.
+   *
+   * @param data raw column data
+   * @return compressed column data
+   */
+  public static byte[] compress(byte[] data) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(data);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(data.length / 2, 64));
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Decompresses the given column data.
+   *
+   * @param data      compressed column data
+   * @param offset    start of the compressed data
+   * @param length    length of the compressed data
+   * @param rawLength length of the raw column data
+   * @return raw column data
+   * @throws IOException if the data is corrupt
+   */
+  public static byte[] uncompress(byte[] data, int offset, int length, int rawLength)
+    throws IOException {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(data, offset, length);
+      byte[] raw = new byte[rawLength];
+      int position = 0;
+      while (position < rawLength) {
+        int inflated = inflater.inflate(raw, position, rawLength - position);
+        if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+          throw new IOException("Truncated column data");
+        }
+        position += inflated;
+      }
+      return raw;
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt column data", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
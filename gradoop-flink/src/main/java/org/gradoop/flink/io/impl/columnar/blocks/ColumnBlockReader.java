@@ -0,0 +1,168 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar.blocks;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.columnar.ColumnarFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Decodes the columns of a block written by {@link ColumnBlockWriter}.
+ *
+ * Property columns which are not projected by the {@link ColumnarFilter} are
+ * skipped without decompressing them.
+ */
+public class ColumnBlockReader {
+
+  /**
+   * Label predicate and property projection.
+   */
+  private final ColumnarFilter filter;
+
+  /**
+   * Creates a new block reader.
+   *
+   * @param filter label predicate and property projection
+   */
+  public ColumnBlockReader(ColumnarFilter filter) {
+    this.filter = filter;
+  }
+
+  /**
+   * Checks if blocks with the given label need to be decoded.
+   *
+   * @param label block label
+   * @return true, if the label is accepted by the filter
+   */
+  public boolean accepts(String label) {
+    return filter.acceptsLabel(label);
+  }
+
+  /**
+   * Decodes the columns of a block.
+   *
+   * @param label   block label
+   * @param data    encoded block following the label
+   * @return decoded block
+   * @throws IOException if the block is corrupt
+   */
+  public ColumnBlock decode(String label, byte[] data) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+    int rows = in.readInt();
+    int columns = in.readInt();
+
+    GradoopId[] ids = null;
+    GradoopIdSet[] graphIds = null;
+    GradoopId[] sourceIds = null;
+    GradoopId[] targetIds = null;
+    Properties[] properties = new Properties[rows];
+    for (int row = 0; row < rows; row++) {
+      properties[row] = Properties.create();
+    }
+
+    for (int column = 0; column < columns; column++) {
+      byte kind = in.readByte();
+      String key = kind == ColumnBlockFormat.COLUMN_PROPERTY ? in.readUTF() : null;
+      byte codec = in.readByte();
+      int rawLength = in.readInt();
+      int storedLength = in.readInt();
+
+      if (key != null && !filter.readsProperty(key)) {
+        in.skipBytes(storedLength);
+        continue;
+      }
+
+      byte[] stored = new byte[storedLength];
+      in.readFully(stored);
+      byte[] raw = codec == ColumnBlockFormat.CODEC_DEFLATE ?
+        ColumnBlockFormat.uncompress(stored, 0, storedLength, rawLength) : stored;
+
+      switch (kind) {
+      case ColumnBlockFormat.COLUMN_ID:
+        ids = readIds(raw, rows);
+        break;
+      case ColumnBlockFormat.COLUMN_GRAPHS:
+        graphIds = readGraphIds(raw, rows);
+        break;
+      case ColumnBlockFormat.COLUMN_SOURCE:
+        sourceIds = readIds(raw, rows);
+        break;
+      case ColumnBlockFormat.COLUMN_TARGET:
+        targetIds = readIds(raw, rows);
+        break;
+      case ColumnBlockFormat.COLUMN_PROPERTY:
+        PropertyValue[] values = PropertyColumn.decode(raw, rows);
+        for (int row = 0; row < rows; row++) {
+          if (values[row] != null) {
+            properties[row].set(key, values[row]);
+          }
+        }
+        break;
+      default:
+        throw new IOException("Unknown column kind: " + kind);
+      }
+    }
+
+    if (ids == null) {
+      throw new IOException("Block without id column: " + label);
+    }
+    return new ColumnBlock(label, ids, graphIds, sourceIds, targetIds, properties);
+  }
+
+  /**
+   * Decodes a column of fixed size ids.
+   *
+   * @param raw   raw column data
+   * @param rows  number of rows
+   * @return id per row
+   */
+  private static GradoopId[] readIds(byte[] raw, int rows) {
+    GradoopId[] ids = new GradoopId[rows];
+    for (int row = 0; row < rows; row++) {
+      ids[row] = GradoopId.fromByteArray(Arrays.copyOfRange(raw,
+        row * GradoopId.ID_SIZE, (row + 1) * GradoopId.ID_SIZE));
+    }
+    return ids;
+  }
+
+  /**
+   * Decodes a column of length prefixed graph id sets.
+   *
+   * @param raw   raw column data
+   * @param rows  number of rows
+   * @return graph ids per row
+   * @throws IOException
+   */
+  private static GradoopIdSet[] readGraphIds(byte[] raw, int rows) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+    GradoopIdSet[] graphIds = new GradoopIdSet[rows];
+    for (int row = 0; row < rows; row++) {
+      byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      graphIds[row] = GradoopIdSet.fromByteArray(bytes);
+    }
+    return graphIds;
+  }
+}
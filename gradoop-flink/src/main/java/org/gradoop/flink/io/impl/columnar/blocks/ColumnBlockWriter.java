@@ -0,0 +1,212 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar.blocks;
+
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.api.entities.EPGMGraphElement;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects elements with the same label and encodes them as one block of the
+ * columnar format (see {@link ColumnBlockFormat}).
+ */
+public class ColumnBlockWriter {
+
+  /**
+   * Label of all elements in the block.
+   */
+  private final String label;
+
+  /**
+   * Element ids.
+   */
+  private final ByteArrayOutputStream ids;
+
+  /**
+   * Serialized graph ids of graph elements, {@code null} for graph heads.
+   */
+  private ByteArrayOutputStream graphIds;
+
+  /**
+   * Source ids of edges, {@code null} for other elements.
+   */
+  private ByteArrayOutputStream sourceIds;
+
+  /**
+   * Target ids of edges, {@code null} for other elements.
+   */
+  private ByteArrayOutputStream targetIds;
+
+  /**
+   * Property values per key, {@code null} for rows without the key.
+   */
+  private final Map<String, List<PropertyValue>> properties;
+
+  /**
+   * Number of elements in the block.
+   */
+  private int rows;
+
+  /**
+   * Creates a new block writer.
+   *
+   * @param label label of all elements in the block
+   */
+  public ColumnBlockWriter(String label) {
+    this.label = label;
+    this.ids = new ByteArrayOutputStream();
+    this.properties = new LinkedHashMap<>();
+  }
+
+  /**
+   * Adds an element to the block.
+   *
+   * @param element EPGM element with the label of the block
+   * @throws IOException
+   */
+  public void add(EPGMElement element) throws IOException {
+    ids.write(element.getId().toByteArray());
+
+    if (element instanceof EPGMGraphElement) {
+      if (graphIds == null) {
+        graphIds = new ByteArrayOutputStream();
+      }
+      byte[] bytes = ((EPGMGraphElement) element).getGraphIds().toByteArray();
+      new DataOutputStream(graphIds).writeInt(bytes.length);
+      graphIds.write(bytes);
+    }
+
+    if (element instanceof EPGMEdge) {
+      if (sourceIds == null) {
+        sourceIds = new ByteArrayOutputStream();
+        targetIds = new ByteArrayOutputStream();
+      }
+      sourceIds.write(((EPGMEdge) element).getSourceId().toByteArray());
+      targetIds.write(((EPGMEdge) element).getTargetId().toByteArray());
+    }
+
+    Properties elementProperties = element.getProperties();
+    if (elementProperties != null) {
+      for (Property property : elementProperties) {
+        List<PropertyValue> column = properties.get(property.getKey());
+        if (column == null) {
+          column = new ArrayList<>();
+          properties.put(property.getKey(), column);
+        }
+        while (column.size() < rows) {
+          column.add(null);
+        }
+        column.add(property.getValue());
+      }
+    }
+    rows++;
+  }
+
+  /**
+   * Returns the number of elements in the block.
+   *
+   * @return number of elements
+   */
+  public int size() {
+    return rows;
+  }
+
+  /**
+   * Encodes all added elements and resets the writer.
+   *
+   * @return encoded block without sync marker and block length
+   * @throws IOException
+   */
+  public byte[] encode() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+
+    byte[] labelBytes = label.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(labelBytes.length);
+    out.write(labelBytes);
+    out.writeInt(rows);
+
+    int columns = 1 + properties.size() + (graphIds != null ? 1 : 0) +
+      (sourceIds != null ? 2 : 0);
+    out.writeInt(columns);
+
+    writeColumn(out, ColumnBlockFormat.COLUMN_ID, null, ids.toByteArray());
+    if (graphIds != null) {
+      writeColumn(out, ColumnBlockFormat.COLUMN_GRAPHS, null, graphIds.toByteArray());
+    }
+    if (sourceIds != null) {
+      writeColumn(out, ColumnBlockFormat.COLUMN_SOURCE, null, sourceIds.toByteArray());
+      writeColumn(out, ColumnBlockFormat.COLUMN_TARGET, null, targetIds.toByteArray());
+    }
+    for (Map.Entry<String, List<PropertyValue>> column : properties.entrySet()) {
+      List<PropertyValue> values = column.getValue();
+      while (values.size() < rows) {
+        values.add(null);
+      }
+      writeColumn(out, ColumnBlockFormat.COLUMN_PROPERTY, column.getKey(),
+        PropertyColumn.encode(values));
+    }
+    out.flush();
+
+    ids.reset();
+    graphIds = null;
+    sourceIds = null;
+    targetIds = null;
+    properties.clear();
+    rows = 0;
+
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Writes a column header followed by the (compressed) column data. Data is
+   * stored uncompressed if compression does not reduce its size.
+   *
+   * @param out   output
+   * @param kind  column kind
+   * @param key   property key or {@code null} for system columns
+   * @param raw   raw column data
+   * @throws IOException
+   */
+  private void writeColumn(DataOutputStream out, byte kind, String key, byte[] raw)
+    throws IOException {
+    out.writeByte(kind);
+    if (key != null) {
+      out.writeUTF(key);
+    }
+    byte[] compressed = ColumnBlockFormat.compress(raw);
+    boolean useCompressed = compressed.length < raw.length;
+    out.writeByte(useCompressed ? ColumnBlockFormat.CODEC_DEFLATE : ColumnBlockFormat.CODEC_NONE);
+    out.writeInt(raw.length);
+    byte[] data = useCompressed ? compressed : raw;
+    out.writeInt(data.length);
+    out.write(data);
+  }
+}
@@ -0,0 +1,333 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar.blocks;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes and decodes the values of one property key within a block.
+ *
+ * <pre>
+ * [presence bitmap][type][values of present rows]
+ * </pre>
+ *
+ * If all values have the same primitive type, they are stored without any
+ * per value type information. Strings are dictionary encoded if a block
+ * contains at most {@value #MAX_DICTIONARY_SIZE} distinct values which are
+ * repeated. All other columns store the serialized property values.
+ */
+public final class PropertyColumn {
+
+  /**
+   * Maximum number of distinct strings of a dictionary encoded column.
+   */
+  public static final int MAX_DICTIONARY_SIZE = 256;
+
+  /**
+   * Boolean values, one byte each.
+   */
+  private static final byte TYPE_BOOLEAN = 0;
+
+  /**
+   * Integer values, four bytes each.
+   */
+  private static final byte TYPE_INT = 1;
+
+  /**
+   * Long values, eight bytes each.
+   */
+  private static final byte TYPE_LONG = 2;
+
+  /**
+   * Float values, four bytes each.
+   */
+  private static final byte TYPE_FLOAT = 3;
+
+  /**
+   * Double values, eight bytes each.
+   */
+  private static final byte TYPE_DOUBLE = 4;
+
+  /**
+   * Length prefixed UTF-8 strings.
+   */
+  private static final byte TYPE_STRING = 5;
+
+  /**
+   * Dictionary of strings followed by a one byte dictionary index per value.
+   */
+  private static final byte TYPE_STRING_DICTIONARY = 6;
+
+  /**
+   * Serialized property values of arbitrary types.
+   */
+  private static final byte TYPE_MIXED = 7;
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private PropertyColumn() {
+  }
+
+  /**
+   * Encodes the given column.
+   *
+   * @param values property value per row, {@code null} if a row has no value
+   * @return raw column data
+   * @throws IOException
+   */
+  public static byte[] encode(List<PropertyValue> values) throws IOException {
+    int rows = values.size();
+    byte[] presence = new byte[(rows + 7) / 8];
+    List<PropertyValue> present = new ArrayList<>(rows);
+    for (int row = 0; row < rows; row++) {
+      PropertyValue value = values.get(row);
+      if (value != null) {
+        presence[row / 8] |= 1 << (row % 8);
+        present.add(value);
+      }
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(rows * 8 + presence.length + 1);
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.write(presence);
+
+    byte type = getType(present);
+    out.writeByte(type);
+    switch (type) {
+    case TYPE_BOOLEAN:
+      for (PropertyValue value : present) {
+        out.writeBoolean(value.getBoolean());
+      }
+      break;
+    case TYPE_INT:
+      for (PropertyValue value : present) {
+        out.writeInt(value.getInt());
+      }
+      break;
+    case TYPE_LONG:
+      for (PropertyValue value : present) {
+        out.writeLong(value.getLong());
+      }
+      break;
+    case TYPE_FLOAT:
+      for (PropertyValue value : present) {
+        out.writeFloat(value.getFloat());
+      }
+      break;
+    case TYPE_DOUBLE:
+      for (PropertyValue value : present) {
+        out.writeDouble(value.getDouble());
+      }
+      break;
+    case TYPE_STRING:
+      for (PropertyValue value : present) {
+        writeString(out, value.getString());
+      }
+      break;
+    case TYPE_STRING_DICTIONARY:
+      writeDictionaryEncoded(out, present);
+      break;
+    default:
+      for (PropertyValue value : present) {
+        value.write(out);
+      }
+    }
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Decodes the given column.
+   *
+   * @param data  raw column data
+   * @param rows  number of rows in the block
+   * @return property value per row, {@code null} if a row has no value
+   * @throws IOException
+   */
+  public static PropertyValue[] decode(byte[] data, int rows) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+    byte[] presence = new byte[(rows + 7) / 8];
+    in.readFully(presence);
+    byte type = in.readByte();
+
+    String[] dictionary = null;
+    if (type == TYPE_STRING_DICTIONARY) {
+      dictionary = new String[in.readInt()];
+      for (int i = 0; i < dictionary.length; i++) {
+        dictionary[i] = readString(in);
+      }
+    }
+
+    PropertyValue[] values = new PropertyValue[rows];
+    for (int row = 0; row < rows; row++) {
+      if ((presence[row / 8] & (1 << (row % 8))) == 0) {
+        continue;
+      }
+      switch (type) {
+      case TYPE_BOOLEAN:
+        values[row] = PropertyValue.create(in.readBoolean());
+        break;
+      case TYPE_INT:
+        values[row] = PropertyValue.create(in.readInt());
+        break;
+      case TYPE_LONG:
+        values[row] = PropertyValue.create(in.readLong());
+        break;
+      case TYPE_FLOAT:
+        values[row] = PropertyValue.create(in.readFloat());
+        break;
+      case TYPE_DOUBLE:
+        values[row] = PropertyValue.create(in.readDouble());
+        break;
+      case TYPE_STRING:
+        values[row] = PropertyValue.create(readString(in));
+        break;
+      case TYPE_STRING_DICTIONARY:
+        values[row] = PropertyValue.create(dictionary[in.readUnsignedByte()]);
+        break;
+      default:
+        values[row] = new PropertyValue();
+        values[row].readFields(in);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Determines the encoding of the given values.
+   *
+   * @param values present values
+   * @return column type
+   */
+  private static byte getType(List<PropertyValue> values) {
+    if (values.isEmpty()) {
+      return TYPE_MIXED;
+    }
+    PropertyValue first = values.get(0);
+    byte type;
+    if (first.isBoolean()) {
+      type = TYPE_BOOLEAN;
+    } else if (first.isInt()) {
+      type = TYPE_INT;
+    } else if (first.isLong()) {
+      type = TYPE_LONG;
+    } else if (first.isFloat()) {
+      type = TYPE_FLOAT;
+    } else if (first.isDouble()) {
+      type = TYPE_DOUBLE;
+    } else if (first.isString()) {
+      type = TYPE_STRING;
+    } else {
+      return TYPE_MIXED;
+    }
+    for (PropertyValue value : values) {
+      if (value.getType() != first.getType()) {
+        return TYPE_MIXED;
+      }
+    }
+    if (type == TYPE_STRING && isDictionaryEncodable(values)) {
+      type = TYPE_STRING_DICTIONARY;
+    }
+    return type;
+  }
+
+  /**
+   * Checks if the given strings contain few distinct values which are
+   * repeated.
+   *
+   * @param values string values
+   * @return true, if a dictionary is smaller than the plain values
+   */
+  private static boolean isDictionaryEncodable(List<PropertyValue> values) {
+    Map<String, Integer> distinct = new HashMap<>();
+    for (PropertyValue value : values) {
+      distinct.putIfAbsent(value.getString(), distinct.size());
+      if (distinct.size() > MAX_DICTIONARY_SIZE) {
+        return false;
+      }
+    }
+    return distinct.size() < values.size();
+  }
+
+  /**
+   * Writes a dictionary followed by the dictionary index of each value.
+   *
+   * @param out     output
+   * @param values  string values
+   * @throws IOException
+   */
+  private static void writeDictionaryEncoded(DataOutputStream out, List<PropertyValue> values)
+    throws IOException {
+    Map<String, Integer> dictionary = new HashMap<>();
+    List<String> entries = new ArrayList<>();
+    byte[] indices = new byte[values.size()];
+    for (int i = 0; i < values.size(); i++) {
+      String value = values.get(i).getString();
+      Integer index = dictionary.get(value);
+      if (index == null) {
+        index = entries.size();
+        dictionary.put(value, index);
+        entries.add(value);
+      }
+      indices[i] = (byte) index.intValue();
+    }
+    out.writeInt(entries.size());
+    for (String entry : entries) {
+      writeString(out, entry);
+    }
+    out.write(indices);
+  }
+
+  /**
+   * Writes a length prefixed UTF-8 string.
+   *
+   * @param out   output
+   * @param value string
+   * @throws IOException
+   */
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Reads a length prefixed UTF-8 string.
+   *
+   * @param in input
+   * @return string
+   * @throws IOException
+   */
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
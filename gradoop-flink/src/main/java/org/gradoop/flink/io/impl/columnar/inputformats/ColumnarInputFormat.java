@@ -0,0 +1,241 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar.inputformats;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.flink.io.impl.columnar.ColumnarFilter;
+import org.gradoop.flink.io.impl.columnar.blocks.ColumnBlock;
+import org.gradoop.flink.io.impl.columnar.blocks.ColumnBlockFormat;
+import org.gradoop.flink.io.impl.columnar.blocks.ColumnBlockReader;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads EPGM elements stored in the columnar format (see
+ * {@link ColumnBlockFormat}).
+ *
+ * Files are splittable: each split starts reading at the first sync marker
+ * at or after its start offset and reads all blocks whose sync marker
+ * starts before its end offset. Blocks with labels not accepted by the
+ * {@link ColumnarFilter} are skipped without decoding them.
+ *
+ * @param <T> EPGM element type
+ */
+public abstract class ColumnarInputFormat<T extends EPGMElement> extends FileInputFormat<T> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Label predicate and property projection.
+   */
+  private final ColumnarFilter filter;
+
+  /**
+   * Decodes the blocks of the current split.
+   */
+  private transient ColumnBlockReader reader;
+
+  /**
+   * Buffered stream of the current split.
+   */
+  private transient DataInputStream in;
+
+  /**
+   * Current offset in the file.
+   */
+  private transient long position;
+
+  /**
+   * Offset in the file at which no more blocks may start.
+   */
+  private transient long splitEnd;
+
+  /**
+   * True, if the stream is positioned directly behind a sync marker.
+   */
+  private transient boolean atBlock;
+
+  /**
+   * Current block, {@code null} if the split is exhausted.
+   */
+  private transient ColumnBlock block;
+
+  /**
+   * Next row of the current block.
+   */
+  private transient int row;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath  input file or directory
+   * @param filter    label predicate and property projection
+   */
+  protected ColumnarInputFormat(Path filePath, ColumnarFilter filter) {
+    super(filePath);
+    this.filter = filter;
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    reader = new ColumnBlockReader(filter);
+    in = new DataInputStream(new BufferedInputStream(stream));
+    position = splitStart;
+    splitEnd = splitLength == READ_WHOLE_SPLIT_FLAG ? Long.MAX_VALUE : splitStart + splitLength;
+    atBlock = seekToFirstBlock();
+    nextBlock();
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    return block == null;
+  }
+
+  @Override
+  public T nextRecord(T reuse) throws IOException {
+    T element = createElement(block, row++);
+    if (row >= block.size()) {
+      nextBlock();
+    }
+    return element;
+  }
+
+  /**
+   * Creates an element from a row of the given block.
+   *
+   * @param block decoded block
+   * @param row   row index
+   * @return EPGM element
+   */
+  protected abstract T createElement(ColumnBlock block, int row);
+
+  /**
+   * Reads the next block with an accepted label which starts within the
+   * split.
+   *
+   * @throws IOException
+   */
+  private void nextBlock() throws IOException {
+    block = null;
+    row = 0;
+    while (block == null) {
+      if (!atBlock && (position >= splitEnd || !readSyncMarker())) {
+        return;
+      }
+      atBlock = false;
+
+      int length = in.readInt();
+      byte[] labelBytes = new byte[in.readInt()];
+      in.readFully(labelBytes);
+      String label = new String(labelBytes, StandardCharsets.UTF_8);
+      int remaining = length - Integer.BYTES - labelBytes.length;
+      position += Integer.BYTES + length;
+
+      if (reader.accepts(label)) {
+        byte[] data = new byte[remaining];
+        in.readFully(data);
+        ColumnBlock decoded = reader.decode(label, data);
+        if (decoded.size() > 0) {
+          block = decoded;
+        }
+      } else {
+        skipFully(remaining);
+      }
+    }
+  }
+
+  /**
+   * Scans the split for the first sync marker.
+   *
+   * @return true, if the stream is positioned behind a sync marker which
+   * starts within the split
+   * @throws IOException
+   */
+  private boolean seekToFirstBlock() throws IOException {
+    byte[] marker = ColumnBlockFormat.SYNC_MARKER;
+    byte[] window = new byte[marker.length];
+    long read = 0;
+    while (position - marker.length + 1 < splitEnd) {
+      int next = in.read();
+      if (next < 0) {
+        return false;
+      }
+      System.arraycopy(window, 1, window, 0, window.length - 1);
+      window[window.length - 1] = (byte) next;
+      position++;
+      read++;
+      if (read >= marker.length && Arrays.equals(window, marker)) {
+        return position - marker.length < splitEnd;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Reads the sync marker preceding a block.
+   *
+   * @return true, if a marker has been read, false at the end of the file
+   * @throws IOException if the stream does not contain a sync marker
+   */
+  private boolean readSyncMarker() throws IOException {
+    int first = in.read();
+    if (first < 0) {
+      return false;
+    }
+    byte[] marker = new byte[ColumnBlockFormat.SYNC_MARKER.length];
+    marker[0] = (byte) first;
+    in.readFully(marker, 1, marker.length - 1);
+    position += marker.length;
+    if (!Arrays.equals(marker, ColumnBlockFormat.SYNC_MARKER)) {
+      throw new IOException("Missing sync marker at offset " + (position - marker.length));
+    }
+    return true;
+  }
+
+  /**
+   * Skips the given number of bytes.
+   *
+   * @param bytes number of bytes to skip
+   * @throws IOException if the end of the stream is reached
+   */
+  private void skipFully(int bytes) throws IOException {
+    int remaining = bytes;
+    while (remaining > 0) {
+      int skipped = in.skipBytes(remaining);
+      if (skipped == 0) {
+        if (in.read() < 0) {
+          throw new EOFException("Truncated block");
+        }
+        skipped = 1;
+      }
+      remaining -= skipped;
+    }
+  }
+}
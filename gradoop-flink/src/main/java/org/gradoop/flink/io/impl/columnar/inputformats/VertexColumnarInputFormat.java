@@ -0,0 +1,58 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar.inputformats;
+
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.flink.io.impl.columnar.ColumnarFilter;
+import org.gradoop.flink.io.impl.columnar.blocks.ColumnBlock;
+
+/**
+ * Reads vertices stored in the columnar format.
+ */
+public class VertexColumnarInputFormat extends ColumnarInputFormat<Vertex> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Creates vertex instances.
+   */
+  private final VertexFactory factory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath  input file or directory
+   * @param factory   vertex factory
+   * @param filter    label predicate and property projection
+   */
+  public VertexColumnarInputFormat(Path filePath, VertexFactory factory, ColumnarFilter filter) {
+    super(filePath, filter);
+    this.factory = factory;
+  }
+
+  @Override
+  protected Vertex createElement(ColumnBlock block, int row) {
+    return factory.initVertex(block.getId(row), block.getLabel(), block.getProperties(row),
+      block.getGraphIds(row));
+  }
+}
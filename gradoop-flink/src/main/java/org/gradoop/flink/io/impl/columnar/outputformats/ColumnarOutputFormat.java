@@ -0,0 +1,122 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.columnar.outputformats;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.flink.io.impl.columnar.blocks.ColumnBlockFormat;
+import org.gradoop.flink.io.impl.columnar.blocks.ColumnBlockWriter;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes EPGM elements in the columnar format (see {@link ColumnBlockFormat}).
+ *
+ * Elements are buffered per label. A block is written as soon as the buffer
+ * of a label contains the maximum number of elements per block, the
+ * remaining buffers are written when the format is closed.
+ *
+ * @param <T> EPGM element type
+ */
+public class ColumnarOutputFormat<T extends EPGMElement> extends FileOutputFormat<T> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Maximum number of elements per block.
+   */
+  private final int blockSize;
+
+  /**
+   * Block writer per label.
+   */
+  private transient Map<String, ColumnBlockWriter> writers;
+
+  /**
+   * Output stream wrapping the file stream.
+   */
+  private transient DataOutputStream out;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param outputPath  output file or directory
+   * @param blockSize   maximum number of elements per block
+   */
+  public ColumnarOutputFormat(Path outputPath, int blockSize) {
+    super(outputPath);
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("block size must be positive");
+    }
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    writers = new HashMap<>();
+    out = new DataOutputStream(stream);
+  }
+
+  @Override
+  public void writeRecord(T element) throws IOException {
+    ColumnBlockWriter writer = writers.get(element.getLabel());
+    if (writer == null) {
+      writer = new ColumnBlockWriter(element.getLabel());
+      writers.put(element.getLabel(), writer);
+    }
+    writer.add(element);
+    if (writer.size() >= blockSize) {
+      writeBlock(writer);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (writers != null) {
+      for (ColumnBlockWriter writer : writers.values()) {
+        if (writer.size() > 0) {
+          writeBlock(writer);
+        }
+      }
+      writers = null;
+      out.flush();
+    }
+    super.close();
+  }
+
+  /**
+   * Writes the buffered elements of a label as one block.
+   *
+   * @param writer block writer
+   * @throws IOException
+   */
+  private void writeBlock(ColumnBlockWriter writer) throws IOException {
+    byte[] block = writer.encode();
+    out.write(ColumnBlockFormat.SYNC_MARKER);
+    out.writeInt(block.length);
+    out.write(block);
+  }
+}
@@ -17,14 +17,15 @@
 
 package org.gradoop.flink.io.impl.hbase;
 
+import org.apache.flink.api.common.operators.Order;
 import org.apache.flink.api.java.DataSet;
-import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
-import org.apache.hadoop.hbase.mapreduce.TableOutputFormat;
-import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.client.HTable;
+import org.apache.hadoop.hbase.client.Mutation;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -32,10 +33,12 @@ import org.gradoop.common.storage.api.PersistentEdge;
 import org.gradoop.common.storage.api.PersistentGraphHead;
 import org.gradoop.common.storage.api.PersistentVertex;
 import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
+import org.gradoop.common.storage.impl.hbase.HBaseIndex;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.impl.hbase.functions.BuildEdgeMutation;
 import org.gradoop.flink.io.impl.hbase.functions.BuildGraphHeadMutation;
 import org.gradoop.flink.io.impl.hbase.functions.BuildGraphTransactions;
+import org.gradoop.flink.io.impl.hbase.functions.BuildIndexMutations;
 import org.gradoop.flink.io.impl.hbase.functions.BuildPersistentEdge;
 import org.gradoop.flink.io.impl.hbase.functions.BuildPersistentGraphHead;
 import org.gradoop.flink.io.impl.hbase.functions.BuildPersistentVertex;
@@ -43,6 +46,11 @@ import org.gradoop.flink.io.impl.hbase.functions.BuildVertexDataWithEdges;
 import org.gradoop.flink.io.impl.hbase.functions.BuildVertexMutation;
 import org.gradoop.flink.io.impl.hbase.functions.EdgeSetBySourceId;
 import org.gradoop.flink.io.impl.hbase.functions.EdgeSetByTargetId;
+import org.gradoop.flink.io.impl.hbase.functions.MutationToCells;
+import org.gradoop.flink.io.impl.hbase.functions.MutationWithRowKey;
+import org.gradoop.flink.io.impl.hbase.functions.RegionPartitioner;
+import org.gradoop.flink.io.impl.hbase.outputformats.BulkLoadOutputFormat;
+import org.gradoop.flink.io.impl.hbase.outputformats.MutationOutputFormat;
 import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.GraphTransactions;
 import org.gradoop.flink.model.impl.LogicalGraph;
@@ -58,10 +66,24 @@ import java.util.Set;
 /**
  * Converts runtime representation of EPGM elements into persistent
  * representations and writes them to HBase.
+ *
+ * By default, elements are written as mutations. In bulk load mode, they are
+ * written to HFiles in a staging directory instead, which are loaded into the
+ * tables after the job has finished. This avoids the write-ahead log and
+ * memstore of the region servers and is intended for initial loads of large
+ * graphs.
+ *
+ * If the store maintains an {@link HBaseIndex}, the index entries of all
+ * elements are written as well.
  */
 public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
   implements DataSink {
 
+  /**
+   * Staging directory for HFiles or {@code null} to write mutations.
+   */
+  private final String bulkLoadPath;
+
   /**
    * Creates a new HBase data sink.
    *
@@ -70,7 +92,23 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
    */
   public HBaseDataSink(HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore,
     GradoopFlinkConfig config) {
+    this(epgmStore, config, null);
+  }
+
+  /**
+   * Creates a new HBase data sink which bulk loads HFiles. For each table, the
+   * files are staged in a sub directory of the given path which must not
+   * exist before.
+   *
+   * @param epgmStore     store implementation
+   * @param config        Gradoop Flink configuration
+   * @param bulkLoadPath  staging directory for HFiles or {@code null} to
+   *                      write mutations
+   */
+  public HBaseDataSink(HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore,
+    GradoopFlinkConfig config, String bulkLoadPath) {
     super(epgmStore, config);
+    this.bulkLoadPath = bulkLoadPath;
   }
 
   @Override
@@ -107,6 +145,12 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
 
     // transform edge data to persistent edge data and write it
     writeEdges(graphCollection);
+
+    // write secondary index entries
+    HBaseIndex index = getHBaseConfig().getIndex();
+    if (index != null) {
+      writeIndexEntries(graphCollection, index);
+    }
   }
 
   @Override
@@ -135,7 +179,7 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
 
     // co-group (graph-id, vertex-id) and (graph-id, edge-id) tuples to
     // (graph-id, {vertex-id}, {edge-id}) triples
-    DataSet<Tuple3<GradoopId, GradoopIdList, GradoopIdList>>
+    DataSet<Tuple3<GradoopId, GradoopIdSet, GradoopIdSet>>
       graphToVertexIdsAndEdgeIds = graphIdToVertexId
         .coGroup(graphIdToEdgeId)
         .where(0)
@@ -150,13 +194,9 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
       .with(new BuildPersistentGraphHead<>(getHBaseConfig().getPersistentGraphHeadFactory()));
 
     // write (persistent-graph-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration().set(
-      TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getGraphTableName());
-
-    persistentGraphDataSet
-      .map(new BuildGraphHeadMutation(getFlinkConfig().getGraphHeadHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    writeMutations(persistentGraphDataSet
+      .map(new BuildGraphHeadMutation(getHBaseConfig().getGraphHeadHandler())),
+      getHBaseConfig().getGraphTableName());
   }
 
   /**
@@ -193,13 +233,9 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
       .with(new BuildPersistentVertex<>(getHBaseConfig().getPersistentVertexFactory()));
 
     // write (persistent-vertex-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getVertexTableName());
-
-    persistentVertexDataSet
-      .map(new BuildVertexMutation<>(getFlinkConfig().getVertexHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    writeMutations(persistentVertexDataSet
+      .map(new BuildVertexMutation<>(getHBaseConfig().getVertexHandler())),
+      getHBaseConfig().getVertexTableName());
   }
 
   /**
@@ -225,11 +261,63 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
       .with(new BuildPersistentEdge<>(getHBaseConfig().getPersistentEdgeFactory()));
 
     // write (persistent-edge-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration().set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getEdgeTableName());
+    writeMutations(persistentEdgeDataSet
+      .map(new BuildEdgeMutation<>(getHBaseConfig().getEdgeHandler())),
+      getHBaseConfig().getEdgeTableName());
+  }
 
-    persistentEdgeDataSet
-      .map(new BuildEdgeMutation<>(getFlinkConfig().getEdgeHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+  /**
+   * Writes the secondary index entries of all elements. As all entries are
+   * stored in the same table, they are written by a single output.
+   *
+   * @param collection  Graph collection
+   * @param index       secondary index definition
+   * @throws IOException
+   */
+  private void writeIndexEntries(final GraphCollection collection, HBaseIndex index)
+    throws IOException {
+    DataSet<Tuple2<GradoopId, Mutation>> indexMutations = collection.getGraphHeads()
+      .flatMap(new BuildIndexMutations<GraphHead>(index, HBaseIndex.ElementType.GRAPH_HEAD))
+      .union(collection.getVertices()
+        .flatMap(new BuildIndexMutations<Vertex>(index, HBaseIndex.ElementType.VERTEX)))
+      .union(collection.getEdges()
+        .flatMap(new BuildIndexMutations<Edge>(index, HBaseIndex.ElementType.EDGE)));
+
+    writeMutations(indexMutations, index.getTableName());
+  }
+
+  /**
+   * Writes the mutations to the given table, either directly or via HFiles.
+   *
+   * @param mutations (element id, mutation)
+   * @param tableName table to write to
+   * @throws IOException
+   */
+  private void writeMutations(DataSet<Tuple2<GradoopId, Mutation>> mutations,
+    String tableName) throws IOException {
+    if (bulkLoadPath == null) {
+      mutations.output(new MutationOutputFormat(tableName, getStore().getWriterConfig()));
+    } else {
+      mutations
+        .map(new MutationWithRowKey())
+        .partitionCustom(new RegionPartitioner(getRegionStartKeys(tableName)), 0)
+        .sortPartition(0, Order.ASCENDING)
+        .flatMap(new MutationToCells())
+        .output(new BulkLoadOutputFormat(getStore().getHBaseConfiguration(),
+          tableName, new Path(bulkLoadPath, tableName).toString()));
+    }
+  }
+
+  /**
+   * Returns the start keys of all regions of the given table.
+   *
+   * @param tableName table name
+   * @return region start keys
+   * @throws IOException
+   */
+  private byte[][] getRegionStartKeys(String tableName) throws IOException {
+    try (HTable table = new HTable(getStore().getHBaseConfiguration(), tableName)) {
+      return table.getStartKeys();
+    }
   }
 }
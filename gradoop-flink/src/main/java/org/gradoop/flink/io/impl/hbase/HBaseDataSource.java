@@ -22,27 +22,65 @@ import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple1;
 import org.apache.flink.api.java.typeutils.TupleTypeInfo;
 import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.storage.impl.hbase.HBaseElementFilter;
+import org.gradoop.common.storage.impl.hbase.HBaseIndex;
 import org.gradoop.flink.model.impl.GraphTransactions;
 import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+import org.gradoop.flink.model.impl.functions.epgm.TargetId;
 import org.gradoop.flink.model.impl.functions.tuple.ValueOf1;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
 import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.hbase.functions.ReadEdgesById;
+import org.gradoop.flink.io.impl.hbase.functions.ReadGraphHeadsById;
+import org.gradoop.flink.io.impl.hbase.functions.ReadVerticesById;
 import org.gradoop.flink.io.impl.hbase.inputformats.EdgeTableInputFormat;
 import org.gradoop.flink.io.impl.hbase.inputformats.GraphHeadTableInputFormat;
+import org.gradoop.flink.io.impl.hbase.inputformats.IndexTableInputFormat;
 import org.gradoop.flink.io.impl.hbase.inputformats.VertexTableInputFormat;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
 
+import java.io.IOException;
+
 /**
  * Creates an EPGM instance from HBase.
+ *
+ * Label, property and graph membership predicates as well as property
+ * projections can be pushed into the table scans via
+ * {@link HBaseElementFilter}s. If vertices are filtered, only edges between
+ * the remaining vertices are returned.
+ *
+ * If the store maintains an {@link HBaseIndex} and a filter restricts the
+ * labels and compares an indexed property to a value, the matching element
+ * ids are read from the index table and the elements are read via batched
+ * point gets instead of a full table scan. Both steps run inside the job.
  */
 public class HBaseDataSource extends HBaseBase<GraphHead, Vertex, Edge>
   implements DataSource {
 
+  /**
+   * Filter applied when scanning the graph head table.
+   */
+  private HBaseElementFilter graphHeadFilter = HBaseElementFilter.create();
+
+  /**
+   * Filter applied when scanning the vertex table.
+   */
+  private HBaseElementFilter vertexFilter = HBaseElementFilter.create();
+
+  /**
+   * Filter applied when scanning the edge table.
+   */
+  private HBaseElementFilter edgeFilter = HBaseElementFilter.create();
+
   /**
    * Creates a new HBase data source.
    *
@@ -53,50 +91,191 @@ public class HBaseDataSource extends HBaseBase<GraphHead, Vertex, Edge>
     super(epgmStore, config);
   }
 
+  /**
+   * Only reads graph heads passing the given filter.
+   *
+   * @param filter graph head predicates and projections
+   * @return this
+   */
+  public HBaseDataSource withGraphHeadFilter(HBaseElementFilter filter) {
+    this.graphHeadFilter = filter;
+    return this;
+  }
+
+  /**
+   * Only reads vertices passing the given filter.
+   *
+   * @param filter vertex predicates and projections
+   * @return this
+   */
+  public HBaseDataSource withVertexFilter(HBaseElementFilter filter) {
+    this.vertexFilter = filter;
+    return this;
+  }
+
+  /**
+   * Only reads edges passing the given filter.
+   *
+   * @param filter edge predicates and projections
+   * @return this
+   */
+  public HBaseDataSource withEdgeFilter(HBaseElementFilter filter) {
+    this.edgeFilter = filter;
+    return this;
+  }
+
   @Override
-  public LogicalGraph getLogicalGraph() {
+  public LogicalGraph getLogicalGraph() throws IOException {
     return getGraphCollection().reduce(new ReduceCombination());
   }
 
   @Override
-  public GraphCollection getGraphCollection() {
+  public GraphCollection getGraphCollection() throws IOException {
     GradoopFlinkConfig config = getFlinkConfig();
-    HBaseEPGMStore store = getStore();
+
+    DataSet<GraphHead> graphHeads = readGraphHeads(config, getStore());
+    DataSet<Vertex> vertices = readVertices(config, getStore());
+    DataSet<Edge> edges = readEdges(config, getStore());
+
+    if (!vertexFilter.acceptsAll()) {
+      // remove edges whose source or target vertex has been filtered
+      edges = edges
+        .join(vertices)
+        .where(new SourceId<>()).equalTo(new Id<>())
+        .with(new LeftSide<>())
+        .join(vertices)
+        .where(new TargetId<>()).equalTo(new Id<>())
+        .with(new LeftSide<>());
+    }
+
+    return GraphCollection.fromDataSets(graphHeads, vertices, edges, config);
+  }
+
+  @Override
+  public GraphTransactions getGraphTransactions() throws IOException {
+    return getGraphCollection().toTransactions();
+  }
+
+  /**
+   * Reads the graph heads passing the graph head filter.
+   *
+   * @param config  Gradoop Flink configuration
+   * @param store   HBase store
+   * @return graph heads
+   * @throws IOException
+   */
+  private DataSet<GraphHead> readGraphHeads(GradoopFlinkConfig config,
+    HBaseEPGMStore<GraphHead, Vertex, Edge> store) throws IOException {
+    if (useIndex(store, graphHeadFilter)) {
+      return lookupIds(config, HBaseIndex.ElementType.GRAPH_HEAD, graphHeadFilter)
+        .mapPartition(new ReadGraphHeadsById<>(getHBaseConfig().getGraphHeadHandler(),
+          store.getGraphHeadName(), graphHeadFilter))
+        .returns(TypeExtractor.createTypeInfo(config.getGraphHeadFactory().getType()));
+    }
 
     // used for type hinting when loading graph data
     TypeInformation<Tuple1<GraphHead>> graphTypeInfo = new TupleTypeInfo<>(
       TypeExtractor.createTypeInfo(config.getGraphHeadFactory().getType()));
 
+    return config.getExecutionEnvironment()
+      .createInput(new GraphHeadTableInputFormat<>(getHBaseConfig().getGraphHeadHandler(),
+        store.getGraphHeadName(), graphHeadFilter), graphTypeInfo)
+      .map(new ValueOf1<>());
+  }
+
+  /**
+   * Reads the vertices passing the vertex filter.
+   *
+   * @param config  Gradoop Flink configuration
+   * @param store   HBase store
+   * @return vertices
+   * @throws IOException
+   */
+  private DataSet<Vertex> readVertices(GradoopFlinkConfig config,
+    HBaseEPGMStore<GraphHead, Vertex, Edge> store) throws IOException {
+    if (useIndex(store, vertexFilter)) {
+      return lookupIds(config, HBaseIndex.ElementType.VERTEX, vertexFilter)
+        .mapPartition(new ReadVerticesById<>(getHBaseConfig().getVertexHandler(),
+          store.getVertexTableName(), vertexFilter))
+        .returns(TypeExtractor.createTypeInfo(config.getVertexFactory().getType()));
+    }
+
     // used for type hinting when loading vertex data
     TypeInformation<Tuple1<Vertex>> vertexTypeInfo = new TupleTypeInfo<>(
       TypeExtractor.createTypeInfo(config.getVertexFactory().getType()));
 
+    return config.getExecutionEnvironment()
+      .createInput(new VertexTableInputFormat<>(getHBaseConfig().getVertexHandler(),
+        store.getVertexTableName(), vertexFilter), vertexTypeInfo)
+      .map(new ValueOf1<>());
+  }
+
+  /**
+   * Reads the edges passing the edge filter.
+   *
+   * @param config  Gradoop Flink configuration
+   * @param store   HBase store
+   * @return edges
+   * @throws IOException
+   */
+  private DataSet<Edge> readEdges(GradoopFlinkConfig config,
+    HBaseEPGMStore<GraphHead, Vertex, Edge> store) throws IOException {
+    if (useIndex(store, edgeFilter)) {
+      return lookupIds(config, HBaseIndex.ElementType.EDGE, edgeFilter)
+        .mapPartition(new ReadEdgesById<>(getHBaseConfig().getEdgeHandler(),
+          store.getEdgeTableName(), edgeFilter))
+        .returns(TypeExtractor.createTypeInfo(config.getEdgeFactory().getType()));
+    }
+
     // used for type hinting when loading edge data
     TypeInformation<Tuple1<Edge>> edgeTypeInfo = new TupleTypeInfo<>(
       TypeExtractor.createTypeInfo(config.getEdgeFactory().getType()));
 
+    return config.getExecutionEnvironment()
+      .createInput(new EdgeTableInputFormat<>(getHBaseConfig().getEdgeHandler(),
+        store.getEdgeTableName(), edgeFilter), edgeTypeInfo)
+      .map(new ValueOf1<>());
+  }
 
-    DataSet<Tuple1<GraphHead>> graphHeads = config.getExecutionEnvironment()
-      .createInput(new GraphHeadTableInputFormat<>(config.getGraphHeadHandler(),
-        store.getGraphHeadName()), graphTypeInfo);
+  /**
+   * Reads the ids of all elements matching the given filter from the index.
+   *
+   * @param config  Gradoop Flink configuration
+   * @param type    element type
+   * @param filter  element filter with at least one label
+   * @return element ids, may contain ids of elements not passing the filter
+   * @throws IOException
+   */
+  private DataSet<GradoopId> lookupIds(GradoopFlinkConfig config,
+    HBaseIndex.ElementType type, HBaseElementFilter filter) throws IOException {
+    HBaseIndex index = getHBaseConfig().getIndex();
 
-    DataSet<Tuple1<Vertex>> vertices = config.getExecutionEnvironment()
-      .createInput(new VertexTableInputFormat<>(config.getVertexHandler(),
-          store.getVertexTableName()), vertexTypeInfo);
+    // used for type hinting when loading index entries
+    TypeInformation<Tuple1<GradoopId>> idTypeInfo = new TupleTypeInfo<>(
+      TypeExtractor.createTypeInfo(GradoopId.class));
 
-    DataSet<Tuple1<Edge>> edges = config.getExecutionEnvironment().createInput(
-      new EdgeTableInputFormat<>(config.getEdgeHandler(),
-        store.getEdgeTableName()), edgeTypeInfo);
+    DataSet<Tuple1<GradoopId>> ids = null;
+    for (String label : filter.getLabels()) {
+      DataSet<Tuple1<GradoopId>> labelIds = config.getExecutionEnvironment()
+        .createInput(new IndexTableInputFormat(index,
+          index.getLookupPrefix(type, label, filter)), idTypeInfo);
+      ids = ids == null ? labelIds : ids.union(labelIds);
+    }
 
-    return GraphCollection.fromDataSets(
-      graphHeads.map(new ValueOf1<>()),
-      vertices.map(new ValueOf1<>()),
-      edges.map(new ValueOf1<>()),
-      config);
+    // matching entries are stored in few regions, spread the point gets
+    return ids.map(new ValueOf1<>()).rebalance();
   }
 
-  @Override
-  public GraphTransactions getGraphTransactions() {
-    return getGraphCollection().toTransactions();
+  /**
+   * Checks if elements passing the given filter are looked up in the index
+   * instead of scanning the whole table.
+   *
+   * @param store   HBase store
+   * @param filter  element filter
+   * @return true, if the store is indexed and the index is selective for the
+   *         filter
+   */
+  private boolean useIndex(HBaseEPGMStore<?, ?, ?> store, HBaseElementFilter filter) {
+    return store.isIndexed() && getHBaseConfig().getIndex().isSelective(filter);
   }
 }
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.storage.impl.hbase.HBaseIndex;
+
+/**
+ * Creates the secondary index entries of an EPGM element.
+ *
+ * element -> (element id, index entry)*
+ *
+ * @param <T> EPGM element type
+ */
+public class BuildIndexMutations<T extends EPGMElement>
+  implements FlatMapFunction<T, Tuple2<GradoopId, Mutation>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Secondary index definition.
+   */
+  private final HBaseIndex index;
+
+  /**
+   * Type of the indexed elements.
+   */
+  private final HBaseIndex.ElementType type;
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, Mutation> reuseTuple = new Tuple2<>();
+
+  /**
+   * Constructor.
+   *
+   * @param index secondary index definition
+   * @param type  type of the indexed elements
+   */
+  public BuildIndexMutations(HBaseIndex index, HBaseIndex.ElementType type) {
+    this.index = index;
+    this.type = type;
+  }
+
+  @Override
+  public void flatMap(T element, Collector<Tuple2<GradoopId, Mutation>> out) throws Exception {
+    reuseTuple.f0 = element.getId();
+    for (Put entry : index.createEntries(type, element)) {
+      reuseTuple.f1 = entry;
+      out.collect(reuseTuple);
+    }
+  }
+}
@@ -21,7 +21,7 @@ import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.storage.api.PersistentGraphHead;
 import org.gradoop.common.storage.api.PersistentGraphHeadFactory;
 
@@ -32,7 +32,7 @@ import org.gradoop.common.storage.api.PersistentGraphHeadFactory;
  */
 public class BuildPersistentGraphHead<G extends EPGMGraphHead>
   implements JoinFunction
-  <Tuple3<GradoopId, GradoopIdList, GradoopIdList>, G, PersistentGraphHead> {
+  <Tuple3<GradoopId, GradoopIdSet, GradoopIdSet>, G, PersistentGraphHead> {
 
   /**
    * Persistent graph data factory.
@@ -54,7 +54,7 @@ public class BuildPersistentGraphHead<G extends EPGMGraphHead>
    */
   @Override
   public PersistentGraphHead join(
-    Tuple3<GradoopId, GradoopIdList, GradoopIdList> longSetSetTuple3, G graphHead)
+    Tuple3<GradoopId, GradoopIdSet, GradoopIdSet> longSetSetTuple3, G graphHead)
       throws Exception {
     return graphHeadFactory.createGraphHead(graphHead, longSetSetTuple3.f1,
       longSetSetTuple3.f2);
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits a mutation into its cells, ordered as required by HFiles (family,
+ * qualifier, timestamp).
+ *
+ * (row key, mutation) -> (row key, cell)*
+ */
+public class MutationToCells implements
+  FlatMapFunction<Tuple2<ImmutableBytesWritable, Mutation>, Tuple2<ImmutableBytesWritable, Cell>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<ImmutableBytesWritable, Cell> reuseTuple = new Tuple2<>();
+
+  /**
+   * Cells of the current row
+   */
+  private final List<Cell> cells = new ArrayList<>();
+
+  @Override
+  public void flatMap(Tuple2<ImmutableBytesWritable, Mutation> rowMutation,
+    Collector<Tuple2<ImmutableBytesWritable, Cell>> out) throws Exception {
+    cells.clear();
+    for (List<Cell> familyCells : rowMutation.f1.getFamilyCellMap().values()) {
+      cells.addAll(familyCells);
+    }
+    Collections.sort(cells, KeyValue.COMPARATOR);
+
+    reuseTuple.f0 = rowMutation.f0;
+    for (Cell cell : cells) {
+      reuseTuple.f1 = cell;
+      out.collect(reuseTuple);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Replaces the element id of a mutation by the HBase row key it addresses.
+ *
+ * (id, mutation) -> (row key, mutation)
+ */
+@FunctionAnnotation.ForwardedFields("f1")
+public class MutationWithRowKey implements
+  MapFunction<Tuple2<GradoopId, Mutation>, Tuple2<ImmutableBytesWritable, Mutation>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<ImmutableBytesWritable, Mutation> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<ImmutableBytesWritable, Mutation> map(Tuple2<GradoopId, Mutation> idMutation)
+    throws Exception {
+    reuseTuple.f0 = new ImmutableBytesWritable(idMutation.f1.getRow());
+    reuseTuple.f1 = idMutation.f1;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.api.entities.EPGMVertex;
+import org.gradoop.common.storage.api.EdgeHandler;
+import org.gradoop.common.storage.impl.hbase.HBaseElementFilter;
+
+/**
+ * Reads the edges with the given ids from HBase.
+ *
+ * @param <E> EPGM edge type
+ * @param <V> EPGM vertex type
+ */
+public class ReadEdgesById<E extends EPGMEdge, V extends EPGMVertex>
+  extends ReadElementsById<E> {
+
+  /**
+   * Handles reading of persistent edge data.
+   */
+  private final EdgeHandler<E, V> edgeHandler;
+
+  /**
+   * Constructor.
+   *
+   * @param edgeHandler edge data handler
+   * @param tableName   edge data table name
+   * @param filter      edge predicates and projections
+   */
+  public ReadEdgesById(EdgeHandler<E, V> edgeHandler, String tableName,
+    HBaseElementFilter filter) {
+    super(edgeHandler, tableName, filter);
+    this.edgeHandler = edgeHandler;
+  }
+
+  @Override
+  protected E readElement(Result result) {
+    return edgeHandler.readEdge(result);
+  }
+}
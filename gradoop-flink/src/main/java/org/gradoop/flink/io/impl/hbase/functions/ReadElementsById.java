@@ -0,0 +1,141 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.HTable;
+import org.apache.hadoop.hbase.client.Result;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.storage.api.ElementHandler;
+import org.gradoop.common.storage.impl.hbase.HBaseElementFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the elements with the given ids from an HBase table using batched
+ * point gets. Elements not passing the filter are dropped, the remaining ones
+ * are projected.
+ *
+ * id* -> element*
+ *
+ * @param <T> EPGM element type
+ */
+public abstract class ReadElementsById<T extends EPGMElement>
+  extends RichMapPartitionFunction<GradoopId, T> {
+
+  /**
+   * Number of gets sent to HBase at once.
+   */
+  private static final int BATCH_SIZE = 1000;
+
+  /**
+   * Creates the row keys of the table.
+   */
+  private final ElementHandler handler;
+
+  /**
+   * Table to read from.
+   */
+  private final String tableName;
+
+  /**
+   * Predicates and projections applied to each element.
+   */
+  private final HBaseElementFilter filter;
+
+  /**
+   * Table of this instance.
+   */
+  private transient HTable table;
+
+  /**
+   * Constructor.
+   *
+   * @param handler   creates the row keys of the table
+   * @param tableName table to read from
+   * @param filter    element predicates and projections
+   */
+  protected ReadElementsById(ElementHandler handler, String tableName,
+    HBaseElementFilter filter) {
+    this.handler = handler;
+    this.tableName = tableName;
+    this.filter = filter;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    table = new HTable(HBaseConfiguration.create(), tableName);
+  }
+
+  @Override
+  public void mapPartition(Iterable<GradoopId> ids, Collector<T> out) throws Exception {
+    List<Get> gets = new ArrayList<>(BATCH_SIZE);
+    for (GradoopId id : ids) {
+      gets.add(new Get(handler.getRowKey(id)));
+      if (gets.size() == BATCH_SIZE) {
+        read(gets, out);
+        gets.clear();
+      }
+    }
+    if (!gets.isEmpty()) {
+      read(gets, out);
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (table != null) {
+      table.close();
+    }
+    super.close();
+  }
+
+  /**
+   * Decodes an element from a table row.
+   *
+   * @param result table row
+   * @return element
+   */
+  protected abstract T readElement(Result result);
+
+  /**
+   * Sends the gets and collects all elements passing the filter.
+   *
+   * @param gets  point gets
+   * @param out   output collector
+   * @throws Exception
+   */
+  private void read(List<Get> gets, Collector<T> out) throws Exception {
+    for (Result result : table.get(gets)) {
+      if (result != null && !result.isEmpty()) {
+        T element = readElement(result);
+        if (filter.test(element)) {
+          filter.project(element);
+          out.collect(element);
+        }
+      }
+    }
+  }
+}
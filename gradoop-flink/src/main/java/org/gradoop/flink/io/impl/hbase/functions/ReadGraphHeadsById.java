@@ -0,0 +1,54 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.gradoop.common.model.api.entities.EPGMGraphHead;
+import org.gradoop.common.storage.api.GraphHeadHandler;
+import org.gradoop.common.storage.impl.hbase.HBaseElementFilter;
+
+/**
+ * Reads the graph heads with the given ids from HBase.
+ *
+ * @param <G> EPGM graph head type
+ */
+public class ReadGraphHeadsById<G extends EPGMGraphHead> extends ReadElementsById<G> {
+
+  /**
+   * Handles reading of persistent graph head data.
+   */
+  private final GraphHeadHandler<G> graphHeadHandler;
+
+  /**
+   * Constructor.
+   *
+   * @param graphHeadHandler graph head data handler
+   * @param tableName        graph head data table name
+   * @param filter           graph head predicates and projections
+   */
+  public ReadGraphHeadsById(GraphHeadHandler<G> graphHeadHandler, String tableName,
+    HBaseElementFilter filter) {
+    super(graphHeadHandler, tableName, filter);
+    this.graphHeadHandler = graphHeadHandler;
+  }
+
+  @Override
+  protected G readElement(Result result) {
+    return graphHeadHandler.readGraphHead(result);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.api.entities.EPGMVertex;
+import org.gradoop.common.storage.api.VertexHandler;
+import org.gradoop.common.storage.impl.hbase.HBaseElementFilter;
+
+/**
+ * Reads the vertices with the given ids from HBase.
+ *
+ * @param <V> EPGM vertex type
+ * @param <E> EPGM edge type
+ */
+public class ReadVerticesById<V extends EPGMVertex, E extends EPGMEdge>
+  extends ReadElementsById<V> {
+
+  /**
+   * Handles reading of persistent vertex data.
+   */
+  private final VertexHandler<V, E> vertexHandler;
+
+  /**
+   * Constructor.
+   *
+   * @param vertexHandler vertex data handler
+   * @param tableName     vertex data table name
+   * @param filter        vertex predicates and projections
+   */
+  public ReadVerticesById(VertexHandler<V, E> vertexHandler, String tableName,
+    HBaseElementFilter filter) {
+    super(vertexHandler, tableName, filter);
+    this.vertexHandler = vertexHandler;
+  }
+
+  @Override
+  protected V readElement(Result result) {
+    return vertexHandler.readVertex(result);
+  }
+}
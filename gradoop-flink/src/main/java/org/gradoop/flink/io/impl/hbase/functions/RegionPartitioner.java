@@ -0,0 +1,62 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.Partitioner;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.Arrays;
+
+/**
+ * Range partitions row keys along the regions of an HBase table, so that each
+ * partition covers consecutive regions and its HFiles do not need to be split
+ * when they are loaded.
+ */
+public class RegionPartitioner implements Partitioner<ImmutableBytesWritable> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Sorted start keys of all regions, the first one is empty.
+   */
+  private final byte[][] startKeys;
+
+  /**
+   * Creates a new partitioner.
+   *
+   * @param startKeys region start keys as returned by
+   *                  {@link org.apache.hadoop.hbase.client.HTable#getStartKeys()}
+   */
+  public RegionPartitioner(byte[][] startKeys) {
+    this.startKeys = startKeys.length == 0 ? new byte[][] {new byte[0]} : startKeys;
+  }
+
+  @Override
+  public int partition(ImmutableBytesWritable rowKey, int numPartitions) {
+    int region = Arrays.binarySearch(startKeys, rowKey.copyBytes(), Bytes.BYTES_COMPARATOR);
+    if (region < 0) {
+      // insertion point - 1 is the region containing the key
+      region = -region - 2;
+    }
+    return (int) ((long) region * numPartitions / startKeys.length);
+  }
+}
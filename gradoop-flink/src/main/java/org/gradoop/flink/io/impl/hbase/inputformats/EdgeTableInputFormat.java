@@ -24,6 +24,7 @@ import org.apache.hadoop.hbase.client.Scan;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.storage.api.EdgeHandler;
+import org.gradoop.common.storage.impl.hbase.HBaseElementFilter;
 import org.gradoop.common.util.GConstants;
 
 /**
@@ -45,6 +46,11 @@ public class EdgeTableInputFormat<E extends EPGMEdge, V extends EPGMVertex>
    */
   private final String edgeTableName;
 
+  /**
+   * Predicates and projections pushed into the table scan.
+   */
+  private final HBaseElementFilter filter;
+
   /**
    * Creates an edge table input format.
    *
@@ -53,8 +59,22 @@ public class EdgeTableInputFormat<E extends EPGMEdge, V extends EPGMVertex>
    */
   public EdgeTableInputFormat(EdgeHandler<E, V> edgeHandler,
     String edgeTableName) {
+    this(edgeHandler, edgeTableName, HBaseElementFilter.create());
+  }
+
+  /**
+   * Creates an edge table input format which only reads edges passing the
+   * given filter.
+   *
+   * @param edgeHandler   edge data handler
+   * @param edgeTableName edge data table name
+   * @param filter        edge predicates and projections
+   */
+  public EdgeTableInputFormat(EdgeHandler<E, V> edgeHandler,
+    String edgeTableName, HBaseElementFilter filter) {
     this.edgeHandler = edgeHandler;
     this.edgeTableName = edgeTableName;
+    this.filter = filter;
   }
 
   /**
@@ -64,7 +84,7 @@ public class EdgeTableInputFormat<E extends EPGMEdge, V extends EPGMVertex>
   protected Scan getScanner() {
     Scan scan = new Scan();
     scan.setCaching(GConstants.HBASE_DEFAULT_SCAN_CACHE_SIZE);
-    return scan;
+    return filter.configure(scan);
   }
 
   /**
@@ -80,6 +100,12 @@ public class EdgeTableInputFormat<E extends EPGMEdge, V extends EPGMVertex>
    */
   @Override
   protected Tuple1<E> mapResultToTuple(Result result) {
-    return new Tuple1<>(edgeHandler.readEdge(result));
+    E edge = edgeHandler.readEdge(result);
+    if (!filter.test(edge)) {
+      // skipped by the reading data source task
+      return null;
+    }
+    filter.project(edge);
+    return new Tuple1<>(edge);
   }
 }
@@ -23,6 +23,7 @@ import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.Scan;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.storage.api.GraphHeadHandler;
+import org.gradoop.common.storage.impl.hbase.HBaseElementFilter;
 import org.gradoop.common.util.GConstants;
 
 /**
@@ -43,6 +44,11 @@ public class GraphHeadTableInputFormat<G extends EPGMGraphHead>
    */
   private final String graphHeadTableName;
 
+  /**
+   * Predicates and projections pushed into the table scan.
+   */
+  private final HBaseElementFilter filter;
+
   /**
    * Creates an graph table input format.
    *
@@ -51,8 +57,22 @@ public class GraphHeadTableInputFormat<G extends EPGMGraphHead>
    */
   public GraphHeadTableInputFormat(GraphHeadHandler<G> graphHeadHandler,
     String graphHeadTableName) {
+    this(graphHeadHandler, graphHeadTableName, HBaseElementFilter.create());
+  }
+
+  /**
+   * Creates a graph table input format which only reads graph heads passing
+   * the given filter.
+   *
+   * @param graphHeadHandler   graph data handler
+   * @param graphHeadTableName graph data table name
+   * @param filter             graph head predicates and projections
+   */
+  public GraphHeadTableInputFormat(GraphHeadHandler<G> graphHeadHandler,
+    String graphHeadTableName, HBaseElementFilter filter) {
     this.graphHeadHandler = graphHeadHandler;
     this.graphHeadTableName = graphHeadTableName;
+    this.filter = filter;
   }
 
   /**
@@ -62,7 +82,7 @@ public class GraphHeadTableInputFormat<G extends EPGMGraphHead>
   protected Scan getScanner() {
     Scan scan = new Scan();
     scan.setCaching(GConstants.HBASE_DEFAULT_SCAN_CACHE_SIZE);
-    return scan;
+    return filter.configure(scan);
   }
 
   /**
@@ -78,6 +98,12 @@ public class GraphHeadTableInputFormat<G extends EPGMGraphHead>
    */
   @Override
   protected Tuple1<G> mapResultToTuple(Result result) {
-    return new Tuple1<>(graphHeadHandler.readGraphHead(result));
+    G graphHead = graphHeadHandler.readGraphHead(result);
+    if (!filter.test(graphHead)) {
+      // skipped by the reading data source task
+      return null;
+    }
+    filter.project(graphHead);
+    return new Tuple1<>(graphHead);
   }
 }
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.io.impl.hbase.inputformats;
+
+import org.apache.flink.addons.hbase.TableInputFormat;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.storage.impl.hbase.HBaseIndex;
+
+/**
+ * Reads the element ids of all index entries starting with a given key
+ * prefix. The scan is split at the region boundaries of the index table, so
+ * the lookup runs inside the job instead of on the client.
+ */
+public class IndexTableInputFormat extends TableInputFormat<Tuple1<GradoopId>> {
+
+  /**
+   * Secondary index definition.
+   */
+  private final HBaseIndex index;
+
+  /**
+   * Key prefix of the entries to read.
+   */
+  private final byte[] prefix;
+
+  /**
+   * Creates an index table input format.
+   *
+   * @param index   secondary index definition
+   * @param prefix  key prefix of the entries to read
+   */
+  public IndexTableInputFormat(HBaseIndex index, byte[] prefix) {
+    this.index = index;
+    this.prefix = prefix;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Scan getScanner() {
+    return HBaseIndex.createPrefixScan(prefix);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected String getTableName() {
+    return index.getTableName();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Tuple1<GradoopId> mapResultToTuple(Result result) {
+    return new Tuple1<>(index.getElementId(result.getRow()));
+  }
+}
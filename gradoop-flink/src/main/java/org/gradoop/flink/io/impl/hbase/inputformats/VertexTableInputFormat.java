@@ -24,6 +24,7 @@ import org.apache.hadoop.hbase.client.Scan;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.storage.api.VertexHandler;
+import org.gradoop.common.storage.impl.hbase.HBaseElementFilter;
 import org.gradoop.common.util.GConstants;
 
 /**
@@ -45,6 +46,11 @@ public class VertexTableInputFormat<V extends EPGMVertex, E extends EPGMEdge>
    */
   private final String vertexTableName;
 
+  /**
+   * Predicates and projections pushed into the table scan.
+   */
+  private final HBaseElementFilter filter;
+
   /**
    * Creates an vertex table input format.
    *
@@ -53,8 +59,22 @@ public class VertexTableInputFormat<V extends EPGMVertex, E extends EPGMEdge>
    */
   public VertexTableInputFormat(VertexHandler<V, E> vertexHandler,
     String vertexTableName) {
+    this(vertexHandler, vertexTableName, HBaseElementFilter.create());
+  }
+
+  /**
+   * Creates a vertex table input format which only reads vertices passing the
+   * given filter.
+   *
+   * @param vertexHandler   vertex data handler
+   * @param vertexTableName vertex data table name
+   * @param filter          vertex predicates and projections
+   */
+  public VertexTableInputFormat(VertexHandler<V, E> vertexHandler,
+    String vertexTableName, HBaseElementFilter filter) {
     this.vertexHandler = vertexHandler;
     this.vertexTableName = vertexTableName;
+    this.filter = filter;
   }
 
   /**
@@ -64,7 +84,7 @@ public class VertexTableInputFormat<V extends EPGMVertex, E extends EPGMEdge>
   protected Scan getScanner() {
     Scan scan = new Scan();
     scan.setCaching(GConstants.HBASE_DEFAULT_SCAN_CACHE_SIZE);
-    return scan;
+    return filter.configure(scan);
   }
 
   /**
@@ -80,6 +100,12 @@ public class VertexTableInputFormat<V extends EPGMVertex, E extends EPGMEdge>
    */
   @Override
   protected Tuple1<V> mapResultToTuple(Result result) {
-    return new Tuple1<>(vertexHandler.readVertex(result));
+    V vertex = vertexHandler.readVertex(result);
+    if (!filter.test(vertex)) {
+      // skipped by the reading data source task
+      return null;
+    }
+    filter.project(vertex);
+    return new Tuple1<>(vertex);
   }
 }
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.hbase.outputformats;
+
+import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.client.HTable;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.apache.hadoop.hbase.mapreduce.HFileOutputFormat2;
+import org.apache.hadoop.hbase.mapreduce.LoadIncrementalHFiles;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
+
+import java.io.IOException;
+
+/**
+ * Writes cells to HFiles in a staging directory and bulk loads them into an
+ * HBase table once all parallel instances have finished.
+ *
+ * The cells of each parallel instance must be sorted by row key, family and
+ * qualifier. Loading the files moves them into the regions of the table,
+ * i.e. the data is neither written to the write-ahead log nor to the
+ * memstore. The table must exist before the job is started.
+ */
+public class BulkLoadOutputFormat extends HadoopOutputFormat<ImmutableBytesWritable, Cell> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Table to load the HFiles into.
+   */
+  private final String tableName;
+
+  /**
+   * Directory to write the HFiles to.
+   */
+  private final String stagingPath;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param conf        HBase configuration of the store
+   * @param tableName   table to load the HFiles into
+   * @param stagingPath directory to write the HFiles to, must not exist
+   * @throws IOException
+   */
+  public BulkLoadOutputFormat(Configuration conf, String tableName, String stagingPath)
+    throws IOException {
+    super(new HFileOutputFormat2(), createJob(conf, stagingPath));
+    this.tableName = tableName;
+    this.stagingPath = stagingPath;
+  }
+
+  /**
+   * Commits the HFiles of all parallel instances and loads them into the
+   * table.
+   *
+   * @param parallelism parallelism of the sink
+   * @throws IOException
+   */
+  @Override
+  public void finalizeGlobal(int parallelism) throws IOException {
+    super.finalizeGlobal(parallelism);
+
+    // the job configuration is a copy of the store configuration
+    Configuration conf = getConfiguration();
+    try (HTable table = new HTable(conf, tableName)) {
+      createLoader(conf).doBulkLoad(new Path(stagingPath), table);
+    }
+  }
+
+  /**
+   * Creates a job writing to the given output directory.
+   *
+   * @param conf        HBase configuration of the store
+   * @param stagingPath output directory
+   * @return job
+   * @throws IOException
+   */
+  private static Job createJob(Configuration conf, String stagingPath) throws IOException {
+    Job job = Job.getInstance(conf);
+    FileOutputFormat.setOutputPath(job, new Path(stagingPath));
+    return job;
+  }
+
+  /**
+   * Creates the HFile loader. The constructor declares java.lang.Exception,
+   * which is only caught here (see checkstyle-suppressions.xml).
+   *
+   * @param conf HBase configuration
+   * @return bulk loader
+   * @throws IOException
+   */
+  private static LoadIncrementalHFiles createLoader(Configuration conf) throws IOException {
+    try {
+      return new LoadIncrementalHFiles(conf);
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("Unable to create HFile loader", e);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.hbase.outputformats;
+
+import org.apache.flink.api.common.io.OutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.HConnection;
+import org.apache.hadoop.hbase.client.HConnectionManager;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.storage.impl.hbase.HBaseBufferedWriter;
+import org.gradoop.common.storage.impl.hbase.HBaseWriterConfig;
+
+import java.io.IOException;
+
+/**
+ * Writes mutations to an HBase table using a {@link HBaseBufferedWriter} per
+ * parallel instance, i.e. the same batched write path as
+ * {@link org.gradoop.common.storage.impl.hbase.HBaseEPGMStore}.
+ */
+public class MutationOutputFormat implements OutputFormat<Tuple2<GradoopId, Mutation>> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Table to write to.
+   */
+  private final String tableName;
+
+  /**
+   * Buffer, batch and retry settings.
+   */
+  private final HBaseWriterConfig writerConfig;
+
+  /**
+   * Connection of this instance.
+   */
+  private transient HConnection connection;
+
+  /**
+   * Writer of this instance.
+   */
+  private transient HBaseBufferedWriter writer;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param tableName     table to write to
+   * @param writerConfig  writer settings
+   */
+  public MutationOutputFormat(String tableName, HBaseWriterConfig writerConfig) {
+    this.tableName = tableName;
+    this.writerConfig = writerConfig;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void configure(Configuration parameters) {
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    connection = HConnectionManager.createConnection(HBaseConfiguration.create());
+    writer = new HBaseBufferedWriter(connection, TableName.valueOf(tableName), writerConfig);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeRecord(Tuple2<GradoopId, Mutation> record) throws IOException {
+    writer.mutate(record.f1);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      if (writer != null) {
+        writer.close();
+      }
+    } finally {
+      if (connection != null) {
+        connection.close();
+      }
+    }
+  }
+}
@@ -22,6 +22,7 @@ import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.TransformationFunction;
 import org.gradoop.flink.model.impl.GraphCollection;
@@ -77,6 +78,17 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
   GraphCollection cypher(String query, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics);
 
+  /**
+   * Evaluates the given query using the Cypher query engine and aggregates the matches
+   * according to its RETURN clause, e.g. {@code RETURN a.city, count(*), sum(b.age)}. The
+   * engine uses default morphism strategies, which is vertex homomorphism and edge isomorphism.
+   *
+   * @param query Cypher query including a RETURN clause with at least one aggregate function
+   * @param graphStatistics statistics about the data graph
+   * @return one row per group, containing a property per return item
+   */
+  DataSet<Properties> cypherAggregate(String query, GraphStatistics graphStatistics);
+
   /**
    * Evaluates the given GDL query using the Traverser query engine.
    *
@@ -214,6 +226,16 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
    */
   LogicalGraph aggregate(AggregateFunction aggregateFunc);
 
+  /**
+   * Applies the given vertex and edge aggregate functions to the logical graph and stores
+   * their results at the resulting graph. All functions are evaluated in a single pass over the
+   * vertices and edges.
+   *
+   * @param aggregateFuncs compute aggregates on the logical graph
+   * @return logical graph with additional properties storing the aggregates
+   */
+  LogicalGraph aggregate(AggregateFunction... aggregateFuncs);
+
   /**
    * Creates a new graph from a randomly chosen subset of nodes and their
    * associated edges.
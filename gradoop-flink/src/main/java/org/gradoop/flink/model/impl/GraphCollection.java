@@ -27,7 +27,7 @@ import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.gradoop.common.model.impl.pojo.GraphElement;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.util.Order;
@@ -240,7 +240,7 @@ public class GraphCollection extends GraphBase implements
   @Override
   public GraphCollection getGraphs(final GradoopId... identifiers) {
 
-    GradoopIdList graphIds = new GradoopIdList();
+    GradoopIdSet graphIds = new GradoopIdSet();
 
     for (GradoopId id : identifiers) {
       graphIds.add(id);
@@ -253,7 +253,7 @@ public class GraphCollection extends GraphBase implements
    * {@inheritDoc}
    */
   @Override
-  public GraphCollection getGraphs(final GradoopIdList identifiers) {
+  public GraphCollection getGraphs(final GradoopIdSet identifiers) {
 
     DataSet<GraphHead> newGraphHeads = this.getGraphHeads()
       .filter(new FilterFunction<GraphHead>() {
@@ -23,6 +23,7 @@ import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.TransformationFunction;
@@ -36,6 +37,7 @@ import org.gradoop.flink.model.impl.functions.bool.True;
 import org.gradoop.flink.model.impl.functions.epgm.PropertyGetter;
 import org.gradoop.flink.model.impl.functions.graphcontainment.AddToGraph;
 import org.gradoop.flink.model.impl.operators.aggregation.Aggregation;
+import org.gradoop.flink.model.impl.operators.aggregation.MultiAggregation;
 import org.gradoop.flink.model.impl.operators.cloning.Cloning;
 import org.gradoop.flink.model.impl.operators.combination.Combination;
 import org.gradoop.flink.model.impl.operators.equality.GraphEquality;
@@ -46,6 +48,7 @@ import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.Pro
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.query.DFSTraverser;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherAggregation;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.ExplorativePatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TraverserStrategy;
@@ -274,6 +277,15 @@ public class LogicalGraph extends GraphBase implements LogicalGraphOperators {
       vertexStrategy, edgeStrategy, graphStatistics));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DataSet<Properties> cypherAggregate(String query, GraphStatistics graphStatistics) {
+    return new CypherAggregation(query,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, graphStatistics).execute(this);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -388,6 +400,14 @@ public class LogicalGraph extends GraphBase implements LogicalGraphOperators {
     return callForGraph(new Aggregation(aggregateFunc));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph aggregate(AggregateFunction... aggregateFuncs) {
+    return callForGraph(new MultiAggregation(aggregateFuncs));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -21,7 +21,7 @@ import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * Takes a tuple 2, containing an object and a gradoop id set, and creates one
@@ -32,11 +32,11 @@ import org.gradoop.common.model.impl.id.GradoopIdList;
 @FunctionAnnotation.ReadFields("f1")
 @FunctionAnnotation.ForwardedFields("f0->f0")
 public class ExpandGradoopIds<T> implements FlatMapFunction
-  <Tuple2<T, GradoopIdList>, Tuple2<T, GradoopId>> {
+  <Tuple2<T, GradoopIdSet>, Tuple2<T, GradoopId>> {
 
   @Override
   public void flatMap(
-    Tuple2<T, GradoopIdList> pair,
+    Tuple2<T, GradoopIdSet> pair,
     Collector<Tuple2<T, GradoopId>> collector) throws Exception {
 
     T firstField = pair.f0;
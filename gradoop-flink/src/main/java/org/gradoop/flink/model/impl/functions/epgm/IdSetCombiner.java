@@ -18,17 +18,17 @@
 package org.gradoop.flink.model.impl.functions.epgm;
 
 import org.apache.flink.api.common.functions.ReduceFunction;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * Reduces GradoopIdSets into a single, distinct one.
  *
  */
 public class IdSetCombiner
-  implements ReduceFunction<GradoopIdList> {
+  implements ReduceFunction<GradoopIdSet> {
 
   @Override
-  public GradoopIdList reduce(GradoopIdList in1, GradoopIdList in2) {
+  public GradoopIdSet reduce(GradoopIdSet in1, GradoopIdSet in2) {
     in1.addAll(in2);
     return in1;
   }
@@ -0,0 +1,55 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.functions.epgm;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.EPGMElement;
+
+/**
+ * EPGMElement with properties => property keys
+ *
+ * Can be used to build a
+ * {@link org.gradoop.common.model.impl.properties.PropertyKeyDictionary}
+ * from the data, e.g.:
+ *
+ * <pre>
+ * List&lt;String&gt; keys = graph.getVertices()
+ *   .flatMap(new PropertyKeys&lt;&gt;())
+ *   .union(graph.getEdges().flatMap(new PropertyKeys&lt;&gt;()))
+ *   .distinct()
+ *   .collect();
+ *
+ * config.setPropertyKeyDictionary(PropertyKeyDictionary.create(keys));
+ * </pre>
+ *
+ * @param <EL> EPGMElement type having properties
+ */
+@FunctionAnnotation.ReadFields("properties")
+public class PropertyKeys<EL extends EPGMElement> implements FlatMapFunction<EL, String> {
+
+  @Override
+  public void flatMap(EL element, Collector<String> out) throws Exception {
+    if (element.getProperties() != null) {
+      for (String key : element.getProperties().getKeys()) {
+        out.collect(key);
+      }
+    }
+  }
+}
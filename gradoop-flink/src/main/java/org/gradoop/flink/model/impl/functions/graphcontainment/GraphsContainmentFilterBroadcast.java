@@ -21,8 +21,7 @@ import org.apache.flink.api.common.functions.RichFilterFunction;
 import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.impl.pojo.GraphElement;
 import org.gradoop.common.model.impl.id.GradoopId;
-
-import java.util.Collection;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * Superclass of multi graph containment filters using broadcast variables.
@@ -40,11 +39,12 @@ public abstract class GraphsContainmentFilterBroadcast
   /**
    * graph ids
    */
-  protected Collection<GradoopId> graphIds;
+  protected GradoopIdSet graphIds;
 
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
-    graphIds = getRuntimeContext().getBroadcastVariable(GRAPH_IDS);
+    graphIds = GradoopIdSet.fromExisting(
+      getRuntimeContext().<GradoopId>getBroadcastVariable(GRAPH_IDS));
   }
 }
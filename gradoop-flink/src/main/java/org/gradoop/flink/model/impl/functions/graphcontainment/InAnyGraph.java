@@ -20,7 +20,7 @@ package org.gradoop.flink.model.impl.functions.graphcontainment;
 import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.gradoop.common.model.impl.pojo.GraphElement;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * True, if an element is contained in any of a set of given graphs.
@@ -34,13 +34,13 @@ public class InAnyGraph<GE extends GraphElement>
   /**
    * graph ids
    */
-  private final GradoopIdList graphIds;
+  private final GradoopIdSet graphIds;
 
   /**
    * constructor
    * @param graphIds graph ids
    */
-  public InAnyGraph(GradoopIdList graphIds) {
+  public InAnyGraph(GradoopIdSet graphIds) {
     this.graphIds = graphIds;
   }
 
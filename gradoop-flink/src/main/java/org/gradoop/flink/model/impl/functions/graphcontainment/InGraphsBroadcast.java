@@ -18,7 +18,6 @@
 package org.gradoop.flink.model.impl.functions.graphcontainment;
 
 import org.apache.flink.api.java.functions.FunctionAnnotation;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.GraphElement;
 
 /**
@@ -32,16 +31,6 @@ public class InGraphsBroadcast<GE extends GraphElement>
 
   @Override
   public boolean filter(GE element) throws Exception {
-
-    boolean contained = false;
-
-    for (GradoopId graphID : graphIds) {
-      contained = element.getGraphIds().contains(graphID);
-      if (contained) {
-        break;
-      }
-    }
-
-    return contained;
+    return element.getGraphIds().containsAny(graphIds);
   }
 }
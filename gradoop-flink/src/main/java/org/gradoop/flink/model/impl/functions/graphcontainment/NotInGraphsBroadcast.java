@@ -19,7 +19,6 @@ package org.gradoop.flink.model.impl.functions.graphcontainment;
 
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.gradoop.common.model.impl.pojo.GraphElement;
-import org.gradoop.common.model.impl.id.GradoopId;
 
 /**
  * True, if an element is not contained in any of a given set of graphs.
@@ -32,16 +31,6 @@ public class NotInGraphsBroadcast<GE extends GraphElement>
 
   @Override
   public boolean filter(GE element) throws Exception {
-
-    boolean contained = false;
-
-    for (GradoopId graphID : graphIds) {
-      contained = element.getGraphIds().contains(graphID);
-      if (contained) {
-        break;
-      }
-    }
-
-    return !contained;
+    return !element.getGraphIds().containsAny(graphIds);
   }
 }
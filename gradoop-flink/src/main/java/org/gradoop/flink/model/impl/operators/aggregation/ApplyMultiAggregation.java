@@ -0,0 +1,139 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.operators.ApplicableUnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.functions.epgm.ElementsOfSelectedGraphs;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.ApplyMultiAggregateEdges;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.ApplyMultiAggregateProperties;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.ApplyMultiAggregateVertices;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.MultiAggregator;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Takes a collection of logical graphs and any number of user defined vertex and edge
+ * aggregate functions as input. All aggregate functions are applied on each logical graph
+ * contained in the collection and the aggregates are stored as additional properties at the
+ * graphs.
+ *
+ * Vertices and edges are read only once, independent of the number of functions.
+ */
+public class ApplyMultiAggregation
+  implements ApplicableUnaryGraphToGraphOperator {
+
+  /**
+   * Evaluates the user-defined aggregate functions.
+   */
+  private final MultiAggregator aggregator;
+
+  /**
+   * Creates a new operator instance.
+   *
+   * @param aggregateFunctions functions to compute aggregate values
+   */
+  public ApplyMultiAggregation(AggregateFunction... aggregateFunctions) {
+    this(Arrays.asList(aggregateFunctions));
+  }
+
+  /**
+   * Creates a new operator instance.
+   *
+   * @param aggregateFunctions functions to compute aggregate values
+   */
+  public ApplyMultiAggregation(List<AggregateFunction> aggregateFunctions) {
+    this.aggregator = new MultiAggregator(aggregateFunctions);
+  }
+
+  @Override
+  public GraphCollection execute(GraphCollection collection) {
+    DataSet<GraphHead> graphHeads = collection.getGraphHeads();
+
+    DataSet<GradoopId> graphIds = graphHeads
+      .map(new Id<GraphHead>());
+
+    DataSet<Tuple2<GradoopId, PropertyValueList>> aggregates = null;
+
+    if (aggregator.hasVertexFunctions()) {
+      aggregates = aggregateVertices(collection.getVertices(), graphIds);
+    }
+
+    if (aggregator.hasEdgeFunctions()) {
+      DataSet<Tuple2<GradoopId, PropertyValueList>> edgeAggregates =
+        aggregateEdges(collection.getEdges(), graphIds);
+      aggregates = aggregates == null ? edgeAggregates : aggregates.union(edgeAggregates);
+    }
+
+    graphHeads = graphHeads
+      .coGroup(aggregates)
+      .where(new Id<GraphHead>()).equalTo(0)
+      .with(new ApplyMultiAggregateProperties(aggregator));
+
+    return GraphCollection.fromDataSets(graphHeads,
+      collection.getVertices(),
+      collection.getEdges(),
+      collection.getConfig());
+  }
+
+  /**
+   * Applies the vertex aggregate functions to the partitions of a vertex data set.
+   *
+   * @param vertices vertex data set
+   * @param graphIds graph ids to aggregate
+   * @return partition aggregate values
+   */
+  private DataSet<Tuple2<GradoopId, PropertyValueList>> aggregateVertices(
+    DataSet<Vertex> vertices, DataSet<GradoopId> graphIds) {
+    return vertices
+      .flatMap(new ElementsOfSelectedGraphs<Vertex>())
+      .withBroadcastSet(graphIds, ElementsOfSelectedGraphs.GRAPH_IDS)
+      .groupBy(0)
+      .combineGroup(new ApplyMultiAggregateVertices(aggregator));
+  }
+
+  /**
+   * Applies the edge aggregate functions to the partitions of an edge data set.
+   *
+   * @param edges edge data set
+   * @param graphIds graph ids to aggregate
+   * @return partition aggregate values
+   */
+  private DataSet<Tuple2<GradoopId, PropertyValueList>> aggregateEdges(
+    DataSet<Edge> edges, DataSet<GradoopId> graphIds) {
+    return edges
+      .flatMap(new ElementsOfSelectedGraphs<Edge>())
+      .withBroadcastSet(graphIds, ElementsOfSelectedGraphs.GRAPH_IDS)
+      .groupBy(0)
+      .combineGroup(new ApplyMultiAggregateEdges(aggregator));
+  }
+
+  @Override
+  public String getName() {
+    return ApplyMultiAggregation.class.getName();
+  }
+}
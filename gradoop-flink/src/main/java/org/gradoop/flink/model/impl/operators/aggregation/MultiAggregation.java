@@ -0,0 +1,100 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.MultiAggregateEdges;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.MultiAggregateVertices;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.MultiAggregator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.SetMultiAggregateProperties;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Takes a logical graph and any number of user defined vertex and edge aggregate functions as
+ * input. All aggregate functions are applied on the logical graph and the resulting aggregates
+ * are stored as additional properties at the result graph.
+ *
+ * In contrast to applying {@link Aggregation} once per function, vertices and edges are read
+ * only once: all vertex (edge) functions are evaluated in a single combinable pass and the
+ * partition aggregates are combined while setting the properties of the graph head.
+ */
+public class MultiAggregation implements UnaryGraphToGraphOperator {
+
+  /**
+   * Evaluates the user-defined aggregate functions.
+   */
+  private final MultiAggregator aggregator;
+
+  /**
+   * Creates new aggregation.
+   *
+   * @param aggregateFunctions user defined vertex and edge aggregate functions
+   */
+  public MultiAggregation(AggregateFunction... aggregateFunctions) {
+    this(Arrays.asList(aggregateFunctions));
+  }
+
+  /**
+   * Creates new aggregation.
+   *
+   * @param aggregateFunctions user defined vertex and edge aggregate functions
+   */
+  public MultiAggregation(List<AggregateFunction> aggregateFunctions) {
+    this.aggregator = new MultiAggregator(aggregateFunctions);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph execute(LogicalGraph graph) {
+    DataSet<PropertyValueList> aggregates = null;
+
+    if (aggregator.hasVertexFunctions()) {
+      aggregates = graph.getVertices()
+        .combineGroup(new MultiAggregateVertices(aggregator));
+    }
+
+    if (aggregator.hasEdgeFunctions()) {
+      DataSet<PropertyValueList> edgeAggregates = graph.getEdges()
+        .combineGroup(new MultiAggregateEdges(aggregator));
+      aggregates = aggregates == null ? edgeAggregates : aggregates.union(edgeAggregates);
+    }
+
+    DataSet<GraphHead> graphHead = graph.getGraphHead()
+      .map(new SetMultiAggregateProperties(aggregator))
+      .withBroadcastSet(aggregates, SetMultiAggregateProperties.VALUES);
+
+    return LogicalGraph
+      .fromDataSets(graphHead, graph.getVertices(), graph.getEdges(), graph.getConfig());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return MultiAggregation.class.getName();
+  }
+}
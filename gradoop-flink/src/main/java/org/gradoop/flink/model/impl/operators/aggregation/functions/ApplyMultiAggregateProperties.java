@@ -0,0 +1,63 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+
+/**
+ * Combines the partition aggregates of vertices and edges of a graph and sets all aggregate
+ * values of its graph head.
+ */
+public class ApplyMultiAggregateProperties implements
+  CoGroupFunction<GraphHead, Tuple2<GradoopId, PropertyValueList>, GraphHead> {
+
+  /**
+   * Aggregator evaluating all functions
+   */
+  private final MultiAggregator aggregator;
+
+  /**
+   * Constructor.
+   *
+   * @param aggregator aggregator evaluating all functions
+   */
+  public ApplyMultiAggregateProperties(MultiAggregator aggregator) {
+    this.aggregator = aggregator;
+  }
+
+  @Override
+  public void coGroup(Iterable<GraphHead> left,
+    Iterable<Tuple2<GradoopId, PropertyValueList>> right, Collector<GraphHead> out
+  ) throws Exception {
+
+    PropertyValue[] aggregates = aggregator.createAggregates();
+    for (Tuple2<GradoopId, PropertyValueList> partitionAggregate : right) {
+      aggregator.combine(aggregates, partitionAggregate.f1);
+    }
+
+    for (GraphHead graphHead : left) {
+      aggregator.setProperties(graphHead, aggregates);
+      out.collect(graphHead);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+
+/**
+ * (graphId,vertex),.. => (graphId,partitionAggregateValues),..
+ */
+public class ApplyMultiAggregateVertices implements GroupCombineFunction
+  <Tuple2<GradoopId, Vertex>, Tuple2<GradoopId, PropertyValueList>> {
+
+  /**
+   * Aggregator evaluating all functions
+   */
+  private final MultiAggregator aggregator;
+  /**
+   * Reuse tuple.
+   */
+  private final Tuple2<GradoopId, PropertyValueList> reusePair = new Tuple2<>();
+
+  /**
+   * Constructor.
+   *
+   * @param aggregator aggregator evaluating all functions
+   */
+  public ApplyMultiAggregateVertices(MultiAggregator aggregator) {
+    this.aggregator = aggregator;
+  }
+
+  @Override
+  public void combine(Iterable<Tuple2<GradoopId, Vertex>> vertices,
+    Collector<Tuple2<GradoopId, PropertyValueList>> out) throws Exception {
+    PropertyValue[] aggregates = aggregator.createAggregates();
+
+    for (Tuple2<GradoopId, Vertex> graphIdVertex : vertices) {
+      reusePair.f0 = graphIdVertex.f0;
+      aggregator.aggregateVertex(aggregates, graphIdVertex.f1);
+    }
+
+    reusePair.f1 = aggregator.toList(aggregates);
+    out.collect(reusePair);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+
+/**
+ * edge,.. => partitionAggregateValues
+ */
+public class MultiAggregateEdges
+  implements GroupCombineFunction<Edge, PropertyValueList> {
+
+  /**
+   * Aggregator evaluating all functions
+   */
+  private final MultiAggregator aggregator;
+
+  /**
+   * Constructor.
+   *
+   * @param aggregator aggregator evaluating all functions
+   */
+  public MultiAggregateEdges(MultiAggregator aggregator) {
+    this.aggregator = aggregator;
+  }
+
+  @Override
+  public void combine(Iterable<Edge> edges, Collector<PropertyValueList> out)
+    throws Exception {
+    PropertyValue[] aggregates = aggregator.createAggregates();
+
+    for (Edge edge : edges) {
+      aggregator.aggregateEdge(aggregates, edge);
+    }
+
+    out.collect(aggregator.toList(aggregates));
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Evaluates a fixed list of vertex and edge aggregate functions at once.
+ *
+ * Aggregates are stored in an array containing one slot per function. A slot is {@code null}
+ * as long as the function did not receive an increment. Vertices only update the slots of
+ * vertex aggregate functions, edges only those of edge aggregate functions, so that the partial
+ * aggregates of both element types can be combined slot by slot.
+ */
+public class MultiAggregator implements Serializable {
+
+  /**
+   * Aggregate functions
+   */
+  private final AggregateFunction[] aggregateFunctions;
+
+  /**
+   * True at index i, if the i-th function is evaluated on vertices, false if on edges
+   */
+  private final boolean[] vertexFunctions;
+
+  /**
+   * Creates a new aggregator.
+   *
+   * @param aggregateFunctions vertex and edge aggregate functions
+   */
+  public MultiAggregator(List<AggregateFunction> aggregateFunctions) {
+    checkNotNull(aggregateFunctions);
+    checkArgument(!aggregateFunctions.isEmpty(), "No aggregate function given");
+
+    this.aggregateFunctions =
+      aggregateFunctions.toArray(new AggregateFunction[aggregateFunctions.size()]);
+    this.vertexFunctions = new boolean[aggregateFunctions.size()];
+
+    for (int i = 0; i < this.aggregateFunctions.length; i++) {
+      AggregateFunction aggregateFunction = checkNotNull(this.aggregateFunctions[i]);
+      checkArgument(aggregateFunction instanceof VertexAggregateFunction ||
+        aggregateFunction instanceof EdgeAggregateFunction,
+        "Neither a vertex nor an edge aggregate function: %s", aggregateFunction);
+      vertexFunctions[i] = aggregateFunction instanceof VertexAggregateFunction;
+    }
+  }
+
+  /**
+   * Returns true, if at least one function is evaluated on vertices.
+   *
+   * @return true, if vertices need to be aggregated
+   */
+  public boolean hasVertexFunctions() {
+    for (boolean vertexFunction : vertexFunctions) {
+      if (vertexFunction) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns true, if at least one function is evaluated on edges.
+   *
+   * @return true, if edges need to be aggregated
+   */
+  public boolean hasEdgeFunctions() {
+    for (boolean vertexFunction : vertexFunctions) {
+      if (!vertexFunction) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Creates an array of aggregates which did not receive any increment.
+   *
+   * @return empty aggregates
+   */
+  public PropertyValue[] createAggregates() {
+    return new PropertyValue[aggregateFunctions.length];
+  }
+
+  /**
+   * Adds the increments of the given vertex to all vertex aggregates.
+   *
+   * @param aggregates aggregates
+   * @param vertex vertex
+   */
+  public void aggregateVertex(PropertyValue[] aggregates, Vertex vertex) {
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      if (vertexFunctions[i]) {
+        aggregate(aggregates, i,
+          ((VertexAggregateFunction) aggregateFunctions[i]).getVertexIncrement(vertex));
+      }
+    }
+  }
+
+  /**
+   * Adds the increments of the given edge to all edge aggregates.
+   *
+   * @param aggregates aggregates
+   * @param edge edge
+   */
+  public void aggregateEdge(PropertyValue[] aggregates, Edge edge) {
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      if (!vertexFunctions[i]) {
+        aggregate(aggregates, i,
+          ((EdgeAggregateFunction) aggregateFunctions[i]).getEdgeIncrement(edge));
+      }
+    }
+  }
+
+  /**
+   * Adds a partial aggregate created by {@link #toList(PropertyValue[])} to the given
+   * aggregates.
+   *
+   * @param aggregates aggregates
+   * @param partialAggregates partial aggregates
+   */
+  public void combine(PropertyValue[] aggregates, PropertyValueList partialAggregates) {
+    int i = 0;
+    for (PropertyValue partialAggregate : partialAggregates) {
+      if (!partialAggregate.equals(PropertyValue.NULL_VALUE)) {
+        aggregate(aggregates, i, partialAggregate);
+      }
+      i++;
+    }
+  }
+
+  /**
+   * Serializes the given aggregates. Slots without increment are represented by
+   * {@link PropertyValue#NULL_VALUE}.
+   *
+   * @param aggregates aggregates
+   * @return partial aggregates
+   * @throws IOException if a value cannot be serialized
+   */
+  public PropertyValueList toList(PropertyValue[] aggregates) throws IOException {
+    List<PropertyValue> values = new ArrayList<>(aggregates.length);
+    for (PropertyValue aggregate : aggregates) {
+      values.add(aggregate != null ? aggregate : PropertyValue.NULL_VALUE);
+    }
+    return PropertyValueList.fromPropertyValues(values);
+  }
+
+  /**
+   * Stores the given aggregates at the graph head. Slots without increment are replaced by the
+   * default value of the function, if it has one, {@link PropertyValue#NULL_VALUE} otherwise.
+   *
+   * @param graphHead graph head
+   * @param aggregates aggregates
+   */
+  public void setProperties(GraphHead graphHead, PropertyValue[] aggregates) {
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      PropertyValue aggregate = aggregates[i];
+      if (aggregate == null) {
+        aggregate = aggregateFunctions[i] instanceof AggregateDefaultValue ?
+          ((AggregateDefaultValue) aggregateFunctions[i]).getDefaultValue() :
+          PropertyValue.NULL_VALUE;
+      }
+      graphHead.setProperty(aggregateFunctions[i].getAggregatePropertyKey(), aggregate);
+    }
+  }
+
+  /**
+   * Adds the increment to the aggregate in the given slot.
+   *
+   * @param aggregates aggregates
+   * @param index slot
+   * @param increment increment, may be {@code null}
+   */
+  private void aggregate(PropertyValue[] aggregates, int index, PropertyValue increment) {
+    if (increment != null) {
+      aggregates[index] = aggregates[index] == null ? increment :
+        aggregateFunctions[index].aggregate(aggregates[index], increment);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+
+import java.util.List;
+
+/**
+ * Combines the broadcast partition aggregates of vertices and edges and sets all aggregate
+ * values of a graph head.
+ */
+@FunctionAnnotation.ForwardedFields("id")
+public class SetMultiAggregateProperties
+  extends RichMapFunction<GraphHead, GraphHead> {
+
+  /**
+   * constant string for accessing broadcast variable "partition aggregate values"
+   */
+  public static final String VALUES = "values";
+
+  /**
+   * Aggregator evaluating all functions
+   */
+  private final MultiAggregator aggregator;
+
+  /**
+   * Global aggregate values
+   */
+  private PropertyValue[] aggregates;
+
+  /**
+   * Constructor.
+   *
+   * @param aggregator aggregator evaluating all functions
+   */
+  public SetMultiAggregateProperties(MultiAggregator aggregator) {
+    this.aggregator = aggregator;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<PropertyValueList> partitionAggregates =
+      getRuntimeContext().getBroadcastVariable(VALUES);
+
+    aggregates = aggregator.createAggregates();
+    for (PropertyValueList partitionAggregate : partitionAggregates) {
+      aggregator.combine(aggregates, partitionAggregate);
+    }
+  }
+
+  @Override
+  public GraphHead map(GraphHead graphHead) throws Exception {
+    aggregator.setProperties(graphHead, aggregates);
+    return graphHead;
+  }
+}
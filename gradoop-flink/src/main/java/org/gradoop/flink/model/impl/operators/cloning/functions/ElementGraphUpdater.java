@@ -22,7 +22,7 @@ import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.impl.pojo.GraphElement;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * Replaces the graph set of each element by a new one, containing only the
@@ -56,7 +56,7 @@ public class ElementGraphUpdater<EL extends GraphElement>
    */
   @Override
   public EL map(EL element) {
-    element.setGraphIds(GradoopIdList.fromExisting(graphId));
+    element.setGraphIds(GradoopIdSet.fromExisting(graphId));
     return element;
   }
 }
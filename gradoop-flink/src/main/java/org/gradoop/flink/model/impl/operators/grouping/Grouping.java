@@ -276,7 +276,29 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     LogicalGraph graph,
     DataSet<VertexWithSuperVertex> vertexToRepresentativeMap) {
 
-    DataSet<EdgeGroupItem> edges = graph.getEdges()
+    DataSet<EdgeGroupItem> edges =
+      buildEdgeGroupItems(graph.getEdges(), vertexToRepresentativeMap);
+
+    // group + reduce + build final edges
+    return groupEdges(combineEdges(edges))
+      .reduceGroup(new ReduceEdgeGroupItems(getEdgeGroupingKeys(),
+        useEdgeLabels(),
+        getEdgeAggregators(),
+        config.getEdgeFactory()));
+  }
+
+  /**
+   * Maps edges to edge group items and replaces their source and target id
+   * with the id of the corresponding super vertex.
+   *
+   * @param edges                     input edges
+   * @param vertexToRepresentativeMap dataset containing tuples of vertex id
+   *                                  and super vertex id
+   * @return edge group items with updated source and target ids
+   */
+  protected DataSet<EdgeGroupItem> buildEdgeGroupItems(DataSet<Edge> edges,
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap) {
+    return edges
       // build edge group items
       .map(new BuildEdgeGroupItem(
         getEdgeGroupingKeys(), useEdgeLabels(), getEdgeAggregators()))
@@ -292,18 +314,19 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
       .with(new UpdateEdgeGroupItem(1))
       .withForwardedFieldsFirst("f0;f2;f3;f4")
       .withForwardedFieldsSecond("f1->f1");
+  }
 
-    // group + combine
-    DataSet<EdgeGroupItem> combinedEdges = groupEdges(edges)
+  /**
+   * Pre-aggregates edge group items before they are shuffled to build the
+   * final super edges. By default, edges are grouped and combined.
+   *
+   * @param edges edge group items with updated source and target ids
+   * @return partially aggregated edge group items
+   */
+  protected DataSet<EdgeGroupItem> combineEdges(DataSet<EdgeGroupItem> edges) {
+    return groupEdges(edges)
       .combineGroup(new CombineEdgeGroupItems(
         getEdgeGroupingKeys(), useEdgeLabels(), getEdgeAggregators()));
-
-    // group + reduce + build final edges
-    return groupEdges(combinedEdges)
-      .reduceGroup(new ReduceEdgeGroupItems(getEdgeGroupingKeys(),
-        useEdgeLabels(),
-        getEdgeAggregators(),
-        config.getEdgeFactory()));
   }
 
   /**
@@ -354,10 +377,16 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
      */
     private List<PropertyValueAggregator> edgeValueAggregators;
 
+    /**
+     * Vertex grouping keys of each summary graph computed by a roll-up.
+     */
+    private List<List<String>> groupingSets;
+
     /**
      * Creates a new grouping builder
      */
     public GroupingBuilder() {
+      this.groupingSets           = new ArrayList<>();
       this.vertexGroupingKeys     = new ArrayList<>();
       this.edgeGroupingKeys       = new ArrayList<>();
       this.useVertexLabel         = false;
@@ -486,6 +515,90 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
       return this;
     }
 
+    /**
+     * Adds a set of vertex grouping keys for a roll-up, see
+     * {@link #buildRollUp()}. Each set must be a subset of the vertex grouping
+     * keys.
+     *
+     * @param keys vertex property keys
+     * @return this builder
+     */
+    public GroupingBuilder addGroupingSet(List<String> keys) {
+      Objects.requireNonNull(keys);
+      this.groupingSets.add(new ArrayList<>(keys));
+      return this;
+    }
+
+    /**
+     * Creates a new roll-up grouping operator instance which computes a
+     * summary graph for each grouping set in a single job. All other
+     * parameters are shared by the summary graphs. If no grouping set has
+     * been added, the summary graphs are grouped by all non-empty prefixes of
+     * the vertex grouping keys, e.g. (a, b, c), (a, b) and (a).
+     *
+     * @throws UnsupportedOperationException if an aggregate function does not
+     *   support roll-up aggregation
+     *
+     * @return roll-up grouping operator instance
+     */
+    public RollUpGrouping buildRollUp() {
+      Grouping finestGrouping = build();
+
+      List<List<String>> sets = new ArrayList<>(groupingSets);
+      if (sets.isEmpty()) {
+        for (int i = vertexGroupingKeys.size(); i > 0; i--) {
+          sets.add(new ArrayList<>(vertexGroupingKeys.subList(0, i)));
+        }
+        if (sets.isEmpty()) {
+          // grouping by label only
+          sets.add(new ArrayList<>());
+        }
+      }
+
+      List<Grouping> rollUpGroupings = new ArrayList<>(sets.size());
+      for (List<String> keys : sets) {
+        if (!vertexGroupingKeys.containsAll(keys)) {
+          throw new IllegalArgumentException(
+            "Grouping set " + keys + " is not a subset of " + vertexGroupingKeys);
+        }
+        GroupingBuilder builder = new GroupingBuilder()
+          .setStrategy(strategy)
+          .addVertexGroupingKeys(keys)
+          .useVertexLabel(useVertexLabel)
+          .addEdgeGroupingKeys(edgeGroupingKeys)
+          .useEdgeLabel(useEdgeLabel);
+        // aggregate the aggregates of the finer summary graph
+        for (PropertyValueAggregator aggregator : vertexValueAggregators) {
+          builder.addVertexAggregator(aggregator.getRollUpAggregator());
+        }
+        for (PropertyValueAggregator aggregator : edgeValueAggregators) {
+          builder.addEdgeAggregator(aggregator.getRollUpAggregator());
+        }
+        rollUpGroupings.add(builder.build());
+      }
+
+      return new RollUpGrouping(finestGrouping, new ArrayList<>(vertexGroupingKeys),
+        sets, rollUpGroupings);
+    }
+
+    /**
+     * Creates a new incremental grouping operator instance based on the
+     * configured parameters. The grouping strategy is ignored.
+     *
+     * @return incremental grouping operator instance
+     * @throws UnsupportedOperationException if an aggregate function does not
+     *   support roll-up aggregation
+     */
+    public IncrementalGrouping buildIncremental() {
+      if (vertexGroupingKeys.isEmpty() && !useVertexLabel) {
+        throw new IllegalArgumentException(
+          "Provide vertex key(s) and/or use vertex labels for grouping.");
+      }
+      return new IncrementalGrouping(vertexGroupingKeys, useVertexLabel,
+        vertexValueAggregators, edgeGroupingKeys, useEdgeLabel,
+        edgeValueAggregators);
+    }
+
     /**
      * Creates a new grouping operator instance based on the configured
      * parameters.
@@ -513,6 +626,18 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
             vertexValueAggregators, edgeGroupingKeys, useEdgeLabel,
             edgeValueAggregators);
         break;
+      case SKEW_RESISTANT:
+        groupingOperator =
+          new GroupingSkewResistant(vertexGroupingKeys, useVertexLabel,
+            vertexValueAggregators, edgeGroupingKeys, useEdgeLabel,
+            edgeValueAggregators);
+        break;
+      case HASH_COMBINE:
+        groupingOperator =
+          new GroupingHashCombine(vertexGroupingKeys, useVertexLabel,
+            vertexValueAggregators, edgeGroupingKeys, useEdgeLabel,
+            edgeValueAggregators);
+        break;
       default:
         throw new IllegalArgumentException("Unsupported strategy: " + strategy);
       }
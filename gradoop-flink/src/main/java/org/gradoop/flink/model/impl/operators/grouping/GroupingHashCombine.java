@@ -0,0 +1,157 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+import org.gradoop.flink.model.impl.functions.tuple.Value1Of2;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithMergedSuperVertexBC;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterMergedSuperVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterRegularVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterSuperVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.HashCombineEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.HashCombineVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.MergeVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+
+import java.util.List;
+
+/**
+ * Grouping implementation that pre-aggregates vertices and edges in per
+ * partition hash tables instead of sorting them. This pays off if the
+ * number of groups is small compared to the number of elements, e.g. when
+ * grouping on labels.
+ *
+ * Algorithmic idea:
+ *
+ * 1) Map vertices to a minimal representation, i.e. {@link VertexGroupItem}.
+ * 2) Insert the vertex tuples of each partition into a hash table which is
+ *    keyed by label and/or property. Each group gets a partial super vertex id
+ *    and its aggregates are updated incrementally. Vertex tuples are forwarded
+ *    immediately with their partial super vertex id. A partial super vertex
+ *    tuple is created for each group of the table at the end of the partition
+ *    or if the table is full, in which case the table is cleared.
+ * 3) Filter output of 2)
+ *    a) partial super vertex tuples are grouped and merged via groupReduce to
+ *       create a final super vertex representing the group. The smallest
+ *       partial super vertex id becomes the final id and a mapping from the
+ *       final id to the replaced partial ids is created.
+ *    b) non-candidate tuples are mapped to {@link VertexWithSuperVertex} using
+ *       the broadcasted mapping output of 3a)
+ * 4) Map edges to a minimal representation, i.e. {@link EdgeGroupItem}, and
+ *    replace source/target id with the super vertex id.
+ * 5) Pre-aggregate the edge tuples of each partition in a hash table which is
+ *    keyed by source id, target id and label and/or property.
+ * 6) Group reduce globally and create final super edges.
+ */
+public class GroupingHashCombine extends Grouping {
+  /**
+   * Maximum number of vertex or edge groups held in the hash table of a
+   * single task. If the table is full, the partial aggregates are emitted.
+   */
+  public static final int DEFAULT_MAX_GROUP_COUNT = 100000;
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param vertexGroupingKeys  property keys to group vertices
+   * @param useVertexLabels     group on vertex label true/false
+   * @param vertexAggregators   aggregate functions for grouped vertices
+   * @param edgeGroupingKeys    property keys to group edges
+   * @param useEdgeLabels       group on edge label true/false
+   * @param edgeAggregators     aggregate functions for grouped edges
+   */
+  GroupingHashCombine(
+    List<String> vertexGroupingKeys,
+    boolean useVertexLabels,
+    List<PropertyValueAggregator> vertexAggregators,
+    List<String> edgeGroupingKeys,
+    boolean useEdgeLabels,
+    List<PropertyValueAggregator> edgeAggregators) {
+    super(
+      vertexGroupingKeys, useVertexLabels, vertexAggregators,
+      edgeGroupingKeys, useEdgeLabels, edgeAggregators);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected LogicalGraph groupInternal(LogicalGraph graph) {
+    DataSet<VertexGroupItem> vertexGroupItems = graph.getVertices()
+      // map vertex to vertex group item
+      .map(new BuildVertexGroupItem(getVertexGroupingKeys(), useVertexLabels(),
+        getVertexAggregators()))
+      // pre-aggregate groups per partition
+      .mapPartition(new HashCombineVertexGroupItems(useVertexLabels(),
+        getVertexAggregators(), DEFAULT_MAX_GROUP_COUNT));
+
+    // merge partial super vertex tuples
+    DataSet<Tuple2<VertexGroupItem, IdWithIdSet>> superVertexTuples =
+      groupVertices(vertexGroupItems.filter(new FilterSuperVertices()))
+        .reduceGroup(new MergeVertexGroupItems(useVertexLabels(), getVertexAggregators()));
+
+    // build super vertices from super vertex tuples
+    DataSet<Vertex> superVertices = superVertexTuples
+      .map(new Value0Of2<>())
+      .map(new BuildSuperVertex(getVertexGroupingKeys(), useVertexLabels(),
+        getVertexAggregators(), config.getVertexFactory()));
+
+    // extract the replaced partial super vertex ids
+    DataSet<IdWithIdSet> mapping = superVertexTuples
+      .map(new Value1Of2<>())
+      .filter(new FilterMergedSuperVertices());
+
+    // filter group element tuples and update their vertex representative
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap = vertexGroupItems
+      .filter(new FilterRegularVertices())
+      .map(new BuildVertexWithMergedSuperVertexBC())
+      .withBroadcastSet(mapping, BuildVertexWithMergedSuperVertexBC.BC_MAPPING);
+
+    // build super edges
+    DataSet<Edge> superEdges = buildSuperEdges(graph, vertexToRepresentativeMap);
+
+    return LogicalGraph.fromDataSets(superVertices, superEdges, graph.getConfig());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected DataSet<EdgeGroupItem> combineEdges(DataSet<EdgeGroupItem> edges) {
+    return edges.mapPartition(new HashCombineEdgeGroupItems(useEdgeLabels(),
+      getEdgeAggregators(), DEFAULT_MAX_GROUP_COUNT));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return GroupingHashCombine.class.getName();
+  }
+}
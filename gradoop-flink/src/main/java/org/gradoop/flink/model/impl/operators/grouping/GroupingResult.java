@@ -0,0 +1,67 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+
+/**
+ * Summary graph computed by {@link IncrementalGrouping} together with the
+ * assignment of the grouped vertices to their super vertices. Both are
+ * required to update the summary graph with new vertices and edges.
+ */
+public class GroupingResult {
+  /**
+   * Summary graph.
+   */
+  private final LogicalGraph graph;
+  /**
+   * Mapping from each grouped vertex to its super vertex.
+   */
+  private final DataSet<VertexWithSuperVertex> vertexToSuperVertex;
+
+  /**
+   * Creates a new grouping result.
+   *
+   * @param graph               summary graph
+   * @param vertexToSuperVertex mapping from grouped vertices to super vertices
+   */
+  public GroupingResult(LogicalGraph graph,
+    DataSet<VertexWithSuperVertex> vertexToSuperVertex) {
+    this.graph = graph;
+    this.vertexToSuperVertex = vertexToSuperVertex;
+  }
+
+  /**
+   * Returns the summary graph.
+   *
+   * @return summary graph
+   */
+  public LogicalGraph getGraph() {
+    return graph;
+  }
+
+  /**
+   * Returns the mapping from each grouped vertex to its super vertex.
+   *
+   * @return vertex id and super vertex id tuples
+   */
+  public DataSet<VertexWithSuperVertex> getVertexToSuperVertex() {
+    return vertexToSuperVertex;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.UnsortedGrouping;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+import org.gradoop.flink.model.impl.functions.tuple.Value1Of2;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithMergedSuperVertexBC;
+import org.gradoop.flink.model.impl.operators.grouping.functions.CountVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterMergedSuperVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterRegularVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterSuperVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.MergeVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SaltVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SelectHotVertexGroups;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+
+import java.util.List;
+
+/**
+ * Grouping implementation for skewed group sizes, e.g. when grouping on labels or on properties
+ * with few distinct values. In that case, {@link GroupingGroupReduce} reduces a large group in
+ * a single task.
+ *
+ * Algorithmic idea:
+ *
+ * 1) Map vertices to a minimal representation, i.e. {@link VertexGroupItem}.
+ * 2) Draw a fixed size sample of the vertices and count the group sizes. Groups containing at
+ *    least 1/p of the sampled vertices are hot, where p is the parallelism.
+ * 3) Salt the vertices of hot groups by assigning one of p salts based on their vertex id.
+ * 4) Group vertices on label and/or property and salt, i.e. each hot group is reduced by up to
+ *    p tasks. Create a partial super vertex id for each (salted) group and collect a
+ *    non-candidate {@link VertexGroupItem} for each group element and one additional partial
+ *    super vertex tuple that holds the partial group aggregate.
+ * 5) Group the partial super vertex tuples on label and/or property and merge them. The
+ *    smallest partial super vertex id becomes the final id, so the result is deterministic and
+ *    only the (few) partial ids of hot groups need to be replaced.
+ * 6) Map the non-candidate tuples to {@link VertexWithSuperVertex} using the broadcasted
+ *    mapping of replaced partial super vertex ids.
+ * 7) Build super edges as in {@link GroupingGroupReduce}. The edges are joined with the
+ *    vertex mapping on the original vertex ids and edge groups are combined before they are
+ *    shuffled, so a hot super vertex id does not lead to a hot task either.
+ */
+public class GroupingSkewResistant extends Grouping {
+  /**
+   * Number of vertices sampled to detect hot groups.
+   */
+  public static final int DEFAULT_SAMPLE_SIZE = 1000;
+  /**
+   * Seed of the sample, fixed for reproducible plans.
+   */
+  private static final long SAMPLE_SEED = 42L;
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param vertexGroupingKeys  property key to group vertices
+   * @param useVertexLabels     group on vertex label true/false
+   * @param vertexAggregators   aggregate functions for grouped vertices
+   * @param edgeGroupingKeys    property key to group edges
+   * @param useEdgeLabels       group on edge label true/false
+   * @param edgeAggregators     aggregate functions for grouped edges
+   */
+  GroupingSkewResistant(
+    List<String> vertexGroupingKeys,
+    boolean useVertexLabels,
+    List<PropertyValueAggregator> vertexAggregators,
+    List<String> edgeGroupingKeys,
+    boolean useEdgeLabels,
+    List<PropertyValueAggregator> edgeAggregators) {
+    super(
+      vertexGroupingKeys, useVertexLabels, vertexAggregators,
+      edgeGroupingKeys, useEdgeLabels, edgeAggregators);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected LogicalGraph groupInternal(LogicalGraph graph) {
+    int saltCount = Math.max(1, config.getExecutionEnvironment().getParallelism());
+
+    DataSet<VertexGroupItem> verticesForGrouping = graph.getVertices()
+      // map vertex to vertex group item
+      .map(new BuildVertexGroupItem(getVertexGroupingKeys(), useVertexLabels(),
+        getVertexAggregators()));
+
+    // estimate group sizes and select hot groups
+    DataSet<Tuple3<String, PropertyValueList, Long>> hotGroups =
+      groupVertices(DataSetUtils
+        .sampleWithSize(verticesForGrouping, false, DEFAULT_SAMPLE_SIZE, SAMPLE_SEED))
+      .reduceGroup(new CountVertexGroupItems())
+      .reduceGroup(new SelectHotVertexGroups(saltCount));
+
+    // salt hot groups and group vertices by label / properties / both + salt
+    DataSet<VertexGroupItem> vertexGroupItems = groupSaltedVertices(verticesForGrouping
+      .map(new SaltVertexGroupItems(saltCount))
+      .withBroadcastSet(hotGroups, SaltVertexGroupItems.BC_HOT_GROUPS))
+      // apply aggregate function per salted group
+      .reduceGroup(new ReduceVertexGroupItems(useVertexLabels(), getVertexAggregators()));
+
+    // merge partial super vertex tuples (1..p per group)
+    DataSet<Tuple2<VertexGroupItem, IdWithIdSet>> superVertexTuples =
+      groupVertices(vertexGroupItems.filter(new FilterSuperVertices()))
+        .reduceGroup(new MergeVertexGroupItems(useVertexLabels(), getVertexAggregators()));
+
+    // build super vertices from super vertex tuples
+    DataSet<Vertex> superVertices = superVertexTuples
+      .map(new Value0Of2<>())
+      .map(new BuildSuperVertex(getVertexGroupingKeys(), useVertexLabels(),
+        getVertexAggregators(), config.getVertexFactory()));
+
+    // extract the replaced partial super vertex ids
+    DataSet<IdWithIdSet> mapping = superVertexTuples
+      .map(new Value1Of2<>())
+      .filter(new FilterMergedSuperVertices());
+
+    // filter group element tuples and update their vertex representative
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap = vertexGroupItems
+      .filter(new FilterRegularVertices())
+      .map(new BuildVertexWithMergedSuperVertexBC())
+      .withBroadcastSet(mapping, BuildVertexWithMergedSuperVertexBC.BC_MAPPING);
+
+    // build super edges
+    DataSet<Edge> superEdges = buildSuperEdges(graph, vertexToRepresentativeMap);
+
+    return LogicalGraph.fromDataSets(superVertices, superEdges, graph.getConfig());
+  }
+
+  /**
+   * Groups salted vertices by their salt and either vertex label, vertex property or both.
+   * The salt is stored as super vertex id.
+   *
+   * @param saltedVertices dataset containing salted vertex representations for grouping
+   * @return unsorted vertex grouping
+   */
+  private UnsortedGrouping<VertexGroupItem> groupSaltedVertices(
+    DataSet<VertexGroupItem> saltedVertices) {
+    UnsortedGrouping<VertexGroupItem> vertexGrouping;
+    if (useVertexLabels() && useVertexProperties()) {
+      vertexGrouping = saltedVertices.groupBy(1, 2, 3);
+    } else if (useVertexLabels()) {
+      vertexGrouping = saltedVertices.groupBy(1, 2);
+    } else {
+      vertexGrouping = saltedVertices.groupBy(1, 3);
+    }
+    return vertexGrouping;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return GroupingSkewResistant.class.getName();
+  }
+}
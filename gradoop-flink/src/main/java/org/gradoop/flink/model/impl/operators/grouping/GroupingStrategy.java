@@ -29,5 +29,13 @@ public enum GroupingStrategy {
   /**
    * {@see GroupingGroupCombine}
    */
-  GROUP_COMBINE
+  GROUP_COMBINE,
+  /**
+   * {@see GroupingSkewResistant}
+   */
+  SKEW_RESISTANT,
+  /**
+   * {@see GroupingHashCombine}
+   */
+  HASH_COMBINE
 }
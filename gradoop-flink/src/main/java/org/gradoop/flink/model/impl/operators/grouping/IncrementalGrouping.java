@@ -0,0 +1,260 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.bool.False;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.graphcontainment.AddToGraphBroadcast;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+import org.gradoop.flink.model.impl.functions.tuple.Value1Of2;
+import org.gradoop.flink.model.impl.functions.utils.LeftWhenRightIsNull;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildEdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithMergedSuperVertexBC;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterMergedSuperVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterRegularVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterSuperVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.MergeWithSuperVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grouping implementation which updates a previously computed summary graph
+ * with new vertices and edges instead of grouping the whole graph again. All
+ * aggregate functions need to support roll-up aggregation, see
+ * {@link PropertyValueAggregator#getRollUpAggregator()}.
+ *
+ * Algorithmic idea:
+ *
+ * 1) Map new vertices to {@link VertexGroupItem}, group them on label and/or
+ *    property and create a super vertex tuple for each group.
+ * 2) Map the existing super vertices to {@link VertexGroupItem} using the
+ *    roll-up aggregators, i.e. their aggregate values are read from the
+ *    aggregate properties.
+ * 3) Left outer join the new super vertex tuples with the existing ones on
+ *    label and/or property. If a group already exists, its super vertex id is
+ *    kept and the aggregates are merged. Only the super vertices of affected
+ *    groups are rebuilt, all others are forwarded.
+ * 4) Map the new vertices to {@link VertexWithSuperVertex} and append them to
+ *    the previous mapping. The mapping of previously grouped vertices stays
+ *    valid, as super vertex ids do not change.
+ * 5) Map the new edges to {@link EdgeGroupItem} and replace source/target id
+ *    with the super vertex id using the updated mapping.
+ * 6) Group the new edge tuples together with the existing super edges, whose
+ *    aggregate values are read using the roll-up aggregators, and create the
+ *    final super edges.
+ *
+ * The first summary graph is computed via {@link #group(LogicalGraph)}, which
+ * updates an empty summary graph with the whole input graph.
+ */
+public class IncrementalGrouping extends Grouping {
+  /**
+   * Aggregate functions which are applied on existing super vertices.
+   */
+  private final List<PropertyValueAggregator> rollUpVertexAggregators;
+  /**
+   * Aggregate functions which are applied on existing super edges.
+   */
+  private final List<PropertyValueAggregator> rollUpEdgeAggregators;
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param vertexGroupingKeys  property keys to group vertices
+   * @param useVertexLabels     group on vertex label true/false
+   * @param vertexAggregators   aggregate functions for grouped vertices
+   * @param edgeGroupingKeys    property keys to group edges
+   * @param useEdgeLabels       group on edge label true/false
+   * @param edgeAggregators     aggregate functions for grouped edges
+   */
+  IncrementalGrouping(
+    List<String> vertexGroupingKeys,
+    boolean useVertexLabels,
+    List<PropertyValueAggregator> vertexAggregators,
+    List<String> edgeGroupingKeys,
+    boolean useEdgeLabels,
+    List<PropertyValueAggregator> edgeAggregators) {
+    super(
+      vertexGroupingKeys, useVertexLabels, vertexAggregators,
+      edgeGroupingKeys, useEdgeLabels, edgeAggregators);
+    this.rollUpVertexAggregators = getRollUpAggregators(vertexAggregators);
+    this.rollUpEdgeAggregators = getRollUpAggregators(edgeAggregators);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected LogicalGraph groupInternal(LogicalGraph graph) {
+    return group(graph).getGraph();
+  }
+
+  /**
+   * Groups the given graph and returns the summary graph together with the
+   * mapping from vertices to super vertices.
+   *
+   * @param graph input graph
+   * @return summary graph and vertex mapping
+   */
+  public GroupingResult group(LogicalGraph graph) {
+    LogicalGraph emptySummary = LogicalGraph.fromDataSets(
+      graph.getVertices().filter(new False<>()),
+      graph.getEdges().filter(new False<>()),
+      graph.getConfig());
+
+    DataSet<VertexWithSuperVertex> emptyMapping = graph.getConfig()
+      .getExecutionEnvironment()
+      .fromCollection(new ArrayList<>(0),
+        TypeExtractor.createTypeInfo(VertexWithSuperVertex.class));
+
+    return update(new GroupingResult(emptySummary, emptyMapping), graph);
+  }
+
+  /**
+   * Updates a previous summary graph with the vertices and edges of the given
+   * delta graph. Edges of the delta graph may connect previously grouped
+   * vertices.
+   *
+   * @param previous  previous summary graph and vertex mapping
+   * @param delta     graph containing new vertices and edges
+   * @return updated summary graph and vertex mapping
+   */
+  public GroupingResult update(GroupingResult previous, LogicalGraph delta) {
+    config = delta.getConfig();
+    LogicalGraph summary = previous.getGraph();
+
+    DataSet<GradoopId> graphId = summary.getGraphHead().map(new Id<>());
+
+    // group new vertices by label / properties / both
+    DataSet<VertexGroupItem> vertexGroupItems = groupVertices(delta.getVertices()
+      .map(new BuildVertexGroupItem(getVertexGroupingKeys(), useVertexLabels(),
+        getVertexAggregators())))
+      .reduceGroup(new ReduceVertexGroupItems(useVertexLabels(), getVertexAggregators()));
+
+    // existing super vertices with their aggregates
+    DataSet<VertexGroupItem> existingSuperVertexTuples = summary.getVertices()
+      .map(new BuildVertexGroupItem(getVertexGroupingKeys(), useVertexLabels(),
+        rollUpVertexAggregators));
+
+    // merge new groups into existing groups
+    int[] groupFields = getVertexGroupFields();
+    DataSet<Tuple2<VertexGroupItem, IdWithIdSet>> superVertexTuples = vertexGroupItems
+      .filter(new FilterSuperVertices())
+      .leftOuterJoin(existingSuperVertexTuples)
+      .where(groupFields).equalTo(groupFields)
+      .with(new MergeWithSuperVertexGroupItem(useVertexLabels(), getVertexAggregators()));
+
+    DataSet<Vertex> updatedSuperVertices = superVertexTuples
+      .map(new Value0Of2<>())
+      .map(new BuildSuperVertex(getVertexGroupingKeys(), useVertexLabels(),
+        getVertexAggregators(), config.getVertexFactory()))
+      .map(new AddToGraphBroadcast<>())
+      .withBroadcastSet(graphId, AddToGraphBroadcast.GRAPH_ID);
+
+    // forward unaffected super vertices
+    DataSet<Vertex> superVertices = summary.getVertices()
+      .leftOuterJoin(updatedSuperVertices)
+      .where(new Id<>()).equalTo(new Id<>())
+      .with(new LeftWhenRightIsNull<>())
+      .union(updatedSuperVertices);
+
+    // new vertices of existing groups are mapped to the existing super vertex
+    DataSet<IdWithIdSet> mapping = superVertexTuples
+      .map(new Value1Of2<>())
+      .filter(new FilterMergedSuperVertices());
+
+    DataSet<VertexWithSuperVertex> vertexToSuperVertex = vertexGroupItems
+      .filter(new FilterRegularVertices())
+      .map(new BuildVertexWithMergedSuperVertexBC())
+      .withBroadcastSet(mapping, BuildVertexWithMergedSuperVertexBC.BC_MAPPING)
+      .union(previous.getVertexToSuperVertex());
+
+    // existing super edges with their aggregates
+    DataSet<EdgeGroupItem> existingSuperEdgeTuples = summary.getEdges()
+      .map(new BuildEdgeGroupItem(getEdgeGroupingKeys(), useEdgeLabels(),
+        rollUpEdgeAggregators));
+
+    // group new edges together with existing super edges
+    DataSet<Edge> superEdges = groupEdges(
+      combineEdges(buildEdgeGroupItems(delta.getEdges(), vertexToSuperVertex))
+        .union(existingSuperEdgeTuples))
+      .reduceGroup(new ReduceEdgeGroupItems(getEdgeGroupingKeys(), useEdgeLabels(),
+        getEdgeAggregators(), config.getEdgeFactory()))
+      .map(new AddToGraphBroadcast<>())
+      .withBroadcastSet(graphId, AddToGraphBroadcast.GRAPH_ID);
+
+    return new GroupingResult(
+      LogicalGraph.fromDataSets(summary.getGraphHead(), superVertices, superEdges, config),
+      vertexToSuperVertex);
+  }
+
+  /**
+   * Returns the fields of {@link VertexGroupItem} which identify a group.
+   *
+   * @return label and/or grouping values field
+   */
+  private int[] getVertexGroupFields() {
+    int[] fields;
+    if (useVertexLabels() && useVertexProperties()) {
+      fields = new int[] {2, 3};
+    } else if (useVertexLabels()) {
+      fields = new int[] {2};
+    } else {
+      fields = new int[] {3};
+    }
+    return fields;
+  }
+
+  /**
+   * Returns the roll-up aggregator of each given aggregate function.
+   *
+   * @param aggregators aggregate functions
+   * @return roll-up aggregators
+   */
+  private static List<PropertyValueAggregator> getRollUpAggregators(
+    List<PropertyValueAggregator> aggregators) {
+    List<PropertyValueAggregator> rollUpAggregators = new ArrayList<>(aggregators.size());
+    for (PropertyValueAggregator aggregator : aggregators) {
+      rollUpAggregators.add(aggregator.getRollUpAggregator());
+    }
+    return rollUpAggregators;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return IncrementalGrouping.class.getName();
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SetVertexGroupingKeys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Computes multiple summary graphs of the same input graph which differ in
+ * their vertex grouping keys, e.g. (country), (country, city) and
+ * (country, city, gender). All other grouping parameters are shared.
+ *
+ * Only the finest summary graph, which is grouped by all vertex grouping keys,
+ * is computed from the input graph. Each coarser summary graph is computed
+ * from the smallest already computed summary graph whose grouping keys
+ * contain all of its grouping keys, i.e. from the super vertices and super
+ * edges of a finer level. To this end, the aggregate functions are replaced by
+ * their roll-up aggregators, see
+ * {@link org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator#getRollUpAggregator()}.
+ *
+ * The vertex grouping keys of each summary graph are stored as list property
+ * {@link #VERTEX_GROUPING_KEYS_PROPERTY} at its graph head.
+ *
+ * @see Grouping.GroupingBuilder#buildRollUp()
+ */
+public class RollUpGrouping implements UnaryGraphToCollectionOperator {
+  /**
+   * Graph head property containing the vertex grouping keys of a summary graph.
+   */
+  public static final String VERTEX_GROUPING_KEYS_PROPERTY = "vertexGroupingKeys";
+  /**
+   * Computes the finest summary graph from the input graph.
+   */
+  private final Grouping finestGrouping;
+  /**
+   * Vertex grouping keys of the finest summary graph.
+   */
+  private final List<String> finestKeys;
+  /**
+   * Vertex grouping keys of each requested summary graph.
+   */
+  private final List<List<String>> groupingSets;
+  /**
+   * Computes the requested summary graph at the same position from a finer
+   * summary graph.
+   */
+  private final List<Grouping> rollUpGroupings;
+
+  /**
+   * Creates roll-up grouping operator instance.
+   *
+   * @param finestGrouping  grouping by all vertex grouping keys
+   * @param finestKeys      all vertex grouping keys
+   * @param groupingSets    vertex grouping keys of the requested summary graphs
+   * @param rollUpGroupings groupings of a finer summary graph for each set
+   */
+  RollUpGrouping(Grouping finestGrouping, List<String> finestKeys,
+    List<List<String>> groupingSets, List<Grouping> rollUpGroupings) {
+    this.finestGrouping = finestGrouping;
+    this.finestKeys = finestKeys;
+    this.groupingSets = groupingSets;
+    this.rollUpGroupings = rollUpGroupings;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public GraphCollection execute(LogicalGraph graph) {
+    List<LogicalGraph> levels = executeLevels(graph);
+
+    DataSet<GraphHead> graphHeads = levels.get(0).getGraphHead();
+    DataSet<Vertex> vertices = levels.get(0).getVertices();
+    DataSet<Edge> edges = levels.get(0).getEdges();
+
+    for (LogicalGraph level : levels.subList(1, levels.size())) {
+      graphHeads = graphHeads.union(level.getGraphHead());
+      vertices = vertices.union(level.getVertices());
+      edges = edges.union(level.getEdges());
+    }
+
+    return GraphCollection.fromDataSets(graphHeads, vertices, edges, graph.getConfig());
+  }
+
+  /**
+   * Computes a summary graph for each grouping set.
+   *
+   * @param graph input graph
+   * @return summary graphs in the order of the grouping sets
+   */
+  public List<LogicalGraph> executeLevels(LogicalGraph graph) {
+    List<List<String>> computedKeys = new ArrayList<>();
+    List<LogicalGraph> computedGraphs = new ArrayList<>();
+
+    computedKeys.add(finestKeys);
+    computedGraphs.add(finestGrouping.execute(graph));
+
+    LogicalGraph[] levels = new LogicalGraph[groupingSets.size()];
+
+    // compute finer levels first, so that they can be reused by coarser ones
+    List<Integer> order = IntStream.range(0, groupingSets.size()).boxed()
+      .sorted((a, b) -> groupingSets.get(b).size() - groupingSets.get(a).size())
+      .collect(Collectors.toList());
+
+    for (int i : order) {
+      List<String> keys = groupingSets.get(i);
+      int source = 0;
+      for (int j = 1; j < computedKeys.size(); j++) {
+        if (computedKeys.get(j).containsAll(keys) &&
+          computedKeys.get(j).size() < computedKeys.get(source).size()) {
+          source = j;
+        }
+      }
+
+      LogicalGraph level;
+      if (new HashSet<>(computedKeys.get(source)).equals(new HashSet<>(keys))) {
+        level = computedGraphs.get(source);
+      } else {
+        level = rollUpGroupings.get(i).execute(computedGraphs.get(source));
+        computedKeys.add(keys);
+        computedGraphs.add(level);
+      }
+
+      levels[i] = LogicalGraph.fromDataSets(
+        level.getGraphHead().map(
+          new SetVertexGroupingKeys(VERTEX_GROUPING_KEYS_PROPERTY, keys)),
+        level.getVertices(), level.getEdges(), graph.getConfig());
+    }
+
+    return Arrays.asList(levels);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return RollUpGrouping.class.getName();
+  }
+}
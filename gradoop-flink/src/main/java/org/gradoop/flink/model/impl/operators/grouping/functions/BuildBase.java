@@ -18,6 +18,7 @@
 package org.gradoop.flink.model.impl.operators.grouping.functions;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.util.InstantiationUtil;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation
   .CountAggregator;
 import org.gradoop.common.model.api.entities.EPGMAttributed;
@@ -180,6 +181,24 @@ abstract class BuildBase implements Serializable {
     return !valueAggregators.isEmpty();
   }
 
+  /**
+   * Creates independent copies of the aggregate functions, e.g. to aggregate
+   * multiple groups at the same time. The copies are reset.
+   *
+   * @return reset copies of the aggregate functions
+   * @throws IOException if an aggregate function cannot be serialized
+   * @throws ClassNotFoundException if an aggregate function cannot be loaded
+   */
+  protected List<PropertyValueAggregator> createAggregators()
+      throws IOException, ClassNotFoundException {
+    List<PropertyValueAggregator> aggregators = InstantiationUtil.clone(
+      Lists.newArrayList(valueAggregators), getClass().getClassLoader());
+    for (PropertyValueAggregator aggregator : aggregators) {
+      aggregator.resetAggregate();
+    }
+    return aggregators;
+  }
+
   /**
    * Returns the property values of the given element which are used for
    * aggregation. If the EPGM element does not have a property, it uses
@@ -212,7 +231,19 @@ abstract class BuildBase implements Serializable {
    * @param values property values
    */
   protected void aggregate(PropertyValueList values) {
-    Iterator<PropertyValueAggregator> aggIt = valueAggregators.iterator();
+    aggregate(valueAggregators, values);
+  }
+
+  /**
+   * Add the given values to the corresponding aggregate of the given
+   * aggregators.
+   *
+   * @param aggregators aggregators created by {@link #createAggregators()}
+   * @param values      property values
+   */
+  protected void aggregate(List<PropertyValueAggregator> aggregators,
+    PropertyValueList values) {
+    Iterator<PropertyValueAggregator> aggIt = aggregators.iterator();
     Iterator<PropertyValue> valueIt = values.iterator();
 
     while (aggIt.hasNext() && valueIt.hasNext()) {
@@ -229,13 +260,24 @@ abstract class BuildBase implements Serializable {
    * @return aggregate values
    */
   protected PropertyValueList getAggregateValues() throws IOException {
+    return getAggregateValues(valueAggregators);
+  }
+
+  /**
+   * Returns the current aggregate values from the given aggregators.
+   *
+   * @param aggregators aggregators created by {@link #createAggregators()}
+   * @return aggregate values
+   */
+  protected PropertyValueList getAggregateValues(
+    List<PropertyValueAggregator> aggregators) throws IOException {
     PropertyValueList result;
     if (!doAggregate()) {
       result = PropertyValueList.createEmptyList();
     } else {
       List<PropertyValue> propertyValues =
-        Lists.newArrayListWithCapacity(valueAggregators.size());
-      for (PropertyValueAggregator valueAggregator : valueAggregators) {
+        Lists.newArrayListWithCapacity(aggregators.size());
+      for (PropertyValueAggregator valueAggregator : aggregators) {
         propertyValues.add(valueAggregator.getAggregate());
       }
       result = PropertyValueList.fromPropertyValues(propertyValues);
@@ -0,0 +1,80 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps a {@link VertexGroupItem} to a {@link VertexWithSuperVertex}. Partial super vertex ids
+ * contained in the broadcasted mapping are replaced by their final super vertex id, all other
+ * super vertex ids are already final.
+ */
+@FunctionAnnotation.ForwardedFields(
+  "f0" // vertex id
+)
+public class BuildVertexWithMergedSuperVertexBC
+  extends RichMapFunction<VertexGroupItem, VertexWithSuperVertex> {
+  /**
+   * Broadcast variable name
+   */
+  public static final String BC_MAPPING = "mapping";
+  /**
+   * Reduce object instantiation
+   */
+  private final VertexWithSuperVertex reuseTuple;
+  /**
+   * Maps partial super vertex ids to their final super vertex id.
+   */
+  private Map<GradoopId, GradoopId> finalSuperVertexIds;
+
+  /**
+   * Creates the mapper
+   */
+  public BuildVertexWithMergedSuperVertexBC() {
+    this.reuseTuple = new VertexWithSuperVertex();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<IdWithIdSet> mapping = getRuntimeContext().getBroadcastVariable(BC_MAPPING);
+    finalSuperVertexIds = Maps.newHashMap();
+    for (IdWithIdSet group : mapping) {
+      for (GradoopId partialSuperVertexId : group.getIdSet()) {
+        finalSuperVertexIds.put(partialSuperVertexId, group.getId());
+      }
+    }
+  }
+
+  @Override
+  public VertexWithSuperVertex map(VertexGroupItem item) throws Exception {
+    GradoopId superVertexId = finalSuperVertexIds.get(item.getSuperVertexId());
+    reuseTuple.setVertexId(item.getVertexId());
+    reuseTuple.setSuperVertexId(superVertexId != null ? superVertexId : item.getSuperVertexId());
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+/**
+ * Counts the vertices of a group.
+ *
+ * vertexGroupItem,.. => (groupLabel, groupingValues, count)
+ */
+@FunctionAnnotation.ReadFields("f2;f3")
+public class CountVertexGroupItems implements
+  GroupReduceFunction<VertexGroupItem, Tuple3<String, PropertyValueList, Long>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<String, PropertyValueList, Long> reuseTuple = new Tuple3<>();
+
+  @Override
+  public void reduce(Iterable<VertexGroupItem> vertexGroupItems,
+    Collector<Tuple3<String, PropertyValueList, Long>> out) throws Exception {
+
+    long count = 0L;
+    for (VertexGroupItem groupItem : vertexGroupItems) {
+      if (count == 0L) {
+        reuseTuple.f0 = groupItem.getGroupLabel();
+        reuseTuple.f1 = groupItem.getGroupingValues();
+      }
+      count++;
+    }
+    reuseTuple.f2 = count;
+    out.collect(reuseTuple);
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+
+/**
+ * Keeps the mappings from a final super vertex id to partial super vertex ids, which contain at
+ * least one partial id, i.e. which belong to a group that has been reduced by multiple tasks.
+ */
+@FunctionAnnotation.ReadFields("f1")
+public class FilterMergedSuperVertices implements FilterFunction<IdWithIdSet> {
+
+  @Override
+  public boolean filter(IdWithIdSet mapping) throws Exception {
+    return !mapping.getIdSet().isEmpty();
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.common.util.GConstants;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-aggregates the edge group items of a partition in a hash table which is
+ * keyed by source id, target id, group label and the serialized grouping
+ * values. In contrast to {@link CombineEdgeGroupItems}, the input does not
+ * need to be sorted.
+ *
+ * The partial aggregates are emitted at the end of the partition or if the
+ * table reaches its maximum size. In the latter case, the table is cleared,
+ * i.e. a group may be represented by multiple edge group items per partition.
+ *
+ * edgeGroupItem,.. => partialEdgeGroupItem,..
+ */
+public class HashCombineEdgeGroupItems
+  extends BuildBase
+  implements MapPartitionFunction<EdgeGroupItem, EdgeGroupItem> {
+
+  /**
+   * Maximum number of groups which are aggregated at the same time.
+   */
+  private final int maxGroupCount;
+  /**
+   * Reduce object instantiations when looking up a group.
+   */
+  private final Tuple4<GradoopId, GradoopId, String, PropertyValueList> reuseKey;
+  /**
+   * Reduce object instantiations.
+   */
+  private final EdgeGroupItem reuseEdgeGroupItem;
+
+  /**
+   * Creates map partition function.
+   *
+   * @param useLabel        true, iff labels are used for grouping
+   * @param edgeAggregators aggregate functions for super edges
+   * @param maxGroupCount   maximum number of groups held in memory
+   */
+  public HashCombineEdgeGroupItems(boolean useLabel,
+    List<PropertyValueAggregator> edgeAggregators, int maxGroupCount) {
+    super(null, useLabel, edgeAggregators);
+    this.maxGroupCount = maxGroupCount;
+    this.reuseKey = new Tuple4<>();
+    this.reuseEdgeGroupItem = new EdgeGroupItem();
+  }
+
+  @Override
+  public void mapPartition(Iterable<EdgeGroupItem> edgeGroupItems,
+    Collector<EdgeGroupItem> out) throws Exception {
+
+    Map<Tuple4<GradoopId, GradoopId, String, PropertyValueList>,
+      List<PropertyValueAggregator>> groups = new HashMap<>();
+
+    for (EdgeGroupItem groupItem : edgeGroupItems) {
+      reuseKey.f0 = groupItem.getSourceId();
+      reuseKey.f1 = groupItem.getTargetId();
+      reuseKey.f2 = useLabel() ? groupItem.getGroupLabel() : GConstants.DEFAULT_EDGE_LABEL;
+      reuseKey.f3 = groupItem.getGroupingValues();
+
+      List<PropertyValueAggregator> aggregators = groups.get(reuseKey);
+      if (aggregators == null) {
+        if (groups.size() >= maxGroupCount) {
+          emitGroups(groups, out);
+        }
+        aggregators = createAggregators();
+        groups.put(new Tuple4<>(reuseKey.f0, reuseKey.f1, reuseKey.f2, reuseKey.f3),
+          aggregators);
+      }
+
+      if (doAggregate()) {
+        aggregate(aggregators, groupItem.getAggregateValues());
+      }
+    }
+
+    emitGroups(groups, out);
+  }
+
+  /**
+   * Emits an edge group item for each group and clears the table.
+   *
+   * @param groups  partial groups
+   * @param out     output collector
+   * @throws IOException if the aggregate values cannot be serialized
+   */
+  private void emitGroups(Map<Tuple4<GradoopId, GradoopId, String, PropertyValueList>,
+    List<PropertyValueAggregator>> groups, Collector<EdgeGroupItem> out) throws IOException {
+    for (Map.Entry<Tuple4<GradoopId, GradoopId, String, PropertyValueList>,
+      List<PropertyValueAggregator>> group : groups.entrySet()) {
+      reuseEdgeGroupItem.setSourceId(group.getKey().f0);
+      reuseEdgeGroupItem.setTargetId(group.getKey().f1);
+      reuseEdgeGroupItem.setGroupLabel(group.getKey().f2);
+      reuseEdgeGroupItem.setGroupingValues(group.getKey().f3);
+      reuseEdgeGroupItem.setAggregateValues(getAggregateValues(group.getValue()));
+      out.collect(reuseEdgeGroupItem);
+    }
+    groups.clear();
+  }
+}
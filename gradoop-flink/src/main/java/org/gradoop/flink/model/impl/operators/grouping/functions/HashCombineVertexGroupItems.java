@@ -0,0 +1,155 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-aggregates the vertex group items of a partition in a hash table which
+ * is keyed by the group label and the serialized grouping values. In contrast
+ * to {@link CombineVertexGroupItems}, the input does not need to be sorted.
+ *
+ * Each group element is forwarded immediately with the partial super vertex
+ * id of its group. The partial aggregates are kept in the table and emitted
+ * as super vertex tuples at the end of the partition. If the table reaches
+ * its maximum size, all partial super vertex tuples are emitted and the
+ * table is cleared, i.e. a group may be represented by multiple partial super
+ * vertex tuples per partition which need to be merged afterwards.
+ *
+ * vertexGroupItem,.. => vertexGroupItem,.., partialSuperVertexTuple,..
+ */
+public class HashCombineVertexGroupItems
+  extends BuildBase
+  implements MapPartitionFunction<VertexGroupItem, VertexGroupItem> {
+
+  /**
+   * Maximum number of groups which are aggregated at the same time.
+   */
+  private final int maxGroupCount;
+  /**
+   * Reduce object instantiations when looking up a group.
+   */
+  private final Tuple2<String, PropertyValueList> reuseKey;
+  /**
+   * Reduce object instantiations.
+   */
+  private final VertexGroupItem reuseSuperVertexTuple;
+
+  /**
+   * Creates map partition function.
+   *
+   * @param useLabel          true, iff labels are used for grouping
+   * @param vertexAggregators aggregate functions for super vertices
+   * @param maxGroupCount     maximum number of groups held in memory
+   */
+  public HashCombineVertexGroupItems(boolean useLabel,
+    List<PropertyValueAggregator> vertexAggregators, int maxGroupCount) {
+    super(null, useLabel, vertexAggregators);
+    this.maxGroupCount = maxGroupCount;
+    this.reuseKey = new Tuple2<>();
+    this.reuseSuperVertexTuple = new VertexGroupItem();
+    this.reuseSuperVertexTuple.setSuperVertex(true);
+  }
+
+  @Override
+  public void mapPartition(Iterable<VertexGroupItem> vertexGroupItems,
+    Collector<VertexGroupItem> out) throws Exception {
+
+    Map<Tuple2<String, PropertyValueList>, PartialGroup> groups = new HashMap<>();
+
+    for (VertexGroupItem groupItem : vertexGroupItems) {
+      reuseKey.f0 = groupItem.getGroupLabel();
+      reuseKey.f1 = groupItem.getGroupingValues();
+
+      PartialGroup group = groups.get(reuseKey);
+      if (group == null) {
+        if (groups.size() >= maxGroupCount) {
+          emitGroups(groups, out);
+        }
+        group = new PartialGroup(GradoopId.get(), createAggregators());
+        groups.put(new Tuple2<>(reuseKey.f0, reuseKey.f1), group);
+      }
+
+      if (doAggregate()) {
+        aggregate(group.aggregators, groupItem.getAggregateValues());
+      }
+
+      groupItem.setSuperVertexId(group.superVertexId);
+      out.collect(groupItem);
+    }
+
+    emitGroups(groups, out);
+  }
+
+  /**
+   * Emits a partial super vertex tuple for each group and clears the table.
+   *
+   * @param groups  partial groups
+   * @param out     output collector
+   * @throws IOException if the aggregate values cannot be serialized
+   */
+  private void emitGroups(Map<Tuple2<String, PropertyValueList>, PartialGroup> groups,
+    Collector<VertexGroupItem> out) throws IOException {
+    for (Map.Entry<Tuple2<String, PropertyValueList>, PartialGroup> group :
+      groups.entrySet()) {
+      reuseSuperVertexTuple.setVertexId(group.getValue().superVertexId);
+      reuseSuperVertexTuple.setSuperVertexId(group.getValue().superVertexId);
+      reuseSuperVertexTuple.setGroupLabel(group.getKey().f0);
+      reuseSuperVertexTuple.setGroupingValues(group.getKey().f1);
+      reuseSuperVertexTuple.setAggregateValues(
+        getAggregateValues(group.getValue().aggregators));
+      out.collect(reuseSuperVertexTuple);
+    }
+    groups.clear();
+  }
+
+  /**
+   * Partial super vertex id and aggregate state of a group.
+   */
+  private static class PartialGroup {
+    /**
+     * Partial super vertex id
+     */
+    private final GradoopId superVertexId;
+    /**
+     * Aggregate functions of the group
+     */
+    private final List<PropertyValueAggregator> aggregators;
+
+    /**
+     * Creates a new partial group.
+     *
+     * @param superVertexId partial super vertex id
+     * @param aggregators   aggregate functions of the group
+     */
+    PartialGroup(GradoopId superVertexId, List<PropertyValueAggregator> aggregators) {
+      this.superVertexId = superVertexId;
+      this.aggregators = aggregators;
+    }
+  }
+}
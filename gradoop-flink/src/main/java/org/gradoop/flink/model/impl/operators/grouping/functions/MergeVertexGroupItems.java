@@ -0,0 +1,105 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Merges the partial super vertex tuples of a group, which have been created by multiple tasks
+ * for a salted group. The smallest partial super vertex id becomes the final id of the group,
+ * which makes the result independent of the order of the partial tuples and keeps the id of
+ * groups which have been reduced by a single task.
+ *
+ * superVertexTuple,.. => (superVertexTuple, (finalSuperVertexId, {mergedSuperVertexIds}))
+ */
+@FunctionAnnotation.ForwardedFields(
+    "f2->f0.f2;" +  // label
+    "f3->f0.f3"     // properties
+)
+public class MergeVertexGroupItems
+  extends ReduceVertexGroupItemBase
+  implements GroupReduceFunction<VertexGroupItem, Tuple2<VertexGroupItem, IdWithIdSet>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<VertexGroupItem, IdWithIdSet> reuseOuterTuple;
+  /**
+   * Reduce object instantiations.
+   */
+  private final IdWithIdSet reuseInnerTuple;
+
+  /**
+   * Creates group reduce function.
+   *
+   * @param useLabel          true, iff labels are used for grouping
+   * @param vertexAggregators aggregate functions for super vertices
+   */
+  public MergeVertexGroupItems(boolean useLabel,
+    List<PropertyValueAggregator> vertexAggregators) {
+    super(null, useLabel, vertexAggregators);
+    this.reuseOuterTuple = new Tuple2<>();
+    this.reuseInnerTuple = new IdWithIdSet();
+  }
+
+  @Override
+  public void reduce(Iterable<VertexGroupItem> superVertexTuples,
+    Collector<Tuple2<VertexGroupItem, IdWithIdSet>> out) throws Exception {
+
+    String groupLabel                     = null;
+    PropertyValueList groupPropertyValues = null;
+    TreeSet<GradoopId> superVertexIds     = new TreeSet<>();
+
+    for (VertexGroupItem groupItem : superVertexTuples) {
+      if (superVertexIds.isEmpty()) {
+        groupLabel          = groupItem.getGroupLabel();
+        groupPropertyValues = groupItem.getGroupingValues();
+      }
+      superVertexIds.add(groupItem.getSuperVertexId().copy());
+
+      if (doAggregate()) {
+        aggregate(groupItem.getAggregateValues());
+      }
+    }
+
+    // the smallest id represents the group, all others are mapped to it
+    GradoopId superVertexId = superVertexIds.pollFirst();
+
+    reuseInnerTuple.setId(superVertexId);
+    reuseInnerTuple.setIdSet(GradoopIdSet.fromExisting(superVertexIds));
+    reuseOuterTuple.f0 = createSuperVertexTuple(superVertexId, groupLabel,
+      groupPropertyValues);
+    reuseOuterTuple.f0.setSuperVertexId(superVertexId);
+    reuseOuterTuple.f1 = reuseInnerTuple;
+
+    out.collect(reuseOuterTuple);
+
+    resetAggregators();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+
+import java.util.List;
+
+/**
+ * Merges the super vertex tuple of a group of new vertices with the tuple of an existing super
+ * vertex of the same group, if there is one. The existing super vertex id is kept, so that
+ * previously grouped vertices and super edges do not need to be updated.
+ *
+ * (newSuperVertexTuple, existingSuperVertexTuple) =>
+ *   (superVertexTuple, (existingSuperVertexId, {newSuperVertexId}))
+ * (newSuperVertexTuple, null) =>
+ *   (superVertexTuple, (newSuperVertexId, {}))
+ */
+@FunctionAnnotation.ForwardedFieldsFirst(
+    "f2->f0.f2;" +  // label
+    "f3->f0.f3"     // properties
+)
+public class MergeWithSuperVertexGroupItem
+  extends ReduceVertexGroupItemBase
+  implements JoinFunction<VertexGroupItem, VertexGroupItem, Tuple2<VertexGroupItem, IdWithIdSet>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<VertexGroupItem, IdWithIdSet> reuseOuterTuple;
+  /**
+   * Reduce object instantiations.
+   */
+  private final IdWithIdSet reuseInnerTuple;
+
+  /**
+   * Creates join function.
+   *
+   * @param useLabel          true, iff labels are used for grouping
+   * @param vertexAggregators aggregate functions for super vertices
+   */
+  public MergeWithSuperVertexGroupItem(boolean useLabel,
+    List<PropertyValueAggregator> vertexAggregators) {
+    super(null, useLabel, vertexAggregators);
+    this.reuseOuterTuple = new Tuple2<>();
+    this.reuseInnerTuple = new IdWithIdSet();
+  }
+
+  @Override
+  public Tuple2<VertexGroupItem, IdWithIdSet> join(VertexGroupItem newSuperVertexTuple,
+    VertexGroupItem existingSuperVertexTuple) throws Exception {
+
+    GradoopId superVertexId;
+    if (existingSuperVertexTuple == null) {
+      superVertexId = newSuperVertexTuple.getSuperVertexId();
+      reuseInnerTuple.setIdSet(new GradoopIdSet());
+    } else {
+      superVertexId = existingSuperVertexTuple.getVertexId();
+      reuseInnerTuple.setIdSet(
+        GradoopIdSet.fromExisting(newSuperVertexTuple.getSuperVertexId()));
+    }
+    reuseInnerTuple.setId(superVertexId);
+
+    if (doAggregate()) {
+      aggregate(newSuperVertexTuple.getAggregateValues());
+      if (existingSuperVertexTuple != null) {
+        aggregate(existingSuperVertexTuple.getAggregateValues());
+      }
+    }
+
+    reuseOuterTuple.f0 = createSuperVertexTuple(superVertexId,
+      newSuperVertexTuple.getGroupLabel(), newSuperVertexTuple.getGroupingValues());
+    reuseOuterTuple.f0.setSuperVertexId(superVertexId);
+    reuseOuterTuple.f1 = reuseInnerTuple;
+
+    resetAggregators();
+
+    return reuseOuterTuple;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Assigns a salt to each vertex of a hot group, so that the group can be reduced by multiple
+ * tasks. The salt is derived from the vertex id and stored as super vertex id, which is not
+ * assigned yet. Vertices of other groups keep {@link GradoopId#NULL_VALUE}.
+ */
+@FunctionAnnotation.ForwardedFields("f0;f2;f3;f4;f5")
+public class SaltVertexGroupItems extends RichMapFunction<VertexGroupItem, VertexGroupItem> {
+  /**
+   * Broadcast variable name of the hot groups
+   */
+  public static final String BC_HOT_GROUPS = "hotGroups";
+  /**
+   * Number of salts a hot group is distributed to
+   */
+  private final int saltCount;
+  /**
+   * One placeholder id per salt
+   */
+  private final GradoopId[] salts;
+  /**
+   * Label and grouping values of the hot groups
+   */
+  private Set<Tuple2<String, PropertyValueList>> hotGroups;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<String, PropertyValueList> reuseKey;
+
+  /**
+   * Constructor.
+   *
+   * @param saltCount number of salts a hot group is distributed to
+   */
+  public SaltVertexGroupItems(int saltCount) {
+    this.saltCount = saltCount;
+    this.salts = new GradoopId[saltCount];
+    for (int i = 0; i < saltCount; i++) {
+      salts[i] = createSalt(i);
+    }
+    this.reuseKey = new Tuple2<>();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<Tuple3<String, PropertyValueList, Long>> groupCounts =
+      getRuntimeContext().getBroadcastVariable(BC_HOT_GROUPS);
+    hotGroups = Sets.newHashSetWithExpectedSize(groupCounts.size());
+    for (Tuple3<String, PropertyValueList, Long> groupCount : groupCounts) {
+      hotGroups.add(Tuple2.of(groupCount.f0, groupCount.f1));
+    }
+  }
+
+  @Override
+  public VertexGroupItem map(VertexGroupItem groupItem) throws Exception {
+    if (!hotGroups.isEmpty()) {
+      reuseKey.f0 = groupItem.getGroupLabel();
+      reuseKey.f1 = groupItem.getGroupingValues();
+      if (hotGroups.contains(reuseKey)) {
+        int salt = (groupItem.getVertexId().hashCode() & Integer.MAX_VALUE) % saltCount;
+        groupItem.setSuperVertexId(salts[salt]);
+      }
+    }
+    return groupItem;
+  }
+
+  /**
+   * Creates the placeholder id of the given salt. All ids differ from
+   * {@link GradoopId#NULL_VALUE}.
+   *
+   * @param salt salt
+   * @return placeholder id
+   */
+  private static GradoopId createSalt(int salt) {
+    byte[] bytes = new byte[GradoopId.ID_SIZE];
+    int value = salt + 1;
+    for (int i = GradoopId.ID_SIZE - 1; i >= GradoopId.ID_SIZE - 4; i--) {
+      bytes[i] = (byte) value;
+      value >>>= 8;
+    }
+    return GradoopId.fromByteArray(bytes);
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+
+import java.util.List;
+
+/**
+ * Selects the groups which are too large to be reduced by a single task, i.e. groups which
+ * contain at least {@code 1 / saltCount} of all (sampled) vertices.
+ *
+ * (groupLabel, groupingValues, count),.. => (groupLabel, groupingValues, count),..
+ */
+public class SelectHotVertexGroups implements GroupReduceFunction
+  <Tuple3<String, PropertyValueList, Long>, Tuple3<String, PropertyValueList, Long>> {
+
+  /**
+   * Number of tasks a hot group is distributed to
+   */
+  private final int saltCount;
+
+  /**
+   * Constructor.
+   *
+   * @param saltCount number of tasks a hot group is distributed to
+   */
+  public SelectHotVertexGroups(int saltCount) {
+    this.saltCount = saltCount;
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple3<String, PropertyValueList, Long>> groupCounts,
+    Collector<Tuple3<String, PropertyValueList, Long>> out) throws Exception {
+
+    List<Tuple3<String, PropertyValueList, Long>> candidates = Lists.newArrayList();
+    long total = 0L;
+
+    for (Tuple3<String, PropertyValueList, Long> groupCount : groupCounts) {
+      total += groupCount.f2;
+      candidates.add(groupCount.copy());
+    }
+
+    for (Tuple3<String, PropertyValueList, Long> candidate : candidates) {
+      if (saltCount > 1 && candidate.f2 * saltCount >= total) {
+        out.collect(candidate);
+      }
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the vertex grouping keys of a summary graph as list property at its
+ * graph head.
+ */
+@FunctionAnnotation.ForwardedFields("id;label")
+public class SetVertexGroupingKeys implements MapFunction<GraphHead, GraphHead> {
+
+  /**
+   * Property key used to store the grouping keys.
+   */
+  private final String propertyKey;
+  /**
+   * Vertex grouping keys of the summary graph.
+   */
+  private final List<String> vertexGroupingKeys;
+
+  /**
+   * Creates map function.
+   *
+   * @param propertyKey         property key used to store the grouping keys
+   * @param vertexGroupingKeys  vertex grouping keys of the summary graph
+   */
+  public SetVertexGroupingKeys(String propertyKey, List<String> vertexGroupingKeys) {
+    this.propertyKey = propertyKey;
+    this.vertexGroupingKeys = new ArrayList<>(vertexGroupingKeys);
+  }
+
+  @Override
+  public GraphHead map(GraphHead graphHead) throws Exception {
+    List<PropertyValue> keys = new ArrayList<>(vertexGroupingKeys.size());
+    for (String key : vertexGroupingKeys) {
+      keys.add(PropertyValue.create(key));
+    }
+    graphHead.setProperty(propertyKey, PropertyValue.create(keys));
+    return graphHead;
+  }
+}
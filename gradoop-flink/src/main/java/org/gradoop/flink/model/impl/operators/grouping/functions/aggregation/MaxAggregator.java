@@ -66,6 +66,11 @@ public class MaxAggregator extends PropertyValueAggregator {
     aggregate = value;
   }
 
+  @Override
+  public PropertyValueAggregator getRollUpAggregator() {
+    return new MaxAggregator(getAggregatePropertyKey(), getAggregatePropertyKey());
+  }
+
   @Override
   public void resetAggregate() {
     aggregate = null;
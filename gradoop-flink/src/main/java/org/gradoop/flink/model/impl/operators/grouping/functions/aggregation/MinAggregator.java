@@ -65,6 +65,11 @@ public class MinAggregator extends PropertyValueAggregator {
     aggregate = value;
   }
 
+  @Override
+  public PropertyValueAggregator getRollUpAggregator() {
+    return new MinAggregator(getAggregatePropertyKey(), getAggregatePropertyKey());
+  }
+
   @Override
   public void resetAggregate() {
     aggregate = null;
@@ -47,6 +47,20 @@ public abstract class PropertyValueAggregator extends BaseAggregator<PropertyVal
       aggregateInternal(value);
     }
   }
+
+  /**
+   * Returns an aggregator which combines final aggregate values of this
+   * aggregator, e.g. to derive coarser groups from the super elements of a
+   * finer grouping. The returned aggregator reads and writes the aggregate
+   * property key of this aggregator.
+   *
+   * @return aggregator for already aggregated values
+   * @throws UnsupportedOperationException if aggregates cannot be combined
+   */
+  public PropertyValueAggregator getRollUpAggregator() {
+    throw new UnsupportedOperationException(
+      getClass().getSimpleName() + " does not support roll-up aggregation");
+  }
 }
 
 
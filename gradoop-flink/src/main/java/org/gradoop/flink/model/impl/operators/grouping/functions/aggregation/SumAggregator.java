@@ -92,6 +92,11 @@ public class SumAggregator extends PropertyValueAggregator {
     return PropertyValue.create(aggregate);
   }
 
+  @Override
+  public PropertyValueAggregator getRollUpAggregator() {
+    return new SumAggregator(getAggregatePropertyKey(), getAggregatePropertyKey());
+  }
+
   @Override
   public void resetAggregate() {
     aggregate = null;
@@ -20,6 +20,7 @@ package org.gradoop.flink.model.impl.operators.matching.common.query;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import org.s1ck.gdl.model.Edge;
 import org.s1ck.gdl.model.Vertex;
 
 import java.util.ArrayList;
@@ -156,4 +157,54 @@ public class GraphMetrics {
 
     return mapping;
   }
+
+  /**
+   * Computes the edges which are part of a cycle in the given graph. Edge directions are
+   * ignored, thus two edges connecting the same vertices form a cycle. Loops and variable length
+   * edges are not considered.
+   *
+   * @param graph input graph
+   * @return variables of the edges contained in a cycle, empty if the graph is acyclic
+   */
+  public static Set<String> getCyclicEdges(QueryHandler graph) {
+    List<Edge> edges = graph.getEdges().stream()
+      .filter(edge -> !edge.hasVariableLength())
+      .filter(edge -> !edge.getSourceVertexId().equals(edge.getTargetVertexId()))
+      .collect(Collectors.toList());
+
+    // an edge is part of a cycle iff its vertices are still connected without it
+    return edges.stream()
+      .filter(edge -> isConnected(edge.getSourceVertexId(), edge.getTargetVertexId(),
+        edges.stream().filter(other -> other != edge).collect(Collectors.toList())))
+      .map(Edge::getVariable)
+      .collect(Collectors.toSet());
+  }
+
+  /**
+   * Checks if the given vertices are connected by the given edges, ignoring edge directions.
+   *
+   * @param source first vertex id
+   * @param target second vertex id
+   * @param edges edges
+   * @return true, if there is a path between both vertices
+   */
+  private static boolean isConnected(Long source, Long target, List<Edge> edges) {
+    Set<Long> visited = Sets.newHashSet(source);
+    Queue<Long> queue = new LinkedList<>();
+    queue.add(source);
+    while (!queue.isEmpty()) {
+      Long current = queue.poll();
+      if (current.equals(target)) {
+        return true;
+      }
+      for (Edge edge : edges) {
+        Long next = edge.getSourceVertexId().equals(current) ? edge.getTargetVertexId() :
+          edge.getTargetVertexId().equals(current) ? edge.getSourceVertexId() : null;
+        if (next != null && visited.add(next)) {
+          queue.add(next);
+        }
+      }
+    }
+    return false;
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.common.query;
+
+/**
+ * Semantics of a variable length edge in a query. Apart from {@link #ALL}, the semantics are
+ * expressed by wrapping the path pattern into a function, e.g.
+ *
+ * <pre>
+ * MATCH shortestPath((a)-[e:knows*1..5]->(b))
+ * MATCH reachable((a)-[e:knows*]->(b))
+ * </pre>
+ */
+public enum PathSemantics {
+  /**
+   * Every path within the bounds is a match
+   */
+  ALL(null),
+  /**
+   * One shortest path between each pair of endpoints is a match, if its length is within the
+   * bounds
+   */
+  SHORTEST("shortestPath"),
+  /**
+   * Each pair of endpoints connected within the bounds is a match, the path itself is not
+   * materialized
+   */
+  EXISTS("reachable");
+
+  /**
+   * Name of the function expressing the semantics in a query
+   */
+  private final String functionName;
+
+  /**
+   * Creates a new semantics.
+   *
+   * @param functionName name of the function expressing the semantics in a query
+   */
+  PathSemantics(String functionName) {
+    this.functionName = functionName;
+  }
+
+  /**
+   * Returns the name of the function expressing the semantics in a query.
+   *
+   * @return function name or {@code null} for {@link #ALL}
+   */
+  public String getFunctionName() {
+    return functionName;
+  }
+}
@@ -27,12 +27,16 @@ import org.s1ck.gdl.model.Edge;
 import org.s1ck.gdl.model.GraphElement;
 import org.s1ck.gdl.model.Vertex;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -40,10 +44,34 @@ import java.util.stream.Collectors;
  * processing during graph pattern matching.
  */
 public class QueryHandler {
+  /**
+   * Matches a path pattern wrapped into a semantics function, e.g.
+   * {@code shortestPath((a)-[e*1..3]->(b))}. Group 1 contains the function name, group 2 the
+   * path pattern and group 3 the edge definition.
+   */
+  private static final Pattern PATH_FUNCTION = Pattern.compile(
+    "\\b(\\w+)\\s*\\(\\s*(\\([^()]*\\)\\s*<?-\\s*\\[([^\\]]*)\\]\\s*->?\\s*\\([^()]*\\))\\s*\\)");
+  /**
+   * Matches the variable at the beginning of an edge definition
+   */
+  private static final Pattern EDGE_VARIABLE = Pattern.compile("^\\s*([A-Za-z_]\\w*)");
+  /**
+   * Matches the RETURN keyword, which may also occur inside string literals
+   */
+  private static final Pattern RETURN_KEYWORD =
+    Pattern.compile("\\s+RETURN\\s+", Pattern.CASE_INSENSITIVE);
   /**
    * GDL handler
    */
   private final GDLHandler gdlHandler;
+  /**
+   * Edge variable -> semantics, if different from {@link PathSemantics#ALL}
+   */
+  private final Map<String, PathSemantics> pathSemantics;
+  /**
+   * Items of the RETURN clause, empty if the query has none
+   */
+  private final List<ReturnItem> returnItems;
   /**
    * Graph diameter
    */
@@ -56,6 +84,10 @@ public class QueryHandler {
    * Graph components
    */
   private Map<Integer, Set<String>> components;
+  /**
+   * Variables of the edges contained in a cycle
+   */
+  private Set<String> cyclicEdges;
   /**
    * Cache: vId --> Vertex with Id == vId
    */
@@ -87,11 +119,61 @@ public class QueryHandler {
    * @param gdlString GDL query string
    */
   public QueryHandler(String gdlString) {
+    pathSemantics = new HashMap<>();
+    returnItems = new ArrayList<>();
     gdlHandler = new GDLHandler.Builder()
       .setDefaultGraphLabel(GConstants.DEFAULT_GRAPH_LABEL)
       .setDefaultVertexLabel(GConstants.DEFAULT_VERTEX_LABEL)
       .setDefaultEdgeLabel(GConstants.DEFAULT_EDGE_LABEL)
-      .buildFromString(gdlString);
+      .buildFromString(extractPathSemantics(extractReturnItems(gdlString)));
+
+    for (ReturnItem item : returnItems) {
+      if (item.getVariable() != null &&
+        !(isVertex(item.getVariable()) || isEdge(item.getVariable()))) {
+        throw new IllegalArgumentException("Unknown variable in RETURN clause: " + item);
+      }
+    }
+  }
+
+  /**
+   * Returns the items of the RETURN clause.
+   *
+   * @return return items, empty if the query has no RETURN clause
+   */
+  public List<ReturnItem> getReturnItems() {
+    return Collections.unmodifiableList(returnItems);
+  }
+
+  /**
+   * Returns true, if the RETURN clause contains at least one aggregate function.
+   *
+   * @return true, if the query aggregates its matches
+   */
+  public boolean hasAggregation() {
+    return returnItems.stream().anyMatch(ReturnItem::isAggregate);
+  }
+
+  /**
+   * Returns the property keys of the given variable which are referenced in the RETURN clause.
+   *
+   * @param variable query variable
+   * @return referenced property keys
+   */
+  public Set<String> getReturnPropertyKeys(String variable) {
+    return returnItems.stream()
+      .filter(item -> item.isProperty() && item.getVariable().equals(variable))
+      .map(ReturnItem::getPropertyKey)
+      .collect(Collectors.toSet());
+  }
+
+  /**
+   * Returns the semantics of the given variable length edge.
+   *
+   * @param edgeVariable edge variable
+   * @return path semantics
+   */
+  public PathSemantics getPathSemantics(String edgeVariable) {
+    return pathSemantics.getOrDefault(edgeVariable, PathSemantics.ALL);
   }
 
   /**
@@ -200,6 +282,19 @@ public class QueryHandler {
     return components;
   }
 
+  /**
+   * Returns the variables of all edges which are part of a cycle in the query graph. Edge
+   * directions are ignored, loops and variable length edges are not considered.
+   *
+   * @return variables of cyclic edges, empty if the query graph is acyclic
+   */
+  public Set<String> getCyclicEdges() {
+    if (cyclicEdges == null) {
+      cyclicEdges = GraphMetrics.getCyclicEdges(this);
+    }
+    return cyclicEdges;
+  }
+
   /**
    * Checks if the given variable points to a vertex.
    *
@@ -560,4 +655,86 @@ public class QueryHandler {
           Collectors.mapping(valueSelector, Collectors.toSet())
       ));
   }
+
+  /**
+   * Removes the RETURN clause from the given query and stores its items. Since GDL does not
+   * know RETURN clauses, this has to be done before the query is parsed. The clause starts at
+   * the first RETURN keyword outside of a string literal.
+   *
+   * @param gdlString GDL query string
+   * @return query string without RETURN clause
+   */
+  private String extractReturnItems(String gdlString) {
+    Matcher matcher = RETURN_KEYWORD.matcher(gdlString);
+    while (matcher.find()) {
+      if (isQuoted(gdlString, matcher.start())) {
+        continue;
+      }
+      for (String item : gdlString.substring(matcher.end()).split(",")) {
+        returnItems.add(ReturnItem.parse(item));
+      }
+      return gdlString.substring(0, matcher.start());
+    }
+    return gdlString;
+  }
+
+  /**
+   * Checks if the given position of the query string lies inside a single or double quoted
+   * string literal.
+   *
+   * @param gdlString GDL query string
+   * @param position position in the query string
+   * @return true, if the position is inside a string literal
+   */
+  private static boolean isQuoted(String gdlString, int position) {
+    char quote = 0;
+    for (int i = 0; i < position; i++) {
+      char c = gdlString.charAt(i);
+      if (quote != 0 && c == '\\') {
+        i++;
+      } else if (quote == 0 && (c == '"' || c == '\'')) {
+        quote = c;
+      } else if (c == quote) {
+        quote = 0;
+      }
+    }
+    return quote != 0;
+  }
+
+  /**
+   * Removes the semantics functions wrapping path patterns from the given query and stores the
+   * semantics of the wrapped edges. Since GDL does not know these functions, this has to be
+   * done before the query is parsed.
+   *
+   * @param gdlString GDL query string
+   * @return query string without semantics functions
+   */
+  private String extractPathSemantics(String gdlString) {
+    Map<String, PathSemantics> functions = new HashMap<>();
+    for (PathSemantics semantics : PathSemantics.values()) {
+      if (semantics.getFunctionName() != null) {
+        functions.put(semantics.getFunctionName(), semantics);
+      }
+    }
+
+    Matcher matcher = PATH_FUNCTION.matcher(gdlString);
+    StringBuffer query = new StringBuffer();
+    while (matcher.find()) {
+      PathSemantics semantics = functions.get(matcher.group(1));
+      if (semantics == null) {
+        matcher.appendReplacement(query, Matcher.quoteReplacement(matcher.group()));
+        continue;
+      }
+      String edge = matcher.group(3);
+      Matcher variable = EDGE_VARIABLE.matcher(edge);
+      if (!variable.find() || !edge.contains("*")) {
+        throw new IllegalArgumentException(String.format(
+          "%s requires a named variable length edge, got [%s]", matcher.group(1), edge));
+      }
+      pathSemantics.put(variable.group(1), semantics);
+      matcher.appendReplacement(query, Matcher.quoteReplacement(matcher.group(2)));
+    }
+    matcher.appendTail(query);
+    return query.toString();
+  }
 }
@@ -0,0 +1,209 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.query;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A single item of the RETURN clause of a query. Supported items are grouping items and the
+ * aggregate functions {@code count} and {@code sum}, e.g.
+ *
+ * <pre>
+ * MATCH (a:Person)-[:knows]->(b:Person) RETURN a.city, count(*), sum(b.age)
+ * </pre>
+ */
+public class ReturnItem implements Serializable {
+  /**
+   * Matches a variable or a property of a variable, optionally wrapped in an aggregate function
+   */
+  private static final Pattern ITEM = Pattern.compile(
+    "^(?:(\\w+)\\s*\\(\\s*(\\*|[A-Za-z_]\\w*(?:\\.\\w+)?)\\s*\\)|([A-Za-z_]\\w*(?:\\.\\w+)?))$");
+
+  /**
+   * Aggregate functions supported in the RETURN clause.
+   */
+  public enum Aggregate {
+    /**
+     * Number of embeddings, or the number of non-null property values
+     */
+    COUNT,
+    /**
+     * Sum of numeric property values
+     */
+    SUM
+  }
+
+  /**
+   * Query variable or {@code null} for {@code count(*)}
+   */
+  private final String variable;
+  /**
+   * Property key or {@code null} if the item refers to the variable itself
+   */
+  private final String propertyKey;
+  /**
+   * Aggregate function or {@code null} for grouping items
+   */
+  private final Aggregate aggregate;
+
+  /**
+   * Creates a new return item.
+   *
+   * @param variable query variable or {@code null} for {@code count(*)}
+   * @param propertyKey property key or {@code null} if the item refers to the variable itself
+   * @param aggregate aggregate function or {@code null} for grouping items
+   */
+  public ReturnItem(String variable, String propertyKey, Aggregate aggregate) {
+    this.variable = variable;
+    this.propertyKey = propertyKey;
+    this.aggregate = aggregate;
+  }
+
+  /**
+   * Parses a single item of a RETURN clause.
+   *
+   * @param item item, e.g. {@code a}, {@code a.city}, {@code count(*)} or {@code sum(b.age)}
+   * @return return item
+   */
+  public static ReturnItem parse(String item) {
+    Matcher matcher = ITEM.matcher(item.trim());
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException("Unsupported RETURN item: " + item);
+    }
+    if (matcher.group(3) != null) {
+      return create(matcher.group(3), null);
+    }
+
+    Aggregate aggregate;
+    try {
+      aggregate = Aggregate.valueOf(matcher.group(1).toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unsupported aggregate function: " + item, e);
+    }
+    String argument = matcher.group(2);
+    if (argument.equals("*")) {
+      if (aggregate != Aggregate.COUNT) {
+        throw new IllegalArgumentException("Only count supports *: " + item);
+      }
+      return new ReturnItem(null, null, aggregate);
+    }
+    ReturnItem returnItem = create(argument, aggregate);
+    if (aggregate == Aggregate.SUM && !returnItem.isProperty()) {
+      throw new IllegalArgumentException("sum requires a property: " + item);
+    }
+    return returnItem;
+  }
+
+  /**
+   * Creates a return item from a variable or property reference.
+   *
+   * @param reference variable or property reference, e.g. {@code a} or {@code a.city}
+   * @param aggregate aggregate function or {@code null}
+   * @return return item
+   */
+  private static ReturnItem create(String reference, Aggregate aggregate) {
+    int separator = reference.indexOf('.');
+    return separator < 0 ?
+      new ReturnItem(reference, null, aggregate) :
+      new ReturnItem(reference.substring(0, separator), reference.substring(separator + 1),
+        aggregate);
+  }
+
+  /**
+   * Returns the query variable.
+   *
+   * @return query variable or {@code null} for {@code count(*)}
+   */
+  public String getVariable() {
+    return variable;
+  }
+
+  /**
+   * Returns the property key.
+   *
+   * @return property key or {@code null} if the item refers to the variable itself
+   */
+  public String getPropertyKey() {
+    return propertyKey;
+  }
+
+  /**
+   * Returns the aggregate function.
+   *
+   * @return aggregate function or {@code null} for grouping items
+   */
+  public Aggregate getAggregate() {
+    return aggregate;
+  }
+
+  /**
+   * Returns true, if the item is an aggregate function.
+   *
+   * @return true, if aggregate
+   */
+  public boolean isAggregate() {
+    return aggregate != null;
+  }
+
+  /**
+   * Returns true, if the item refers to a property.
+   *
+   * @return true, if property reference
+   */
+  public boolean isProperty() {
+    return propertyKey != null;
+  }
+
+  /**
+   * Returns the name of the item as written in the query, e.g. {@code sum(b.age)}.
+   *
+   * @return name of the item
+   */
+  public String getName() {
+    String reference = variable == null ? "*" :
+      propertyKey == null ? variable : variable + "." + propertyKey;
+    return aggregate == null ? reference :
+      aggregate.name().toLowerCase() + "(" + reference + ")";
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ReturnItem that = (ReturnItem) o;
+    return Objects.equals(variable, that.variable) &&
+      Objects.equals(propertyKey, that.propertyKey) &&
+      aggregate == that.aggregate;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(variable, propertyKey, aggregate);
+  }
+
+  @Override
+  public String toString() {
+    return getName();
+  }
+}
@@ -36,6 +36,11 @@ public class LiteralComparable extends QueryComparable {
    */
   private final Literal literal;
 
+  /**
+   * Property value wrapping the literal value, created on first evaluation
+   */
+  private transient PropertyValue value;
+
   /**
    * Creates a new wrapper
    *
@@ -63,12 +68,25 @@ public class LiteralComparable extends QueryComparable {
    */
   @Override
   public PropertyValue evaluate(Embedding embedding, EmbeddingMetaData metaData) {
-    return PropertyValue.create(literal.getValue());
+    return getPropertyValue();
   }
 
   @Override
   public PropertyValue evaluate(GraphElement element) {
-    return PropertyValue.create(literal.getValue());
+    return getPropertyValue();
+  }
+
+  /**
+   * Returns the property value wrapping the literal value. The value is
+   * created once and shared by all evaluations, so it must not be modified.
+   *
+   * @return property value of literal value
+   */
+  private PropertyValue getPropertyValue() {
+    if (value == null) {
+      value = PropertyValue.create(literal.getValue());
+    }
+    return value;
   }
 
   @Override
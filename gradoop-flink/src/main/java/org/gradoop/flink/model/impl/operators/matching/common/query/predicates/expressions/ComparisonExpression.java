@@ -39,12 +39,24 @@ public class ComparisonExpression extends QueryPredicate {
    */
   private final Comparison comparison;
 
+  /**
+   * Wrapped left hand side of the comparison
+   */
+  private final QueryComparable lhs;
+
+  /**
+   * Wrapped right hand side of the comparison
+   */
+  private final QueryComparable rhs;
+
   /**
    * Creates a new comparison wrapped
    * @param comparison the wrapped comparison
    */
   public ComparisonExpression(Comparison comparison) {
     this.comparison = comparison;
+    this.lhs = QueryComparable.createFrom(comparison.getComparableExpressions()[0]);
+    this.rhs = QueryComparable.createFrom(comparison.getComparableExpressions()[1]);
   }
 
   /**
@@ -52,7 +64,7 @@ public class ComparisonExpression extends QueryPredicate {
    * @return wrapped left hand side
    */
   public QueryComparable getLhs() {
-    return QueryComparable.createFrom(comparison.getComparableExpressions()[0]);
+    return lhs;
   }
 
   /**
@@ -60,7 +72,7 @@ public class ComparisonExpression extends QueryPredicate {
    * @return wrapped left hand side
    */
   public QueryComparable getRhs() {
-    return QueryComparable.createFrom(comparison.getComparableExpressions()[1]);
+    return rhs;
   }
 
   public Comparator getComparator() {
@@ -75,8 +87,8 @@ public class ComparisonExpression extends QueryPredicate {
    * @return evaluation result
    */
   public boolean evaluate(Embedding embedding, EmbeddingMetaData metaData) {
-    PropertyValue lhsValue = getLhs().evaluate(embedding, metaData);
-    PropertyValue rhsValue = getRhs().evaluate(embedding, metaData);
+    PropertyValue lhsValue = lhs.evaluate(embedding, metaData);
+    PropertyValue rhsValue = rhs.evaluate(embedding, metaData);
 
     return compare(lhsValue, rhsValue);
   }
@@ -88,8 +100,8 @@ public class ComparisonExpression extends QueryPredicate {
    * @return evaluation result
    */
   public boolean evaluate(GraphElement element) {
-    PropertyValue lhsValue = getLhs().evaluate(element);
-    PropertyValue rhsValue = getRhs().evaluate(element);
+    PropertyValue lhsValue = lhs.evaluate(element);
+    PropertyValue rhsValue = rhs.evaluate(element);
 
     return compare(lhsValue, rhsValue);
   }
@@ -105,13 +117,22 @@ public class ComparisonExpression extends QueryPredicate {
     try {
       int result = lhsValue.compareTo(rhsValue);
 
-      return
-        comparison.getComparator() == Comparator.EQ  && result ==  0 ||
-          comparison.getComparator() == Comparator.NEQ && result !=  0 ||
-          comparison.getComparator() == Comparator.LT  && result == -1 ||
-          comparison.getComparator() == Comparator.GT  && result ==  1 ||
-          comparison.getComparator() == Comparator.LTE && result <=  0 ||
-          comparison.getComparator() == Comparator.GTE && result >=  0;
+      switch (comparison.getComparator()) {
+      case EQ:
+        return result == 0;
+      case NEQ:
+        return result != 0;
+      case LT:
+        return result < 0;
+      case GT:
+        return result > 0;
+      case LTE:
+        return result <= 0;
+      case GTE:
+        return result >= 0;
+      default:
+        return false;
+      }
 
     } catch (IllegalArgumentException e) {
       return comparison.getComparator() == Comparator.NEQ;
@@ -25,6 +25,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -35,7 +36,8 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Only the
+   * property histogram files are optional.
    *
    * @param inputPath path to directory containing statistics files
    * @param configuration Hadoop configuration
@@ -62,6 +64,8 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
     Map<String, Map<String, Long>> distinctPropertyValuesByVertexLabelAndPropertyName;
     Map<String, Long> distinctEdgePropertyValuesByPropertyName;
     Map<String, Long> distinctVertexPropertyValuesByPropertyName;
+    Map<String, Map<String, PropertyHistogram>> edgePropertyHistogramsByLabel = new HashMap<>();
+    Map<String, Map<String, PropertyHistogram>> vertexPropertyHistogramsByLabel = new HashMap<>();
 
     Path p = new Path(root, GraphStatisticsReader.FILE_VERTEX_COUNT);
     try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
@@ -137,11 +141,26 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
       distinctVertexPropertyValuesByPropertyName = readKeyValueMap(br.lines());
     }
 
+    p = new Path(root, GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        edgePropertyHistogramsByLabel = readHistogramMap(br.lines());
+      }
+    }
+
+    p = new Path(root, GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        vertexPropertyHistogramsByLabel = readHistogramMap(br.lines());
+      }
+    }
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount, distinctSourceVertexCountByEdgeLabel,
       distinctTargetVertexCountByEdgeLabel, distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
-      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName);
+      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel, vertexPropertyHistogramsByLabel);
   }
 }
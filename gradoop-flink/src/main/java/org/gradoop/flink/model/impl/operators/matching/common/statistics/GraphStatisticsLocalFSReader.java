@@ -22,6 +22,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -32,7 +33,8 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Only the
+   * property histogram files are optional.
    *
    * @param inputPath path to directory containing statistics files
    * @return graph statistics
@@ -99,6 +101,16 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
     Map<String, Long> distinctVertexPropertyValuesByPropertyName =
       readKeyValueMap(Files.lines(p, charset));
 
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL));
+    Map<String, Map<String, PropertyHistogram>> edgePropertyHistogramsByLabel =
+      Files.exists(p) ? readHistogramMap(Files.lines(p, charset)) : new HashMap<>();
+
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL));
+    Map<String, Map<String, PropertyHistogram>> vertexPropertyHistogramsByLabel =
+      Files.exists(p) ? readHistogramMap(Files.lines(p, charset)) : new HashMap<>();
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount,
@@ -106,7 +118,9 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
       distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
       distinctEdgePropertyValuesByPropertyName,
-      distinctVertexPropertyValuesByPropertyName);
+      distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel,
+      vertexPropertyHistogramsByLabel);
   }
 
 }
@@ -168,6 +168,28 @@ public abstract class GraphStatisticsReader {
    */
   public static final String FILE_DISTINCT_VERTEX_PROPERTIES = "distinct_vertex_properties";
 
+  /**
+   * Each line contains the edge label, a property name and the serialized
+   * {@link PropertyHistogram} for that pair. The file is optional, e.g.
+   *
+   * BOF
+   * knows,since,10,3,AgAAB94=:5,AgAAB90=;AgAAB98=
+   * EOF
+   */
+  public static final String FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "edge_property_histograms_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name and the serialized
+   * {@link PropertyHistogram} for that pair. The file is optional, e.g.
+   *
+   * BOF
+   * Person,age,6,4,AgAAACM=:2;AgAAAB4=:2,AgAAABQ=;AgAAACg=
+   * EOF
+   */
+  public static final String FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "vertex_property_histograms_by_label";
+
   /**
    * Reads a single {@link Long} value from the specified file.
    *
@@ -224,4 +246,25 @@ public abstract class GraphStatisticsReader {
 
     return mapping;
   }
+
+  /**
+   * Reads property histograms from the given file grouped by label and property name.
+   *
+   * @param lines stream of lines in the file
+   * @return nested histogram map
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  static Map<String, Map<String, PropertyHistogram>> readHistogramMap(Stream<String> lines)
+      throws IOException {
+
+    final Map<String, Map<String, PropertyHistogram>> mapping = new HashMap<>();
+
+    lines
+      .map(line -> line.split(TOKEN_SEPARATOR, 3))
+      .forEach(tokens -> mapping
+        .computeIfAbsent(tokens[0], label -> new HashMap<>())
+        .put(tokens[1], PropertyHistogram.deserialize(tokens[2])));
+
+    return mapping;
+  }
 }
@@ -0,0 +1,524 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Describes the value distribution of a single property key, e.g. of all {@code age} values of
+ * vertices labeled {@code Person}.
+ *
+ * The distribution consists of a list of the most common values and their frequencies and an
+ * equi-depth histogram over all remaining values. Each histogram bucket contains (roughly) the
+ * same number of values and is described by its lower and upper bound. Bounds are only stored if
+ * the remaining values are of the same comparable type.
+ *
+ * The histogram is used to estimate the number of elements satisfying a comparison between the
+ * property and a literal value.
+ */
+public class PropertyHistogram implements Serializable {
+  /**
+   * Default number of most common values
+   */
+  public static final int DEFAULT_MOST_COMMON_VALUES = 10;
+  /**
+   * Default number of histogram buckets
+   */
+  public static final int DEFAULT_BUCKETS = 20;
+  /**
+   * Fraction of values assumed to satisfy a range predicate if there are no histogram bounds
+   */
+  static final double DEFAULT_RANGE_FRACTION = 1d / 3d;
+  /**
+   * Separates the elements of a value list
+   */
+  private static final String VALUE_SEPARATOR = ";";
+  /**
+   * Separates a most common value from its frequency
+   */
+  private static final String COUNT_SEPARATOR = ":";
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Number of elements having the property
+   */
+  private final long count;
+  /**
+   * Number of distinct property values
+   */
+  private final long distinctCount;
+  /**
+   * Most common values and their frequency, ordered by descending frequency
+   */
+  private final Map<PropertyValue, Long> mostCommonValues;
+  /**
+   * Ordered bounds of the equi-depth histogram over all values that are not most common values
+   */
+  private final List<PropertyValue> bounds;
+
+  /**
+   * Creates a new histogram.
+   *
+   * @param count number of elements having the property
+   * @param distinctCount number of distinct property values
+   * @param mostCommonValues most common values and their frequency
+   * @param bounds histogram bounds
+   */
+  public PropertyHistogram(long count, long distinctCount,
+    Map<PropertyValue, Long> mostCommonValues, List<PropertyValue> bounds) {
+    this.count = count;
+    this.distinctCount = distinctCount;
+    this.mostCommonValues = mostCommonValues;
+    this.bounds = bounds;
+  }
+
+  /**
+   * Creates a histogram from the given value frequencies.
+   *
+   * A value becomes a most common value if it occurs more than once and more often than the
+   * average value. The remaining values are split into at most {@code maxBuckets} buckets.
+   *
+   * @param valueCounts frequency of each distinct property value
+   * @param maxMostCommonValues maximum number of most common values
+   * @param maxBuckets maximum number of histogram buckets
+   * @return histogram
+   */
+  public static PropertyHistogram create(Map<PropertyValue, Long> valueCounts,
+    int maxMostCommonValues, int maxBuckets) {
+    long count = valueCounts.values().stream().mapToLong(Long::longValue).sum();
+    long distinctCount = valueCounts.size();
+
+    List<Map.Entry<PropertyValue, Long>> byFrequency = new ArrayList<>(valueCounts.entrySet());
+    byFrequency.sort((lhs, rhs) -> Long.compare(rhs.getValue(), lhs.getValue()));
+
+    Map<PropertyValue, Long> mostCommonValues = new LinkedHashMap<>();
+    List<Map.Entry<PropertyValue, Long>> remaining = new ArrayList<>();
+    for (Map.Entry<PropertyValue, Long> entry : byFrequency) {
+      if (mostCommonValues.size() < maxMostCommonValues && entry.getValue() > 1 &&
+        entry.getValue() * distinctCount > count) {
+        mostCommonValues.put(entry.getKey(), entry.getValue());
+      } else {
+        remaining.add(entry);
+      }
+    }
+
+    return new PropertyHistogram(count, distinctCount, mostCommonValues,
+      computeBounds(remaining, maxBuckets));
+  }
+
+  /**
+   * Returns the number of elements having the property.
+   *
+   * @return number of elements having the property
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the number of distinct property values.
+   *
+   * @return number of distinct values
+   */
+  public long getDistinctCount() {
+    return distinctCount;
+  }
+
+  /**
+   * Returns the most common values and their frequency.
+   *
+   * @return most common values
+   */
+  public Map<PropertyValue, Long> getMostCommonValues() {
+    return Collections.unmodifiableMap(mostCommonValues);
+  }
+
+  /**
+   * Returns the ordered histogram bounds.
+   *
+   * @return histogram bounds
+   */
+  public List<PropertyValue> getBounds() {
+    return Collections.unmodifiableList(bounds);
+  }
+
+  /**
+   * Estimates the number of elements whose property value satisfies
+   * {@code property <comparator> value}. As in the evaluation of comparison expressions, values
+   * of incompatible types only satisfy {@link Comparator#NEQ}.
+   *
+   * @param comparator comparator
+   * @param value literal value
+   * @return estimated number of elements
+   */
+  public double estimateCount(Comparator comparator, PropertyValue value) {
+    switch (comparator) {
+    case EQ:
+      return estimateEquals(value);
+    case NEQ:
+      return count - estimateEquals(value);
+    default:
+      double result = 0d;
+      for (Map.Entry<PropertyValue, Long> entry : mostCommonValues.entrySet()) {
+        if (satisfies(entry.getKey(), comparator, value)) {
+          result += entry.getValue();
+        }
+      }
+      return result + getRemainingCount() * estimateRemainingFraction(comparator, value);
+    }
+  }
+
+  /**
+   * Serializes the histogram into a single line, e.g.
+   *
+   * 6,4,AgAAACM=:2;AgAAAB4=:2,AgAAABQ=;AgAAACg=
+   *
+   * The tokens are the number of elements, the number of distinct values, the most common values
+   * with their frequency and the histogram bounds. Values are stored as Base64 encoded raw bytes.
+   *
+   * @return serialized histogram
+   */
+  public String serialize() {
+    return count + GraphStatisticsReader.TOKEN_SEPARATOR +
+      distinctCount + GraphStatisticsReader.TOKEN_SEPARATOR +
+      mostCommonValues.entrySet().stream()
+        .map(entry -> encode(entry.getKey()) + COUNT_SEPARATOR + entry.getValue())
+        .collect(Collectors.joining(VALUE_SEPARATOR)) +
+      GraphStatisticsReader.TOKEN_SEPARATOR +
+      bounds.stream()
+        .map(PropertyHistogram::encode)
+        .collect(Collectors.joining(VALUE_SEPARATOR));
+  }
+
+  /**
+   * Deserializes a histogram created by {@link #serialize()}.
+   *
+   * @param line serialized histogram
+   * @return histogram
+   */
+  public static PropertyHistogram deserialize(String line) {
+    String[] tokens = line.split(GraphStatisticsReader.TOKEN_SEPARATOR, -1);
+
+    Map<PropertyValue, Long> mostCommonValues = new LinkedHashMap<>();
+    if (!tokens[2].isEmpty()) {
+      for (String pair : tokens[2].split(VALUE_SEPARATOR)) {
+        String[] valueAndCount = pair.split(COUNT_SEPARATOR);
+        mostCommonValues.put(decode(valueAndCount[0]), Long.parseLong(valueAndCount[1]));
+      }
+    }
+
+    List<PropertyValue> bounds = new ArrayList<>();
+    if (!tokens[3].isEmpty()) {
+      for (String bound : tokens[3].split(VALUE_SEPARATOR)) {
+        bounds.add(decode(bound));
+      }
+    }
+
+    return new PropertyHistogram(Long.parseLong(tokens[0]), Long.parseLong(tokens[1]),
+      mostCommonValues, bounds);
+  }
+
+  /**
+   * Computes the equi-depth bounds for the given values.
+   *
+   * @param values values and their frequency
+   * @param maxBuckets maximum number of buckets
+   * @return ordered bounds or an empty list if the values are not comparable
+   */
+  private static List<PropertyValue> computeBounds(List<Map.Entry<PropertyValue, Long>> values,
+    int maxBuckets) {
+    if (values.isEmpty() || maxBuckets < 1 || !isComparable(values)) {
+      return new ArrayList<>();
+    }
+    values.sort(Map.Entry.comparingByKey());
+
+    long total = values.stream().mapToLong(Map.Entry::getValue).sum();
+    int buckets = Math.min(maxBuckets, values.size());
+
+    List<PropertyValue> bounds = new ArrayList<>();
+    int index = 0;
+    long cumulative = values.get(0).getValue();
+    for (int bucket = 0; bucket <= buckets; bucket++) {
+      long position = Math.round((double) bucket * (total - 1) / buckets);
+      while (cumulative <= position) {
+        index++;
+        cumulative += values.get(index).getValue();
+      }
+      PropertyValue bound = values.get(index).getKey();
+      if (bounds.isEmpty() || !bounds.get(bounds.size() - 1).equals(bound)) {
+        bounds.add(bound);
+      }
+    }
+    return bounds;
+  }
+
+  /**
+   * Checks if all values are of the same type and can be ordered.
+   *
+   * @param values values and their frequency
+   * @return true, iff the values can be ordered
+   */
+  private static boolean isComparable(List<Map.Entry<PropertyValue, Long>> values) {
+    PropertyValue first = values.get(0).getKey();
+    if (first.isNull() || first.isMap() || first.isList()) {
+      return false;
+    }
+    byte type = first.getRawBytes()[0];
+    return values.stream().allMatch(entry -> entry.getKey().getRawBytes()[0] == type);
+  }
+
+  /**
+   * Returns the number of elements whose value is not a most common value.
+   *
+   * @return number of elements covered by the histogram bounds
+   */
+  private long getRemainingCount() {
+    return count - mostCommonValues.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /**
+   * Returns the number of distinct values that are not most common values.
+   *
+   * @return number of distinct values covered by the histogram bounds
+   */
+  private long getRemainingDistinctCount() {
+    return distinctCount - mostCommonValues.size();
+  }
+
+  /**
+   * Estimates the number of elements having exactly the given value.
+   *
+   * @param value property value
+   * @return estimated number of elements
+   */
+  private double estimateEquals(PropertyValue value) {
+    if (mostCommonValues.containsKey(value)) {
+      return mostCommonValues.get(value);
+    }
+    try {
+      return getRemainingCount() * estimateRemainingEqualsFraction(value);
+    } catch (IllegalArgumentException | UnsupportedOperationException e) {
+      return 0d;
+    }
+  }
+
+  /**
+   * Estimates the fraction of remaining values satisfying the range predicate.
+   *
+   * @param comparator range comparator
+   * @param value property value
+   * @return estimated fraction
+   */
+  private double estimateRemainingFraction(Comparator comparator, PropertyValue value) {
+    if (getRemainingCount() == 0) {
+      return 0d;
+    }
+    if (bounds.isEmpty()) {
+      return DEFAULT_RANGE_FRACTION;
+    }
+    double less;
+    double equal;
+    try {
+      less = estimateLessThanFraction(value);
+      equal = estimateRemainingEqualsFraction(value);
+    } catch (IllegalArgumentException | UnsupportedOperationException e) {
+      return 0d;
+    }
+
+    switch (comparator) {
+    case LT:
+      return less;
+    case LTE:
+      return Math.min(1d, less + equal);
+    case GT:
+      return Math.max(0d, 1d - less - equal);
+    case GTE:
+      return 1d - less;
+    default:
+      return DEFAULT_RANGE_FRACTION;
+    }
+  }
+
+  /**
+   * Estimates the fraction of remaining values that are equal to the given value.
+   *
+   * @param value property value
+   * @return estimated fraction
+   */
+  private double estimateRemainingEqualsFraction(PropertyValue value) {
+    if (getRemainingDistinctCount() <= 0) {
+      return 0d;
+    }
+    if (!bounds.isEmpty() && (value.compareTo(bounds.get(0)) < 0 ||
+      value.compareTo(bounds.get(bounds.size() - 1)) > 0)) {
+      return 0d;
+    }
+    return 1d / getRemainingDistinctCount();
+  }
+
+  /**
+   * Estimates the fraction of remaining values that are smaller than the given value. Values are
+   * assumed to be uniformly distributed within a bucket.
+   *
+   * @param value property value
+   * @return estimated fraction
+   */
+  private double estimateLessThanFraction(PropertyValue value) {
+    if (value.compareTo(bounds.get(0)) <= 0) {
+      return 0d;
+    }
+    int buckets = bounds.size() - 1;
+    if (buckets == 0 || value.compareTo(bounds.get(buckets)) > 0) {
+      return 1d;
+    }
+    int upper = 1;
+    while (value.compareTo(bounds.get(upper)) > 0) {
+      upper++;
+    }
+    return (upper - 1 + interpolate(bounds.get(upper - 1), bounds.get(upper), value)) / buckets;
+  }
+
+  /**
+   * Returns the relative position of the value between the lower and the upper bound. If the
+   * values are not numeric, the value is assumed to be in the middle.
+   *
+   * @param lower lower bound
+   * @param upper upper bound
+   * @param value value within the bounds
+   * @return relative position in [0, 1]
+   */
+  private static double interpolate(PropertyValue lower, PropertyValue upper,
+    PropertyValue value) {
+    if (!isNumeric(value)) {
+      return 0.5d;
+    }
+    double low = toDouble(lower);
+    double high = toDouble(upper);
+    return high > low ? Math.min(1d, Math.max(0d, (toDouble(value) - low) / (high - low))) : 0.5d;
+  }
+
+  /**
+   * Checks if the value is of a numeric type.
+   *
+   * @param value property value
+   * @return true, iff the value is numeric
+   */
+  private static boolean isNumeric(PropertyValue value) {
+    return value.isInt() || value.isLong() || value.isFloat() || value.isDouble() ||
+      value.isBigDecimal();
+  }
+
+  /**
+   * Converts a numeric value to double.
+   *
+   * @param value numeric property value
+   * @return double value
+   */
+  private static double toDouble(PropertyValue value) {
+    return value.isInt() ? value.getInt() :
+      value.isLong() ? value.getLong() :
+        value.isFloat() ? value.getFloat() :
+          value.isDouble() ? value.getDouble() :
+            value.getBigDecimal().doubleValue();
+  }
+
+  /**
+   * Evaluates {@code lhs <comparator> rhs}.
+   *
+   * @param lhs left hand side
+   * @param comparator comparator
+   * @param rhs right hand side
+   * @return evaluation result
+   */
+  private static boolean satisfies(PropertyValue lhs, Comparator comparator, PropertyValue rhs) {
+    try {
+      int result = lhs.compareTo(rhs);
+      switch (comparator) {
+      case LT:
+        return result < 0;
+      case LTE:
+        return result <= 0;
+      case GT:
+        return result > 0;
+      case GTE:
+        return result >= 0;
+      default:
+        return false;
+      }
+    } catch (IllegalArgumentException | UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Encodes a property value as Base64 string.
+   *
+   * @param value property value
+   * @return encoded value
+   */
+  private static String encode(PropertyValue value) {
+    return Base64.getEncoder().encodeToString(value.getRawBytes());
+  }
+
+  /**
+   * Decodes a property value from a Base64 string.
+   *
+   * @param encoded encoded value
+   * @return property value
+   */
+  private static PropertyValue decode(String encoded) {
+    return PropertyValue.fromRawBytes(Base64.getDecoder().decode(encoded));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PropertyHistogram that = (PropertyHistogram) o;
+    return count == that.count && distinctCount == that.distinctCount &&
+      mostCommonValues.equals(that.mostCommonValues) && bounds.equals(that.bounds);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(count, distinctCount, mostCommonValues, bounds);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("PropertyHistogram{count=%d, distinctCount=%d, mostCommonValues=%s, " +
+      "bounds=%s}", count, distinctCount, mostCommonValues, bounds);
+  }
+}
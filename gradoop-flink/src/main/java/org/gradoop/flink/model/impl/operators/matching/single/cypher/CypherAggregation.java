@@ -0,0 +1,117 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.log4j.Logger;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlanningStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+
+/**
+ * Evaluates a Cypher query with a RETURN clause containing aggregate functions and returns one
+ * row per group instead of the matching subgraphs, e.g.
+ *
+ * <pre>
+ * MATCH (a:Person)-[:knows]->(b:Person) RETURN a.city, count(*), sum(b.age)
+ * </pre>
+ *
+ * Each row contains one property per return item whose key is the name of the item. The
+ * embeddings are aggregated before the top most join of the query plan if possible, so that
+ * the (potentially large) join result is never materialized.
+ */
+public class CypherAggregation implements UnaryGraphToValueOperator<DataSet<Properties>> {
+  /**
+   * Logger
+   */
+  private static final Logger LOG = Logger.getLogger(CypherAggregation.class);
+  /**
+   * Cypher query
+   */
+  private final String query;
+  /**
+   * Morphism strategy for vertex mappings
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism strategy for edge mappings
+   */
+  private final MatchStrategy edgeStrategy;
+  /**
+   * Statistics about the data graph
+   */
+  private final GraphStatistics graphStatistics;
+  /**
+   * Strategy used to compute the query plan
+   */
+  private final PlanningStrategy planningStrategy;
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query Cypher query string including a RETURN clause
+   * @param vertexStrategy morphism strategy for vertex mappings
+   * @param edgeStrategy morphism strategy for edge mappings
+   * @param graphStatistics statistics about the data graph
+   */
+  public CypherAggregation(String query, MatchStrategy vertexStrategy,
+    MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this(query, vertexStrategy, edgeStrategy, graphStatistics, PlanningStrategy.GREEDY);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query Cypher query string including a RETURN clause
+   * @param vertexStrategy morphism strategy for vertex mappings
+   * @param edgeStrategy morphism strategy for edge mappings
+   * @param graphStatistics statistics about the data graph
+   * @param planningStrategy strategy used to compute the query plan
+   */
+  public CypherAggregation(String query, MatchStrategy vertexStrategy,
+    MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlanningStrategy planningStrategy) {
+    this.query = query;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+    this.graphStatistics = graphStatistics;
+    this.planningStrategy = planningStrategy;
+  }
+
+  @Override
+  public DataSet<Properties> execute(LogicalGraph graph) {
+    QueryHandler queryHandler = new QueryHandler(query);
+    if (!queryHandler.hasAggregation()) {
+      throw new IllegalArgumentException(
+        "Query needs to return at least one aggregate function: " + query);
+    }
+
+    QueryPlan plan = CypherPatternMatching.createPlanner(graph, queryHandler, graphStatistics,
+      vertexStrategy, edgeStrategy, planningStrategy).plan().getQueryPlan();
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(String.format("Query plan:%n%s", plan));
+    }
+
+    return plan.aggregate(queryHandler.getReturnItems());
+  }
+}
@@ -32,9 +32,10 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.E
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.PrintEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.AbstractPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlanningStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamic.DynamicProgrammingPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
-
-
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 
 import java.util.Map;
@@ -62,6 +63,10 @@ public class CypherPatternMatching extends PatternMatching {
    * Statistics about the data graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * Strategy used to compute the query plan
+   */
+  private final PlanningStrategy planningStrategy;
 
   /**
    * Instantiates a new operator.
@@ -75,10 +80,28 @@ public class CypherPatternMatching extends PatternMatching {
   public CypherPatternMatching(String query, boolean attachData,
     MatchStrategy vertexStrategy,
     MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this(query, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      PlanningStrategy.GREEDY);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query Cypher query string
+   * @param attachData true, if original data shall be attached to the result
+   * @param vertexStrategy morphism strategy for vertex mappings
+   * @param edgeStrategy morphism strategy for edge mappings
+   * @param graphStatistics statistics about the data graph
+   * @param planningStrategy strategy used to compute the query plan
+   */
+  public CypherPatternMatching(String query, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    GraphStatistics graphStatistics, PlanningStrategy planningStrategy) {
     super(query, attachData, LOG);
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
     this.graphStatistics = graphStatistics;
+    this.planningStrategy = planningStrategy;
   }
 
   @Override
@@ -90,8 +113,12 @@ public class CypherPatternMatching extends PatternMatching {
   protected GraphCollection executeForPattern(LogicalGraph graph) {
     // Query planning
     QueryHandler queryHandler = getQueryHandler();
-    QueryPlan plan = new GreedyPlanner(graph, queryHandler, graphStatistics,
-      vertexStrategy, edgeStrategy).plan().getQueryPlan();
+    QueryPlan plan = createPlanner(graph, queryHandler, graphStatistics,
+      vertexStrategy, edgeStrategy, planningStrategy).plan().getQueryPlan();
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(String.format("Query plan:%n%s", plan));
+    }
 
     // Query execution
     DataSet<Embedding> embeddings = plan.execute();
@@ -121,6 +148,30 @@ public class CypherPatternMatching extends PatternMatching {
       PostProcessor.extractGraphCollection(elements, graph.getConfig(), true);
   }
 
+  /**
+   * Creates the query planner according to the planning strategy.
+   *
+   * @param graph data graph
+   * @param queryHandler query handler
+   * @param graphStatistics statistics about the data graph
+   * @param vertexStrategy morphism strategy for vertex mappings
+   * @param edgeStrategy morphism strategy for edge mappings
+   * @param planningStrategy strategy used to compute the query plan
+   * @return query planner
+   */
+  static AbstractPlanner createPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    PlanningStrategy planningStrategy) {
+    switch (planningStrategy) {
+    case DYNAMIC_PROGRAMMING:
+      return new DynamicProgrammingPlanner(graph, queryHandler, graphStatistics,
+        vertexStrategy, edgeStrategy);
+    default:
+      return new GreedyPlanner(graph, queryHandler, graphStatistics,
+        vertexStrategy, edgeStrategy);
+    }
+  }
+
   @Override
   public String getName() {
     return CypherPatternMatching.class.getName();
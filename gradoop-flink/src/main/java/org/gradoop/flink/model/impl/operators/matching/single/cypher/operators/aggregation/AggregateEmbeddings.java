@@ -0,0 +1,134 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.matching.common.query.ReturnItem;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.functions.AggregateEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.functions.CombinePartialAggregates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.functions.CreateAggregateRow;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Aggregates embeddings according to the items of a RETURN clause. The result contains one
+ * row per distinct combination of grouping values, or a single row if there are no grouping
+ * items. Each row stores the value of each return item as property named after the item.
+ *
+ * Partial aggregates are combined using a reduce, which lets Flink pre-aggregate them before
+ * they are shuffled.
+ */
+public class AggregateEmbeddings {
+  /**
+   * Items of the RETURN clause
+   */
+  private final List<ReturnItem> returnItems;
+
+  /**
+   * Operator name
+   */
+  private String name;
+
+  /**
+   * Creates a new operator.
+   *
+   * @param returnItems items of the RETURN clause
+   */
+  public AggregateEmbeddings(List<ReturnItem> returnItems) {
+    this.returnItems = returnItems;
+    this.setName("AggregateEmbeddings");
+  }
+
+  /**
+   * Aggregates the given embeddings.
+   *
+   * @param embeddings embeddings
+   * @param metaData meta data describing the embeddings
+   * @return aggregate rows
+   */
+  public DataSet<Properties> evaluate(DataSet<Embedding> embeddings, EmbeddingMetaData metaData) {
+    EmbeddingAggregator aggregator = new EmbeddingAggregator(returnItems, metaData);
+    return combine(embeddings
+      .map(new AggregateEmbedding(aggregator))
+      .name(getName() + ".partial"), aggregator);
+  }
+
+  /**
+   * Combines partial aggregates created by the given aggregator, e.g. on factorized embeddings.
+   *
+   * @param partialAggregates (grouping values, aggregate values)
+   * @param aggregator aggregator which created the partial aggregates
+   * @return aggregate rows
+   */
+  public DataSet<Properties> combine(
+    DataSet<Tuple2<PropertyValueList, PropertyValueList>> partialAggregates,
+    EmbeddingAggregator aggregator) {
+
+    if (!aggregator.hasGroupItems()) {
+      // a global aggregate always returns a row, even if there are no embeddings
+      partialAggregates = partialAggregates.union(partialAggregates.getExecutionEnvironment()
+        .fromElements(createEmptyTuple(aggregator)));
+    }
+
+    return partialAggregates
+      .groupBy(0)
+      .reduce(new CombinePartialAggregates())
+      .map(new CreateAggregateRow(returnItems))
+      .name(getName());
+  }
+
+  /**
+   * Creates the partial aggregate of no embeddings.
+   *
+   * @param aggregator aggregator
+   * @return (empty grouping values, initial aggregate values)
+   */
+  private static Tuple2<PropertyValueList, PropertyValueList> createEmptyTuple(
+    EmbeddingAggregator aggregator) {
+    try {
+      return aggregator.createEmptyTuple();
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot create initial aggregate", e);
+    }
+  }
+
+  /**
+   * Set the operator description
+   * This is used for Flink operator naming
+   *
+   * @param newName operator description
+   */
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  /**
+   * Get the operator description
+   * This is used for Flink operator naming
+   *
+   * @return operator description
+   */
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,337 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.gradoop.flink.model.impl.operators.matching.common.query.ReturnItem;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates the items of a RETURN clause on embeddings and computes partial aggregates.
+ *
+ * The aggregator supports embeddings which are split into multiple sides, e.g. the left and
+ * right alternatives of a {@link
+ * org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding}.
+ * Each item is evaluated on the first side containing the referenced variable or property.
+ * Partial aggregates of different sides can be combined without merging the embeddings:
+ * the count of a combination is the product of the counts of both sides and an aggregate of
+ * one side is multiplied with the count of the other side.
+ */
+public class EmbeddingAggregator implements Serializable {
+  /**
+   * Side of items which do not depend on the embedding content, e.g. {@code count(*)}
+   */
+  private static final int NO_SIDE = -1;
+  /**
+   * Side containing each grouping item
+   */
+  private final int[] groupSides;
+  /**
+   * Column of each grouping item within its side
+   */
+  private final int[] groupColumns;
+  /**
+   * True, if the grouping item refers to a property column, false for an id column
+   */
+  private final boolean[] groupProperties;
+  /**
+   * Aggregate function of each aggregate item
+   */
+  private final ReturnItem.Aggregate[] aggregates;
+  /**
+   * Side containing each aggregate item
+   */
+  private final int[] aggregateSides;
+  /**
+   * Property column of each aggregate item within its side
+   */
+  private final int[] aggregateColumns;
+
+  /**
+   * Creates a new aggregator.
+   *
+   * @param returnItems items of the RETURN clause
+   * @param sides meta data of each side of the embeddings
+   */
+  public EmbeddingAggregator(List<ReturnItem> returnItems, EmbeddingMetaData... sides) {
+    List<ReturnItem> groupItems = new ArrayList<>();
+    List<ReturnItem> aggregateItems = new ArrayList<>();
+    for (ReturnItem item : returnItems) {
+      (item.isAggregate() ? aggregateItems : groupItems).add(item);
+    }
+
+    groupSides = new int[groupItems.size()];
+    groupColumns = new int[groupItems.size()];
+    groupProperties = new boolean[groupItems.size()];
+    for (int i = 0; i < groupItems.size(); i++) {
+      ReturnItem item = groupItems.get(i);
+      groupSides[i] = findSide(item, sides);
+      groupProperties[i] = item.isProperty();
+      groupColumns[i] = getColumn(item, sides[groupSides[i]]);
+    }
+
+    aggregates = new ReturnItem.Aggregate[aggregateItems.size()];
+    aggregateSides = new int[aggregateItems.size()];
+    aggregateColumns = new int[aggregateItems.size()];
+    for (int i = 0; i < aggregateItems.size(); i++) {
+      ReturnItem item = aggregateItems.get(i);
+      aggregates[i] = item.getAggregate();
+      // count(*) and count(variable) are equal to the number of embeddings
+      if (item.isProperty()) {
+        aggregateSides[i] = findSide(item, sides);
+        aggregateColumns[i] = getColumn(item, sides[aggregateSides[i]]);
+      } else {
+        aggregateSides[i] = NO_SIDE;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first side containing the variable or property of the item.
+   *
+   * @param item return item
+   * @param sides meta data of each side
+   * @return side index
+   */
+  private static int findSide(ReturnItem item, EmbeddingMetaData[] sides) {
+    for (int side = 0; side < sides.length; side++) {
+      EmbeddingMetaData metaData = sides[side];
+      if (item.isProperty() ?
+        metaData.getPropertyKeys(item.getVariable()).contains(item.getPropertyKey()) :
+        metaData.containsEntryColumn(item.getVariable())) {
+        return side;
+      }
+    }
+    throw new IllegalArgumentException("Return item is not contained in the embeddings: " + item);
+  }
+
+  /**
+   * Returns the column of the item within the given side.
+   *
+   * @param item return item
+   * @param metaData meta data of the side
+   * @return property or entry column
+   */
+  private static int getColumn(ReturnItem item, EmbeddingMetaData metaData) {
+    return item.isProperty() ?
+      metaData.getPropertyColumn(item.getVariable(), item.getPropertyKey()) :
+      metaData.getEntryColumn(item.getVariable());
+  }
+
+  /**
+   * Returns true, if the RETURN clause contains grouping items.
+   *
+   * @return true, if there are grouping items
+   */
+  public boolean hasGroupItems() {
+    return groupSides.length > 0;
+  }
+
+  /**
+   * Creates the partial aggregate of a single embedding of the given side.
+   *
+   * @param side side index
+   * @param embedding embedding
+   * @return partial aggregate with count 1
+   */
+  public PartialAggregate aggregate(int side, Embedding embedding) {
+    PartialAggregate partial = new PartialAggregate(groupSides.length, aggregates.length);
+    partial.count = 1L;
+
+    for (int i = 0; i < groupSides.length; i++) {
+      if (groupSides[i] == side) {
+        partial.groupValues[i] = groupProperties[i] ?
+          embedding.getProperty(groupColumns[i]) :
+          PropertyValue.create(embedding.getId(groupColumns[i]));
+      }
+    }
+
+    for (int i = 0; i < aggregates.length; i++) {
+      if (aggregateSides[i] == side) {
+        PropertyValue value = embedding.getProperty(aggregateColumns[i]);
+        if (aggregates[i] == ReturnItem.Aggregate.COUNT) {
+          partial.aggregateValues[i] = PropertyValue.create(value.isNull() ? 0L : 1L);
+        } else if (value.isInt()) {
+          // sums are multiplied by long counts on factorized input, so use a common type
+          partial.aggregateValues[i] = PropertyValue.create((long) value.getInt());
+        } else {
+          partial.aggregateValues[i] = value.isNull() ? null : value;
+        }
+      }
+    }
+    return partial;
+  }
+
+  /**
+   * Adds the partial aggregate to the partial aggregate with the same grouping values in the
+   * given map.
+   *
+   * @param partials grouping values to partial aggregate
+   * @param partial partial aggregate
+   */
+  public void add(Map<List<PropertyValue>, PartialAggregate> partials, PartialAggregate partial) {
+    List<PropertyValue> key = Arrays.asList(partial.groupValues);
+    PartialAggregate existing = partials.get(key);
+    if (existing == null) {
+      partials.put(key, partial);
+      return;
+    }
+    existing.count += partial.count;
+    for (int i = 0; i < aggregates.length; i++) {
+      existing.aggregateValues[i] = add(existing.aggregateValues[i], partial.aggregateValues[i]);
+    }
+  }
+
+  /**
+   * Combines the partial aggregates of a left and a right side. The result represents all
+   * combinations of the embeddings aggregated on both sides.
+   *
+   * @param left partial aggregate of the left side
+   * @param right partial aggregate of the right side
+   * @return combined partial aggregate
+   */
+  public PartialAggregate combine(PartialAggregate left, PartialAggregate right) {
+    PartialAggregate combined = new PartialAggregate(groupSides.length, aggregates.length);
+    combined.count = left.count * right.count;
+
+    for (int i = 0; i < groupSides.length; i++) {
+      combined.groupValues[i] = left.groupValues[i] != null ?
+        left.groupValues[i] : right.groupValues[i];
+    }
+
+    PropertyValue leftCount = PropertyValue.create(left.count);
+    PropertyValue rightCount = PropertyValue.create(right.count);
+    for (int i = 0; i < aggregates.length; i++) {
+      if (left.aggregateValues[i] != null) {
+        combined.aggregateValues[i] =
+          PropertyValueUtils.Numeric.multiply(left.aggregateValues[i], rightCount);
+      } else if (right.aggregateValues[i] != null) {
+        combined.aggregateValues[i] =
+          PropertyValueUtils.Numeric.multiply(right.aggregateValues[i], leftCount);
+      }
+    }
+    return combined;
+  }
+
+  /**
+   * Converts a partial aggregate into a tuple of grouping values and aggregate values.
+   *
+   * @param partial partial aggregate
+   * @return (grouping values, aggregate values)
+   * @throws IOException if the values cannot be serialized
+   */
+  public Tuple2<PropertyValueList, PropertyValueList> toTuple(PartialAggregate partial)
+    throws IOException {
+    List<PropertyValue> groupValues = new ArrayList<>(groupSides.length);
+    for (PropertyValue value : partial.groupValues) {
+      groupValues.add(value != null ? value : PropertyValue.NULL_VALUE);
+    }
+
+    List<PropertyValue> aggregateValues = new ArrayList<>(aggregates.length);
+    for (int i = 0; i < aggregates.length; i++) {
+      PropertyValue value = aggregateSides[i] == NO_SIDE ?
+        PropertyValue.create(partial.count) : partial.aggregateValues[i];
+      if (value == null) {
+        value = aggregates[i] == ReturnItem.Aggregate.COUNT ?
+          PropertyValue.create(0L) : PropertyValue.NULL_VALUE;
+      }
+      aggregateValues.add(value);
+    }
+
+    return Tuple2.of(PropertyValueList.fromPropertyValues(groupValues),
+      PropertyValueList.fromPropertyValues(aggregateValues));
+  }
+
+  /**
+   * Creates the tuple representing an aggregation over no embeddings at all.
+   *
+   * @return (empty grouping values, initial aggregate values)
+   * @throws IOException if the values cannot be serialized
+   */
+  public Tuple2<PropertyValueList, PropertyValueList> createEmptyTuple() throws IOException {
+    PartialAggregate partial = new PartialAggregate(groupSides.length, aggregates.length);
+    partial.count = 0L;
+    return toTuple(partial);
+  }
+
+  /**
+   * Adds two aggregate values, each of which may be {@code null}.
+   *
+   * @param first first value
+   * @param second second value
+   * @return sum
+   */
+  public static PropertyValue add(PropertyValue first, PropertyValue second) {
+    if (first == null || first.isNull()) {
+      return second;
+    }
+    if (second == null || second.isNull()) {
+      return first;
+    }
+    return PropertyValueUtils.Numeric.add(first, second);
+  }
+
+  /**
+   * Grouping values, count and aggregate values of a set of embeddings. Values of items which
+   * are not evaluated on the aggregated side are {@code null}.
+   */
+  public static class PartialAggregate {
+    /**
+     * Values of the grouping items
+     */
+    private final PropertyValue[] groupValues;
+    /**
+     * Values of the aggregate items
+     */
+    private final PropertyValue[] aggregateValues;
+    /**
+     * Number of aggregated embeddings
+     */
+    private long count;
+
+    /**
+     * Creates an empty partial aggregate.
+     *
+     * @param groupItemCount number of grouping items
+     * @param aggregateItemCount number of aggregate items
+     */
+    PartialAggregate(int groupItemCount, int aggregateItemCount) {
+      this.groupValues = new PropertyValue[groupItemCount];
+      this.aggregateValues = new PropertyValue[aggregateItemCount];
+    }
+
+    /**
+     * Returns the number of aggregated embeddings.
+     *
+     * @return count
+     */
+    public long getCount() {
+      return count;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.EmbeddingAggregator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Creates the partial aggregate of a single embedding.
+ */
+public class AggregateEmbedding
+  implements MapFunction<Embedding, Tuple2<PropertyValueList, PropertyValueList>> {
+  /**
+   * Evaluates the return items on the embedding
+   */
+  private final EmbeddingAggregator aggregator;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param aggregator evaluates the return items on the embedding
+   */
+  public AggregateEmbedding(EmbeddingAggregator aggregator) {
+    this.aggregator = aggregator;
+  }
+
+  @Override
+  public Tuple2<PropertyValueList, PropertyValueList> map(Embedding embedding) throws Exception {
+    return aggregator.toTuple(aggregator.aggregate(0, embedding));
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.EmbeddingAggregator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.EmbeddingAggregator.PartialAggregate;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the partial aggregates of the flat embeddings represented by a
+ * {@link FactorizedEmbedding} without merging them.
+ *
+ * If the join does not check morphism constraints, the left and right alternatives are
+ * aggregated separately by their grouping values before the aggregates of both sides are
+ * combined, i.e. aggregation is pushed below the join. Otherwise, each valid combination of
+ * alternatives is aggregated.
+ */
+public class AggregateFactorizedEmbedding implements
+  FlatMapFunction<FactorizedEmbedding, Tuple2<PropertyValueList, PropertyValueList>> {
+  /**
+   * Evaluates the return items on the left (side 0) and right (side 1) alternatives
+   */
+  private final EmbeddingAggregator aggregator;
+  /**
+   * Function used by the factorized join to merge alternatives
+   */
+  private final MergeEmbeddings mergeFunction;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param aggregator evaluates the return items on the left and right alternatives
+   * @param mergeFunction function used by the factorized join to merge alternatives
+   */
+  public AggregateFactorizedEmbedding(EmbeddingAggregator aggregator,
+    MergeEmbeddings mergeFunction) {
+    this.aggregator = aggregator;
+    this.mergeFunction = mergeFunction;
+  }
+
+  @Override
+  public void flatMap(FactorizedEmbedding factorizedEmbedding,
+    Collector<Tuple2<PropertyValueList, PropertyValueList>> out) throws Exception {
+    Map<List<PropertyValue>, PartialAggregate> partials = new HashMap<>();
+
+    if (mergeFunction.checksMorphism()) {
+      List<Embedding> left = factorizedEmbedding.getLeft();
+      List<Embedding> right = factorizedEmbedding.getRight();
+      List<PartialAggregate> rightPartials = new ArrayList<>(right.size());
+      for (Embedding embedding : right) {
+        rightPartials.add(aggregator.aggregate(1, embedding));
+      }
+      for (Embedding leftEmbedding : left) {
+        PartialAggregate leftPartial = aggregator.aggregate(0, leftEmbedding);
+        for (int i = 0; i < right.size(); i++) {
+          if (mergeFunction.isValid(leftEmbedding, right.get(i))) {
+            aggregator.add(partials, aggregator.combine(leftPartial, rightPartials.get(i)));
+          }
+        }
+      }
+    } else {
+      Map<List<PropertyValue>, PartialAggregate> leftPartials =
+        aggregate(0, factorizedEmbedding.getLeft());
+      Map<List<PropertyValue>, PartialAggregate> rightPartials =
+        aggregate(1, factorizedEmbedding.getRight());
+      for (PartialAggregate leftPartial : leftPartials.values()) {
+        for (PartialAggregate rightPartial : rightPartials.values()) {
+          aggregator.add(partials, aggregator.combine(leftPartial, rightPartial));
+        }
+      }
+    }
+
+    for (PartialAggregate partial : partials.values()) {
+      out.collect(aggregator.toTuple(partial));
+    }
+  }
+
+  /**
+   * Aggregates the alternatives of one side by their grouping values.
+   *
+   * @param side side index
+   * @param embeddings alternatives
+   * @return grouping values to partial aggregate
+   */
+  private Map<List<PropertyValue>, PartialAggregate> aggregate(int side,
+    List<Embedding> embeddings) {
+    Map<List<PropertyValue>, PartialAggregate> partials = new HashMap<>();
+    for (Embedding embedding : embeddings) {
+      aggregator.add(partials, aggregator.aggregate(side, embedding));
+    }
+    return partials;
+  }
+}
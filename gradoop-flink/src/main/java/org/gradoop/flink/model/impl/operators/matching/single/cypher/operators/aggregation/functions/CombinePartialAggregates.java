@@ -0,0 +1,48 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.EmbeddingAggregator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Adds the aggregate values of two partial aggregates with equal grouping values. Counts and
+ * sums are both combined by addition.
+ */
+public class CombinePartialAggregates
+  implements ReduceFunction<Tuple2<PropertyValueList, PropertyValueList>> {
+
+  @Override
+  public Tuple2<PropertyValueList, PropertyValueList> reduce(
+    Tuple2<PropertyValueList, PropertyValueList> first,
+    Tuple2<PropertyValueList, PropertyValueList> second) throws Exception {
+    List<PropertyValue> aggregateValues = new ArrayList<>();
+    Iterator<PropertyValue> secondValues = second.f1.iterator();
+    for (PropertyValue firstValue : first.f1) {
+      aggregateValues.add(EmbeddingAggregator.add(firstValue, secondValues.next()));
+    }
+    first.f1 = PropertyValueList.fromPropertyValues(aggregateValues);
+    return first;
+  }
+}
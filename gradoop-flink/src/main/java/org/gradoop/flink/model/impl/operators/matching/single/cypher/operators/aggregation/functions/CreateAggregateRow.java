@@ -0,0 +1,82 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.matching.common.query.ReturnItem;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Creates a result row from the grouping and aggregate values. The row contains one property
+ * per return item whose key is the name of the item, e.g. {@code a.city} or {@code count(*)}.
+ */
+public class CreateAggregateRow
+  implements MapFunction<Tuple2<PropertyValueList, PropertyValueList>, Properties> {
+  /**
+   * Names of the grouping items
+   */
+  private final List<String> groupNames;
+  /**
+   * Names of the aggregate items
+   */
+  private final List<String> aggregateNames;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param returnItems items of the RETURN clause
+   */
+  public CreateAggregateRow(List<ReturnItem> returnItems) {
+    this.groupNames = returnItems.stream()
+      .filter(item -> !item.isAggregate())
+      .map(ReturnItem::getName)
+      .collect(Collectors.toList());
+    this.aggregateNames = returnItems.stream()
+      .filter(ReturnItem::isAggregate)
+      .map(ReturnItem::getName)
+      .collect(Collectors.toList());
+  }
+
+  @Override
+  public Properties map(Tuple2<PropertyValueList, PropertyValueList> aggregate) {
+    Properties row = Properties.createWithCapacity(groupNames.size() + aggregateNames.size());
+    setAll(row, groupNames, aggregate.f0);
+    setAll(row, aggregateNames, aggregate.f1);
+    return row;
+  }
+
+  /**
+   * Sets the given values as properties of the row.
+   *
+   * @param row result row
+   * @param names property keys
+   * @param values property values
+   */
+  private static void setAll(Properties row, List<String> names, PropertyValueList values) {
+    Iterator<PropertyValue> valueIterator = values.iterator();
+    for (String name : names) {
+      row.set(name, valueIterator.next());
+    }
+  }
+}
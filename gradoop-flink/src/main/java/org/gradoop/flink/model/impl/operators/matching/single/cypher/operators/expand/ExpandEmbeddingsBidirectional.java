@@ -0,0 +1,271 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ReverseEdgeEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.AdoptEmptyPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CreateExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractExpandColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractKeyedCandidateEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractMeetingKey;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.MergeExpandEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.MergeHalfPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.PostProcessExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+
+import java.util.List;
+
+/**
+ * Expands a vertex along the edges towards a vertex that is already bound in the input embedding.
+ * The number of hops can be specified via upper and lower bound. The input embedding is appended
+ * by 2 Entries, the first one represents the path (edge, vertex, edge, vertex, ..., edge), the
+ * second one the end vertex.
+ *
+ * In contrast to {@link ExpandEmbeddings}, paths are grown from both endpoints at the same time.
+ * Each side is expanded by at most half of the upper bound and the resulting half paths are
+ * joined on the input embedding and the vertex they meet at. This keeps the intermediate results
+ * small if the vertices have a high degree, since the number of half paths grows with the square
+ * root of the number of full paths.
+ *
+ * A path of length {@code l} is assembled from a forward half of length {@code ceil(l / 2)} and a
+ * backward half of length {@code floor(l / 2)}, so that each path is created exactly once. The
+ * operator expects the embeddings of the input to be distinct.
+ */
+public class ExpandEmbeddingsBidirectional implements PhysicalOperator {
+  /**
+   * Input Embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Candidate edges
+   */
+  private final DataSet<Embedding> candidateEdges;
+  /**
+   * specifies the input column that will be expanded
+   */
+  private final int expandColumn;
+  /**
+   * minimum hops
+   */
+  private final int lowerBound;
+  /**
+   * maximum hops
+   */
+  private final int upperBound;
+  /**
+   * expand direction
+   */
+  private final ExpandDirection direction;
+  /**
+   * Holds indices of input vertex columns that should be distinct
+   */
+  private final List<Integer> distinctVertexColumns;
+  /**
+   * Holds indices of input edge columns that should be distinct
+   */
+  private final List<Integer> distinctEdgeColumns;
+  /**
+   * Define the column which should be equal with the paths end
+   */
+  private final int closingColumn;
+  /**
+   * join hint
+   */
+  private final JoinOperatorBase.JoinHint joinHint;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * New Expand Operator
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion {@see ExpandDirection}
+   * @param distinctVertexColumns indices of distinct input vertex columns
+   * @param distinctEdgeColumns indices of distinct input edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   * @param joinHint join strategy
+   */
+  public ExpandEmbeddingsBidirectional(DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns, int closingColumn,
+    JoinOperatorBase.JoinHint joinHint) {
+
+    if (closingColumn < 0) {
+      throw new IllegalArgumentException("Bidirectional expansion requires a closing column");
+    }
+    if (upperBound < 2 || upperBound == Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        "Bidirectional expansion requires an upper bound of at least 2");
+    }
+
+    this.input = input;
+    this.candidateEdges = candidateEdges;
+    this.expandColumn = expandColumn;
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.direction = direction;
+    this.distinctVertexColumns = distinctVertexColumns;
+    this.distinctEdgeColumns = distinctEdgeColumns;
+    this.closingColumn = closingColumn;
+    this.joinHint = joinHint;
+    this.setName("ExpandEmbeddingsBidirectional");
+  }
+
+  /**
+   * New Expand Operator with default join strategy
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion {@see ExpandDirection}
+   * @param distinctVertexColumns indices of distinct input vertex columns
+   * @param distinctEdgeColumns indices of distinct input edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   */
+  public ExpandEmbeddingsBidirectional(DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns, int closingColumn) {
+
+    this(input, candidateEdges, expandColumn, lowerBound, upperBound, direction,
+      distinctVertexColumns, distinctEdgeColumns, closingColumn,
+      JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+  }
+
+  /**
+   * Expands the input from both endpoints and joins the half paths.
+   *
+   * @return the input appened by 2 entries (IdList(Path), IdEntry(End Vertex)
+   */
+  @Override
+  public DataSet<Embedding> evaluate() {
+    ExpandDirection backwardDirection = direction == ExpandDirection.OUT ?
+      ExpandDirection.IN : ExpandDirection.OUT;
+
+    DataSet<EdgeWithTiePoint> forwardEdges = createEdgeTuples(direction, "Forward");
+    DataSet<EdgeWithTiePoint> backwardEdges = createEdgeTuples(backwardDirection, "Backward");
+
+    DataSet<Embedding> results = expand(forwardEdges, expandColumn, (upperBound + 1) / 2,
+      "Forward")
+      .join(expand(backwardEdges, closingColumn, upperBound / 2, "Backward"), joinHint)
+        .where(new ExtractMeetingKey()).equalTo(new ExtractMeetingKey())
+        .with(new MergeHalfPaths(lowerBound, upperBound, closingColumn,
+          !distinctVertexColumns.isEmpty(), !distinctEdgeColumns.isEmpty()))
+      .name(getName() + " - Merge half paths");
+
+    if (lowerBound <= 1) {
+      // single edges do not meet in the middle
+      results = results.union(
+        input.join(forwardEdges, joinHint)
+          .where(new ExtractExpandColumn(expandColumn)).equalTo(0)
+          .with(new CreateExpandEmbedding(distinctVertexColumns, distinctEdgeColumns,
+            closingColumn))
+          .name(getName() + " - Single edge expansion")
+          .flatMap(new PostProcessExpandEmbedding(1, closingColumn))
+          .name(getName() + " - Post Processing")
+      );
+    }
+
+    if (lowerBound == 0) {
+      results = results.union(
+        input
+          .flatMap(new AdoptEmptyPaths(expandColumn, closingColumn))
+          .name(getName() + " - Append empty paths")
+      );
+    }
+
+    return results;
+  }
+
+  /**
+   * Creates the keyed candidate edges for an expansion in the given direction.
+   *
+   * @param edgeDirection direction of the expansion
+   * @param side name of the expansion side
+   * @return candidate edge tuples keyed by the vertex to expand from
+   */
+  private DataSet<EdgeWithTiePoint> createEdgeTuples(ExpandDirection edgeDirection, String side) {
+    DataSet<Embedding> edges = candidateEdges;
+    if (edgeDirection == ExpandDirection.IN) {
+      edges = edges
+        .map(new ReverseEdgeEmbedding())
+        .name(getName() + " - " + side + " - Reverse Edges");
+    }
+
+    return edges
+      .map(new ExtractKeyedCandidateEdges())
+      .name(getName() + " - " + side + " - Create candidate edge tuples")
+      .partitionByHash(0)
+      .name(getName() + " - " + side + " - Partition edge tuples");
+  }
+
+  /**
+   * Grows half paths from the given column of the input. Since both sides are closed by the
+   * join, the half paths must not end at any of the distinct input vertices.
+   *
+   * @param edges candidate edges keyed by the vertex to expand from
+   * @param column input column to expand from
+   * @param maxHops maximum length of the half paths
+   * @param side name of the expansion side
+   * @return half paths of length 1..maxHops
+   */
+  private DataSet<ExpandEmbedding> expand(DataSet<EdgeWithTiePoint> edges, int column,
+    int maxHops, String side) {
+
+    DataSet<ExpandEmbedding> current = input.join(edges, joinHint)
+      .where(new ExtractExpandColumn(column)).equalTo(0)
+      .with(new CreateExpandEmbedding(distinctVertexColumns, distinctEdgeColumns, -1))
+      .name(getName() + " - " + side + " - Initial expansion");
+
+    DataSet<ExpandEmbedding> result = current;
+
+    for (int i = 1; i < maxHops; i++) {
+      current = current.join(edges, joinHint)
+        .where(2).equalTo(0)
+        .with(new MergeExpandEmbeddings(distinctVertexColumns, distinctEdgeColumns, -1))
+        .name(getName() + " - " + side + " - Expansion " + i);
+
+      result = result.union(current);
+    }
+
+    return result;
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
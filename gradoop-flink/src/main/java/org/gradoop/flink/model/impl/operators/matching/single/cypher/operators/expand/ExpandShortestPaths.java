@@ -0,0 +1,213 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.DeltaIteration;
+import org.gradoop.flink.model.impl.operators.matching.common.query.PathSemantics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ReverseEdgeEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.AttachReachedVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CreateStartVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractExpandColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractKeyedCandidateEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractPathEndpoints;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractReachedEndpoints;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.FilterUnvisited;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.FollowEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachedVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandSettings;
+
+import java.util.List;
+
+/**
+ * Expands a vertex along the edges using a breadth first search. In contrast to
+ * {@link ExpandEmbeddings}, which enumerates every path within the bounds, each vertex is visited
+ * at most once per start vertex. The input embedding is appended by 2 Entries, the first one
+ * represents the path (edge, vertex, edge, vertex, ..., edge), the second one the end vertex.
+ *
+ * <ul>
+ * <li>{@link PathSemantics#SHORTEST}: the path is one shortest path from the start to the end
+ * vertex</li>
+ * <li>{@link PathSemantics#EXISTS}: the path is empty, i.e. only the existence of a path is
+ * checked and no paths are kept during the search</li>
+ * </ul>
+ *
+ * A match requires the length of the shortest path to be within the bounds. Since the search is
+ * shared by all embeddings with the same start vertex, distinct vertices and edges of an
+ * embedding are not avoided during the search. Instead, embeddings whose shortest path visits
+ * them are removed. For {@link PathSemantics#EXISTS}, this applies to the end vertex only.
+ */
+public class ExpandShortestPaths implements PhysicalOperator {
+  /**
+   * Input Embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Candidate edges
+   */
+  private final DataSet<Embedding> candidateEdges;
+  /**
+   * specifies the input column that will be expanded
+   */
+  private final int expandColumn;
+  /**
+   * minimum hops
+   */
+  private final int lowerBound;
+  /**
+   * maximum hops
+   */
+  private final int upperBound;
+  /**
+   * expand direction
+   */
+  private final ExpandDirection direction;
+  /**
+   * path semantics
+   */
+  private final PathSemantics semantics;
+  /**
+   * Holds indices of input vertex columns that should be distinct
+   */
+  private final List<Integer> distinctVertexColumns;
+  /**
+   * Holds indices of input edge columns that should be distinct
+   */
+  private final List<Integer> distinctEdgeColumns;
+  /**
+   * Define the column which should be equal with the paths end
+   */
+  private final int closingColumn;
+  /**
+   * join hint
+   */
+  private final JoinOperatorBase.JoinHint joinHint;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * New Expand Operator
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param settings bounds, direction, path semantics and join hint of the expansion, the path
+   *                 semantics must be either {@link PathSemantics#SHORTEST} or
+   *                 {@link PathSemantics#EXISTS}; morphism types are given by the distinct
+   *                 columns instead
+   * @param distinctVertexColumns indices of distinct input vertex columns
+   * @param distinctEdgeColumns indices of distinct input edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   */
+  public ExpandShortestPaths(DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, ExpandSettings settings, List<Integer> distinctVertexColumns,
+    List<Integer> distinctEdgeColumns, int closingColumn) {
+
+    if (settings.getSemantics() == PathSemantics.ALL) {
+      throw new IllegalArgumentException("Use ExpandEmbeddings to enumerate all paths");
+    }
+
+    this.input = input;
+    this.candidateEdges = candidateEdges;
+    this.expandColumn = expandColumn;
+    this.lowerBound = settings.getLowerBound();
+    this.upperBound = settings.getUpperBound();
+    this.direction = settings.getDirection();
+    this.semantics = settings.getSemantics();
+    this.distinctVertexColumns = distinctVertexColumns;
+    this.distinctEdgeColumns = distinctEdgeColumns;
+    this.closingColumn = closingColumn;
+    this.joinHint = settings.getJoinHint();
+    this.setName("ExpandShortestPaths");
+  }
+
+  /**
+   * Runs a breadth first search from each start vertex and attaches the reached vertices to the
+   * input embeddings.
+   *
+   * @return the input appened by 2 entries (IdList(Path), IdEntry(End Vertex)
+   */
+  @Override
+  public DataSet<Embedding> evaluate() {
+    DataSet<Embedding> edges = candidateEdges;
+    if (direction == ExpandDirection.IN) {
+      edges = edges
+        .map(new ReverseEdgeEmbedding())
+        .name(getName() + " - Reverse Edges");
+    }
+
+    DataSet<EdgeWithTiePoint> edgeTuples = edges
+      .map(new ExtractKeyedCandidateEdges())
+      .name(getName() + " - Create candidate edge tuples")
+      .partitionByHash(0)
+      .name(getName() + " - Partition edge tuples");
+
+    DataSet<ReachedVertex> startVertices = input
+      .map(new CreateStartVertex(expandColumn))
+      .name(getName() + " - Create start vertices")
+      .distinct(0)
+      .name(getName() + " - Distinct start vertices");
+
+    // the visited vertices form the solution set, the vertices reached last form the workset
+    DeltaIteration<ReachedVertex, ReachedVertex> iteration = startVertices
+      .iterateDelta(startVertices, upperBound, 0, 1);
+
+    DataSet<ReachedVertex> newVertices = iteration.getWorkset()
+      .join(edgeTuples, joinHint)
+        .where(1).equalTo(0)
+        .with(new FollowEdges(semantics == PathSemantics.SHORTEST))
+        .name(getName() + " - Follow edges")
+      .coGroup(iteration.getSolutionSet())
+        .where(0, 1).equalTo(0, 1)
+        .with(new FilterUnvisited())
+        .name(getName() + " - Filter visited vertices");
+
+    DataSet<ReachedVertex> reachedVertices = iteration.closeWith(newVertices, newVertices);
+
+    AttachReachedVertex attach = new AttachReachedVertex(lowerBound, distinctVertexColumns,
+      distinctEdgeColumns, closingColumn);
+
+    return closingColumn >= 0 ?
+      input.join(reachedVertices, joinHint)
+        .where(new ExtractPathEndpoints(expandColumn, closingColumn))
+        .equalTo(new ExtractReachedEndpoints())
+        .with(attach)
+        .name(getName() + " - Attach paths") :
+      input.join(reachedVertices, joinHint)
+        .where(new ExtractExpandColumn(expandColumn)).equalTo(0)
+        .with(attach)
+        .name(getName() + " - Attach paths");
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.RichFlatJoinFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachedVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.List;
+
+/**
+ * Appends the path to a reached vertex and the vertex itself to an embedding.
+ *
+ * <ol>
+ * <li>Remove paths below lower bound length</li>
+ * <li>Remove paths visiting distinct vertices or edges of the embedding</li>
+ * <li>Append path and end vertex to the embedding</li>
+ * </ol>
+ */
+public class AttachReachedVertex
+  extends RichFlatJoinFunction<Embedding, ReachedVertex, Embedding> {
+  /**
+   * Minimum number of hops
+   */
+  private final int lowerBound;
+  /**
+   * Holds the index of all base vertex columns that should be distinct
+   */
+  private final List<Integer> distinctVertices;
+  /**
+   * Holds the index of all base edge columns that should be distinct
+   */
+  private final List<Integer> distinctEdges;
+  /**
+   * Specifies a base column that should be equal to the paths end node
+   */
+  private final int closingColumn;
+
+  /**
+   * Creates the join function
+   *
+   * @param lowerBound minimum number of hops
+   * @param distinctVertices indices of distinct vertex columns
+   * @param distinctEdges indices of distinct edge columns
+   * @param closingColumn base column that should be equal to a paths end node
+   */
+  public AttachReachedVertex(int lowerBound, List<Integer> distinctVertices,
+    List<Integer> distinctEdges, int closingColumn) {
+    this.lowerBound = lowerBound;
+    this.distinctVertices = distinctVertices;
+    this.distinctEdges = distinctEdges;
+    this.closingColumn = closingColumn;
+  }
+
+  @Override
+  public void join(Embedding input, ReachedVertex reached, Collector<Embedding> out)
+      throws Exception {
+    if (reached.getDistance() < lowerBound ||
+      (reached.getDistance() > 0 && !checkDistinctiveness(input, reached))) {
+      return;
+    }
+
+    // the input is joined with all vertices reached from its start vertex
+    Embedding embedding = input.copy();
+    embedding.add(reached.getPath());
+    embedding.add(reached.getVertex());
+    out.collect(embedding);
+  }
+
+  /**
+   * Checks if the path does not visit any distinct vertex or edge of the input. The end vertex
+   * may only be equal to the closing column.
+   *
+   * @param input input embedding
+   * @param reached reached vertex
+   * @return true, if the path is valid
+   */
+  private boolean checkDistinctiveness(Embedding input, ReachedVertex reached) {
+    GradoopId[] path = reached.getPath();
+
+    for (int i : distinctVertices) {
+      List<GradoopId> ids = input.getIdAsList(i);
+      if (ids.contains(reached.getVertex()) && i != closingColumn) {
+        return false;
+      }
+      // vertices are stored at odd positions of the path
+      for (int j = 1; j < path.length; j += 2) {
+        if (ids.contains(path[j])) {
+          return false;
+        }
+      }
+    }
+
+    for (int i : distinctEdges) {
+      List<GradoopId> ids = input.getIdAsList(i);
+      for (int j = 0; j < path.length; j += 2) {
+        if (ids.contains(path[j])) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+}
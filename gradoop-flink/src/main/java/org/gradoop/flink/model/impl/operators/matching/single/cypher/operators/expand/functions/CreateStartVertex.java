@@ -0,0 +1,48 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachedVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Creates the start of a breadth first search from the expand column of an embedding
+ */
+public class CreateStartVertex extends RichMapFunction<Embedding, ReachedVertex> {
+  /**
+   * Column that holds the id of the start vertex
+   */
+  private final int column;
+
+  /**
+   * Creates the map function
+   *
+   * @param column column that holds the id of the start vertex
+   */
+  public CreateStartVertex(int column) {
+    this.column = column;
+  }
+
+  @Override
+  public ReachedVertex map(Embedding value) throws Exception {
+    GradoopId id = value.getId(column);
+    return new ReachedVertex(id, id, 0, new GradoopId[0]);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Extracts the join key of a half path, which consists of all ids stored in the base embedding
+ * and the end of the path. Half paths grown from the same embedding towards each other share a
+ * key iff they meet at the same vertex.
+ */
+public class ExtractMeetingKey implements KeySelector<ExpandEmbedding, String> {
+  /**
+   * Stores the concatenated id string
+   */
+  private final StringBuilder sb;
+
+  /**
+   * Creates the key selector
+   */
+  public ExtractMeetingKey() {
+    this.sb = new StringBuilder();
+  }
+
+  @Override
+  public String getKey(ExpandEmbedding value) throws Exception {
+    sb.delete(0, sb.length());
+    Embedding base = value.getBase();
+    for (int column = 0; column < base.size(); column++) {
+      // path entries are compared by their content, since list pointers are random ids
+      for (GradoopId id : base.getIdAsList(column)) {
+        sb.append(id);
+      }
+      sb.append('|');
+    }
+    sb.append(value.getEnd());
+    return sb.toString();
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Extracts the ids of the first and last vertex of a path from an embedding, in which both are
+ * already bound.
+ */
+public class ExtractPathEndpoints implements KeySelector<Embedding, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Column that holds the id of the first vertex
+   */
+  private final int startColumn;
+  /**
+   * Column that holds the id of the last vertex
+   */
+  private final int endColumn;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Creates the key selector
+   *
+   * @param startColumn column that holds the id of the first vertex
+   * @param endColumn column that holds the id of the last vertex
+   */
+  public ExtractPathEndpoints(int startColumn, int endColumn) {
+    this.startColumn = startColumn;
+    this.endColumn = endColumn;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> getKey(Embedding value) throws Exception {
+    reuseTuple.f0 = value.getId(startColumn);
+    reuseTuple.f1 = value.getId(endColumn);
+    return reuseTuple;
+  }
+}
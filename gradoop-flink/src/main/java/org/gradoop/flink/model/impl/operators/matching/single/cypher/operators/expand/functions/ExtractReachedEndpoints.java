@@ -0,0 +1,48 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachedVertex;
+
+/**
+ * Extracts the ids of the start vertex and the reached vertex of a breadth first search.
+ */
+public class ExtractReachedEndpoints
+  implements KeySelector<ReachedVertex, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Creates the key selector
+   */
+  public ExtractReachedEndpoints() {
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> getKey(ReachedVertex value) throws Exception {
+    reuseTuple.f0 = value.getSource();
+    reuseTuple.f1 = value.getVertex();
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.RichCoGroupFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachedVertex;
+
+import java.util.Iterator;
+
+/**
+ * Keeps a single newly reached vertex per start vertex, if the vertex has not been visited in a
+ * previous step of the breadth first search. The second input is the set of visited vertices.
+ */
+public class FilterUnvisited
+  extends RichCoGroupFunction<ReachedVertex, ReachedVertex, ReachedVertex> {
+
+  @Override
+  public void coGroup(Iterable<ReachedVertex> candidates, Iterable<ReachedVertex> visited,
+    Collector<ReachedVertex> out) throws Exception {
+    Iterator<ReachedVertex> iterator = candidates.iterator();
+    if (iterator.hasNext() && !visited.iterator().hasNext()) {
+      out.collect(iterator.next());
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.RichJoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachedVertex;
+
+/**
+ * Follows the edges starting at the vertices reached in the last step of a breadth first search
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+@FunctionAnnotation.ForwardedFieldsSecond("f2->f1")
+public class FollowEdges
+  extends RichJoinFunction<ReachedVertex, EdgeWithTiePoint, ReachedVertex> {
+  /**
+   * True, if the paths shall be materialized
+   */
+  private final boolean materializePaths;
+
+  /**
+   * Creates the join function
+   *
+   * @param materializePaths true, if the paths shall be materialized
+   */
+  public FollowEdges(boolean materializePaths) {
+    this.materializePaths = materializePaths;
+  }
+
+  @Override
+  public ReachedVertex join(ReachedVertex vertex, EdgeWithTiePoint edge) throws Exception {
+    return vertex.follow(edge, materializePaths);
+  }
+}
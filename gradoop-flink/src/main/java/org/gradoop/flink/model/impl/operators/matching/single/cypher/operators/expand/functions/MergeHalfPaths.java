@@ -0,0 +1,134 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.RichFlatJoinFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Combines a forward half path with a backward half path that meets it at the same vertex.
+ *
+ * <ol>
+ * <li>Remove combinations which do not split the path at its middle</li>
+ * <li>Remove paths violating the length bounds</li>
+ * <li>Remove paths whose halves share a vertex or an edge if required</li>
+ * <li>Turn the combined path into an embedding</li>
+ * </ol>
+ *
+ * Both halves have already been checked against the distinct columns of the base embedding.
+ */
+public class MergeHalfPaths
+  extends RichFlatJoinFunction<ExpandEmbedding, ExpandEmbedding, Embedding> {
+
+  /**
+   * Minimum number of hops
+   */
+  private final int lowerBound;
+  /**
+   * Maximum number of hops
+   */
+  private final int upperBound;
+  /**
+   * Specifies the base column which holds the end of the path
+   */
+  private final int closingColumn;
+  /**
+   * True, if the path vertices have to be distinct
+   */
+  private final boolean distinctVertices;
+  /**
+   * True, if the path edges have to be distinct
+   */
+  private final boolean distinctEdges;
+
+  /**
+   * Create a new merge function
+   *
+   * @param lowerBound minimum number of hops
+   * @param upperBound maximum number of hops
+   * @param closingColumn base column which holds the end of the path
+   * @param distinctVertices true, if path vertices have to be distinct
+   * @param distinctEdges true, if path edges have to be distinct
+   */
+  public MergeHalfPaths(int lowerBound, int upperBound, int closingColumn,
+    boolean distinctVertices, boolean distinctEdges) {
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.closingColumn = closingColumn;
+    this.distinctVertices = distinctVertices;
+    this.distinctEdges = distinctEdges;
+  }
+
+  @Override
+  public void join(ExpandEmbedding forward, ExpandEmbedding backward, Collector<Embedding> out)
+      throws Exception {
+
+    GradoopId[] forwardPath = forward.getPath();
+    GradoopId[] backwardPath = backward.getPath();
+
+    int forwardHops = (forwardPath.length + 1) / 2;
+    int backwardHops = (backwardPath.length + 1) / 2;
+    int hops = forwardHops + backwardHops;
+
+    if (forwardHops - backwardHops < 0 || forwardHops - backwardHops > 1 ||
+      hops < lowerBound || hops > upperBound) {
+      return;
+    }
+
+    // vertices are stored at odd, edges at even positions of the path
+    if ((distinctVertices && shareEntry(forwardPath, backwardPath, 1)) ||
+      (distinctEdges && shareEntry(forwardPath, backwardPath, 0))) {
+      return;
+    }
+
+    GradoopId[] path = new GradoopId[forwardPath.length + 1 + backwardPath.length];
+    System.arraycopy(forwardPath, 0, path, 0, forwardPath.length);
+    path[forwardPath.length] = forward.getEnd();
+    for (int i = 0; i < backwardPath.length; i++) {
+      path[path.length - 1 - i] = backwardPath[i];
+    }
+
+    // the base is shared by all paths of the forward half
+    Embedding embedding = forward.getBase().copy();
+    embedding.add(path);
+    embedding.add(embedding.getId(closingColumn));
+    out.collect(embedding);
+  }
+
+  /**
+   * Checks if both paths contain the same id at a position with the given parity.
+   *
+   * @param left first path
+   * @param right second path
+   * @param start 0 to compare edges, 1 to compare vertices
+   * @return true, if an id is contained in both paths
+   */
+  private boolean shareEntry(GradoopId[] left, GradoopId[] right, int start) {
+    for (int i = start; i < left.length; i += 2) {
+      for (int j = start; j < right.length; j += 2) {
+        if (left[i].equals(right[j])) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
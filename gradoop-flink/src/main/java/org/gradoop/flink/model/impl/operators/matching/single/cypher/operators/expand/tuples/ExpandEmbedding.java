@@ -102,6 +102,7 @@ public class ExpandEmbedding extends Tuple3<Embedding, GradoopId[], GradoopId> {
    */
   public Embedding toEmbedding() {
     Embedding embedding = getBase();
+    embedding.reserve(2, f1.length);
     embedding.add(f1);
     embedding.add(f2);
 
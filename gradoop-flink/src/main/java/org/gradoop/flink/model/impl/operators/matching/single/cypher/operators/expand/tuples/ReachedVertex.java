@@ -0,0 +1,100 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Represents a vertex reached by a breadth first search
+ *
+ * f0 -> id of the vertex the search started at
+ * f1 -> id of the reached vertex
+ * f2 -> number of hops
+ * f3 -> path (edge, vertex, edge, vertex, ..., edge), empty if paths are not materialized
+ */
+public class ReachedVertex extends Tuple4<GradoopId, GradoopId, Integer, GradoopId[]> {
+
+  /**
+   * Creates an empty Object
+   */
+  public ReachedVertex() {
+  }
+
+  /**
+   * Creates a new reached vertex
+   *
+   * @param source id of the vertex the search started at
+   * @param vertex id of the reached vertex
+   * @param distance number of hops
+   * @param path path from the source to the reached vertex
+   */
+  public ReachedVertex(GradoopId source, GradoopId vertex, int distance, GradoopId[] path) {
+    super(source, vertex, distance, path);
+  }
+
+  /**
+   * Get source id
+   * @return id of the vertex the search started at
+   */
+  public GradoopId getSource() {
+    return f0;
+  }
+
+  /**
+   * Get vertex id
+   * @return id of the reached vertex
+   */
+  public GradoopId getVertex() {
+    return f1;
+  }
+
+  /**
+   * Get distance
+   * @return number of hops
+   */
+  public int getDistance() {
+    return f2;
+  }
+
+  /**
+   * Get path
+   * @return path from the source to the reached vertex
+   */
+  public GradoopId[] getPath() {
+    return f3;
+  }
+
+  /**
+   * Follows the given edge from the reached vertex.
+   *
+   * @param edge edge starting at the reached vertex
+   * @param materializePath true, if the path shall be extended
+   * @return vertex reached via the edge
+   */
+  public ReachedVertex follow(EdgeWithTiePoint edge, boolean materializePath) {
+    GradoopId[] path = f3;
+    if (materializePath) {
+      path = f3.length == 0 ?
+        new GradoopId[] {edge.getId()} :
+        ArrayUtils.addAll(f3, f1, edge.getId());
+    }
+    return new ReachedVertex(f0, edge.getTarget(), f2 + 1, path);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters the alternatives of one side of a {@link FactorizedEmbedding} by given predicates.
+ * The predicates must only reference variables of that side. Factorized embeddings without
+ * remaining alternatives are removed.
+ */
+public class FilterFactorizedEmbedding
+  implements FlatMapFunction<FactorizedEmbedding, FactorizedEmbedding> {
+  /**
+   * Predicates used for filtering
+   */
+  private final CNF predicates;
+  /**
+   * Mapping of variables names to embedding column of the filtered side
+   */
+  private final EmbeddingMetaData metaData;
+  /**
+   * True, if the left alternatives are filtered, false for the right alternatives
+   */
+  private final boolean filterLeft;
+
+  /**
+   * New factorized embedding filter function
+   *
+   * @param predicates predicates used for filtering
+   * @param metaData mapping of variable names to embedding column of the filtered side
+   * @param filterLeft true, if the left alternatives are filtered
+   */
+  public FilterFactorizedEmbedding(CNF predicates, EmbeddingMetaData metaData,
+    boolean filterLeft) {
+    this.predicates = predicates;
+    this.metaData = metaData;
+    this.filterLeft = filterLeft;
+  }
+
+  @Override
+  public void flatMap(FactorizedEmbedding factorizedEmbedding,
+    Collector<FactorizedEmbedding> out) throws Exception {
+    List<Embedding> alternatives = filterLeft ?
+      factorizedEmbedding.getLeft() : factorizedEmbedding.getRight();
+
+    List<Embedding> filtered = new ArrayList<>(alternatives.size());
+    for (Embedding embedding : alternatives) {
+      if (predicates.evaluate(embedding, metaData)) {
+        filtered.add(embedding);
+      }
+    }
+    if (filtered.isEmpty()) {
+      return;
+    }
+
+    if (filterLeft) {
+      factorizedEmbedding.setLeft(filtered);
+    } else {
+      factorizedEmbedding.setRight(filtered);
+    }
+    out.collect(factorizedEmbedding);
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.functions.tuple.ValueOf1;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.EmbeddingAggregator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.functions.AggregateFactorizedEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.CountFactorizedEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.CreateFactorizedEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractJoinColumns;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.FlattenFactorizedEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Joins two embeddings at given columns, but keeps the result in factorized form.
+ *
+ * Instead of emitting one embedding per matching pair, all left and right embeddings sharing
+ * the same join key are collected into a single {@link FactorizedEmbedding}. For a key with
+ * {@code n} left and {@code m} right embeddings, the result has a size of {@code n + m}
+ * instead of {@code n * m} embeddings.
+ *
+ * {@link #flatten(DataSet)} creates the same embeddings as {@link JoinEmbeddings}, including
+ * the checks for vertex/edge isomorphism/homomorphism. {@link #count(DataSet)} counts and
+ * {@link #aggregate(DataSet, EmbeddingAggregator)} aggregates them without materializing them.
+ */
+public class FactorizedJoinEmbeddings {
+  /**
+   * Left side embeddings
+   */
+  private final DataSet<Embedding> left;
+  /**
+   * Right side embeddings
+   */
+  private final DataSet<Embedding> right;
+  /**
+   * Number of columns in the right embedding.
+   */
+  private final int rightColumns;
+  /**
+   * Left side join columns
+   */
+  private final List<Integer> leftJoinColumns;
+  /**
+   * Right side join columns
+   */
+  private final List<Integer> rightJoinColumns;
+  /**
+   * Columns that represent vertices in the left embedding which need to be distinct
+   */
+  private final List<Integer> distinctVertexColumnsLeft;
+  /**
+   * Columns that represent vertices in the right embedding which need to be distinct
+   */
+  private final List<Integer> distinctVertexColumnsRight;
+  /**
+   * Columns that represent edges in the left embedding which need to be distinct
+   */
+  private final List<Integer> distinctEdgeColumnsLeft;
+  /**
+   * Columns that represent edges in the right embedding which need to be distinct
+   */
+  private final List<Integer> distinctEdgeColumnsRight;
+
+  /**
+   * Operator name
+   */
+  private String name;
+
+  /**
+   * Instantiates a new factorized join operator.
+   *
+   * @param left embeddings of the left side of the join
+   * @param right embeddings of the right side of the join
+   * @param rightColumns number of columns in the right side of the join
+   * @param leftJoinColumns specifies the join columns of the left side
+   * @param rightJoinColumns specifies the join columns of the right side
+   */
+  public FactorizedJoinEmbeddings(DataSet<Embedding> left, DataSet<Embedding> right,
+    int rightColumns,
+    List<Integer> leftJoinColumns, List<Integer> rightJoinColumns) {
+    this(left, right, rightColumns,
+      leftJoinColumns, rightJoinColumns,
+      Collections.emptyList(), Collections.emptyList(),
+      Collections.emptyList(), Collections.emptyList());
+  }
+
+  /**
+   * Instantiates a new factorized join operator.
+   *
+   * @param left embeddings of the left side of the join
+   * @param right embeddings of the right side of the join
+   * @param rightColumns number of columns in the right side of the join
+   * @param leftJoinColumns specifies the join columns of the left side
+   * @param rightJoinColumns specifies the join columns of the right side
+   * @param distinctVertexColumnsLeft distinct vertex columns of the left embedding
+   * @param distinctVertexColumnsRight distinct vertex columns of the right embedding
+   * @param distinctEdgeColumnsLeft distinct edge columns of the left embedding
+   * @param distinctEdgeColumnsRight distinct edge columns of the right embedding
+   */
+  public FactorizedJoinEmbeddings(DataSet<Embedding> left, DataSet<Embedding> right,
+    int rightColumns,
+    List<Integer> leftJoinColumns, List<Integer> rightJoinColumns,
+    List<Integer> distinctVertexColumnsLeft, List<Integer> distinctVertexColumnsRight,
+    List<Integer> distinctEdgeColumnsLeft, List<Integer> distinctEdgeColumnsRight) {
+    this.left                       = left;
+    this.right                      = right;
+    this.rightColumns               = rightColumns;
+    this.leftJoinColumns            = leftJoinColumns;
+    this.rightJoinColumns           = rightJoinColumns;
+    this.distinctVertexColumnsLeft  = distinctVertexColumnsLeft;
+    this.distinctVertexColumnsRight = distinctVertexColumnsRight;
+    this.distinctEdgeColumnsLeft    = distinctEdgeColumnsLeft;
+    this.distinctEdgeColumnsRight   = distinctEdgeColumnsRight;
+    this.setName("FactorizedJoinEmbeddings");
+  }
+
+  /**
+   * Groups both inputs by their join columns and creates one factorized embedding per join
+   * key that exists on both sides.
+   *
+   * @return factorized embeddings
+   */
+  public DataSet<FactorizedEmbedding> evaluate() {
+    return left.coGroup(right)
+      .where(new ExtractJoinColumns(leftJoinColumns))
+      .equalTo(new ExtractJoinColumns(rightJoinColumns))
+      .with(new CreateFactorizedEmbedding())
+      .name(getName());
+  }
+
+  /**
+   * Creates the flat embeddings represented by the given factorized embeddings, which need to
+   * be computed by this operator (and optionally filtered or projected afterwards).
+   *
+   * @param factorizedEmbeddings factorized embeddings
+   * @return flat embeddings
+   */
+  public DataSet<Embedding> flatten(DataSet<FactorizedEmbedding> factorizedEmbeddings) {
+    return factorizedEmbeddings
+      .flatMap(new FlattenFactorizedEmbedding(createMergeFunction()))
+      .name(getName() + ".flatten");
+  }
+
+  /**
+   * Counts the flat embeddings represented by the given factorized embeddings, which need to be
+   * computed by this operator (and optionally filtered or projected afterwards).
+   *
+   * @param factorizedEmbeddings factorized embeddings
+   * @return 1-element data set containing the number of flat embeddings
+   */
+  public DataSet<Long> count(DataSet<FactorizedEmbedding> factorizedEmbeddings) {
+    return factorizedEmbeddings
+      .map(new CountFactorizedEmbedding(createMergeFunction()))
+      .name(getName() + ".count")
+      .union(factorizedEmbeddings.getExecutionEnvironment().fromElements(new Tuple1<>(0L)))
+      .sum(0)
+      .map(new ValueOf1<>());
+  }
+
+  /**
+   * Creates the partial aggregates of the flat embeddings represented by the given factorized
+   * embeddings, which need to be computed by this operator (and optionally filtered or projected
+   * afterwards). The flat embeddings are not materialized.
+   *
+   * @param factorizedEmbeddings factorized embeddings
+   * @param aggregator aggregator evaluating the return items on the left and right alternatives
+   * @return (grouping values, aggregate values)
+   */
+  public DataSet<Tuple2<PropertyValueList, PropertyValueList>> aggregate(
+    DataSet<FactorizedEmbedding> factorizedEmbeddings, EmbeddingAggregator aggregator) {
+    return factorizedEmbeddings
+      .flatMap(new AggregateFactorizedEmbedding(aggregator, createMergeFunction()))
+      .name(getName() + ".aggregate");
+  }
+
+  /**
+   * Creates the function which merges a left and a right embedding.
+   *
+   * @return merge function
+   */
+  private MergeEmbeddings createMergeFunction() {
+    return new MergeEmbeddings(rightColumns, rightJoinColumns,
+      distinctVertexColumnsLeft, distinctVertexColumnsRight,
+      distinctEdgeColumnsLeft, distinctEdgeColumnsRight);
+  }
+
+  /**
+   * Set the operator description
+   * This is used for Flink operator naming
+   *
+   * @param newName operator description
+   */
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  /**
+   * Get the operator description
+   * This is used for Flink operator naming
+   *
+   * @return operator description
+   */
+  public String getName() {
+    return this.name;
+  }
+}
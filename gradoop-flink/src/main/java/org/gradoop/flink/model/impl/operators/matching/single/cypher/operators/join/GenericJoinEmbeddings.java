@@ -0,0 +1,210 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.AttachCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.BuildAdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExpandCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractJoinColumns;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.IntersectCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Joins a set of edge embeddings forming a (cyclic) pattern using a worst-case optimal join
+ * algorithm (Generic Join).
+ *
+ * Instead of joining the edges pairwise, the query vertices are bound one after another in a
+ * given order. For each vertex, the partial bindings are joined with the sorted adjacency lists
+ * of all edges connecting the vertex to an already bound vertex. The adjacency lists are
+ * partitioned by their owning vertex and intersected in a leapfrog fashion, so that only the
+ * candidates which satisfy all edges are expanded. In contrast to a chain of binary joins, no
+ * intermediate result contains bindings which are pruned by a closing edge later.
+ *
+ * Each input embedding has the form (source, edge, target). The result is always a new
+ * embedding with the following constraints.
+ *
+ * <ul>
+ * <li>the first columns contain the vertices in the given order</li>
+ * <li>the vertices are followed by the edges in the order of their input data sets</li>
+ * <li>the properties of all edges are appended in the order of their input data sets</li>
+ * </ul>
+ *
+ * Every vertex but the first one must be connected by an edge to a vertex preceding it.
+ */
+public class GenericJoinEmbeddings implements PhysicalOperator {
+  /**
+   * Edge embeddings of the form (source, edge, target)
+   */
+  private final List<DataSet<Embedding>> edges;
+  /**
+   * Result column of the source vertex of each edge
+   */
+  private final List<Integer> sourceColumns;
+  /**
+   * Result column of the target vertex of each edge
+   */
+  private final List<Integer> targetColumns;
+  /**
+   * Number of vertices to bind
+   */
+  private final int vertexCount;
+  /**
+   * True, if the vertex bindings need to be distinct
+   */
+  private final boolean distinctVertices;
+  /**
+   * True, if the edge bindings need to be distinct
+   */
+  private final boolean distinctEdges;
+  /**
+   * Operator name
+   */
+  private String name;
+
+  /**
+   * Instantiates a new generic join operator.
+   *
+   * @param edges edge embeddings of the form (source, edge, target)
+   * @param sourceColumns result column of the source vertex of each edge
+   * @param targetColumns result column of the target vertex of each edge
+   * @param vertexCount number of vertices to bind
+   * @param distinctVertices true, if the vertex bindings need to be distinct
+   * @param distinctEdges true, if the edge bindings need to be distinct
+   */
+  public GenericJoinEmbeddings(List<DataSet<Embedding>> edges,
+    List<Integer> sourceColumns, List<Integer> targetColumns, int vertexCount,
+    boolean distinctVertices, boolean distinctEdges) {
+    if (edges.size() != sourceColumns.size() || edges.size() != targetColumns.size()) {
+      throw new IllegalArgumentException("Source and target columns are required for each edge");
+    }
+    if (vertexCount < 2) {
+      throw new IllegalArgumentException("At least two vertices are required");
+    }
+    this.edges = edges;
+    this.sourceColumns = sourceColumns;
+    this.targetColumns = targetColumns;
+    this.vertexCount = vertexCount;
+    this.distinctVertices = distinctVertices;
+    this.distinctEdges = distinctEdges;
+    this.setName("GenericJoinEmbeddings");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    DataSet<Embedding> bindings = null;
+
+    for (int vertex = 1; vertex < vertexCount; vertex++) {
+      DataSet<Embedding> candidates = null;
+
+      for (int edge = 0; edge < edges.size(); edge++) {
+        int boundColumn;
+        DataSet<Embedding> adjacencyLists;
+        if (targetColumns.get(edge) == vertex && sourceColumns.get(edge) < vertex) {
+          boundColumn = sourceColumns.get(edge);
+          adjacencyLists = getAdjacencyLists(edge, 0, 2);
+        } else if (sourceColumns.get(edge) == vertex && targetColumns.get(edge) < vertex) {
+          boundColumn = targetColumns.get(edge);
+          adjacencyLists = getAdjacencyLists(edge, 2, 0);
+        } else {
+          continue;
+        }
+
+        if (candidates == null && bindings == null) {
+          // the adjacency lists of the first vertex are its bindings with candidates
+          candidates = adjacencyLists;
+        } else if (candidates == null) {
+          candidates = bindings.join(adjacencyLists)
+            .where(new ExtractJoinColumns(Collections.singletonList(boundColumn)))
+            .equalTo(new ExtractJoinColumns(Collections.singletonList(0)))
+            .with(new AttachCandidates())
+            .name(getName() + ".AttachCandidates(" + vertex + ")");
+        } else {
+          candidates = candidates.join(adjacencyLists)
+            .where(new ExtractJoinColumns(Collections.singletonList(boundColumn)))
+            .equalTo(new ExtractJoinColumns(Collections.singletonList(0)))
+            .with(new IntersectCandidates())
+            .name(getName() + ".IntersectCandidates(" + vertex + ")");
+        }
+      }
+
+      if (candidates == null) {
+        throw new IllegalArgumentException(
+          "Vertex " + vertex + " is not connected to a preceding vertex");
+      }
+      bindings = candidates
+        .flatMap(new ExpandCandidates(distinctVertices))
+        .name(getName() + ".ExpandCandidates(" + vertex + ")");
+    }
+
+    return attachEdges(bindings);
+  }
+
+  /**
+   * Attaches the edges to the vertex bindings. Since the bindings satisfy all edges, each join
+   * only multiplies the bindings by the number of parallel edges.
+   *
+   * @param bindings vertex bindings
+   * @return embeddings containing vertices and edges
+   */
+  private DataSet<Embedding> attachEdges(DataSet<Embedding> bindings) {
+    List<Integer> edgeColumns = new ArrayList<>();
+    for (int edge = 0; edge < edges.size(); edge++) {
+      JoinEmbeddings join = new JoinEmbeddings(bindings, edges.get(edge), 3,
+        Arrays.asList(sourceColumns.get(edge), targetColumns.get(edge)), Arrays.asList(0, 2),
+        Collections.emptyList(), Collections.emptyList(),
+        distinctEdges ? new ArrayList<>(edgeColumns) : Collections.emptyList(),
+        distinctEdges ? Collections.singletonList(1) : Collections.emptyList());
+      join.setName(getName() + ".AttachEdge(" + edge + ")");
+      bindings = join.evaluate();
+      edgeColumns.add(vertexCount + edge);
+    }
+    return bindings;
+  }
+
+  /**
+   * Groups the given edges by one of their vertices and builds the sorted adjacency lists.
+   *
+   * @param edge index of the edge data set
+   * @param keyColumn column of the vertex which owns the adjacency list
+   * @param neighborColumn column of the neighbor vertex
+   * @return adjacency lists of the form (vertex, [neighbors])
+   */
+  private DataSet<Embedding> getAdjacencyLists(int edge, int keyColumn, int neighborColumn) {
+    return edges.get(edge)
+      .groupBy(new ExtractJoinColumns(Collections.singletonList(keyColumn)))
+      .reduceGroup(new BuildAdjacencyList(keyColumn, neighborColumn))
+      .name(getName() + ".BuildAdjacencyList(" + edge + ")");
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Appends the neighbors stored in an adjacency list to a partial vertex binding. The neighbors
+ * are the candidates for the next vertex to bind.
+ *
+ * (v0,v1),(v1,[v2,v5]) -> (v0,v1,[v2,v5])
+ */
+public class AttachCandidates implements JoinFunction<Embedding, Embedding, Embedding> {
+
+  @Override
+  public Embedding join(Embedding binding, Embedding adjacencyList) throws Exception {
+    byte[] bindingIds = binding.getIdData();
+    byte[] listEntry = adjacencyList.getRawIdEntry(1);
+
+    byte[] idData = new byte[bindingIds.length + listEntry.length];
+    System.arraycopy(bindingIds, 0, idData, 0, bindingIds.length);
+    System.arraycopy(listEntry, 0, idData, bindingIds.length, listEntry.length);
+
+    return new Embedding(idData, new byte[0], adjacencyList.getIdListData());
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.TreeSet;
+
+/**
+ * Builds the sorted adjacency list of a vertex from a group of edge embeddings sharing the
+ * same vertex at the key column.
+ *
+ * The resulting embedding contains the vertex id and an id list of its distinct neighbors in
+ * ascending order.
+ *
+ * [(v0,e0,v1),(v0,e1,v3),(v0,e2,v1)] -> (v0,[v1,v3])
+ */
+public class BuildAdjacencyList implements GroupReduceFunction<Embedding, Embedding> {
+  /**
+   * Column of the vertex which owns the adjacency list
+   */
+  private final int keyColumn;
+  /**
+   * Column of the neighbor vertex
+   */
+  private final int neighborColumn;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param keyColumn column of the vertex which owns the adjacency list
+   * @param neighborColumn column of the neighbor vertex
+   */
+  public BuildAdjacencyList(int keyColumn, int neighborColumn) {
+    this.keyColumn = keyColumn;
+    this.neighborColumn = neighborColumn;
+  }
+
+  @Override
+  public void reduce(Iterable<Embedding> edges, Collector<Embedding> out) throws Exception {
+    GradoopId key = null;
+    TreeSet<GradoopId> neighbors = new TreeSet<>();
+    for (Embedding edge : edges) {
+      if (key == null) {
+        key = edge.getId(keyColumn);
+      }
+      neighbors.add(edge.getId(neighborColumn));
+    }
+
+    Embedding adjacencyList = new Embedding();
+    adjacencyList.add(key);
+    adjacencyList.add(neighbors.toArray(new GradoopId[neighbors.size()]));
+    out.collect(adjacencyList);
+  }
+}
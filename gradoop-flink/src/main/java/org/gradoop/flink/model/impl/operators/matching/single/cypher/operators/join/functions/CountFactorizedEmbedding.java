@@ -0,0 +1,67 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding;
+
+/**
+ * Counts the flat embeddings represented by a {@link FactorizedEmbedding} without creating
+ * them. Only the morphism constraints are checked for each combination of alternatives.
+ */
+public class CountFactorizedEmbedding
+  implements MapFunction<FactorizedEmbedding, Tuple1<Long>> {
+  /**
+   * Function used by the factorized join to merge alternatives
+   */
+  private final MergeEmbeddings mergeFunction;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple1<Long> reuseTuple;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param mergeFunction function used by the factorized join to merge alternatives
+   */
+  public CountFactorizedEmbedding(MergeEmbeddings mergeFunction) {
+    this.mergeFunction = mergeFunction;
+    this.reuseTuple = new Tuple1<>();
+  }
+
+  @Override
+  public Tuple1<Long> map(FactorizedEmbedding factorizedEmbedding) throws Exception {
+    long count;
+    if (mergeFunction.checksMorphism()) {
+      count = 0L;
+      for (Embedding left : factorizedEmbedding.getLeft()) {
+        for (Embedding right : factorizedEmbedding.getRight()) {
+          if (mergeFunction.isValid(left, right)) {
+            count++;
+          }
+        }
+      }
+    } else {
+      count = factorizedEmbedding.getCombinationCount();
+    }
+    reuseTuple.f0 = count;
+    return reuseTuple;
+  }
+}
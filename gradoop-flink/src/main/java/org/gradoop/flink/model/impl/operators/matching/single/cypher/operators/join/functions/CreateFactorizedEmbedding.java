@@ -0,0 +1,55 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects all left and right embeddings sharing the same join key into a single
+ * {@link FactorizedEmbedding}. Keys which only occur on one side do not produce an output.
+ */
+public class CreateFactorizedEmbedding
+  implements CoGroupFunction<Embedding, Embedding, FactorizedEmbedding> {
+
+  @Override
+  public void coGroup(Iterable<Embedding> leftEmbeddings, Iterable<Embedding> rightEmbeddings,
+    Collector<FactorizedEmbedding> out) throws Exception {
+    List<Embedding> left = new ArrayList<>();
+    for (Embedding embedding : leftEmbeddings) {
+      left.add(embedding);
+    }
+    if (left.isEmpty()) {
+      return;
+    }
+
+    List<Embedding> right = new ArrayList<>();
+    for (Embedding embedding : rightEmbeddings) {
+      right.add(embedding);
+    }
+    if (right.isEmpty()) {
+      return;
+    }
+
+    out.collect(new FactorizedEmbedding(left, right));
+  }
+}
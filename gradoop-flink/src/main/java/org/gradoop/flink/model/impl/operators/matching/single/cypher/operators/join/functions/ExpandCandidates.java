@@ -0,0 +1,79 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.Arrays;
+
+/**
+ * Extends a partial vertex binding by each of its candidates for the next vertex.
+ *
+ * (v0,v1,[v2,v5]) -> (v0,v1,v2),(v0,v1,v5)
+ */
+public class ExpandCandidates implements FlatMapFunction<Embedding, Embedding> {
+  /**
+   * True, if a candidate must not be bound to another query vertex already
+   */
+  private final boolean distinctVertices;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param distinctVertices true, if the vertex bindings need to be distinct
+   */
+  public ExpandCandidates(boolean distinctVertices) {
+    this.distinctVertices = distinctVertices;
+  }
+
+  @Override
+  public void flatMap(Embedding candidates, Collector<Embedding> out) throws Exception {
+    int candidateColumn = candidates.size() - 1;
+    byte[] bindingIds = Arrays.copyOf(candidates.getIdData(),
+      candidateColumn * Embedding.ID_ENTRY_SIZE);
+
+    for (GradoopId candidate : candidates.getIdList(candidateColumn)) {
+      if (distinctVertices && isBound(candidates, candidateColumn, candidate)) {
+        continue;
+      }
+      Embedding binding = new Embedding(bindingIds.clone(), new byte[0], new byte[0]);
+      binding.add(candidate);
+      out.collect(binding);
+    }
+  }
+
+  /**
+   * Checks if the given id is already bound to one of the vertex columns.
+   *
+   * @param candidates partial binding with candidates
+   * @param vertexColumns number of bound vertices
+   * @param id vertex id
+   * @return true, if the id is bound already
+   */
+  private boolean isBound(Embedding candidates, int vertexColumns, GradoopId id) {
+    for (int column = 0; column < vertexColumns; column++) {
+      if (candidates.getId(column).equals(id)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
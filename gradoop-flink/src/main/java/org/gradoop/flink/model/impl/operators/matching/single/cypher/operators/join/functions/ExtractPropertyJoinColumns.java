@@ -17,27 +17,24 @@
 
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang.ArrayUtils;
 import org.apache.flink.api.java.functions.KeySelector;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingKey;
 
 import java.util.List;
 
 /**
- * Given a set of property columns, this key selector returns a concatenated string containing the
- * property values of the specified columns.
+ * Given a set of property columns, this key selector returns a binary key containing the
+ * concatenated property values of the specified columns. Each value is prefixed with its length
+ * (var-int encoded), so different value combinations never result in the same key.
  *
- * ("Foo",42,0.5),[0,2] -> "Foo0.5"
+ * ("Foo",42,0.5),[0,2] -> [size("Foo"),"Foo",size(0.5),0.5]
  */
-public class ExtractPropertyJoinColumns implements KeySelector<Embedding, String> {
+public class ExtractPropertyJoinColumns implements KeySelector<Embedding, EmbeddingKey> {
   /**
    * Property columns to concatenate properties from
    */
-  private final List<Integer> properties;
-  /**
-   * Stores the concatenated key string
-   */
-  private final StringBuilder sb;
+  private final int[] properties;
 
   /**
    * Creates the key selector
@@ -45,16 +42,55 @@ public class ExtractPropertyJoinColumns implements KeySelector<Embedding, String
    * @param properties columns to create hash code from
    */
   public ExtractPropertyJoinColumns(List<Integer> properties) {
-    this.properties = properties;
-    this.sb = new StringBuilder();
+    this.properties = properties.stream().mapToInt(i -> i).toArray();
   }
 
   @Override
-  public String getKey(Embedding value) throws Exception {
-    sb.delete(0, sb.length());
-    for (Integer property : properties) {
-      sb.append(ArrayUtils.toString(value.getRawProperty(property)));
+  public EmbeddingKey getKey(Embedding value) throws Exception {
+    int size = 0;
+    for (int property : properties) {
+      int length = value.getRawPropertyValueSize(property);
+      size += getVarIntSize(length) + length;
+    }
+
+    byte[] key = new byte[size];
+    int offset = 0;
+    for (int property : properties) {
+      offset = writeVarInt(value.getRawPropertyValueSize(property), key, offset);
+      offset += value.copyRawPropertyValue(property, key, offset);
+    }
+    return new EmbeddingKey(key);
+  }
+
+  /**
+   * Returns the number of bytes needed to write the given value as var-int.
+   *
+   * @param value non-negative value
+   * @return number of bytes
+   */
+  private static int getVarIntSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  /**
+   * Writes a non-negative int using 7 bits per byte.
+   *
+   * @param value non-negative value
+   * @param target target array
+   * @param offset offset in the target array
+   * @return offset behind the written bytes
+   */
+  private static int writeVarInt(int value, byte[] target, int offset) {
+    while ((value & ~0x7F) != 0) {
+      target[offset++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
     }
-    return sb.toString();
+    target[offset++] = (byte) value;
+    return offset;
   }
 }
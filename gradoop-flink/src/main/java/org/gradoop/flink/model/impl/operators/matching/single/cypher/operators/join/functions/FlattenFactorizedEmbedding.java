@@ -0,0 +1,53 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding;
+
+/**
+ * Creates the flat embeddings represented by a {@link FactorizedEmbedding} by merging each
+ * left with each right alternative.
+ */
+public class FlattenFactorizedEmbedding
+  implements FlatMapFunction<FactorizedEmbedding, Embedding> {
+  /**
+   * Merges a left and a right alternative and checks the morphism constraints
+   */
+  private final MergeEmbeddings mergeFunction;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param mergeFunction function used by the factorized join to merge alternatives
+   */
+  public FlattenFactorizedEmbedding(MergeEmbeddings mergeFunction) {
+    this.mergeFunction = mergeFunction;
+  }
+
+  @Override
+  public void flatMap(FactorizedEmbedding factorizedEmbedding, Collector<Embedding> out)
+    throws Exception {
+    for (Embedding left : factorizedEmbedding.getLeft()) {
+      for (Embedding right : factorizedEmbedding.getRight()) {
+        mergeFunction.join(left, right, out);
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Intersects the candidates of a partial vertex binding with the neighbors stored in an
+ * adjacency list. Bindings without remaining candidates are dropped.
+ *
+ * Both lists are sorted, which allows to intersect them in a leapfrog fashion: the cursor of
+ * the list with the smaller current value seeks to the first value not smaller than the other
+ * cursor using exponential search. Thus, the intersection costs are bounded by the size of the
+ * smaller list.
+ *
+ * (v0,v1,[v2,v4,v5]),(v0,[v1,v4,v5,v7]) -> (v0,v1,[v4,v5])
+ */
+public class IntersectCandidates implements FlatJoinFunction<Embedding, Embedding, Embedding> {
+
+  @Override
+  public void join(Embedding candidates, Embedding adjacencyList, Collector<Embedding> out)
+    throws Exception {
+    int candidateColumn = candidates.size() - 1;
+    List<GradoopId> intersection = intersect(
+      candidates.getIdList(candidateColumn), adjacencyList.getIdList(1));
+
+    if (!intersection.isEmpty()) {
+      Embedding result = new Embedding(
+        Arrays.copyOf(candidates.getIdData(), candidateColumn * Embedding.ID_ENTRY_SIZE),
+        new byte[0], new byte[0]);
+      result.add(intersection.toArray(new GradoopId[intersection.size()]));
+      out.collect(result);
+    }
+  }
+
+  /**
+   * Intersects two sorted lists of distinct ids.
+   *
+   * @param first first sorted list
+   * @param second second sorted list
+   * @return sorted intersection
+   */
+  static List<GradoopId> intersect(List<GradoopId> first, List<GradoopId> second) {
+    List<GradoopId> intersection = new ArrayList<>(Math.min(first.size(), second.size()));
+    int i = 0;
+    int j = 0;
+    while (i < first.size() && j < second.size()) {
+      int comparison = first.get(i).compareTo(second.get(j));
+      if (comparison == 0) {
+        intersection.add(first.get(i));
+        i++;
+        j++;
+      } else if (comparison < 0) {
+        i = seek(first, i, second.get(j));
+      } else {
+        j = seek(second, j, first.get(i));
+      }
+    }
+    return intersection;
+  }
+
+  /**
+   * Returns the position of the first id in the sorted list which is not smaller than the given
+   * id, starting at the given position.
+   *
+   * @param ids sorted list
+   * @param from position to start at
+   * @param id id to seek
+   * @return position of the first id not smaller than the given one or the list size
+   */
+  private static int seek(List<GradoopId> ids, int from, GradoopId id) {
+    // gallop to find an upper bound
+    int low = from;
+    int step = 1;
+    int high = from + step;
+    while (high < ids.size() && ids.get(high).compareTo(id) < 0) {
+      low = high;
+      step <<= 1;
+      high = from + step;
+    }
+    high = Math.min(high, ids.size());
+    // binary search in (low, high]
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (ids.get(mid).compareTo(id) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
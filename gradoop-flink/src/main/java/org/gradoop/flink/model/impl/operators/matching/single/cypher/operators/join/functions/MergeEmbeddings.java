@@ -128,13 +128,22 @@ public class MergeEmbeddings implements
     join(value.f0, value.f1, out);
   }
 
+  /**
+   * Returns true, if merging requires to check distinct vertex or edge columns.
+   *
+   * @return true, if not all pairs of embeddings are valid
+   */
+  public boolean checksMorphism() {
+    return checkDistinctVertices || checkDistinctEdges;
+  }
+
   /**
    * Checks if the merged embedding would hold under morphism setting
    * @param left left embedding
    * @param right right embedding
    * @return true if the morphism condition holds
    */
-  protected boolean isValid(Embedding left, Embedding right) {
+  public boolean isValid(Embedding left, Embedding right) {
     boolean collect = false;
 
     // Vertex-Homomorphism + Edge-Homomorphism
@@ -211,17 +220,21 @@ public class MergeEmbeddings implements
    * @return the merged data represented as byte array
    */
   private byte[] mergeIdData(Embedding left, Embedding right) {
+    byte[] leftIdData = left.getIdData();
+    byte[] rightIdData = right.getIdData();
     byte[] newIdData = new byte[
-      left.getIdData().length +
-      right.getIdData().length -
+      leftIdData.length +
+      rightIdData.length -
       (joinColumnsRightSize * (Embedding.ID_ENTRY_SIZE))
     ];
 
-    int offset = left.getIdData().length;
-    System.arraycopy(left.getIdData(), 0, newIdData, 0, offset);
+    int offset = leftIdData.length;
+    System.arraycopy(leftIdData, 0, newIdData, 0, offset);
 
+    // entries have a fixed width, so they can be copied without decoding
     for (int i : nonJoinColumnsRight) {
-      System.arraycopy(right.getRawIdEntry(i), 0, newIdData, offset, Embedding.ID_ENTRY_SIZE);
+      System.arraycopy(rightIdData, i * Embedding.ID_ENTRY_SIZE, newIdData, offset,
+        Embedding.ID_ENTRY_SIZE);
       offset += Embedding.ID_ENTRY_SIZE;
     }
 
@@ -230,25 +243,45 @@ public class MergeEmbeddings implements
 
   /**
    * Merges the propertyData columns of the left and right embeddings
-   * All entries from both sides are kept.
+   * All entries from both sides are kept. If one side has no properties, the data of the other
+   * side is reused.
    *
    * @param left the left hand side embedding
    * @param right the right hand side embedding
    * @return the merged data represented as byte array
    */
   private byte[] mergePropertyData(Embedding left, Embedding right) {
-    return ArrayUtils.addAll(left.getPropertyData(), right.getPropertyData());
+    return concat(left.getPropertyData(), right.getPropertyData());
   }
 
   /**
    * Merges the idListData columns of the left and right embeddings
-   * All entries from both sides are kept.
+   * All entries from both sides are kept. If one side has no id lists, the data of the other
+   * side is reused.
    *
    * @param left the left hand side embedding
    * @param right the right hand side embedding
    * @return the merged data represented as byte array
    */
   private byte[] mergeIdListData(Embedding left, Embedding right) {
-    return ArrayUtils.addAll(left.getIdListData(), right.getIdListData());
+    return concat(left.getIdListData(), right.getIdListData());
+  }
+
+  /**
+   * Concatenates two byte arrays. Embeddings never modify their data in place once it has been
+   * shared, so an empty side allows to return the other array.
+   *
+   * @param left left array
+   * @param right right array
+   * @return concatenated array
+   */
+  private static byte[] concat(byte[] left, byte[] right) {
+    if (right.length == 0) {
+      return left;
+    }
+    if (left.length == 0) {
+      return right;
+    }
+    return ArrayUtils.addAll(left, right);
   }
 }
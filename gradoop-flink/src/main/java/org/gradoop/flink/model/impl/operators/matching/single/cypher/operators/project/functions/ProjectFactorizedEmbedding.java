@@ -0,0 +1,73 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Projects the alternatives of both sides of a {@link FactorizedEmbedding} by a set of
+ * properties.
+ */
+public class ProjectFactorizedEmbedding
+  implements MapFunction<FactorizedEmbedding, FactorizedEmbedding> {
+  /**
+   * Indices of the left properties that will be kept in the projection
+   */
+  private final List<Integer> leftWhiteList;
+  /**
+   * Indices of the right properties that will be kept in the projection
+   */
+  private final List<Integer> rightWhiteList;
+
+  /**
+   * Creates a new factorized embedding projection function
+   *
+   * @param leftWhiteList property indexes of the left alternatives that will be kept
+   * @param rightWhiteList property indexes of the right alternatives that will be kept
+   */
+  public ProjectFactorizedEmbedding(List<Integer> leftWhiteList, List<Integer> rightWhiteList) {
+    this.leftWhiteList = leftWhiteList;
+    this.rightWhiteList = rightWhiteList;
+  }
+
+  @Override
+  public FactorizedEmbedding map(FactorizedEmbedding factorizedEmbedding) {
+    factorizedEmbedding.setLeft(project(factorizedEmbedding.getLeft(), leftWhiteList));
+    factorizedEmbedding.setRight(project(factorizedEmbedding.getRight(), rightWhiteList));
+    return factorizedEmbedding;
+  }
+
+  /**
+   * Projects all given embeddings.
+   *
+   * @param embeddings alternatives of one side
+   * @param whiteList property indexes that will be kept
+   * @return projected alternatives
+   */
+  private static List<Embedding> project(List<Embedding> embeddings, List<Integer> whiteList) {
+    List<Embedding> projected = new ArrayList<>(embeddings.size());
+    for (Embedding embedding : embeddings) {
+      projected.add(embedding.project(whiteList));
+    }
+    return projected;
+  }
+}
@@ -17,19 +17,47 @@
 
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Keeps track of the leaf nodes in a query plan and computes a final selectivity factor resulting
  * from the applied predicates.
+ *
+ * Comparisons between a property and a literal are estimated using the property histograms of
+ * the {@link GraphStatistics}. If there is no histogram, equality is estimated via the number of
+ * distinct property values and fixed default selectivities are used otherwise. Disjunctions are
+ * combined by inclusion-exclusion and conjunctions by multiplication, assuming independence.
  */
 class FilterEstimator extends Estimator {
+  /**
+   * Selectivity of an equality predicate if there are no statistics
+   */
+  static final double DEFAULT_EQUALITY_SELECTIVITY = 0.1d;
+  /**
+   * Selectivity of a range predicate if there are no statistics
+   */
+  static final double DEFAULT_RANGE_SELECTIVITY = 1d / 3d;
+  /**
+   * Property key used for label predicates which are already covered by the cardinality
+   */
+  private static final String LABEL_KEY = "__label__";
   /**
    * The non-filtered cardinality of the leaf node.
    */
@@ -38,6 +66,10 @@ class FilterEstimator extends Estimator {
    * The resulting selectivity factor of all leaf predicates
    */
   private double selectivity;
+  /**
+   * Predicates that have already been considered
+   */
+  private final Set<CNFElement> visitedPredicates;
 
   /**
    * Creates a new estimator.
@@ -48,6 +80,7 @@ class FilterEstimator extends Estimator {
   FilterEstimator(QueryHandler queryHandler, GraphStatistics graphStatistics) {
     super(queryHandler, graphStatistics);
     this.selectivity = 1f;
+    this.visitedPredicates = new HashSet<>();
   }
 
   /**
@@ -103,6 +136,114 @@ class FilterEstimator extends Estimator {
    * @param predicates query predicates
    */
   private void updateSelectivity(CNF predicates) {
-    // TODO
+    for (CNFElement clause : predicates.getPredicates()) {
+      if (visitedPredicates.add(clause)) {
+        double mismatch = 1d;
+        for (ComparisonExpression comparison : clause.getPredicates()) {
+          mismatch *= 1d - estimateSelectivity(comparison);
+        }
+        selectivity *= 1d - mismatch;
+      }
+    }
+  }
+
+  /**
+   * Estimates the fraction of elements satisfying the given comparison.
+   *
+   * @param comparison comparison expression
+   * @return estimated selectivity
+   */
+  private double estimateSelectivity(ComparisonExpression comparison) {
+    QueryComparable lhs = comparison.getLhs();
+    QueryComparable rhs = comparison.getRhs();
+
+    if (lhs instanceof PropertySelectorComparable && rhs instanceof LiteralComparable) {
+      return estimateSelectivity((PropertySelectorComparable) lhs, comparison.getComparator(),
+        (LiteralComparable) rhs);
+    } else if (lhs instanceof LiteralComparable && rhs instanceof PropertySelectorComparable) {
+      return estimateSelectivity((PropertySelectorComparable) rhs,
+        mirror(comparison.getComparator()), (LiteralComparable) lhs);
+    }
+    return getDefaultSelectivity(comparison.getComparator(), DEFAULT_EQUALITY_SELECTIVITY);
+  }
+
+  /**
+   * Estimates the fraction of elements satisfying {@code property <comparator> literal}.
+   *
+   * @param property property selector
+   * @param comparator comparator
+   * @param literal literal value
+   * @return estimated selectivity
+   */
+  private double estimateSelectivity(PropertySelectorComparable property, Comparator comparator,
+    LiteralComparable literal) {
+    if (property.getPropertyKey().equals(LABEL_KEY)) {
+      return 1d;
+    }
+    String variable = property.getVariable();
+    boolean isVertex = getQueryHandler().isVertex(variable);
+    String label = getLabel(variable, isVertex);
+    GraphStatistics statistics = getGraphStatistics();
+
+    PropertyHistogram histogram = isVertex ?
+      statistics.getVertexPropertyHistogram(label, property.getPropertyKey()) :
+      statistics.getEdgePropertyHistogram(label, property.getPropertyKey());
+
+    if (histogram != null) {
+      double matches =
+        histogram.estimateCount(comparator, PropertyValue.create(literal.getValue()));
+      return Math.min(1d, Math.max(0d, matches / getCardinality(label, isVertex)));
+    }
+
+    long distinctValues = isVertex ?
+      statistics.getDistinctVertexProperties(label, property.getPropertyKey()) :
+      statistics.getDistinctEdgeProperties(label, property.getPropertyKey());
+    if (distinctValues == 0) {
+      distinctValues = isVertex ?
+        statistics.getDistinctVertexProperties(property.getPropertyKey()) :
+        statistics.getDistinctEdgeProperties(property.getPropertyKey());
+    }
+    return getDefaultSelectivity(comparator,
+      distinctValues > 0 ? 1d / distinctValues : DEFAULT_EQUALITY_SELECTIVITY);
+  }
+
+  /**
+   * Returns the selectivity of a comparison without a histogram.
+   *
+   * @param comparator comparator
+   * @param equalitySelectivity selectivity of an equality comparison
+   * @return estimated selectivity
+   */
+  private static double getDefaultSelectivity(Comparator comparator,
+    double equalitySelectivity) {
+    switch (comparator) {
+    case EQ:
+      return equalitySelectivity;
+    case NEQ:
+      return 1d - equalitySelectivity;
+    default:
+      return DEFAULT_RANGE_SELECTIVITY;
+    }
+  }
+
+  /**
+   * Returns the comparator resulting from swapping both sides of a comparison.
+   *
+   * @param comparator comparator
+   * @return mirrored comparator
+   */
+  private static Comparator mirror(Comparator comparator) {
+    switch (comparator) {
+    case LT:
+      return Comparator.GT;
+    case LTE:
+      return Comparator.GTE;
+    case GT:
+      return Comparator.LT;
+    case GTE:
+      return Comparator.LTE;
+    default:
+      return comparator;
+    }
   }
 }
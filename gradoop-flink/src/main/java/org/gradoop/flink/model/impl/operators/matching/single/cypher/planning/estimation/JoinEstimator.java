@@ -18,12 +18,15 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
 
 import com.google.common.collect.Lists;
+import org.gradoop.flink.model.impl.operators.matching.common.query.PathSemantics;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.s1ck.gdl.model.Edge;
 
 import java.util.Collection;
@@ -73,6 +76,13 @@ class JoinEstimator extends Estimator {
         process(binaryNode.getRightChild().getEmbeddingMetaData());
       }
     }
+    if (node instanceof NaryNode) {
+      for (PlanNode child : ((NaryNode) node).getChildren()) {
+        if (child instanceof LeafNode) {
+          process(child.getEmbeddingMetaData());
+        }
+      }
+    }
   }
 
   /**
@@ -147,9 +157,14 @@ class JoinEstimator extends Estimator {
     Edge queryEdge = getQueryHandler().getEdgeByVariable(edgeVariable);
     if (queryEdge.getUpperBound() > 1) {
       // variable case: n-hop edge
-      updateCardinality(edgeVariable, getPathCardinality(getCardinality(edgeLabel, false),
+      long pathCardinality = getPathCardinality(getCardinality(edgeLabel, false),
         queryEdge.getLowerBound(), queryEdge.getUpperBound(),
-        distinctSourceCount, distinctTargetCount));
+        distinctSourceCount, distinctTargetCount);
+      if (getQueryHandler().getPathSemantics(edgeVariable) != PathSemantics.ALL) {
+        // at most one path per pair of start and end vertex
+        pathCardinality = Math.min(pathCardinality, distinctSourceCount * distinctTargetCount);
+      }
+      updateCardinality(edgeVariable, pathCardinality);
     } else {
       // static case: 1-hop edge
       updateCardinality(edgeVariable, getCardinality(edgeLabel, false));
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+
+/**
+ * Chooses the execution strategy of a join between two embedding data sets according to their
+ * estimated cardinalities.
+ *
+ * Broadcasting an input with cardinality {@code s} to {@code p} workers ships {@code s * p}
+ * embeddings, while repartitioning both inputs ships {@code s + l} embeddings. The smaller input
+ * is broadcast if this is cheaper and the input does not exceed the broadcast threshold, which
+ * bounds the size of the hash table built by each worker. Otherwise both inputs are
+ * repartitioned: if one input is considerably smaller, the hash table is built on that side,
+ * else both inputs are sorted and merged.
+ */
+public class JoinHintSelector {
+  /**
+   * Default maximum number of embeddings to broadcast
+   */
+  public static final long DEFAULT_BROADCAST_THRESHOLD = 1_000_000L;
+  /**
+   * Minimum ratio between the larger and the smaller input to build a hash table on the smaller
+   * input instead of sorting both inputs
+   */
+  public static final long HASH_RATIO = 4L;
+  /**
+   * Number of parallel workers a broadcast input is shipped to
+   */
+  private final int parallelism;
+  /**
+   * Maximum number of embeddings to broadcast
+   */
+  private final long broadcastThreshold;
+
+  /**
+   * Creates a new selector using the default broadcast threshold.
+   *
+   * @param parallelism number of parallel workers
+   */
+  public JoinHintSelector(int parallelism) {
+    this(parallelism, DEFAULT_BROADCAST_THRESHOLD);
+  }
+
+  /**
+   * Creates a new selector.
+   *
+   * @param parallelism number of parallel workers
+   * @param broadcastThreshold maximum number of embeddings to broadcast
+   */
+  public JoinHintSelector(int parallelism, long broadcastThreshold) {
+    this.parallelism = Math.max(parallelism, 1);
+    this.broadcastThreshold = broadcastThreshold;
+  }
+
+  /**
+   * Selects the join strategy for the given input cardinalities.
+   *
+   * @param leftCardinality estimated cardinality of the left (first) input
+   * @param rightCardinality estimated cardinality of the right (second) input
+   * @return join hint for the Flink optimizer
+   */
+  public JoinHint select(long leftCardinality, long rightCardinality) {
+    if (leftCardinality < 0 || rightCardinality < 0) {
+      return JoinHint.OPTIMIZER_CHOOSES;
+    }
+    boolean leftIsSmaller = leftCardinality <= rightCardinality;
+    long small = leftIsSmaller ? leftCardinality : rightCardinality;
+    long large = leftIsSmaller ? rightCardinality : leftCardinality;
+
+    if (small <= broadcastThreshold && small * (parallelism - 1) < large) {
+      return leftIsSmaller ? JoinHint.BROADCAST_HASH_FIRST : JoinHint.BROADCAST_HASH_SECOND;
+    }
+    if (small * HASH_RATIO <= large) {
+      return leftIsSmaller ? JoinHint.REPARTITION_HASH_FIRST : JoinHint.REPARTITION_HASH_SECOND;
+    }
+    return JoinHint.REPARTITION_SORT_MERGE;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("JoinHintSelector{parallelism=%d, broadcastThreshold=%d}",
+      parallelism, broadcastThreshold);
+  }
+}
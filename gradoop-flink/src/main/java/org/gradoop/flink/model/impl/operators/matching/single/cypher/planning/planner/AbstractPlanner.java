@@ -0,0 +1,862 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import com.google.common.collect.Sets;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.PathSemantics;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.ReturnItem;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandSettings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.JoinHintSelector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.CartesianProductNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandShortestPathsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ValueJoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.GenericJoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.ProjectEmbeddingsNode;
+import org.s1ck.gdl.model.Edge;
+import org.s1ck.gdl.model.Vertex;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.EDGE;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.GRAPH;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.PATH;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.VERTEX;
+
+/**
+ * Base class for query planners. Provides the construction of partial query plans, i.e. leaf
+ * plans for query vertices and edges, joins, expansions, cartesian products, filters and
+ * projections, which are combined by the specific planning algorithm.
+ *
+ * The execution strategy of each join is chosen by a {@link JoinHintSelector} according to the
+ * estimated cardinalities of the join inputs. The estimated cardinalities are attached to the
+ * input nodes and thus included in the string representation of the resulting {@link QueryPlan}.
+ */
+public abstract class AbstractPlanner {
+  /**
+   * The search graph to be queried
+   */
+  private final LogicalGraph graph;
+  /**
+   * The query handler represents the query.
+   */
+  private final QueryHandler queryHandler;
+  /**
+   * Statistics about the search graph.
+   */
+  private final GraphStatistics graphStatistics;
+  /**
+   * The morphism type for vertex mappings.
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * The morphism type for edge mappings.
+   */
+  private final MatchStrategy edgeStrategy;
+  /**
+   * Chooses the join strategy according to the estimated input cardinalities.
+   */
+  private final JoinHintSelector joinHintSelector;
+
+  /**
+   * Creates a new planner. Join strategies are chosen based on the parallelism of the
+   * execution environment of the search graph.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   */
+  protected AbstractPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      new JoinHintSelector(getParallelism(graph)));
+  }
+
+  /**
+   * Creates a new planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param joinHintSelector chooses the join strategies
+   */
+  protected AbstractPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    JoinHintSelector joinHintSelector) {
+    this.graph = graph;
+    this.queryHandler = queryHandler;
+    this.graphStatistics = graphStatistics;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+    this.joinHintSelector = joinHintSelector;
+  }
+
+  /**
+   * Computes the {@link PlanTableEntry} that wraps the {@link QueryPlan} with the minimum costs
+   * according to the specific optimization algorithm.
+   *
+   * @return entry with minimum execution costs
+   */
+  public abstract PlanTableEntry plan();
+
+  public LogicalGraph getGraph() {
+    return graph;
+  }
+
+  public QueryHandler getQueryHandler() {
+    return queryHandler;
+  }
+
+  public GraphStatistics getGraphStatistics() {
+    return graphStatistics;
+  }
+
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
+  public JoinHintSelector getJoinHintSelector() {
+    return joinHintSelector;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Initialization
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Creates the initial plan table entries according to the specified vertices and edges.
+   *
+   * @return initial plan table
+   */
+  protected PlanTable initPlanTable() {
+    PlanTable planTable = new PlanTable();
+    createVertexPlans(planTable);
+    createEdgePlans(planTable);
+    return planTable;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Leaf nodes (i.e. vertices and (variable length) edges)
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Creates an initial {@link PlanTableEntry} for each vertex in the query graph and adds it to the
+   * specified {@link PlanTable}. The entry wraps a query plan that filters vertices based on their
+   * predicates and projects properties that are required for further query planning.
+   *
+   * @param planTable plan table
+   */
+  private void createVertexPlans(PlanTable planTable) {
+    for (Vertex vertex : queryHandler.getVertices()) {
+      String vertexVariable = vertex.getVariable();
+      CNF allPredicates = queryHandler.getPredicates();
+      // TODO: this might be moved to the FilterAndProject node in issue #510
+      CNF vertexPredicates = allPredicates.removeSubCNF(vertexVariable);
+      Set<String> projectionKeys = allPredicates.getPropertyKeys(vertexVariable);
+      projectionKeys.addAll(queryHandler.getReturnPropertyKeys(vertexVariable));
+
+      FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(graph.getVertices(),
+        vertex.getVariable(), vertexPredicates, projectionKeys);
+
+      planTable.add(new PlanTableEntry(VERTEX, Sets.newHashSet(vertexVariable), allPredicates,
+        new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+    }
+  }
+
+  /**
+   * Creates an initial {@link PlanTableEntry} for each edge in the query graph and adds it to the
+   * specified {@link PlanTable}. The entry wraps a {@link QueryPlan} that filters edges based on
+   * their predicates and projects properties that are required for further query planning.
+   *
+   * @param planTable plan table
+   */
+  private void createEdgePlans(PlanTable planTable) {
+    for (Edge edge : queryHandler.getEdges()) {
+      String edgeVariable = edge.getVariable();
+      String sourceVariable = queryHandler.getVertexById(edge.getSourceVertexId()).getVariable();
+      String targetVariable = queryHandler.getVertexById(edge.getTargetVertexId()).getVariable();
+
+      CNF allPredicates = queryHandler.getPredicates();
+      // TODO: this might be moved the the FilterAndProject node in issue #510
+      CNF edgePredicates = allPredicates.removeSubCNF(edgeVariable);
+      Set<String> projectionKeys = allPredicates.getPropertyKeys(edgeVariable);
+      projectionKeys.addAll(queryHandler.getReturnPropertyKeys(edgeVariable));
+
+      boolean isPath = edge.getUpperBound() != 1;
+
+      FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(graph.getEdges(),
+        sourceVariable, edgeVariable, targetVariable, edgePredicates, projectionKeys, isPath);
+
+      PlanTableEntry.Type type = edge.hasVariableLength() ? PATH : EDGE;
+
+      planTable.add(new PlanTableEntry(type, Sets.newHashSet(edgeVariable), allPredicates,
+        new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+    }
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Join and Expand
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Evaluates which entries in the specified plan table can be joined. The joined entries
+   * are added to a new table which is returned.
+   *
+   * @param currentTable query plan table
+   * @return new table containing solely joined plans from the input table
+   */
+  protected PlanTable evaluateJoins(PlanTable currentTable) {
+    PlanTable newTable = new PlanTable();
+
+    for (int i = 0; i < currentTable.size(); i++) {
+      PlanTableEntry leftEntry = currentTable.get(i);
+      if (mayExtend(leftEntry)) {
+        for (int j = 0; j < currentTable.size(); j++) {
+          PlanTableEntry rightEntry = currentTable.get(j);
+          if (i != j) {
+            List<String> joinVariables = getOverlap(leftEntry, rightEntry);
+            if (joinVariables.size() > 0) {
+              if (rightEntry.getType() == PATH && joinVariables.size() == 2) {
+                // evaluate join with variable length path on source and target vertex
+                newTable.add(joinEntries(leftEntry, rightEntry, joinVariables.subList(0, 1)));
+                newTable.add(joinEntries(leftEntry, rightEntry, joinVariables.subList(1, 2)));
+              } else {
+                // regular join or join with variable length path on source or target vertex
+                newTable.add(joinEntries(leftEntry, rightEntry, joinVariables));
+              }
+            }
+          }
+        }
+      }
+    }
+    return newTable;
+  }
+
+  /**
+   * Checks if the given entry may be extended. This is only the case for entries that represents
+   * either a vertex or a partial match graph.
+   *
+   * @param entry plan table entry
+   * @return true, iff the specified entry may be extended
+   */
+  protected boolean mayExtend(PlanTableEntry entry) {
+    return entry.getType() == VERTEX || entry.getType() == GRAPH;
+  }
+
+  /**
+   * Computes the overlapping query variables of the specified entries.
+   *
+   * @param firstEntry first entry
+   * @param secondEntry second entry
+   * @return variables that are available in both input entries
+   */
+  protected List<String> getOverlap(PlanTableEntry firstEntry, PlanTableEntry secondEntry) {
+    Set<String> overlap = firstEntry.getAllVariables();
+    overlap.retainAll(secondEntry.getAllVariables());
+    return new ArrayList<>(overlap);
+  }
+
+  /**
+   * Joins the query plans represented by the specified plan table entries.
+   *
+   * The method considers if the right entry is a variable length path and in that case
+   * creates an {@link ExpandEmbeddingsNode} or, for shortest path and reachability semantics,
+   * an {@link ExpandShortestPathsNode}. In any other case, a regular
+   * {@link JoinEmbeddingsNode} is used to join the query plans.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param joinVariables join variables
+   * @return an entry that represents the join of both input entries
+   */
+  protected PlanTableEntry joinEntries(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+    List<String> joinVariables) {
+
+    JoinOperatorBase.JoinHint joinHint = selectJoinHint(leftEntry, rightEntry);
+
+    PlanNode node;
+    if (rightEntry.getType() == PATH) {
+      assert joinVariables.size() == 1;
+      node = createExpandNode(leftEntry, rightEntry, joinVariables.get(0), joinHint);
+    } else {
+      node = new JoinEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
+        rightEntry.getQueryPlan().getRoot(), joinVariables, vertexStrategy, edgeStrategy,
+        joinHint);
+    }
+
+    // update processed variables
+    HashSet<String> processedVariables = Sets.newHashSet(leftEntry.getProcessedVariables());
+    processedVariables.addAll(rightEntry.getProcessedVariables());
+    // create resulting predicates
+    // TODO: this might be moved to the join/expand node in issue #510
+    CNF predicates = mergePredicates(leftEntry, rightEntry);
+
+    return new PlanTableEntry(GRAPH, processedVariables, predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+  }
+
+  /**
+   * Creates an {@link ExpandEmbeddingsNode} from the specified arguments. If the path variable
+   * is declared with shortest path or reachability semantics, an {@link ExpandShortestPathsNode}
+   * is created instead.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param startVariable vertex variable to expand from
+   * @param joinHint join hint for joining the embeddings with the edges
+   *
+   * @return new expand node
+   */
+  private BinaryNode createExpandNode(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+    String startVariable, JoinOperatorBase.JoinHint joinHint) {
+
+    String pathVariable = rightEntry.getQueryPlan().getRoot()
+      .getEmbeddingMetaData().getEdgeVariables().get(0);
+
+    Edge queryEdge = queryHandler.getEdgeByVariable(pathVariable);
+    Vertex sourceVertex = queryHandler.getVertexById(queryEdge.getSourceVertexId());
+    Vertex targetVertex = queryHandler.getVertexById(queryEdge.getTargetVertexId());
+
+    int lowerBound = queryEdge.getLowerBound();
+    int upperBound = queryEdge.getUpperBound();
+    ExpandDirection direction = sourceVertex.getVariable().equals(startVariable) ?
+      ExpandDirection.OUT : ExpandDirection.IN;
+    String endVariable = direction == ExpandDirection.OUT ?
+      targetVertex.getVariable() : sourceVertex.getVariable();
+
+    PathSemantics semantics = queryHandler.getPathSemantics(pathVariable);
+    ExpandSettings settings = new ExpandSettings(lowerBound, upperBound, direction,
+      vertexStrategy, edgeStrategy)
+      .withSemantics(semantics)
+      .withJoinHint(joinHint);
+
+    if (semantics != PathSemantics.ALL) {
+      return new ExpandShortestPathsNode(leftEntry.getQueryPlan().getRoot(),
+        rightEntry.getQueryPlan().getRoot(),
+        startVariable, pathVariable, endVariable, settings);
+    }
+
+    return new ExpandEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
+      rightEntry.getQueryPlan().getRoot(),
+      startVariable, pathVariable, endVariable,
+      settings.withBidirectional(
+        useBidirectionalExpansion(leftEntry, rightEntry, endVariable, upperBound)));
+  }
+
+  /**
+   * Decides if a variable length path is expanded from both endpoints. This requires the end
+   * vertex to be bound by the left entry and a bounded path of at least two hops. Furthermore,
+   * the bound endpoints have to be selective, i.e. there are not more embeddings to expand than
+   * candidate edges. Otherwise, the half paths grown from the end vertices would outweigh the
+   * savings of the shorter expansions.
+   *
+   * @param leftEntry entry to expand
+   * @param rightEntry entry representing the candidate edges
+   * @param endVariable vertex variable on which to end the expansion
+   * @param upperBound maximum number of expansions (0 if unbounded)
+   * @return true, if the expansion should be bidirectional
+   */
+  protected boolean useBidirectionalExpansion(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry, String endVariable, int upperBound) {
+    return leftEntry.getAllVariables().contains(endVariable) &&
+      upperBound >= 2 && upperBound != Integer.MAX_VALUE &&
+      leftEntry.getEstimatedCardinality() <= rightEntry.getEstimatedCardinality();
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Cycles
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Replaces the edge entries forming the cycles of the query graph by entries which join all
+   * edges of a cyclic component at once using a {@link GenericJoinNode}. Cycles between two
+   * vertices are left to the binary joins, since the closing edge is joined on both vertices
+   * at once.
+   *
+   * @param currentTable query plan table
+   * @return table with the edge entries of each cyclic component replaced by a single entry
+   */
+  protected PlanTable evaluateCycles(PlanTable currentTable) {
+    List<Edge> remainingEdges = queryHandler.getCyclicEdges().stream()
+      .map(queryHandler::getEdgeByVariable)
+      .collect(Collectors.toList());
+
+    PlanTable cycleTable = new PlanTable();
+    Set<String> replacedEdges = new HashSet<>();
+
+    while (!remainingEdges.isEmpty()) {
+      List<String> vertexOrder = getVertexOrder(remainingEdges);
+      List<Edge> componentEdges = remainingEdges.stream()
+        .filter(edge -> vertexOrder.contains(getSourceVariable(edge)) &&
+          vertexOrder.contains(getTargetVariable(edge)))
+        .collect(Collectors.toList());
+      remainingEdges.removeAll(componentEdges);
+
+      if (vertexOrder.size() > 2) {
+        Set<String> edgeVariables = componentEdges.stream()
+          .map(Edge::getVariable)
+          .collect(Collectors.toSet());
+        List<PlanTableEntry> edgeEntries = new ArrayList<>();
+        for (PlanTableEntry entry : currentTable) {
+          if (entry.getType() == EDGE &&
+            edgeVariables.containsAll(entry.getProcessedVariables())) {
+            edgeEntries.add(entry);
+          }
+        }
+        cycleTable.add(createGenericJoinEntry(edgeEntries, vertexOrder));
+        replacedEdges.addAll(edgeVariables);
+      }
+    }
+
+    if (cycleTable.size() == 0) {
+      return currentTable;
+    }
+
+    PlanTable newTable = new PlanTable();
+    for (PlanTableEntry entry : currentTable) {
+      if (entry.getType() != EDGE ||
+        !replacedEdges.containsAll(entry.getProcessedVariables())) {
+        newTable.add(entry);
+      }
+    }
+    for (PlanTableEntry entry : evaluateProjection(evaluateFilter(cycleTable))) {
+      newTable.add(entry);
+    }
+    return newTable;
+  }
+
+  /**
+   * Creates an entry which joins the given edge entries using a {@link GenericJoinNode}.
+   *
+   * @param edgeEntries entries of the edges forming a cyclic component
+   * @param vertexOrder vertex variables in the order in which they are bound
+   * @return an entry that represents the join of all input entries
+   */
+  private PlanTableEntry createGenericJoinEntry(List<PlanTableEntry> edgeEntries,
+    List<String> vertexOrder) {
+    GenericJoinNode node = new GenericJoinNode(
+      edgeEntries.stream()
+        .map(entry -> entry.getQueryPlan().getRoot())
+        .collect(Collectors.toList()),
+      vertexOrder, vertexStrategy, edgeStrategy);
+
+    Set<String> processedVariables = new HashSet<>();
+    // TODO: this might be moved to the join node in issue #510
+    CNF predicates = queryHandler.getPredicates();
+    for (PlanTableEntry entry : edgeEntries) {
+      processedVariables.addAll(entry.getProcessedVariables());
+      predicates.removeSubCNF(entry.getProcessedVariables());
+    }
+
+    return new PlanTableEntry(GRAPH, processedVariables, predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+  }
+
+  /**
+   * Computes the order in which the vertices of a connected component of the given edges are
+   * bound by the generic join. The order starts at the vertex with the highest degree and
+   * continues with the vertex having the most edges to the already ordered vertices, so that
+   * candidates are intersected as early as possible.
+   *
+   * @param edges query edges
+   * @return ordered vertex variables of the component containing the vertex of highest degree
+   */
+  private List<String> getVertexOrder(List<Edge> edges) {
+    Map<String, Integer> degrees = new TreeMap<>();
+    for (Edge edge : edges) {
+      degrees.merge(getSourceVariable(edge), 1, Integer::sum);
+      degrees.merge(getTargetVariable(edge), 1, Integer::sum);
+    }
+
+    List<String> order = new ArrayList<>();
+    while (order.size() < degrees.size()) {
+      String next = null;
+      int nextConnections = 0;
+      for (String variable : degrees.keySet()) {
+        if (order.contains(variable)) {
+          continue;
+        }
+        int connections = 0;
+        for (Edge edge : edges) {
+          if ((getSourceVariable(edge).equals(variable) &&
+            order.contains(getTargetVariable(edge))) ||
+            (getTargetVariable(edge).equals(variable) &&
+            order.contains(getSourceVariable(edge)))) {
+            connections++;
+          }
+        }
+        if (!order.isEmpty() && connections == 0) {
+          continue;
+        }
+        if (next == null || connections > nextConnections ||
+          (connections == nextConnections && degrees.get(variable) > degrees.get(next))) {
+          next = variable;
+          nextConnections = connections;
+        }
+      }
+      if (next == null) {
+        // remaining vertices belong to another component
+        break;
+      }
+      order.add(next);
+    }
+    return order;
+  }
+
+  /**
+   * Returns the variable of the source vertex of the given query edge.
+   *
+   * @param edge query edge
+   * @return source vertex variable
+   */
+  private String getSourceVariable(Edge edge) {
+    return queryHandler.getVertexById(edge.getSourceVertexId()).getVariable();
+  }
+
+  /**
+   * Returns the variable of the target vertex of the given query edge.
+   *
+   * @param edge query edge
+   * @return target vertex variable
+   */
+  private String getTargetVariable(Edge edge) {
+    return queryHandler.getVertexById(edge.getTargetVertexId()).getVariable();
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Filter embedding evaluation
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * The method checks if a filter can be applied on any of the entries in the specified table. If
+   * this is the case, a {@link FilterEmbeddingsNode} is added to the query plan represented by the
+   * affected entries.
+   *
+   * @param currentTable query plan table
+   * @return input table with possibly updated entries
+   */
+  protected PlanTable evaluateFilter(PlanTable currentTable) {
+    PlanTable newTable = new PlanTable();
+
+    for (PlanTableEntry entry : currentTable) {
+      Set<String> variables = Sets.newHashSet(entry.getProcessedVariables());
+      CNF predicates = entry.getPredicates();
+      CNF subCNF = predicates.removeSubCNF(variables);
+      if (subCNF.size() > 0) {
+        FilterEmbeddingsNode node = new FilterEmbeddingsNode(entry.getQueryPlan().getRoot(),
+          subCNF);
+        newTable.add(new PlanTableEntry(GRAPH, Sets.newHashSet(entry.getProcessedVariables()),
+          predicates, new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+      } else {
+        newTable.add(entry);
+      }
+    }
+
+    return newTable;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Filter embedding evaluation
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * The method checks if a filter can be applied on any of the entries in the specified table. If
+   * this is the case, a {@link ProjectEmbeddingsNode} is added to the query plan represented by the
+   * affected entries.
+   *
+   * @param currentTable query plan table
+   * @return input table with possibly updated entries
+   */
+  protected PlanTable evaluateProjection(PlanTable currentTable) {
+    PlanTable newTable = new PlanTable();
+
+    for (PlanTableEntry entry : currentTable) {
+      Set<Pair<String, String>> propertyPairs = entry.getPropertyPairs();
+      Set<Pair<String, String>> projectionPairs = entry.getProjectionPairs();
+      // properties referenced in the RETURN clause are needed until the end
+      queryHandler.getReturnItems().stream()
+        .filter(ReturnItem::isProperty)
+        .forEach(item -> projectionPairs.add(Pair.of(item.getVariable(), item.getPropertyKey())));
+
+      Set<Pair<String, String>> updatedPropertyPairs = propertyPairs.stream()
+        .filter(projectionPairs::contains)
+        .collect(Collectors.toSet());
+
+      if (updatedPropertyPairs.size() < propertyPairs.size()) {
+        ProjectEmbeddingsNode node = new ProjectEmbeddingsNode(entry.getQueryPlan().getRoot(),
+          new ArrayList<>(updatedPropertyPairs));
+        newTable.add(new PlanTableEntry(GRAPH,
+          Sets.newHashSet(entry.getProcessedVariables()), entry.getPredicates(),
+          new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+      } else {
+        newTable.add(entry);
+      }
+    }
+    return newTable;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Join and Expand
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Evaluates which entries in the specified plan table can be joined. The joined entries
+   * are added to a new table which is returned.
+   *
+   * @param currentTable query plan table
+   * @return new table containing solely joined plans from the input table
+   */
+  protected PlanTable evaluateCartesianProducts(PlanTable currentTable) {
+    PlanTable newTable = new PlanTable();
+    for (int i = 0; i < currentTable.size(); i++) {
+      PlanTableEntry leftEntry = currentTable.get(i);
+      for (int j = i + 1; j < currentTable.size(); j++) {
+        PlanTableEntry rightEntry = currentTable.get(j);
+        CNF joinPredicate = getJoinPredicate(leftEntry, rightEntry);
+        if (joinPredicate.size() > 0) {
+          newTable.add(createValueJoinEntry(leftEntry, rightEntry, joinPredicate));
+        } else {
+          // regular join or join with variable length path on source or target vertex
+          newTable.add(createCartesianProductEntry(leftEntry, rightEntry));
+        }
+      }
+    }
+    return newTable;
+  }
+
+
+  /**
+   * Computes the overlapping query variables of the specified entries.
+   *
+   * @param leftEntry first entry
+   * @param rightEntry second entry
+   * @return variables that are available in both input entries
+   */
+  private CNF getJoinPredicate(PlanTableEntry leftEntry, PlanTableEntry rightEntry) {
+    Set<String> allVariables = leftEntry.getAllVariables();
+    allVariables.addAll(rightEntry.getAllVariables());
+
+    CNF leftPredicates = new CNF(leftEntry.getPredicates());
+    CNF rightPredicates = new CNF(rightEntry.getPredicates());
+    leftPredicates.removeSubCNF(rightEntry.getProcessedVariables());
+    rightPredicates.removeSubCNF(leftEntry.getProcessedVariables());
+    CNF predicates = leftPredicates.and(rightPredicates).getSubCNF(allVariables);
+
+    return new CNF(
+      predicates.getPredicates()
+        .stream()
+        .filter(p ->
+          p.size() == 1 && p.getPredicates().get(0).getComparator().equals(Comparator.EQ)
+        ).collect(Collectors.toList())
+    );
+  }
+
+  /**
+   * Creates an {@link CartesianProductNode} from the specified arguments.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   *
+   * @return new expand node
+   */
+  private PlanTableEntry createCartesianProductEntry(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry) {
+    annotateCardinality(leftEntry);
+    annotateCardinality(rightEntry);
+
+    CartesianProductNode node = new CartesianProductNode(
+      leftEntry.getQueryPlan().getRoot(),
+      rightEntry.getQueryPlan().getRoot(),
+      vertexStrategy, edgeStrategy
+    );
+
+    Set<String> processedVariables = leftEntry.getProcessedVariables();
+    processedVariables.addAll(rightEntry.getProcessedVariables());
+
+    CNF predicates = mergePredicates(leftEntry, rightEntry);
+
+    return new PlanTableEntry(
+      GRAPH,
+      processedVariables,
+      predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)
+    );
+  }
+
+  /**
+   * Creates an {@link ValueJoinNode} from the specified arguments.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param joinPredicate join predicate
+   *
+   * @return new value join node
+   */
+  private PlanTableEntry createValueJoinEntry(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry, CNF joinPredicate) {
+
+    List<Pair<String, String>> leftProperties = new ArrayList<>();
+    List<Pair<String, String>> rightProperties = new ArrayList<>();
+
+    for (CNFElement e : joinPredicate.getPredicates()) {
+      ComparisonExpression comparison = e.getPredicates().get(0);
+
+      Pair<String, String> joinProperty = extractJoinProperty(comparison.getLhs());
+      if (leftEntry.getAllVariables().contains(joinProperty.getKey())) {
+        leftProperties.add(joinProperty);
+      } else {
+        rightProperties.add(joinProperty);
+      }
+
+      joinProperty = extractJoinProperty(comparison.getRhs());
+      if (leftEntry.getAllVariables().contains(joinProperty.getKey())) {
+        leftProperties.add(joinProperty);
+      } else {
+        rightProperties.add(joinProperty);
+      }
+    }
+
+    ValueJoinNode node = new ValueJoinNode(
+      leftEntry.getQueryPlan().getRoot(),
+      rightEntry.getQueryPlan().getRoot(),
+      leftProperties, rightProperties,
+      vertexStrategy, edgeStrategy,
+      selectJoinHint(leftEntry, rightEntry)
+    );
+
+    Set<String> processedVariables = leftEntry.getProcessedVariables();
+    processedVariables.addAll(rightEntry.getProcessedVariables());
+
+    CNF predicates = mergePredicates(leftEntry, rightEntry);
+
+    return new PlanTableEntry(
+      GRAPH,
+      processedVariables,
+      predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)
+    );
+  }
+
+  /**
+   * Turns a QueryComparable into a {@code Pair<Variable, PropertyKey>}
+   * @param comparable query comparable
+   * @return join property
+   */
+  private Pair<String, String> extractJoinProperty(QueryComparable comparable) {
+    if (comparable instanceof PropertySelectorComparable) {
+      PropertySelectorComparable propertySelector = (PropertySelectorComparable) comparable;
+      return Pair.of(propertySelector.getVariable(), propertySelector.getPropertyKey());
+    } else {
+      //TODO #580 Include ElementSelector -> ID needs to be projected as property
+      throw new RuntimeException("Comparable " + comparable + "cant be used for ValueJoin");
+    }
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Join strategy
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Chooses the join strategy for joining the query plans of the given entries according to
+   * their estimated cardinalities.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @return join hint for the Flink optimizer
+   */
+  private JoinOperatorBase.JoinHint selectJoinHint(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry) {
+    annotateCardinality(leftEntry);
+    annotateCardinality(rightEntry);
+    return joinHintSelector.select(
+      leftEntry.getEstimatedCardinality(), rightEntry.getEstimatedCardinality());
+  }
+
+  /**
+   * Attaches the estimated cardinality of the given entry to the root of its query plan.
+   *
+   * @param entry plan table entry
+   */
+  protected void annotateCardinality(PlanTableEntry entry) {
+    entry.getQueryPlan().getRoot().setEstimatedCardinality(entry.getEstimatedCardinality());
+  }
+
+  /**
+   * Returns the parallelism of the execution environment of the given graph.
+   *
+   * @param graph search graph
+   * @return parallelism or the number of available processors if the parallelism is not set
+   */
+  private static int getParallelism(LogicalGraph graph) {
+    int parallelism = graph != null ?
+      graph.getConfig().getExecutionEnvironment().getParallelism() : -1;
+    return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Creates a new predicate that includes only elements that exist in both input predicates
+   *
+   * @param leftEntry left side plant table entry
+   * @param rightEntry right side plan table entry
+   * @return Merged predicates
+   */
+  private CNF mergePredicates(PlanTableEntry leftEntry, PlanTableEntry rightEntry) {
+    CNF leftPredicates = new CNF(leftEntry.getPredicates());
+    CNF rightPredicates = new CNF(rightEntry.getPredicates());
+    leftPredicates.removeSubCNF(rightEntry.getProcessedVariables());
+    rightPredicates.removeSubCNF(leftEntry.getProcessedVariables());
+    return leftPredicates.and(rightPredicates);
+  }
+}
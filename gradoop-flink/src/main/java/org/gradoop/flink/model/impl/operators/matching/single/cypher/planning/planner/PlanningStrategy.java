@@ -0,0 +1,33 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+/**
+ * Used to select the query planner which computes the join order of a Cypher query
+ */
+public enum PlanningStrategy {
+  /**
+   * Greedily joins the partial plans with the smallest estimated cardinality
+   */
+  GREEDY,
+  /**
+   * Enumerates join orders by dynamic programming and picks the one with minimum estimated
+   * costs. Falls back to {@link #GREEDY} for large or disconnected queries.
+   */
+  DYNAMIC_PROGRAMMING
+}
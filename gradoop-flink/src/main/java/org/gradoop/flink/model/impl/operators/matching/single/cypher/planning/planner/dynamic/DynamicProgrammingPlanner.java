@@ -0,0 +1,243 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamic;
+
+import org.apache.log4j.Logger;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.JoinHintSelector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.AbstractPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A query planner that enumerates join orders by dynamic programming over the size of the
+ * partial query plans (DPsize).
+ *
+ * For each set of processed query variables, the planner keeps the cheapest partial plan. Plans
+ * for larger sets are built by joining all pairs of cheaper plans which cover disjoint but
+ * connected parts of the query graph. In contrast to the {@link GreedyPlanner}, this also
+ * considers bushy plans and plans whose intermediate results are not the smallest ones at each
+ * step. The cost of a plan is the sum of the estimated cardinalities of all its partial results.
+ *
+ * Since the number of enumerated plans grows exponentially with the query size, the planner
+ * falls back to the {@link GreedyPlanner} if the query contains more than a maximum number of
+ * vertices and edges, if the time budget is exceeded or if the query graph is not connected.
+ */
+public class DynamicProgrammingPlanner extends AbstractPlanner {
+  /**
+   * Default maximum number of query vertices and edges
+   */
+  public static final int DEFAULT_MAX_QUERY_SIZE = 12;
+  /**
+   * Default time budget for the enumeration in milliseconds
+   */
+  public static final long DEFAULT_TIME_BUDGET = 1000L;
+  /**
+   * Logger
+   */
+  private static final Logger LOG = Logger.getLogger(DynamicProgrammingPlanner.class);
+  /**
+   * Maximum number of query vertices and edges to enumerate plans for
+   */
+  private final int maxQuerySize;
+  /**
+   * Time budget for the enumeration in milliseconds
+   */
+  private final long timeBudget;
+
+  /**
+   * Creates a new planner using the default query size limit and time budget.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   */
+  public DynamicProgrammingPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      DEFAULT_MAX_QUERY_SIZE, DEFAULT_TIME_BUDGET);
+  }
+
+  /**
+   * Creates a new planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param maxQuerySize maximum number of query vertices and edges to enumerate plans for
+   * @param timeBudget time budget for the enumeration in milliseconds
+   */
+  public DynamicProgrammingPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    int maxQuerySize, long timeBudget) {
+    super(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy);
+    this.maxQuerySize = maxQuerySize;
+    this.timeBudget = timeBudget;
+  }
+
+  /**
+   * Computes the {@link PlanTableEntry} that wraps the {@link QueryPlan} with the minimum costs
+   * among all enumerated plans.
+   *
+   * @return entry with minimum execution costs
+   */
+  @Override
+  public PlanTableEntry plan() {
+    PlanTable leaves = initPlanTable();
+
+    if (leaves.size() == 1) {
+      PlanTableEntry result = leaves.get(0);
+      annotateCardinality(result);
+      return result;
+    }
+    if (leaves.size() > maxQuerySize) {
+      return planGreedy(String.format("query size %d exceeds %d", leaves.size(), maxQuerySize));
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudget);
+    PlanTableEntry result = enumerate(leaves, deadline);
+
+    if (result == null) {
+      return planGreedy(System.nanoTime() > deadline ?
+        String.format("time budget of %d ms exceeded", timeBudget) : "query is not connected");
+    }
+    annotateCardinality(result);
+    return result;
+  }
+
+  /**
+   * Enumerates all connected plans in increasing order of their number of processed variables.
+   *
+   * @param leaves plan table containing the leaf plans
+   * @param deadline time at which the enumeration is aborted (see {@link System#nanoTime()})
+   * @return cheapest plan covering all query variables or {@code null} if there is none or the
+   * deadline has been exceeded
+   */
+  private PlanTableEntry enumerate(PlanTable leaves, long deadline) {
+    // cheapest plan and its costs per set of processed variables
+    Map<Set<String>, PlanTableEntry> bestPlans = new HashMap<>();
+    Map<Set<String>, Long> costs = new HashMap<>();
+    // sets of processed variables per number of processed variables
+    List<List<Set<String>>> levels = new ArrayList<>();
+    levels.add(Collections.emptyList());
+
+    Set<String> allVariables = new HashSet<>();
+    for (PlanTableEntry leaf : leaves) {
+      Set<String> key = new HashSet<>(leaf.getProcessedVariables());
+      allVariables.addAll(key);
+      bestPlans.put(key, leaf);
+      costs.put(key, leaf.getEstimatedCardinality());
+      getLevel(levels, key.size()).add(key);
+    }
+
+    for (int size = 2; size <= allVariables.size(); size++) {
+      List<Set<String>> level = getLevel(levels, size);
+      for (int leftSize = 1; leftSize <= size / 2; leftSize++) {
+        List<Set<String>> leftLevel = getLevel(levels, leftSize);
+        List<Set<String>> rightLevel = getLevel(levels, size - leftSize);
+
+        for (int i = 0; i < leftLevel.size(); i++) {
+          // avoid evaluating pairs twice if both sides have the same size
+          int j = leftSize == size - leftSize ? i + 1 : 0;
+          for (; j < rightLevel.size(); j++) {
+            if (System.nanoTime() > deadline) {
+              return null;
+            }
+            Set<String> leftKey = leftLevel.get(i);
+            Set<String> rightKey = rightLevel.get(j);
+            if (!Collections.disjoint(leftKey, rightKey)) {
+              continue;
+            }
+            long inputCosts = costs.get(leftKey) + costs.get(rightKey);
+            for (PlanTableEntry candidate : join(bestPlans.get(leftKey), bestPlans.get(rightKey))) {
+              Set<String> key = new HashSet<>(candidate.getProcessedVariables());
+              long cost = inputCosts + candidate.getEstimatedCardinality();
+              if (!costs.containsKey(key)) {
+                level.add(key);
+              } else if (costs.get(key) <= cost) {
+                continue;
+              }
+              bestPlans.put(key, candidate);
+              costs.put(key, cost);
+            }
+          }
+        }
+      }
+    }
+    return bestPlans.get(allVariables);
+  }
+
+  /**
+   * Creates all plans joining the given plans in either order, followed by all filters and
+   * projections which become applicable.
+   *
+   * @param first first plan
+   * @param second second plan
+   * @return joined plans, empty if the plans do not share a query variable
+   */
+  private PlanTable join(PlanTableEntry first, PlanTableEntry second) {
+    PlanTable inputs = new PlanTable();
+    inputs.add(first);
+    inputs.add(second);
+    return evaluateProjection(evaluateFilter(evaluateJoins(inputs)));
+  }
+
+  /**
+   * Returns the level for the given number of processed variables.
+   *
+   * @param levels all levels
+   * @param size number of processed variables
+   * @return level
+   */
+  private List<Set<String>> getLevel(List<List<Set<String>>> levels, int size) {
+    while (levels.size() <= size) {
+      levels.add(new ArrayList<>());
+    }
+    return levels.get(size);
+  }
+
+  /**
+   * Plans the query using the {@link GreedyPlanner}.
+   *
+   * @param reason reason for the fallback
+   * @return entry computed by the greedy planner
+   */
+  private PlanTableEntry planGreedy(String reason) {
+    LOG.info(String.format("Falling back to greedy planning: %s", reason));
+    return new GreedyPlanner(getGraph(), getQueryHandler(), getGraphStatistics(),
+      getVertexStrategy(), getEdgeStrategy(), getJoinHintSelector()).plan();
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.EmbeddingAggregator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.FactorizedJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding;
+
+/**
+ * Result of executing a {@link PlanNode} in factorized form, i.e. the factorized embeddings
+ * together with the join operator that knows how to flatten them.
+ */
+public class FactorizedResult {
+  /**
+   * Factorized embeddings
+   */
+  private final DataSet<FactorizedEmbedding> embeddings;
+  /**
+   * Join that created the factorized embeddings
+   */
+  private final FactorizedJoinEmbeddings join;
+
+  /**
+   * Creates a new result.
+   *
+   * @param embeddings factorized embeddings
+   * @param join join that created the factorized embeddings
+   */
+  public FactorizedResult(DataSet<FactorizedEmbedding> embeddings,
+    FactorizedJoinEmbeddings join) {
+    this.embeddings = embeddings;
+    this.join = join;
+  }
+
+  /**
+   * Returns the factorized embeddings.
+   *
+   * @return factorized embeddings
+   */
+  public DataSet<FactorizedEmbedding> getEmbeddings() {
+    return embeddings;
+  }
+
+  /**
+   * Creates a result for factorized embeddings derived from the embeddings of this result,
+   * e.g. by filtering or projecting their alternatives.
+   *
+   * @param derivedEmbeddings derived factorized embeddings
+   * @return new result
+   */
+  public FactorizedResult withEmbeddings(DataSet<FactorizedEmbedding> derivedEmbeddings) {
+    return new FactorizedResult(derivedEmbeddings, join);
+  }
+
+  /**
+   * Creates the flat embeddings represented by this result.
+   *
+   * @return flat embeddings
+   */
+  public DataSet<Embedding> flatten() {
+    return join.flatten(embeddings);
+  }
+
+  /**
+   * Counts the flat embeddings represented by this result without creating them.
+   *
+   * @return 1-element data set containing the number of embeddings
+   */
+  public DataSet<Long> count() {
+    return join.count(embeddings);
+  }
+
+  /**
+   * Creates the partial aggregates of the flat embeddings represented by this result without
+   * creating them.
+   *
+   * @param aggregator aggregator evaluating the return items on the left and right alternatives
+   * @return (grouping values, aggregate values)
+   */
+  public DataSet<Tuple2<PropertyValueList, PropertyValueList>> aggregate(
+    EmbeddingAggregator aggregator) {
+    return join.aggregate(embeddings, aggregator);
+  }
+}
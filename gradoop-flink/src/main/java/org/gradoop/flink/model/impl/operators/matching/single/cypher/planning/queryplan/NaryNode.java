@@ -0,0 +1,53 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A n-ary node takes an arbitrary number of data sets containing embeddings as input which are
+ * used to compute a new data set of embeddings based on the specific node implementation.
+ */
+public abstract class NaryNode extends PlanNode {
+  /**
+   * Input nodes
+   */
+  private final List<PlanNode> children;
+
+  /**
+   * Creates a new n-ary node
+   *
+   * @param children input nodes
+   */
+  public NaryNode(List<PlanNode> children) {
+    Objects.requireNonNull(children);
+    children.forEach(Objects::requireNonNull);
+    this.children = new ArrayList<>(children);
+  }
+
+  /**
+   * Returns the input nodes.
+   *
+   * @return input nodes
+   */
+  public List<PlanNode> getChildren() {
+    return children;
+  }
+}
@@ -17,6 +17,7 @@
 
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
@@ -29,6 +30,10 @@ public abstract class PlanNode {
    * Describes the output of that node.
    */
   private EmbeddingMetaData embeddingMetaData;
+  /**
+   * Estimated number of embeddings produced by that node, -1 if not estimated.
+   */
+  private long estimatedCardinality = -1;
 
   /**
    * Recursively executes this node and returns the resulting {@link Embedding} data set.
@@ -37,6 +42,37 @@ public abstract class PlanNode {
    */
   public abstract DataSet<Embedding> execute();
 
+  /**
+   * Recursively executes this node and returns the resulting embeddings in factorized form.
+   * Only supported if {@link #supportsFactorization()} returns true.
+   *
+   * @return factorized embeddings
+   */
+  public FactorizedResult executeFactorized() {
+    throw new UnsupportedOperationException(
+      "Factorized execution is not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Returns true, if the node can produce its embeddings in factorized form.
+   *
+   * @return true, if {@link #executeFactorized()} is supported
+   */
+  public boolean supportsFactorization() {
+    return getFactorMetaData() != null;
+  }
+
+  /**
+   * Returns the meta data describing the left and right alternatives of the factorized
+   * embeddings produced by this node.
+   *
+   * @return meta data of the left and right alternatives or {@code null} if the node does not
+   * support factorized execution
+   */
+  public Pair<EmbeddingMetaData, EmbeddingMetaData> getFactorMetaData() {
+    return null;
+  }
+
   /**
    * Returns the meta data describing the embeddings produced by this node.
    *
@@ -49,6 +85,24 @@ public abstract class PlanNode {
     return embeddingMetaData;
   }
 
+  /**
+   * Returns the number of embeddings the planner estimated for this node.
+   *
+   * @return estimated cardinality or -1 if the node has not been estimated
+   */
+  public long getEstimatedCardinality() {
+    return estimatedCardinality;
+  }
+
+  /**
+   * Sets the number of embeddings the planner estimated for this node.
+   *
+   * @param estimatedCardinality estimated cardinality
+   */
+  public void setEstimatedCardinality(long estimatedCardinality) {
+    this.estimatedCardinality = estimatedCardinality;
+  }
+
   /**
    * Computes the meta data returned by the specific node.
    *
@@ -18,8 +18,17 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.model.impl.operators.count.Count;
+import org.gradoop.flink.model.impl.operators.matching.common.query.ReturnItem;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.AggregateEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation.EmbeddingAggregator;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+import java.util.List;
 
 /**
  * Represents an executable Cypher query plan.
@@ -61,6 +70,39 @@ public class QueryPlan {
     return root.execute();
   }
 
+  /**
+   * Counts the embeddings representing the query result. If supported by the root node, the
+   * embeddings are counted in factorized form without materializing them.
+   *
+   * @return 1-element data set containing the number of embeddings
+   */
+  public DataSet<Long> count() {
+    return root.supportsFactorization() ?
+      root.executeFactorized().count() : Count.count(root.execute());
+  }
+
+  /**
+   * Aggregates the embeddings representing the query result according to the given items of a
+   * RETURN clause. If supported by the root node, the left and right alternatives of the top
+   * most join are aggregated before they are combined, i.e. the join result is never
+   * materialized.
+   *
+   * @param returnItems items of the RETURN clause
+   * @return aggregate rows
+   */
+  public DataSet<Properties> aggregate(List<ReturnItem> returnItems) {
+    AggregateEmbeddings op = new AggregateEmbeddings(returnItems);
+    op.setName(String.format("AggregateEmbeddings{returnItems=%s}", returnItems));
+
+    if (root.supportsFactorization()) {
+      Pair<EmbeddingMetaData, EmbeddingMetaData> factors = root.getFactorMetaData();
+      EmbeddingAggregator aggregator =
+        new EmbeddingAggregator(returnItems, factors.getLeft(), factors.getRight());
+      return op.combine(root.executeFactorized().aggregate(aggregator), aggregator);
+    }
+    return op.evaluate(root.execute(), root.getEmbeddingMetaData());
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
@@ -69,20 +111,29 @@ public class QueryPlan {
   }
 
   /**
-   * Recursively prints the sub tree of the given node in pre-order.
+   * Recursively prints the sub tree of the given node in pre-order. Nodes which have been
+   * estimated by the planner are printed together with their estimated cardinality.
    *
    * @param node root plan node
    * @param level level of the whole query tree
    * @param sb string builder to append
    */
   private void printPlanNode(PlanNode node, int level, StringBuilder sb) {
-    sb.append(String.format("%s|-%s%n", StringUtils.leftPad("", level * 2, PAD_STRING), node));
+    sb.append(String.format("%s|-%s", StringUtils.leftPad("", level * 2, PAD_STRING), node));
+    if (node.getEstimatedCardinality() >= 0) {
+      sb.append(String.format(" est-card: %d", node.getEstimatedCardinality()));
+    }
+    sb.append(String.format("%n"));
     level++;
     if (node instanceof UnaryNode) {
       printPlanNode(((UnaryNode) node).getChildNode(), level, sb);
     } else if (node instanceof BinaryNode) {
       printPlanNode(((BinaryNode) node).getLeftChild(), level, sb);
       printPlanNode(((BinaryNode) node).getRightChild(), level, sb);
+    } else if (node instanceof NaryNode) {
+      for (PlanNode child : ((NaryNode) node).getChildren()) {
+        printPlanNode(child, level, sb);
+      }
     }
   }
 }
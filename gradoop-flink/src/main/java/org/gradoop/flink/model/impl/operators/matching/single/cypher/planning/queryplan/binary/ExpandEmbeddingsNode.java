@@ -17,15 +17,15 @@
 
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary;
 
-import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandSettings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
-import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand
-  .ExpandEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsBidirectional;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsBulk;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
@@ -36,7 +36,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Binary node that wraps an {@link ExpandEmbeddingsBulk} operator.
+ * Binary node that wraps an {@link ExpandEmbeddingsBulk} operator or, if requested and the end
+ * vertex is already bound, an {@link ExpandEmbeddingsBidirectional} operator.
  */
 public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
   /**
@@ -55,30 +56,18 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
    * Query variable of the last vertex in the path
    */
   private final String endVariable;
-  /**
-   * Minimum number of path expansion steps
-   */
-  private final int lowerBound;
-  /**
-   * Maximum number of path expansion steps
-   */
-  private final int upperBound;
   /**
    * Column that contains the final vertex of the expansion
    */
   private final int closingColumn;
   /**
-   * Direction in which to expand the embedding
+   * Bounds, direction, morphism types and join hint of the expansion
    */
-  private final ExpandDirection expandDirection;
+  private final ExpandSettings settings;
   /**
-   * Morphism type for vertices
+   * True, if the paths are grown from both endpoints
    */
-  private final MatchStrategy vertexStrategy;
-  /**
-   * Morphism type for edges
-   */
-  private final MatchStrategy edgeStrategy;
+  private final boolean bidirectional;
 
   /**
    * Creates a new node.
@@ -98,28 +87,64 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
     String startVariable, String pathVariable, String endVariable,
     int lowerBound, int upperBound, ExpandDirection expandDirection,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(leftChild, rightChild, startVariable, pathVariable, endVariable,
+      new ExpandSettings(lowerBound, upperBound, expandDirection, vertexStrategy, edgeStrategy));
+  }
+
+  /**
+   * Creates a new node. A bidirectional expansion requested by the settings is ignored if the end
+   * vertex is not bound by the left child or the upper bound is less than 2.
+   *
+   * @param leftChild left child representing the embeddings to expand
+   * @param rightChild right child representing the edges to expand with
+   * @param startVariable vertex variable on which to start the expansion
+   * @param pathVariable variable representing the path
+   * @param endVariable vertex variable on which to end the expansion
+   * @param settings bounds, direction, morphism types and join hint of the expansion
+   */
+  public ExpandEmbeddingsNode(PlanNode leftChild, PlanNode rightChild,
+    String startVariable, String pathVariable, String endVariable, ExpandSettings settings) {
     super(leftChild, rightChild);
     this.pathVariable = pathVariable;
     this.startVariable = startVariable;
     this.endVariable = endVariable;
-    this.lowerBound = lowerBound;
-    this.upperBound = upperBound == 0 ? Integer.MAX_VALUE : upperBound;
-    this.expandDirection = expandDirection;
-    this.vertexStrategy = vertexStrategy;
-    this.edgeStrategy = edgeStrategy;
+    this.settings = settings;
     this.expandColumn = leftChild.getEmbeddingMetaData().getEntryColumn(startVariable);
     this.closingColumn = leftChild.getEmbeddingMetaData().containsEntryColumn(endVariable) ?
       leftChild.getEmbeddingMetaData().getEntryColumn(endVariable) : -1;
+    this.bidirectional = settings.isBidirectional() && closingColumn >= 0 &&
+      settings.getUpperBound() >= 2 && settings.getUpperBound() != Integer.MAX_VALUE;
+  }
+
+  /**
+   * Returns true, if the paths are grown from both endpoints.
+   *
+   * @return true, if the expansion is bidirectional
+   */
+  public boolean isBidirectional() {
+    return bidirectional;
   }
 
   @Override
   public DataSet<Embedding> execute() {
-    ExpandEmbeddings op = new ExpandEmbeddingsBulk(
-      getLeftChild().execute(), getRightChild().execute(),
-      expandColumn, lowerBound, upperBound, expandDirection,
-      getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
-      getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
-      closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+    PhysicalOperator op;
+    if (bidirectional) {
+      op = new ExpandEmbeddingsBidirectional(
+        getLeftChild().execute(), getRightChild().execute(),
+        expandColumn, settings.getLowerBound(), settings.getUpperBound(),
+        settings.getDirection(),
+        getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
+        getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
+        closingColumn, settings.getJoinHint());
+    } else {
+      op = new ExpandEmbeddingsBulk(
+        getLeftChild().execute(), getRightChild().execute(),
+        expandColumn, settings.getLowerBound(), settings.getUpperBound(),
+        settings.getDirection(),
+        getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
+        getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
+        closingColumn, settings.getJoinHint());
+    }
     op.setName(toString());
     return op.evaluate();
   }
@@ -132,7 +157,7 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
     metaData.setEntryColumn(pathVariable, EmbeddingMetaData.EntryType.PATH,
       inputMetaData.getEntryCount());
 
-    metaData.setDirection(pathVariable, expandDirection);
+    metaData.setDirection(pathVariable, settings.getDirection());
 
     if (!inputMetaData.containsEntryColumn(endVariable)) {
       metaData.setEntryColumn(endVariable, EmbeddingMetaData.EntryType.VERTEX,
@@ -150,9 +175,10 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
    * @return distinct vertex columns
    */
   private List<Integer> getDistinctVertexColumns(EmbeddingMetaData metaData) {
-    return this.vertexStrategy == MatchStrategy.ISOMORPHISM ? metaData.getVertexVariables().stream()
-      .map(metaData::getEntryColumn)
-      .collect(Collectors.toList()) : Collections.emptyList();
+    return settings.getVertexStrategy() == MatchStrategy.ISOMORPHISM ?
+      metaData.getVertexVariables().stream()
+        .map(metaData::getEntryColumn)
+        .collect(Collectors.toList()) : Collections.emptyList();
   }
 
   /**
@@ -164,7 +190,7 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
    * @return distinct edge columns
    */
   private List<Integer> getDistinctEdgeColumns(EmbeddingMetaData metaData) {
-    return edgeStrategy == MatchStrategy.ISOMORPHISM ?
+    return settings.getEdgeStrategy() == MatchStrategy.ISOMORPHISM ?
       metaData.getEdgeVariables().stream()
         .map(metaData::getEntryColumn)
         .collect(Collectors.toList()) : Collections.emptyList();
@@ -180,8 +206,11 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
         "upperBound=%d, " +
         "expandDirection=%s, " +
         "vertexMorphismType=%s, " +
-        "edgeMorphismType=%s}",
-      startVariable, pathVariable, endVariable, lowerBound, upperBound, expandDirection,
-      vertexStrategy, edgeStrategy);
+        "edgeMorphismType=%s, " +
+        "joinHint=%s, " +
+        "bidirectional=%s}",
+      startVariable, pathVariable, endVariable, settings.getLowerBound(),
+      settings.getUpperBound(), settings.getDirection(), settings.getVertexStrategy(),
+      settings.getEdgeStrategy(), settings.getJoinHint(), bidirectional);
   }
 }
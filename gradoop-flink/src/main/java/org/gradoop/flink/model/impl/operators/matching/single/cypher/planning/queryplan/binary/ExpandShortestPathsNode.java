@@ -0,0 +1,173 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.PathSemantics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandShortestPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandSettings;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Binary node that wraps an {@link ExpandShortestPaths} operator. The node is used for variable
+ * length paths with {@link PathSemantics#SHORTEST} or {@link PathSemantics#EXISTS} semantics.
+ */
+public class ExpandShortestPathsNode extends BinaryNode implements JoinNode {
+  /**
+   * Column to expand the embedding from.
+   */
+  private final int expandColumn;
+  /**
+   * Query variable of the first vertex in the path
+   */
+  private final String startVariable;
+  /**
+   * Query variable of the variable length path
+   */
+  private final String pathVariable;
+  /**
+   * Query variable of the last vertex in the path
+   */
+  private final String endVariable;
+  /**
+   * Column that contains the final vertex of the expansion
+   */
+  private final int closingColumn;
+  /**
+   * Bounds, direction, semantics, morphism types and join hint of the expansion
+   */
+  private final ExpandSettings settings;
+
+  /**
+   * Creates a new node.
+   *
+   * @param leftChild left child representing the embeddings to expand
+   * @param rightChild right child representing the edges to expand with
+   * @param startVariable vertex variable on which to start the expansion
+   * @param pathVariable variable representing the path
+   * @param endVariable vertex variable on which to end the expansion
+   * @param settings bounds, direction, semantics, morphism types and join hint of the
+   *                 expansion
+   */
+  public ExpandShortestPathsNode(PlanNode leftChild, PlanNode rightChild,
+    String startVariable, String pathVariable, String endVariable, ExpandSettings settings) {
+    super(leftChild, rightChild);
+    this.pathVariable = pathVariable;
+    this.startVariable = startVariable;
+    this.endVariable = endVariable;
+    this.settings = settings;
+    this.expandColumn = leftChild.getEmbeddingMetaData().getEntryColumn(startVariable);
+    this.closingColumn = leftChild.getEmbeddingMetaData().containsEntryColumn(endVariable) ?
+      leftChild.getEmbeddingMetaData().getEntryColumn(endVariable) : -1;
+  }
+
+  /**
+   * Returns the path semantics of the expansion.
+   *
+   * @return path semantics
+   */
+  public PathSemantics getSemantics() {
+    return settings.getSemantics();
+  }
+
+  @Override
+  public DataSet<Embedding> execute() {
+    ExpandShortestPaths op = new ExpandShortestPaths(
+      getLeftChild().execute(), getRightChild().execute(),
+      expandColumn, settings,
+      getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
+      getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
+      closingColumn);
+    op.setName(toString());
+    return op.evaluate();
+  }
+
+  @Override
+  protected EmbeddingMetaData computeEmbeddingMetaData() {
+    EmbeddingMetaData inputMetaData = getLeftChild().getEmbeddingMetaData();
+    EmbeddingMetaData metaData = new EmbeddingMetaData(inputMetaData);
+
+    metaData.setEntryColumn(pathVariable, EmbeddingMetaData.EntryType.PATH,
+      inputMetaData.getEntryCount());
+
+    metaData.setDirection(pathVariable, settings.getDirection());
+
+    if (!inputMetaData.containsEntryColumn(endVariable)) {
+      metaData.setEntryColumn(endVariable, EmbeddingMetaData.EntryType.VERTEX,
+        inputMetaData.getEntryCount() + 1);
+    }
+    return metaData;
+  }
+
+  /**
+   * According to the vertex strategy of the {@link ExpandSettings} and the specified
+   * {@link EmbeddingMetaData}, the method returns the columns that need to contain distinct
+   * entries.
+   *
+   * @param metaData meta data for the embedding
+   * @return distinct vertex columns
+   */
+  private List<Integer> getDistinctVertexColumns(EmbeddingMetaData metaData) {
+    return settings.getVertexStrategy() == MatchStrategy.ISOMORPHISM ?
+      metaData.getVertexVariables().stream()
+        .map(metaData::getEntryColumn)
+        .collect(Collectors.toList()) : Collections.emptyList();
+  }
+
+  /**
+   * According to the edge strategy of the {@link ExpandSettings} and the specified
+   * {@link EmbeddingMetaData}, the method returns the columns that need to contain distinct
+   * entries.
+   *
+   * @param metaData meta data for the embedding
+   * @return distinct edge columns
+   */
+  private List<Integer> getDistinctEdgeColumns(EmbeddingMetaData metaData) {
+    return settings.getEdgeStrategy() == MatchStrategy.ISOMORPHISM ?
+      metaData.getEdgeVariables().stream()
+        .map(metaData::getEntryColumn)
+        .collect(Collectors.toList()) : Collections.emptyList();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ExpandShortestPathsNode={" +
+        "startVariable='%s', " +
+        "pathVariable='%s', " +
+        "endVariable='%s', " +
+        "lowerBound=%d, " +
+        "upperBound=%d, " +
+        "expandDirection=%s, " +
+        "semantics=%s, " +
+        "vertexMorphismType=%s, " +
+        "edgeMorphismType=%s, " +
+        "joinHint=%s}",
+      startVariable, pathVariable, endVariable, settings.getLowerBound(),
+      settings.getUpperBound(), settings.getDirection(), settings.getSemantics(),
+      settings.getVertexStrategy(), settings.getEdgeStrategy(), settings.getJoinHint());
+  }
+}
@@ -17,13 +17,16 @@
 
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.FactorizedJoinEmbeddings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.JoinEmbeddings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FactorizedResult;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 
@@ -101,6 +104,23 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
     return op.evaluate();
   }
 
+  @Override
+  public FactorizedResult executeFactorized() {
+    FactorizedJoinEmbeddings op = new FactorizedJoinEmbeddings(
+      getLeftChild().execute(), getRightChild().execute(),
+      getRightChild().getEmbeddingMetaData().getEntryCount(),
+      getJoinColumnsLeft(), getJoinColumnsRight(),
+      getDistinctVertexColumnsLeft(), getDistinctVertexColumnsRight(),
+      getDistinctEdgeColumnsLeft(), getDistinctEdgeColumnsRight());
+    op.setName(toString());
+    return new FactorizedResult(op.evaluate(), op);
+  }
+
+  @Override
+  public Pair<EmbeddingMetaData, EmbeddingMetaData> getFactorMetaData() {
+    return Pair.of(getLeftChild().getEmbeddingMetaData(), getRightChild().getEmbeddingMetaData());
+  }
+
   @Override
   protected EmbeddingMetaData computeEmbeddingMetaData() {
     EmbeddingMetaData leftInputMetaData = getLeftChild().getEmbeddingMetaData();
@@ -224,7 +244,8 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
     return String.format("JoinEmbeddingsNode{" +
       "joinVariables=%s, " +
       "vertexMorphismType=%s, " +
-      "edgeMorphismType=%s}",
-      joinVariables, vertexStrategy, edgeStrategy);
+      "edgeMorphismType=%s, " +
+      "joinHint=%s}",
+      joinVariables, vertexStrategy, edgeStrategy, joinHint);
   }
 }
@@ -0,0 +1,135 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.GenericJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * N-ary node that wraps a {@link GenericJoinEmbeddings} operator. Each child produces edge
+ * embeddings of the form (source, edge, target).
+ */
+public class GenericJoinNode extends NaryNode implements JoinNode {
+  /**
+   * Vertex variables in the order in which they are bound
+   */
+  private final List<String> vertexOrder;
+  /**
+   * Morphism type for vertices
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism type for edges
+   */
+  private final MatchStrategy edgeStrategy;
+
+  /**
+   * Creates a new node.
+   *
+   * @param edgeNodes input plan nodes producing edge embeddings
+   * @param vertexOrder vertex variables in the order in which they are bound
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   */
+  public GenericJoinNode(List<PlanNode> edgeNodes, List<String> vertexOrder,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    super(edgeNodes);
+    this.vertexOrder = vertexOrder;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+  }
+
+  @Override
+  public DataSet<Embedding> execute() {
+    GenericJoinEmbeddings op = new GenericJoinEmbeddings(
+      getChildren().stream().map(PlanNode::execute).collect(Collectors.toList()),
+      getVertexColumns(0), getVertexColumns(2), vertexOrder.size(),
+      vertexStrategy == MatchStrategy.ISOMORPHISM, edgeStrategy == MatchStrategy.ISOMORPHISM);
+    op.setName(toString());
+    return op.evaluate();
+  }
+
+  @Override
+  protected EmbeddingMetaData computeEmbeddingMetaData() {
+    EmbeddingMetaData embeddingMetaData = new EmbeddingMetaData();
+
+    int entryCount = 0;
+    for (String vertexVariable : vertexOrder) {
+      embeddingMetaData.setEntryColumn(vertexVariable, EmbeddingMetaData.EntryType.VERTEX,
+        entryCount++);
+    }
+
+    int propertyCount = 0;
+    for (PlanNode child : getChildren()) {
+      EmbeddingMetaData childMetaData = child.getEmbeddingMetaData();
+      String edgeVariable = getVariable(childMetaData, 1);
+      embeddingMetaData.setEntryColumn(edgeVariable, EmbeddingMetaData.EntryType.EDGE,
+        entryCount++);
+      for (String var : childMetaData.getVariables()) {
+        for (String key : childMetaData.getPropertyKeys(var)) {
+          embeddingMetaData.setPropertyColumn(var, key, propertyCount++);
+        }
+      }
+    }
+    return embeddingMetaData;
+  }
+
+  /**
+   * Computes the result column of the vertex stored at the given column of each input.
+   *
+   * @param column vertex column of the input embeddings (0 = source, 2 = target)
+   * @return result columns
+   */
+  private List<Integer> getVertexColumns(int column) {
+    return getChildren().stream()
+      .map(child -> vertexOrder.indexOf(getVariable(child.getEmbeddingMetaData(), column)))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the variable stored at the given column.
+   *
+   * @param metaData meta data
+   * @param column entry column
+   * @return variable
+   */
+  private String getVariable(EmbeddingMetaData metaData, int column) {
+    return metaData.getVariables().stream()
+      .filter(var -> metaData.getEntryColumn(var) == column)
+      .findFirst()
+      .orElseThrow(() -> new IllegalArgumentException("No entry at column " + column));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("GenericJoinNode{" +
+      "vertexOrder=%s, " +
+      "vertexMorphismType=%s, " +
+      "edgeMorphismType=%s}",
+      vertexOrder, vertexStrategy, edgeStrategy);
+  }
+}
@@ -17,11 +17,14 @@
 
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.FilterEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions.FilterFactorizedEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FactorizedResult;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
@@ -53,6 +56,41 @@ public class FilterEmbeddingsNode extends UnaryNode implements FilterNode {
     return op.evaluate();
   }
 
+  @Override
+  public FactorizedResult executeFactorized() {
+    Pair<EmbeddingMetaData, EmbeddingMetaData> factors = getChildNode().getFactorMetaData();
+    boolean filterLeft = canEvaluate(factors.getLeft());
+
+    FactorizedResult input = getChildNode().executeFactorized();
+    return input.withEmbeddings(input.getEmbeddings()
+      .flatMap(new FilterFactorizedEmbedding(filterPredicate,
+        filterLeft ? factors.getLeft() : factors.getRight(), filterLeft))
+      .name(toString()));
+  }
+
+  @Override
+  public Pair<EmbeddingMetaData, EmbeddingMetaData> getFactorMetaData() {
+    Pair<EmbeddingMetaData, EmbeddingMetaData> factors = getChildNode().getFactorMetaData();
+    // the predicate can only be evaluated on the alternatives of a single side
+    if (factors == null ||
+      !(canEvaluate(factors.getLeft()) || canEvaluate(factors.getRight()))) {
+      return null;
+    }
+    return factors;
+  }
+
+  /**
+   * Checks if the filter predicate can be evaluated on the alternatives of one side.
+   *
+   * @param factorMetaData meta data of the alternatives
+   * @return true, if all predicate variables and properties are contained in the alternatives
+   */
+  private boolean canEvaluate(EmbeddingMetaData factorMetaData) {
+    return filterPredicate.getVariables().stream().allMatch(var ->
+      factorMetaData.getVariables().contains(var) &&
+      factorMetaData.getPropertyKeys(var).containsAll(filterPredicate.getPropertyKeys(var)));
+  }
+
   /**
    * Returns a copy of the filter predicate attached to this node.
    *
@@ -22,6 +22,8 @@ import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.functions.ProjectFactorizedEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FactorizedResult;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.ProjectionNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
@@ -68,6 +70,81 @@ public class ProjectEmbeddingsNode extends UnaryNode implements ProjectionNode {
     return op.evaluate();
   }
 
+  @Override
+  public FactorizedResult executeFactorized() {
+    int leftPropertyCount = getChildNode().getFactorMetaData().getLeft().getPropertyCount();
+
+    FactorizedResult input = getChildNode().executeFactorized();
+    return input.withEmbeddings(input.getEmbeddings()
+      .map(new ProjectFactorizedEmbedding(
+        getFactorWhiteList(leftPropertyCount, true),
+        getFactorWhiteList(leftPropertyCount, false)))
+      .name(toString()));
+  }
+
+  @Override
+  public Pair<EmbeddingMetaData, EmbeddingMetaData> getFactorMetaData() {
+    Pair<EmbeddingMetaData, EmbeddingMetaData> factors = getChildNode().getFactorMetaData();
+    if (factors == null) {
+      return null;
+    }
+    int leftPropertyCount = factors.getLeft().getPropertyCount();
+
+    // flattening appends the right properties to the left ones, so the projected left
+    // properties need to precede the projected right properties
+    boolean rightColumnSeen = false;
+    for (int column : whiteListColumns) {
+      if (column >= leftPropertyCount) {
+        rightColumnSeen = true;
+      } else if (rightColumnSeen) {
+        return null;
+      }
+    }
+
+    return Pair.of(
+      projectFactorMetaData(factors.getLeft(), getFactorWhiteList(leftPropertyCount, true)),
+      projectFactorMetaData(factors.getRight(), getFactorWhiteList(leftPropertyCount, false)));
+  }
+
+  /**
+   * Computes the property columns of the left or right alternatives that are taken over to the
+   * output embedding.
+   *
+   * @param leftPropertyCount number of properties of the left alternatives
+   * @param left true, if the columns of the left alternatives are computed
+   * @return white list columns of the alternatives
+   */
+  private List<Integer> getFactorWhiteList(int leftPropertyCount, boolean left) {
+    return whiteListColumns.stream()
+      .filter(column -> left == (column < leftPropertyCount))
+      .map(column -> left ? column : column - leftPropertyCount)
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Computes the meta data of projected alternatives.
+   *
+   * @param metaData meta data of the alternatives
+   * @param factorWhiteList property columns of the alternatives which are kept
+   * @return meta data of the projected alternatives
+   */
+  private static EmbeddingMetaData projectFactorMetaData(EmbeddingMetaData metaData,
+    List<Integer> factorWhiteList) {
+    EmbeddingMetaData projectedMetaData = new EmbeddingMetaData();
+
+    for (String var : metaData.getVariables()) {
+      projectedMetaData.setEntryColumn(var, metaData.getEntryType(var),
+        metaData.getEntryColumn(var));
+      for (String key : metaData.getPropertyKeys(var)) {
+        int column = factorWhiteList.indexOf(metaData.getPropertyColumn(var, key));
+        if (column >= 0) {
+          projectedMetaData.setPropertyColumn(var, key, column);
+        }
+      }
+    }
+    return projectedMetaData;
+  }
+
   @Override
   protected EmbeddingMetaData computeEmbeddingMetaData() {
     final EmbeddingMetaData childMetaData = getChildNode().getEmbeddingMetaData();
@@ -14,12 +14,11 @@
  * You should have received a copy of the GNU General Public License
  * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
  */
+
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
 
-import com.google.common.collect.Lists;
 import com.google.common.primitives.Ints;
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.types.CopyableValue;
@@ -39,6 +38,21 @@ import static java.util.stream.Collectors.joining;
  * either a reference to a single Edge or Vertex, or a path (Edge, Vertex, Edge, Vertex, ..., Edge).
  * The reference is stored via the elements ID. Additionally the embedding ca store an ordered
  * list of PropertyValues.
+ *
+ * Internally, the embedding is stored in three byte buffers:
+ *
+ * <ul>
+ * <li>id data: one fixed-width slot (flag, ID) per entry, i.e. entry {@code i} starts at
+ * {@code i * ID_ENTRY_SIZE}</li>
+ * <li>property data: (length, property value) per property, located via an offset table which
+ * is maintained on append and rebuilt lazily if the data is replaced</li>
+ * <li>id list data: (pointer, count, ID+) per id list</li>
+ * </ul>
+ *
+ * Each buffer may be larger than its used length. Appends are written in place if the buffer
+ * has enough capacity left, see {@link #reserve(int, int)}. Buffers with spare capacity are
+ * never shared with other embeddings, i.e. all buffers handed out or passed to other embeddings
+ * are trimmed to their used length first.
  */
 @SuppressWarnings("SE_NO_SERIALVERSIONID")
 public class Embedding implements Value, CopyableValue<Embedding> {
@@ -58,26 +72,61 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    */
   public static final transient byte ID_LIST_FLAG = 0x01;
 
+  /**
+   * Size of the header (pointer, count) of an id list
+   */
+  private static final transient int ID_LIST_HEADER_SIZE = GradoopId.ID_SIZE + Integer.BYTES;
+
+  /**
+   * Empty buffer
+   */
+  private static final transient byte[] EMPTY = new byte[0];
+
   /**
    * Holds the idData of all id-able entries (IDListFlag, ID)
    */
   private byte[] idData;
 
+  /**
+   * Number of used bytes in {@link #idData}
+   */
+  private int idLength;
+
   /**
    * Holds all properties in the form (length, property value)
    */
   private byte[] propertyData;
 
+  /**
+   * Number of used bytes in {@link #propertyData}
+   */
+  private int propertyLength;
+
+  /**
+   * Offsets of the properties in {@link #propertyData}, {@code null} if not computed yet
+   */
+  private transient int[] propertyOffsets;
+
+  /**
+   * Number of valid entries in {@link #propertyOffsets}
+   */
+  private transient int propertyCount;
+
   /**
    * Holds all id lists in the form (pointer, count, ID+)
    */
   private byte[] idListData;
 
+  /**
+   * Number of used bytes in {@link #idListData}
+   */
+  private int idListLength;
+
   /**
    * Creates am empty Embedding
    */
   public Embedding() {
-    this(new byte[0], new byte[0], new byte[0]);
+    this(EMPTY, EMPTY, EMPTY);
   }
 
   /**
@@ -88,9 +137,9 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    */
   @SuppressWarnings("EI_EXPOSE_REP2")
   public Embedding(byte[] idData, byte[] propertyData, byte[] idListData) {
-    this.idData = idData;
-    this.propertyData = propertyData;
-    this.idListData = idListData;
+    setIdData(idData);
+    setPropertyData(propertyData);
+    setIdListData(idListData);
   }
 
   // ---------------------------------------------------------------------------------------------
@@ -112,18 +161,13 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param ids list of ids
    */
   public void addAll(GradoopId... ids) {
-    byte[] newIds = new byte[idData.length + ids.length * ID_ENTRY_SIZE];
+    ensureIdCapacity(ids.length * ID_ENTRY_SIZE);
 
-    System.arraycopy(idData, 0, newIds, 0, idData.length);
-
-    int offset = idData.length;
     for (GradoopId id : ids) {
-      newIds[offset] = ID_ENTRY_FLAG;
-      System.arraycopy(id.toByteArray(), 0, newIds, offset + 1, GradoopId.ID_SIZE);
-      offset += ID_ENTRY_SIZE;
+      idData[idLength] = ID_ENTRY_FLAG;
+      writeId(id, idData, idLength + 1);
+      idLength += ID_ENTRY_SIZE;
     }
-
-    idData = newIds;
   }
   /**
    * Returns the Id of the entry stored at the specified position
@@ -140,13 +184,26 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return the entries ID
    */
   public byte[] getRawId(int column) {
-    byte[] rawEntry = getRawIdEntry(column);
+    byte[] rawId = new byte[GradoopId.ID_SIZE];
+    copyRawId(column, rawId, 0);
+    return rawId;
+  }
+
+  /**
+   * Copies the ID of the entry stored at the specified position into the given array.
+   *
+   * @param column position the entry is stored at
+   * @param target target array
+   * @param offset offset in the target array
+   */
+  public void copyRawId(int column, byte[] target, int offset) {
+    int idOffset = getIdOffset(column);
 
-    if (rawEntry[0] == ID_LIST_FLAG) {
+    if (idData[idOffset] == ID_LIST_FLAG) {
       throw new UnsupportedOperationException("Can't return ID for ID List");
     }
 
-    return ArrayUtils.subarray(rawEntry, 1, ID_ENTRY_SIZE);
+    System.arraycopy(idData, idOffset + 1, target, offset, GradoopId.ID_SIZE);
   }
 
   /**
@@ -156,7 +213,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    */
   public byte[] getRawIdEntry(int column) {
     int offset = getIdOffset(column);
-    return ArrayUtils.subarray(idData, offset, offset + ID_ENTRY_SIZE);
+    return Arrays.copyOfRange(idData, offset, offset + ID_ENTRY_SIZE);
   }
 
   /**
@@ -165,8 +222,9 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return The ID or ID-List stored at the specified position
    */
   public List<GradoopId> getIdAsList(int column) {
-    int offset = getIdOffset(column);
-    return idData[offset] == ID_LIST_FLAG ? getIdList(column) : Lists.newArrayList(getId(column));
+    List<GradoopId> ids = new ArrayList<>();
+    appendIds(column, ids);
+    return ids;
   }
 
   /**
@@ -175,21 +233,29 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return IDs of the entries stored at the specified positions
    */
   public List<GradoopId> getIdsAsList(List<Integer> columns) {
-    int offset;
     List<GradoopId> ids = new ArrayList<>();
 
     for (Integer column : columns) {
-      offset = getIdOffset(column);
-      if (idData[offset] == ID_LIST_FLAG) {
-        ids.addAll(getIdList(column));
-      } else {
-        ids.add(getId(column));
-      }
+      appendIds(column, ids);
     }
 
     return ids;
   }
 
+  /**
+   * Appends the ID or the IDs of the ID-List stored at the specified position to the given list.
+   *
+   * @param column Index of the entry
+   * @param ids list to append the ids to
+   */
+  private void appendIds(int column, List<GradoopId> ids) {
+    if (idData[getIdOffset(column)] == ID_LIST_FLAG) {
+      ids.addAll(getIdList(column));
+    } else {
+      ids.add(getId(column));
+    }
+  }
+
   /**
    * Adds an entry to the embedding.
    * This can either be an ID representing referencing a Vertex/Edge or a pointer to a path entry
@@ -197,12 +263,10 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param isIdList indicates if the id represents a GraphElement or points to a path entry
    */
   private void add(GradoopId id, boolean isIdList) {
-    byte[] newIds = new byte[idData.length + 1 + GradoopId.ID_SIZE];
-    System.arraycopy(idData, 0, newIds, 0, idData.length);
-    newIds[idData.length] = isIdList ? ID_LIST_FLAG : ID_ENTRY_FLAG;
-    System.arraycopy(id.toByteArray(), 0, newIds, idData.length + 1, GradoopId.ID_SIZE);
-
-    idData = newIds;
+    ensureIdCapacity(ID_ENTRY_SIZE);
+    idData[idLength] = isIdList ? ID_LIST_FLAG : ID_ENTRY_FLAG;
+    writeId(id, idData, idLength + 1);
+    idLength += ID_ENTRY_SIZE;
   }
 
   /**
@@ -236,22 +300,24 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param properties new properties
    */
   public void addPropertyValues(PropertyValue... properties) {
-    int newPropertiesSize = propertyData.length;
+    int newPropertiesSize = 0;
     for (PropertyValue property : properties) {
       newPropertiesSize += property.getByteSize() + Integer.BYTES;
     }
 
-    byte[] newPropertyData = new byte[newPropertiesSize];
-
-    System.arraycopy(propertyData, 0, newPropertyData, 0, propertyData.length);
+    ensurePropertyCapacity(newPropertiesSize);
+    int[] offsets = getPropertyOffsets();
+    if (offsets.length < propertyCount + properties.length) {
+      offsets = Arrays.copyOf(offsets, Math.max(propertyCount + properties.length,
+        offsets.length * 2));
+      propertyOffsets = offsets;
+    }
 
-    int offset = propertyData.length;
     for (PropertyValue property : properties) {
-      writeProperty(property, newPropertyData, offset);
-      offset += property.getByteSize() + Integer.BYTES;
+      offsets[propertyCount++] = propertyLength;
+      writeProperty(property, propertyData, propertyLength);
+      propertyLength += property.getByteSize() + Integer.BYTES;
     }
-
-    this.propertyData = newPropertyData;
   }
 
 
@@ -263,14 +329,12 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   public PropertyValue getProperty(int column) {
     int offset = getPropertyOffset(column);
 
-    int entryLength = Ints.fromByteArray(
-      ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES)
-    );
+    int entryLength = readInt(propertyData, offset);
 
     offset += Integer.BYTES;
 
     return PropertyValue.fromRawBytes(
-      ArrayUtils.subarray(propertyData, offset, offset + entryLength)
+      Arrays.copyOfRange(propertyData, offset, offset + entryLength)
     );
   }
 
@@ -282,60 +346,127 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   public byte[] getRawProperty(int column) {
     int offset = getPropertyOffset(column);
 
-    int entryLength = Ints.fromByteArray(
-      ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES)
-    );
+    int entryLength = readInt(propertyData, offset);
 
-    return ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES + entryLength);
+    return Arrays.copyOfRange(propertyData, offset, offset + Integer.BYTES + entryLength);
   }
 
   /**
-   * Returns a list of all property values stored in the embedding
-   * @return List of all property values stored in the embedding
+   * Returns the number of bytes of the internal representation of the property stored at the
+   * specified column.
+   *
+   * @param column the properties index in the property list
+   * @return size of the internal representation
    */
-  public List<PropertyValue> getProperties() {
-    List<PropertyValue> properties = new ArrayList<>();
-    int offset = 0;
-    int entrySize;
-    while (offset < propertyData.length) {
-      entrySize =
-        Ints.fromByteArray(ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES));
+  public int getRawPropertySize(int column) {
+    return readInt(propertyData, getPropertyOffset(column)) + Integer.BYTES;
+  }
 
-      offset += Integer.BYTES;
+  /**
+   * Copies the internal representation of the property stored at the specified column into the
+   * given array.
+   *
+   * @param column the properties index in the property list
+   * @param target target array
+   * @param offset offset in the target array
+   * @return number of copied bytes
+   */
+  public int copyRawProperty(int column, byte[] target, int offset) {
+    int propertyOffset = getPropertyOffset(column);
+    int size = readInt(propertyData, propertyOffset) + Integer.BYTES;
+    System.arraycopy(propertyData, propertyOffset, target, offset, size);
+    return size;
+  }
 
-      properties.add(PropertyValue.fromRawBytes(
-        ArrayUtils.subarray(propertyData, offset, offset + entrySize)
-      ));
+  /**
+   * Returns the number of bytes of the internal representation of the property value stored at
+   * the specified column, i.e. without its length prefix.
+   *
+   * @param column the properties index in the property list
+   * @return size of the internal representation of the property value
+   */
+  public int getRawPropertyValueSize(int column) {
+    return readInt(propertyData, getPropertyOffset(column));
+  }
 
-      offset += entrySize;
-    }
+  /**
+   * Copies the internal representation of the property value stored at the specified column,
+   * i.e. without its length prefix, into the given array.
+   *
+   * @param column the properties index in the property list
+   * @param target target array
+   * @param offset offset in the target array
+   * @return number of copied bytes
+   */
+  public int copyRawPropertyValue(int column, byte[] target, int offset) {
+    int propertyOffset = getPropertyOffset(column);
+    int size = readInt(propertyData, propertyOffset);
+    System.arraycopy(propertyData, propertyOffset + Integer.BYTES, target, offset, size);
+    return size;
+  }
 
+  /**
+   * Returns a list of all property values stored in the embedding
+   * @return List of all property values stored in the embedding
+   */
+  public List<PropertyValue> getProperties() {
+    int count = getPropertyCount();
+    List<PropertyValue> properties = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      properties.add(getProperty(i));
+    }
     return properties;
   }
 
+  /**
+   * Returns the number of properties stored in the embedding
+   * @return number of properties
+   */
+  public int getPropertyCount() {
+    getPropertyOffsets();
+    return propertyCount;
+  }
+
   /**
    * Returns the offset of the property in the propertyData array
    * @param column the index of the property
    * @return Offset of the property in the propertyData array
    */
   private int getPropertyOffset(int column) {
-    int i = 0;
-    int offset = 0;
-    int entryLength;
+    int[] offsets = getPropertyOffsets();
 
-    while (i < column && offset < propertyData.length) {
-      entryLength =
-        Ints.fromByteArray(ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES));
-
-      offset += entryLength + Integer.BYTES;
-      i++;
+    if (column < 0 || column >= propertyCount) {
+      throw new IndexOutOfBoundsException("Cant find Property. " + propertyCount + " <= " + column);
     }
 
-    if (offset >= propertyData.length) {
-      throw new IndexOutOfBoundsException("Cant find Property. " + (i - 1) + " < " + column);
-    }
+    return offsets[column];
+  }
 
-    return offset;
+  /**
+   * Returns the offset table of the properties, which is computed if necessary.
+   *
+   * @return offsets of the properties (first {@link #propertyCount} entries are valid)
+   */
+  private int[] getPropertyOffsets() {
+    if (propertyOffsets == null) {
+      int count = 0;
+      int offset = 0;
+      while (offset < propertyLength) {
+        offset += readInt(propertyData, offset) + Integer.BYTES;
+        count++;
+      }
+
+      int[] offsets = new int[count];
+      offset = 0;
+      for (int i = 0; i < count; i++) {
+        offsets[i] = offset;
+        offset += readInt(propertyData, offset) + Integer.BYTES;
+      }
+
+      propertyOffsets = offsets;
+      propertyCount = count;
+    }
+    return propertyOffsets;
   }
 
   // ---------------------------------------------------------------------------------------------
@@ -350,21 +481,16 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     GradoopId pointer = GradoopId.get();
     add(pointer, true);
 
-    byte[] newIdLists = new byte[idListData.length +
-      GradoopId.ID_SIZE + Integer.BYTES +
-      ids.length * GradoopId.ID_SIZE];
+    ensureIdListCapacity(ID_LIST_HEADER_SIZE + ids.length * GradoopId.ID_SIZE);
 
-    System.arraycopy(idListData, 0, newIdLists, 0, idListData.length);
-    writeId(pointer, newIdLists, idListData.length);
-    writeInt(ids.length, newIdLists, idListData.length + GradoopId.ID_SIZE);
+    writeId(pointer, idListData, idListLength);
+    writeInt(ids.length, idListData, idListLength + GradoopId.ID_SIZE);
+    idListLength += ID_LIST_HEADER_SIZE;
 
-    int offset = idListData.length + GradoopId.ID_SIZE + Integer.BYTES;
     for (GradoopId id: ids) {
-      writeId(id, newIdLists, offset);
-      offset += GradoopId.ID_SIZE;
+      writeId(id, idListData, idListLength);
+      idListLength += GradoopId.ID_SIZE;
     }
-
-    idListData = newIdLists;
   }
 
   /**
@@ -375,8 +501,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   public List<GradoopId> getIdList(int column) {
     int offset = getIdListOffset(column);
 
-    int listSize =
-      Ints.fromByteArray(ArrayUtils.subarray(idListData, offset, offset + Integer.BYTES));
+    int listSize = readInt(idListData, offset);
 
     offset += Integer.BYTES;
 
@@ -384,7 +509,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
 
     for (int i = 0; i < listSize; i++) {
       idList.add(GradoopId.fromByteArray(
-        ArrayUtils.subarray(idListData, offset, offset + GradoopId.ID_SIZE)
+        Arrays.copyOfRange(idListData, offset, offset + GradoopId.ID_SIZE)
       ));
       offset += GradoopId.ID_SIZE;
     }
@@ -404,30 +529,16 @@ public class Embedding implements Value, CopyableValue<Embedding> {
       throw new UnsupportedOperationException("Entry is not an IDList");
     }
 
-    byte[] pointer = ArrayUtils.subarray(idData, pointerOffset, pointerOffset + GradoopId.ID_SIZE);
-
     int offset = 0;
-    byte[] comparePointer;
-    int listSize;
-    boolean found = false;
-
-    while (!found && offset < idListData.length) {
-      comparePointer = ArrayUtils.subarray(idListData, offset, offset + GradoopId.ID_SIZE);
-      offset += GradoopId.ID_SIZE;
-      found = Arrays.equals(pointer, comparePointer);
-
-      if (!found) {
-        listSize =
-          Ints.fromByteArray(ArrayUtils.subarray(idListData, offset, offset + Integer.BYTES));
-        offset += GradoopId.ID_SIZE * listSize + Integer.BYTES;
+    while (offset < idListLength) {
+      if (equalIds(idData, pointerOffset, idListData, offset)) {
+        return offset + GradoopId.ID_SIZE;
       }
+      offset += ID_LIST_HEADER_SIZE +
+        GradoopId.ID_SIZE * readInt(idListData, offset + GradoopId.ID_SIZE);
     }
 
-    if (!found) {
-      throw new RuntimeException("Could not find IdList entry");
-    }
-
-    return offset;
+    throw new RuntimeException("Could not find IdList entry");
   }
 
   // ---------------------------------------------------------------------------------------------
@@ -439,7 +550,20 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return the number of entries in the embedding
    */
   public int size() {
-    return idData.length / ID_ENTRY_SIZE;
+    return idLength / ID_ENTRY_SIZE;
+  }
+
+  /**
+   * Reserves capacity for appending entries without reallocating the internal buffers.
+   *
+   * @param idEntries number of entries (ids and id lists) that will be appended
+   * @param pathIds total number of ids in the id lists that will be appended
+   */
+  public void reserve(int idEntries, int pathIds) {
+    ensureIdCapacity(idEntries * ID_ENTRY_SIZE);
+    if (pathIds > 0) {
+      ensureIdListCapacity(idEntries * ID_LIST_HEADER_SIZE + pathIds * GradoopId.ID_SIZE);
+    }
   }
 
   /**
@@ -448,12 +572,16 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    */
   @SuppressWarnings("EI_EXPOSE_REP")
   public byte[] getIdData() {
+    if (idData.length != idLength) {
+      idData = Arrays.copyOf(idData, idLength);
+    }
     return this.idData;
   }
 
   @SuppressWarnings("EI_EXPOSE_REP")
   public void setIdData(byte[] idData) {
     this.idData = idData;
+    this.idLength = idData.length;
   }
 
   /**
@@ -462,12 +590,17 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    */
   @SuppressWarnings("EI_EXPOSE_REP")
   public byte[] getPropertyData() {
+    if (propertyData.length != propertyLength) {
+      propertyData = Arrays.copyOf(propertyData, propertyLength);
+    }
     return this.propertyData;
   }
 
   @SuppressWarnings("EI_EXPOSE_REP")
   public void setPropertyData(byte[] propertyData) {
     this.propertyData = propertyData;
+    this.propertyLength = propertyData.length;
+    this.propertyOffsets = null;
   }
 
   /**
@@ -476,12 +609,16 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    */
   @SuppressWarnings("EI_EXPOSE_REP")
   public byte[] getIdListData() {
+    if (idListData.length != idListLength) {
+      idListData = Arrays.copyOf(idListData, idListLength);
+    }
     return idListData;
   }
 
   @SuppressWarnings("EI_EXPOSE_REP")
   public void setIdListData(byte[] idListData) {
     this.idListData = idListData;
+    this.idListLength = idListData.length;
   }
 
 
@@ -495,12 +632,18 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return Embedding with the projected property list
    */
   public Embedding project(List<Integer> propertyWhiteList) {
-    byte[] newPropertyData = new byte[0];
+    int size = 0;
     for (int index : propertyWhiteList) {
-      newPropertyData = ArrayUtils.addAll(newPropertyData, getRawProperty(index));
+      size += getRawPropertySize(index);
     }
 
-    return new Embedding(idData, newPropertyData, idListData);
+    byte[] newPropertyData = new byte[size];
+    int offset = 0;
+    for (int index : propertyWhiteList) {
+      offset += copyRawProperty(index, newPropertyData, offset);
+    }
+
+    return new Embedding(getIdData(), newPropertyData, getIdListData());
   }
 
   /**
@@ -509,17 +652,17 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return  A new Embedding with reversed entry order
    */
   public Embedding reverse() {
-    byte[] newIdData = new byte[idData.length];
+    byte[] newIdData = new byte[idLength];
 
     for (int i = size() - 1; i >= 0; i--) {
       System.arraycopy(
-        getRawIdEntry(i), 0,
+        idData, i * ID_ENTRY_SIZE,
         newIdData,  (size() - 1 - i) * ID_ENTRY_SIZE,
         ID_ENTRY_SIZE
       );
     }
 
-    return new Embedding(newIdData, propertyData, idListData);
+    return new Embedding(newIdData, getPropertyData(), getIdListData());
   }
 
 
@@ -536,6 +679,78 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     }
   }
 
+  /**
+   * Ensures that the given number of bytes can be appended to the id data in place.
+   * @param additional number of bytes
+   */
+  private void ensureIdCapacity(int additional) {
+    idData = ensureCapacity(idData, idLength, additional);
+  }
+
+  /**
+   * Ensures that the given number of bytes can be appended to the property data in place.
+   * @param additional number of bytes
+   */
+  private void ensurePropertyCapacity(int additional) {
+    propertyData = ensureCapacity(propertyData, propertyLength, additional);
+  }
+
+  /**
+   * Ensures that the given number of bytes can be appended to the id list data in place.
+   * @param additional number of bytes
+   */
+  private void ensureIdListCapacity(int additional) {
+    idListData = ensureCapacity(idListData, idListLength, additional);
+  }
+
+  /**
+   * Returns a buffer which holds the used bytes of the given buffer and has room for the given
+   * number of additional bytes. The buffer is grown by at least a factor of 1.5 to amortize
+   * the costs of repeated appends.
+   *
+   * @param buffer current buffer
+   * @param length used bytes of the current buffer
+   * @param additional number of bytes to append
+   * @return the given buffer if it is large enough, a new buffer otherwise
+   */
+  private static byte[] ensureCapacity(byte[] buffer, int length, int additional) {
+    int required = length + additional;
+    if (required <= buffer.length) {
+      return buffer;
+    }
+    return Arrays.copyOf(buffer, Math.max(required, length + (length >> 1)));
+  }
+
+  /**
+   * Checks if two ids stored in byte arrays are equal.
+   *
+   * @param first first array
+   * @param firstOffset offset of the id in the first array
+   * @param second second array
+   * @param secondOffset offset of the id in the second array
+   * @return true, if both ids are equal
+   */
+  private static boolean equalIds(byte[] first, int firstOffset, byte[] second,
+    int secondOffset) {
+    for (int i = 0; i < GradoopId.ID_SIZE; i++) {
+      if (first[firstOffset + i] != second[secondOffset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads an Integer from the source byte array starting at the specified offset
+   * @param source Source byte array
+   * @param offset offset the value will be read from
+   * @return Integer value
+   */
+  private static int readInt(byte[] source, int offset) {
+    return Ints.fromBytes(
+      source[offset], source[offset + 1], source[offset + 2], source[offset + 3]);
+  }
+
   /**
    * Writes the byte representation of an Integer into the target byte array starting at the
    * specified offset
@@ -543,8 +758,11 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param target Target byte array
    * @param offset offset the value will be written to
    */
-  private void writeInt(int value, byte[] target, int offset) {
-    System.arraycopy(Ints.toByteArray(value), 0, target, offset, Integer.BYTES);
+  private static void writeInt(int value, byte[] target, int offset) {
+    target[offset] = (byte) (value >> 24);
+    target[offset + 1] = (byte) (value >> 16);
+    target[offset + 2] = (byte) (value >> 8);
+    target[offset + 3] = (byte) value;
   }
 
   /**
@@ -554,7 +772,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param target Target byte array
    * @param offset offset the value will be written to
    */
-  private void writeId(GradoopId value, byte[] target, int offset) {
+  private static void writeId(GradoopId value, byte[] target, int offset) {
     System.arraycopy(value.toByteArray(), 0, target, offset, GradoopId.ID_SIZE);
   }
 
@@ -565,7 +783,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param target Target byte array
    * @param offset offset the value will be written to
    */
-  private void writeProperty(PropertyValue value, byte[] target, int offset) {
+  private static void writeProperty(PropertyValue value, byte[] target, int offset) {
     writeInt(value.getByteSize(), target, offset);
     offset += Integer.BYTES;
     System.arraycopy(value.getRawBytes(), 0, target, offset, value.getByteSize());
@@ -582,13 +800,9 @@ public class Embedding implements Value, CopyableValue<Embedding> {
 
   @Override
   public void copyTo(Embedding target) {
-    target.idData = new byte[idData.length];
-    target.propertyData = new byte[propertyData.length];
-    target.idListData = new byte[idListData.length];
-
-    System.arraycopy(this.idData, 0, target.idData, 0, this.idData.length);
-    System.arraycopy(this.propertyData, 0, target.propertyData, 0, this.propertyData.length);
-    System.arraycopy(this.idListData, 0, target.idListData, 0, this.idListData.length);
+    target.setIdData(Arrays.copyOf(idData, idLength));
+    target.setPropertyData(Arrays.copyOf(propertyData, propertyLength));
+    target.setIdListData(Arrays.copyOf(idListData, idListLength));
   }
 
   @Override
@@ -616,46 +830,38 @@ public class Embedding implements Value, CopyableValue<Embedding> {
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    out.writeInt(idData.length);
-    out.write(idData);
+    out.writeInt(idLength);
+    out.write(idData, 0, idLength);
 
-    out.writeInt(propertyData.length);
-    out.write(propertyData);
+    out.writeInt(propertyLength);
+    out.write(propertyData, 0, propertyLength);
 
-    out.writeInt(idListData.length);
-    out.write(idListData);
+    out.writeInt(idListLength);
+    out.write(idListData, 0, idListLength);
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
+    setIdData(readBuffer(in));
+    setPropertyData(readBuffer(in));
+    setIdListData(readBuffer(in));
+  }
 
+  /**
+   * Reads a length prefixed buffer.
+   *
+   * @param in input view
+   * @return buffer
+   * @throws IOException if the buffer cannot be read
+   */
+  private static byte[] readBuffer(DataInputView in) throws IOException {
     int sizeBuffer = in.readInt();
-    byte[] ids = new byte[sizeBuffer];
-    if (sizeBuffer > 0) {
-      if (in.read(ids) != sizeBuffer) {
-        throw new RuntimeException("Deserialisation of Embedding failed");
-      }
+    if (sizeBuffer == 0) {
+      return EMPTY;
     }
-
-    sizeBuffer = in.readInt();
-    byte[] newPropertyData =  new byte[sizeBuffer];
-    if (sizeBuffer > 0) {
-      if (in.read(newPropertyData) != sizeBuffer) {
-        throw new RuntimeException("Deserialisation of Embedding failed");
-      }
-    }
-
-    sizeBuffer = in.readInt();
-    byte[] idLists = new byte[sizeBuffer];
-    if (sizeBuffer > 0) {
-      if (in.read(idLists) != sizeBuffer) {
-        throw new RuntimeException("Deserialisation of Embedding failed");
-      }
-    }
-
-    this.idData = ids;
-    this.propertyData = newPropertyData;
-    this.idListData = idLists;
+    byte[] buffer = new byte[sizeBuffer];
+    in.readFully(buffer);
+    return buffer;
   }
 
   @Override
@@ -669,24 +875,54 @@ public class Embedding implements Value, CopyableValue<Embedding> {
 
     Embedding that = (Embedding) o;
 
-    if (!Arrays.equals(idData, that.idData)) {
-      return false;
-    }
-    if (!Arrays.equals(propertyData, that.propertyData)) {
+    return equalRanges(idData, idLength, that.idData, that.idLength) &&
+      equalRanges(propertyData, propertyLength, that.propertyData, that.propertyLength) &&
+      equalRanges(idListData, idListLength, that.idListData, that.idListLength);
+  }
+
+  /**
+   * Checks if the used bytes of two buffers are equal.
+   *
+   * @param first first buffer
+   * @param firstLength used bytes of the first buffer
+   * @param second second buffer
+   * @param secondLength used bytes of the second buffer
+   * @return true, if both buffers contain the same bytes
+   */
+  private static boolean equalRanges(byte[] first, int firstLength, byte[] second,
+    int secondLength) {
+    if (firstLength != secondLength) {
       return false;
     }
-    if (!Arrays.equals(idListData, that.idListData)) {
-      return false;
+    for (int i = 0; i < firstLength; i++) {
+      if (first[i] != second[i]) {
+        return false;
+      }
     }
-
     return true;
   }
 
   @Override
   public int hashCode() {
-    int result = Arrays.hashCode(idData);
-    result = 31 * result + Arrays.hashCode(propertyData);
-    result = 31 * result + Arrays.hashCode(idListData);
+    int result = hashRange(idData, idLength);
+    result = 31 * result + hashRange(propertyData, propertyLength);
+    result = 31 * result + hashRange(idListData, idListLength);
+    return result;
+  }
+
+  /**
+   * Computes the hash code of the used bytes of a buffer, equal to {@link Arrays#hashCode(byte[])}
+   * of the trimmed buffer.
+   *
+   * @param buffer buffer
+   * @param length used bytes
+   * @return hash code
+   */
+  private static int hashRange(byte[] buffer, int length) {
+    int result = 1;
+    for (int i = 0; i < length; i++) {
+      result = 31 * result + buffer[i];
+    }
     return result;
   }
 
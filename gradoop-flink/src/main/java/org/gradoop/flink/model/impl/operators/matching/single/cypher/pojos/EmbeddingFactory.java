@@ -97,6 +97,7 @@ public class EmbeddingFactory {
     String targetVertexVariable) {
 
     Embedding embedding = new Embedding();
+    embedding.reserve(3, 0);
     embedding.add(
       triple.getSourceVertex().getId(),
       project(triple.getSourceVertex(), sourcePropertyKeys)
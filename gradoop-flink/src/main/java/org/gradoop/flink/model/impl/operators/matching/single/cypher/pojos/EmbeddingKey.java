@@ -0,0 +1,155 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
+
+import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.CopyableValue;
+import org.apache.flink.types.NormalizableKey;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Binary key built from the raw ids or property values of one or more embedding columns.
+ *
+ * Keys are ordered by the unsigned lexicographic order of their bytes. The bytes are used as
+ * normalized key, i.e. Flink sorts and compares the keys in its managed memory without
+ * deserializing them.
+ */
+@SuppressWarnings("SE_NO_SERIALVERSIONID")
+public class EmbeddingKey implements NormalizableKey<EmbeddingKey>, CopyableValue<EmbeddingKey> {
+
+  /**
+   * Key bytes
+   */
+  private byte[] bytes;
+
+  /**
+   * Creates an empty key
+   */
+  public EmbeddingKey() {
+    this(new byte[0]);
+  }
+
+  /**
+   * Creates a key from the given bytes
+   *
+   * @param bytes key bytes
+   */
+  @SuppressWarnings("EI_EXPOSE_REP2")
+  public EmbeddingKey(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Returns the key bytes
+   *
+   * @return key bytes
+   */
+  @SuppressWarnings("EI_EXPOSE_REP")
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  @Override
+  public int compareTo(EmbeddingKey other) {
+    int length = Math.min(bytes.length, other.bytes.length);
+    for (int i = 0; i < length; i++) {
+      int comparison = (bytes[i] & 0xff) - (other.bytes[i] & 0xff);
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return bytes.length - other.bytes.length;
+  }
+
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    int length = Math.min(len, bytes.length);
+    target.put(offset, bytes, 0, length);
+    for (int i = length; i < len; i++) {
+      target.put(offset + i, (byte) 0);
+    }
+  }
+
+  @Override
+  public int getBinaryLength() {
+    return -1;
+  }
+
+  @Override
+  public void copyTo(EmbeddingKey target) {
+    target.bytes = Arrays.copyOf(bytes, bytes.length);
+  }
+
+  @Override
+  public EmbeddingKey copy() {
+    return new EmbeddingKey(Arrays.copyOf(bytes, bytes.length));
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    int length = source.readInt();
+    target.writeInt(length);
+    target.write(source, length);
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    int length = in.readInt();
+    if (bytes.length != length) {
+      bytes = new byte[length];
+    }
+    in.readFully(bytes);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(bytes, ((EmbeddingKey) o).bytes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(bytes);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(bytes);
+  }
+}
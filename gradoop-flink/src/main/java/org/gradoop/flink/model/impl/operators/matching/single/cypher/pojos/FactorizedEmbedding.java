@@ -0,0 +1,189 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.Value;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the embeddings resulting from joining two groups of embeddings which share the same
+ * join key without materializing their cartesian product.
+ *
+ * Each left embedding can be combined with each right embedding, i.e. the factorized embedding
+ * represents up to {@code |left| * |right|} flat embeddings. The flat embeddings are only
+ * created on demand, e.g. right before the query result is converted into graph elements.
+ *
+ * Left embeddings are stored with all their columns, right embeddings also still contain the
+ * join columns which are removed while merging.
+ */
+public class FactorizedEmbedding implements Value {
+  /**
+   * Alternatives for the left side of the join
+   */
+  private List<Embedding> left;
+  /**
+   * Alternatives for the right side of the join
+   */
+  private List<Embedding> right;
+
+  /**
+   * Creates an empty factorized embedding.
+   */
+  public FactorizedEmbedding() {
+    this(new ArrayList<>(), new ArrayList<>());
+  }
+
+  /**
+   * Creates a factorized embedding from the given alternatives.
+   *
+   * @param left alternatives for the left side
+   * @param right alternatives for the right side
+   */
+  public FactorizedEmbedding(List<Embedding> left, List<Embedding> right) {
+    this.left = left;
+    this.right = right;
+  }
+
+  /**
+   * Returns the alternatives for the left side of the join.
+   *
+   * @return left embeddings
+   */
+  public List<Embedding> getLeft() {
+    return left;
+  }
+
+  /**
+   * Returns the alternatives for the right side of the join.
+   *
+   * @return right embeddings
+   */
+  public List<Embedding> getRight() {
+    return right;
+  }
+
+  /**
+   * Sets the alternatives for the left side of the join.
+   *
+   * @param left left embeddings
+   */
+  public void setLeft(List<Embedding> left) {
+    this.left = left;
+  }
+
+  /**
+   * Sets the alternatives for the right side of the join.
+   *
+   * @param right right embeddings
+   */
+  public void setRight(List<Embedding> right) {
+    this.right = right;
+  }
+
+  /**
+   * Returns the number of combinations of left and right alternatives. This is an upper bound
+   * for the number of represented embeddings as morphism constraints are checked while merging.
+   *
+   * @return number of combinations
+   */
+  public long getCombinationCount() {
+    return (long) left.size() * right.size();
+  }
+
+  /**
+   * Returns true, if there is no combination of left and right alternatives.
+   *
+   * @return true, if one of both sides is empty
+   */
+  public boolean isEmpty() {
+    return left.isEmpty() || right.isEmpty();
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    writeEmbeddings(left, out);
+    writeEmbeddings(right, out);
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    left = readEmbeddings(in);
+    right = readEmbeddings(in);
+  }
+
+  /**
+   * Writes a count prefixed list of embeddings.
+   *
+   * @param embeddings embeddings
+   * @param out output view
+   * @throws IOException if the embeddings cannot be written
+   */
+  private static void writeEmbeddings(List<Embedding> embeddings, DataOutputView out)
+    throws IOException {
+    out.writeInt(embeddings.size());
+    for (Embedding embedding : embeddings) {
+      embedding.write(out);
+    }
+  }
+
+  /**
+   * Reads a count prefixed list of embeddings.
+   *
+   * @param in input view
+   * @return embeddings
+   * @throws IOException if the embeddings cannot be read
+   */
+  private static List<Embedding> readEmbeddings(DataInputView in) throws IOException {
+    int count = in.readInt();
+    List<Embedding> embeddings = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Embedding embedding = new Embedding();
+      embedding.read(in);
+      embeddings.add(embedding);
+    }
+    return embeddings;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    FactorizedEmbedding that = (FactorizedEmbedding) o;
+
+    return left.equals(that.left) && right.equals(that.right);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * left.hashCode() + right.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("FactorizedEmbedding{left=%s, right=%s}", left, right);
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.PathSemantics;
+
+/**
+ * Describes how a variable length path is expanded: path bounds, direction, morphism types,
+ * path semantics and execution hints.
+ *
+ * Instances are immutable, the {@code with*} methods return modified copies.
+ */
+public class ExpandSettings {
+  /**
+   * Minimum number of path expansion steps
+   */
+  private final int lowerBound;
+  /**
+   * Maximum number of path expansion steps
+   */
+  private final int upperBound;
+  /**
+   * Direction in which to expand the embedding
+   */
+  private final ExpandDirection direction;
+  /**
+   * Morphism type for vertices
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism type for edges
+   */
+  private final MatchStrategy edgeStrategy;
+  /**
+   * Path semantics
+   */
+  private final PathSemantics semantics;
+  /**
+   * Join hint for Flink optimizer
+   */
+  private final JoinOperatorBase.JoinHint joinHint;
+  /**
+   * True, if the paths should be grown from both endpoints
+   */
+  private final boolean bidirectional;
+
+  /**
+   * Creates new settings enumerating all paths, letting the optimizer choose the join strategy.
+   *
+   * @param lowerBound minimum number of expansions
+   * @param upperBound maximum number of expansions, 0 for unbounded paths
+   * @param direction edge direction in the expansion
+   * @param vertexStrategy morphism strategy for vertices
+   * @param edgeStrategy morphism strategy for edges
+   */
+  public ExpandSettings(int lowerBound, int upperBound, ExpandDirection direction,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(lowerBound, upperBound, direction, vertexStrategy, edgeStrategy,
+      PathSemantics.ALL, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES, false);
+  }
+
+  /**
+   * Creates new settings.
+   *
+   * @param lowerBound minimum number of expansions
+   * @param upperBound maximum number of expansions, 0 for unbounded paths
+   * @param direction edge direction in the expansion
+   * @param vertexStrategy morphism strategy for vertices
+   * @param edgeStrategy morphism strategy for edges
+   * @param semantics path semantics
+   * @param joinHint join hint for joining the embeddings with the edges
+   * @param bidirectional grow the paths from both endpoints
+   */
+  private ExpandSettings(int lowerBound, int upperBound, ExpandDirection direction,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, PathSemantics semantics,
+    JoinOperatorBase.JoinHint joinHint, boolean bidirectional) {
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound == 0 ? Integer.MAX_VALUE : upperBound;
+    this.direction = direction;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+    this.semantics = semantics;
+    this.joinHint = joinHint;
+    this.bidirectional = bidirectional;
+  }
+
+  /**
+   * Returns a copy of these settings using the given path semantics.
+   *
+   * @param semantics path semantics
+   * @return modified settings
+   */
+  public ExpandSettings withSemantics(PathSemantics semantics) {
+    return new ExpandSettings(lowerBound, upperBound, direction, vertexStrategy, edgeStrategy,
+      semantics, joinHint, bidirectional);
+  }
+
+  /**
+   * Returns a copy of these settings using the given join hint.
+   *
+   * @param joinHint join hint for joining the embeddings with the edges
+   * @return modified settings
+   */
+  public ExpandSettings withJoinHint(JoinOperatorBase.JoinHint joinHint) {
+    return new ExpandSettings(lowerBound, upperBound, direction, vertexStrategy, edgeStrategy,
+      semantics, joinHint, bidirectional);
+  }
+
+  /**
+   * Returns a copy of these settings growing the paths from one or both endpoints.
+   *
+   * @param bidirectional grow the paths from both endpoints
+   * @return modified settings
+   */
+  public ExpandSettings withBidirectional(boolean bidirectional) {
+    return new ExpandSettings(lowerBound, upperBound, direction, vertexStrategy, edgeStrategy,
+      semantics, joinHint, bidirectional);
+  }
+
+  /**
+   * Returns the minimum number of expansions.
+   *
+   * @return lower bound
+   */
+  public int getLowerBound() {
+    return lowerBound;
+  }
+
+  /**
+   * Returns the maximum number of expansions.
+   *
+   * @return upper bound, {@link Integer#MAX_VALUE} for unbounded paths
+   */
+  public int getUpperBound() {
+    return upperBound;
+  }
+
+  /**
+   * Returns the edge direction in the expansion.
+   *
+   * @return expand direction
+   */
+  public ExpandDirection getDirection() {
+    return direction;
+  }
+
+  /**
+   * Returns the morphism strategy for vertices.
+   *
+   * @return vertex strategy
+   */
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  /**
+   * Returns the morphism strategy for edges.
+   *
+   * @return edge strategy
+   */
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
+  /**
+   * Returns the path semantics.
+   *
+   * @return path semantics
+   */
+  public PathSemantics getSemantics() {
+    return semantics;
+  }
+
+  /**
+   * Returns the join hint for joining the embeddings with the edges.
+   *
+   * @return join hint
+   */
+  public JoinOperatorBase.JoinHint getJoinHint() {
+    return joinHint;
+  }
+
+  /**
+   * Returns true, if the paths should be grown from both endpoints.
+   *
+   * @return true, if a bidirectional expansion is requested
+   */
+  public boolean isBidirectional() {
+    return bidirectional;
+  }
+}
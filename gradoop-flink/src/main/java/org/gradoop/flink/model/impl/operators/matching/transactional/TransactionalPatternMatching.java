@@ -21,7 +21,7 @@ import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple4;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -179,7 +179,7 @@ public class TransactionalPatternMatching implements UnaryCollectionToCollection
     //--------------------------------------------------------------------------
     // run the matching algorithm
     //--------------------------------------------------------------------------
-    DataSet<Tuple4<GradoopId, GradoopId, GradoopIdList, GradoopIdList>> embeddings = graphs
+    DataSet<Tuple4<GradoopId, GradoopId, GradoopIdSet, GradoopIdSet>> embeddings = graphs
       .flatMap(new FindEmbeddings(algorithm, query));
 
     //--------------------------------------------------------------------------
@@ -192,7 +192,7 @@ public class TransactionalPatternMatching implements UnaryCollectionToCollection
     //--------------------------------------------------------------------------
     // update vertex graphs
     //--------------------------------------------------------------------------
-    DataSet<Tuple2<GradoopId, GradoopIdList>> verticesWithGraphs = embeddings
+    DataSet<Tuple2<GradoopId, GradoopIdSet>> verticesWithGraphs = embeddings
       .map(new Project4To0And2AndSwitch<>())
       .flatMap(new ExpandFirstField<>()).groupBy(0)
       .reduceGroup(new MergeSecondField<>());
@@ -205,7 +205,7 @@ public class TransactionalPatternMatching implements UnaryCollectionToCollection
     //--------------------------------------------------------------------------
     // update edge graphs
     //--------------------------------------------------------------------------
-    DataSet<Tuple2<GradoopId, GradoopIdList>> edgesWithGraphs = embeddings
+    DataSet<Tuple2<GradoopId, GradoopIdSet>> edgesWithGraphs = embeddings
       .map(new Project4To0And3AndSwitch<>())
       .flatMap(new ExpandFirstField<>()).groupBy(0)
       .reduceGroup(new MergeSecondField<>());
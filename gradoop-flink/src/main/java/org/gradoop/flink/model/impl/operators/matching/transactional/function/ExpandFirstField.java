@@ -22,7 +22,7 @@ import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * Returns one Tuple2<GradoopId, T> per id contained in the first field.
@@ -30,7 +30,7 @@ import org.gradoop.common.model.impl.id.GradoopIdList;
  */
 @FunctionAnnotation.ForwardedFields("f1")
 public class ExpandFirstField<T>
-  implements FlatMapFunction<Tuple2<GradoopIdList, T>, Tuple2<GradoopId, T>> {
+  implements FlatMapFunction<Tuple2<GradoopIdSet, T>, Tuple2<GradoopId, T>> {
 
   /**
    * Reduce instantiation
@@ -38,7 +38,7 @@ public class ExpandFirstField<T>
   private Tuple2<GradoopId, T> reuseTuple = new Tuple2<>();
 
   @Override
-  public void flatMap(Tuple2<GradoopIdList, T> tuple2, Collector<Tuple2<GradoopId, T>> collector)
+  public void flatMap(Tuple2<GradoopIdSet, T> tuple2, Collector<Tuple2<GradoopId, T>> collector)
     throws Exception {
 
     reuseTuple.f1 = tuple2.f1;
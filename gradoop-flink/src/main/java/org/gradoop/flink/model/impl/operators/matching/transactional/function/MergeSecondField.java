@@ -22,7 +22,7 @@ import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 import java.util.Iterator;
 
@@ -33,15 +33,15 @@ import java.util.Iterator;
 @FunctionAnnotation.ForwardedFields("f0")
 @FunctionAnnotation.ReadFields("f1")
 public class MergeSecondField<T>
-  implements GroupReduceFunction<Tuple2<T, GradoopId>, Tuple2<T, GradoopIdList>> {
+  implements GroupReduceFunction<Tuple2<T, GradoopId>, Tuple2<T, GradoopIdSet>> {
 
   @Override
   public void reduce(Iterable<Tuple2<T, GradoopId>> iterable,
-    Collector<Tuple2<T, GradoopIdList>> collector) throws Exception {
+    Collector<Tuple2<T, GradoopIdSet>> collector) throws Exception {
     Iterator<Tuple2<T, GradoopId>> it = iterable.iterator();
     Tuple2<T, GradoopId> firstTuple = it.next();
     T firstField = firstTuple.f0;
-    GradoopIdList secondField = GradoopIdList.fromExisting(firstTuple.f1);
+    GradoopIdSet secondField = GradoopIdSet.fromExisting(firstTuple.f1);
     while (it.hasNext()) {
       GradoopId id = it.next().f1;
       secondField.add(id);
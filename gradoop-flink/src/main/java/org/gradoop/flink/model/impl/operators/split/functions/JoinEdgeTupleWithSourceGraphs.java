@@ -22,7 +22,7 @@ import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * Join edge tuples with the graph sets of their sources
@@ -32,20 +32,20 @@ import org.gradoop.common.model.impl.id.GradoopIdList;
 @FunctionAnnotation.ForwardedFieldsFirst("*->f0")
 @FunctionAnnotation.ForwardedFieldsSecond("f1->f1")
 public class JoinEdgeTupleWithSourceGraphs<E extends Edge>
-  implements JoinFunction<E, Tuple2<GradoopId, GradoopIdList>,
-  Tuple2<E, GradoopIdList>> {
+  implements JoinFunction<E, Tuple2<GradoopId, GradoopIdSet>,
+  Tuple2<E, GradoopIdSet>> {
 
   /**
    * Reduce object instantiation.
    */
-  private final Tuple2<E, GradoopIdList> reuseTuple = new Tuple2<>();
+  private final Tuple2<E, GradoopIdSet> reuseTuple = new Tuple2<>();
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public Tuple2<E, GradoopIdList> join(
-    E left, Tuple2<GradoopId, GradoopIdList> right) {
+  public Tuple2<E, GradoopIdSet> join(
+    E left, Tuple2<GradoopId, GradoopIdSet> right) {
     reuseTuple.f0 = left;
     reuseTuple.f1 = right.f1;
     return reuseTuple;
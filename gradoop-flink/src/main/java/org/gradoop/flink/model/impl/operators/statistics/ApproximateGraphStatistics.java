@@ -0,0 +1,134 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+import org.gradoop.flink.model.impl.functions.tuple.ToIdWithLabel;
+import org.gradoop.flink.model.impl.operators.statistics.functions.AddSourceLabel;
+import org.gradoop.flink.model.impl.operators.statistics.functions.AddTargetLabel;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ClearDegreeDistributions;
+import org.gradoop.flink.model.impl.operators.statistics.functions.MergeSketches;
+import org.gradoop.flink.model.impl.operators.statistics.functions.SketchEdges;
+import org.gradoop.flink.model.impl.operators.statistics.functions.SketchVertexDegrees;
+import org.gradoop.flink.model.impl.operators.statistics.functions.SketchVertices;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.GraphStatisticsSketch;
+import org.gradoop.flink.model.impl.tuples.IdWithLabel;
+
+/**
+ * Computes a {@link GraphStatisticsSketch} summarizing all statistics of the input graph in a
+ * single job.
+ *
+ * Each partition of vertices and edges is summarized locally and the partial sketches are merged
+ * afterwards. Edges are joined with the labels of their incident vertices beforehand. Vertex
+ * degrees are estimated from the merged edge sketch in a final pass over the vertices.
+ *
+ * In contrast to the exact statistics operators, distinct counts and degree distributions are
+ * approximated with the error bounds given at construction.
+ */
+public class ApproximateGraphStatistics
+  implements UnaryGraphToValueOperator<DataSet<GraphStatisticsSketch>> {
+  /**
+   * Empty sketch defining the error bounds
+   */
+  private final GraphStatisticsSketch template;
+
+  /**
+   * Creates a new operator using the default error bounds.
+   */
+  public ApproximateGraphStatistics() {
+    this(new GraphStatisticsSketch());
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param distinctError relative standard error of distinct counts
+   * @param frequencyError relative error of degree estimates w.r.t. the number of edges
+   * @param frequencyConfidence probability of exceeding the frequency error
+   * @param k top level capacity of the degree distribution sketches
+   */
+  public ApproximateGraphStatistics(double distinctError, double frequencyError,
+    double frequencyConfidence, int k) {
+    this(new GraphStatisticsSketch(distinctError, frequencyError, frequencyConfidence, k));
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param template empty sketch defining the error bounds
+   */
+  private ApproximateGraphStatistics(GraphStatisticsSketch template) {
+    this.template = template;
+  }
+
+  @Override
+  public DataSet<GraphStatisticsSketch> execute(LogicalGraph graph) {
+    DataSet<IdWithLabel> vertexLabels = graph.getVertices().map(new ToIdWithLabel<>());
+
+    AddTargetLabel addTargetLabel = new AddTargetLabel();
+
+    DataSet<GraphStatisticsSketch> elementSketch = graph.getVertices()
+      .mapPartition(new SketchVertices(template))
+      .union(graph.getEdges()
+        .join(vertexLabels)
+        .where(new SourceId<>()).equalTo(0)
+        .with(new AddSourceLabel())
+        .join(vertexLabels)
+        .where(addTargetLabel).equalTo(0)
+        .with(addTargetLabel)
+        .mapPartition(new SketchEdges(template)))
+      .reduce(new MergeSketches());
+
+    return addDegreeDistributions(elementSketch, graph.getVertices());
+  }
+
+  /**
+   * Rebuilds the degree distributions of a merged sketch from its Count-Min sketches. This is
+   * required if the merged sketches contain edges of the same vertices, e.g. the sketch of a graph
+   * and the sketch of the edges added to it, as the degrees of such vertices are split across the
+   * distributions of both sketches.
+   *
+   * @param sketch merged sketch
+   * @param vertices all vertices of the graph summarized by the sketch
+   * @return sketch with rebuilt degree distributions
+   */
+  public static DataSet<GraphStatisticsSketch> rebuildDegreeDistributions(
+    DataSet<GraphStatisticsSketch> sketch, DataSet<Vertex> vertices) {
+    return addDegreeDistributions(sketch.map(new ClearDegreeDistributions()), vertices);
+  }
+
+  /**
+   * Adds the estimated degrees of the given vertices to a sketch without degree distributions.
+   *
+   * @param sketch sketch containing all edges
+   * @param vertices all vertices of the graph
+   * @return sketch including the degree distributions
+   */
+  private static DataSet<GraphStatisticsSketch> addDegreeDistributions(
+    DataSet<GraphStatisticsSketch> sketch, DataSet<Vertex> vertices) {
+    return vertices
+      .mapPartition(new SketchVertexDegrees())
+      .withBroadcastSet(sketch, SketchVertexDegrees.EDGE_SKETCH)
+      .union(sketch)
+      .reduce(new MergeSketches());
+  }
+}
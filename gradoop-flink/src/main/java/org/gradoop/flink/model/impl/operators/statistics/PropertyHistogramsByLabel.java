@@ -0,0 +1,81 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
+import org.gradoop.flink.model.impl.operators.statistics.functions.BuildPropertyHistogram;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ExtractPropertyValueCountsByLabel;
+
+/**
+ * Base class for statistic operators computing a {@link PropertyHistogram} for each label -
+ * property name pair.
+ *
+ * @param <T> element type
+ */
+public abstract class PropertyHistogramsByLabel<T extends GraphElement>
+  implements UnaryGraphToValueOperator<DataSet<Tuple3<String, String, PropertyHistogram>>> {
+  /**
+   * Maximum number of most common values per histogram
+   */
+  private final int maxMostCommonValues;
+  /**
+   * Maximum number of buckets per histogram
+   */
+  private final int maxBuckets;
+
+  /**
+   * Creates a new operator using the default histogram size.
+   */
+  public PropertyHistogramsByLabel() {
+    this(PropertyHistogram.DEFAULT_MOST_COMMON_VALUES, PropertyHistogram.DEFAULT_BUCKETS);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxMostCommonValues maximum number of most common values per histogram
+   * @param maxBuckets maximum number of buckets per histogram
+   */
+  public PropertyHistogramsByLabel(int maxMostCommonValues, int maxBuckets) {
+    this.maxMostCommonValues = maxMostCommonValues;
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public DataSet<Tuple3<String, String, PropertyHistogram>> execute(LogicalGraph graph) {
+    return getElements(graph)
+      .flatMap(new ExtractPropertyValueCountsByLabel<>())
+      .groupBy(0, 1, 2)
+      .sum(3)
+      .groupBy(0, 1)
+      .reduceGroup(new BuildPropertyHistogram(maxMostCommonValues, maxBuckets));
+  }
+
+  /**
+   * Returns the elements whose properties are described.
+   *
+   * @param graph input graph
+   * @return graph elements
+   */
+  protected abstract DataSet<T> getElements(LogicalGraph graph);
+}
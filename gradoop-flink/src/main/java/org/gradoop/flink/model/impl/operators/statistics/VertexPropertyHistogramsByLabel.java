@@ -0,0 +1,50 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.LogicalGraph;
+
+/**
+ * Computes the value distribution of vertex properties for label - property name pairs
+ */
+public class VertexPropertyHistogramsByLabel extends PropertyHistogramsByLabel<Vertex> {
+
+  /**
+   * Creates a new operator using the default histogram size.
+   */
+  public VertexPropertyHistogramsByLabel() {
+    super();
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxMostCommonValues maximum number of most common values per histogram
+   * @param maxBuckets maximum number of buckets per histogram
+   */
+  public VertexPropertyHistogramsByLabel(int maxMostCommonValues, int maxBuckets) {
+    super(maxMostCommonValues, maxBuckets);
+  }
+
+  @Override
+  protected DataSet<Vertex> getElements(LogicalGraph graph) {
+    return graph.getVertexs();
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.tuples.IdWithLabel;
+
+/**
+ * Attaches the label of the source vertex to an edge.
+ *
+ * (edge), (sourceId, sourceLabel) -> (edge, sourceLabel)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("*->f0")
+@FunctionAnnotation.ForwardedFieldsSecond("f1->f1")
+public class AddSourceLabel implements JoinFunction<Edge, IdWithLabel, Tuple2<Edge, String>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<Edge, String> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<Edge, String> join(Edge edge, IdWithLabel source) throws Exception {
+    reuseTuple.f0 = edge;
+    reuseTuple.f1 = source.getLabel();
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.tuples.IdWithLabel;
+
+/**
+ * Attaches the label of the target vertex to an edge and its source vertex label. Also selects
+ * the target vertex id as join key.
+ *
+ * (edge, sourceLabel), (targetId, targetLabel) -> (edge, sourceLabel, targetLabel)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f1")
+@FunctionAnnotation.ForwardedFieldsSecond("f1->f2")
+public class AddTargetLabel implements
+  JoinFunction<Tuple2<Edge, String>, IdWithLabel, Tuple3<Edge, String, String>>,
+  KeySelector<Tuple2<Edge, String>, GradoopId> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<Edge, String, String> reuseTuple = new Tuple3<>();
+
+  @Override
+  public Tuple3<Edge, String, String> join(Tuple2<Edge, String> edgeWithSourceLabel,
+    IdWithLabel target) throws Exception {
+    reuseTuple.f0 = edgeWithSourceLabel.f0;
+    reuseTuple.f1 = edgeWithSourceLabel.f1;
+    reuseTuple.f2 = target.getLabel();
+    return reuseTuple;
+  }
+
+  @Override
+  public GradoopId getKey(Tuple2<Edge, String> edgeWithSourceLabel) throws Exception {
+    return edgeWithSourceLabel.f0.getTargetId();
+  }
+}
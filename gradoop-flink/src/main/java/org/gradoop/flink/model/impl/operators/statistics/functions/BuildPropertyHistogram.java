@@ -0,0 +1,75 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds a {@link PropertyHistogram} from the value frequencies of a single label - property name
+ * pair.
+ *
+ * (label, property name, property value, count)* -> (label, property name, histogram)
+ */
+public class BuildPropertyHistogram implements
+  GroupReduceFunction<Tuple4<String, String, PropertyValue, Long>,
+    Tuple3<String, String, PropertyHistogram>> {
+  /**
+   * Maximum number of most common values
+   */
+  private final int maxMostCommonValues;
+  /**
+   * Maximum number of histogram buckets
+   */
+  private final int maxBuckets;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param maxMostCommonValues maximum number of most common values
+   * @param maxBuckets maximum number of histogram buckets
+   */
+  public BuildPropertyHistogram(int maxMostCommonValues, int maxBuckets) {
+    this.maxMostCommonValues = maxMostCommonValues;
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple4<String, String, PropertyValue, Long>> values,
+    Collector<Tuple3<String, String, PropertyHistogram>> out) throws Exception {
+    String label = null;
+    String propertyName = null;
+    Map<PropertyValue, Long> valueCounts = new HashMap<>();
+
+    for (Tuple4<String, String, PropertyValue, Long> value : values) {
+      label = value.f0;
+      propertyName = value.f1;
+      valueCounts.merge(value.f2, value.f3, Long::sum);
+    }
+
+    out.collect(Tuple3.of(label, propertyName,
+      PropertyHistogram.create(valueCounts, maxMostCommonValues, maxBuckets)));
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.GraphStatisticsSketch;
+
+/**
+ * Removes the degree distributions from a {@link GraphStatisticsSketch}, so that they can be
+ * rebuilt from its Count-Min sketches.
+ */
+public class ClearDegreeDistributions
+  implements MapFunction<GraphStatisticsSketch, GraphStatisticsSketch> {
+
+  @Override
+  public GraphStatisticsSketch map(GraphStatisticsSketch sketch) throws Exception {
+    return sketch.clearDegreeDistributions();
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Extracts a tuple of the form (label, property name, property value, 1) for each property of the
+ * given graph element.
+ *
+ * @param <T> graph element type
+ */
+@FunctionAnnotation.ForwardedFields("label->0")
+public class ExtractPropertyValueCountsByLabel<T extends GraphElement>
+  implements FlatMapFunction<T, Tuple4<String, String, PropertyValue, Long>> {
+
+  /**
+   * Reuse Tuple
+   */
+  private final Tuple4<String, String, PropertyValue, Long> reuseTuple;
+
+  /**
+   * Creates a new UDF
+   */
+  public ExtractPropertyValueCountsByLabel() {
+    this.reuseTuple = new Tuple4<>();
+    this.reuseTuple.f3 = 1L;
+  }
+
+  @Override
+  public void flatMap(T value, Collector<Tuple4<String, String, PropertyValue, Long>> out)
+      throws Exception {
+    if (value.getProperties() == null) {
+      return;
+    }
+    for (Property property : value.getProperties()) {
+      reuseTuple.f0 = value.getLabel();
+      reuseTuple.f1 = property.getKey();
+      reuseTuple.f2 = property.getValue();
+
+      out.collect(reuseTuple);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.GraphStatisticsSketch;
+
+/**
+ * Summarizes all edges of a partition in a single {@link GraphStatisticsSketch}.
+ *
+ * (edge, sourceLabel, targetLabel)* -> sketch
+ */
+public class SketchEdges
+  implements MapPartitionFunction<Tuple3<Edge, String, String>, GraphStatisticsSketch> {
+  /**
+   * Empty sketch defining the error bounds
+   */
+  private final GraphStatisticsSketch template;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param template empty sketch defining the error bounds
+   */
+  public SketchEdges(GraphStatisticsSketch template) {
+    this.template = template;
+  }
+
+  @Override
+  public void mapPartition(Iterable<Tuple3<Edge, String, String>> edges,
+    Collector<GraphStatisticsSketch> out) throws Exception {
+    GraphStatisticsSketch sketch = template.emptyCopy();
+    for (Tuple3<Edge, String, String> edge : edges) {
+      sketch.addEdge(edge.f0, edge.f1, edge.f2);
+    }
+    out.collect(sketch);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.GraphStatisticsSketch;
+
+/**
+ * Summarizes the estimated degrees of all vertices of a partition in a single
+ * {@link GraphStatisticsSketch}. The degrees are estimated from a broadcast sketch containing all
+ * edges.
+ */
+public class SketchVertexDegrees
+  extends RichMapPartitionFunction<Vertex, GraphStatisticsSketch> {
+  /**
+   * Broadcast set name of the edge sketch
+   */
+  public static final String EDGE_SKETCH = "edgeSketch";
+  /**
+   * Sketch containing all edges
+   */
+  private GraphStatisticsSketch edgeSketch;
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    edgeSketch = getRuntimeContext()
+      .<GraphStatisticsSketch>getBroadcastVariable(EDGE_SKETCH).get(0);
+  }
+
+  @Override
+  public void mapPartition(Iterable<Vertex> vertices, Collector<GraphStatisticsSketch> out)
+      throws Exception {
+    GraphStatisticsSketch sketch = edgeSketch.emptyCopy();
+    for (Vertex vertex : vertices) {
+      sketch.addVertexDegrees(vertex.getId(), edgeSketch);
+    }
+    out.collect(sketch);
+  }
+}
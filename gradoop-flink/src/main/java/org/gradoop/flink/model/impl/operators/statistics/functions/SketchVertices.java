@@ -0,0 +1,52 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.GraphStatisticsSketch;
+
+/**
+ * Summarizes all vertices of a partition in a single {@link GraphStatisticsSketch}.
+ */
+public class SketchVertices implements MapPartitionFunction<Vertex, GraphStatisticsSketch> {
+  /**
+   * Empty sketch defining the error bounds
+   */
+  private final GraphStatisticsSketch template;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param template empty sketch defining the error bounds
+   */
+  public SketchVertices(GraphStatisticsSketch template) {
+    this.template = template;
+  }
+
+  @Override
+  public void mapPartition(Iterable<Vertex> vertices, Collector<GraphStatisticsSketch> out)
+      throws Exception {
+    GraphStatisticsSketch sketch = template.emptyCopy();
+    for (Vertex vertex : vertices) {
+      sketch.addVertex(vertex);
+    }
+    out.collect(sketch);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import java.io.Serializable;
+
+/**
+ * Count-Min sketch to estimate the frequency of elements.
+ *
+ * With probability {@code 1 - delta}, an estimate exceeds the true frequency by at most
+ * {@code epsilon * N}, where {@code N} is the total count added to the sketch. Estimates never
+ * underestimate the true frequency. Sketches with the same dimensions can be merged.
+ */
+public class CountMinSketch implements Serializable {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Number of hash functions
+   */
+  private final int depth;
+  /**
+   * Number of counters per hash function
+   */
+  private final int width;
+  /**
+   * Counters
+   */
+  private final long[][] counters;
+
+  /**
+   * Creates a new sketch.
+   *
+   * @param epsilon relative error in (0, 1)
+   * @param delta probability of exceeding the error in (0, 1)
+   */
+  public CountMinSketch(double epsilon, double delta) {
+    if (epsilon <= 0 || epsilon >= 1 || delta <= 0 || delta >= 1) {
+      throw new IllegalArgumentException("epsilon and delta must be in (0, 1)");
+    }
+    this.width = (int) Math.ceil(Math.E / epsilon);
+    this.depth = (int) Math.ceil(Math.log(1 / delta));
+    this.counters = new long[depth][width];
+  }
+
+  /**
+   * Adds the given count for an element.
+   *
+   * @param hash 64 bit hash of the element
+   * @param count count to add
+   */
+  public void add(long hash, long count) {
+    for (int row = 0; row < depth; row++) {
+      counters[row][getColumn(hash, row)] += count;
+    }
+  }
+
+  /**
+   * Estimates the frequency of an element.
+   *
+   * @param hash 64 bit hash of the element
+   * @return estimated frequency
+   */
+  public long estimate(long hash) {
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters[row][getColumn(hash, row)]);
+    }
+    return estimate;
+  }
+
+  /**
+   * Merges the given sketch into this sketch.
+   *
+   * @param other sketch with the same dimensions
+   * @return this
+   */
+  public CountMinSketch merge(CountMinSketch other) {
+    if (other.depth != depth || other.width != width) {
+      throw new IllegalArgumentException("Cannot merge sketches of different dimensions");
+    }
+    for (int row = 0; row < depth; row++) {
+      for (int column = 0; column < width; column++) {
+        counters[row][column] += other.counters[row][column];
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Derives the counter of an element in the given row by double hashing.
+   *
+   * @param hash 64 bit hash of the element
+   * @param row row
+   * @return column
+   */
+  private int getColumn(long hash, int row) {
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> Integer.SIZE);
+    return Math.floorMod(h1 + row * h2, width);
+  }
+}
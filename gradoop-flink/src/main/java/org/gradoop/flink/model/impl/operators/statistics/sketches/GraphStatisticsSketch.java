@@ -0,0 +1,589 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Property;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Mergeable summary of a logical graph from which the statistics loaded by
+ * {@link org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader}
+ * can be derived.
+ *
+ * Element counts are exact. Distinct counts are estimated by {@link HyperLogLog} sketches.
+ * Vertex degrees are estimated by {@link CountMinSketch}es over the source and target ids of all
+ * edges and their distributions are approximated by {@link KllSketch}es.
+ *
+ * Since all parts are mergeable, sketches computed for partitions of a graph, or for an old graph
+ * and the elements added to it, can be combined via {@link #merge(GraphStatisticsSketch)}. The
+ * degree distributions, however, are only additive for disjoint sets of vertices. If the merged
+ * sketches contain edges of the same vertices, the distributions have to be rebuilt from the
+ * merged Count-Min sketches (see
+ * {@link org.gradoop.flink.model.impl.operators.statistics.ApproximateGraphStatistics#rebuildDegreeDistributions}).
+ */
+public class GraphStatisticsSketch implements Serializable {
+  /**
+   * Default relative standard error of distinct counts
+   */
+  public static final double DEFAULT_DISTINCT_ERROR = 0.01;
+  /**
+   * Default relative error of degree estimates
+   */
+  public static final double DEFAULT_FREQUENCY_ERROR = 0.0001;
+  /**
+   * Default probability of exceeding the frequency error
+   */
+  public static final double DEFAULT_FREQUENCY_CONFIDENCE = 0.01;
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Relative standard error of the HyperLogLog sketches
+   */
+  private final double distinctError;
+  /**
+   * Precision of all HyperLogLog sketches
+   */
+  private final int precision;
+  /**
+   * Relative error of the Count-Min sketches
+   */
+  private final double epsilon;
+  /**
+   * Error probability of the Count-Min sketches
+   */
+  private final double delta;
+  /**
+   * Top level capacity of the KLL sketches
+   */
+  private final int k;
+  /**
+   * Number of vertices
+   */
+  private long vertexCount;
+  /**
+   * Number of edges
+   */
+  private long edgeCount;
+  /**
+   * Number of vertices by label
+   */
+  private final Map<String, Long> vertexCountByLabel;
+  /**
+   * Number of edges by label
+   */
+  private final Map<String, Long> edgeCountByLabel;
+  /**
+   * Number of edges by source vertex label and edge label
+   */
+  private final Map<String, Map<String, Long>> edgeCountBySourceVertexAndEdgeLabel;
+  /**
+   * Number of edges by target vertex label and edge label
+   */
+  private final Map<String, Map<String, Long>> edgeCountByTargetVertexAndEdgeLabel;
+  /**
+   * Distinct source vertex ids
+   */
+  private final HyperLogLog distinctSourceIds;
+  /**
+   * Distinct target vertex ids
+   */
+  private final HyperLogLog distinctTargetIds;
+  /**
+   * Distinct source vertex ids by edge label
+   */
+  private final Map<String, HyperLogLog> distinctSourceIdsByEdgeLabel;
+  /**
+   * Distinct target vertex ids by edge label
+   */
+  private final Map<String, HyperLogLog> distinctTargetIdsByEdgeLabel;
+  /**
+   * Distinct vertex property values by label and property name
+   */
+  private final Map<String, Map<String, HyperLogLog>> distinctVertexPropertiesByLabel;
+  /**
+   * Distinct edge property values by label and property name
+   */
+  private final Map<String, Map<String, HyperLogLog>> distinctEdgePropertiesByLabel;
+  /**
+   * Outgoing edges per vertex id
+   */
+  private final CountMinSketch outgoingDegrees;
+  /**
+   * Incoming edges per vertex id
+   */
+  private final CountMinSketch incomingDegrees;
+  /**
+   * Distribution of vertex degrees
+   */
+  private KllSketch degreeDistribution;
+  /**
+   * Distribution of outgoing vertex degrees
+   */
+  private KllSketch outgoingDegreeDistribution;
+  /**
+   * Distribution of incoming vertex degrees
+   */
+  private KllSketch incomingDegreeDistribution;
+
+  /**
+   * Creates an empty sketch using the default error bounds.
+   */
+  public GraphStatisticsSketch() {
+    this(DEFAULT_DISTINCT_ERROR, DEFAULT_FREQUENCY_ERROR, DEFAULT_FREQUENCY_CONFIDENCE,
+      KllSketch.DEFAULT_K);
+  }
+
+  /**
+   * Creates an empty sketch.
+   *
+   * @param distinctError relative standard error of distinct counts
+   * @param frequencyError relative error of degree estimates w.r.t. the number of edges
+   * @param frequencyConfidence probability of exceeding the frequency error
+   * @param k top level capacity of the degree distribution sketches
+   */
+  public GraphStatisticsSketch(double distinctError, double frequencyError,
+    double frequencyConfidence, int k) {
+    this.distinctError = distinctError;
+    this.precision = HyperLogLog.precisionFor(distinctError);
+    this.epsilon = frequencyError;
+    this.delta = frequencyConfidence;
+    this.k = k;
+    this.vertexCountByLabel = new HashMap<>();
+    this.edgeCountByLabel = new HashMap<>();
+    this.edgeCountBySourceVertexAndEdgeLabel = new HashMap<>();
+    this.edgeCountByTargetVertexAndEdgeLabel = new HashMap<>();
+    this.distinctSourceIds = new HyperLogLog(precision);
+    this.distinctTargetIds = new HyperLogLog(precision);
+    this.distinctSourceIdsByEdgeLabel = new HashMap<>();
+    this.distinctTargetIdsByEdgeLabel = new HashMap<>();
+    this.distinctVertexPropertiesByLabel = new HashMap<>();
+    this.distinctEdgePropertiesByLabel = new HashMap<>();
+    this.outgoingDegrees = new CountMinSketch(epsilon, delta);
+    this.incomingDegrees = new CountMinSketch(epsilon, delta);
+    this.degreeDistribution = new KllSketch(k);
+    this.outgoingDegreeDistribution = new KllSketch(k);
+    this.incomingDegreeDistribution = new KllSketch(k);
+  }
+
+  /**
+   * Creates an empty sketch with the same error bounds as this sketch.
+   *
+   * @return empty sketch
+   */
+  public GraphStatisticsSketch emptyCopy() {
+    return new GraphStatisticsSketch(distinctError, epsilon, delta, k);
+  }
+
+  /**
+   * Adds a vertex to the sketch.
+   *
+   * @param vertex vertex
+   */
+  public void addVertex(Vertex vertex) {
+    vertexCount++;
+    vertexCountByLabel.merge(vertex.getLabel(), 1L, Long::sum);
+    addProperties(vertex, distinctVertexPropertiesByLabel);
+  }
+
+  /**
+   * Adds an edge to the sketch.
+   *
+   * @param edge edge
+   * @param sourceLabel label of the source vertex
+   * @param targetLabel label of the target vertex
+   */
+  public void addEdge(Edge edge, String sourceLabel, String targetLabel) {
+    String label = edge.getLabel();
+    long sourceHash = SketchHashing.hash(edge.getSourceId());
+    long targetHash = SketchHashing.hash(edge.getTargetId());
+
+    edgeCount++;
+    edgeCountByLabel.merge(label, 1L, Long::sum);
+    edgeCountBySourceVertexAndEdgeLabel
+      .computeIfAbsent(sourceLabel, key -> new HashMap<>())
+      .merge(label, 1L, Long::sum);
+    edgeCountByTargetVertexAndEdgeLabel
+      .computeIfAbsent(targetLabel, key -> new HashMap<>())
+      .merge(label, 1L, Long::sum);
+
+    distinctSourceIds.add(sourceHash);
+    distinctTargetIds.add(targetHash);
+    distinctSourceIdsByEdgeLabel.computeIfAbsent(label, key -> newHyperLogLog()).add(sourceHash);
+    distinctTargetIdsByEdgeLabel.computeIfAbsent(label, key -> newHyperLogLog()).add(targetHash);
+
+    outgoingDegrees.add(sourceHash, 1L);
+    incomingDegrees.add(targetHash, 1L);
+
+    addProperties(edge, distinctEdgePropertiesByLabel);
+  }
+
+  /**
+   * Adds the degrees of a vertex to the degree distributions. The degrees are estimated from the
+   * given sketch which must contain all edges of the graph.
+   *
+   * @param vertexId vertex id
+   * @param edges sketch containing all edges
+   */
+  public void addVertexDegrees(GradoopId vertexId, GraphStatisticsSketch edges) {
+    long hash = SketchHashing.hash(vertexId);
+    long outgoingDegree = edges.outgoingDegrees.estimate(hash);
+    long incomingDegree = edges.incomingDegrees.estimate(hash);
+
+    outgoingDegreeDistribution.add(outgoingDegree);
+    incomingDegreeDistribution.add(incomingDegree);
+    degreeDistribution.add(outgoingDegree + incomingDegree);
+  }
+
+  /**
+   * Removes all vertex degrees from the degree distributions.
+   *
+   * @return this
+   */
+  public GraphStatisticsSketch clearDegreeDistributions() {
+    degreeDistribution = new KllSketch(k);
+    outgoingDegreeDistribution = new KllSketch(k);
+    incomingDegreeDistribution = new KllSketch(k);
+    return this;
+  }
+
+  /**
+   * Merges the given sketch into this sketch. Both sketches must use the same error bounds.
+   *
+   * The degree distributions are merged as well, which is only correct if the vertices of both
+   * sketches are disjoint, e.g. partitions of the vertices of one graph. Otherwise, the degrees of
+   * a vertex are split across both distributions and the distributions have to be rebuilt after
+   * merging (see {@link #clearDegreeDistributions()}).
+   *
+   * @param other sketch
+   * @return this
+   */
+  public GraphStatisticsSketch merge(GraphStatisticsSketch other) {
+    vertexCount += other.vertexCount;
+    edgeCount += other.edgeCount;
+    mergeCounts(vertexCountByLabel, other.vertexCountByLabel);
+    mergeCounts(edgeCountByLabel, other.edgeCountByLabel);
+    mergeNested(edgeCountBySourceVertexAndEdgeLabel, other.edgeCountBySourceVertexAndEdgeLabel,
+      this::mergeCounts);
+    mergeNested(edgeCountByTargetVertexAndEdgeLabel, other.edgeCountByTargetVertexAndEdgeLabel,
+      this::mergeCounts);
+    distinctSourceIds.merge(other.distinctSourceIds);
+    distinctTargetIds.merge(other.distinctTargetIds);
+    mergeSketches(distinctSourceIdsByEdgeLabel, other.distinctSourceIdsByEdgeLabel);
+    mergeSketches(distinctTargetIdsByEdgeLabel, other.distinctTargetIdsByEdgeLabel);
+    mergeNested(distinctVertexPropertiesByLabel, other.distinctVertexPropertiesByLabel,
+      this::mergeSketches);
+    mergeNested(distinctEdgePropertiesByLabel, other.distinctEdgePropertiesByLabel,
+      this::mergeSketches);
+    outgoingDegrees.merge(other.outgoingDegrees);
+    incomingDegrees.merge(other.incomingDegrees);
+    degreeDistribution.merge(other.degreeDistribution);
+    outgoingDegreeDistribution.merge(other.outgoingDegreeDistribution);
+    incomingDegreeDistribution.merge(other.incomingDegreeDistribution);
+    return this;
+  }
+
+  /**
+   * Returns the number of vertices.
+   *
+   * @return vertex count
+   */
+  public long getVertexCount() {
+    return vertexCount;
+  }
+
+  /**
+   * Returns the number of edges.
+   *
+   * @return edge count
+   */
+  public long getEdgeCount() {
+    return edgeCount;
+  }
+
+  /**
+   * Returns the number of vertices by label.
+   *
+   * @return label to vertex count
+   */
+  public Map<String, Long> getVertexCountByLabel() {
+    return vertexCountByLabel;
+  }
+
+  /**
+   * Returns the number of edges by label.
+   *
+   * @return label to edge count
+   */
+  public Map<String, Long> getEdgeCountByLabel() {
+    return edgeCountByLabel;
+  }
+
+  /**
+   * Returns the number of edges by source vertex label and edge label.
+   *
+   * @return source vertex label to edge label to edge count
+   */
+  public Map<String, Map<String, Long>> getEdgeCountBySourceVertexAndEdgeLabel() {
+    return edgeCountBySourceVertexAndEdgeLabel;
+  }
+
+  /**
+   * Returns the number of edges by target vertex label and edge label.
+   *
+   * @return target vertex label to edge label to edge count
+   */
+  public Map<String, Map<String, Long>> getEdgeCountByTargetVertexAndEdgeLabel() {
+    return edgeCountByTargetVertexAndEdgeLabel;
+  }
+
+  /**
+   * Returns the estimated number of distinct source vertices.
+   *
+   * @return estimated distinct source vertex count
+   */
+  public long getDistinctSourceVertexCount() {
+    return distinctSourceIds.estimate();
+  }
+
+  /**
+   * Returns the estimated number of distinct target vertices.
+   *
+   * @return estimated distinct target vertex count
+   */
+  public long getDistinctTargetVertexCount() {
+    return distinctTargetIds.estimate();
+  }
+
+  /**
+   * Returns the estimated number of distinct source vertices by edge label.
+   *
+   * @return edge label to estimated distinct source vertex count
+   */
+  public Map<String, Long> getDistinctSourceVertexCountByEdgeLabel() {
+    return estimate(distinctSourceIdsByEdgeLabel);
+  }
+
+  /**
+   * Returns the estimated number of distinct target vertices by edge label.
+   *
+   * @return edge label to estimated distinct target vertex count
+   */
+  public Map<String, Long> getDistinctTargetVertexCountByEdgeLabel() {
+    return estimate(distinctTargetIdsByEdgeLabel);
+  }
+
+  /**
+   * Returns the estimated number of distinct vertex property values by label and property name.
+   *
+   * @return vertex label to property name to estimated distinct value count
+   */
+  public Map<String, Map<String, Long>> getDistinctVertexPropertiesByLabel() {
+    return estimateNested(distinctVertexPropertiesByLabel);
+  }
+
+  /**
+   * Returns the estimated number of distinct edge property values by label and property name.
+   *
+   * @return edge label to property name to estimated distinct value count
+   */
+  public Map<String, Map<String, Long>> getDistinctEdgePropertiesByLabel() {
+    return estimateNested(distinctEdgePropertiesByLabel);
+  }
+
+  /**
+   * Returns the estimated number of distinct vertex property values by property name.
+   *
+   * @return property name to estimated distinct value count
+   */
+  public Map<String, Long> getDistinctVertexProperties() {
+    return estimate(unionByPropertyName(distinctVertexPropertiesByLabel));
+  }
+
+  /**
+   * Returns the estimated number of distinct edge property values by property name.
+   *
+   * @return property name to estimated distinct value count
+   */
+  public Map<String, Long> getDistinctEdgeProperties() {
+    return estimate(unionByPropertyName(distinctEdgePropertiesByLabel));
+  }
+
+  /**
+   * Returns the approximate vertex degree distribution.
+   *
+   * @return degree to vertex count
+   */
+  public Map<Long, Long> getVertexDegreeDistribution() {
+    return degreeDistribution.getDistribution();
+  }
+
+  /**
+   * Returns the approximate outgoing vertex degree distribution.
+   *
+   * @return outgoing degree to vertex count
+   */
+  public Map<Long, Long> getOutgoingVertexDegreeDistribution() {
+    return outgoingDegreeDistribution.getDistribution();
+  }
+
+  /**
+   * Returns the approximate incoming vertex degree distribution.
+   *
+   * @return incoming degree to vertex count
+   */
+  public Map<Long, Long> getIncomingVertexDegreeDistribution() {
+    return incomingDegreeDistribution.getDistribution();
+  }
+
+  /**
+   * Adds the property values of the given element to the distinct value sketches.
+   *
+   * @param element graph element
+   * @param sketches label to property name to sketch
+   */
+  private void addProperties(GraphElement element,
+    Map<String, Map<String, HyperLogLog>> sketches) {
+    if (element.getProperties() == null) {
+      return;
+    }
+    Map<String, HyperLogLog> byKey =
+      sketches.computeIfAbsent(element.getLabel(), key -> new HashMap<>());
+    for (Property property : element.getProperties()) {
+      byKey.computeIfAbsent(property.getKey(), key -> newHyperLogLog())
+        .add(SketchHashing.hash(property.getValue()));
+    }
+  }
+
+  /**
+   * Creates a new distinct value sketch.
+   *
+   * @return empty sketch
+   */
+  private HyperLogLog newHyperLogLog() {
+    return new HyperLogLog(precision);
+  }
+
+  /**
+   * Adds the counts of the right map to the left map.
+   *
+   * @param left counts to update
+   * @param right counts to add
+   */
+  private void mergeCounts(Map<String, Long> left, Map<String, Long> right) {
+    right.forEach((key, value) -> left.merge(key, value, Long::sum));
+  }
+
+  /**
+   * Merges the sketches of the right map into the left map.
+   *
+   * @param left sketches to update
+   * @param right sketches to add
+   */
+  private void mergeSketches(Map<String, HyperLogLog> left, Map<String, HyperLogLog> right) {
+    right.forEach((key, value) -> left.merge(key, value.copy(), HyperLogLog::merge));
+  }
+
+  /**
+   * Merges two nested maps using the given function for the inner maps.
+   *
+   * @param left nested map to update
+   * @param right nested map to add
+   * @param mergeFunction merges the inner maps
+   * @param <V> inner value type
+   */
+  private <V> void mergeNested(Map<String, Map<String, V>> left,
+    Map<String, Map<String, V>> right, InnerMerge<V> mergeFunction) {
+    right.forEach((key, value) ->
+      mergeFunction.merge(left.computeIfAbsent(key, newKey -> new HashMap<>()), value));
+  }
+
+  /**
+   * Unites the sketches of all labels by property name.
+   *
+   * @param sketches label to property name to sketch
+   * @return property name to sketch
+   */
+  private Map<String, HyperLogLog> unionByPropertyName(
+    Map<String, Map<String, HyperLogLog>> sketches) {
+    Map<String, HyperLogLog> union = new HashMap<>();
+    sketches.values().forEach(byKey -> mergeSketches(union, byKey));
+    return union;
+  }
+
+  /**
+   * Estimates the distinct counts of all sketches in the given map.
+   *
+   * @param sketches key to sketch
+   * @return key to estimated distinct count
+   */
+  private static Map<String, Long> estimate(Map<String, HyperLogLog> sketches) {
+    return transform(sketches, HyperLogLog::estimate);
+  }
+
+  /**
+   * Estimates the distinct counts of all sketches in the given nested map.
+   *
+   * @param sketches outer key to inner key to sketch
+   * @return outer key to inner key to estimated distinct count
+   */
+  private static Map<String, Map<String, Long>> estimateNested(
+    Map<String, Map<String, HyperLogLog>> sketches) {
+    return transform(sketches, GraphStatisticsSketch::estimate);
+  }
+
+  /**
+   * Applies the given function to all values of the map.
+   *
+   * @param map input map
+   * @param function value function
+   * @param <I> input value type
+   * @param <O> output value type
+   * @return map containing the transformed values
+   */
+  private static <I, O> Map<String, O> transform(Map<String, I> map, Function<I, O> function) {
+    Map<String, O> result = new HashMap<>();
+    map.forEach((key, value) -> result.put(key, function.apply(value)));
+    return result;
+  }
+
+  /**
+   * Merges two inner maps of a nested map.
+   *
+   * @param <V> value type
+   */
+  @FunctionalInterface
+  private interface InnerMerge<V> {
+    /**
+     * Merges the right map into the left map.
+     *
+     * @param left map to update
+     * @param right map to add
+     */
+    void merge(Map<String, V> left, Map<String, V> right);
+  }
+}
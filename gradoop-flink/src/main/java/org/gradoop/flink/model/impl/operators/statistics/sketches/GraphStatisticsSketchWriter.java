@@ -0,0 +1,170 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.apache.flink.core.fs.FSDataOutputStream;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the statistics summarized by a {@link GraphStatisticsSketch} to dedicated files, which
+ * can be loaded by the implementations of {@link GraphStatisticsReader}. Both, local file systems
+ * and HDFS are supported.
+ */
+public class GraphStatisticsSketchWriter {
+  /**
+   * Each line contains a vertex degree and the number of vertices with that degree.
+   */
+  public static final String FILE_VERTEX_DEGREE_DISTRIBUTION = "vertex_degree_distribution";
+  /**
+   * Each line contains an incoming vertex degree and the number of vertices with that degree.
+   */
+  public static final String FILE_INCOMING_VERTEX_DEGREE_DISTRIBUTION =
+    "incoming_vertex_degree_distribution";
+  /**
+   * Each line contains an outgoing vertex degree and the number of vertices with that degree.
+   */
+  public static final String FILE_OUTGOING_VERTEX_DEGREE_DISTRIBUTION =
+    "outgoing_vertex_degree_distribution";
+
+  /**
+   * No instances
+   */
+  private GraphStatisticsSketchWriter() {
+  }
+
+  /**
+   * Writes all statistics files into the given directory. Existing files are overwritten.
+   *
+   * @param sketch graph statistics sketch
+   * @param outputPath path to the statistics directory
+   * @throws IOException if an I/O error occurs writing the files
+   */
+  public static void write(GraphStatisticsSketch sketch, String outputPath) throws IOException {
+    Path root = new Path(outputPath);
+
+    writeValue(root, GraphStatisticsReader.FILE_VERTEX_COUNT, sketch.getVertexCount());
+    writeValue(root, GraphStatisticsReader.FILE_EDGE_COUNT, sketch.getEdgeCount());
+    writeLines(root, GraphStatisticsReader.FILE_VERTEX_COUNT_BY_LABEL,
+      sketch.getVertexCountByLabel());
+    writeLines(root, GraphStatisticsReader.FILE_EDGE_COUNT_BY_LABEL,
+      sketch.getEdgeCountByLabel());
+    writeNestedLines(root, GraphStatisticsReader.FILE_EDGE_COUNT_BY_SOURCE_VERTEX_AND_EDGE_LABEL,
+      sketch.getEdgeCountBySourceVertexAndEdgeLabel());
+    writeNestedLines(root, GraphStatisticsReader.FILE_EDGE_COUNT_BY_TARGET_VERTEX_AND_EDGE_LABEL,
+      sketch.getEdgeCountByTargetVertexAndEdgeLabel());
+    writeValue(root, GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT,
+      sketch.getDistinctSourceVertexCount());
+    writeValue(root, GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT,
+      sketch.getDistinctTargetVertexCount());
+    writeLines(root, GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT_BY_EDGE_LABEL,
+      sketch.getDistinctSourceVertexCountByEdgeLabel());
+    writeLines(root, GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT_BY_EDGE_LABEL,
+      sketch.getDistinctTargetVertexCountByEdgeLabel());
+    writeNestedLines(root, GraphStatisticsReader.FILE_DISTINCT_EDGE_PROPERTIES_BY_LABEL,
+      sketch.getDistinctEdgePropertiesByLabel());
+    writeNestedLines(root, GraphStatisticsReader.FILE_DISTINCT_VERTEX_PROPERTIES_BY_LABEL,
+      sketch.getDistinctVertexPropertiesByLabel());
+    writeLines(root, GraphStatisticsReader.FILE_DISTINCT_EDGE_PROPERTIES,
+      sketch.getDistinctEdgeProperties());
+    writeLines(root, GraphStatisticsReader.FILE_DISTINCT_VERTEX_PROPERTIES,
+      sketch.getDistinctVertexProperties());
+    writeLines(root, FILE_VERTEX_DEGREE_DISTRIBUTION,
+      sketch.getVertexDegreeDistribution());
+    writeLines(root, FILE_INCOMING_VERTEX_DEGREE_DISTRIBUTION,
+      sketch.getIncomingVertexDegreeDistribution());
+    writeLines(root, FILE_OUTGOING_VERTEX_DEGREE_DISTRIBUTION,
+      sketch.getOutgoingVertexDegreeDistribution());
+  }
+
+  /**
+   * Writes a file containing a single value.
+   *
+   * @param root statistics directory
+   * @param fileName file name
+   * @param value value
+   * @throws IOException if an I/O error occurs writing the file
+   */
+  private static void writeValue(Path root, String fileName, long value) throws IOException {
+    try (Writer writer = createWriter(root, fileName)) {
+      writer.write(Long.toString(value));
+      writer.write(System.lineSeparator());
+    }
+  }
+
+  /**
+   * Writes one line per map entry containing the key and the value.
+   *
+   * @param root statistics directory
+   * @param fileName file name
+   * @param entries map entries
+   * @param <K> key type
+   * @throws IOException if an I/O error occurs writing the file
+   */
+  private static <K> void writeLines(Path root, String fileName, Map<K, Long> entries)
+      throws IOException {
+    try (Writer writer = createWriter(root, fileName)) {
+      for (Map.Entry<K, Long> entry : entries.entrySet()) {
+        writer.write(entry.getKey().toString());
+        writer.write(GraphStatisticsReader.TOKEN_SEPARATOR);
+        writer.write(entry.getValue().toString());
+        writer.write(System.lineSeparator());
+      }
+    }
+  }
+
+  /**
+   * Writes one line per inner map entry containing the outer key, the inner key and the value.
+   *
+   * @param root statistics directory
+   * @param fileName file name
+   * @param entries nested map
+   * @throws IOException if an I/O error occurs writing the file
+   */
+  private static void writeNestedLines(Path root, String fileName,
+    Map<String, Map<String, Long>> entries) throws IOException {
+    Map<String, Long> flattened = new LinkedHashMap<>();
+    entries.forEach((outerKey, inner) -> inner.forEach((innerKey, value) ->
+      flattened.put(outerKey + GraphStatisticsReader.TOKEN_SEPARATOR + innerKey, value)));
+    writeLines(root, fileName, flattened);
+  }
+
+  /**
+   * Creates a writer for the given file. An existing file is overwritten.
+   *
+   * @param root statistics directory
+   * @param fileName file name
+   * @return UTF-8 writer
+   * @throws IOException if the file cannot be created
+   */
+  private static Writer createWriter(Path root, String fileName) throws IOException {
+    Path path = new Path(root, fileName);
+    FileSystem fs = path.getFileSystem();
+    FSDataOutputStream out = fs.create(path, true);
+    return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import java.io.Serializable;
+
+/**
+ * HyperLogLog sketch to estimate the number of distinct elements.
+ *
+ * The sketch uses {@code 2^precision} registers and has a relative standard error of
+ * {@code 1.04 / sqrt(2^precision)}. Small cardinalities are estimated via linear counting.
+ * Two sketches with the same precision can be merged, the result equals the sketch of the union
+ * of both inputs.
+ */
+public class HyperLogLog implements Serializable {
+  /**
+   * Minimum number of index bits
+   */
+  public static final int MIN_PRECISION = 4;
+  /**
+   * Maximum number of index bits
+   */
+  public static final int MAX_PRECISION = 18;
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Number of index bits
+   */
+  private final int precision;
+  /**
+   * Maximum rank observed per register
+   */
+  private final byte[] registers;
+
+  /**
+   * Creates a new sketch.
+   *
+   * @param precision number of index bits in [{@value #MIN_PRECISION}, {@value #MAX_PRECISION}]
+   */
+  public HyperLogLog(int precision) {
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException("Precision must be in [" + MIN_PRECISION + ", " +
+        MAX_PRECISION + "], but was " + precision);
+    }
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  /**
+   * Returns the smallest precision whose relative standard error does not exceed the given one.
+   *
+   * @param relativeError relative standard error, e.g. 0.01
+   * @return precision
+   */
+  public static int precisionFor(double relativeError) {
+    int precision = (int) Math.ceil(Math.log(Math.pow(1.04 / relativeError, 2)) / Math.log(2));
+    return Math.max(MIN_PRECISION, Math.min(MAX_PRECISION, precision));
+  }
+
+  /**
+   * Returns the number of index bits.
+   *
+   * @return precision
+   */
+  public int getPrecision() {
+    return precision;
+  }
+
+  /**
+   * Returns the relative standard error of the estimate.
+   *
+   * @return relative standard error
+   */
+  public double getRelativeError() {
+    return 1.04 / Math.sqrt(registers.length);
+  }
+
+  /**
+   * Adds an element to the sketch.
+   *
+   * @param hash 64 bit hash of the element
+   */
+  public void add(long hash) {
+    int index = (int) (hash >>> (Long.SIZE - precision));
+    int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), Long.SIZE - precision) + 1;
+    if (rank > registers[index]) {
+      registers[index] = (byte) rank;
+    }
+  }
+
+  /**
+   * Merges the given sketch into this sketch.
+   *
+   * @param other sketch with the same precision
+   * @return this
+   */
+  public HyperLogLog merge(HyperLogLog other) {
+    if (other.precision != precision) {
+      throw new IllegalArgumentException("Cannot merge sketches with precision " + precision +
+        " and " + other.precision);
+    }
+    for (int i = 0; i < registers.length; i++) {
+      registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+    }
+    return this;
+  }
+
+  /**
+   * Returns a copy of this sketch.
+   *
+   * @return copy
+   */
+  public HyperLogLog copy() {
+    return new HyperLogLog(precision).merge(this);
+  }
+
+  /**
+   * Estimates the number of distinct elements added to the sketch.
+   *
+   * @return estimated number of distinct elements
+   */
+  public long estimate() {
+    int m = registers.length;
+    double sum = 0d;
+    int zeros = 0;
+    for (byte register : registers) {
+      sum += 1d / (1L << register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+    double estimate = getAlpha(m) * m * m / sum;
+    if (estimate <= 2.5 * m && zeros > 0) {
+      estimate = m * Math.log((double) m / zeros);
+    }
+    return Math.round(estimate);
+  }
+
+  /**
+   * Returns the bias correction constant for the given number of registers.
+   *
+   * @param m number of registers
+   * @return bias correction constant
+   */
+  private static double getAlpha(int m) {
+    switch (m) {
+    case 16:
+      return 0.673;
+    case 32:
+      return 0.697;
+    case 64:
+      return 0.709;
+    default:
+      return 0.7213 / (1 + 1.079 / m);
+    }
+  }
+}
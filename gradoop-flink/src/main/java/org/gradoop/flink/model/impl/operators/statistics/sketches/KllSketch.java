@@ -0,0 +1,219 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * KLL sketch to approximate the distribution and quantiles of a stream of long values.
+ *
+ * Values are stored in a hierarchy of compactors. An item in level {@code h} represents
+ * {@code 2^h} values. Whenever a level exceeds its capacity, it is sorted and every other item is
+ * promoted to the next level. The capacity decreases geometrically with the distance to the top
+ * level, starting at {@code k}. The rank error is roughly {@code 1.7 / k}. As long as fewer than
+ * {@code k} values are added, the sketch is exact. Sketches with the same {@code k} can be merged.
+ */
+public class KllSketch implements Serializable {
+  /**
+   * Default number of items in the top level
+   */
+  public static final int DEFAULT_K = 200;
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Capacity decrease per level
+   */
+  private static final double CAPACITY_FACTOR = 2d / 3d;
+  /**
+   * Minimum capacity of a level
+   */
+  private static final int MIN_CAPACITY = 2;
+  /**
+   * Capacity of the top level
+   */
+  private final int k;
+  /**
+   * Items per level
+   */
+  private final List<List<Long>> levels;
+  /**
+   * Total number of values added
+   */
+  private long count;
+  /**
+   * State of the xorshift generator choosing the items to promote
+   */
+  private long randomState;
+
+  /**
+   * Creates a new sketch.
+   *
+   * @param k capacity of the top level
+   */
+  public KllSketch(int k) {
+    if (k < MIN_CAPACITY) {
+      throw new IllegalArgumentException("k must be at least " + MIN_CAPACITY);
+    }
+    this.k = k;
+    this.levels = new ArrayList<>();
+    this.levels.add(new ArrayList<>());
+    this.randomState = 0x9e3779b97f4a7c15L;
+  }
+
+  /**
+   * Returns the number of values added to the sketch.
+   *
+   * @return number of values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Adds a value to the sketch.
+   *
+   * @param value value
+   */
+  public void add(long value) {
+    levels.get(0).add(value);
+    count++;
+    compress();
+  }
+
+  /**
+   * Merges the given sketch into this sketch.
+   *
+   * @param other sketch with the same k
+   * @return this
+   */
+  public KllSketch merge(KllSketch other) {
+    if (other.k != k) {
+      throw new IllegalArgumentException("Cannot merge sketches with k " + k + " and " + other.k);
+    }
+    for (int level = 0; level < other.levels.size(); level++) {
+      if (level == levels.size()) {
+        levels.add(new ArrayList<>());
+      }
+      levels.get(level).addAll(other.levels.get(level));
+    }
+    count += other.count;
+    compress();
+    return this;
+  }
+
+  /**
+   * Returns the approximate distribution of the added values, i.e. the estimated number of
+   * occurrences of each retained value.
+   *
+   * @return value to estimated count, ordered by value
+   */
+  public Map<Long, Long> getDistribution() {
+    Map<Long, Long> distribution = new TreeMap<>();
+    for (int level = 0; level < levels.size(); level++) {
+      long weight = 1L << level;
+      for (Long value : levels.get(level)) {
+        distribution.merge(value, weight, Long::sum);
+      }
+    }
+    return distribution;
+  }
+
+  /**
+   * Returns the approximate quantile of the added values.
+   *
+   * @param fraction quantile in [0, 1], e.g. 0.5 for the median
+   * @return value at the given quantile
+   */
+  public long getQuantile(double fraction) {
+    if (count == 0) {
+      throw new IllegalStateException("The sketch is empty");
+    }
+    long rank = (long) Math.ceil(fraction * count);
+    long cumulative = 0L;
+    long value = 0L;
+    for (Map.Entry<Long, Long> entry : getDistribution().entrySet()) {
+      value = entry.getKey();
+      cumulative += entry.getValue();
+      if (cumulative >= rank) {
+        break;
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Compacts all levels exceeding their capacity.
+   */
+  private void compress() {
+    for (int level = 0; level < levels.size(); level++) {
+      if (levels.get(level).size() >= getCapacity(level)) {
+        if (level + 1 == levels.size()) {
+          levels.add(new ArrayList<>());
+        }
+        compact(level);
+      }
+    }
+  }
+
+  /**
+   * Sorts the given level and promotes every other item to the next level. If the level contains
+   * an odd number of items, the largest one stays in the level.
+   *
+   * @param level level to compact
+   */
+  private void compact(int level) {
+    List<Long> items = levels.get(level);
+    Collections.sort(items);
+    int end = items.size() - items.size() % 2;
+    List<Long> next = levels.get(level + 1);
+    for (int i = nextOffset(); i < end; i += 2) {
+      next.add(items.get(i));
+    }
+    levels.set(level, new ArrayList<>(items.subList(end, items.size())));
+  }
+
+  /**
+   * Returns the capacity of the given level.
+   *
+   * @param level level
+   * @return capacity
+   */
+  private int getCapacity(int level) {
+    int depth = levels.size() - 1 - level;
+    return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_FACTOR, depth)));
+  }
+
+  /**
+   * Returns a pseudo random offset of 0 or 1.
+   *
+   * @return offset
+   */
+  private int nextOffset() {
+    randomState ^= randomState << 13;
+    randomState ^= randomState >>> 7;
+    randomState ^= randomState << 17;
+    return (int) (randomState & 1L);
+  }
+}
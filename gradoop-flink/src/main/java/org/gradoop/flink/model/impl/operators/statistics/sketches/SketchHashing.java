@@ -0,0 +1,95 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 64 bit hash functions used by the sketches. The hashes only depend on the hashed bytes, so
+ * that sketches computed by different workers or jobs can be merged.
+ */
+public final class SketchHashing {
+  /**
+   * FNV-1a offset basis
+   */
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  /**
+   * FNV-1a prime
+   */
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  /**
+   * No instances
+   */
+  private SketchHashing() {
+  }
+
+  /**
+   * Hashes the given gradoop id.
+   *
+   * @param id gradoop id
+   * @return hash
+   */
+  public static long hash(GradoopId id) {
+    return hash(id.toByteArray());
+  }
+
+  /**
+   * Hashes the given property value.
+   *
+   * @param value property value
+   * @return hash
+   */
+  public static long hash(PropertyValue value) {
+    return hash(value.getRawBytes());
+  }
+
+  /**
+   * Hashes the given string.
+   *
+   * @param value string
+   * @return hash
+   */
+  public static long hash(String value) {
+    return hash(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Hashes the given bytes using FNV-1a followed by the MurmurHash3 finalizer to spread the
+   * bits over the whole word.
+   *
+   * @param bytes bytes
+   * @return hash
+   */
+  public static long hash(byte[] bytes) {
+    long hash = FNV_OFFSET;
+    for (byte b : bytes) {
+      hash ^= b & 0xff;
+      hash *= FNV_PRIME;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
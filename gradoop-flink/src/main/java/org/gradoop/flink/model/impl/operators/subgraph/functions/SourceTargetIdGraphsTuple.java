@@ -23,7 +23,7 @@ import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * For each edge, collect two tuple 2 containing its source or target id in the
@@ -35,12 +35,12 @@ import org.gradoop.common.model.impl.id.GradoopIdList;
 @FunctionAnnotation.ReadFields("sourceId;targetId")
 @FunctionAnnotation.ForwardedFields("graphIds->f1")
 public class SourceTargetIdGraphsTuple<E extends Edge>
-  implements FlatMapFunction<E, Tuple2<GradoopId, GradoopIdList>> {
+  implements FlatMapFunction<E, Tuple2<GradoopId, GradoopIdSet>> {
 
   @Override
   public void flatMap(
     E e,
-    Collector<Tuple2<GradoopId, GradoopIdList>> collector) throws
+    Collector<Tuple2<GradoopId, GradoopIdSet>> collector) throws
     Exception {
 
     collector.collect(new Tuple2<>(e.getSourceId(), e.getGraphIds()));
@@ -25,6 +25,8 @@ import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.pojo.typeutils.PropertyKeyDictionarySerializer;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
 import org.gradoop.common.storage.api.EdgeHandler;
 import org.gradoop.common.storage.api.GraphHeadHandler;
 import org.gradoop.common.storage.api.VertexHandler;
@@ -89,6 +91,22 @@ public class GradoopFlinkConfig extends GradoopConfig<GraphHead, Vertex, Edge> {
     return executionEnvironment;
   }
 
+  /**
+   * Uses the given dictionary to encode property keys of all elements
+   * serialized by jobs of the execution environment. The dictionary is
+   * registered in the execution config and used by the element serializers,
+   * which are shipped with the job to all task managers.
+   *
+   * @param dictionary property key dictionary
+   * @return this configuration
+   */
+  public GradoopFlinkConfig setPropertyKeyDictionary(
+    PropertyKeyDictionary dictionary) {
+    PropertyKeyDictionarySerializer.register(
+      executionEnvironment.getConfig(), dictionary);
+    return this;
+  }
+
   @Override
   public GraphHeadFactory getGraphHeadFactory() {
     return (GraphHeadFactory) super.getGraphHeadFactory();
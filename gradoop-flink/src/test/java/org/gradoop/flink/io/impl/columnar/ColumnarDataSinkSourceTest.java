@@ -0,0 +1,126 @@
+package org.gradoop.flink.io.impl.columnar;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.List;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarDataSinkSourceTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWriteRead() throws Exception {
+    String tmpDir = temporaryFolder.getRoot().toString();
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    loader.getDatabase().writeTo(new ColumnarDataSink(tmpDir, getConfig()));
+    getExecutionEnvironment().execute();
+
+    List<GraphHead> loadedGraphHeads = Lists.newArrayList();
+    List<Vertex> loadedVertices = Lists.newArrayList();
+    List<Edge> loadedEdges = Lists.newArrayList();
+    collect(new ColumnarDataSource(tmpDir, getConfig()).getGraphCollection(),
+      loadedGraphHeads, loadedVertices, loadedEdges);
+
+    validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+    validateEPGMElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMGraphElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMElementCollections(loader.getEdges(), loadedEdges);
+    validateEPGMGraphElementCollections(loader.getEdges(), loadedEdges);
+  }
+
+  @Test
+  public void testWriteReadSmallBlocks() throws Exception {
+    String tmpDir = temporaryFolder.getRoot().toString();
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    // many blocks per file, so that input splits start within blocks
+    loader.getDatabase().writeTo(new ColumnarDataSink(tmpDir, 2, getConfig()));
+    getExecutionEnvironment().execute();
+
+    List<GraphHead> loadedGraphHeads = Lists.newArrayList();
+    List<Vertex> loadedVertices = Lists.newArrayList();
+    List<Edge> loadedEdges = Lists.newArrayList();
+    collect(new ColumnarDataSource(tmpDir, getConfig()).getGraphCollection(),
+      loadedGraphHeads, loadedVertices, loadedEdges);
+
+    validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+    validateEPGMElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMGraphElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMElementCollections(loader.getEdges(), loadedEdges);
+    validateEPGMGraphElementCollections(loader.getEdges(), loadedEdges);
+  }
+
+  @Test
+  public void testReadWithFilters() throws Exception {
+    String tmpDir = temporaryFolder.getRoot().toString();
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    loader.getDatabase().writeTo(new ColumnarDataSink(tmpDir, 3, getConfig()));
+    getExecutionEnvironment().execute();
+
+    ColumnarDataSource dataSource = new ColumnarDataSource(tmpDir, getConfig())
+      .withVertexFilter(ColumnarFilter.create()
+        .withLabels("Person")
+        .projectProperties("name"))
+      .withEdgeFilter(ColumnarFilter.create()
+        .withLabels("knows"));
+
+    List<GraphHead> loadedGraphHeads = Lists.newArrayList();
+    List<Vertex> loadedVertices = Lists.newArrayList();
+    List<Edge> loadedEdges = Lists.newArrayList();
+    collect(dataSource.getGraphCollection(), loadedGraphHeads, loadedVertices, loadedEdges);
+
+    validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+
+    GradoopIdSet vertexIds = new GradoopIdSet();
+    int expectedVertexCount = 0;
+    for (Vertex vertex : loader.getVertices()) {
+      if (vertex.getLabel().equals("Person")) {
+        expectedVertexCount++;
+      }
+    }
+    assertEquals(expectedVertexCount, loadedVertices.size());
+    for (Vertex vertex : loadedVertices) {
+      assertEquals("Person", vertex.getLabel());
+      assertEquals(1, vertex.getPropertyCount());
+      assertTrue(vertex.hasProperty("name"));
+      vertexIds.add(vertex.getId());
+    }
+
+    List<Edge> expectedEdges = Lists.newArrayList();
+    for (Edge edge : loader.getEdges()) {
+      if (edge.getLabel().equals("knows") &&
+        vertexIds.contains(edge.getSourceId()) && vertexIds.contains(edge.getTargetId())) {
+        expectedEdges.add(edge);
+      }
+    }
+    validateEPGMElementCollections(expectedEdges, loadedEdges);
+    validateEPGMGraphElementCollections(expectedEdges, loadedEdges);
+  }
+
+  private void collect(GraphCollection collection, List<GraphHead> graphHeads,
+    List<Vertex> vertices, List<Edge> edges) throws Exception {
+    collection.getGraphHeads().output(new LocalCollectionOutputFormat<>(graphHeads));
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(vertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(edges));
+    getExecutionEnvironment().execute();
+  }
+}
@@ -2,23 +2,32 @@ package org.gradoop.flink.io.impl.hbase;
 
 import com.google.common.collect.Lists;
 import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.storage.api.PersistentEdge;
 import org.gradoop.common.storage.api.PersistentGraphHead;
 import org.gradoop.common.storage.api.PersistentVertex;
+import org.gradoop.common.storage.impl.hbase.GradoopHBaseConfig;
 import org.gradoop.common.storage.impl.hbase.GradoopHBaseTestBase;
+import org.gradoop.common.storage.impl.hbase.HBaseElementFilter;
 import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
+import org.gradoop.common.storage.impl.hbase.SaltedRowKeyStrategy;
 import org.gradoop.flink.model.impl.EPGMDatabase;
 import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.util.Collection;
 import java.util.List;
 
 import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
 import static org.gradoop.common.storage.impl.hbase.GradoopHBaseTestUtils.getSocialPersistentEdges;
 import static org.gradoop.common.storage.impl.hbase.GradoopHBaseTestUtils.getSocialPersistentGraphHeads;
@@ -30,6 +39,9 @@ import static org.gradoop.common.storage.impl.hbase.GradoopHBaseTestUtils.getSoc
  */
 public class HBaseDataSinkSourceTest extends FlinkHBaseTestBase {
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @Test
   public void testRead() throws Exception {
     HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = GradoopHBaseTestBase.createEmptyEPGMStore();
@@ -73,17 +85,183 @@ public class HBaseDataSinkSourceTest extends FlinkHBaseTestBase {
     epgmStore.close();
   }
 
+  @Test
+  public void testReadWithFilters() throws Exception {
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = GradoopHBaseTestBase.createEmptyEPGMStore();
+    FlinkAsciiGraphLoader loader = writeSocialNetwork(epgmStore);
+
+    HBaseDataSource dataSource = new HBaseDataSource(epgmStore, getConfig())
+      .withGraphHeadFilter(HBaseElementFilter.create()
+        .withProperty("interest", "Hadoop"))
+      .withVertexFilter(HBaseElementFilter.create()
+        .withLabels("Person")
+        .withProperty("city", "Dresden")
+        .projectProperties("name"));
+
+    List<GraphHead> loadedGraphHeads = Lists.newArrayList();
+    List<Vertex> loadedVertices = Lists.newArrayList();
+    List<Edge> loadedEdges = Lists.newArrayList();
+    collect(dataSource.getGraphCollection(), loadedGraphHeads, loadedVertices, loadedEdges);
+
+    assertEquals(1, loadedGraphHeads.size());
+    assertEquals("Hadoop", loadedGraphHeads.get(0).getPropertyValue("interest").getString());
+
+    // carol, dave, eve
+    assertEquals(3, loadedVertices.size());
+    GradoopIdSet vertexIds = new GradoopIdSet();
+    for (Vertex vertex : loadedVertices) {
+      assertEquals("Person", vertex.getLabel());
+      assertEquals(1, vertex.getPropertyCount());
+      assertTrue(vertex.hasProperty("name"));
+      vertexIds.add(vertex.getId());
+    }
+
+    List<Edge> expectedEdges = Lists.newArrayList();
+    for (Edge edge : loader.getEdges()) {
+      if (vertexIds.contains(edge.getSourceId()) && vertexIds.contains(edge.getTargetId())) {
+        expectedEdges.add(edge);
+      }
+    }
+    validateEPGMElementCollections(expectedEdges, loadedEdges);
+
+    epgmStore.close();
+  }
+
+  @Test
+  public void testReadWithIndex() throws Exception {
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = GradoopHBaseTestBase.createEmptyEPGMStore(
+      GradoopHBaseConfig.getDefaultConfig().withIndex("index", "city"));
+    FlinkAsciiGraphLoader loader = writeSocialNetwork(epgmStore);
+
+    HBaseDataSource dataSource = new HBaseDataSource(epgmStore, getConfig())
+      .withVertexFilter(HBaseElementFilter.create()
+        .withLabels("Person")
+        .withProperty("city", "Leipzig"))
+      .withEdgeFilter(HBaseElementFilter.create()
+        .withLabels("knows"));
+
+    List<Vertex> loadedVertices = Lists.newArrayList();
+    List<Edge> loadedEdges = Lists.newArrayList();
+    collect(dataSource.getGraphCollection(), Lists.<GraphHead>newArrayList(),
+      loadedVertices, loadedEdges);
+
+    List<Vertex> expectedVertices = Lists.newArrayList();
+    GradoopIdSet vertexIds = new GradoopIdSet();
+    for (Vertex vertex : loader.getVertices()) {
+      if (vertex.getLabel().equals("Person") &&
+        vertex.getPropertyValue("city").getString().equals("Leipzig")) {
+        expectedVertices.add(vertex);
+        vertexIds.add(vertex.getId());
+      }
+    }
+    List<Edge> expectedEdges = Lists.newArrayList();
+    for (Edge edge : loader.getEdges()) {
+      if (edge.getLabel().equals("knows") &&
+        vertexIds.contains(edge.getSourceId()) && vertexIds.contains(edge.getTargetId())) {
+        expectedEdges.add(edge);
+      }
+    }
+
+    validateEPGMElementCollections(expectedVertices, loadedVertices);
+    validateEPGMGraphElementCollections(expectedVertices, loadedVertices);
+    validateEPGMElementCollections(expectedEdges, loadedEdges);
+
+    epgmStore.close();
+  }
+
+  @Test
+  public void testReadWithIndexWithoutMatches() throws Exception {
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = GradoopHBaseTestBase.createEmptyEPGMStore(
+      GradoopHBaseConfig.getDefaultConfig().withIndex("index", "city"));
+    writeSocialNetwork(epgmStore);
+
+    HBaseDataSource dataSource = new HBaseDataSource(epgmStore, getConfig())
+      .withVertexFilter(HBaseElementFilter.create()
+        .withLabels("Person")
+        .withProperty("city", "Atlantis"));
+
+    List<Vertex> loadedVertices = Lists.newArrayList();
+    List<Edge> loadedEdges = Lists.newArrayList();
+    collect(dataSource.getGraphCollection(), Lists.<GraphHead>newArrayList(),
+      loadedVertices, loadedEdges);
+
+    assertTrue(loadedVertices.isEmpty());
+    assertTrue(loadedEdges.isEmpty());
+
+    epgmStore.close();
+  }
+
+  @Test
+  public void testReadWithGraphFilter() throws Exception {
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = GradoopHBaseTestBase.createEmptyEPGMStore();
+    FlinkAsciiGraphLoader loader = writeSocialNetwork(epgmStore);
+
+    GradoopId graphId = loader.getGraphHeadByVariable("g0").getId();
+
+    HBaseDataSource dataSource = new HBaseDataSource(epgmStore, getConfig())
+      .withVertexFilter(HBaseElementFilter.create().inGraphs(graphId))
+      .withEdgeFilter(HBaseElementFilter.create().inGraphs(graphId));
+
+    List<Vertex> loadedVertices = Lists.newArrayList();
+    List<Edge> loadedEdges = Lists.newArrayList();
+    collect(dataSource.getGraphCollection(), Lists.<GraphHead>newArrayList(),
+      loadedVertices, loadedEdges);
+
+    validateEPGMElementCollections(loader.getVerticesByGraphVariables("g0"), loadedVertices);
+    validateEPGMGraphElementCollections(
+      loader.getVerticesByGraphVariables("g0"), loadedVertices);
+    validateEPGMElementCollections(loader.getEdgesByGraphVariables("g0"), loadedEdges);
+
+    epgmStore.close();
+  }
+
   @Test
   public void testWrite() throws Exception {
     // create empty EPGM store
     HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = GradoopHBaseTestBase.createEmptyEPGMStore();
 
+    // write social graph to HBase via EPGM database
+    testWrite(epgmStore, new HBaseDataSink(epgmStore, getConfig()));
+  }
+
+  @Test
+  public void testBulkLoadWrite() throws Exception {
+    // create empty EPGM store
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = GradoopHBaseTestBase.createEmptyEPGMStore();
+
+    // write social graph to HBase via HFiles
+    String stagingPath = temporaryFolder.getRoot().getPath() + "/hfiles";
+    testWrite(epgmStore, new HBaseDataSink(epgmStore, getConfig(), stagingPath));
+  }
+
+  @Test
+  public void testSaltedWriteRead() throws Exception {
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = GradoopHBaseTestBase.createEmptyEPGMStore(
+      GradoopHBaseConfig.getDefaultConfig(new SaltedRowKeyStrategy(4)));
+    FlinkAsciiGraphLoader loader = writeSocialNetwork(epgmStore);
+
+    List<GraphHead> loadedGraphHeads = Lists.newArrayList();
+    List<Vertex> loadedVertices = Lists.newArrayList();
+    List<Edge> loadedEdges = Lists.newArrayList();
+    collect(new HBaseDataSource(epgmStore, getConfig()).getGraphCollection(),
+      loadedGraphHeads, loadedVertices, loadedEdges);
+
+    validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+    validateEPGMElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMGraphElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMElementCollections(loader.getEdges(), loadedEdges);
+    validateEPGMGraphElementCollections(loader.getEdges(), loadedEdges);
+
+    epgmStore.close();
+  }
+
+  private void testWrite(HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore,
+    HBaseDataSink dataSink) throws Exception {
     FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
 
     EPGMDatabase epgmDB = loader.getDatabase();
 
-    // write social graph to HBase via EPGM database
-    epgmDB.writeTo(new HBaseDataSink(epgmStore, getConfig()));
+    epgmDB.writeTo(dataSink);
 
     getExecutionEnvironment().execute();
 
@@ -117,4 +295,20 @@ public class HBaseDataSinkSourceTest extends FlinkHBaseTestBase {
 
     epgmStore.close();
   }
+
+  private FlinkAsciiGraphLoader writeSocialNetwork(
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore) throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    loader.getDatabase().writeTo(new HBaseDataSink(epgmStore, getConfig()));
+    getExecutionEnvironment().execute();
+    return loader;
+  }
+
+  private void collect(GraphCollection collection, List<GraphHead> graphHeads,
+    List<Vertex> vertices, List<Edge> edges) throws Exception {
+    collection.getGraphHeads().output(new LocalCollectionOutputFormat<>(graphHeads));
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(vertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(edges));
+    getExecutionEnvironment().execute();
+  }
 }
@@ -5,7 +5,7 @@ import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.functions.bool.Equals;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
 
@@ -51,7 +51,7 @@ public class EPGMDatabaseTest extends GradoopFlinkTestBase {
       graphIds.add(loader.getGraphHeadByVariable(graphVariable).getId());
     }
 
-    GradoopIdList graphIdSet = GradoopIdList.fromExisting(graphIds);
+    GradoopIdSet graphIdSet = GradoopIdSet.fromExisting(graphIds);
 
     GraphCollection collectionFromLoader =
       loader.getGraphCollectionByVariables(graphVariables);
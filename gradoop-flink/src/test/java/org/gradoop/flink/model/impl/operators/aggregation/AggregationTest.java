@@ -552,6 +552,97 @@ public class AggregationTest extends GradoopFlinkTestBase {
     assertTrue("wrong number of output graph heads", graphHeadCount == 4);
   }
 
+  @Test
+  public void testSingleGraphMultiAggregation() throws Exception {
+    LogicalGraph graph = getLoaderFromString(
+          "org:Ga[" +
+          "(:Va{vp : 0.5f})-[:ea{ep : 2}]->(:Vb{vp : 3.1f})" +
+          "(:Vc{vp : 0.33f})-[:eb]->(:Vd{vp : 0.0f})" +
+          "]"
+      ).getLogicalGraphByVariable("org");
+
+    SumVertexProperty sumVertexProperty =
+      new SumVertexProperty(VERTEX_PROPERTY);
+
+    MaxEdgeProperty maxEdgeProperty =
+      new MaxEdgeProperty(EDGE_PROPERTY);
+
+    graph = graph.aggregate(
+      new VertexCount(), new EdgeCount(), sumVertexProperty, maxEdgeProperty);
+
+    EPGMGraphHead graphHead = graph.getGraphHead().collect().get(0);
+
+    assertCounts(graphHead, 4L, 2L);
+    assertEquals(
+      3.93f,
+      graphHead.getPropertyValue(
+        sumVertexProperty.getAggregatePropertyKey()).getFloat(), 0.00001f);
+    assertEquals(
+      2,
+      graphHead.getPropertyValue(
+        maxEdgeProperty.getAggregatePropertyKey()).getInt());
+  }
+
+  @Test
+  public void testCollectionMultiAggregation() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g0[" +
+      "(va {vp : 0.5})" +
+      "(vb {vp : 0.3})" +
+      "(vc {vp : 0.1})" +
+      "(va)-[ea {ep : 2L}]->(vb)" +
+      "(vb)-[eb]->(vc)" +
+      "]" +
+      "g1[" +
+      "(va)-[ea]->(vb)" +
+      "]" +
+      "g2[]");
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2");
+
+    MinVertexProperty minVertexProperty =
+      new MinVertexProperty(VERTEX_PROPERTY);
+
+    SumEdgeProperty sumEdgeProperty =
+      new SumEdgeProperty(EDGE_PROPERTY);
+
+    GraphCollection outputCollection = inputCollection
+      .apply(new ApplyMultiAggregation(
+        new VertexCount(), new EdgeCount(), minVertexProperty, sumEdgeProperty));
+
+    GradoopId g0Id = loader.getGraphHeadByVariable("g0").getId();
+    GradoopId g1Id = loader.getGraphHeadByVariable("g1").getId();
+    GradoopId g2Id = loader.getGraphHeadByVariable("g2").getId();
+
+    List<GraphHead> graphHeads = outputCollection.getGraphHeads().collect();
+    assertEquals("wrong number of output graph heads", 3, graphHeads.size());
+
+    for (EPGMGraphHead graphHead : graphHeads) {
+      PropertyValue vertexAggregate =
+        graphHead.getPropertyValue(minVertexProperty.getAggregatePropertyKey());
+
+      PropertyValue edgeAggregate =
+        graphHead.getPropertyValue(sumEdgeProperty.getAggregatePropertyKey());
+
+      if (graphHead.getId().equals(g0Id)) {
+        assertCounts(graphHead, 3, 2);
+        assertEquals(0.1f, vertexAggregate.getFloat(), 0.00001);
+        assertEquals(2, edgeAggregate.getLong());
+      } else if (graphHead.getId().equals(g1Id)) {
+        assertCounts(graphHead, 2, 1);
+        assertEquals(0.3f, vertexAggregate.getFloat(), 0.00001);
+        assertEquals(2, edgeAggregate.getLong());
+      } else if (graphHead.getId().equals(g2Id)) {
+        assertCounts(graphHead, 0, 0);
+        assertEquals(PropertyValue.NULL_VALUE, vertexAggregate);
+        assertEquals(PropertyValue.NULL_VALUE, edgeAggregate);
+      } else {
+        Assert.fail("unexpected graph head: " + graphHead);
+      }
+    }
+  }
+
   private void assertCounts(EPGMGraphHead graphHead,
     long expectedVertexCount, long expectedEdgeCount) {
 
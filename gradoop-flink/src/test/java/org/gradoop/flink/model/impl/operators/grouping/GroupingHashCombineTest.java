@@ -0,0 +1,9 @@
+package org.gradoop.flink.model.impl.operators.grouping;
+
+public class GroupingHashCombineTest extends GroupingTestBase {
+
+  @Override
+  public GroupingStrategy getStrategy() {
+    return GroupingStrategy.HASH_COMBINE;
+  }
+}
@@ -0,0 +1,9 @@
+package org.gradoop.flink.model.impl.operators.grouping;
+
+public class GroupingSkewResistantTest extends GroupingTestBase {
+
+  @Override
+  public GroupingStrategy getStrategy() {
+    return GroupingStrategy.SKEW_RESISTANT;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MaxAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class IncrementalGroupingTest extends GradoopFlinkTestBase {
+
+  private static final String INPUT =
+    "input[" +
+    "(a:Person {city : \"Leipzig\", age : 20})" +
+    "(b:Person {city : \"Leipzig\", age : 30})" +
+    "(c:Person {city : \"Dresden\", age : 40})" +
+    "(a)-[:knows]->(b)" +
+    "(b)-[:knows]->(c)" +
+    "]" +
+    "delta[" +
+    "(d:Person {city : \"Dresden\", age : 50})" +
+    "(e:Person {city : \"Berlin\", age : 25})" +
+    "(d)-[:knows]->(c)" +
+    "(e)-[:knows]->(a)" +
+    "(a)-[:knows]->(c)" +
+    "]";
+
+  @Test
+  public void testGroup() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(INPUT);
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(l:Person {city : \"Leipzig\", count : 2L, maxAge : 30})" +
+      "(d:Person {city : \"Dresden\", count : 1L, maxAge : 40})" +
+      "(l)-[:knows {count : 1L}]->(l)" +
+      "(l)-[:knows {count : 1L}]->(d)" +
+      "]");
+
+    LogicalGraph output = createOperator()
+      .execute(loader.getLogicalGraphByVariable("input"));
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  @Test
+  public void testUpdate() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(INPUT);
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(l:Person {city : \"Leipzig\", count : 2L, maxAge : 30})" +
+      "(d:Person {city : \"Dresden\", count : 2L, maxAge : 50})" +
+      "(b:Person {city : \"Berlin\", count : 1L, maxAge : 25})" +
+      "(l)-[:knows {count : 1L}]->(l)" +
+      "(l)-[:knows {count : 2L}]->(d)" +
+      "(d)-[:knows {count : 1L}]->(d)" +
+      "(b)-[:knows {count : 1L}]->(l)" +
+      "]");
+
+    GroupingResult output = update(loader);
+
+    collectAndAssertTrue(output.getGraph()
+      .equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  @Test
+  public void testUpdatedVertexMapping() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(INPUT);
+
+    List<VertexWithSuperVertex> mapping = update(loader).getVertexToSuperVertex().collect();
+
+    Map<GradoopId, GradoopId> superVertexIds = new HashMap<>();
+    for (VertexWithSuperVertex vertexWithSuperVertex : mapping) {
+      superVertexIds.put(vertexWithSuperVertex.f0, vertexWithSuperVertex.getSuperVertexId());
+    }
+
+    assertEquals(5, superVertexIds.size());
+    assertEquals(3, new HashSet<>(superVertexIds.values()).size());
+
+    GradoopId a = superVertexIds.get(loader.getVertexByVariable("a").getId());
+    GradoopId b = superVertexIds.get(loader.getVertexByVariable("b").getId());
+    GradoopId c = superVertexIds.get(loader.getVertexByVariable("c").getId());
+    GradoopId d = superVertexIds.get(loader.getVertexByVariable("d").getId());
+    GradoopId e = superVertexIds.get(loader.getVertexByVariable("e").getId());
+
+    assertEquals(a, b);
+    assertEquals(c, d);
+    assertNotEquals(a, e);
+    assertNotEquals(c, e);
+  }
+
+  private IncrementalGrouping createOperator() {
+    return new GroupingBuilder()
+      .useVertexLabel(true)
+      .addVertexGroupingKey("city")
+      .addVertexAggregator(new CountAggregator("count"))
+      .addVertexAggregator(new MaxAggregator("age", "maxAge"))
+      .useEdgeLabel(true)
+      .addEdgeAggregator(new CountAggregator("count"))
+      .buildIncremental();
+  }
+
+  private GroupingResult update(FlinkAsciiGraphLoader loader) {
+    IncrementalGrouping grouping = createOperator();
+
+    GroupingResult previous = grouping.group(loader.getLogicalGraphByVariable("input"));
+
+    // the delta graph contains only new vertices, but new edges may connect existing vertices
+    LogicalGraph delta = LogicalGraph.fromCollections(
+      Lists.newArrayList(loader.getVertexByVariable("d"), loader.getVertexByVariable("e")),
+      loader.getEdgesByGraphVariables("delta"),
+      getConfig());
+
+    return grouping.update(previous, delta);
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RollUpGroupingTest extends GradoopFlinkTestBase {
+
+  private static final String EXPECTED =
+    "cityGender[" +
+    "(leipzigF {city : \"Leipzig\", gender : \"f\", count : 1L})" +
+    "(leipzigM {city : \"Leipzig\", gender : \"m\", count : 1L})" +
+    "(dresdenF {city : \"Dresden\", gender : \"f\", count : 2L})" +
+    "(dresdenM {city : \"Dresden\", gender : \"m\", count : 1L})" +
+    "(berlinM  {city : \"Berlin\", gender : \"m\",  count : 1L})" +
+    "(leipzigF)-[{count : 1L}]->(leipzigM)" +
+    "(leipzigM)-[{count : 1L}]->(leipzigF)" +
+    "(leipzigM)-[{count : 1L}]->(dresdenF)" +
+    "(dresdenF)-[{count : 1L}]->(leipzigF)" +
+    "(dresdenF)-[{count : 2L}]->(leipzigM)" +
+    "(dresdenF)-[{count : 1L}]->(dresdenM)" +
+    "(dresdenM)-[{count : 1L}]->(dresdenF)" +
+    "(berlinM)-[{count : 1L}]->(dresdenF)" +
+    "(berlinM)-[{count : 1L}]->(dresdenM)" +
+    "]" +
+    "city[" +
+    "(leipzig {city : \"Leipzig\", count : 2L})" +
+    "(dresden {city : \"Dresden\", count : 3L})" +
+    "(berlin  {city : \"Berlin\",  count : 1L})" +
+    "(dresden)-[{count : 2L}]->(dresden)" +
+    "(dresden)-[{count : 3L}]->(leipzig)" +
+    "(leipzig)-[{count : 2L}]->(leipzig)" +
+    "(leipzig)-[{count : 1L}]->(dresden)" +
+    "(berlin)-[{count : 2L}]->(dresden)" +
+    "]";
+
+  @Test
+  public void testExecuteLevels() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    loader.appendToDatabaseFromString(EXPECTED);
+
+    List<LogicalGraph> output = createRollUp().executeLevels(getInputGraph(loader));
+
+    assertEquals(2, output.size());
+    collectAndAssertTrue(
+      output.get(0).equalsByElementData(loader.getLogicalGraphByVariable("cityGender")));
+    collectAndAssertTrue(
+      output.get(1).equalsByElementData(loader.getLogicalGraphByVariable("city")));
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    loader.appendToDatabaseFromString(EXPECTED);
+
+    GraphCollection output = createRollUp().execute(getInputGraph(loader));
+
+    collectAndAssertTrue(output.equalsByGraphElementData(
+      loader.getGraphCollectionByVariables("cityGender", "city")));
+
+    List<GraphHead> graphHeads = output.getGraphHeads().collect();
+    assertEquals(2, graphHeads.size());
+    for (GraphHead graphHead : graphHeads) {
+      List<PropertyValue> keys = graphHead
+        .getPropertyValue(RollUpGrouping.VERTEX_GROUPING_KEYS_PROPERTY).getList();
+      assertTrue(keys.equals(Arrays.asList(
+        PropertyValue.create("city"), PropertyValue.create("gender"))) ||
+        keys.equals(Collections.singletonList(PropertyValue.create("city"))));
+    }
+  }
+
+  @Test
+  public void testGroupingSets() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    loader.appendToDatabaseFromString(EXPECTED);
+
+    List<LogicalGraph> output = new GroupingBuilder()
+      .addVertexGroupingKey("city")
+      .addVertexGroupingKey("gender")
+      .addGroupingSet(Collections.singletonList("city"))
+      .addGroupingSet(Arrays.asList("gender", "city"))
+      .addVertexAggregator(new CountAggregator("count"))
+      .addEdgeAggregator(new CountAggregator("count"))
+      .setStrategy(GroupingStrategy.GROUP_REDUCE)
+      .buildRollUp()
+      .executeLevels(getInputGraph(loader));
+
+    assertEquals(2, output.size());
+    collectAndAssertTrue(
+      output.get(0).equalsByElementData(loader.getLogicalGraphByVariable("city")));
+    collectAndAssertTrue(
+      output.get(1).equalsByElementData(loader.getLogicalGraphByVariable("cityGender")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidGroupingSet() {
+    new GroupingBuilder()
+      .addVertexGroupingKey("city")
+      .addGroupingSet(Collections.singletonList("gender"))
+      .setStrategy(GroupingStrategy.GROUP_REDUCE)
+      .buildRollUp();
+  }
+
+  private RollUpGrouping createRollUp() {
+    return new GroupingBuilder()
+      .addVertexGroupingKey("city")
+      .addVertexGroupingKey("gender")
+      .addVertexAggregator(new CountAggregator("count"))
+      .addEdgeAggregator(new CountAggregator("count"))
+      .setStrategy(GroupingStrategy.GROUP_REDUCE)
+      .buildRollUp();
+  }
+
+  private LogicalGraph getInputGraph(FlinkAsciiGraphLoader loader) {
+    return loader
+      .getLogicalGraphByVariable("g0")
+      .combine(loader.getLogicalGraphByVariable("g1"))
+      .combine(loader.getLogicalGraphByVariable("g2"));
+  }
+}
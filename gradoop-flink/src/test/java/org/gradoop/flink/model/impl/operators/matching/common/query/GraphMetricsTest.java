@@ -73,4 +73,23 @@ public class GraphMetricsTest {
     assertEquals(Sets.newHashSet("v1","v2","v3"), components.get(0));
     assertEquals(Sets.newHashSet("v4","v5","v6"), components.get(1));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testGetCyclicEdges() {
+    String queryString = "" +
+      "(v1)-[e1]->(v2)" +
+      "(v2)-[e2]->(v3)" +
+      "(v3)-[e3]->(v1)" +
+      "(v3)-[e4]->(v4)" +
+      "(v4)-[e5]->(v4)" +
+      "(v4)-[e6]->(v5)" +
+      "(v5)-[e7]->(v4)" +
+      "(v5)-[e8*1..3]->(v6)";
+
+    QueryHandler query = new QueryHandler(queryString);
+
+    assertEquals(Sets.newHashSet("e1", "e2", "e3", "e6", "e7"),
+      GraphMetrics.getCyclicEdges(query));
+    assertTrue(GraphMetrics.getCyclicEdges(new QueryHandler("(v1)-->(v2)-->(v3)")).isEmpty());
+  }
+}
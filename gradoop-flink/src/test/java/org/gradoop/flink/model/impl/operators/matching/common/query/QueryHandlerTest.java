@@ -77,6 +77,50 @@ public class QueryHandlerTest {
     assertEquals(0, new QueryHandler("(v0)").getRadius());
   }
 
+  @Test
+  public void testGetReturnItems() {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (a)-[e]->(b) RETURN a.city, count(*), sum(b.age)");
+
+    assertEquals(Lists.newArrayList(
+      ReturnItem.parse("a.city"), ReturnItem.parse("count(*)"), ReturnItem.parse("sum(b.age)")),
+      queryHandler.getReturnItems());
+    assertTrue(queryHandler.hasAggregation());
+    assertEquals(Sets.newHashSet("city"), queryHandler.getReturnPropertyKeys("a"));
+    assertEquals(Sets.newHashSet("age"), queryHandler.getReturnPropertyKeys("b"));
+    assertTrue(queryHandler.getReturnPropertyKeys("e").isEmpty());
+    assertEquals(2, queryHandler.getVertexCount());
+  }
+
+  @Test
+  public void testWithoutReturnItems() {
+    assertTrue(QUERY_HANDLER.getReturnItems().isEmpty());
+    assertFalse(QUERY_HANDLER.hasAggregation());
+    assertFalse(new QueryHandler("MATCH (a)-->(b) RETURN a, b").hasAggregation());
+  }
+
+  @Test
+  public void testReturnKeywordInStringLiteral() {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (a)-->(b) WHERE a.note = \"x return y\" RETURN a.city");
+    assertEquals(Lists.newArrayList(ReturnItem.parse("a.city")), queryHandler.getReturnItems());
+    assertEquals(Sets.newHashSet("city"), queryHandler.getReturnPropertyKeys("a"));
+
+    queryHandler = new QueryHandler("MATCH (a)-->(b) WHERE a.note = \"x RETURN y\"");
+    assertTrue(queryHandler.getReturnItems().isEmpty());
+    assertEquals(2, queryHandler.getVertexCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownReturnVariable() {
+    new QueryHandler("MATCH (a)-->(b) RETURN count(c)");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsupportedReturnItem() {
+    new QueryHandler("MATCH (a)-->(b) RETURN avg(a.age)");
+  }
+
   @Test
   public void testIsVertex() {
     assertTrue(QUERY_HANDLER.isVertex("v1"));
@@ -226,6 +270,23 @@ public class QueryHandlerTest {
     assertTrue(elementsEqual(centerVertices, expected));
   }
 
+  @Test
+  public void testGetPathSemantics() {
+    QueryHandler queryHandler = new QueryHandler("" +
+      "MATCH shortestPath((a)-[e1*1..3]->(b)), reachable((b)<-[e2*]-(c)), (c)-[e3*2..2]->(a)");
+    assertEquals(PathSemantics.SHORTEST, queryHandler.getPathSemantics("e1"));
+    assertEquals(PathSemantics.EXISTS, queryHandler.getPathSemantics("e2"));
+    assertEquals(PathSemantics.ALL, queryHandler.getPathSemantics("e3"));
+    assertEquals(3, queryHandler.getEdgeCount());
+    assertEquals(1, queryHandler.getEdgeByVariable("e1").getLowerBound());
+    assertEquals(3, queryHandler.getEdgeByVariable("e1").getUpperBound());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPathSemanticsRequireVariableLengthEdge() {
+    new QueryHandler("MATCH shortestPath((a)-[e1]->(b))");
+  }
+
   private static <EL extends Element> boolean elementsEqual(List<EL> list, List<EL> expected) {
     boolean equal = list.size() == expected.size();
 
@@ -1,8 +1,11 @@
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.junit.Test;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -188,4 +191,23 @@ public abstract class GraphStatisticsTest {
       is(0L));
   }
 
+  @Test
+  public void testPropertyHistograms() throws Exception {
+    PropertyHistogram age = TEST_STATISTICS.getVertexPropertyHistogram("Person", "age");
+    assertThat(age.getCount(), is(6L));
+    assertThat(age.getDistinctCount(), is(4L));
+    assertThat(age.getMostCommonValues().get(PropertyValue.create(35)), is(2L));
+    assertThat(age.getMostCommonValues().get(PropertyValue.create(30)), is(2L));
+    assertThat(age.getBounds(),
+      is(Lists.newArrayList(PropertyValue.create(20), PropertyValue.create(40))));
+
+    PropertyHistogram since = TEST_STATISTICS.getEdgePropertyHistogram("knows", "since");
+    assertThat(since.getCount(), is(10L));
+    assertThat(since.getMostCommonValues().get(PropertyValue.create(2014)), is(5L));
+
+    // nonexistent label or property
+    assertNull(TEST_STATISTICS.getVertexPropertyHistogram("Person", "foo"));
+    assertNull(TEST_STATISTICS.getEdgePropertyHistogram("foo", "since"));
+  }
 }
+
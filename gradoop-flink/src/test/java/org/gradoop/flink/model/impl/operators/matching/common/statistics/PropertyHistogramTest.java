@@ -0,0 +1,99 @@
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class PropertyHistogramTest {
+
+  /**
+   * Values 1 to 100 occur once, value 0 occurs 100 times.
+   *
+   * @return histogram
+   */
+  private static PropertyHistogram createSkewedHistogram() {
+    Map<PropertyValue, Long> valueCounts = new HashMap<>();
+    valueCounts.put(PropertyValue.create(0), 100L);
+    for (int i = 1; i <= 100; i++) {
+      valueCounts.put(PropertyValue.create(i), 1L);
+    }
+    return PropertyHistogram.create(valueCounts, 10, 20);
+  }
+
+  @Test
+  public void testCreate() throws Exception {
+    PropertyHistogram histogram = createSkewedHistogram();
+
+    assertThat(histogram.getCount(), is(200L));
+    assertThat(histogram.getDistinctCount(), is(101L));
+    assertThat(histogram.getMostCommonValues().size(), is(1));
+    assertThat(histogram.getMostCommonValues().get(PropertyValue.create(0)), is(100L));
+    assertThat(histogram.getBounds().size(), is(21));
+    assertThat(histogram.getBounds().get(0), is(PropertyValue.create(1)));
+    assertThat(histogram.getBounds().get(20), is(PropertyValue.create(100)));
+  }
+
+  @Test
+  public void testEstimateEquality() throws Exception {
+    PropertyHistogram histogram = createSkewedHistogram();
+
+    assertEquals(100d, histogram.estimateCount(Comparator.EQ, PropertyValue.create(0)), 1E-9);
+    assertEquals(1d, histogram.estimateCount(Comparator.EQ, PropertyValue.create(50)), 1E-9);
+    assertEquals(0d, histogram.estimateCount(Comparator.EQ, PropertyValue.create(500)), 1E-9);
+    assertEquals(199d, histogram.estimateCount(Comparator.NEQ, PropertyValue.create(50)), 1E-9);
+  }
+
+  @Test
+  public void testEstimateRange() throws Exception {
+    PropertyHistogram histogram = createSkewedHistogram();
+
+    assertEquals(0d, histogram.estimateCount(Comparator.LT, PropertyValue.create(0)), 1E-9);
+    assertEquals(100d, histogram.estimateCount(Comparator.LTE, PropertyValue.create(0)), 1E-9);
+    assertEquals(50d, histogram.estimateCount(Comparator.GT, PropertyValue.create(50)), 1E-9);
+    assertEquals(200d, histogram.estimateCount(Comparator.GTE, PropertyValue.create(0)), 1E-9);
+    assertEquals(0d, histogram.estimateCount(Comparator.GT, PropertyValue.create(100)), 1E-9);
+  }
+
+  @Test
+  public void testIncompatibleTypes() throws Exception {
+    PropertyHistogram histogram = createSkewedHistogram();
+    PropertyValue value = PropertyValue.create("foo");
+
+    assertEquals(0d, histogram.estimateCount(Comparator.EQ, value), 1E-9);
+    assertEquals(200d, histogram.estimateCount(Comparator.NEQ, value), 1E-9);
+    assertEquals(0d, histogram.estimateCount(Comparator.LT, value), 1E-9);
+  }
+
+  @Test
+  public void testMixedTypes() throws Exception {
+    Map<PropertyValue, Long> valueCounts = new HashMap<>();
+    valueCounts.put(PropertyValue.create(1), 1L);
+    valueCounts.put(PropertyValue.create("a"), 1L);
+    PropertyHistogram histogram = PropertyHistogram.create(valueCounts, 10, 20);
+
+    assertTrue(histogram.getBounds().isEmpty());
+    assertEquals(2d * PropertyHistogram.DEFAULT_RANGE_FRACTION,
+      histogram.estimateCount(Comparator.LT, PropertyValue.create(5)), 1E-9);
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    PropertyHistogram histogram = createSkewedHistogram();
+    assertThat(PropertyHistogram.deserialize(histogram.serialize()), is(histogram));
+
+    Map<PropertyValue, Long> valueCounts = new HashMap<>();
+    valueCounts.put(PropertyValue.create("a,b;c:d"), 1L);
+    histogram = PropertyHistogram.create(valueCounts, 10, 20);
+    assertThat(histogram.getBounds(), is(Lists.newArrayList(PropertyValue.create("a,b;c:d"))));
+    assertThat(PropertyHistogram.deserialize(histogram.serialize()), is(histogram));
+  }
+}
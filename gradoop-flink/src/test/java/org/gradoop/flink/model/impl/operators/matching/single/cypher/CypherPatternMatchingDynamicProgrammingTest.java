@@ -0,0 +1,32 @@
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlanningStrategy;
+import org.junit.runners.Parameterized;
+
+/**
+ * Runs the homomorphism tests using the dynamic programming planner.
+ */
+public class CypherPatternMatchingDynamicProgrammingTest
+  extends CypherPatternMatchingHomomorphismTest {
+
+  @Parameterized.Parameters(name = "{index}: {0}")
+  public static Iterable data() {
+    return CypherPatternMatchingHomomorphismTest.data();
+  }
+
+  public CypherPatternMatchingDynamicProgrammingTest(String testName, String dataGraph,
+    String queryGraph, String expectedGraphVariables, String expectedCollection) {
+    super(testName, dataGraph, queryGraph, expectedGraphVariables, expectedCollection);
+  }
+
+  @Override
+  public PatternMatching getImplementation(String queryGraph, boolean attachData) {
+    int n = 42; // just used for testing
+    return new CypherPatternMatching("MATCH " + queryGraph, attachData,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.HOMOMORPHISM,
+      new GraphStatistics(n, n, n, n), PlanningStrategy.DYNAMIC_PROGRAMMING);
+  }
+}
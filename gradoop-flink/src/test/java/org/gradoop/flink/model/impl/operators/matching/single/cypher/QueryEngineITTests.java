@@ -7,8 +7,15 @@ import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamic.DynamicProgrammingPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -16,6 +23,7 @@ import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Just a few tests that check for the correct cardinality.
@@ -63,6 +71,63 @@ public class QueryEngineITTests extends GradoopFlinkTestBase {
     assertCardinalities("MATCH (a:Person), (b:Person) WHERE a.city = b.city", 36, 8);
   }
 
+  @Test
+  public void testDynamicProgrammingIsNotWorseThanGreedy() throws Exception {
+    String q = "MATCH (t:Tag)<-[:hasTag]-(f:Forum)-[:hasMember]->(p:Person)-[:knows]->(p2:Person)";
+    QueryHandler queryHandler = new QueryHandler(q);
+
+    PlanTableEntry greedy = new GreedyPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+    PlanTableEntry dynamic = new DynamicProgrammingPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+
+    assertThat(dynamic.getProcessedVariables(), is(greedy.getProcessedVariables()));
+    long dynamicCosts = getCosts(dynamic.getQueryPlan().getRoot(), queryHandler);
+    long greedyCosts = getCosts(greedy.getQueryPlan().getRoot(), queryHandler);
+    assertTrue(String.format("C_out of dynamic programming plan (%d) exceeds greedy plan (%d)",
+      dynamicCosts, greedyCosts), dynamicCosts <= greedyCosts);
+    assertThat(dynamic.getQueryPlan().execute().count(),
+      is(greedy.getQueryPlan().execute().count()));
+  }
+
+  @Test
+  public void testDynamicProgrammingFallsBackToGreedy() throws Exception {
+    String q = "MATCH (a:Person), (b:Person) WHERE a.city = b.city";
+    PlanTableEntry entry = new DynamicProgrammingPlanner(socialNetwork, new QueryHandler(q),
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+
+    assertThat(entry.getEstimatedCardinality(), is(36L));
+    assertThat(entry.getQueryPlan().execute().count(), is(8L));
+  }
+
+  /**
+   * Computes the C_out costs of the plan rooted at the given node, i.e. the sum of the estimated
+   * cardinalities of all its partial results. A partial result is a leaf or a join including the
+   * filters and projections applied on top of it.
+   *
+   * @param node root of the (sub) plan
+   * @param queryHandler query handler
+   * @return C_out costs
+   */
+  private long getCosts(PlanNode node, QueryHandler queryHandler) {
+    long costs = new QueryPlanEstimator(new QueryPlan(node), queryHandler,
+      socialNetworkStatistics).getCardinality();
+
+    PlanNode input = node;
+    while (input instanceof UnaryNode) {
+      input = ((UnaryNode) input).getChildNode();
+    }
+    if (input instanceof BinaryNode) {
+      costs += getCosts(((BinaryNode) input).getLeftChild(), queryHandler);
+      costs += getCosts(((BinaryNode) input).getRightChild(), queryHandler);
+    } else if (input instanceof NaryNode) {
+      for (PlanNode child : ((NaryNode) input).getChildren()) {
+        costs += getCosts(child, queryHandler);
+      }
+    }
+    return costs;
+  }
+
   /**
    * Executed the given query and checks if the estimated and exact cardinality applies to the
    * specified values.
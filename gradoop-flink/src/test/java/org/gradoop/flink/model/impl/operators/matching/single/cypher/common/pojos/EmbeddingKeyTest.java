@@ -0,0 +1,45 @@
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
+
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingKey;
+import org.junit.Test;
+
+import static org.gradoop.common.GradoopTestUtils.writeAndReadValue;
+import static org.junit.Assert.*;
+
+public class EmbeddingKeyTest {
+
+  @Test
+  public void testCompareTo() {
+    EmbeddingKey a = new EmbeddingKey(new byte[] {1, 2});
+    EmbeddingKey b = new EmbeddingKey(new byte[] {1, (byte) 200});
+    EmbeddingKey c = new EmbeddingKey(new byte[] {1, 2, 0});
+
+    assertTrue(a.compareTo(b) < 0);
+    assertTrue(b.compareTo(a) > 0);
+    assertTrue(a.compareTo(c) < 0);
+    assertEquals(0, a.compareTo(new EmbeddingKey(new byte[] {1, 2})));
+  }
+
+  @Test
+  public void testNormalizedKeyOrder() {
+    EmbeddingKey a = new EmbeddingKey(new byte[] {1, 2});
+    EmbeddingKey b = new EmbeddingKey(new byte[] {1, (byte) 200});
+
+    MemorySegment segment = MemorySegmentFactory.allocateUnpooledSegment(8);
+    a.copyNormalizedKey(segment, 0, 4);
+    b.copyNormalizedKey(segment, 4, 4);
+
+    assertTrue(segment.compare(segment, 0, 4, 4) < 0);
+    assertEquals(0, segment.get(2));
+    assertEquals(0, segment.get(3));
+  }
+
+  @Test
+  public void testWriteRead() throws Exception {
+    EmbeddingKey key = new EmbeddingKey(new byte[] {1, 2, 3});
+    assertEquals(key, writeAndReadValue(EmbeddingKey.class, key));
+    assertEquals(key.hashCode(), writeAndReadValue(EmbeddingKey.class, key).hashCode());
+  }
+}
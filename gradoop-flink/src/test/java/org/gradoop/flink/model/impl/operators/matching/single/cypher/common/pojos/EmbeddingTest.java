@@ -335,6 +335,72 @@ public class EmbeddingTest {
 
   }
 
+  @Test
+  public void testGetPropertyCount() {
+    Embedding embedding = new Embedding();
+    assertEquals(0, embedding.getPropertyCount());
+
+    embedding.add(GradoopId.get(), PropertyValue.create("a"), PropertyValue.create(42));
+    assertEquals(2, embedding.getPropertyCount());
+
+    Embedding copy = new Embedding(embedding.getIdData(), embedding.getPropertyData(),
+      embedding.getIdListData());
+    assertEquals(2, copy.getPropertyCount());
+    assertEquals(PropertyValue.create(42), copy.getProperty(1));
+  }
+
+  @Test
+  public void testReserve() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+
+    Embedding embedding = new Embedding();
+    embedding.add(a);
+    embedding.reserve(2, 2);
+    embedding.add(b, c);
+    embedding.add(c);
+
+    assertEquals(3, embedding.size());
+    assertEquals(3 * Embedding.ID_ENTRY_SIZE, embedding.getIdData().length);
+    assertEquals(Lists.newArrayList(a, b, c, c), embedding.getIdsAsList(
+      Lists.newArrayList(0, 1, 2)));
+  }
+
+  @Test
+  public void testAppendDoesNotModifySharedData() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+
+    Embedding embedding = createEmbedding(4);
+    embedding.add(GradoopId.get(), PropertyValue.create("a"), PropertyValue.create(42));
+
+    Embedding projection = embedding.project(Lists.newArrayList(1));
+    embedding.add(a);
+    projection.add(b);
+
+    assertEquals(a, embedding.getId(5));
+    assertEquals(b, projection.getId(5));
+    assertEquals(PropertyValue.create(42), projection.getProperty(0));
+  }
+
+  @Test
+  public void testEqualsIgnoresCapacity() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+
+    Embedding embedding = new Embedding();
+    embedding.reserve(10, 0);
+    embedding.add(a);
+    embedding.add(b);
+
+    Embedding other = new Embedding();
+    other.addAll(a, b);
+
+    assertEquals(other, embedding);
+    assertEquals(other.hashCode(), embedding.hashCode());
+  }
+
   private Embedding createEmbedding(int size) {
     Embedding embedding = new Embedding();
 
@@ -380,5 +446,7 @@ public class EmbeddingTest {
     inEmbedding.add(idList);
     outEmbedding = writeAndReadValue(Embedding.class, inEmbedding);
     assertEquals(inEmbedding, outEmbedding);
+    assertEquals(inEmbedding.getProperties(), outEmbedding.getProperties());
+    assertEquals(Lists.newArrayList(idList), outEmbedding.getIdList(2));
   }
 }
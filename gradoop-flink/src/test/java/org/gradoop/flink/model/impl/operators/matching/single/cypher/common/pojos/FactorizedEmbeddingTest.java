@@ -0,0 +1,60 @@
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
+
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.gradoop.common.GradoopTestUtils.writeAndReadValue;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.*;
+
+public class FactorizedEmbeddingTest {
+
+  @Test
+  public void testGetCombinationCount() {
+    FactorizedEmbedding embedding = new FactorizedEmbedding();
+    assertTrue(embedding.isEmpty());
+    assertEquals(0L, embedding.getCombinationCount());
+
+    embedding.setLeft(Lists.newArrayList(
+      createEmbedding(GradoopId.get()), createEmbedding(GradoopId.get())));
+    assertTrue(embedding.isEmpty());
+    assertEquals(0L, embedding.getCombinationCount());
+
+    embedding.setRight(Lists.newArrayList(createEmbedding(GradoopId.get()),
+      createEmbedding(GradoopId.get()), createEmbedding(GradoopId.get())));
+    assertFalse(embedding.isEmpty());
+    assertEquals(6L, embedding.getCombinationCount());
+  }
+
+  @Test
+  public void testWriteRead() throws Exception {
+    FactorizedEmbedding inEmbedding = new FactorizedEmbedding();
+    FactorizedEmbedding outEmbedding = writeAndReadValue(FactorizedEmbedding.class, inEmbedding);
+    assertEquals(inEmbedding, outEmbedding);
+
+    Embedding left = new Embedding();
+    left.add(GradoopId.get(), PropertyValue.create(42));
+    left.add(GradoopId.get(), GradoopId.get());
+
+    Embedding right = new Embedding();
+    right.add(GradoopId.get(), PropertyValue.create("Foobar"));
+
+    inEmbedding = new FactorizedEmbedding(
+      Lists.newArrayList(left, createEmbedding(GradoopId.get())),
+      Lists.newArrayList(right));
+    outEmbedding = writeAndReadValue(FactorizedEmbedding.class, inEmbedding);
+    assertEquals(inEmbedding, outEmbedding);
+    assertEquals(left.getIdList(1), outEmbedding.getLeft().get(0).getIdList(1));
+    assertEquals(right.getProperties(), outEmbedding.getRight().get(0).getProperties());
+
+    inEmbedding = new FactorizedEmbedding(new ArrayList<>(), Lists.newArrayList(right));
+    outEmbedding = writeAndReadValue(FactorizedEmbedding.class, inEmbedding);
+    assertEquals(inEmbedding, outEmbedding);
+  }
+}
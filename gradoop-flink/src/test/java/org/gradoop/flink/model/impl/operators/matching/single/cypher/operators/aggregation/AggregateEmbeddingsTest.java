@@ -0,0 +1,170 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.aggregation;
+
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.matching.common.query.ReturnItem;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.FactorizedJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AggregateEmbeddingsTest extends PhysicalOperatorTest {
+
+  private static final List<ReturnItem> RETURN_ITEMS = Lists.newArrayList(
+    ReturnItem.parse("a.city"), ReturnItem.parse("count(*)"), ReturnItem.parse("sum(c.age)"));
+
+  @Test
+  public void testAggregateEmbeddings() throws Exception {
+    GradoopId b0 = GradoopId.get();
+    GradoopId b1 = GradoopId.get();
+
+    DataSet<Embedding> embeddings = getExecutionEnvironment().fromElements(
+      createEmbedding(Lists.newArrayList(
+        Pair.of(GradoopId.get(), Lists.newArrayList("Leipzig")),
+        Pair.of(GradoopId.get(), Collections.emptyList()),
+        Pair.of(b0, Lists.newArrayList(20)))),
+      createEmbedding(Lists.newArrayList(
+        Pair.of(GradoopId.get(), Lists.newArrayList("Leipzig")),
+        Pair.of(GradoopId.get(), Collections.emptyList()),
+        Pair.of(b1, Lists.newArrayList(30)))),
+      createEmbedding(Lists.newArrayList(
+        Pair.of(GradoopId.get(), Lists.newArrayList("Dresden")),
+        Pair.of(GradoopId.get(), Collections.emptyList()),
+        Pair.of(b0, Lists.newArrayList(20))))
+    );
+
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    metaData.setEntryColumn("e", EntryType.EDGE, 1);
+    metaData.setEntryColumn("c", EntryType.VERTEX, 2);
+    metaData.setPropertyColumn("a", "city", 0);
+    metaData.setPropertyColumn("c", "age", 1);
+
+    List<Properties> rows = new AggregateEmbeddings(RETURN_ITEMS)
+      .evaluate(embeddings, metaData).collect();
+
+    assertEquals(2, rows.size());
+    assertRowExists(rows, "Leipzig", 2L, 50L);
+    assertRowExists(rows, "Dresden", 1L, 20L);
+  }
+
+  @Test
+  public void testGlobalAggregateOfNoEmbeddings() throws Exception {
+    DataSet<Embedding> embeddings = getExecutionEnvironment()
+      .fromElements(createEmbedding(GradoopId.get()))
+      .filter(embedding -> false);
+
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn("a", EntryType.VERTEX, 0);
+
+    List<Properties> rows = new AggregateEmbeddings(
+      Lists.newArrayList(ReturnItem.parse("count(a)")))
+      .evaluate(embeddings, metaData).collect();
+
+    assertEquals(1, rows.size());
+    assertEquals(PropertyValue.create(0L), rows.get(0).get("count(a)"));
+  }
+
+  @Test
+  public void testAggregateFactorizedEmbeddings() throws Exception {
+    GradoopId b0 = GradoopId.get();
+    GradoopId b1 = GradoopId.get();
+    GradoopId c0 = GradoopId.get();
+    GradoopId c1 = GradoopId.get();
+
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(Lists.newArrayList(
+        Pair.of(GradoopId.get(), Lists.newArrayList("Leipzig")),
+        Pair.of(GradoopId.get(), Collections.emptyList()),
+        Pair.of(b0, Collections.emptyList()))),
+      createEmbedding(Lists.newArrayList(
+        Pair.of(GradoopId.get(), Lists.newArrayList("Leipzig")),
+        Pair.of(GradoopId.get(), Collections.emptyList()),
+        Pair.of(b0, Collections.emptyList()))),
+      createEmbedding(Lists.newArrayList(
+        Pair.of(GradoopId.get(), Lists.newArrayList("Dresden")),
+        Pair.of(GradoopId.get(), Collections.emptyList()),
+        Pair.of(b1, Collections.emptyList())))
+    );
+
+    DataSet<Embedding> right = getExecutionEnvironment().fromElements(
+      createEmbedding(Lists.newArrayList(
+        Pair.of(b0, Collections.emptyList()),
+        Pair.of(GradoopId.get(), Collections.emptyList()),
+        Pair.of(c0, Lists.newArrayList(10)))),
+      createEmbedding(Lists.newArrayList(
+        Pair.of(b0, Collections.emptyList()),
+        Pair.of(GradoopId.get(), Collections.emptyList()),
+        Pair.of(c1, Lists.newArrayList(5)))),
+      createEmbedding(Lists.newArrayList(
+        Pair.of(b1, Collections.emptyList()),
+        Pair.of(GradoopId.get(), Collections.emptyList()),
+        Pair.of(c0, Lists.newArrayList(10))))
+    );
+
+    EmbeddingMetaData leftMetaData = new EmbeddingMetaData();
+    leftMetaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    leftMetaData.setEntryColumn("e", EntryType.EDGE, 1);
+    leftMetaData.setEntryColumn("b", EntryType.VERTEX, 2);
+    leftMetaData.setPropertyColumn("a", "city", 0);
+
+    EmbeddingMetaData rightMetaData = new EmbeddingMetaData();
+    rightMetaData.setEntryColumn("b", EntryType.VERTEX, 0);
+    rightMetaData.setEntryColumn("f", EntryType.EDGE, 1);
+    rightMetaData.setEntryColumn("c", EntryType.VERTEX, 2);
+    rightMetaData.setPropertyColumn("c", "age", 0);
+
+    FactorizedJoinEmbeddings join = new FactorizedJoinEmbeddings(left, right, 3,
+      Lists.newArrayList(2), Lists.newArrayList(0));
+    EmbeddingAggregator aggregator =
+      new EmbeddingAggregator(RETURN_ITEMS, leftMetaData, rightMetaData);
+
+    DataSet<Tuple2<PropertyValueList, PropertyValueList>> partials =
+      join.aggregate(join.evaluate(), aggregator);
+    List<Properties> rows = new AggregateEmbeddings(RETURN_ITEMS)
+      .combine(partials, aggregator).collect();
+
+    assertEquals(2, rows.size());
+    assertRowExists(rows, "Leipzig", 4L, 30L);
+    assertRowExists(rows, "Dresden", 1L, 10L);
+  }
+
+  private static void assertRowExists(List<Properties> rows, String city, long count, long sum) {
+    assertTrue(rows.stream().anyMatch(row ->
+      row.get("a.city").equals(PropertyValue.create(city)) &&
+      row.get("count(*)").equals(PropertyValue.create(count)) &&
+      row.get("sum(c.age)").equals(PropertyValue.create(sum))));
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+
+public class ExpandEmbeddingsBidirectionalTest extends PhysicalOperatorTest {
+  //define some vertices
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+  private final GradoopId d = GradoopId.get();
+
+  //define some edges
+  private final GradoopId e0 = GradoopId.get();
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+  private final GradoopId e5 = GradoopId.get();
+
+  @Test
+  public void testResultForOutExpansion() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e1,b),
+      createEmbedding(b,e2,c),
+      createEmbedding(c,e3,d),
+      createEmbedding(a,e4,d),
+      createEmbedding(b,e5,d)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, candidateEdges, 0, 1, 3,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), 2
+    ).evaluate();
+
+    assertEquals(3, result.count());
+    assertEmbeddingExists(result, a,e0,d,e4,d);
+    assertEmbeddingExists(result, a,e0,d,e1,b,e5,d);
+    assertEmbeddingExists(result, a,e0,d,e1,b,e2,c,e3,d);
+  }
+
+  @Test
+  public void testResultForInExpansion() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(b,e1,a),
+      createEmbedding(c,e2,b),
+      createEmbedding(d,e3,c)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, candidateEdges, 0, 2, 4,
+      ExpandDirection.IN, new ArrayList<>(), new ArrayList<>(), 2
+    ).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a,e0,d,e1,b,e2,c,e3,d);
+  }
+
+  @Test
+  public void testLowerBoundRequirement() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e1,b),
+      createEmbedding(b,e2,c),
+      createEmbedding(c,e3,d),
+      createEmbedding(a,e4,d),
+      createEmbedding(b,e5,d)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, candidateEdges, 0, 3, 3,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), 2
+    ).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a,e0,d,e1,b,e2,c,e3,d);
+  }
+
+  @Test
+  public void testFilterDistinctVertices() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e1,b),
+      createEmbedding(b,e2,c),
+      createEmbedding(c,e3,b),
+      createEmbedding(b,e5,d)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, candidateEdges, 0, 1, 4,
+      ExpandDirection.OUT, Lists.newArrayList(0, 2), new ArrayList<>(), 2
+    ).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a,e0,d,e1,b,e5,d);
+  }
+
+  @Test
+  public void testFilterDistinctEdges() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e1,b),
+      createEmbedding(b,e2,a),
+      createEmbedding(b,e5,d)
+    );
+
+    DataSet<Embedding> homomorphic = new ExpandEmbeddingsBidirectional(
+      input, candidateEdges, 0, 1, 4,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), 2
+    ).evaluate();
+
+    assertEquals(2, homomorphic.count());
+    assertEmbeddingExists(homomorphic, a,e0,d,e1,b,e2,a,e1,b,e5,d);
+
+    DataSet<Embedding> isomorphic = new ExpandEmbeddingsBidirectional(
+      input, candidateEdges, 0, 1, 4,
+      ExpandDirection.OUT, new ArrayList<>(), Lists.newArrayList(1), 2
+    ).evaluate();
+
+    assertEquals(1, isomorphic.count());
+    assertEmbeddingExists(isomorphic, a,e0,d,e1,b,e5,d);
+  }
+
+  @Test
+  public void testSameResultAsUnidirectionalExpansion() throws Exception {
+    List<Embedding> edges = new ArrayList<>();
+    List<GradoopId> vertices = Lists.newArrayList(a, b, c, d);
+    for (GradoopId source : vertices) {
+      for (GradoopId target : vertices) {
+        if (!source.equals(target)) {
+          edges.add(createEmbedding(source, GradoopId.get(), target));
+        }
+      }
+    }
+
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d),
+      createEmbedding(b,e1,c)
+    );
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromCollection(edges);
+
+    List<List<Integer>> vertexColumns = Lists.newArrayList(
+      new ArrayList<>(), Lists.newArrayList(0, 2), Lists.newArrayList(0, 2));
+    List<List<Integer>> edgeColumns = Lists.newArrayList(
+      new ArrayList<>(), new ArrayList<>(), Lists.newArrayList(1));
+
+    for (int i = 0; i < vertexColumns.size(); i++) {
+      List<List<GradoopId>> expected = toIdLists(new ExpandEmbeddingsBulk(
+        input, candidateEdges, 0, 1, 4, ExpandDirection.OUT,
+        vertexColumns.get(i), edgeColumns.get(i), 2).evaluate());
+
+      List<List<GradoopId>> actual = toIdLists(new ExpandEmbeddingsBidirectional(
+        input, candidateEdges, 0, 1, 4, ExpandDirection.OUT,
+        vertexColumns.get(i), edgeColumns.get(i), 2).evaluate());
+
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRequiresClosingColumn() throws Exception {
+    new ExpandEmbeddingsBidirectional(
+      createEmbeddings(getExecutionEnvironment(), 1, a),
+      getExecutionEnvironment().fromElements(createEmbedding(a,e1,b)), 0, 1, 3,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1);
+  }
+
+  private List<List<GradoopId>> toIdLists(DataSet<Embedding> embeddings) throws Exception {
+    return embeddings.collect().stream()
+      .map(EmbeddingTestUtils::embeddingToIdList)
+      .sorted((left, right) -> left.toString().compareTo(right.toString()))
+      .collect(Collectors.toList());
+  }
+}
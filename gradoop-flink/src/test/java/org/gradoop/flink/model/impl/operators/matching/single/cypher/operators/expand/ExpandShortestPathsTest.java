@@ -0,0 +1,233 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.PathSemantics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandSettings;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+
+public class ExpandShortestPathsTest extends PhysicalOperatorTest {
+  //define some vertices
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+  private final GradoopId d = GradoopId.get();
+
+  //define some edges
+  private final GradoopId e0 = GradoopId.get();
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+  private final GradoopId e5 = GradoopId.get();
+
+  @Test
+  public void testShortestPathForOutExpansion() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e1,b),
+      createEmbedding(b,e2,c),
+      createEmbedding(c,e3,d),
+      createEmbedding(b,e5,d)
+    );
+
+    DataSet<Embedding> result = new ExpandShortestPaths(
+      input, candidateEdges, 0, settings(1, 3, ExpandDirection.OUT, PathSemantics.SHORTEST),
+      new ArrayList<>(), new ArrayList<>(), 2
+    ).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a,e0,d,e1,b,e5,d);
+  }
+
+  @Test
+  public void testShortestPathForInExpansion() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(b,e1,a),
+      createEmbedding(c,e2,b),
+      createEmbedding(d,e3,c)
+    );
+
+    DataSet<Embedding> result = new ExpandShortestPaths(
+      input, candidateEdges, 0, settings(1, 3, ExpandDirection.IN, PathSemantics.SHORTEST),
+      new ArrayList<>(), new ArrayList<>(), 2
+    ).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a,e0,d,e1,b,e2,c,e3,d);
+  }
+
+  @Test
+  public void testShortestPathsToAllReachableVertices() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e1,b),
+      createEmbedding(b,e2,c),
+      createEmbedding(c,e3,d),
+      createEmbedding(a,e4,d),
+      createEmbedding(b,e5,a)
+    );
+
+    DataSet<Embedding> result = new ExpandShortestPaths(
+      input, candidateEdges, 0, settings(1, 3, ExpandDirection.OUT, PathSemantics.SHORTEST),
+      new ArrayList<>(), new ArrayList<>(), -1
+    ).evaluate();
+
+    // the start vertex is never reached again
+    assertEquals(3, result.count());
+    assertEmbeddingExists(result, a,e0,d,e1,b);
+    assertEmbeddingExists(result, a,e0,d,e4,d);
+    assertEmbeddingExists(result, a,e0,d,e1,b,e2,c);
+  }
+
+  @Test
+  public void testBoundsApplyToShortestPath() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e1,b),
+      createEmbedding(b,e2,c),
+      createEmbedding(c,e3,d),
+      createEmbedding(a,e4,d)
+    );
+
+    DataSet<Embedding> result = new ExpandShortestPaths(
+      input, candidateEdges, 0, settings(2, 3, ExpandDirection.OUT, PathSemantics.SHORTEST),
+      new ArrayList<>(), new ArrayList<>(), -1
+    ).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a,e0,d,e1,b,e2,c);
+
+    result = new ExpandShortestPaths(
+      input, candidateEdges, 0, settings(1, 1, ExpandDirection.OUT, PathSemantics.SHORTEST),
+      new ArrayList<>(), new ArrayList<>(), -1
+    ).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a,e0,d,e1,b);
+    assertEmbeddingExists(result, a,e0,d,e4,d);
+  }
+
+  @Test
+  public void testFilterDistinctVertices() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e1,b),
+      createEmbedding(b,e2,c),
+      createEmbedding(a,e4,d)
+    );
+
+    DataSet<Embedding> result = new ExpandShortestPaths(
+      input, candidateEdges, 0, settings(1, 3, ExpandDirection.OUT, PathSemantics.SHORTEST),
+      Lists.newArrayList(0, 2), new ArrayList<>(), -1
+    ).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a,e0,d,e1,b);
+    assertEmbeddingExists(result, a,e0,d,e1,b,e2,c);
+  }
+
+  @Test
+  public void testReachability() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d),
+      createEmbedding(a,e5,c)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e1,b),
+      createEmbedding(b,e2,c),
+      createEmbedding(c,e3,a),
+      createEmbedding(c,e4,b)
+    );
+
+    DataSet<Embedding> result = new ExpandShortestPaths(
+      input, candidateEdges, 0, settings(1, 3, ExpandDirection.OUT, PathSemantics.EXISTS),
+      new ArrayList<>(), new ArrayList<>(), 2
+    ).evaluate();
+
+    assertEquals(1, result.count());
+    assertEveryEmbedding(result, embedding -> {
+      assertEquals(0, embedding.getIdList(3).size());
+      assertEquals(c, embedding.getId(4));
+    });
+  }
+
+  @Test
+  public void testReachabilityWithoutEndVertex() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e0,d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a,e1,b),
+      createEmbedding(a,e4,b),
+      createEmbedding(b,e2,c),
+      createEmbedding(c,e3,d)
+    );
+
+    DataSet<Embedding> result = new ExpandShortestPaths(
+      input, candidateEdges, 0, settings(1, 2, ExpandDirection.OUT, PathSemantics.EXISTS),
+      new ArrayList<>(), new ArrayList<>(), -1
+    ).evaluate();
+
+    Set<GradoopId> reached = result.collect().stream()
+      .map(embedding -> embedding.getId(4))
+      .collect(Collectors.toSet());
+
+    assertEquals(2, result.count());
+    assertEquals(Sets.newHashSet(b, c), reached);
+  }
+
+  private static ExpandSettings settings(int lowerBound, int upperBound,
+    ExpandDirection direction, PathSemantics semantics) {
+    return new ExpandSettings(lowerBound, upperBound, direction,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.HOMOMORPHISM).withSemantics(semantics);
+  }
+}
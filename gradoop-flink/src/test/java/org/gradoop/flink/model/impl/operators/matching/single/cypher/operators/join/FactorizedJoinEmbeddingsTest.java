@@ -0,0 +1,130 @@
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.FactorizedEmbedding;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+
+public class FactorizedJoinEmbeddingsTest extends PhysicalOperatorTest {
+  private static GradoopId v0 = GradoopId.get();
+  private static GradoopId v1 = GradoopId.get();
+  private static GradoopId v2 = GradoopId.get();
+  private static GradoopId v3 = GradoopId.get();
+  private static GradoopId e0 = GradoopId.get();
+  private static GradoopId e1 = GradoopId.get();
+  private static GradoopId e2 = GradoopId.get();
+  private static GradoopId e3 = GradoopId.get();
+
+  @Test
+  public void testFactorizedJoin() throws Exception {
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v0, e1, v2),
+      createEmbedding(v3, e2, v1)
+    );
+
+    DataSet<Embedding> right = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e2, v2),
+      createEmbedding(v0, e3, v3)
+    );
+
+    FactorizedJoinEmbeddings join = new FactorizedJoinEmbeddings(left, right, 3,
+      Lists.newArrayList(0), Lists.newArrayList(0));
+
+    DataSet<FactorizedEmbedding> factorized = join.evaluate();
+    List<FactorizedEmbedding> factorizedList = factorized.collect();
+    assertEquals(1, factorizedList.size());
+    assertEquals(2, factorizedList.get(0).getLeft().size());
+    assertEquals(2, factorizedList.get(0).getRight().size());
+
+    DataSet<Embedding> result = join.flatten(factorized);
+    assertEquals(4, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e2, v2);
+    assertEmbeddingExists(result, v0, e0, v1, e3, v3);
+    assertEmbeddingExists(result, v0, e1, v2, e2, v2);
+    assertEmbeddingExists(result, v0, e1, v2, e3, v3);
+
+    assertEquals(4L, (long) join.count(factorized).collect().get(0));
+  }
+
+  @Test
+  public void testFlattenKeepsProperties() throws Exception {
+    Embedding l = new Embedding();
+    l.add(v0, PropertyValue.create("Foobar"));
+    l.add(e0, PropertyValue.create(42));
+    l.add(v1);
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(l);
+
+    Embedding r = new Embedding();
+    r.add(v1, PropertyValue.create("Baz"));
+    DataSet<Embedding> right = getExecutionEnvironment().fromElements(r);
+
+    FactorizedJoinEmbeddings join = new FactorizedJoinEmbeddings(left, right, 1,
+      Lists.newArrayList(2), Lists.newArrayList(0));
+
+    DataSet<Embedding> result = join.flatten(join.evaluate());
+    assertEquals(1, result.count());
+    assertEveryEmbedding(result, embedding ->
+      embedding.getProperties().equals(Lists.newArrayList(
+        PropertyValue.create("Foobar"),
+        PropertyValue.create(42),
+        PropertyValue.create("Baz")
+      )
+    ));
+    assertEmbeddingExists(result, v0, e0, v1);
+  }
+
+  @Test
+  public void testMorphismConstraints() throws Exception {
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v0, e1, v2)
+    );
+
+    DataSet<Embedding> right = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e2, v1),
+      createEmbedding(v0, e0, v3)
+    );
+
+    FactorizedJoinEmbeddings join = new FactorizedJoinEmbeddings(left, right, 3,
+      Lists.newArrayList(0), Lists.newArrayList(0),
+      Lists.newArrayList(0, 2), Lists.newArrayList(2),
+      Lists.newArrayList(1), Lists.newArrayList(1));
+
+    DataSet<FactorizedEmbedding> factorized = join.evaluate();
+    DataSet<Embedding> result = join.flatten(factorized);
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, e1, v2, e2, v1);
+    assertEmbeddingExists(result, v0, e1, v2, e0, v3);
+
+    assertEquals(2L, (long) join.count(factorized).collect().get(0));
+  }
+
+  @Test
+  public void testCountEmptyResult() throws Exception {
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1)
+    );
+
+    DataSet<Embedding> right = getExecutionEnvironment().fromElements(
+      createEmbedding(v2, e1, v3)
+    );
+
+    FactorizedJoinEmbeddings join = new FactorizedJoinEmbeddings(left, right, 3,
+      Collections.singletonList(0), Collections.singletonList(0));
+
+    DataSet<FactorizedEmbedding> factorized = join.evaluate();
+    assertEquals(0, factorized.count());
+    assertEquals(0L, (long) join.count(factorized).collect().get(0));
+  }
+}
@@ -0,0 +1,85 @@
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbeddingExists;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+
+public class GenericJoinEmbeddingsTest extends PhysicalOperatorTest {
+  private static GradoopId v0 = GradoopId.get();
+  private static GradoopId v1 = GradoopId.get();
+  private static GradoopId v2 = GradoopId.get();
+  private static GradoopId v3 = GradoopId.get();
+  private static GradoopId e0 = GradoopId.get();
+  private static GradoopId e1 = GradoopId.get();
+  private static GradoopId e2 = GradoopId.get();
+  private static GradoopId e3 = GradoopId.get();
+  private static GradoopId e4 = GradoopId.get();
+
+  @Test
+  public void testTriangle() throws Exception {
+    // triangle (v0,v1,v2) and an open path v1 -> v3 -> v0
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v2, e2, v0),
+      createEmbedding(v1, e3, v3),
+      createEmbedding(v3, e4, v3)
+    );
+
+    // (a)-[x]->(b)-[y]->(c)-[z]->(a)
+    PhysicalOperator join = new GenericJoinEmbeddings(asList(edges, edges, edges),
+      asList(0, 1, 2), asList(1, 2, 0), 3, true, true);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(3, result.count());
+    assertEmbeddingExists(result, v0, v1, v2, e0, e1, e2);
+    assertEmbeddingExists(result, v1, v2, v0, e1, e2, e0);
+    assertEmbeddingExists(result, v2, v0, v1, e2, e0, e1);
+  }
+
+  @Test
+  public void testParallelEdges() throws Exception {
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v0, e3, v1),
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v0, e2, v2)
+    );
+
+    // (a)-[x]->(b)-[y]->(c)<-[z]-(a)
+    PhysicalOperator join = new GenericJoinEmbeddings(asList(edges, edges, edges),
+      asList(0, 1, 0), asList(1, 2, 2), 3, true, true);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, v1, v2, e0, e1, e2);
+    assertEmbeddingExists(result, v0, v1, v2, e3, e1, e2);
+  }
+
+  @Test
+  public void testHomomorphism() throws Exception {
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v0)
+    );
+
+    // (a)-[x]->(b)-[y]->(c)-[z]->(a)
+    PhysicalOperator join = new GenericJoinEmbeddings(asList(edges, edges, edges),
+      asList(0, 1, 2), asList(1, 2, 0), 3, false, false);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, v0, v0, e0, e0, e0);
+
+    join = new GenericJoinEmbeddings(asList(edges, edges, edges),
+      asList(0, 1, 2), asList(1, 2, 0), 3, true, true);
+    assertEquals(0, join.evaluate().count());
+  }
+}
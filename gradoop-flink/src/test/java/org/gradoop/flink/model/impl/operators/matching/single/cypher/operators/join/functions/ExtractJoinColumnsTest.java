@@ -3,6 +3,7 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.
 import org.apache.commons.lang.ArrayUtils;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingKey;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
 import org.junit.Assert;
 import org.junit.Test;
@@ -23,7 +24,7 @@ public class ExtractJoinColumnsTest extends PhysicalOperatorTest {
 
     ExtractJoinColumns udf = new ExtractJoinColumns(Collections.singletonList(0));
 
-    Assert.assertEquals(ArrayUtils.toString(v0.toByteArray()), udf.getKey(embedding));
+    Assert.assertEquals(new EmbeddingKey(v0.toByteArray()), udf.getKey(embedding));
   }
 
   @Test
@@ -36,7 +37,7 @@ public class ExtractJoinColumnsTest extends PhysicalOperatorTest {
     ExtractJoinColumns udf = new ExtractJoinColumns(Arrays.asList(0, 1));
 
     Assert.assertEquals(
-      ArrayUtils.toString(v0.toByteArray()) + ArrayUtils.toString(v1.toByteArray()),
+      new EmbeddingKey(ArrayUtils.addAll(v0.toByteArray(), v1.toByteArray())),
       udf.getKey(embedding)
     );
   }
@@ -4,6 +4,7 @@ import org.apache.commons.lang.ArrayUtils;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingKey;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
 import org.junit.Assert;
 import org.junit.Test;
@@ -26,7 +27,7 @@ public class ExtractPropertyJoinColumnsTest extends PhysicalOperatorTest {
 
     ExtractPropertyJoinColumns udf = new ExtractPropertyJoinColumns(Collections.singletonList(0));
 
-    Assert.assertEquals(ArrayUtils.toString(embedding.getRawProperty(0)), udf.getKey(embedding));
+    Assert.assertEquals(new EmbeddingKey(lengthPrefixed(a)), udf.getKey(embedding));
   }
 
   @Test
@@ -41,7 +42,7 @@ public class ExtractPropertyJoinColumnsTest extends PhysicalOperatorTest {
     ExtractPropertyJoinColumns udf = new ExtractPropertyJoinColumns(Arrays.asList(0, 1));
 
     Assert.assertEquals(
-      ArrayUtils.toString(embedding.getRawProperty(0)) + ArrayUtils.toString(embedding.getRawProperty(1)),
+      new EmbeddingKey(ArrayUtils.addAll(lengthPrefixed(a), lengthPrefixed(b))),
       udf.getKey(embedding)
     );
   }
@@ -59,4 +60,22 @@ public class ExtractPropertyJoinColumnsTest extends PhysicalOperatorTest {
 
     Assert.assertNotEquals(udf1.getKey(embedding), udf2.getKey(embedding));
   }
+
+  @Test
+  public void testMultiColumnUnambiguous() throws Exception {
+    Embedding embedding1 = new Embedding();
+    embedding1.add(GradoopId.get(), PropertyValue.create("a\u0006"), PropertyValue.create("c"));
+    Embedding embedding2 = new Embedding();
+    embedding2.add(GradoopId.get(), PropertyValue.create("a"), PropertyValue.create("\u0006c"));
+
+    ExtractPropertyJoinColumns udf = new ExtractPropertyJoinColumns(Arrays.asList(0, 1));
+
+    Assert.assertNotEquals(udf.getKey(embedding1), udf.getKey(embedding2));
+  }
+
+  private static byte[] lengthPrefixed(PropertyValue value) {
+    byte[] rawBytes = value.getRawBytes();
+    // all test values are shorter than 128 bytes, i.e. their var-int length takes one byte
+    return ArrayUtils.addAll(new byte[] {(byte) rawBytes.length}, rawBytes);
+  }
 }
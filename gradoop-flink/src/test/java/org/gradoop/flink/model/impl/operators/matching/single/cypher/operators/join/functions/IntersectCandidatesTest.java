@@ -0,0 +1,68 @@
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class IntersectCandidatesTest {
+
+  @Test
+  public void testIntersect() throws Exception {
+    List<GradoopId> ids = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      ids.add(GradoopId.get());
+    }
+    Collections.sort(ids);
+
+    List<GradoopId> first = new ArrayList<>();
+    List<GradoopId> second = new ArrayList<>();
+    List<GradoopId> expected = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i++) {
+      if (i % 2 == 0) {
+        first.add(ids.get(i));
+      }
+      if (i % 3 == 0) {
+        second.add(ids.get(i));
+      }
+      if (i % 6 == 0) {
+        expected.add(ids.get(i));
+      }
+    }
+
+    assertEquals(expected, IntersectCandidates.intersect(first, second));
+    assertEquals(expected, IntersectCandidates.intersect(second, first));
+    assertEquals(Collections.emptyList(),
+      IntersectCandidates.intersect(first, Collections.emptyList()));
+  }
+
+  @Test
+  public void testJoin() throws Exception {
+    List<GradoopId> ids = Lists.newArrayList(GradoopId.get(), GradoopId.get(), GradoopId.get());
+    Collections.sort(ids);
+    GradoopId v0 = GradoopId.get();
+
+    Embedding candidates = new Embedding();
+    candidates.add(v0);
+    candidates.add(ids.get(0), ids.get(1));
+
+    Embedding adjacencyList = new Embedding();
+    adjacencyList.add(v0);
+    adjacencyList.add(ids.get(1), ids.get(2));
+
+    List<Embedding> result = new ArrayList<>();
+    new IntersectCandidates().join(candidates, adjacencyList,
+      new ListCollector<>(result));
+
+    assertEquals(1, result.size());
+    assertEquals(v0, result.get(0).getId(0));
+    assertEquals(Lists.newArrayList(ids.get(1)), result.get(0).getIdList(1));
+  }
+}
@@ -8,6 +8,7 @@ import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
 
 public class FilterEstimatorTest extends EstimatorTestBase {
 
@@ -72,4 +73,65 @@ public class FilterEstimatorTest extends EstimatorTestBase {
     assertThat(elementEstimator.getCardinality(), is(10L));
     assertThat(elementEstimator.getSelectivity(), is(1d));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testVertexWithEqualityPredicate() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age = 35";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(6L));
+    // 35 is a most common value with frequency 2
+    assertEquals(2d / 6d, elementEstimator.getSelectivity(), 1E-9);
+  }
+
+  @Test
+  public void testVertexWithRangePredicate() throws Exception {
+    String query = "MATCH (n:Person) WHERE 25 > n.age";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    // a quarter of the two values in the histogram bucket [20, 40]
+    assertEquals(0.5d / 6d, elementEstimator.getSelectivity(), 1E-9);
+  }
+
+  @Test
+  public void testVertexWithDisjunction() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age = 35 OR n.age = 30";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertEquals(1d - (4d / 6d) * (4d / 6d), elementEstimator.getSelectivity(), 1E-9);
+  }
+
+  @Test
+  public void testEdgeWithoutHistogram() throws Exception {
+    String query = "MATCH (n)-[e:hasModerator]->(m) WHERE e.since = 2013";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(null,
+      "n", "e", "m",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), false);
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    // falls back to the number of distinct values
+    assertEquals(1d / 3d, elementEstimator.getSelectivity(), 1E-9);
+  }
+}
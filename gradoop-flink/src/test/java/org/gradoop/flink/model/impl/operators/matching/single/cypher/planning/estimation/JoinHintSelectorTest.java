@@ -0,0 +1,39 @@
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class JoinHintSelectorTest {
+
+  @Test
+  public void testBroadcastSmallerInput() throws Exception {
+    JoinHintSelector selector = new JoinHintSelector(4);
+    assertThat(selector.select(10L, 1000L), is(JoinHint.BROADCAST_HASH_FIRST));
+    assertThat(selector.select(1000L, 10L), is(JoinHint.BROADCAST_HASH_SECOND));
+  }
+
+  @Test
+  public void testRepartitionIfBroadcastIsMoreExpensive() throws Exception {
+    JoinHintSelector selector = new JoinHintSelector(16);
+    // broadcasting 100 embeddings to 16 workers ships more data than repartitioning both inputs
+    assertThat(selector.select(100L, 1000L), is(JoinHint.REPARTITION_HASH_FIRST));
+    assertThat(selector.select(1000L, 100L), is(JoinHint.REPARTITION_HASH_SECOND));
+    assertThat(selector.select(1000L, 1000L), is(JoinHint.REPARTITION_SORT_MERGE));
+  }
+
+  @Test
+  public void testBroadcastThreshold() throws Exception {
+    JoinHintSelector selector = new JoinHintSelector(4, 100L);
+    assertThat(selector.select(100L, 1_000_000L), is(JoinHint.BROADCAST_HASH_FIRST));
+    assertThat(selector.select(101L, 1_000_000L), is(JoinHint.REPARTITION_HASH_FIRST));
+  }
+
+  @Test
+  public void testUnknownCardinality() throws Exception {
+    JoinHintSelector selector = new JoinHintSelector(4);
+    assertThat(selector.select(-1L, 1000L), is(JoinHint.OPTIMIZER_CHOOSES));
+  }
+}
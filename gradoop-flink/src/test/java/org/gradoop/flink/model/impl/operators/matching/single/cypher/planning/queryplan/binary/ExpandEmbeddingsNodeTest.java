@@ -5,6 +5,7 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandSettings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
@@ -188,4 +189,65 @@ public class ExpandEmbeddingsNodeTest extends GradoopFlinkTestBase {
     assertThat(embedding.getIdList(1).get(4), is(f));
     assertThat(embedding.getId(2), is(g));
   }
+
+  @Test
+  public void testExecuteBidirectional() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId d = GradoopId.get();
+    GradoopId e = GradoopId.get();
+
+    EmbeddingMetaData leftInputMetaData = new EmbeddingMetaData();
+    leftInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    leftInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 1);
+
+    DataSet<Embedding> leftEmbeddings = getExecutionEnvironment()
+      .fromElements(createEmbedding(a, e));
+
+    EmbeddingMetaData rightInputMetaData = new EmbeddingMetaData();
+    rightInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    rightInputMetaData.setEntryColumn("e1", EntryType.EDGE, 1);
+    rightInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 2);
+
+    DataSet<Embedding> rightEmbeddings = getExecutionEnvironment()
+      .fromElements(createEmbedding(a, b, c), createEmbedding(c, d, e));
+
+    MockPlanNode leftChild = new MockPlanNode(leftEmbeddings, leftInputMetaData);
+    MockPlanNode rightChild = new MockPlanNode(rightEmbeddings, rightInputMetaData);
+
+    ExpandEmbeddingsNode node = new ExpandEmbeddingsNode(leftChild, rightChild,
+      "v1", "e1", "v2",
+      new ExpandSettings(1, 3, ExpandDirection.OUT,
+        MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).withBidirectional(true));
+
+    assertThat(node.isBidirectional(), is(true));
+
+    List<Embedding> result = node.execute().collect();
+    assertThat(result.size(), is(1));
+    Embedding embedding = result.get(0);
+    assertThat(embedding.getId(0), is(a));
+    assertThat(embedding.getId(1), is(e));
+    assertThat(embedding.getIdList(2), is(asList(b, c, d)));
+    assertThat(embedding.getId(3), is(e));
+  }
+
+  @Test
+  public void testBidirectionalRequiresBoundEndVertex() throws Exception {
+    EmbeddingMetaData leftInputMetaData = new EmbeddingMetaData();
+    leftInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+
+    EmbeddingMetaData rightInputMetaData = new EmbeddingMetaData();
+    rightInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    rightInputMetaData.setEntryColumn("e1", EntryType.EDGE, 1);
+    rightInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 2);
+
+    ExpandEmbeddingsNode node = new ExpandEmbeddingsNode(
+      new MockPlanNode(null, leftInputMetaData), new MockPlanNode(null, rightInputMetaData),
+      "v1", "e1", "v2",
+      new ExpandSettings(1, 3, ExpandDirection.OUT,
+        MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).withBidirectional(true));
+
+    assertThat(node.isBidirectional(), is(false));
+  }
 }
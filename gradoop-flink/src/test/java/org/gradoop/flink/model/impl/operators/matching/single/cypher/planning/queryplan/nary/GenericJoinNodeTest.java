@@ -0,0 +1,50 @@
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class GenericJoinNodeTest {
+
+  @Test
+  public void testMetaDataInitialization() throws Exception {
+    GenericJoinNode node = new GenericJoinNode(asList(
+      new MockPlanNode(null, createEdgeMetaData("a", "e1", "b", "since")),
+      new MockPlanNode(null, createEdgeMetaData("b", "e2", "c", null)),
+      new MockPlanNode(null, createEdgeMetaData("a", "e3", "c", "weight"))),
+      asList("b", "a", "c"), MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    EmbeddingMetaData outputMetaData = node.getEmbeddingMetaData();
+
+    assertThat(outputMetaData.getEntryCount(), is(6));
+    assertThat(outputMetaData.getEntryColumn("b"), is(0));
+    assertThat(outputMetaData.getEntryColumn("a"), is(1));
+    assertThat(outputMetaData.getEntryColumn("c"), is(2));
+    assertThat(outputMetaData.getEntryColumn("e1"), is(3));
+    assertThat(outputMetaData.getEntryColumn("e2"), is(4));
+    assertThat(outputMetaData.getEntryColumn("e3"), is(5));
+    assertThat(outputMetaData.getEntryType("e3"), is(EntryType.EDGE));
+
+    assertThat(outputMetaData.getPropertyCount(), is(2));
+    assertThat(outputMetaData.getPropertyColumn("e1", "since"), is(0));
+    assertThat(outputMetaData.getPropertyColumn("e3", "weight"), is(1));
+  }
+
+  private EmbeddingMetaData createEdgeMetaData(String source, String edge, String target,
+    String propertyKey) {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn(source, EntryType.VERTEX, 0);
+    metaData.setEntryColumn(edge, EntryType.EDGE, 1);
+    metaData.setEntryColumn(target, EntryType.VERTEX, 2);
+    if (propertyKey != null) {
+      metaData.setPropertyColumn(edge, propertyKey, 0);
+    }
+    return metaData;
+  }
+}
@@ -1,10 +1,12 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
@@ -12,11 +14,13 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embed
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
 import org.junit.Test;
 
 import java.util.List;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -69,4 +73,65 @@ public class FilterEmbeddingsNodeTest extends GradoopFlinkTestBase {
     assertTrue(result.get(0).getProperty(0).equals(PropertyValue.create(42)));
     assertTrue(result.get(0).getProperty(1).equals(PropertyValue.create(23)));
   }
+
+  @Test
+  public void testExecuteFactorized() throws Exception {
+    GradoopId vertexAId = GradoopId.get();
+    GradoopId vertexBId = GradoopId.get();
+    GradoopId vertexCId = GradoopId.get();
+    GradoopId edgeAB = GradoopId.get();
+    GradoopId edgeAC = GradoopId.get();
+
+    EmbeddingMetaData leftMetaData = new EmbeddingMetaData();
+    leftMetaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    leftMetaData.setPropertyColumn("a", "age", 0);
+
+    EmbeddingMetaData rightMetaData = new EmbeddingMetaData();
+    rightMetaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    rightMetaData.setEntryColumn("e", EntryType.EDGE, 1);
+    rightMetaData.setEntryColumn("b", EntryType.VERTEX, 2);
+    rightMetaData.setPropertyColumn("b", "age", 0);
+
+    Embedding left = new Embedding();
+    left.add(vertexAId, PropertyValue.create(42));
+
+    Embedding right1 = new Embedding();
+    right1.add(vertexAId);
+    right1.add(edgeAB);
+    right1.add(vertexBId, PropertyValue.create(23));
+
+    Embedding right2 = new Embedding();
+    right2.add(vertexAId);
+    right2.add(edgeAC);
+    right2.add(vertexCId, PropertyValue.create(84));
+
+    PlanNode join = new JoinEmbeddingsNode(
+      new MockPlanNode(getExecutionEnvironment().fromElements(left), leftMetaData),
+      new MockPlanNode(getExecutionEnvironment().fromElements(right1, right2), rightMetaData),
+      Lists.newArrayList("a"), MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    QueryHandler queryHandler = new QueryHandler("MATCH (a)-[e]->(b) WHERE b.age > 50");
+    FilterEmbeddingsNode node = new FilterEmbeddingsNode(join,
+      queryHandler.getPredicates().getSubCNF(Sets.newHashSet("b")));
+
+    assertTrue(node.supportsFactorization());
+
+    List<Embedding> result = node.executeFactorized().flatten().collect();
+
+    assertThat(result.size(), is(1));
+    assertTrue(result.get(0).getId(0).equals(vertexAId));
+    assertTrue(result.get(0).getId(1).equals(edgeAC));
+    assertTrue(result.get(0).getId(2).equals(vertexCId));
+    assertTrue(result.get(0).getProperty(0).equals(PropertyValue.create(42)));
+    assertTrue(result.get(0).getProperty(1).equals(PropertyValue.create(84)));
+
+    assertThat(node.executeFactorized().count().collect().get(0), is(1L));
+
+    // predicates spanning both sides of the join require flat embeddings
+    queryHandler = new QueryHandler("MATCH (a)-[e]->(b) WHERE a.age > b.age");
+    node = new FilterEmbeddingsNode(join,
+      queryHandler.getPredicates().getSubCNF(Sets.newHashSet("a", "b")));
+
+    assertFalse(node.supportsFactorization());
+  }
 }
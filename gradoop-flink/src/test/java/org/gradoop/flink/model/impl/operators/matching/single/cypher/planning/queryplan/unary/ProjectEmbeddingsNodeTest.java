@@ -5,20 +5,24 @@ import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
 import org.hamcrest.core.Is;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class ProjectEmbeddingsNodeTest extends GradoopFlinkTestBase {
@@ -73,4 +77,58 @@ public class ProjectEmbeddingsNodeTest extends GradoopFlinkTestBase {
     assertThat(result.get(0).getProperties().size(), is(1));
     assertTrue(result.get(0).getProperty(0).equals(PropertyValue.create(42)));
   }
+
+  @Test
+  public void testExecuteFactorized() throws Exception {
+    GradoopId vertexAId = GradoopId.get();
+    GradoopId vertexBId = GradoopId.get();
+
+    EmbeddingMetaData leftMetaData = new EmbeddingMetaData();
+    leftMetaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    leftMetaData.setPropertyColumn("a", "age", 0);
+    leftMetaData.setPropertyColumn("a", "name", 1);
+
+    EmbeddingMetaData rightMetaData = new EmbeddingMetaData();
+    rightMetaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    rightMetaData.setEntryColumn("b", EntryType.VERTEX, 1);
+    rightMetaData.setPropertyColumn("b", "age", 0);
+    rightMetaData.setPropertyColumn("b", "name", 1);
+
+    Embedding left = new Embedding();
+    left.add(vertexAId, PropertyValue.create(42), PropertyValue.create("Alice"));
+
+    Embedding right = new Embedding();
+    right.add(vertexAId);
+    right.add(vertexBId, PropertyValue.create(23), PropertyValue.create("Bob"));
+
+    PlanNode join = new JoinEmbeddingsNode(
+      new MockPlanNode(getExecutionEnvironment().fromElements(left), leftMetaData),
+      new MockPlanNode(getExecutionEnvironment().fromElements(right), rightMetaData),
+      Collections.singletonList("a"), MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    List<Pair<String, String>> projectedKeys = new ArrayList<>();
+    projectedKeys.add(Pair.of("a", "name"));
+    projectedKeys.add(Pair.of("b", "age"));
+    ProjectEmbeddingsNode node = new ProjectEmbeddingsNode(join, projectedKeys);
+
+    assertTrue(node.supportsFactorization());
+    assertThat(node.getFactorMetaData().getLeft().getPropertyColumn("a", "name"), is(0));
+    assertThat(node.getFactorMetaData().getRight().getPropertyColumn("b", "age"), is(0));
+
+    List<Embedding> result = node.executeFactorized().flatten().collect();
+
+    assertThat(result.size(), is(1));
+    assertTrue(result.get(0).getId(0).equals(vertexAId));
+    assertTrue(result.get(0).getId(1).equals(vertexBId));
+    assertThat(result.get(0).getProperties().size(), is(2));
+    assertTrue(result.get(0).getProperty(0).equals(PropertyValue.create("Alice")));
+    assertTrue(result.get(0).getProperty(1).equals(PropertyValue.create(23)));
+
+    // right properties preceding left properties can not be created by flattening
+    projectedKeys = new ArrayList<>();
+    projectedKeys.add(Pair.of("b", "age"));
+    projectedKeys.add(Pair.of("a", "name"));
+
+    assertFalse(new ProjectEmbeddingsNode(join, projectedKeys).supportsFactorization());
+  }
 }
@@ -0,0 +1,205 @@
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.GraphStatisticsSketch;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.GraphStatisticsSketchWriter;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.KllSketch;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Map;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class ApproximateGraphStatisticsTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Uses the maximum precision, so that distinct counts over random ids are exact.
+   */
+  private GraphStatisticsSketch computeSketch() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    return new ApproximateGraphStatistics(0.002,
+      GraphStatisticsSketch.DEFAULT_FREQUENCY_ERROR,
+      GraphStatisticsSketch.DEFAULT_FREQUENCY_CONFIDENCE,
+      KllSketch.DEFAULT_K)
+      .execute(db)
+      .collect()
+      .get(0);
+  }
+
+  @Test
+  public void testCounts() throws Exception {
+    GraphStatisticsSketch sketch = computeSketch();
+
+    assertThat(sketch.getVertexCount(), is(11L));
+    assertThat(sketch.getEdgeCount(), is(24L));
+
+    Map<String, Long> vertexCountByLabel = sketch.getVertexCountByLabel();
+    assertThat(vertexCountByLabel.size(), is(3));
+    assertThat(vertexCountByLabel.get("Person"), is(6L));
+    assertThat(vertexCountByLabel.get("Forum"), is(2L));
+    assertThat(vertexCountByLabel.get("Tag"), is(3L));
+
+    Map<String, Long> edgeCountByLabel = sketch.getEdgeCountByLabel();
+    assertThat(edgeCountByLabel.size(), is(5));
+    assertThat(edgeCountByLabel.get("knows"), is(10L));
+    assertThat(edgeCountByLabel.get("hasTag"), is(4L));
+    assertThat(edgeCountByLabel.get("hasInterest"), is(4L));
+    assertThat(edgeCountByLabel.get("hasModerator"), is(2L));
+    assertThat(edgeCountByLabel.get("hasMember"), is(4L));
+
+    Map<String, Map<String, Long>> bySource = sketch.getEdgeCountBySourceVertexAndEdgeLabel();
+    assertThat(bySource.get("Forum").get("hasMember"), is(4L));
+    assertThat(bySource.get("Forum").get("hasTag"), is(4L));
+    assertThat(bySource.get("Person").get("knows"), is(10L));
+
+    Map<String, Map<String, Long>> byTarget = sketch.getEdgeCountByTargetVertexAndEdgeLabel();
+    assertThat(byTarget.get("Person").get("hasMember"), is(4L));
+    assertThat(byTarget.get("Tag").get("hasInterest"), is(4L));
+  }
+
+  @Test
+  public void testDistinctCounts() throws Exception {
+    GraphStatisticsSketch sketch = computeSketch();
+
+    assertThat(sketch.getDistinctSourceVertexCount(), is(8L));
+    assertThat(sketch.getDistinctTargetVertexCount(), is(7L));
+
+    Map<String, Long> sourcesByLabel = sketch.getDistinctSourceVertexCountByEdgeLabel();
+    assertThat(sourcesByLabel.get("knows"), is(6L));
+    assertThat(sourcesByLabel.get("hasInterest"), is(4L));
+    assertThat(sourcesByLabel.get("hasMember"), is(2L));
+
+    Map<String, Long> targetsByLabel = sketch.getDistinctTargetVertexCountByEdgeLabel();
+    assertThat(targetsByLabel.get("knows"), is(4L));
+    assertThat(targetsByLabel.get("hasTag"), is(3L));
+    assertThat(targetsByLabel.get("hasMember"), is(4L));
+
+    Map<String, Map<String, Long>> vertexProperties = sketch.getDistinctVertexPropertiesByLabel();
+    assertThat(vertexProperties.get("Person").get("name"), is(6L));
+    assertThat(vertexProperties.get("Person").get("gender"), is(2L));
+    assertThat(vertexProperties.get("Person").get("city"), is(3L));
+    assertThat(vertexProperties.get("Person").get("age"), is(4L));
+    assertThat(vertexProperties.get("Tag").get("name"), is(3L));
+    assertThat(vertexProperties.get("Forum").get("title"), is(2L));
+
+    assertThat(sketch.getDistinctVertexProperties().get("name"), is(9L));
+
+    Map<String, Map<String, Long>> edgeProperties = sketch.getDistinctEdgePropertiesByLabel();
+    assertThat(edgeProperties.get("knows").get("since"), is(3L));
+    assertThat(edgeProperties.get("hasModerator").get("since"), is(1L));
+  }
+
+  @Test
+  public void testDegreeDistributions() throws Exception {
+    GraphStatisticsSketch sketch = computeSketch();
+
+    Map<Long, Long> degrees = sketch.getVertexDegreeDistribution();
+    assertThat(degrees.size(), is(4));
+    assertThat(degrees.get(2L), is(1L));
+    assertThat(degrees.get(3L), is(4L));
+    assertThat(degrees.get(5L), is(2L));
+    assertThat(degrees.get(6L), is(4L));
+
+    Map<Long, Long> outDegrees = sketch.getOutgoingVertexDegreeDistribution();
+    assertThat(outDegrees.size(), is(4));
+    assertThat(outDegrees.get(0L), is(3L));
+    assertThat(outDegrees.get(2L), is(4L));
+    assertThat(outDegrees.get(3L), is(2L));
+    assertThat(outDegrees.get(5L), is(2L));
+
+    Map<Long, Long> inDegrees = sketch.getIncomingVertexDegreeDistribution();
+    assertThat(inDegrees.size(), is(4));
+    assertThat(inDegrees.get(0L), is(4L));
+    assertThat(inDegrees.get(2L), is(1L));
+    assertThat(inDegrees.get(3L), is(2L));
+    assertThat(inDegrees.get(4L), is(4L));
+  }
+
+  @Test
+  public void testMerge() throws Exception {
+    GraphStatisticsSketch sketch = computeSketch();
+    GraphStatisticsSketch merged = sketch.emptyCopy().merge(sketch);
+
+    assertThat(merged.getVertexCount(), is(11L));
+    assertThat(merged.getEdgeCountByLabel().get("knows"), is(10L));
+    // distinct counts are idempotent under merge
+    assertThat(merged.merge(sketch).getDistinctSourceVertexCount(), is(8L));
+    assertThat(merged.getEdgeCount(), is(48L));
+  }
+
+  @Test
+  public void testMergeWithSharedVertices() throws Exception {
+    Vertex a = new Vertex(GradoopId.get(), "A", null, null);
+    Vertex b = new Vertex(GradoopId.get(), "A", null, null);
+    Vertex c = new Vertex(GradoopId.get(), "A", null, null);
+
+    // a graph (a)-->(b) and a delta adding (c) and (a)-->(c)
+    GraphStatisticsSketch graph = new GraphStatisticsSketch();
+    graph.addVertex(a);
+    graph.addVertex(b);
+    graph.addEdge(new Edge(GradoopId.get(), "e", a.getId(), b.getId(), null, null), "A", "A");
+    graph.addVertexDegrees(a.getId(), graph);
+    graph.addVertexDegrees(b.getId(), graph);
+
+    GraphStatisticsSketch delta = graph.emptyCopy();
+    delta.addVertex(c);
+    delta.addEdge(new Edge(GradoopId.get(), "e", a.getId(), c.getId(), null, null), "A", "A");
+    delta.addVertexDegrees(a.getId(), delta);
+    delta.addVertexDegrees(c.getId(), delta);
+
+    GraphStatisticsSketch merged = ApproximateGraphStatistics.rebuildDegreeDistributions(
+      getExecutionEnvironment().fromElements(graph.emptyCopy().merge(graph).merge(delta)),
+      getExecutionEnvironment().fromElements(a, b, c))
+      .collect()
+      .get(0);
+
+    assertThat(merged.getVertexCount(), is(3L));
+    assertThat(merged.getEdgeCount(), is(2L));
+
+    Map<Long, Long> outDegrees = merged.getOutgoingVertexDegreeDistribution();
+    assertThat(outDegrees.size(), is(2));
+    assertThat(outDegrees.get(0L), is(2L));
+    assertThat(outDegrees.get(2L), is(1L));
+
+    Map<Long, Long> inDegrees = merged.getIncomingVertexDegreeDistribution();
+    assertThat(inDegrees.size(), is(2));
+    assertThat(inDegrees.get(0L), is(1L));
+    assertThat(inDegrees.get(1L), is(2L));
+
+    Map<Long, Long> degrees = merged.getVertexDegreeDistribution();
+    assertThat(degrees.size(), is(2));
+    assertThat(degrees.get(1L), is(2L));
+    assertThat(degrees.get(2L), is(1L));
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    String path = temporaryFolder.getRoot().getPath();
+    GraphStatisticsSketchWriter.write(computeSketch(), path);
+
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(path);
+
+    assertThat(statistics.getVertexCount(), is(11L));
+    assertThat(statistics.getEdgeCount(), is(24L));
+    assertThat(statistics.getVertexCount("Person"), is(6L));
+    assertThat(statistics.getEdgeCount("knows"), is(10L));
+    assertThat(statistics.getEdgeCountBySource("Forum", "hasTag"), is(4L));
+    assertThat(statistics.getDistinctSourceVertexCount(), is(8L));
+    assertThat(statistics.getDistinctTargetVertexCount("knows"), is(4L));
+    assertThat(statistics.getDistinctVertexProperties("Person", "city"), is(3L));
+    assertThat(statistics.getDistinctEdgeProperties("knows", "since"), is(3L));
+  }
+}
@@ -2,9 +2,12 @@ package org.gradoop.flink.model.impl.operators.statistics;
 
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
 import org.gradoop.flink.model.impl.tuples.WithCount;
 import org.junit.Test;
 
@@ -394,4 +397,50 @@ public class StatisticsTest extends GradoopFlinkTestBase {
     assertThat(cache.get("locIP"), is(1L));
     assertThat(cache.get("title"), is(2L));
   }
+
+  @Test
+  public void testVertexPropertyHistogramsByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    List<Tuple3<String, String, PropertyHistogram>> result =
+      new VertexPropertyHistogramsByLabel()
+        .execute(db)
+        .collect();
+
+    Map<Tuple, PropertyHistogram> cache = new HashMap<>();
+    result.forEach(e -> cache.put(Tuple2.of(e.f0, e.f1), e.f2));
+
+    assertThat(result.size(), is(8));
+
+    PropertyHistogram age = cache.get(Tuple2.of("Person", "age"));
+    assertThat(age.getCount(), is(6L));
+    assertThat(age.getDistinctCount(), is(4L));
+    assertThat(age.getMostCommonValues().size(), is(2));
+    assertThat(age.getMostCommonValues().get(PropertyValue.create(30)), is(2L));
+    assertThat(age.getMostCommonValues().get(PropertyValue.create(35)), is(2L));
+    assertThat(age.getBounds().size(), is(2));
+
+    PropertyHistogram name = cache.get(Tuple2.of("Person", "name"));
+    assertThat(name.getCount(), is(6L));
+    assertThat(name.getMostCommonValues().size(), is(0));
+    assertThat(name.getBounds().size(), is(6));
+  }
+
+  @Test
+  public void testEdgePropertyHistogramsByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    List<Tuple3<String, String, PropertyHistogram>> result =
+      new EdgePropertyHistogramsByLabel()
+        .execute(db)
+        .collect();
+
+    Map<Tuple, PropertyHistogram> cache = new HashMap<>();
+    result.forEach(e -> cache.put(Tuple2.of(e.f0, e.f1), e.f2));
+
+    assertThat(result.size(), is(2));
+    assertThat(cache.get(Tuple2.of("knows", "since")).getCount(), is(10L));
+    assertThat(cache.get(Tuple2.of("knows", "since")).getDistinctCount(), is(3L));
+    assertThat(cache.get(Tuple2.of("hasModerator", "since")).getCount(), is(1L));
+  }
 }
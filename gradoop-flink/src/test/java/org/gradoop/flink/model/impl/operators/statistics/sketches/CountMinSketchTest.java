@@ -0,0 +1,35 @@
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class CountMinSketchTest {
+
+  @Test
+  public void testEstimate() {
+    CountMinSketch sketch = new CountMinSketch(0.001, 0.01);
+    long total = 0L;
+    for (long value = 0L; value < 1000L; value++) {
+      sketch.add(SketchHashing.hash(Long.toString(value)), value % 10);
+      total += value % 10;
+    }
+    for (long value = 0L; value < 1000L; value++) {
+      long estimate = sketch.estimate(SketchHashing.hash(Long.toString(value)));
+      assertTrue(estimate >= value % 10);
+      assertTrue(estimate <= value % 10 + 0.001 * total * 10);
+    }
+  }
+
+  @Test
+  public void testMerge() {
+    CountMinSketch left = new CountMinSketch(0.01, 0.01);
+    CountMinSketch right = new CountMinSketch(0.01, 0.01);
+    long hash = SketchHashing.hash("foo");
+    left.add(hash, 3L);
+    right.add(hash, 4L);
+    assertThat(left.merge(right).estimate(hash), is(7L));
+  }
+}
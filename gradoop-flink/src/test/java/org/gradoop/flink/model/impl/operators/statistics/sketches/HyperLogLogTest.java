@@ -0,0 +1,49 @@
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class HyperLogLogTest {
+
+  @Test
+  public void testSmallCardinalityIsExact() {
+    HyperLogLog hll = new HyperLogLog(HyperLogLog.precisionFor(0.01));
+    for (int i = 0; i < 3; i++) {
+      for (long value = 0L; value < 9L; value++) {
+        hll.add(SketchHashing.hash(Long.toString(value)));
+      }
+    }
+    assertThat(hll.estimate(), is(9L));
+  }
+
+  @Test
+  public void testErrorBound() {
+    HyperLogLog hll = new HyperLogLog(HyperLogLog.precisionFor(0.01));
+    for (long value = 0L; value < 100000L; value++) {
+      hll.add(SketchHashing.hash(Long.toString(value)));
+    }
+    // three standard errors
+    assertTrue(Math.abs(hll.estimate() - 100000L) < 3 * 0.01 * 100000L);
+  }
+
+  @Test
+  public void testMerge() {
+    HyperLogLog left = new HyperLogLog(12);
+    HyperLogLog right = new HyperLogLog(12);
+    HyperLogLog all = new HyperLogLog(12);
+    for (long value = 0L; value < 20000L; value++) {
+      long hash = SketchHashing.hash(Long.toString(value));
+      (value < 12000L ? left : right).add(hash);
+      all.add(hash);
+    }
+    assertThat(left.merge(right).estimate(), is(all.estimate()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeDifferentPrecision() {
+    new HyperLogLog(10).merge(new HyperLogLog(11));
+  }
+}
@@ -0,0 +1,49 @@
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class KllSketchTest {
+
+  @Test
+  public void testSmallDistributionIsExact() {
+    KllSketch sketch = new KllSketch(KllSketch.DEFAULT_K);
+    sketch.add(3L);
+    sketch.add(1L);
+    sketch.add(3L);
+
+    Map<Long, Long> distribution = sketch.getDistribution();
+    assertThat(distribution.size(), is(2));
+    assertThat(distribution.get(1L), is(1L));
+    assertThat(distribution.get(3L), is(2L));
+    assertThat(sketch.getQuantile(0.5), is(3L));
+  }
+
+  @Test
+  public void testQuantile() {
+    KllSketch sketch = new KllSketch(KllSketch.DEFAULT_K);
+    for (long value = 0L; value < 100000L; value++) {
+      sketch.add(value);
+    }
+    assertThat(sketch.getCount(), is(100000L));
+    assertTrue(Math.abs(sketch.getQuantile(0.5) - 50000L) < 2000L);
+  }
+
+  @Test
+  public void testMerge() {
+    KllSketch left = new KllSketch(KllSketch.DEFAULT_K);
+    KllSketch right = new KllSketch(KllSketch.DEFAULT_K);
+    for (long value = 0L; value < 50000L; value++) {
+      left.add(value);
+      right.add(value + 50000L);
+    }
+    KllSketch merged = left.merge(right);
+    assertThat(merged.getCount(), is(100000L));
+    assertTrue(Math.abs(merged.getQuantile(0.5) - 50000L) < 2000L);
+  }
+}
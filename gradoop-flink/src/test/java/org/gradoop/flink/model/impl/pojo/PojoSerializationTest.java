@@ -7,7 +7,7 @@ import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.EdgeFactory;
 import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
 import org.gradoop.common.model.impl.pojo.VertexFactory;
@@ -22,7 +22,7 @@ public class PojoSerializationTest extends GradoopFlinkTestBase {
     EPGMVertex vertexIn = new VertexFactory().createVertex(
       "Person",
       Properties.createFromMap(GradoopTestUtils.SUPPORTED_PROPERTIES),
-      GradoopIdList.fromExisting(GradoopId.get()));
+      GradoopIdSet.fromExisting(GradoopId.get()));
 
     Assert.assertEquals("EPGMVertex POJOs were not equal",
       vertexIn, GradoopFlinkTestUtils.writeAndRead(vertexIn));
@@ -35,7 +35,7 @@ public class PojoSerializationTest extends GradoopFlinkTestBase {
       GradoopId.get(),
       GradoopId.get(),
       Properties.createFromMap(GradoopTestUtils.SUPPORTED_PROPERTIES),
-      GradoopIdList.fromExisting(GradoopId.get(), GradoopId.get()));
+      GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get()));
 
     Assert.assertEquals("EPGMEdge POJOs were not equal",
       edgeIn, GradoopFlinkTestUtils.writeAndRead(edgeIn));
@@ -0,0 +1,52 @@
+package org.gradoop.flink.util;
+
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.api.java.utils.ParameterTool;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.typeutils.ElementSerializer;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class GradoopFlinkConfigTest {
+
+  @Test
+  public void testSetPropertyKeyDictionary() throws Exception {
+    ExecutionEnvironment env = ExecutionEnvironment.createCollectionsEnvironment();
+    ParameterTool userParameters =
+      ParameterTool.fromMap(Collections.singletonMap("k", "v"));
+    env.getConfig().setGlobalJobParameters(userParameters);
+
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.create("a", "b");
+    GradoopFlinkConfig.createConfig(env).setPropertyKeyDictionary(dictionary);
+
+    // job parameters of the user are left untouched
+    ParameterTool parameters = (ParameterTool) env.getConfig().getGlobalJobParameters();
+    assertSame(userParameters, parameters);
+    assertEquals(dictionary, createVertexSerializer(env).getDictionary());
+  }
+
+  @Test
+  public void testPropertyKeyDictionaryIsPerEnvironment() throws Exception {
+    ExecutionEnvironment env = ExecutionEnvironment.createCollectionsEnvironment();
+    ExecutionEnvironment otherEnv = ExecutionEnvironment.createCollectionsEnvironment();
+
+    GradoopFlinkConfig.createConfig(env)
+      .setPropertyKeyDictionary(PropertyKeyDictionary.create("a", "b"));
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.create("c");
+    GradoopFlinkConfig.createConfig(otherEnv).setPropertyKeyDictionary(dictionary);
+
+    assertEquals(dictionary, createVertexSerializer(otherEnv).getDictionary());
+    assertNull(createVertexSerializer(ExecutionEnvironment.createCollectionsEnvironment())
+      .getDictionary());
+  }
+
+  private static ElementSerializer<Vertex> createVertexSerializer(ExecutionEnvironment env) {
+    return (ElementSerializer<Vertex>) TypeExtractor.createTypeInfo(Vertex.class)
+      .createSerializer(env.getConfig());
+  }
+}